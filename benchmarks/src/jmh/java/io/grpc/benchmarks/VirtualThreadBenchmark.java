@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks;
+
+import static io.grpc.benchmarks.Utils.pickUnusedPort;
+
+import com.orientsec.grpc.common.util.ThreadUtils;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.benchmarks.proto.BenchmarkServiceGrpc;
+import io.grpc.benchmarks.proto.Messages.SimpleRequest;
+import io.grpc.benchmarks.proto.Messages.SimpleResponse;
+import io.grpc.netty.NegotiationType;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 同步阻塞风格的服务在大量同时进行的请求下，比较固定大小的线程池与每个请求一个虚拟线程
+ * <p>
+ * 服务端的业务代码阻塞(sleep)一段时间后返回，客户端同时发起inFlight个blockingStub调用，
+ * 每次测量完成这一批调用的耗时。VIRTUAL需要在JDK21上运行。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class VirtualThreadBenchmark {
+  public enum ExecutorType {
+    FIXED_POOL, VIRTUAL
+  }
+
+  @Param({"FIXED_POOL", "VIRTUAL"})
+  public ExecutorType executorType;
+
+  @Param({"10000"})
+  public int inFlight;
+
+  @Param({"10"})
+  public int serviceTimeMillis;
+
+  /**
+   * FIXED_POOL模式下服务端业务线程池和客户端调用线程池的大小
+   */
+  @Param({"200"})
+  public int poolSize;
+
+  private Server server;
+  private ManagedChannel channel;
+  private BenchmarkServiceGrpc.BenchmarkServiceBlockingStub stub;
+  private ExecutorService serverExecutor;
+  private ExecutorService callerExecutor;
+
+  @Setup
+  public void setUp() throws Exception {
+    serverExecutor = newExecutor();
+    callerExecutor = newExecutor();
+
+    InetSocketAddress address = new InetSocketAddress("localhost", pickUnusedPort());
+    server = NettyServerBuilder.forAddress(address)
+        .executor(serverExecutor)
+        .addService(new BlockingServiceImpl(serviceTimeMillis))
+        .build();
+    server.start();
+    channel = NettyChannelBuilder.forAddress(address)
+        .negotiationType(NegotiationType.PLAINTEXT)
+        .build();
+    stub = BenchmarkServiceGrpc.newBlockingStub(channel);
+    // Wait for channel to start
+    stub.unaryCall(SimpleRequest.getDefaultInstance());
+  }
+
+  private ExecutorService newExecutor() {
+    if (executorType == ExecutorType.VIRTUAL) {
+      ExecutorService executor = ThreadUtils.newVirtualThreadPerTaskExecutor();
+      if (executor == null) {
+        throw new IllegalStateException("VIRTUAL requires JDK 21 or later");
+      }
+      return executor;
+    }
+    return Executors.newFixedThreadPool(poolSize);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    channel.shutdown();
+    server.shutdown();
+    channel.awaitTermination(5, TimeUnit.SECONDS);
+    server.awaitTermination(5, TimeUnit.SECONDS);
+    callerExecutor.shutdownNow();
+    serverExecutor.shutdownNow();
+  }
+
+  /**
+   * 同时发起inFlight个阻塞调用，等待全部返回
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int blockingCalls() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(inFlight);
+    final AtomicInteger failures = new AtomicInteger();
+    for (int i = 0; i < inFlight; i++) {
+      callerExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            stub.unaryCall(SimpleRequest.getDefaultInstance());
+          } catch (RuntimeException e) {
+            failures.incrementAndGet();
+          } finally {
+            latch.countDown();
+          }
+        }
+      });
+    }
+    latch.await();
+    return failures.get();
+  }
+
+  /**
+   * 业务代码阻塞一段时间(模拟访问数据库)后返回
+   */
+  private static final class BlockingServiceImpl
+      extends BenchmarkServiceGrpc.BenchmarkServiceImplBase {
+    private final long serviceTimeMillis;
+
+    BlockingServiceImpl(long serviceTimeMillis) {
+      this.serviceTimeMillis = serviceTimeMillis;
+    }
+
+    @Override
+    public void unaryCall(SimpleRequest request, StreamObserver<SimpleResponse> responseObserver) {
+      try {
+        Thread.sleep(serviceTimeMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      responseObserver.onNext(SimpleResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -19,6 +19,7 @@ package io.grpc.benchmarks.netty;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.ManagedChannel;
+import io.grpc.MessagePool;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.MethodDescriptor.MethodType;
@@ -29,13 +30,19 @@ import io.grpc.ServerServiceDefinition;
 import io.grpc.ServiceDescriptor;
 import io.grpc.Status;
 import io.grpc.benchmarks.ByteBufOutputMarshaller;
+import io.grpc.benchmarks.ReusableByteBufMarshaller;
 import io.grpc.netty.NegotiationType;
 import io.grpc.netty.NettyChannelBuilder;
 import io.grpc.netty.NettyServerBuilder;
 import io.grpc.stub.ClientCalls;
+import io.grpc.stub.PooledStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.local.LocalChannel;
 import io.netty.channel.local.LocalServerChannel;
@@ -110,7 +117,7 @@ public abstract class AbstractBenchmark {
    * Support channel types.
    */
   public enum ChannelType {
-    NIO, LOCAL;
+    NIO, LOCAL, EPOLL;
   }
 
   private static final CallOptions CALL_OPTIONS = CallOptions.DEFAULT;
@@ -192,6 +199,25 @@ public abstract class AbstractBenchmark {
                     ChannelType channelType,
                     int maxConcurrentStreams,
                     int channelCount) throws Exception {
+    setup(clientExecutor, serverExecutor, requestSize, responseSize, windowSize, channelType,
+        maxConcurrentStreams, channelCount, -1);
+  }
+
+  /**
+   * Initialize the environment for the executor.
+   *
+   * @param messagePoolSize 小于0时flowControlledStreaming方法的客户端不解析响应内容；
+   *                        否则把响应复制到ByteBuf中，大于0时客户端在每个stream上复用这么多个ByteBuf
+   */
+  public void setup(ExecutorType clientExecutor,
+                    ExecutorType serverExecutor,
+                    MessageSize requestSize,
+                    MessageSize responseSize,
+                    FlowWindowSize windowSize,
+                    ChannelType channelType,
+                    int maxConcurrentStreams,
+                    int channelCount,
+                    int messagePoolSize) throws Exception {
     NettyServerBuilder serverBuilder;
     NettyChannelBuilder channelBuilder;
     if (channelType == ChannelType.LOCAL) {
@@ -208,6 +234,12 @@ public abstract class AbstractBenchmark {
       sock.close();
       serverBuilder = NettyServerBuilder.forAddress(address);
       channelBuilder = NettyChannelBuilder.forAddress(address);
+      if (channelType == ChannelType.EPOLL) {
+        serverBuilder.channelType(EpollServerSocketChannel.class);
+        serverBuilder.bossEventLoopGroup(newEventLoopGroup(channelType, 1,
+            new DefaultThreadFactory("STF boss", true /* daemon */)));
+        channelBuilder.channelType(EpollSocketChannel.class);
+      }
     }
 
     if (serverExecutor == ExecutorType.DIRECT) {
@@ -219,7 +251,7 @@ public abstract class AbstractBenchmark {
 
     // Always use a different worker group from the client.
     ThreadFactory serverThreadFactory = new DefaultThreadFactory("STF pool", true /* daemon */);
-    serverBuilder.workerEventLoopGroup(new NioEventLoopGroup(0, serverThreadFactory));
+    serverBuilder.workerEventLoopGroup(newEventLoopGroup(channelType, 0, serverThreadFactory));
 
     // Always set connection and stream window size to same value
     serverBuilder.flowControlWindow(windowSize.bytes());
@@ -251,9 +283,15 @@ public abstract class AbstractBenchmark {
         .setType(MethodType.BIDI_STREAMING)
         .setFullMethodName("benchmark/pingPong")
         .build();
-    flowControlledStreaming = pingPongMethod.toBuilder()
-        .setFullMethodName("benchmark/flowControlledStreaming")
-        .build();
+    MethodDescriptor.Builder<ByteBuf, ByteBuf> flowControlledStreamingBuilder =
+        pingPongMethod.toBuilder()
+            .setFullMethodName("benchmark/flowControlledStreaming");
+    if (messagePoolSize >= 0) {
+      flowControlledStreamingBuilder
+          .setResponseMarshaller(new ReusableByteBufMarshaller())
+          .setMessagePoolSize(messagePoolSize);
+    }
+    flowControlledStreaming = flowControlledStreamingBuilder.build();
 
     // Server implementation of unary & streaming methods
     serverBuilder.addService(
@@ -378,11 +416,22 @@ public abstract class AbstractBenchmark {
     for (int i = 0; i < channelCount; i++) {
       // Use a dedicated event-loop for each channel
       channels[i] = channelBuilder
-          .eventLoopGroup(new NioEventLoopGroup(1, clientThreadFactory))
+          .eventLoopGroup(newEventLoopGroup(channelType, 1, clientThreadFactory))
           .build();
     }
   }
 
+  /**
+   * The event loop group must match the channel type, EPOLL requires netty-transport-native-epoll.
+   */
+  private static EventLoopGroup newEventLoopGroup(ChannelType channelType, int threads,
+                                                  ThreadFactory threadFactory) {
+    if (channelType == ChannelType.EPOLL) {
+      return new EpollEventLoopGroup(threads, threadFactory);
+    }
+    return new NioEventLoopGroup(threads, threadFactory);
+  }
+
   /**
    * Start a continuously executing set of unary calls that will terminate when
    * {@code done.get()} is true. Each completed call will increment the counter by the specified
@@ -490,9 +539,19 @@ public abstract class AbstractBenchmark {
         final AtomicBoolean ignoreMessages = new AtomicBoolean();
         StreamObserver<ByteBuf> requestObserver = ClientCalls.asyncBidiStreamingCall(
             streamingCall,
-            new StreamObserver<ByteBuf>() {
+            new PooledStreamObserver<ByteBuf>() {
+              private MessagePool<ByteBuf> pool;
+
+              @Override
+              public void setMessagePool(MessagePool<ByteBuf> pool) {
+                this.pool = pool;
+              }
+
               @Override
               public void onNext(ByteBuf value) {
+                if (pool != null) {
+                  pool.release(value);
+                }
                 StreamObserver<ByteBuf> obs = requestObserverRef.get();
                 if (done.get()) {
                   if (!ignoreMessages.getAndSet(true)) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks.netty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 对比启用消息对象池前后，高频的服务端流式响应在客户端产生的内存分配
+ * <p>
+ * 与{@link StreamingResponseBandwidthBenchmark}相同的调用方式，但客户端会把每条响应复制到ByteBuf中。
+ * messagePoolSize为0时每条响应新建一个ByteBuf，大于0时复用stream上的ByteBuf。
+ * 需要使用GC profiler运行，比较gc.alloc.rate.norm和gc.count，例如：
+ * </p>
+ * <pre>
+ *   java -jar benchmarks.jar StreamingResponseAllocationBenchmark -prof gc
+ * </pre>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class StreamingResponseAllocationBenchmark extends AbstractBenchmark {
+
+  @Param({"0", "16"})
+  public int messagePoolSize = 16;
+
+  @Param({"SMALL", "MEDIUM"})
+  public MessageSize responseSize = MessageSize.SMALL;
+
+  @Param({"1", "10"})
+  public int maxConcurrentStreams = 1;
+
+  private static AtomicLong callCounter;
+  private AtomicBoolean completed;
+  private AtomicBoolean record;
+  private CountDownLatch latch;
+
+  /**
+   * Use an AuxCounter so we can measure that calls as they occur without consuming CPU
+   * in the benchmark method.
+   */
+  @AuxCounters
+  @State(Scope.Thread)
+  public static class AdditionalCounters {
+
+    @Setup(Level.Iteration)
+    public void clean() {
+      callCounter.set(0);
+    }
+
+    public long messagesPerSecond() {
+      return callCounter.get();
+    }
+  }
+
+  /**
+   * Setup with direct executors and one channel.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    super.setup(ExecutorType.DIRECT,
+        ExecutorType.DIRECT,
+        MessageSize.SMALL,
+        responseSize,
+        FlowWindowSize.MEDIUM,
+        ChannelType.NIO,
+        maxConcurrentStreams,
+        1,
+        messagePoolSize);
+    callCounter = new AtomicLong();
+    completed = new AtomicBoolean();
+    record = new AtomicBoolean();
+    latch = startFlowControlledStreamingCalls(maxConcurrentStreams, callCounter, record, completed,
+        1);
+  }
+
+  /**
+   * Stop the running calls then stop the server and client channels.
+   */
+  @Override
+  @TearDown(Level.Trial)
+  public void teardown() throws Exception {
+    completed.set(true);
+    if (!latch.await(5, TimeUnit.SECONDS)) {
+      System.err.println("Failed to shutdown all calls.");
+    }
+    super.teardown();
+  }
+
+  /**
+   * Measure the number of streamed responses received per second.
+   */
+  @Benchmark
+  public void stream(AdditionalCounters counters) throws Exception {
+    record.set(true);
+    // No need to do anything, just sleep here.
+    Thread.sleep(1001);
+    record.set(false);
+  }
+
+  /**
+   * Useful for triggering a subset of the benchmark in a profiler.
+   */
+  public static void main(String[] argv) throws Exception {
+    StreamingResponseAllocationBenchmark bench = new StreamingResponseAllocationBenchmark();
+    bench.setup();
+    Thread.sleep(30000);
+    bench.teardown();
+    System.exit(0);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks;
+
+import io.grpc.MethodDescriptor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.annotation.Nullable;
+
+/**
+ * 把消息复制到堆内{@link ByteBuf}中的marshaller，接收端可以复用已有的ByteBuf
+ * <p>
+ * 与{@link ByteBufOutputMarshaller}不同，解析时会真正读取消息内容，用于对比启用消息对象池前后的内存分配。
+ * {@link #stream}直接读取value，因此只能用于接收端的对象复用。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ReusableByteBufMarshaller implements MethodDescriptor.ReusableMarshaller<ByteBuf> {
+
+  @Override
+  public InputStream stream(ByteBuf value) {
+    return new ByteBufInputStream(value);
+  }
+
+  @Override
+  public ByteBuf parse(InputStream stream) {
+    return parse(stream, null);
+  }
+
+  @Override
+  public ByteBuf parse(InputStream stream, @Nullable ByteBuf reuse) {
+    try {
+      int length = stream.available();
+      ByteBuf buf = (reuse == null) ? Unpooled.buffer(length) : reuse;
+      buf.clear();
+      buf.ensureWritable(length);
+      int remaining = length;
+      while (remaining > 0) {
+        int read = buf.writeBytes(stream, remaining);
+        if (read == -1) {
+          throw new IOException("Unexpected end of message");
+        }
+        remaining -= read;
+      }
+      return buf;
+    } catch (IOException ioe) {
+      throw new RuntimeException(ioe);
+    }
+  }
+
+  @Override
+  public ByteBuf newInstance() {
+    return Unpooled.buffer();
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks.nebula;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.constant.RegistryConstants;
+import com.orientsec.grpc.registry.common.Constants;
+import com.orientsec.grpc.registry.common.URL;
+import com.orientsec.grpc.registry.service.Provider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 压测期间按固定周期注入服务治理事件
+ * <ul>
+ * <li>服务提供者上下线：下线一个服务提供者，在新端口上线一个服务提供者</li>
+ * <li>熔断：让一个服务提供者在半个周期内的调用全部失败</li>
+ * <li>路由规则变化：交替增加、删除一条排除某个服务提供者的条件路由</li>
+ * </ul>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class FaultInjector {
+  private static final Logger log = Logger.getLogger(FaultInjector.class.getName());
+
+  private final ProviderCluster cluster;
+  private final String serviceName;
+  private final Provider registry;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  private final AtomicInteger churns = new AtomicInteger();
+  private final AtomicInteger breakerTrips = new AtomicInteger();
+  private final AtomicInteger routeChanges = new AtomicInteger();
+
+  private URL routerUrl;
+
+  FaultInjector(ProviderCluster cluster, String serviceName, Provider registry) {
+    this.cluster = cluster;
+    this.serviceName = serviceName;
+    this.registry = registry;
+  }
+
+  /**
+   * 开始注入，周期为0的事件不注入
+   *
+   * @param churnSeconds 服务提供者上下线的周期(秒)
+   * @param breakerSeconds 熔断的周期(秒)
+   * @param routeSeconds 路由规则变化的周期(秒)
+   */
+  void start(int churnSeconds, int breakerSeconds, int routeSeconds) {
+    if (churnSeconds > 0) {
+      schedule(new Runnable() {
+        @Override
+        public void run() {
+          churn();
+        }
+      }, churnSeconds);
+    }
+    if (breakerSeconds > 0) {
+      final long failingMillis = TimeUnit.SECONDS.toMillis(breakerSeconds) / 2;
+      schedule(new Runnable() {
+        @Override
+        public void run() {
+          tripBreaker(failingMillis);
+        }
+      }, breakerSeconds);
+    }
+    if (routeSeconds > 0) {
+      schedule(new Runnable() {
+        @Override
+        public void run() {
+          changeRoute();
+        }
+      }, routeSeconds);
+    }
+  }
+
+  private void schedule(final Runnable task, int seconds) {
+    scheduler.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          task.run();
+        } catch (Throwable t) {
+          log.log(Level.WARNING, "注入事件出错", t);
+        }
+      }
+    }, seconds, seconds, TimeUnit.SECONDS);
+  }
+
+  private void churn() {
+    try {
+      ProviderCluster.Member member = cluster.restartOne();
+      churns.incrementAndGet();
+      log.info("服务提供者上下线，新的端口为" + member.getPort());
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void tripBreaker(long failingMillis) {
+    final ProviderCluster.Member member = cluster.pick();
+    member.setFailing(true);
+    breakerTrips.incrementAndGet();
+    log.info("端口为" + member.getPort() + "的服务提供者开始返回错误");
+
+    scheduler.schedule(new Runnable() {
+      @Override
+      public void run() {
+        member.setFailing(false);
+      }
+    }, failingMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void changeRoute() {
+    if (routerUrl == null) {
+      int port = cluster.pick().getPort();
+      routerUrl = createRouterUrl("=> port != " + port);
+      registry.registerService(routerUrl);
+      log.info("增加路由规则，排除端口为" + port + "的服务提供者");
+    } else {
+      registry.unRegisterService(routerUrl);
+      routerUrl = null;
+      log.info("删除路由规则");
+    }
+    routeChanges.incrementAndGet();
+  }
+
+  private URL createRouterUrl(String rule) {
+    Map<String, String> parameters = new HashMap<String, String>();
+    parameters.put(GlobalConstants.CommonKey.INTERFACE, serviceName);
+    parameters.put(RegistryConstants.CATEGORY_KEY, RegistryConstants.ROUTERS_CATEGORY);
+    parameters.put(RegistryConstants.DYNAMIC_KEY, "true");// 临时节点
+    parameters.put(Constants.FORCE_KEY, "true");
+    parameters.put(GlobalConstants.NAME, "qps-benchmark-" + System.currentTimeMillis());
+    parameters.put(Constants.PRIORITY_KEY, String.valueOf(Integer.MAX_VALUE));
+    parameters.put("router", "condition");
+    parameters.put(Constants.RULE_KEY, rule);
+    parameters.put(Constants.RUNTIME_KEY, "false");
+    return new URL(RegistryConstants.ROUTER_PROTOCOL, Constants.ANYHOST_VALUE, 0, parameters);
+  }
+
+  /**
+   * 停止注入，恢复所有服务提供者和路由规则
+   */
+  void shutdown() throws InterruptedException {
+    scheduler.shutdownNow();
+    scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    if (routerUrl != null) {
+      registry.unRegisterService(routerUrl);
+      routerUrl = null;
+    }
+  }
+
+  int getChurns() {
+    return churns.get();
+  }
+
+  int getBreakerTrips() {
+    return breakerTrips.get();
+  }
+
+  int getRouteChanges() {
+    return routeChanges.get();
+  }
+}
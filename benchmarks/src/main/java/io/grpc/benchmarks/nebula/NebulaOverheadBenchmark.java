@@ -0,0 +1,490 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks.nebula;
+
+import com.orientsec.grpc.common.OrientsecGrpcVersion;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.registry.service.Provider;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.benchmarks.Utils;
+import io.grpc.benchmarks.proto.BenchmarkServiceGrpc;
+import io.grpc.benchmarks.proto.Messages;
+import io.grpc.benchmarks.proto.Messages.SimpleRequest;
+import io.grpc.netty.NettyChannelBuilder;
+import org.HdrHistogram.Histogram;
+import org.apache.curator.test.TestingServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * nebula相对于原生gRPC channel的开销对比测试
+ * <p>
+ * 在内嵌的zookeeper和同一组服务提供者上，分别以下面三种方式运行相同的一元调用和双向流调用压测：
+ * <ul>
+ * <li>vanilla：NettyChannelBuilder.forAddress直接连接服务提供者，不经过注册中心，
+ * 各个客户端依次分配到不同的服务提供者</li>
+ * <li>nebula_minimal：zookeeper:///地址，关闭熔断、参数路由、调用统计、负载上报、调用剖析、失败重试
+ * 等可选的服务治理功能，并通过模块开关(dfzq-switch.properties)关闭调试、kafka日志和服务链打印</li>
+ * <li>nebula_full：zookeeper:///地址，启用上述服务治理功能</li>
+ * </ul>
+ * 模块开关consumer.enabled、provider.enabled为false时不会订阅、注册服务，zookeeper:///地址无法使用，
+ * 所以nebula_minimal只关闭不影响服务发现的开关。vanilla和nebula_minimal使用相同的服务端配置，
+ * 两者的差异即为注册中心、路由和负载均衡在客户端的开销。
+ * </p>
+ * <p>
+ * nebula的配置和模块开关在类加载时读取，所以每种方式在单独的子进程中运行。结果输出为JSON，
+ * 每个结果占一行、字段顺序固定，便于不同版本之间直接比较；每次调用分配的内存包括同一进程中服务端的分配。
+ * 指定--baseline时与之前的报告比较QPS，下降超过--max_qps_drop时以非0状态退出，可以作为升级前的回归检查。
+ * </p>
+ * <p>
+ * 用法：nebula_overhead --duration=30 --report=overhead.json --baseline=last.json
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class NebulaOverheadBenchmark {
+  private static final Logger log = Logger.getLogger(NebulaOverheadBenchmark.class.getName());
+
+  static final String VANILLA = "vanilla";
+  static final String NEBULA_MINIMAL = "nebula_minimal";
+  static final String NEBULA_FULL = "nebula_full";
+  private static final List<String> ALL_MODES = Arrays.asList(VANILLA, NEBULA_MINIMAL, NEBULA_FULL);
+
+  private static final String UNARY = "unary";
+  private static final String STREAMING = "streaming";
+  private static final List<String> ALL_RPCS = Arrays.asList(UNARY, STREAMING);
+
+  private static final String SERVICE_NAME = BenchmarkServiceGrpc.SERVICE_NAME;
+
+  /**
+   * 从报告中读取每个结果的QPS
+   */
+  private static final Pattern RESULT_PATTERN =
+      Pattern.compile("\"mode\":\"(\\w+)\",\"rpc\":\"(\\w+)\",\"qps\":(\\d+)");
+
+  private List<String> modes = ALL_MODES;
+  private List<String> rpcs = ALL_RPCS;
+  private int providers = 3;
+  private int consumers = 4;
+  private int outstanding = 10;
+  private int duration = 30;
+  private int warmup = 10;
+  private int requestSize;
+  private int responseSize;
+  private String configFile;
+  private String reportFile;
+  private String baselineFile;
+  private int maxQpsDrop = 10;
+
+  // 子进程运行的方式，以及保存结果的文件
+  private String childMode;
+  private String childResultFile;
+
+  /**
+   * 解析--name=value格式的命令行参数
+   */
+  boolean parseArgs(String[] args) {
+    for (String arg : args) {
+      if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+        System.err.println("无法识别的参数：" + arg);
+        return false;
+      }
+      int index = arg.indexOf('=');
+      String name = arg.substring(2, index);
+      String value = arg.substring(index + 1);
+
+      if ("modes".equals(name)) {
+        modes = parseList(value, ALL_MODES);
+      } else if ("rpcs".equals(name)) {
+        rpcs = parseList(value, ALL_RPCS);
+      } else if ("providers".equals(name)) {
+        providers = Integer.parseInt(value);
+      } else if ("consumers".equals(name)) {
+        consumers = Integer.parseInt(value);
+      } else if ("outstanding".equals(name)) {
+        outstanding = Integer.parseInt(value);
+      } else if ("duration".equals(name)) {
+        duration = Integer.parseInt(value);
+      } else if ("warmup".equals(name)) {
+        warmup = Integer.parseInt(value);
+      } else if ("request_size".equals(name)) {
+        requestSize = Integer.parseInt(value);
+      } else if ("response_size".equals(name)) {
+        responseSize = Integer.parseInt(value);
+      } else if ("config".equals(name)) {
+        configFile = value;
+      } else if ("report".equals(name)) {
+        reportFile = value;
+      } else if ("baseline".equals(name)) {
+        baselineFile = value;
+      } else if ("max_qps_drop".equals(name)) {
+        maxQpsDrop = Integer.parseInt(value);
+      } else if ("child_mode".equals(name)) {
+        childMode = value;
+      } else if ("child_result".equals(name)) {
+        childResultFile = value;
+      } else {
+        System.err.println("无法识别的参数：" + arg);
+        return false;
+      }
+    }
+    return modes != null && rpcs != null && providers > 0 && consumers > 0 && outstanding > 0
+        && duration > 0 && warmup >= 0 && maxQpsDrop >= 0
+        && (childMode == null || (ALL_MODES.contains(childMode) && childResultFile != null));
+  }
+
+  /**
+   * 解析逗号分隔的列表，包含不支持的值时返回null
+   */
+  private static List<String> parseList(String value, List<String> supported) {
+    List<String> list = new ArrayList<>();
+    for (String item : value.split(",")) {
+      item = item.trim();
+      if (!supported.contains(item)) {
+        System.err.println("不支持的取值：" + item + "，可选值为" + supported);
+        return null;
+      }
+      if (!list.contains(item)) {
+        list.add(item);
+      }
+    }
+    return list.isEmpty() ? null : list;
+  }
+
+  static void printUsage() {
+    System.out.println("Usage: nebula_overhead [ARGS...]\n"
+        + "\n  --modes=LIST             对比的方式，缺省值vanilla,nebula_minimal,nebula_full"
+        + "\n  --rpcs=LIST              调用方式，缺省值unary,streaming"
+        + "\n  --providers=INT          服务提供者个数，缺省值3"
+        + "\n  --consumers=INT          客户端(channel)个数，缺省值4"
+        + "\n  --outstanding=INT        每个客户端同时进行的调用数，缺省值10"
+        + "\n  --duration=SECONDS       每种调用方式的压测时间，缺省值30"
+        + "\n  --warmup=SECONDS         每种调用方式的预热时间，缺省值10"
+        + "\n  --request_size=BYTES     请求的负载大小，缺省值0"
+        + "\n  --response_size=BYTES    响应的负载大小，缺省值0"
+        + "\n  --config=FILE            附加的nebula配置文件，服务治理相关的配置项会按对比方式覆盖"
+        + "\n  --report=FILE            保存JSON报告的文件，缺省输出到标准输出"
+        + "\n  --baseline=FILE          作为基准的JSON报告"
+        + "\n  --max_qps_drop=PERCENT   相对于基准允许的QPS下降百分比，缺省值10");
+  }
+
+  /**
+   * 依次在子进程中运行每种方式，汇总为JSON报告
+   *
+   * @return 进程的退出码，与基准报告相比QPS下降过多时为1
+   */
+  int run() throws Exception {
+    List<String> results = new ArrayList<>();
+    for (String mode : modes) {
+      File resultFile = File.createTempFile("nebula-overhead-" + mode, ".json");
+      resultFile.deleteOnExit();
+      runChild(mode, resultFile);
+      for (String line : Files.readAllLines(resultFile.toPath(), StandardCharsets.UTF_8)) {
+        if (!line.trim().isEmpty()) {
+          results.add(line);
+        }
+      }
+    }
+
+    String report = formatReport(results);
+    if (reportFile == null) {
+      System.out.println(report);
+    } else {
+      Files.write(new File(reportFile).toPath(), report.getBytes(StandardCharsets.UTF_8));
+      log.info("对比测试报告已保存到" + reportFile);
+    }
+
+    if (baselineFile == null) {
+      return 0;
+    }
+    String baseline =
+        new String(Files.readAllBytes(new File(baselineFile).toPath()), StandardCharsets.UTF_8);
+    return compare(parseQps(baseline), parseQps(report)) ? 0 : 1;
+  }
+
+  /**
+   * 使用与当前进程相同的JVM参数和classpath启动子进程
+   */
+  private void runChild(String mode, File resultFile) throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>();
+    command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+    for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+      // 调试参数会导致子进程与当前进程的调试端口冲突
+      if (!arg.startsWith("-agentlib:jdwp")) {
+        command.add(arg);
+      }
+    }
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(NebulaOverheadBenchmark.class.getName());
+    command.add("--child_mode=" + mode);
+    command.add("--child_result=" + resultFile.getAbsolutePath());
+    command.add("--rpcs=" + join(rpcs));
+    command.add("--providers=" + providers);
+    command.add("--consumers=" + consumers);
+    command.add("--outstanding=" + outstanding);
+    command.add("--duration=" + duration);
+    command.add("--warmup=" + warmup);
+    command.add("--request_size=" + requestSize);
+    command.add("--response_size=" + responseSize);
+    if (configFile != null) {
+      command.add("--config=" + configFile);
+    }
+
+    log.info("开始运行" + mode);
+    Process process = new ProcessBuilder(command).inheritIO().start();
+    int exitCode = process.waitFor();
+    if (exitCode != 0) {
+      throw new IllegalStateException("运行" + mode + "的子进程退出码为" + exitCode);
+    }
+  }
+
+  /**
+   * 在子进程中运行一种方式，每种调用方式的结果保存为一行JSON
+   */
+  void runChild() throws Exception {
+    TestingServer zookeeper = new TestingServer();
+    try {
+      // 必须在加载nebula的任何配置之前设置配置文件所在的目录
+      Properties properties = NebulaQpsBenchmark.loadConfig(configFile);
+      Properties switches = configure(childMode, properties);
+      File configDir =
+          NebulaQpsBenchmark.writeConfig(properties, zookeeper.getConnectString(), switches);
+      System.setProperty(GlobalConstants.SYSTEM_PATH_NAME, configDir.getAbsolutePath());
+
+      ProviderCluster cluster = new ProviderCluster();
+      cluster.start(providers);
+
+      Provider registry = new Provider();
+      NebulaQpsBenchmark.waitForProviders(registry, providers);
+
+      List<ManagedChannel> channels = createChannels(cluster.getPorts());
+      SimpleRequest request =
+          Utils.makeRequest(Messages.PayloadType.COMPRESSABLE, requestSize, responseSize);
+
+      StringBuilder lines = new StringBuilder();
+      for (String rpc : rpcs) {
+        boolean streaming = STREAMING.equals(rpc);
+        if (warmup > 0) {
+          NebulaQpsBenchmark.runLoad(channels, request, outstanding, streaming, warmup);
+          System.gc();
+        }
+
+        long allocatedStart = NebulaQpsBenchmark.allocatedBytes();
+        long startTime = System.nanoTime();
+        NebulaQpsBenchmark.LoadResult result =
+            NebulaQpsBenchmark.runLoad(channels, request, outstanding, streaming, duration);
+        long elapsedTime = System.nanoTime() - startTime;
+        long allocatedEnd = NebulaQpsBenchmark.allocatedBytes();
+        long allocated =
+            (allocatedStart < 0 || allocatedEnd < 0) ? -1L : allocatedEnd - allocatedStart;
+
+        lines.append(formatResult(childMode, rpc, result, elapsedTime, allocated)).append('\n');
+      }
+      Files.write(new File(childResultFile).toPath(),
+          lines.toString().getBytes(StandardCharsets.UTF_8));
+
+      for (ManagedChannel channel : channels) {
+        channel.shutdown();
+      }
+      cluster.shutdown();
+      registry.releaseRegistry();
+    } finally {
+      zookeeper.close();
+    }
+  }
+
+  /**
+   * 按对比方式设置服务治理相关的配置项
+   *
+   * @return 模块开关，不需要生成时返回null
+   */
+  static Properties configure(String mode, Properties properties) {
+    boolean full = NEBULA_FULL.equals(mode);
+    String enabled = String.valueOf(full);
+    properties.setProperty(GlobalConstants.CommonKey.BREAKER_ENABLED, enabled);
+    properties.setProperty(GlobalConstants.CommonKey.PARAMETER_ROUTER_ENABLED, enabled);
+    properties.setProperty(GlobalConstants.CommonKey.METRICS_ENABLED, enabled);
+    properties.setProperty(GlobalConstants.Provider.Key.LOAD_REPORT_ENABLED, enabled);
+    properties.setProperty(GlobalConstants.Consumer.Key.LOAD_FEEDBACK_ENABLED, enabled);
+    properties.setProperty(GlobalConstants.Consumer.Key.PROFILER_ENABLED, enabled);
+    properties.setProperty(GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES,
+        full ? "2" : "0");
+    if (full) {
+      return null;
+    }
+
+    Properties switches = new Properties();
+    switches.setProperty(GlobalConstants.Switch.Key.DEBUG_ENABLED, "false");
+    switches.setProperty(GlobalConstants.Switch.Key.WRITEKAFKA_ENABLED, "false");
+    switches.setProperty(GlobalConstants.Switch.Key.PRINTSERVICECHAIN_ENABLED, "false");
+    return switches;
+  }
+
+  private List<ManagedChannel> createChannels(List<Integer> ports) {
+    List<ManagedChannel> channels = new ArrayList<>(consumers);
+    for (int i = 0; i < consumers; i++) {
+      if (VANILLA.equals(childMode)) {
+        int port = ports.get(i % ports.size());
+        channels.add(NettyChannelBuilder.forAddress("127.0.0.1", port)
+            .usePlaintext()
+            .build());
+      } else {
+        channels.add(ManagedChannelBuilder.forTarget("zookeeper:///" + SERVICE_NAME)
+            .usePlaintext()
+            .build());
+      }
+    }
+    return channels;
+  }
+
+  static String formatResult(String mode, String rpc, NebulaQpsBenchmark.LoadResult result,
+                             long elapsedTime, long allocated) {
+    Histogram histogram = result.histogram;
+    long count = histogram.getTotalCount();
+    long queriesPerSecond = elapsedTime <= 0 ? 0 : count * 1000000000L / elapsedTime;
+    long allocatedPerCall = (allocated < 0 || count == 0) ? -1L : allocated / count;
+
+    StringBuilder sb = new StringBuilder(256);
+    sb.append("{\"mode\":\"").append(mode)
+        .append("\",\"rpc\":\"").append(rpc)
+        .append("\",\"qps\":").append(queriesPerSecond)
+        .append(",\"calls\":").append(count)
+        .append(",\"errors\":").append(result.errors.get())
+        .append(",\"latencyMicros\":{\"p50\":").append(histogram.getValueAtPercentile(50))
+        .append(",\"p90\":").append(histogram.getValueAtPercentile(90))
+        .append(",\"p99\":").append(histogram.getValueAtPercentile(99))
+        .append(",\"p999\":").append(histogram.getValueAtPercentile(99.9))
+        .append(",\"max\":").append(histogram.getMaxValue())
+        .append("},\"allocatedBytesPerCall\":").append(allocatedPerCall)
+        .append('}');
+    return sb.toString();
+  }
+
+  private String formatReport(List<String> results) {
+    StringBuilder sb = new StringBuilder(1024);
+    sb.append("{\n");
+    sb.append("  \"version\": \"").append(OrientsecGrpcVersion.VERSION).append("\",\n");
+    sb.append("  \"config\": {\"providers\":").append(providers)
+        .append(",\"consumers\":").append(consumers)
+        .append(",\"outstanding\":").append(outstanding)
+        .append(",\"duration\":").append(duration)
+        .append(",\"warmup\":").append(warmup)
+        .append(",\"requestSize\":").append(requestSize)
+        .append(",\"responseSize\":").append(responseSize)
+        .append("},\n");
+    sb.append("  \"results\": [\n");
+    for (int i = 0; i < results.size(); i++) {
+      sb.append("    ").append(results.get(i).trim());
+      sb.append(i < results.size() - 1 ? ",\n" : "\n");
+    }
+    sb.append("  ]\n");
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  /**
+   * 读取报告中每个结果的QPS
+   * <p>
+   * key: mode/rpc
+   * </p>
+   */
+  static Map<String, Long> parseQps(String report) {
+    Map<String, Long> qps = new LinkedHashMap<>();
+    Matcher matcher = RESULT_PATTERN.matcher(report);
+    while (matcher.find()) {
+      qps.put(matcher.group(1) + "/" + matcher.group(2), Long.parseLong(matcher.group(3)));
+    }
+    return qps;
+  }
+
+  /**
+   * 与基准报告比较QPS，两份报告中都有的结果才比较
+   *
+   * @return 所有结果的QPS下降都不超过max_qps_drop时返回true
+   */
+  private boolean compare(Map<String, Long> baseline, Map<String, Long> current) {
+    boolean passed = true;
+    for (Map.Entry<String, Long> entry : current.entrySet()) {
+      Long base = baseline.get(entry.getKey());
+      if (base == null || base <= 0) {
+        continue;
+      }
+      double change = (entry.getValue() - base) * 100.0 / base;
+      boolean regressed = -change > maxQpsDrop;
+      System.out.println(String.format("%-28s baseline=%d current=%d change=%+.1f%%%s",
+          entry.getKey(), base, entry.getValue(), change, regressed ? " REGRESSED" : ""));
+      if (regressed) {
+        passed = false;
+      }
+    }
+    return passed;
+  }
+
+  private static String join(List<String> list) {
+    StringBuilder sb = new StringBuilder();
+    for (String item : list) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(item);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * checkstyle complains if there is no javadoc comment here.
+   */
+  public static void main(String... args) throws Exception {
+    NebulaOverheadBenchmark benchmark = new NebulaOverheadBenchmark();
+    try {
+      if (!benchmark.parseArgs(args)) {
+        printUsage();
+        System.exit(2);
+      }
+    } catch (NumberFormatException e) {
+      System.err.println(e.getMessage());
+      printUsage();
+      System.exit(2);
+    }
+
+    if (benchmark.childMode != null) {
+      benchmark.runChild();
+      // 内嵌zookeeper和nebula的后台线程不一定都是守护线程
+      System.exit(0);
+    }
+
+    int exitCode = benchmark.run();
+    log.info("nebula overhead benchmark finished");
+    System.exit(exitCode);
+  }
+}
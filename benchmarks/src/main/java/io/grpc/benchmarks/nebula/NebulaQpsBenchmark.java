@@ -0,0 +1,519 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks.nebula;
+
+import static io.grpc.benchmarks.Utils.HISTOGRAM_MAX_VALUE;
+import static io.grpc.benchmarks.Utils.HISTOGRAM_PRECISION;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.constant.RegistryConstants;
+import com.orientsec.grpc.registry.common.URL;
+import com.orientsec.grpc.registry.service.Provider;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.benchmarks.Utils;
+import io.grpc.benchmarks.proto.BenchmarkServiceGrpc;
+import io.grpc.benchmarks.proto.Messages;
+import io.grpc.benchmarks.proto.Messages.SimpleRequest;
+import io.grpc.benchmarks.proto.Messages.SimpleResponse;
+import io.grpc.stub.StreamObserver;
+import org.HdrHistogram.Histogram;
+import org.apache.curator.test.TestingServer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * nebula端到端的QPS基准测试
+ * <p>
+ * 在同一个进程中启动内嵌的zookeeper(Curator TestingServer)、N个服务提供者和M个使用zookeeper:///
+ * 地址的客户端，经过完整的注册、订阅、路由、负载均衡、熔断流程发起一元或者双向流调用；
+ * 压测期间可以周期性地注入服务提供者上下线、熔断和路由规则变化，最后输出QPS、出错次数、
+ * p50/p99/p999延时和内存分配速率。用于nebula每次升级前的回归验证。
+ * </p>
+ * <p>
+ * 用法：nebula_qps --providers=3 --consumers=4 --outstanding=10 --duration=60
+ * --churn_interval=10 --breaker_interval=15 --route_interval=20
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class NebulaQpsBenchmark {
+  private static final Logger log = Logger.getLogger(NebulaQpsBenchmark.class.getName());
+
+  private static final String SERVICE_NAME = BenchmarkServiceGrpc.SERVICE_NAME;
+
+  private static final long PROVIDERS_WAIT_SECONDS = 30;
+
+  private int providers = 3;
+  private int consumers = 4;
+  private int outstanding = 10;
+  private boolean streaming;
+  private int duration = 60;
+  private int warmup = 10;
+  private int requestSize;
+  private int responseSize;
+  private int churnInterval;
+  private int breakerInterval;
+  private int routeInterval;
+  private String configFile;
+  private String histogramFile;
+
+  /**
+   * 解析--name=value格式的命令行参数
+   */
+  boolean parseArgs(String[] args) {
+    for (String arg : args) {
+      if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+        System.err.println("无法识别的参数：" + arg);
+        return false;
+      }
+      int index = arg.indexOf('=');
+      String name = arg.substring(2, index);
+      String value = arg.substring(index + 1);
+
+      if ("providers".equals(name)) {
+        providers = Integer.parseInt(value);
+      } else if ("consumers".equals(name)) {
+        consumers = Integer.parseInt(value);
+      } else if ("outstanding".equals(name)) {
+        outstanding = Integer.parseInt(value);
+      } else if ("rpc".equals(name)) {
+        streaming = "streaming".equals(value);
+      } else if ("duration".equals(name)) {
+        duration = Integer.parseInt(value);
+      } else if ("warmup".equals(name)) {
+        warmup = Integer.parseInt(value);
+      } else if ("request_size".equals(name)) {
+        requestSize = Integer.parseInt(value);
+      } else if ("response_size".equals(name)) {
+        responseSize = Integer.parseInt(value);
+      } else if ("churn_interval".equals(name)) {
+        churnInterval = Integer.parseInt(value);
+      } else if ("breaker_interval".equals(name)) {
+        breakerInterval = Integer.parseInt(value);
+      } else if ("route_interval".equals(name)) {
+        routeInterval = Integer.parseInt(value);
+      } else if ("config".equals(name)) {
+        configFile = value;
+      } else if ("save_histogram".equals(name)) {
+        histogramFile = value;
+      } else {
+        System.err.println("无法识别的参数：" + arg);
+        return false;
+      }
+    }
+    return providers > 0 && consumers > 0 && outstanding > 0 && duration > 0 && warmup >= 0;
+  }
+
+  static void printUsage() {
+    System.out.println("Usage: nebula_qps [ARGS...]\n"
+        + "\n  --providers=INT          服务提供者个数，缺省值3"
+        + "\n  --consumers=INT          客户端(channel)个数，缺省值4"
+        + "\n  --outstanding=INT        每个客户端同时进行的调用数，缺省值10"
+        + "\n  --rpc=unary|streaming    调用方式，缺省值unary"
+        + "\n  --duration=SECONDS       压测时间，缺省值60"
+        + "\n  --warmup=SECONDS         预热时间，预热期间不注入事件，缺省值10"
+        + "\n  --request_size=BYTES     请求的负载大小，缺省值0"
+        + "\n  --response_size=BYTES    响应的负载大小，缺省值0"
+        + "\n  --churn_interval=SECONDS 服务提供者上下线的周期，0表示不注入，缺省值0"
+        + "\n  --breaker_interval=SECONDS 触发熔断的周期，0表示不注入，缺省值0"
+        + "\n  --route_interval=SECONDS 路由规则变化的周期，0表示不注入，缺省值0"
+        + "\n  --config=FILE            附加的nebula配置文件，注册中心地址会被替换为内嵌的zookeeper"
+        + "\n  --save_histogram=FILE    保存延时直方图的文件");
+  }
+
+  /**
+   * 运行基准测试
+   */
+  void run() throws Exception {
+    TestingServer zookeeper = new TestingServer();
+    try {
+      // 必须在加载nebula的任何配置之前设置配置文件所在的目录
+      File configDir = writeConfig(loadConfig(configFile), zookeeper.getConnectString(), null);
+      System.setProperty(GlobalConstants.SYSTEM_PATH_NAME, configDir.getAbsolutePath());
+
+      ProviderCluster cluster = new ProviderCluster();
+      cluster.start(providers);
+
+      Provider registry = new Provider();
+      waitForProviders(registry, providers);
+
+      List<ManagedChannel> channels = new ArrayList<>(consumers);
+      for (int i = 0; i < consumers; i++) {
+        channels.add(ManagedChannelBuilder.forTarget("zookeeper:///" + SERVICE_NAME)
+            .usePlaintext()
+            .build());
+      }
+
+      SimpleRequest request =
+          Utils.makeRequest(Messages.PayloadType.COMPRESSABLE, requestSize, responseSize);
+
+      if (warmup > 0) {
+        runLoad(channels, request, outstanding, streaming, warmup);
+        System.gc();
+      }
+
+      FaultInjector injector = new FaultInjector(cluster, SERVICE_NAME, registry);
+      injector.start(churnInterval, breakerInterval, routeInterval);
+
+      long allocatedStart = allocatedBytes();
+      long startTime = System.nanoTime();
+      LoadResult result = runLoad(channels, request, outstanding, streaming, duration);
+      long elapsedTime = System.nanoTime() - startTime;
+      long allocated = allocatedBytes() - allocatedStart;
+
+      injector.shutdown();
+
+      printStats(result, elapsedTime, allocated, injector);
+      if (histogramFile != null) {
+        Utils.saveHistogram(result.histogram, histogramFile);
+      }
+
+      for (ManagedChannel channel : channels) {
+        channel.shutdown();
+      }
+      cluster.shutdown();
+      registry.releaseRegistry();
+    } finally {
+      zookeeper.close();
+    }
+  }
+
+  /**
+   * 读取附加的nebula配置文件，文件名为null时返回空的配置
+   */
+  static Properties loadConfig(String configFile) throws IOException {
+    Properties properties = new Properties();
+    if (configFile != null) {
+      InputStream in = new FileInputStream(configFile);
+      try {
+        properties.load(in);
+      } finally {
+        in.close();
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * 在临时目录中生成nebula的配置文件，注册中心地址替换为内嵌的zookeeper
+   *
+   * @param switches 模块开关(dfzq-switch.properties)，为null时不生成
+   * @return 配置文件所在的目录
+   */
+  static File writeConfig(Properties properties, String connectString, Properties switches)
+      throws IOException {
+    setIfAbsent(properties, GlobalConstants.COMMON_APPLICATION, "nebula-qps-benchmark");
+    setIfAbsent(properties, GlobalConstants.COMMON_PROJECT, "nebula-qps-benchmark");
+    setIfAbsent(properties, GlobalConstants.COMMON_OWNER, "benchmark");
+    properties.setProperty(GlobalConstants.REGISTRY_CENTTER_ADDRESS, connectString);
+
+    File dir = Files.createTempDirectory("nebula-qps").toFile();
+    dir.deleteOnExit();
+    store(properties, new File(dir, GlobalConstants.CONFIG_FILE_PATH));
+    if (switches != null) {
+      store(switches, new File(dir, GlobalConstants.SWITCH_CONFIG_FILE_PATH));
+    }
+    return dir;
+  }
+
+  private static void store(Properties properties, File file) throws IOException {
+    file.deleteOnExit();
+    OutputStream out = new FileOutputStream(file);
+    try {
+      properties.store(out, "nebula qps benchmark");
+    } finally {
+      out.close();
+    }
+  }
+
+  private static void setIfAbsent(Properties properties, String key, String value) {
+    if (!properties.containsKey(key)) {
+      properties.setProperty(key, value);
+    }
+  }
+
+  /**
+   * 服务提供者是异步注册的，等待所有服务提供者都注册到注册中心
+   */
+  static void waitForProviders(Provider registry, int providers) throws InterruptedException {
+    Map<String, String> parameters = new HashMap<String, String>();
+    parameters.put(GlobalConstants.CommonKey.INTERFACE, SERVICE_NAME);
+    parameters.put(RegistryConstants.CATEGORY_KEY, RegistryConstants.PROVIDERS_CATEGORY);
+    URL url = new URL(RegistryConstants.GRPC_PROTOCOL, "0.0.0.0", 0, parameters);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(PROVIDERS_WAIT_SECONDS);
+    while (System.nanoTime() - deadline < 0) {
+      List<URL> urls = registry.lookup(url);
+      if (urls != null && urls.size() >= providers) {
+        return;
+      }
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    throw new IllegalStateException("等待" + PROVIDERS_WAIT_SECONDS + "秒后服务提供者仍未全部注册");
+  }
+
+  /**
+   * 在每个客户端上同时发起outstanding个调用循环，持续seconds秒
+   */
+  static LoadResult runLoad(List<ManagedChannel> channels, SimpleRequest request,
+                            int outstanding, boolean streaming, int seconds)
+      throws InterruptedException {
+    long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    LoadResult result = new LoadResult();
+    CountDownLatch done = new CountDownLatch(channels.size() * outstanding);
+
+    List<CallLoop> loops = new ArrayList<>(channels.size() * outstanding);
+    for (ManagedChannel channel : channels) {
+      for (int i = 0; i < outstanding; i++) {
+        CallLoop loop = streaming
+            ? new StreamingLoop(channel, request, endTime, result.errors, done)
+            : new UnaryLoop(channel, request, endTime, result.errors, done);
+        loops.add(loop);
+        loop.start();
+      }
+    }
+    done.await();
+
+    for (CallLoop loop : loops) {
+      result.histogram.add(loop.histogram);
+    }
+    return result;
+  }
+
+  /**
+   * 所有存活线程已经分配的内存字节数
+   * <p>
+   * 压测期间结束的线程分配的内存不会被统计，所以是一个近似值；JVM不支持时返回-1。
+   * </p>
+   */
+  static long allocatedBytes() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      return -1L;
+    }
+    com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+    if (!sunBean.isThreadAllocatedMemorySupported() || !sunBean.isThreadAllocatedMemoryEnabled()) {
+      return -1L;
+    }
+    long total = 0;
+    for (long bytes : sunBean.getThreadAllocatedBytes(sunBean.getAllThreadIds())) {
+      if (bytes > 0) {
+        total += bytes;
+      }
+    }
+    return total;
+  }
+
+  private void printStats(LoadResult result, long elapsedTime, long allocated,
+                          FaultInjector injector) {
+    Histogram histogram = result.histogram;
+    long count = histogram.getTotalCount();
+    long queriesPerSecond = count * 1000000000L / elapsedTime;
+    double seconds = elapsedTime / 1e9;
+
+    StringBuilder values = new StringBuilder();
+    values.append("Providers:                      ").append(providers).append('\n')
+          .append("Consumers:                      ").append(consumers).append('\n')
+          .append("Outstanding RPCs per Consumer:  ").append(outstanding).append('\n')
+          .append("RPC Type:                       ")
+          .append(streaming ? "streaming" : "unary").append('\n')
+          .append("Provider Churns:                ").append(injector.getChurns()).append('\n')
+          .append("Breaker Trips:                  ").append(injector.getBreakerTrips())
+          .append('\n')
+          .append("Route Rule Changes:             ").append(injector.getRouteChanges())
+          .append('\n')
+          .append("Successful RPCs:                ").append(count).append('\n')
+          .append("Failed RPCs:                    ").append(result.errors.get()).append('\n')
+          .append("50%ile Latency (in micros):     ")
+          .append(histogram.getValueAtPercentile(50)).append('\n')
+          .append("99%ile Latency (in micros):     ")
+          .append(histogram.getValueAtPercentile(99)).append('\n')
+          .append("99.9%ile Latency (in micros):   ")
+          .append(histogram.getValueAtPercentile(99.9)).append('\n')
+          .append("Maximum Latency (in micros):    ")
+          .append(histogram.getValueAtPercentile(100)).append('\n')
+          .append("QPS:                            ").append(queriesPerSecond).append('\n');
+    if (allocated >= 0) {
+      values.append("Allocation Rate (MB/sec):       ")
+            .append(String.format("%.1f", allocated / seconds / (1024 * 1024))).append('\n')
+            .append("Allocation per RPC (bytes):     ")
+            .append(count == 0 ? 0 : allocated / count).append('\n');
+    }
+    System.out.println(values);
+  }
+
+  /**
+   * checkstyle complains if there is no javadoc comment here.
+   */
+  public static void main(String... args) throws Exception {
+    NebulaQpsBenchmark benchmark = new NebulaQpsBenchmark();
+    try {
+      if (!benchmark.parseArgs(args)) {
+        printUsage();
+        return;
+      }
+    } catch (NumberFormatException e) {
+      System.err.println(e.getMessage());
+      printUsage();
+      return;
+    }
+    benchmark.run();
+    log.info("nebula qps benchmark finished");
+  }
+
+  static final class LoadResult {
+    final Histogram histogram = new Histogram(HISTOGRAM_MAX_VALUE, HISTOGRAM_PRECISION);
+    final AtomicLong errors = new AtomicLong();
+  }
+
+  /**
+   * 在同一个客户端上一个接一个地发起调用，直到压测结束；出错时计数后继续调用
+   */
+  private abstract static class CallLoop {
+    final BenchmarkServiceGrpc.BenchmarkServiceStub stub;
+    final SimpleRequest request;
+    final long endTime;
+    final AtomicLong errors;
+    final CountDownLatch done;
+    final Histogram histogram = new Histogram(HISTOGRAM_MAX_VALUE, HISTOGRAM_PRECISION);
+    long lastCall;
+
+    CallLoop(ManagedChannel channel, SimpleRequest request, long endTime, AtomicLong errors,
+             CountDownLatch done) {
+      this.stub = BenchmarkServiceGrpc.newStub(channel);
+      this.request = request;
+      this.endTime = endTime;
+      this.errors = errors;
+      this.done = done;
+    }
+
+    abstract void start();
+
+    /**
+     * 记录延时(微秒)，返回压测是否还未结束
+     */
+    boolean recordSuccess() {
+      long now = System.nanoTime();
+      histogram.recordValue(Math.min((now - lastCall) / 1000, HISTOGRAM_MAX_VALUE));
+      lastCall = now;
+      return endTime - now > 0;
+    }
+
+    boolean recordError() {
+      errors.incrementAndGet();
+      long now = System.nanoTime();
+      lastCall = now;
+      return endTime - now > 0;
+    }
+  }
+
+  private static final class UnaryLoop extends CallLoop
+      implements StreamObserver<SimpleResponse> {
+    UnaryLoop(ManagedChannel channel, SimpleRequest request, long endTime, AtomicLong errors,
+              CountDownLatch done) {
+      super(channel, request, endTime, errors, done);
+    }
+
+    @Override
+    void start() {
+      lastCall = System.nanoTime();
+      stub.unaryCall(request, this);
+    }
+
+    @Override
+    public void onNext(SimpleResponse value) {
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (recordError()) {
+        stub.unaryCall(request, this);
+      } else {
+        done.countDown();
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      if (recordSuccess()) {
+        stub.unaryCall(request, this);
+      } else {
+        done.countDown();
+      }
+    }
+  }
+
+  private static final class StreamingLoop extends CallLoop
+      implements StreamObserver<SimpleResponse> {
+    private StreamObserver<SimpleRequest> requestObserver;
+
+    StreamingLoop(ManagedChannel channel, SimpleRequest request, long endTime,
+                  AtomicLong errors, CountDownLatch done) {
+      super(channel, request, endTime, errors, done);
+    }
+
+    @Override
+    void start() {
+      lastCall = System.nanoTime();
+      requestObserver = stub.streamingCall(this);
+      requestObserver.onNext(request);
+    }
+
+    @Override
+    public void onNext(SimpleResponse value) {
+      if (recordSuccess()) {
+        requestObserver.onNext(request);
+      } else {
+        requestObserver.onCompleted();
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      // 流出错后重新建立一个流
+      if (recordError()) {
+        start();
+      } else {
+        done.countDown();
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      done.countDown();
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.benchmarks.nebula;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.benchmarks.proto.Messages;
+import io.grpc.benchmarks.qps.AsyncServer;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 同一个进程中的多个nebula服务提供者
+ * <p>
+ * 每个服务提供者是一个监听本机随机端口的netty服务端，启动后自动注册到注册中心、关闭时自动注销；
+ * 可以模拟服务提供者上下线，也可以让某个服务提供者的所有调用都失败以触发客户端的熔断。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class ProviderCluster {
+  private final List<Member> members = new ArrayList<>();
+  private final Random random = new Random();
+
+  /**
+   * 启动count个服务提供者
+   */
+  synchronized void start(int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      members.add(startMember());
+    }
+  }
+
+  private static Member startMember() throws IOException {
+    FaultyBenchmarkService service = new FaultyBenchmarkService();
+    Server server = NettyServerBuilder.forPort(0)
+        .addService(service)
+        .build()
+        .start();
+    return new Member(server, service);
+  }
+
+  synchronized int size() {
+    return members.size();
+  }
+
+  /**
+   * 所有服务提供者监听的端口，用于不经过注册中心直接连接服务提供者
+   */
+  synchronized List<Integer> getPorts() {
+    List<Integer> ports = new ArrayList<>(members.size());
+    for (Member member : members) {
+      ports.add(member.getPort());
+    }
+    return ports;
+  }
+
+  /**
+   * 随机选择一个服务提供者
+   */
+  synchronized Member pick() {
+    return members.get(random.nextInt(members.size()));
+  }
+
+  /**
+   * 随机下线一个服务提供者，然后在新的端口上线一个服务提供者
+   *
+   * @return 新上线的服务提供者
+   */
+  synchronized Member restartOne() throws IOException, InterruptedException {
+    Member old = members.remove(random.nextInt(members.size()));
+    old.shutdown();
+    Member member = startMember();
+    members.add(member);
+    return member;
+  }
+
+  synchronized void shutdown() throws InterruptedException {
+    for (Member member : members) {
+      member.shutdown();
+    }
+    members.clear();
+  }
+
+  static final class Member {
+    private final Server server;
+    private final FaultyBenchmarkService service;
+
+    Member(Server server, FaultyBenchmarkService service) {
+      this.server = server;
+      this.service = service;
+    }
+
+    int getPort() {
+      return server.getPort();
+    }
+
+    /**
+     * 设置为true后，该服务提供者的所有调用都返回UNAVAILABLE
+     */
+    void setFailing(boolean failing) {
+      service.failing = failing;
+    }
+
+    void shutdown() throws InterruptedException {
+      service.shutdown();
+      server.shutdown();
+      if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+        server.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * 可以注入错误的基准测试服务
+   */
+  static final class FaultyBenchmarkService extends AsyncServer.BenchmarkServiceImpl {
+    volatile boolean failing;
+
+    @Override
+    public void unaryCall(Messages.SimpleRequest request,
+                          StreamObserver<Messages.SimpleResponse> responseObserver) {
+      if (failing) {
+        responseObserver.onError(unavailable());
+        return;
+      }
+      super.unaryCall(request, responseObserver);
+    }
+
+    @Override
+    public StreamObserver<Messages.SimpleRequest> streamingCall(
+        final StreamObserver<Messages.SimpleResponse> observer) {
+      final StreamObserver<Messages.SimpleRequest> delegate = super.streamingCall(observer);
+      return new StreamObserver<Messages.SimpleRequest>() {
+        private boolean closed;
+
+        @Override
+        public void onNext(Messages.SimpleRequest value) {
+          if (closed) {
+            return;
+          }
+          if (failing) {
+            closed = true;
+            observer.onError(unavailable());
+            return;
+          }
+          delegate.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+          if (!closed) {
+            delegate.onError(t);
+          }
+        }
+
+        @Override
+        public void onCompleted() {
+          if (!closed) {
+            delegate.onCompleted();
+          }
+        }
+      };
+    }
+
+    private static RuntimeException unavailable() {
+      return Status.UNAVAILABLE.withDescription("injected failure").asRuntimeException();
+    }
+  }
+}
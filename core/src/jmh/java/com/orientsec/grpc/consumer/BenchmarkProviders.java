@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.constant.RegistryConstants;
+import com.orientsec.grpc.common.util.MapUtils;
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+import com.orientsec.grpc.registry.common.URL;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基准测试使用的内存中的服务提供者列表，不需要连接注册中心
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class BenchmarkProviders {
+  public static final String APPLICATION = "nebula-benchmark";
+  public static final String CONSUMER_HOST = "192.168.2.1";
+  public static final int PORT = 50051;
+
+  private BenchmarkProviders() {
+  }
+
+  /**
+   * 第index个服务提供者的IP，依次为10.0.0.1、10.0.0.2...
+   */
+  public static String host(int index) {
+    return "10.0." + (index / 250) + "." + (index % 250 + 1);
+  }
+
+  /**
+   * 生成count个服务提供者，权重在1~10之间分布
+   *
+   * @return key值为IP:port
+   */
+  public static Map<String, ServiceProvider> create(String serviceName, int count) {
+    Map<String, ServiceProvider> providers =
+        new ConcurrentHashMap<String, ServiceProvider>(MapUtils.capacity(count));
+
+    for (int i = 0; i < count; i++) {
+      String host = host(i);
+
+      Map<String, String> parameters = new HashMap<>(MapUtils.capacity(5));
+      parameters.put(RegistryConstants.CATEGORY_KEY, RegistryConstants.PROVIDERS_CATEGORY);
+      parameters.put(GlobalConstants.CommonKey.SIDE, RegistryConstants.PROVIDER_SIDE);
+      parameters.put(GlobalConstants.Provider.Key.INTERFACE, serviceName);
+      parameters.put(GlobalConstants.Provider.Key.APPLICATION, APPLICATION);
+
+      ServiceProvider provider = new ServiceProvider();
+      provider.setInterfaceName(serviceName);
+      provider.setApplication(APPLICATION);
+      provider.setSide(RegistryConstants.PROVIDER_SIDE);
+      provider.setHost(host);
+      provider.setPort(PORT);
+      provider.setWeight(i % 10 + 1);
+      provider.setUrl(new URL(RegistryConstants.GRPC_PROTOCOL, host, PORT, parameters));
+
+      providers.put(host + ":" + PORT, provider);
+    }
+
+    return providers;
+  }
+
+  /**
+   * 配置文件中service.server.list[服务名]格式的服务端列表
+   */
+  public static String serverList(int count) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(host(i)).append(':').append(PORT);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 客户端的URL
+   */
+  public static URL consumerUrl(String serviceName) {
+    Map<String, String> parameters = new HashMap<>(MapUtils.capacity(5));
+    parameters.put(RegistryConstants.CATEGORY_KEY, RegistryConstants.CONSUMERS_CATEGORY);
+    parameters.put(GlobalConstants.CommonKey.SIDE, RegistryConstants.CONSUMER_SIDE);
+    parameters.put(GlobalConstants.Provider.Key.INTERFACE, serviceName);
+    parameters.put(GlobalConstants.Provider.Key.APPLICATION, APPLICATION);
+    return new URL(RegistryConstants.GRPC_PROTOCOL, CONSUMER_HOST, 0, parameters);
+  }
+}
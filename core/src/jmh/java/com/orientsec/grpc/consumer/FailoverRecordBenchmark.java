@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 每次调用结束时{@link FailoverUtils#recordRequest}统计请求次数、出错次数的开销
+ * <p>
+ * 调用依次分布到各个服务提供者上，都是成功的调用(失败的调用每次都会打印日志)。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class FailoverRecordBenchmark {
+  private static final String SERVICE_NAME = "com.orientsec.benchmark.FailoverService";
+
+  @Param({"1", "10", "100", "1000"})
+  public int providerCount;
+
+  private Channel[] channels;
+  private ClientCall<Object, Object> call;
+
+  /**
+   * 每个线程依次调用不同的服务提供者
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int next;
+  }
+
+  /**
+   * Setup.
+   */
+  @Setup
+  public void setUp() {
+    NameResolver nameResolver = new FakeNameResolver("grpc://" + BenchmarkProviders.CONSUMER_HOST
+        + "/" + SERVICE_NAME + "?category=consumers&side=consumer&providerCount=" + providerCount);
+
+    channels = new Channel[providerCount];
+    for (int i = 0; i < providerCount; i++) {
+      InetSocketAddress address =
+          new InetSocketAddress(BenchmarkProviders.host(i), BenchmarkProviders.PORT);
+      channels[i] = new FakeChannel(nameResolver, new FakeLoadBalancer(address));
+    }
+
+    call = new FakeClientCall(SERVICE_NAME + "/sayHello");
+  }
+
+  private void record(ThreadState thread) {
+    int index = thread.next++;
+    if (index >= providerCount) {
+      index = 0;
+      thread.next = 1;
+    }
+    FailoverUtils.recordRequest(channels[index], true, call, null);
+  }
+
+  /**
+   * 单线程统计.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void recordRequest1Thread(ThreadState thread) {
+    record(thread);
+  }
+
+  /**
+   * 多个线程同时统计，服务提供者越少，计数器上的竞争越激烈.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public void recordRequest4Threads(ThreadState thread) {
+    record(thread);
+  }
+
+  private static final class FakeNameResolver extends NameResolver {
+    private final String subscribeId;
+
+    FakeNameResolver(String subscribeId) {
+      this.subscribeId = subscribeId;
+    }
+
+    @Override
+    public String getServiceAuthority() {
+      return SERVICE_NAME;
+    }
+
+    @Override
+    public void start(Listener listener) {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public String getSubscribeId() {
+      return subscribeId;
+    }
+
+    @Override
+    public String getServiceName() {
+      return SERVICE_NAME;
+    }
+  }
+
+  private static final class FakeLoadBalancer extends LoadBalancer {
+    private final EquivalentAddressGroup addresses;
+
+    FakeLoadBalancer(InetSocketAddress address) {
+      this.addresses = new EquivalentAddressGroup(address);
+    }
+
+    @Override
+    public EquivalentAddressGroup getAddresses() {
+      return addresses;
+    }
+
+    @Override
+    public void handleResolvedAddressGroups(List<EquivalentAddressGroup> servers,
+                                            Attributes attributes) {
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+    }
+
+    @Override
+    public void handleSubchannelState(Subchannel subchannel, ConnectivityStateInfo stateInfo) {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+  }
+
+  private static final class FakeChannel extends Channel {
+    private final NameResolver nameResolver;
+    private final LoadBalancer loadBalancer;
+
+    FakeChannel(NameResolver nameResolver, LoadBalancer loadBalancer) {
+      this.nameResolver = nameResolver;
+      this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+        MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String authority() {
+      return SERVICE_NAME;
+    }
+
+    @Override
+    public NameResolver getNameResolver() {
+      return nameResolver;
+    }
+
+    @Override
+    public LoadBalancer getLoadBalancer() {
+      return loadBalancer;
+    }
+  }
+
+  private static final class FakeClientCall extends ClientCall<Object, Object> {
+    private final String fullMethod;
+
+    FakeClientCall(String fullMethod) {
+      this.fullMethod = fullMethod;
+    }
+
+    @Override
+    public void start(Listener<Object> responseListener, Metadata headers) {
+    }
+
+    @Override
+    public void request(int numMessages) {
+    }
+
+    @Override
+    public void cancel(String message, Throwable cause) {
+    }
+
+    @Override
+    public void halfClose() {
+    }
+
+    @Override
+    public void sendMessage(Object message) {
+    }
+
+    @Override
+    public String getFullMethod() {
+      return fullMethod;
+    }
+  }
+}
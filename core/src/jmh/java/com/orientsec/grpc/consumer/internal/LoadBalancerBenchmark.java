@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.consumer.BenchmarkProviders;
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 各负载均衡策略从服务提供者列表中选择一个服务端的开销
+ * <p>
+ * 运行方式：./gradlew -PjmhIncludeSingleClass=LoadBalancerBenchmark :orientsec-grpc-core:jmh
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class LoadBalancerBenchmark {
+  private static final int ARGUMENT_COUNT = 1024;
+
+  @Param({"1", "10", "100", "1000"})
+  public int providerCount;
+
+  @Param({"PICK_FIRST", "ROUND_ROBIN", "WEIGHT_ROUND_ROBIN", "CONSISTENT_HASH"})
+  public GlobalConstants.LB_STRATEGY strategy;
+
+  private String serviceName;
+  private Map<String, ServiceProvider> providers;
+  private String[] arguments;
+
+  /**
+   * 每个线程依次使用不同的一致性Hash参数
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int next;
+  }
+
+  /**
+   * Setup.
+   */
+  @Setup
+  public void setUp() {
+    // 加权轮询、轮询按服务名缓存状态，不同的列表大小使用不同的服务名
+    serviceName = "com.orientsec.benchmark.LoadBalanceService" + providerCount;
+    providers = BenchmarkProviders.create(serviceName, providerCount);
+
+    arguments = new String[ARGUMENT_COUNT];
+    for (int i = 0; i < ARGUMENT_COUNT; i++) {
+      arguments[i] = "A" + i;
+    }
+  }
+
+  private Map<String, ServiceProvider> choose(ThreadState thread) {
+    String argument = arguments[thread.next++ & (ARGUMENT_COUNT - 1)];
+    return LoadBalancerFactory.getServiceProviderByLbStrategy(strategy, providers, serviceName,
+        argument);
+  }
+
+  /**
+   * 单线程选择服务端.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Map<String, ServiceProvider> choose1Thread(ThreadState thread) {
+    return choose(thread);
+  }
+
+  /**
+   * 多个线程同时选择服务端，轮询计数器、加权轮询对象是所有线程共享的.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public Map<String, ServiceProvider> choose4Threads(ThreadState thread) {
+    return choose(thread);
+  }
+}
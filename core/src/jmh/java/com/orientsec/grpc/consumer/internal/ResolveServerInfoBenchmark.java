@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.google.common.base.Preconditions;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.LoadBalanceUtil;
+import com.orientsec.grpc.consumer.BenchmarkProviders;
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.grpc.internal.GrpcUtil;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * “请求负载均衡”模式下每次调用都会执行的{@link ZookeeperNameResolver#resolveServerInfo}的开销
+ * <p>
+ * 服务端列表通过service.server.list[服务名]配置项注入，不需要连接注册中心；
+ * 包括区域选择、负载均衡、解析IP地址和通知监听器，不包括subchannel的切换。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class ResolveServerInfoBenchmark {
+  private static final String METHOD = "sayHello";
+  private static final int ARGUMENT_COUNT = 1024;
+
+  @Param({"1", "10", "100", "1000"})
+  public int providerCount;
+
+  @Param({"ROUND_ROBIN", "WEIGHT_ROUND_ROBIN", "CONSISTENT_HASH"})
+  public GlobalConstants.LB_STRATEGY strategy;
+
+  private ZookeeperNameResolver resolver;
+  private String[] arguments;
+
+  /**
+   * 每个线程依次使用不同的一致性Hash参数
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int next;
+  }
+
+  /**
+   * Setup.
+   */
+  @Setup
+  public void setUp() {
+    String serviceName = "com.orientsec.benchmark.ResolveService" + providerCount;
+
+    Properties properties = SystemConfig.getProperties();
+    Preconditions.checkState(properties != null, "没有找到配置文件"
+        + GlobalConstants.CONFIG_FILE_PATH);
+    properties.setProperty("service.server.list[" + serviceName + "]",
+        BenchmarkProviders.serverList(providerCount));
+
+    resolver = new ZookeeperNameResolver(URI.create("zookeeper:///" + serviceName), serviceName,
+        Attributes.EMPTY, GrpcUtil.TIMER_SERVICE, GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+
+    Map<String, GlobalConstants.LB_STRATEGY> strategies = new HashMap<>();
+    strategies.put(LoadBalanceUtil.EMPTY_METHOD, strategy);
+    resolver.setLoadBlanceStrategyMap(strategies);
+
+    resolver.start(new NoopListener());
+
+    arguments = new String[ARGUMENT_COUNT];
+    for (int i = 0; i < ARGUMENT_COUNT; i++) {
+      arguments[i] = "A" + i;
+    }
+  }
+
+  /**
+   * TearDown.
+   */
+  @TearDown
+  public void tearDown() {
+    resolver.shutdown();
+  }
+
+  /**
+   * 单线程选择服务端.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void resolveServerInfo1Thread(ThreadState thread) {
+    resolver.resolveServerInfo(arguments[thread.next++ & (ARGUMENT_COUNT - 1)], METHOD);
+  }
+
+  /**
+   * 多个线程同时通过同一个客户端选择服务端.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public void resolveServerInfo4Threads(ThreadState thread) {
+    resolver.resolveServerInfo(arguments[thread.next++ & (ARGUMENT_COUNT - 1)], METHOD);
+  }
+
+  private static final class NoopListener implements NameResolver.Listener {
+    private volatile Object argument;
+
+    @Override
+    public void onAddresses(List<EquivalentAddressGroup> servers, Attributes attributes) {
+    }
+
+    @Override
+    public void onError(Status error) {
+    }
+
+    @Override
+    public Object getArgument() {
+      return argument;
+    }
+
+    @Override
+    public void setArgument(Object argument) {
+      this.argument = argument;
+    }
+
+    @Override
+    public void removeInvalidCacheSubchannels(Set<String> removeHostPorts) {
+    }
+  }
+}
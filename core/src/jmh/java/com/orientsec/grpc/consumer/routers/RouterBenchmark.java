@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.routers;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.constant.RegistryConstants;
+import com.orientsec.grpc.common.util.MapUtils;
+import com.orientsec.grpc.consumer.BenchmarkProviders;
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+import com.orientsec.grpc.registry.common.URL;
+
+import java.net.URLEncoder;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 条件路由、参数路由过滤服务提供者列表的开销
+ * <p>
+ * 条件路由的规则匹配当前客户端，每次都会遍历整个列表；
+ * 参数路由的规则不匹配请求参数(匹配时每次调用都会打印日志)，测量的是表达式求值和参数拷贝的开销。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+  private static final String SERVICE_NAME = "com.orientsec.benchmark.RouterService";
+
+  @Param({"1", "10", "100", "1000"})
+  public int providerCount;
+
+  private Map<String, ServiceProvider> providers;
+  private URL consumerUrl;
+  private ConditionRouter conditionRouter;
+  private ParameterRouter parameterRouter;
+  private Map<String, Object> requestParameters;
+
+  /**
+   * Setup.
+   */
+  @Setup
+  public void setUp() throws Exception {
+    providers = BenchmarkProviders.create(SERVICE_NAME, providerCount);
+    consumerUrl = BenchmarkProviders.consumerUrl(SERVICE_NAME);
+
+    // 当前客户端不能调用第一个服务端
+    String rule = "host = " + BenchmarkProviders.CONSUMER_HOST + " => host != "
+        + BenchmarkProviders.host(0);
+    conditionRouter = new ConditionRouter(routerUrl(RegistryConstants.ROUTER_PROTOCOL, rule));
+
+    rule = "userId == 'A0001' => " + BenchmarkProviders.host(0);
+    parameterRouter = new ParameterRouter(
+        routerUrl(RegistryConstants.PARAMETER_ROUTER_PROTOCOL, rule));
+
+    requestParameters = Collections.<String, Object>singletonMap("userId", "B0001");
+  }
+
+  private static URL routerUrl(String protocol, String rule) throws Exception {
+    Map<String, String> parameters = new HashMap<>(MapUtils.capacity(5));
+    parameters.put(RegistryConstants.CATEGORY_KEY, RegistryConstants.ROUTERS_CATEGORY);
+    parameters.put(GlobalConstants.Provider.Key.INTERFACE, SERVICE_NAME);
+    parameters.put(GlobalConstants.Provider.Key.APPLICATION, BenchmarkProviders.APPLICATION);
+    parameters.put("rule", URLEncoder.encode(rule, "UTF-8"));
+    return new URL(protocol, "0.0.0.0", 0, parameters);
+  }
+
+  /**
+   * 条件路由.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Map<String, ServiceProvider> conditionRoute1Thread() {
+    return conditionRouter.route(providers, consumerUrl);
+  }
+
+  /**
+   * 多个线程同时使用同一个条件路由.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public Map<String, ServiceProvider> conditionRoute4Threads() {
+    return conditionRouter.route(providers, consumerUrl);
+  }
+
+  /**
+   * 参数路由.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Map<String, ServiceProvider> parameterRoute1Thread() {
+    return parameterRouter.route(providers, consumerUrl, requestParameters);
+  }
+
+  /**
+   * 多个线程同时使用同一个参数路由.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public Map<String, ServiceProvider> parameterRoute4Threads() {
+    return parameterRouter.route(providers, consumerUrl, requestParameters);
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求截止时间的工具类
+ * <p>
+ * 1. 服务端在请求分发到业务线程池之前、以及开始执行业务代码之前检查剩余时间，
+ * 剩余时间小于方法的最小处理时间时直接返回DEADLINE_EXCEEDED，避免在过载时做客户端已经用不上的工作。<br>
+ * 2. 多级调用时，客户端在请求头中传递最初的调用方的截止时间(毫秒时间戳)，服务端将其保存在Context中，
+ * 业务代码再调用其他服务时继续向下传递。中间某一级没有传递grpc的超时时间时(例如业务代码切换了线程)，
+ * 服务端使用该截止时间做检查。该时间是墙上时间，机器之间的时钟偏差会影响检查的准确性。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class DeadlineUtils {
+  private static final Logger logger = LoggerFactory.getLogger(DeadlineUtils.class);
+
+  /**
+   * 请求头中最初的调用方的截止时间
+   */
+  public static final Metadata.Key<String> ORIGIN_DEADLINE_KEY = Metadata.Key.of(
+          GlobalConstants.ORIGIN_DEADLINE_METADATA_KEY, Metadata.ASCII_STRING_MARSHALLER);
+
+  /**
+   * Context中最初的调用方的截止时间
+   */
+  public static final Context.Key<Long> ORIGIN_DEADLINE_CONTEXT_KEY =
+          Context.key(GlobalConstants.ORIGIN_DEADLINE_METADATA_KEY);
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 全局缺省的最小处理时间，单位纳秒
+  private static long defaultMinServiceTimeNanos = initDefaultMinServiceTime();
+
+  // 是否有服务级或方法级的配置
+  private static boolean hasServiceConfig = initHasServiceConfig();
+
+  // 是否有大于0的最小处理时间配置
+  private static boolean enabled = initEnabled();
+
+  // 客户端是否传递最初的调用方的截止时间
+  private static boolean originPropagated = initOriginPropagated();
+
+  /**
+   * 方法的最小处理时间，单位纳秒
+   * <p>
+   * key: 全路径方法名
+   * </p>
+   */
+  private static ConcurrentHashMap<String, Long> minServiceTimes = new ConcurrentHashMap<>();
+
+  /**
+   * 初始化全局缺省的最小处理时间
+   */
+  private static long initDefaultMinServiceTime() {
+    String key = GlobalConstants.Provider.Key.DEADLINE_MIN_SERVICE_TIME;
+    long value = PropertiesUtils.getValidLongValue(properties, key, 0L);
+    if (value < 0) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围[0, +∞)，使用缺省值");
+      value = 0L;
+    }
+    logger.info(key + " = " + value);
+    return TimeUnit.MILLISECONDS.toNanos(value);
+  }
+
+  /**
+   * 初始化是否有服务级或方法级的配置
+   */
+  private static boolean initHasServiceConfig() {
+    if (properties == null) {
+      return false;
+    }
+
+    String prefix = GlobalConstants.Provider.Key.DEADLINE_MIN_SERVICE_TIME + "[";
+    for (String key : properties.stringPropertyNames()) {
+      if (key.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 初始化是否启用截止时间检查：全局缺省值或者任意一个服务级、方法级的配置大于0
+   */
+  private static boolean initEnabled() {
+    if (defaultMinServiceTimeNanos > 0) {
+      return true;
+    }
+    if (!hasServiceConfig) {
+      return false;
+    }
+
+    String prefix = GlobalConstants.Provider.Key.DEADLINE_MIN_SERVICE_TIME + "[";
+    for (String key : properties.stringPropertyNames()) {
+      if (key.startsWith(prefix) && PropertiesUtils.getValidLongValue(properties, key, 0L) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 初始化客户端是否传递最初的调用方的截止时间
+   */
+  private static boolean initOriginPropagated() {
+    String key = GlobalConstants.Consumer.Key.DEADLINE_PROPAGATE_ORIGIN;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, true);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 服务端是否启用截止时间检查
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 客户端是否在请求头中传递最初的调用方的截止时间
+   * <p>
+   * 与本地是否配置了最小处理时间无关，下游的服务端需要根据它提前拒绝来不及处理的请求。
+   * </p>
+   */
+  public static boolean isOriginPropagated() {
+    return originPropagated;
+  }
+
+  /**
+   * 获取方法的最小处理时间，单位纳秒，0表示不检查
+   * <p>
+   * 读取顺序：provider.deadline.min.service.time[接口名.方法名] > [接口名] > 全局缺省值
+   * </p>
+   */
+  public static long getMinServiceTimeNanos(String fullMethodName) {
+    if (!hasServiceConfig || fullMethodName == null) {
+      return defaultMinServiceTimeNanos;
+    }
+
+    Long value = minServiceTimes.get(fullMethodName);
+    if (value == null) {
+      value = loadMinServiceTime(fullMethodName);
+      minServiceTimes.putIfAbsent(fullMethodName, value);
+    }
+    return value;
+  }
+
+  /**
+   * 设置方法的最小处理时间，单位毫秒，0表示不检查
+   */
+  @VisibleForTesting
+  public static void setMinServiceTime(String fullMethodName, long minServiceTimeMillis) {
+    hasServiceConfig = true;
+    minServiceTimes.put(fullMethodName, TimeUnit.MILLISECONDS.toNanos(minServiceTimeMillis));
+  }
+
+  private static long loadMinServiceTime(String fullMethodName) {
+    String interfaceName = GrpcUtils.getInterfaceNameNoneException(fullMethodName);
+    String methodName = fullMethodName.substring(fullMethodName.indexOf('/') + 1);
+    String[] suffixes = {"[" + interfaceName + "." + methodName + "]", "[" + interfaceName + "]"};
+
+    for (String suffix : suffixes) {
+      String key = GlobalConstants.Provider.Key.DEADLINE_MIN_SERVICE_TIME + suffix;
+      long value = PropertiesUtils.getValidLongValue(properties, key, -1L);
+      if (value >= 0) {
+        logger.info(key + " = " + value);
+        return TimeUnit.MILLISECONDS.toNanos(value);
+      }
+    }
+    return defaultMinServiceTimeNanos;
+  }
+
+  /**
+   * 在请求分发到业务线程池之前检查剩余时间
+   *
+   * @param timeoutNanos 请求头中grpc-timeout的值
+   * @param originDeadline 最初的调用方的截止时间(毫秒时间戳)
+   * @return 剩余时间不足时返回拒绝请求的状态，否则返回null
+   */
+  @Nullable
+  public static Status checkRemaining(String fullMethodName, @Nullable Long timeoutNanos,
+                                      @Nullable Long originDeadline) {
+    long minNanos = getMinServiceTimeNanos(fullMethodName);
+    if (minNanos <= 0) {
+      return null;
+    }
+
+    long remainingNanos;
+    if (timeoutNanos != null) {
+      remainingNanos = timeoutNanos;
+    } else if (originDeadline != null) {
+      remainingNanos = remainingNanos(originDeadline);
+    } else {
+      return null;
+    }
+
+    return check(fullMethodName, remainingNanos, minNanos);
+  }
+
+  /**
+   * 在开始执行业务代码之前检查剩余时间(此时已经扣除了在业务线程池中排队的时间)
+   *
+   * @param context 请求的Context
+   * @return 剩余时间不足时返回拒绝请求的状态，否则返回null
+   */
+  @Nullable
+  public static Status checkRemaining(String fullMethodName, Context context) {
+    long minNanos = getMinServiceTimeNanos(fullMethodName);
+    if (minNanos <= 0) {
+      return null;
+    }
+
+    long remainingNanos;
+    Deadline deadline = context.getDeadline();
+    Long originDeadline;
+    if (deadline != null) {
+      remainingNanos = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+    } else if ((originDeadline = ORIGIN_DEADLINE_CONTEXT_KEY.get(context)) != null) {
+      remainingNanos = remainingNanos(originDeadline);
+    } else {
+      return null;
+    }
+
+    return check(fullMethodName, remainingNanos, minNanos);
+  }
+
+  private static long remainingNanos(long originDeadline) {
+    return TimeUnit.MILLISECONDS.toNanos(originDeadline - System.currentTimeMillis());
+  }
+
+  private static Status check(String fullMethodName, long remainingNanos, long minNanos) {
+    if (remainingNanos >= minNanos) {
+      return null;
+    }
+
+    return Status.DEADLINE_EXCEEDED.withDescription("请求的剩余时间["
+            + TimeUnit.NANOSECONDS.toMillis(remainingNanos) + "ms]小于方法[" + fullMethodName
+            + "]的最小处理时间[" + TimeUnit.NANOSECONDS.toMillis(minNanos) + "ms]，不再处理该请求");
+  }
+
+  /**
+   * 读取请求头中最初的调用方的截止时间(毫秒时间戳)，没有或者不合法时返回null
+   */
+  @Nullable
+  public static Long getOriginDeadline(Metadata headers) {
+    String value = headers.get(ORIGIN_DEADLINE_KEY);
+    if (value == null || !MathUtils.isLong(value)) {
+      return null;
+    }
+    return Long.valueOf(value);
+  }
+
+  /**
+   * 将最初的调用方的截止时间保存到服务端请求的Context中
+   */
+  public static Context withOriginDeadline(Context context, @Nullable Long originDeadline) {
+    if (originDeadline == null) {
+      return context;
+    }
+    return context.withValue(ORIGIN_DEADLINE_CONTEXT_KEY, originDeadline);
+  }
+
+  /**
+   * 客户端在请求头中写入最初的调用方的截止时间
+   * <p>
+   * 当前线程在处理一个上游请求时，沿用上游传过来的截止时间；否则当前调用就是最初的调用，使用本次调用的截止时间。
+   * </p>
+   *
+   * @param effectiveDeadline 本次调用的截止时间，可以为null
+   */
+  public static void putOriginDeadline(Metadata headers, @Nullable Deadline effectiveDeadline) {
+    headers.discardAll(ORIGIN_DEADLINE_KEY);
+
+    Long originDeadline = ORIGIN_DEADLINE_CONTEXT_KEY.get();
+    if (originDeadline == null) {
+      if (effectiveDeadline == null) {
+        return;
+      }
+      originDeadline = System.currentTimeMillis()
+              + effectiveDeadline.timeRemaining(TimeUnit.MILLISECONDS);
+    }
+    headers.put(ORIGIN_DEADLINE_KEY, String.valueOf(originDeadline));
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 一次被采样的客户端调用在各个阶段的耗时
+ * <p>
+ * 大小固定，每个阶段记录累计耗时和经过的次数；失败重试、对冲请求的多次尝试累加到同一个阶段上。<br>
+ * 埋点的写法为：
+ * <pre>
+ * long start = CallProfile.now(profile);
+ * ...
+ * start = CallProfile.record(profile, CallProfile.RESOLVE, start);
+ * </pre>
+ * profile为null(调用未被采样或剖析未启用)时不读取时钟。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class CallProfile {
+  /**
+   * 参数路由重选服务提供者
+   */
+  public static final int PARAMETER_ROUTE = 0;
+
+  /**
+   * 请求负载均衡模式下解析服务端：区域选择、负载均衡算法、切换subchannel
+   */
+  public static final int RESOLVE = 1;
+
+  /**
+   * 从subchannelPicker中选择subchannel
+   */
+  public static final int PICK = 2;
+
+  /**
+   * 连接尚未建立时在getTransportFromLb中等待transport
+   */
+  public static final int TRANSPORT_WAIT = 3;
+
+  /**
+   * 请求消息的序列化和写入stream
+   */
+  public static final int MARSHAL = 4;
+
+  /**
+   * 调用结束时计算请求次数、出错次数(连续出错切换服务端、熔断)
+   */
+  public static final int BREAKER = 5;
+
+  private static final String[] STAGE_NAMES = {
+      "parameter_route", "resolve", "pick", "transport_wait", "marshal", "breaker"};
+
+  private static final String[] STAGE_FIELD_NAMES = {
+      "parameterRoute", "resolve", "pick", "transportWait", "marshal", "breaker"};
+
+  static final int STAGE_COUNT = STAGE_NAMES.length;
+
+  private final String fullMethodName;
+  private final long startNanos;
+
+  /**
+   * 下标stage * 2为累计耗时(纳秒)，stage * 2 + 1为经过的次数
+   */
+  private final AtomicLongArray stages = new AtomicLongArray(STAGE_COUNT * 2);
+
+  CallProfile(String fullMethodName) {
+    this.fullMethodName = fullMethodName;
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * profile不为null时返回当前时间，否则返回0
+   */
+  public static long now(CallProfile profile) {
+    return (profile == null) ? 0 : System.nanoTime();
+  }
+
+  /**
+   * 记录从startNanos到当前时间的耗时
+   *
+   * @return 当前时间，作为下一个阶段的开始时间；profile为null时返回0
+   */
+  public static long record(CallProfile profile, int stage, long startNanos) {
+    if (profile == null) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    profile.add(stage, now - startNanos);
+    return now;
+  }
+
+  void add(int stage, long nanos) {
+    stages.addAndGet(stage * 2, nanos);
+    stages.incrementAndGet(stage * 2 + 1);
+  }
+
+  public String getFullMethodName() {
+    return fullMethodName;
+  }
+
+  /**
+   * 从创建到现在经过的时间(纳秒)
+   */
+  public long getElapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /**
+   * 某个阶段的累计耗时(纳秒)
+   */
+  public long getStageNanos(int stage) {
+    return stages.get(stage * 2);
+  }
+
+  /**
+   * 是否经过了某个阶段
+   */
+  public boolean hasStage(int stage) {
+    return stages.get(stage * 2 + 1) > 0;
+  }
+
+  public static int getStageCount() {
+    return STAGE_COUNT;
+  }
+
+  /**
+   * 阶段名称，用作调用统计的stage标签
+   */
+  public static String getStageName(int stage) {
+    return STAGE_NAMES[stage];
+  }
+
+  /**
+   * 阶段在JFR事件中的字段名称
+   */
+  static String getStageFieldName(int stage) {
+    return STAGE_FIELD_NAMES[stage];
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.JfrEventBridge;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import io.grpc.CallOptions;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 客户端调用剖析
+ * <p>
+ * 按consumer.profiler.sample.interval配置的间隔对调用随机采样，被采样的调用在CallOptions中携带一个
+ * {@link CallProfile}，各个埋点把阶段耗时记录到其中；调用结束时累加到调用统计的阶段直方图
+ * (nebula_client_stage_seconds)，有正在进行的JFR录制时同时提交nebula.CallProfile事件。<br>
+ * 埋点常驻在代码中，未启用时每个埋点只读取一个volatile变量。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class CallProfiler {
+  private static final Logger logger = LoggerFactory.getLogger(CallProfiler.class);
+
+  private static final int MAX_SAMPLE_INTERVAL = 1000000;
+
+  /**
+   * 被采样的调用在CallOptions中携带的CallProfile
+   */
+  public static final CallOptions.Key<CallProfile> CALL_PROFILE_KEY =
+      CallOptions.Key.create("nebula-call-profile");
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 是否启用调用剖析
+  private static volatile boolean enabled = initEnabled();
+
+  // 采样间隔，平均每多少次调用采样一次
+  private static volatile int sampleInterval = initSampleInterval();
+
+  private static final JfrEventBridge.EventType CALL_PROFILE_EVENT = createEventType();
+
+  private CallProfiler() {
+  }
+
+  /**
+   * 初始化是否启用调用剖析
+   */
+  private static boolean initEnabled() {
+    String key = GlobalConstants.Consumer.Key.PROFILER_ENABLED;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化采样间隔
+   */
+  private static int initSampleInterval() {
+    String key = GlobalConstants.Consumer.Key.PROFILER_SAMPLE_INTERVAL;
+    int defaultValue = 100;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+
+    if (value < 1 || value > MAX_SAMPLE_INTERVAL) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围[1, " + MAX_SAMPLE_INTERVAL
+          + "]，使用缺省值" + defaultValue);
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static JfrEventBridge.EventType createEventType() {
+    JfrEventBridge.Field[] fields = new JfrEventBridge.Field[CallProfile.STAGE_COUNT + 3];
+    fields[0] = JfrEventBridge.Field.of("method", String.class);
+    fields[1] = JfrEventBridge.Field.of("status", String.class);
+    fields[2] = JfrEventBridge.Field.timespan("elapsed");
+    for (int stage = 0; stage < CallProfile.STAGE_COUNT; stage++) {
+      fields[stage + 3] = JfrEventBridge.Field.timespan(CallProfile.getStageFieldName(stage));
+    }
+    return JfrEventBridge.createEventType("nebula.CallProfile", "Nebula Call Profile", fields);
+  }
+
+  /**
+   * 是否启用调用剖析
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 运行时开启或关闭调用剖析，只影响之后发起的调用
+   */
+  public static void setEnabled(boolean enabled) {
+    CallProfiler.enabled = enabled;
+    logger.info("客户端调用剖析" + (enabled ? "已开启" : "已关闭"));
+  }
+
+  public static int getSampleInterval() {
+    return sampleInterval;
+  }
+
+  /**
+   * 运行时调整采样间隔
+   */
+  public static void setSampleInterval(int sampleInterval) {
+    if (sampleInterval < 1 || sampleInterval > MAX_SAMPLE_INTERVAL) {
+      throw new IllegalArgumentException("采样间隔[" + sampleInterval + "]超出范围[1, "
+          + MAX_SAMPLE_INTERVAL + "]");
+    }
+    CallProfiler.sampleInterval = sampleInterval;
+  }
+
+  /**
+   * 决定是否采样一次新的调用
+   *
+   * @return 被采样时返回新的CallProfile，否则返回null
+   */
+  public static CallProfile newProfile(String fullMethodName) {
+    if (!enabled) {
+      return null;
+    }
+    int interval = sampleInterval;
+    if (interval > 1 && ThreadLocalRandom.current().nextInt(interval) != 0) {
+      return null;
+    }
+    return new CallProfile(fullMethodName);
+  }
+
+  /**
+   * 获取调用携带的CallProfile，未启用或未被采样时返回null
+   */
+  public static CallProfile get(CallOptions callOptions) {
+    if (!enabled) {
+      return null;
+    }
+    return callOptions.getOption(CALL_PROFILE_KEY);
+  }
+
+  /**
+   * 调用结束时汇总各个阶段的耗时
+   */
+  public static void finish(CallProfile profile, Status status) {
+    for (int stage = 0; stage < CallProfile.STAGE_COUNT; stage++) {
+      if (profile.hasStage(stage)) {
+        NebulaMetrics.clientStage(CallProfile.getStageName(stage))
+            .recordNanos(profile.getStageNanos(stage));
+      }
+    }
+
+    if (JfrEventBridge.isRecording()) {
+      Object[] values = new Object[CallProfile.STAGE_COUNT + 3];
+      values[0] = profile.getFullMethodName();
+      values[1] = status.getCode().name();
+      values[2] = profile.getElapsedNanos();
+      for (int stage = 0; stage < CallProfile.STAGE_COUNT; stage++) {
+        values[stage + 3] = profile.getStageNanos(stage);
+      }
+      CALL_PROFILE_EVENT.commit(values);
+    }
+  }
+}
@@ -2,9 +2,12 @@ package com.orientsec.grpc.consumer;
 
 import com.orientsec.grpc.common.collect.ConcurrentHashSet;
 import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.NebulaJfrEvents;
 import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.GovernanceLogger;
 import com.orientsec.grpc.common.util.PropertiesUtils;
 import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.consumer.internal.GovernanceEvents;
 import com.orientsec.grpc.consumer.internal.ProvidersListener;
 import com.orientsec.grpc.consumer.internal.ZookeeperNameResolver;
 import com.orientsec.grpc.consumer.model.ServiceProvider;
@@ -23,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 容错机制
@@ -36,6 +40,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ErrorNumberUtil {
   private static final Logger logger = LoggerFactory.getLogger(ErrorNumberUtil.class);
+  private static final GovernanceLogger governanceLogger =
+          GovernanceLogger.getLogger(ErrorNumberUtil.class);
 
   private static final String CONSUMERID_PROVIDERID_SEPARATOR = FailoverUtils.CONSUMERID_PROVIDERID_SEPARATOR;
 
@@ -138,7 +144,7 @@ public class ErrorNumberUtil {
     }
 
     if (!success) {
-      logger.info("Bad provider is: " + providerId);
+      governanceLogger.info(providerId, "Bad provider is: {}", providerId);
     }
 
     Object argument = FailoverUtils.getArgument(nameResolver);
@@ -250,9 +256,10 @@ public class ErrorNumberUtil {
       ZookeeperNameResolver zkResolver = (ZookeeperNameResolver) nameResolver;
 
       String serviceName = zkResolver.getServiceName();
-      Object lock = zkResolver.getLock();
+      Lock lock = zkResolver.getProviderLock();
 
-      synchronized (lock) {// 这里相当于模拟服务列表发生变化，需要加锁
+      lock.lock();// 这里相当于模拟服务列表发生变化，需要加锁
+      try {
         logger.info("重新查询一遍服务提供者，将注册中心上的服务列表写入当前消费者的服务列表...");
         zkResolver.getAllByName(serviceName);
 
@@ -262,6 +269,8 @@ public class ErrorNumberUtil {
         } catch (Throwable t) {
           logger.error("重选服务提供者出错", t);
         }
+      } finally {
+        lock.unlock();
       }
     }
   }
@@ -284,6 +293,10 @@ public class ErrorNumberUtil {
       logger.error("FATAL ERROR : 服务器节点{}连续调用出错{}次，从客户端备选服务器列表中删除", providerId, switchoverThreshold);
       providersForLoadBalance.remove(providerId);
       nameResolver.reCalculateProvidersCountAfterLoadBalance(method);
+      nameResolver.recordGovernanceEvent(GovernanceEvents.SWITCHOVER_REMOVE,
+              providerId + " failed " + switchoverThreshold + " times in a row");
+      NebulaJfrEvents.switchover(nameResolver.getServiceName(), providerId, method,
+              NebulaJfrEvents.SWITCHOVER_REMOVE, switchoverThreshold);
 
       if (timerService == null) {
         timerService = SharedResourceHolder.get(GrpcUtil.TIMER_SERVICE);
@@ -362,6 +375,9 @@ public class ErrorNumberUtil {
         logger.info("服务器节点{}被重新添加到客户端备选服务器列表中", providerId);
         providersForLoadBalance.put(providerId, serviceProvider);
         nameResolver.reCalculateProvidersCountAfterLoadBalance(method);
+        nameResolver.recordGovernanceEvent(GovernanceEvents.SWITCHOVER_RECOVER, providerId);
+        NebulaJfrEvents.switchover(nameResolver.getServiceName(), providerId, method,
+                NebulaJfrEvents.SWITCHOVER_RECOVER, 0);
       }
     }
   }
@@ -379,6 +395,17 @@ public class ErrorNumberUtil {
     }
   }
 
+  /**
+   * 获取服务提供者当前的连续出错次数
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static int getFailTimes(String consumerId, String providerId) {
+    AtomicInteger failTimes = requestFailures.get(consumerId + CONSUMERID_PROVIDERID_SEPARATOR + providerId);
+    return (failTimes == null) ? 0 : failTimes.get();
+  }
+
   public static class RecoveryServerRunnable implements Runnable {
 
     private NameResolver nameResolver;
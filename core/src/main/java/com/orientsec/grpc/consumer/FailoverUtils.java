@@ -18,6 +18,7 @@ package com.orientsec.grpc.consumer;
 
 import com.orientsec.grpc.common.collect.ConcurrentHashSet;
 import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.NebulaJfrEvents;
 import com.orientsec.grpc.common.resource.SystemConfig;
 import com.orientsec.grpc.common.util.ExceptionUtils;
 import com.orientsec.grpc.common.util.GrpcUtils;
@@ -26,6 +27,8 @@ import com.orientsec.grpc.common.util.MathUtils;
 import com.orientsec.grpc.common.util.Networks;
 import com.orientsec.grpc.common.util.PropertiesUtils;
 import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.consumer.internal.GovernanceEvents;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots;
 import com.orientsec.grpc.consumer.model.ServiceProvider;
 import io.grpc.Channel;
 import io.grpc.ClientCall;
@@ -84,6 +87,17 @@ public class FailoverUtils {
   // 熔断器打开后经过多长时间允许一次请求尝试执行，单位毫秒
   private static int breakerSleepWindowMillis = initBreakerSleepWindowInMilliseconds();
 
+  // 失败重试次数
+  private static int failureRetryNum = initFailureRetryNum();
+
+  /**
+   * 各个方法的失败重试次数
+   * <p>
+   * key: 全路径方法名
+   * </p>
+   */
+  private static ConcurrentHashMap<String, Integer> failureRetryNums = new ConcurrentHashMap<>();
+
   /**
    * 总请求次数
    * <p>
@@ -190,11 +204,36 @@ public class FailoverUtils {
           failProviders.put(key, ProviderStatus.HALF_BREAKER);
           providersForLoadBalance.put(providerId, serviceProvider);
           nameResolver.reCalculateProvidersCountAfterLoadBalance(method);
+          nameResolver.recordGovernanceEvent(GovernanceEvents.BREAKER_HALF_OPEN, providerId);
+          NebulaJfrEvents.breakerTransition(nameResolver.getServiceName(), providerId,
+                  NebulaJfrEvents.BREAKER_HALF_OPEN, "sleep window elapsed");
         }
       }
     }
   }
 
+  /**
+   * 获取客户端对一个服务提供者的熔断状态
+   * <p>
+   * 只读取并发集合，不加锁。
+   * </p>
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static GovernanceSnapshots.BreakerSnapshot getBreakerState(String consumerId,
+                                                                   String providerId) {
+    String key = consumerId + CONSUMERID_PROVIDERID_SEPARATOR + providerId;
+    String status = failProviders.get(key);
+    AtomicLong total = totalRequestTimes.get(key);
+    AtomicLong failed = failRequestTimes.get(key);
+    Long openTime = openBreakerTime.get(key);
+    return new GovernanceSnapshots.BreakerSnapshot((status == null) ? "closed" : status,
+            (total == null) ? 0L : total.get(),
+            (failed == null) ? 0L : failed.get(),
+            (openTime == null) ? 0L : openTime);
+  }
+
   /**
    * 是否启用熔断机制
    */
@@ -267,6 +306,62 @@ public class FailoverUtils {
 
   // --------------------------------------------------------
 
+  /**
+   * 初始化失败重试次数
+   */
+  private static int initFailureRetryNum() {
+    String key = GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES;
+    int defaultValue = 0;
+
+    int num = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (num < 0) {
+      num = defaultValue;
+    }
+
+    logger.info(key + " = " + num);
+
+    return num;
+  }
+
+  /**
+   * 获取指定方法的失败重试次数
+   * <p>
+   * 1. 从配置文件中获取指定Method的重试次数 <br>
+   * 2. 如果Method没有配置，则取服务的配置次数 <br>
+   * 3. 如果服务没有配置，则取默认次数 <br>
+   * 配置文件在运行期间不会变化，读取的结果按方法缓存
+   * </p>
+   *
+   * @since nebula-1.2.9 2026-10-19 modify by sxp 从ClientCalls移到这里，供异步调用的失败重试使用
+   */
+  public static int getFailureRetryNum(String fullMethodName) {
+    Integer cached = failureRetryNums.get(fullMethodName);
+    if (cached != null) {
+      return cached;
+    }
+
+    int retryNum, methodRetryNum, serviceRetryNum;
+
+    String interfaceName = GrpcUtils.getInterfaceNameNoneException(fullMethodName);
+    String methodName = GrpcUtils.getSimpleMethodName(fullMethodName);
+    String serviceRetryConfKey = GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES + "[" + interfaceName + "]";
+    String methodRetryConfKey = GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES + "[" + interfaceName + "." + methodName + "]";
+
+    methodRetryNum = PropertiesUtils.getValidIntegerValue(properties, methodRetryConfKey, 0);
+    serviceRetryNum = PropertiesUtils.getValidIntegerValue(properties, serviceRetryConfKey, 0);
+
+    if (methodRetryNum > 0) {
+      retryNum = methodRetryNum;
+    } else if (serviceRetryNum > 0) {
+      retryNum = serviceRetryNum;
+    } else {
+      retryNum = failureRetryNum;
+    }
+
+    failureRetryNums.putIfAbsent(fullMethodName, retryNum);
+    return retryNum;
+  }
+
   /**
    * 统计在一个统计周期中总请求次数、出错次数，并计算是否进行熔断
    *
@@ -325,6 +420,9 @@ public class FailoverUtils {
         if (success) {
           failProviders.remove(key);
           openBreakerTime.remove(key);
+          nameResolver.recordGovernanceEvent(GovernanceEvents.BREAKER_CLOSE, providerId);
+          NebulaJfrEvents.breakerTransition(nameResolver.getServiceName(), providerId,
+                  NebulaJfrEvents.BREAKER_CLOSED, "trial request succeeded");
 
           ConcurrentHashSet<String> ids = consumerFailProviderIds.get(consumerId);
           if (ids != null) {
@@ -336,6 +434,10 @@ public class FailoverUtils {
           }
           failProviders.put(key, ProviderStatus.BREAKER);
           openBreakerTime.put(key, currentTime);
+          nameResolver.recordGovernanceEvent(GovernanceEvents.BREAKER_OPEN,
+                  providerId + " still failing in half-open state");
+          NebulaJfrEvents.breakerTransition(nameResolver.getServiceName(), providerId,
+                  NebulaJfrEvents.BREAKER_OPEN, "trial request failed");
           removeCurrentProvider(nameResolver, providerId, method);
           saveFailProviderId(consumerId, providerId);
           // 半熔断的处理
@@ -397,6 +499,10 @@ public class FailoverUtils {
 
             failProviders.put(key, ProviderStatus.BREAKER);
             openBreakerTime.put(key, currentTime);
+            nameResolver.recordGovernanceEvent(GovernanceEvents.BREAKER_OPEN,
+                    providerId + " error rate " + percent + "%");
+            NebulaJfrEvents.breakerTransition(nameResolver.getServiceName(), providerId,
+                    NebulaJfrEvents.BREAKER_OPEN, "error rate " + percent + "%");
             removeCurrentProvider(nameResolver, providerId, method);
             saveFailProviderId(consumerId, providerId);
             // 半熔断的处理
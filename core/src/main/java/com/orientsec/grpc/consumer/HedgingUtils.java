@@ -0,0 +1,445 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.enums.LoadBalanceMode;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.GrpcUtils;
+import com.orientsec.grpc.common.util.LoadBalanceUtil;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.consumer.model.HedgingConfig;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 对冲请求(hedging)工具类
+ * <p>
+ * 对于幂等的方法，第一次请求发出后经过一段延时仍未返回，再向另一个服务端发出相同的请求，
+ * 先返回的结果胜出，其余的请求被取消。<br>
+ * 配置的优先级：注册中心的动态配置(方法级 > 服务级) > 配置文件(方法级 > 服务级 > 全局缺省值)。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class HedgingUtils {
+  private static final Logger logger = LoggerFactory.getLogger(HedgingUtils.class);
+
+  /**
+   * 对冲请求的最大请求次数上限
+   */
+  public static final int MAX_ATTEMPTS_LIMIT = 5;
+
+  private static final String DEFAULT_DELAY = "p95";
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 是否启用对冲请求
+  private static boolean enabled = initEnabled();
+
+  // 全局缺省的配置
+  private static HedgingConfig defaultConfig = initDefaultConfig();
+
+  // 非致命错误码
+  private static Set<Status.Code> nonFatalStatusCodes = initNonFatalStatusCodes();
+
+  // 限流的令牌数上限，小于等于0表示不限流
+  private static float throttleMaxTokens = initThrottleMaxTokens();
+
+  // 限流的令牌恢复比例
+  private static float throttleTokenRatio = initThrottleTokenRatio();
+
+  /**
+   * 配置文件中的配置
+   * <p>
+   * key: 全路径方法名
+   * </p>
+   */
+  private static ConcurrentHashMap<String, HedgingConfig> configs = new ConcurrentHashMap<>();
+
+  /**
+   * 方法的历史耗时
+   * <p>
+   * key: 全路径方法名
+   * </p>
+   */
+  private static ConcurrentHashMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+  /**
+   * 初始化是否启用
+   */
+  private static boolean initEnabled() {
+    String key = GlobalConstants.Consumer.Key.HEDGING_ENABLED;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化全局缺省的配置
+   */
+  private static HedgingConfig initDefaultConfig() {
+    String key = GlobalConstants.Consumer.Key.HEDGING_MAX_ATTEMPTS;
+    int maxAttempts = PropertiesUtils.getValidIntegerValue(properties, key, 1);
+    if (maxAttempts < 1 || maxAttempts > MAX_ATTEMPTS_LIMIT) {
+      maxAttempts = 1;
+    }
+    logger.info(key + " = " + maxAttempts);
+
+    key = GlobalConstants.Consumer.Key.HEDGING_DELAY;
+    String delay = PropertiesUtils.getStringValue(properties, key, DEFAULT_DELAY);
+    HedgingConfig config = HedgingConfig.of(maxAttempts, delay);
+    if (config == null) {
+      delay = DEFAULT_DELAY;
+      config = HedgingConfig.of(maxAttempts, delay);
+    }
+    logger.info(key + " = " + delay);
+
+    return config;
+  }
+
+  /**
+   * 初始化非致命错误码
+   */
+  private static Set<Status.Code> initNonFatalStatusCodes() {
+    String key = GlobalConstants.Consumer.Key.HEDGING_NON_FATAL_STATUS_CODES;
+    String value = PropertiesUtils.getStringValue(properties, key, Status.Code.UNAVAILABLE.name());
+
+    Set<Status.Code> codes = EnumSet.noneOf(Status.Code.class);
+    for (String item : value.split(",")) {
+      item = item.trim();
+      if (item.length() == 0) {
+        continue;
+      }
+
+      try {
+        codes.add(Status.Code.valueOf(item.toUpperCase()));
+      } catch (IllegalArgumentException e) {
+        logger.warn("配置项[" + key + "]中的错误码[" + item + "]不合法，忽略该值");
+      }
+    }
+
+    if (codes.isEmpty()) {
+      codes.add(Status.Code.UNAVAILABLE);
+    }
+
+    logger.info(key + " = " + codes);
+    return Collections.unmodifiableSet(codes);
+  }
+
+  /**
+   * 初始化限流的令牌数上限
+   */
+  private static float initThrottleMaxTokens() {
+    String key = GlobalConstants.Consumer.Key.HEDGING_THROTTLE_MAX_TOKENS;
+    double defaultValue = 10;
+    double value = PropertiesUtils.getValidDoubleValue(properties, key, defaultValue);
+    if (value > 1000) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return (float) value;
+  }
+
+  /**
+   * 初始化限流的令牌恢复比例
+   */
+  private static float initThrottleTokenRatio() {
+    String key = GlobalConstants.Consumer.Key.HEDGING_THROTTLE_TOKEN_RATIO;
+    double defaultValue = 0.1;
+    double value = PropertiesUtils.getValidDoubleValue(properties, key, defaultValue);
+    if (value <= 0 || value > 1) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return (float) value;
+  }
+
+  /**
+   * 是否启用对冲请求
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static Set<Status.Code> getNonFatalStatusCodes() {
+    return nonFatalStatusCodes;
+  }
+
+  /**
+   * 获取限流的令牌数上限，小于等于0表示不限流
+   */
+  public static float getThrottleMaxTokens() {
+    return throttleMaxTokens;
+  }
+
+  public static float getThrottleTokenRatio() {
+    return throttleTokenRatio;
+  }
+
+  /**
+   * 获取指定方法的对冲配置
+   *
+   * @param nameResolver   客户端的NameResolver，用于获取注册中心上的动态配置
+   * @param fullMethodName 全路径方法名
+   * @return 未启用时返回null
+   */
+  public static HedgingConfig getHedgingConfig(NameResolver nameResolver, String fullMethodName) {
+    if (!enabled) {
+      return null;
+    }
+
+    // 注册中心上的动态配置
+    if (nameResolver != null) {
+      Map<String, HedgingConfig> zkConfigs = nameResolver.getHedgingConfigMap();
+      if (zkConfigs != null && !zkConfigs.isEmpty()) {
+        String methodName = GrpcUtils.getSimpleMethodName(fullMethodName);
+        HedgingConfig config = zkConfigs.get(methodName);
+        if (config == null) {
+          config = zkConfigs.get(LoadBalanceUtil.EMPTY_METHOD);
+        }
+        if (config != null) {
+          return config;
+        }
+      }
+    }
+
+    // 配置文件中的配置
+    HedgingConfig config = configs.get(fullMethodName);
+    if (config == null) {
+      config = loadHedgingConfig(fullMethodName);
+      HedgingConfig oldValue = configs.putIfAbsent(fullMethodName, config);
+      if (oldValue != null) {
+        config = oldValue;
+      }
+    }
+
+    return config;
+  }
+
+  /**
+   * 指定的方法是否启用了对冲请求(只有“请求负载均衡”模式才启用)
+   *
+   * @param nameResolver   客户端的NameResolver
+   * @param fullMethodName 全路径方法名
+   */
+  public static boolean isHedgingMethod(NameResolver nameResolver, String fullMethodName) {
+    HedgingConfig config = getHedgingConfig(nameResolver, fullMethodName);
+    if (config == null || !config.isHedging()) {
+      return false;
+    }
+
+    String methodName = GrpcUtils.getSimpleMethodName(fullMethodName);
+    String lbMode = LoadBalanceUtil.getLoadBalanceMode(nameResolver, methodName);
+    return LoadBalanceMode.request.name().equals(lbMode);
+  }
+
+  /**
+   * 从配置文件中读取指定方法的对冲配置
+   * <p>
+   * 读取顺序：consumer.hedging.xxx[接口名.方法名] > consumer.hedging.xxx[接口名] > consumer.hedging.xxx
+   * </p>
+   */
+  private static HedgingConfig loadHedgingConfig(String fullMethodName) {
+    String interfaceName = GrpcUtils.getInterfaceNameNoneException(fullMethodName);
+    String methodName = GrpcUtils.getSimpleMethodName(fullMethodName);
+    String[] suffixes = {"[" + interfaceName + "." + methodName + "]", "[" + interfaceName + "]"};
+
+    int maxAttempts = defaultConfig.getMaxAttempts();
+    String key;
+    int value;
+
+    for (String suffix : suffixes) {
+      key = GlobalConstants.Consumer.Key.HEDGING_MAX_ATTEMPTS + suffix;
+      value = PropertiesUtils.getValidIntegerValue(properties, key, 0);
+      if (value > 0) {
+        maxAttempts = Math.min(value, MAX_ATTEMPTS_LIMIT);
+        break;
+      }
+    }
+
+    HedgingConfig config = null;
+    String delay;
+
+    for (String suffix : suffixes) {
+      key = GlobalConstants.Consumer.Key.HEDGING_DELAY + suffix;
+      delay = PropertiesUtils.getStringValue(properties, key, null);
+      if (StringUtils.isNotEmpty(delay)) {
+        config = HedgingConfig.of(maxAttempts, delay);
+        if (config != null) {
+          break;
+        }
+        logger.warn("配置项[" + key + "]的值[" + delay + "]不合法，忽略该值");
+      }
+    }
+
+    if (config == null) {
+      config = HedgingConfig.of(maxAttempts, defaultDelay());
+    }
+
+    if (config.isHedging()) {
+      logger.info("方法[" + fullMethodName + "]启用对冲请求：" + config);
+    }
+    return config;
+  }
+
+  /**
+   * 根据注册中心上配置的参数值创建对冲配置，没有配置的参数使用全局缺省值
+   *
+   * @param maxAttemptsValue 最大请求次数
+   * @param delayValue       延时
+   * @return 参数值不合法时返回null
+   */
+  public static HedgingConfig parseHedgingConfig(String maxAttemptsValue, String delayValue) {
+    int maxAttempts = defaultConfig.getMaxAttempts();
+
+    maxAttemptsValue = StringUtils.trim(maxAttemptsValue);
+    if (StringUtils.isNotEmpty(maxAttemptsValue)) {
+      try {
+        maxAttempts = Integer.parseInt(maxAttemptsValue);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+      if (maxAttempts < 1) {
+        return null;
+      }
+      maxAttempts = Math.min(maxAttempts, MAX_ATTEMPTS_LIMIT);
+    }
+
+    delayValue = StringUtils.trim(delayValue);
+    if (StringUtils.isEmpty(delayValue)) {
+      delayValue = defaultDelay();
+    }
+
+    return HedgingConfig.of(maxAttempts, delayValue);
+  }
+
+  private static String defaultDelay() {
+    if (defaultConfig.isPercentileDelay()) {
+      return "p" + defaultConfig.getDelayPercentile();
+    }
+    return String.valueOf(defaultConfig.getDelayMillis());
+  }
+
+  /**
+   * 记录方法调用成功的耗时，用于按百分位数计算对冲延时
+   *
+   * @param fullMethodName 全路径方法名
+   * @param elapsedNanos   耗时，单位纳秒
+   */
+  public static void recordLatency(String fullMethodName, long elapsedNanos) {
+    LatencyWindow window = latencies.get(fullMethodName);
+    if (window == null) {
+      window = new LatencyWindow();
+      LatencyWindow oldValue = latencies.putIfAbsent(fullMethodName, window);
+      if (oldValue != null) {
+        window = oldValue;
+      }
+    }
+
+    window.record(elapsedNanos);
+  }
+
+  /**
+   * 获取对冲的延时
+   *
+   * @param fullMethodName 全路径方法名
+   * @param config         对冲配置
+   * @return 单位纳秒；按百分位数计算延时但历史耗时的样本不足时返回-1
+   */
+  public static long getDelayNanos(String fullMethodName, HedgingConfig config) {
+    if (!config.isPercentileDelay()) {
+      return TimeUnit.MILLISECONDS.toNanos(config.getDelayMillis());
+    }
+
+    LatencyWindow window = latencies.get(fullMethodName);
+    if (window == null) {
+      return -1L;
+    }
+
+    return window.percentile(config.getDelayPercentile());
+  }
+
+  /**
+   * 最近若干次调用的耗时
+   */
+  private static final class LatencyWindow {
+    private static final int SIZE = 128;
+
+    // 样本数少于该值时不计算百分位数
+    private static final int MIN_SAMPLES = 20;
+
+    // 百分位数的缓存时间
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+    private final AtomicLong count = new AtomicLong();
+
+    private volatile int cachedPercentile;
+    private volatile long cachedValue = -1L;
+    private volatile long cachedTime;
+
+    void record(long elapsedNanos) {
+      long index = count.getAndIncrement();
+      samples.set((int) (index % SIZE), elapsedNanos);
+    }
+
+    long percentile(int percentile) {
+      long total = count.get();
+      if (total < MIN_SAMPLES) {
+        return -1L;
+      }
+
+      long now = System.nanoTime();
+      if (percentile == cachedPercentile && now - cachedTime < REFRESH_INTERVAL_NANOS) {
+        return cachedValue;
+      }
+
+      int size = (int) Math.min(total, SIZE);
+      long[] values = new long[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = samples.get(i);
+      }
+      Arrays.sort(values);
+
+      int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+      long value = values[Math.max(0, Math.min(index, size - 1))];
+
+      cachedValue = value;
+      cachedPercentile = percentile;
+      cachedTime = now;
+      return value;
+    }
+  }
+}
@@ -59,6 +59,20 @@ public class ThreadLocalVariableUtils {
     names.put(serviceName, method);
   }
 
+  /**
+   * 删除保存的当前调用的方法名
+   *
+   * @param serviceName 当前调用的服务名
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static void removeServiceMethodName(String serviceName) {
+    if (StringUtils.isEmpty(serviceName)) {
+      return;
+    }
+
+    serviceMethodNames.get().remove(serviceName);
+  }
+
 
   /**
    * 查询当前调用的方法名
@@ -46,6 +46,7 @@ public class ConfiguratorsListener extends AbstractListener implements ConsumerL
   private ProviderGroupHandler groupHandler;
   private ConsumerGroupHandler consumerGroupHandler;
   private ConsumerMasterHander consumerMasterHander;
+  private HedgingHandler hedgingHandler;
 
   public ConfiguratorsListener() {
   }
@@ -54,6 +55,7 @@ public class ConfiguratorsListener extends AbstractListener implements ConsumerL
   public void notify(List<URL> urls) {
     //首先排序，确保明确的IP的规则放在最后(明确的IP，优先级高于0.0.0.0)
     Collections.sort(urls, new UrlIpComparator());
+    zookeeperNameResolver.recordGovernanceEvent(GovernanceEvents.CONFIGURATORS, urls.size() + " configurators");
 
     // 监听服务端权重 weight
     if (weightHandler == null) {
@@ -114,5 +116,11 @@ public class ConfiguratorsListener extends AbstractListener implements ConsumerL
     }
     consumerMasterHander.notify(urls);
 
+    // 监听对冲请求参数 hedging.maxAttempts、hedging.delay
+    if (hedgingHandler == null) {
+      hedgingHandler = new HedgingHandler(zookeeperNameResolver);
+    }
+    hedgingHandler.notify(urls);
+
   }
 }
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 监听客户端GROUP分组变化
@@ -107,8 +108,9 @@ public class ConsumerGroupHandler {
         String serviceName = zkNameResolver.getServiceName();
 
         // 重新选择服务提供者
-        Object lock = zkNameResolver.getLock();
-        synchronized (lock) {
+        Lock lock = zkNameResolver.getProviderLock();
+        lock.lock();
+        try {
           zkNameResolver.getAllByName(serviceName);
           try {
             logger.info("重选服务提供者");
@@ -116,6 +118,8 @@ public class ConsumerGroupHandler {
           } catch (Throwable t) {
             logger.error("重选服务提供者出错", t);
           }
+        } finally {
+          lock.unlock();
         }
 
         if (needUpdate) {
@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 监听客户端调用主还是备
@@ -87,8 +88,9 @@ public class ConsumerMasterHander {
         String serviceName = zkNameResolver.getServiceName();
 
         // 重新选择服务提供者
-        Object lock = zkNameResolver.getLock();
-        synchronized (lock) {
+        Lock lock = zkNameResolver.getProviderLock();
+        lock.lock();
+        try {
           zkNameResolver.getAllByName(serviceName);
           try {
             logger.info("重选服务提供者");
@@ -96,6 +98,8 @@ public class ConsumerMasterHander {
           } catch (Throwable t) {
             logger.error("重选服务提供者出错", t);
           }
+        } finally {
+          lock.unlock();
         }
 
         if (needUpdate) {
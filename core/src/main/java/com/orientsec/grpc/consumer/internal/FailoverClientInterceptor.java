@@ -0,0 +1,516 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.orientsec.grpc.common.enums.LoadBalanceMode;
+import com.orientsec.grpc.common.util.GovernanceLogger;
+import com.orientsec.grpc.common.util.GrpcUtils;
+import com.orientsec.grpc.common.util.LoadBalanceUtil;
+import com.orientsec.grpc.consumer.CallProfile;
+import com.orientsec.grpc.consumer.CallProfiler;
+import com.orientsec.grpc.consumer.ConsistentHashArguments;
+import com.orientsec.grpc.consumer.FailoverUtils;
+import com.orientsec.grpc.consumer.HedgingUtils;
+import com.orientsec.grpc.consumer.ThreadLocalVariableUtils;
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Deadline;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 客户端容错拦截器
+ * <p>
+ * 在每次调用结束(onClose)时统计请求次数、出错次数，供【连续多次请求出错自动切换服务端】和熔断机制使用，
+ * 对阻塞、异步、Future等所有类型的调用都生效。<br>
+ * 一元调用配置了失败重试次数(consumer.default.retries)时，失败后在调用的executor上重选服务端并发起重试，
+ * 不会占用传输层的IO线程；启用了对冲请求的方法不再失败重试。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class FailoverClientInterceptor implements ClientInterceptor {
+  private static final Logger logger = LoggerFactory.getLogger(FailoverClientInterceptor.class);
+  private static final GovernanceLogger governanceLogger =
+          GovernanceLogger.getLogger(FailoverClientInterceptor.class);
+
+  /**
+   * 提供nameResolver和loadBalancer的channel
+   */
+  private final Channel channel;
+
+  /**
+   * 调用没有指定executor时，发起失败重试使用的executor(channel的executor)
+   */
+  private final Executor channelExecutor;
+
+  public FailoverClientInterceptor(Channel channel, Executor channelExecutor) {
+    this.channel = channel;
+    this.channelExecutor = channelExecutor;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+          MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    if (method.getType() == MethodDescriptor.MethodType.UNARY) {
+      String fullMethodName = method.getFullMethodName();
+      int retryNum = FailoverUtils.getFailureRetryNum(fullMethodName);
+      if (retryNum > 0 && !HedgingUtils.isHedgingMethod(channel.getNameResolver(), fullMethodName)) {
+        return newRetryingCall(method, callOptions, next, retryNum);
+      }
+    }
+
+    return new RecordingClientCall<ReqT, RespT>(next.newCall(method, callOptions), callOptions);
+  }
+
+  @VisibleForTesting
+  <ReqT, RespT> ClientCall<ReqT, RespT> newRetryingCall(MethodDescriptor<ReqT, RespT> method,
+      CallOptions callOptions, Channel next, int maxRetries) {
+    return new RetryingClientCall<ReqT, RespT>(method, callOptions, next, maxRetries);
+  }
+
+  /**
+   * 计算请求次数、请求出错次数
+   */
+  private void recordRequest(ClientCall<?, ?> call, CallOptions callOptions, Status status,
+                             Metadata trailers) {
+    CallProfile profile = CallProfiler.get(callOptions);
+    long start = CallProfile.now(profile);
+    try {
+      boolean success = status.isOk();
+      Exception e = success ? null : status.asRuntimeException(trailers);
+      FailoverUtils.recordRequest(channel, success, call, e);
+    } catch (RuntimeException e) {
+      logger.warn("计算请求次数、请求出错次数出错", e);
+    }
+    CallProfile.record(profile, CallProfile.BREAKER, start);
+  }
+
+  /**
+   * 只统计调用结果的ClientCall
+   */
+  private final class RecordingClientCall<ReqT, RespT>
+          extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    private final CallOptions callOptions;
+
+    RecordingClientCall(ClientCall<ReqT, RespT> delegate, CallOptions callOptions) {
+      super(delegate);
+      this.callOptions = callOptions;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      final ClientCall<ReqT, RespT> call = delegate();
+      super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+          recordRequest(call, callOptions, status, trailers);
+          super.onClose(status, trailers);
+        }
+      }, headers);
+    }
+  }
+
+  /**
+   * 支持失败重试的一元调用
+   * <p>
+   * 每次尝试都会新建一个ClientCall，并重放之前的请求头、请求消息；
+   * 只有在没有收到响应消息的情况下才会重试，响应头会延迟到确定不再重试时才回调给上层。
+   * </p>
+   */
+  private final class RetryingClientCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final CallOptions callOptions;
+    private final Channel next;
+    private final int maxRetries;
+    private final String serviceName;
+
+    private final Object lock = new Object();
+
+    // 以下变量均由lock保护
+    // 当前尝试，重放完之前的操作后才设置，重放期间为null
+    private ClientCall<ReqT, RespT> delegate;
+    private Listener<RespT> responseListener;
+    private Metadata headers;
+    private ReqT message;
+    private boolean messageSent;
+    private int requested;
+    private boolean halfClosed;
+    private Boolean messageCompression;
+    private Status cancelStatus;
+    private int retries;
+
+    // 一致性Hash负载均衡算法的参数值，重试时需要重新放入执行重试的线程的ThreadLocal变量中
+    private Object argument;
+
+    RetryingClientCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions,
+                       Channel next, int maxRetries) {
+      this.method = method;
+      this.callOptions = callOptions;
+      this.next = next;
+      this.maxRetries = maxRetries;
+      this.serviceName = GrpcUtils.getInterfaceNameNoneException(method.getFullMethodName());
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      synchronized (lock) {
+        this.responseListener = responseListener;
+        this.headers = copyOf(headers);
+        this.argument = ConsistentHashArguments.getArgument(serviceName);
+      }
+      startAttempt();
+    }
+
+    @Override
+    public void request(int numMessages) {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        requested += numMessages;
+        call = delegate;
+      }
+      if (call != null) {
+        call.request(numMessages);
+      }
+    }
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        Status status = Status.CANCELLED;
+        if (message != null) {
+          status = status.withDescription(message);
+        }
+        if (cause != null) {
+          status = status.withCause(cause);
+        }
+        cancelStatus = status;
+        call = delegate;
+      }
+      if (call != null) {
+        call.cancel(message, cause);
+      }
+    }
+
+    @Override
+    public void halfClose() {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        halfClosed = true;
+        call = delegate;
+      }
+      if (call != null) {
+        call.halfClose();
+      }
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        this.message = message;
+        this.messageSent = true;
+        call = delegate;
+      }
+      if (call != null) {
+        call.sendMessage(message);
+      }
+    }
+
+    @Override
+    public boolean isReady() {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        call = delegate;
+      }
+      return call != null && call.isReady();
+    }
+
+    @Override
+    public void setMessageCompression(boolean enabled) {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        messageCompression = enabled;
+        call = delegate;
+      }
+      if (call != null) {
+        call.setMessageCompression(enabled);
+      }
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      ClientCall<ReqT, RespT> call;
+      synchronized (lock) {
+        call = delegate;
+      }
+      return (call != null) ? call.getAttributes() : Attributes.EMPTY;
+    }
+
+    @Override
+    public String getFullMethod() {
+      return method.getFullMethodName();
+    }
+
+    /**
+     * 新建一个ClientCall，并重放之前的操作
+     * <p>
+     * start、sendMessage等操作可能阻塞(等待负载均衡选出服务端、等待连接)，因此在锁外重放：
+     * 在锁内取出还没有重放的操作，在锁外执行，直到没有新的操作时才把新的ClientCall设置为delegate，
+     * 之后的操作直接转发给它。
+     * </p>
+     */
+    private void startAttempt() {
+      ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+
+      Metadata attemptHeaders;
+      synchronized (lock) {
+        delegate = null;
+        attemptHeaders = copyOf(headers);
+      }
+      call.start(new AttemptListener(call), attemptHeaders);
+
+      // 已经重放到该次尝试上的操作
+      Boolean replayedCompression = null;
+      int replayedRequested = 0;
+      boolean replayedMessage = false;
+      boolean replayedHalfClose = false;
+      boolean replayedCancel = false;
+
+      for (;;) {
+        Boolean compression = null;
+        int numMessages;
+        boolean sendMessage;
+        ReqT attemptMessage;
+        boolean halfClose;
+        Status cancel = null;
+        synchronized (lock) {
+          if (messageCompression != null && !messageCompression.equals(replayedCompression)) {
+            compression = messageCompression;
+          }
+          numMessages = requested - replayedRequested;
+          sendMessage = messageSent && !replayedMessage;
+          attemptMessage = message;
+          halfClose = halfClosed && !replayedHalfClose;
+          if (cancelStatus != null && !replayedCancel) {
+            cancel = cancelStatus;
+          }
+
+          if (compression == null && numMessages == 0 && !sendMessage && !halfClose
+              && cancel == null) {
+            delegate = call;
+            return;
+          }
+        }
+
+        if (compression != null) {
+          call.setMessageCompression(compression);
+          replayedCompression = compression;
+        }
+        if (numMessages > 0) {
+          call.request(numMessages);
+          replayedRequested += numMessages;
+        }
+        if (sendMessage) {
+          call.sendMessage(attemptMessage);
+          replayedMessage = true;
+        }
+        if (halfClose) {
+          call.halfClose();
+          replayedHalfClose = true;
+        }
+        if (cancel != null) {
+          call.cancel(cancel.getDescription(), cancel.getCause());
+          replayedCancel = true;
+        }
+      }
+    }
+
+    /**
+     * 是否还需要失败重试
+     */
+    private boolean shouldRetry() {
+      synchronized (lock) {
+        if (cancelStatus != null || retries >= maxRetries) {
+          return false;
+        }
+        Deadline deadline = callOptions.getDeadline();
+        if (deadline != null && deadline.isExpired()) {
+          return false;
+        }
+        retries++;
+        governanceLogger.info(method.getFullMethodName(), "{}失败重试第{}次...",
+            method.getFullMethodName(), retries);
+        return true;
+      }
+    }
+
+    /**
+     * 在调用的executor上发起重试
+     * <p>
+     * 重选服务端、等待负载均衡选出服务端都可能阻塞，不能在回调线程(可能是传输层的IO线程)或定时器线程上执行；
+     * 阻塞调用的executor是调用线程自身，其余调用没有指定executor时使用channel的executor。
+     * </p>
+     *
+     * @return 重试任务提交失败时返回false
+     */
+    private boolean scheduleRetry() {
+      Executor executor = callOptions.getExecutor();
+      if (executor == null) {
+        executor = channelExecutor;
+      }
+
+      try {
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            retry();
+          }
+        });
+        return true;
+      } catch (RejectedExecutionException e) {
+        logger.warn("提交失败重试任务出错", e);
+        return false;
+      }
+    }
+
+    private void retry() {
+      //----begin----将一致性Hash的参数值、调用方法放入当前线程的ThreadLocal变量中----
+      Object oldArgument = ConsistentHashArguments.getArgument(serviceName);
+      String oldMethodName = ThreadLocalVariableUtils.getServiceMethodName(serviceName);
+      if (argument != null) {
+        ConsistentHashArguments.setArgument(serviceName, argument);
+      }
+      ThreadLocalVariableUtils.setServiceMethodName(serviceName, method.getFullMethodName());
+      //----end------将一致性Hash的参数值、调用方法放入当前线程的ThreadLocal变量中----
+
+      try {
+        reelectServer();
+        startAttempt();
+      } catch (RuntimeException e) {
+        logger.warn("失败重试出错", e);
+        responseListener.onClose(Status.INTERNAL.withDescription("失败重试出错").withCause(e), new Metadata());
+      } finally {
+        //----begin----恢复当前线程的ThreadLocal变量，执行重试的线程可能被其他调用复用----
+        if (argument != null) {
+          if (oldArgument != null) {
+            ConsistentHashArguments.setArgument(serviceName, oldArgument);
+          } else {
+            ConsistentHashArguments.resetArgument(serviceName);
+          }
+        }
+        if (oldMethodName != null) {
+          ThreadLocalVariableUtils.setServiceMethodName(serviceName, oldMethodName);
+        } else {
+          ThreadLocalVariableUtils.removeServiceMethodName(serviceName);
+        }
+        //----end------恢复当前线程的ThreadLocal变量，执行重试的线程可能被其他调用复用----
+      }
+    }
+
+    /**
+     * 连接负载均衡模式下重选服务器
+     */
+    private void reelectServer() {
+      NameResolver nameResolver = channel.getNameResolver();
+      if (nameResolver instanceof ZookeeperNameResolver) {
+        String methodName = GrpcUtils.getSimpleMethodName(method.getFullMethodName());
+        if (LoadBalanceMode.connection.name().equals(
+                LoadBalanceUtil.getLoadBalanceMode(nameResolver, methodName))) {
+          nameResolver.resolveServerInfo(argument, methodName);
+        }
+      }
+    }
+
+    /**
+     * 一次尝试的监听器
+     */
+    private final class AttemptListener extends Listener<RespT> {
+      private final ClientCall<ReqT, RespT> call;
+
+      // 以下变量只在该次尝试的回调线程中访问
+      private Metadata pendingHeaders;
+      private boolean committed;
+
+      AttemptListener(ClientCall<ReqT, RespT> call) {
+        this.call = call;
+      }
+
+      @Override
+      public void onHeaders(Metadata headers) {
+        pendingHeaders = headers;
+      }
+
+      @Override
+      public void onMessage(RespT message) {
+        commit();
+        responseListener.onMessage(message);
+      }
+
+      @Override
+      public void onReady() {
+        responseListener.onReady();
+      }
+
+      @Override
+      public void onClose(Status status, Metadata trailers) {
+        recordRequest(call, callOptions, status, trailers);
+
+        if (!status.isOk() && !committed && shouldRetry() && scheduleRetry()) {
+          return;
+        }
+
+        commit();
+        responseListener.onClose(status, trailers);
+      }
+
+      private void commit() {
+        committed = true;
+        if (pendingHeaders != null) {
+          Metadata headers = pendingHeaders;
+          pendingHeaders = null;
+          responseListener.onHeaders(headers);
+        }
+      }
+    }
+  }
+
+  private static Metadata copyOf(Metadata headers) {
+    Metadata copy = new Metadata();
+    if (headers != null) {
+      copy.merge(headers);
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 客户端最近发生的服务治理事件(注册中心通知、熔断、连续出错切换等)
+ * <p>
+ * 固定大小的无锁环形缓冲区，只保留最近的若干个事件，写入和读取都不加锁。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class GovernanceEvents {
+  public static final String PROVIDERS = "PROVIDERS";
+  public static final String ROUTERS = "ROUTERS";
+  public static final String CONFIGURATORS = "CONFIGURATORS";
+  public static final String BREAKER_OPEN = "BREAKER_OPEN";
+  public static final String BREAKER_HALF_OPEN = "BREAKER_HALF_OPEN";
+  public static final String BREAKER_CLOSE = "BREAKER_CLOSE";
+  public static final String SWITCHOVER_REMOVE = "SWITCHOVER_REMOVE";
+  public static final String SWITCHOVER_RECOVER = "SWITCHOVER_RECOVER";
+
+  private final AtomicReferenceArray<Event> events;
+  private final int mask;
+  private final AtomicLong next = new AtomicLong();
+
+  /**
+   * @param capacity 保留的事件个数，必须是2的幂
+   */
+  public GovernanceEvents(int capacity) {
+    Preconditions.checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1,
+        "capacity must be a power of two");
+    events = new AtomicReferenceArray<Event>(capacity);
+    mask = capacity - 1;
+  }
+
+  public void record(String type, String detail) {
+    long seq = next.getAndIncrement();
+    events.set((int) (seq & mask), new Event(seq, System.currentTimeMillis(), type, detail));
+  }
+
+  /**
+   * 按发生顺序返回保留的事件
+   */
+  public List<Event> snapshot() {
+    long end = next.get();
+    long start = Math.max(0, end - events.length());
+    List<Event> list = new ArrayList<Event>((int) (end - start));
+    for (long seq = start; seq < end; seq++) {
+      Event event = events.get((int) (seq & mask));
+      // 读取期间被新事件覆盖或者还没有写入的位置跳过
+      if (event != null && event.seq == seq) {
+        list.add(event);
+      }
+    }
+    return list;
+  }
+
+  public static final class Event {
+    private final long seq;
+    private final long timeMillis;
+    private final String type;
+    private final String detail;
+
+    Event(long seq, long timeMillis, String type, String detail) {
+      this.seq = seq;
+      this.timeMillis = timeMillis;
+      this.type = type;
+      this.detail = detail;
+    }
+
+    public long getTimeMillis() {
+      return timeMillis;
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public String getDetail() {
+      return detail;
+    }
+
+    @Override
+    public String toString() {
+      return type + "[" + detail + "]@" + timeMillis;
+    }
+  }
+}
@@ -0,0 +1,461 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.consumer.ErrorNumberUtil;
+import com.orientsec.grpc.consumer.FailoverUtils;
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+import com.orientsec.grpc.consumer.qos.ConsumerRequestsControllerUtils;
+import io.grpc.ManagedChannel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 客户端服务治理状态的快照，供管理接口查看客户端为什么不再调用某个服务提供者
+ * <p>
+ * 只读取并发集合和volatile字段，不获取{@link ZookeeperNameResolver#getProviderLock()}，
+ * 高负载下频繁查询也不会阻塞服务调用；各项数据之间不保证是同一时刻的值。
+ * 快照由{@link ResolverSnapshot}、{@link ProviderSnapshot}、{@link BreakerSnapshot}表示，
+ * {@code NebulaAdminService}将其转换为protobuf。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class GovernanceSnapshots {
+  private GovernanceSnapshots() {
+  }
+
+  /**
+   * 所有客户端的快照
+   *
+   * @param serviceName 只返回指定服务的客户端，为空时返回所有客户端
+   */
+  public static List<ResolverSnapshot> resolvers(String serviceName) {
+    List<ResolverSnapshot> list = new ArrayList<>();
+    for (ZookeeperNameResolver resolver : ZookeeperNameResolver.getActiveResolvers()) {
+      if (serviceName != null && !serviceName.isEmpty()
+              && !serviceName.equals(resolver.getServiceName())) {
+        continue;
+      }
+      list.add(resolver(resolver));
+    }
+    return list;
+  }
+
+  static ResolverSnapshot resolver(ZookeeperNameResolver resolver) {
+    ResolverSnapshot snapshot = new ResolverSnapshot();
+    String serviceName = resolver.getServiceName();
+    String consumerId = resolver.getSubscribeId();
+
+    snapshot.setService(serviceName);
+    snapshot.setConsumerId(consumerId);
+    snapshot.setConsumerIp(resolver.getConsumerIP());
+    snapshot.setServiceVersion(resolver.getServiceVersion());
+    snapshot.setInvokeGroup(resolver.getInvokeGroup());
+    snapshot.setInvokeMaster(resolver.getInvokeMaster());
+    snapshot.setRegistryConnected(resolver.isConnectionZkSuccess());
+
+    Map<String, String> strategies = new TreeMap<>();
+    Map<String, GlobalConstants.LB_STRATEGY> strategyMap = resolver.getLoadBlanceStrategyMap();
+    if (strategyMap != null) {
+      for (Map.Entry<String, GlobalConstants.LB_STRATEGY> entry : strategyMap.entrySet()) {
+        strategies.put(entry.getKey(), String.valueOf(entry.getValue()));
+      }
+    }
+    snapshot.setLoadBalanceStrategy(strategies);
+
+    Map<String, String> modes = new TreeMap<>();
+    ManagedChannel channel = resolver.getManagedChannel();
+    Map<String, String> modeMap = (channel == null) ? null : channel.getLoadBalanceModeMap();
+    if (modeMap != null) {
+      modes.putAll(modeMap);
+    }
+    snapshot.setLoadBalanceMode(modes);
+
+    snapshot.setMaxRequestsPerSecond(
+            ConsumerRequestsControllerUtils.getMaxRequestsMap(serviceName));
+    snapshot.setRemainingRequests(
+            ConsumerRequestsControllerUtils.getRemainingRequests(serviceName));
+
+    snapshot.setRouters(resolver.getRoutes().size());
+    snapshot.setParameterRouters(resolver.getParameterRouters().size());
+
+    Map<String, ServiceProvider> allProviders = resolver.getAllProviders();
+    Map<String, ServiceProvider> routed = resolver.getServiceProviderMap();
+    Map<String, ServiceProvider> selectable = resolver.getProvidersForLoadBalance();
+
+    List<ProviderSnapshot> providers = new ArrayList<>();
+    for (Map.Entry<String, ServiceProvider> entry : new TreeMap<>(allProviders).entrySet()) {
+      String providerId = entry.getKey();
+      ServiceProvider provider = entry.getValue();
+
+      ProviderSnapshot item = new ProviderSnapshot();
+      item.setAddress(providerId);
+      item.setVersion(provider.getVersion());
+      item.setGroup(provider.getGroup());
+      item.setMaster(provider.getMaster());
+      item.setWeight(provider.getWeight());
+      item.setZone(provider.getZone());
+      item.setDeprecated(provider.isDeprecated());
+      // 经过版本、分组、主备、黑白名单筛选后仍然保留
+      item.setRouted(routed != null && routed.containsKey(providerId));
+      // 在负载均衡的备选列表中(未被熔断、连续出错切换删除)
+      item.setSelectable(selectable != null && selectable.containsKey(providerId));
+      item.setGroupValid(resolver.isGroupValid(provider.getHost(), provider.getPort()));
+      if (consumerId != null) {
+        item.setBreaker(FailoverUtils.getBreakerState(consumerId, providerId));
+        item.setConsecutiveFailures(ErrorNumberUtil.getFailTimes(consumerId, providerId));
+      }
+      providers.add(item);
+    }
+    snapshot.setProviders(providers);
+
+    snapshot.setEvents(resolver.getGovernanceEvents().snapshot());
+
+    return snapshot;
+  }
+
+  /**
+   * 一个客户端(每个服务一个)的服务治理状态
+   */
+  public static final class ResolverSnapshot {
+    private String service;
+    private String consumerId;
+    private String consumerIp;
+    private String serviceVersion;
+    private String invokeGroup;
+    private boolean invokeMaster;
+    private boolean registryConnected;
+    private Map<String, String> loadBalanceStrategy = Collections.emptyMap();
+    private Map<String, String> loadBalanceMode = Collections.emptyMap();
+    private long maxRequestsPerSecond;
+    private long remainingRequests;
+    private int routers;
+    private int parameterRouters;
+    private List<ProviderSnapshot> providers = Collections.emptyList();
+    private List<GovernanceEvents.Event> events = Collections.emptyList();
+
+    public String getService() {
+      return service;
+    }
+
+    public void setService(String service) {
+      this.service = service;
+    }
+
+    /**
+     * 客户端没有注册到注册中心时为null
+     */
+    public String getConsumerId() {
+      return consumerId;
+    }
+
+    public void setConsumerId(String consumerId) {
+      this.consumerId = consumerId;
+    }
+
+    public String getConsumerIp() {
+      return consumerIp;
+    }
+
+    public void setConsumerIp(String consumerIp) {
+      this.consumerIp = consumerIp;
+    }
+
+    public String getServiceVersion() {
+      return serviceVersion;
+    }
+
+    public void setServiceVersion(String serviceVersion) {
+      this.serviceVersion = serviceVersion;
+    }
+
+    public String getInvokeGroup() {
+      return invokeGroup;
+    }
+
+    public void setInvokeGroup(String invokeGroup) {
+      this.invokeGroup = invokeGroup;
+    }
+
+    public boolean getInvokeMaster() {
+      return invokeMaster;
+    }
+
+    public void setInvokeMaster(boolean invokeMaster) {
+      this.invokeMaster = invokeMaster;
+    }
+
+    public boolean isRegistryConnected() {
+      return registryConnected;
+    }
+
+    public void setRegistryConnected(boolean registryConnected) {
+      this.registryConnected = registryConnected;
+    }
+
+    /**
+     * 方法名到负载均衡策略的映射
+     */
+    public Map<String, String> getLoadBalanceStrategy() {
+      return loadBalanceStrategy;
+    }
+
+    public void setLoadBalanceStrategy(Map<String, String> loadBalanceStrategy) {
+      this.loadBalanceStrategy = loadBalanceStrategy;
+    }
+
+    /**
+     * 方法名到负载均衡模式的映射
+     */
+    public Map<String, String> getLoadBalanceMode() {
+      return loadBalanceMode;
+    }
+
+    public void setLoadBalanceMode(Map<String, String> loadBalanceMode) {
+      this.loadBalanceMode = loadBalanceMode;
+    }
+
+    /**
+     * 流控允许的每秒最大请求数
+     */
+    public long getMaxRequestsPerSecond() {
+      return maxRequestsPerSecond;
+    }
+
+    public void setMaxRequestsPerSecond(long maxRequestsPerSecond) {
+      this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /**
+     * 流控当前剩余的请求数
+     */
+    public long getRemainingRequests() {
+      return remainingRequests;
+    }
+
+    public void setRemainingRequests(long remainingRequests) {
+      this.remainingRequests = remainingRequests;
+    }
+
+    public int getRouters() {
+      return routers;
+    }
+
+    public void setRouters(int routers) {
+      this.routers = routers;
+    }
+
+    public int getParameterRouters() {
+      return parameterRouters;
+    }
+
+    public void setParameterRouters(int parameterRouters) {
+      this.parameterRouters = parameterRouters;
+    }
+
+    /**
+     * 按地址排序的所有服务提供者
+     */
+    public List<ProviderSnapshot> getProviders() {
+      return providers;
+    }
+
+    public void setProviders(List<ProviderSnapshot> providers) {
+      this.providers = providers;
+    }
+
+    /**
+     * 按发生顺序排列的最近的服务治理事件
+     */
+    public List<GovernanceEvents.Event> getEvents() {
+      return events;
+    }
+
+    public void setEvents(List<GovernanceEvents.Event> events) {
+      this.events = events;
+    }
+  }
+
+  /**
+   * 一个服务提供者在客户端的状态
+   */
+  public static final class ProviderSnapshot {
+    private String address;
+    private String version;
+    private String group;
+    private boolean master;
+    private int weight;
+    private String zone;
+    private boolean deprecated;
+    private boolean routed;
+    private boolean selectable;
+    private boolean groupValid;
+    private BreakerSnapshot breaker;
+    private int consecutiveFailures;
+
+    public String getAddress() {
+      return address;
+    }
+
+    public void setAddress(String address) {
+      this.address = address;
+    }
+
+    public String getVersion() {
+      return version;
+    }
+
+    public void setVersion(String version) {
+      this.version = version;
+    }
+
+    public String getGroup() {
+      return group;
+    }
+
+    public void setGroup(String group) {
+      this.group = group;
+    }
+
+    public boolean getMaster() {
+      return master;
+    }
+
+    public void setMaster(boolean master) {
+      this.master = master;
+    }
+
+    public int getWeight() {
+      return weight;
+    }
+
+    public void setWeight(int weight) {
+      this.weight = weight;
+    }
+
+    public String getZone() {
+      return zone;
+    }
+
+    public void setZone(String zone) {
+      this.zone = zone;
+    }
+
+    public boolean isDeprecated() {
+      return deprecated;
+    }
+
+    public void setDeprecated(boolean deprecated) {
+      this.deprecated = deprecated;
+    }
+
+    /**
+     * 经过版本、分组、主备、黑白名单筛选后是否仍然保留
+     */
+    public boolean isRouted() {
+      return routed;
+    }
+
+    public void setRouted(boolean routed) {
+      this.routed = routed;
+    }
+
+    /**
+     * 是否在负载均衡的备选列表中
+     */
+    public boolean isSelectable() {
+      return selectable;
+    }
+
+    public void setSelectable(boolean selectable) {
+      this.selectable = selectable;
+    }
+
+    public boolean isGroupValid() {
+      return groupValid;
+    }
+
+    public void setGroupValid(boolean groupValid) {
+      this.groupValid = groupValid;
+    }
+
+    /**
+     * 客户端没有注册到注册中心时为null
+     */
+    public BreakerSnapshot getBreaker() {
+      return breaker;
+    }
+
+    public void setBreaker(BreakerSnapshot breaker) {
+      this.breaker = breaker;
+    }
+
+    public int getConsecutiveFailures() {
+      return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(int consecutiveFailures) {
+      this.consecutiveFailures = consecutiveFailures;
+    }
+  }
+
+  /**
+   * 客户端对一个服务提供者的熔断状态
+   */
+  public static final class BreakerSnapshot {
+    private final String state;
+    private final long total;
+    private final long failed;
+    private final long openTimeMillis;
+
+    /**
+     * @param state closed/breaker/half-breaker
+     * @param total 当前统计周期内的总请求次数
+     * @param failed 当前统计周期内的失败次数
+     * @param openTimeMillis 打开熔断器的时间，未打开时为0
+     */
+    public BreakerSnapshot(String state, long total, long failed, long openTimeMillis) {
+      this.state = state;
+      this.total = total;
+      this.failed = failed;
+      this.openTimeMillis = openTimeMillis;
+    }
+
+    public String getState() {
+      return state;
+    }
+
+    public long getTotal() {
+      return total;
+    }
+
+    public long getFailed() {
+      return failed;
+    }
+
+    public long getOpenTimeMillis() {
+      return openTimeMillis;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.constant.RegistryConstants;
+import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.consumer.HedgingUtils;
+import com.orientsec.grpc.consumer.model.HedgingConfig;
+import com.orientsec.grpc.registry.common.Constants;
+import com.orientsec.grpc.registry.common.URL;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static com.orientsec.grpc.common.util.LoadBalanceUtil.EMPTY_METHOD;
+
+/**
+ * 监听对冲请求参数
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class HedgingHandler {
+
+  private static final Logger logger = Logger.getLogger(HedgingHandler.class.getName());
+
+  // 最大请求次数
+  private static final String MAX_ATTEMPTS_KEY = GlobalConstants.Consumer.Key.HEDGING_MAX_ATTEMPTS_FOR_LISTENER;
+
+  // 延时
+  private static final String DELAY_KEY = GlobalConstants.Consumer.Key.HEDGING_DELAY_FOR_LISTENER;
+
+  private static final String METHOD = GlobalConstants.Consumer.Key.METHOD;
+
+  private ZookeeperNameResolver zkNameResolver;
+
+  public HedgingHandler(ZookeeperNameResolver zkNameResolver) {
+    this.zkNameResolver = zkNameResolver;
+  }
+
+  public void notify(List<URL> urls) {
+    if (!HedgingUtils.isEnabled()) {
+      return;
+    }
+
+    List<URL> filteredUrls = filterUrls(urls);
+
+    boolean isEmpty = false;
+    if (filteredUrls.isEmpty()) {
+      isEmpty = true;
+    } else if (filteredUrls.size() == 1 && Constants.EMPTY_PROTOCOL.equals(filteredUrls.get(0).getProtocol())) {
+      isEmpty = true;
+    }
+
+    if (isEmpty) {
+      zkNameResolver.setHedgingConfigMap(null);
+      return;
+    }
+
+    Map<String, HedgingConfig> newHedgingConfigMap = new HashMap<>();
+
+    for (URL url : filteredUrls) {
+      String method = url.getParameter(METHOD);
+      String maxAttempts = url.getParameter(MAX_ATTEMPTS_KEY);
+      String delay = url.getParameter(DELAY_KEY);
+
+      HedgingConfig config = HedgingUtils.parseHedgingConfig(maxAttempts, delay);
+      if (config == null) {
+        logger.warning("对冲请求参数不合法，忽略该配置：" + url.toFullString());
+        continue;
+      }
+
+      if (StringUtils.isEmpty(method)) {     //服务级的参数
+        newHedgingConfigMap.put(EMPTY_METHOD, config);
+      } else {                  //方法级的参数
+        newHedgingConfigMap.put(method, config);
+      }
+    }
+
+    zkNameResolver.setHedgingConfigMap(newHedgingConfigMap.isEmpty() ? null : newHedgingConfigMap);
+  }
+
+  private List<URL> filterUrls(List<URL> urls) {
+    List<URL> filteredUrls = new ArrayList<>(urls.size());
+    String consumerIP = zkNameResolver.getConsumerIP();
+
+    String protocol, urlIp;
+    int urlPort;
+
+    for (URL url : urls) {
+      if (url == null) {
+        continue;
+      }
+
+      if (Constants.EMPTY_PROTOCOL.equals(url.getProtocol())) {
+        // 对于节点删除的情况也要进行处理
+      } else {
+        // 目前只对override操作做监听
+        protocol = url.getProtocol();
+        if (!RegistryConstants.OVERRIDE_PROTOCOL.equals(protocol)) {
+          continue;
+        }
+
+        // 检验IP地址
+        urlIp = url.getIp();
+        if (StringUtils.isEmpty(urlIp)) {
+          continue;
+        }
+        if (!RegistryConstants.ANYHOST_VALUE.equals(urlIp) && !consumerIP.equals(urlIp)) {
+          continue;
+        }
+
+        // 校验端口号
+        urlPort = url.getPort();
+        if (urlPort != 0) {
+          continue;
+        }
+
+        // 是否为当前类处理的参数值
+        if (!url.getParameters().containsKey(MAX_ATTEMPTS_KEY) && !url.getParameters().containsKey(DELAY_KEY)) {
+          continue;
+        }
+      }
+
+      filteredUrls.add(url);
+    }
+
+    return filteredUrls;
+  }
+}
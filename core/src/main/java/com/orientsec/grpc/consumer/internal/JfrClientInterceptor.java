@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.common.metrics.JfrEventBridge;
+import com.orientsec.grpc.common.metrics.NebulaJfrEvents;
+import com.orientsec.grpc.common.util.Networks;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.net.SocketAddress;
+
+/**
+ * 有正在进行的JFR录制时，为客户端的每次调用尝试输出nebula.Call事件
+ * <p>
+ * 位于失败重试之内，每次尝试分别输出一个事件；没有录制时只读取一个volatile变量。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class JfrClientInterceptor implements ClientInterceptor {
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+          MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    if (!NebulaJfrEvents.isRecording()) {
+      return next.newCall(method, callOptions);
+    }
+    return new JfrClientCall<ReqT, RespT>(next.newCall(method, callOptions),
+        method.getFullMethodName());
+  }
+
+  private static final class JfrClientCall<ReqT, RespT>
+          extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+    private final String fullMethodName;
+
+    JfrClientCall(ClientCall<ReqT, RespT> delegate, String fullMethodName) {
+      super(delegate);
+      this.fullMethodName = fullMethodName;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      final JfrEventBridge.Event event = NebulaJfrEvents.beginCall();
+      if (event == null) {
+        super.start(responseListener, headers);
+        return;
+      }
+      super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+          commit(event, status);
+          super.onClose(status, trailers);
+        }
+      }, headers);
+    }
+
+    private void commit(JfrEventBridge.Event event, Status status) {
+      int index = fullMethodName.lastIndexOf('/');
+      String service = (index < 0) ? "" : fullMethodName.substring(0, index);
+      String method = fullMethodName.substring(index + 1);
+      SocketAddress address = getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+      String provider = (address == null) ? "" : Networks.getHostAndPort(address);
+      NebulaJfrEvents.commitCall(event, service, method, provider, status.getCode().name());
+    }
+  }
+}
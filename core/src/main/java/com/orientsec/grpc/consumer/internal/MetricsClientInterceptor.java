@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.common.metrics.MethodMetrics;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+
+/**
+ * 客户端按(服务, 方法, 服务提供者)记录调用耗时、状态码和正在进行的调用数
+ * <p>
+ * 位于失败重试之内，每次尝试分别记录到实际调用的服务提供者上。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class MetricsClientInterceptor implements ClientInterceptor {
+  private static final Logger logger = LoggerFactory.getLogger(MetricsClientInterceptor.class);
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+          MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    MethodMetrics metrics = NebulaMetrics.client(method.getFullMethodName());
+    return new MetricsClientCall<ReqT, RespT>(next.newCall(method, callOptions), metrics);
+  }
+
+  private static final class MetricsClientCall<ReqT, RespT>
+          extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+    private final MethodMetrics metrics;
+
+    MetricsClientCall(ClientCall<ReqT, RespT> delegate, MethodMetrics metrics) {
+      super(delegate);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      final long startNanos = System.nanoTime();
+      metrics.callStarted();
+      try {
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            metrics.callEnded();
+            try {
+              record(System.nanoTime() - startNanos, status);
+            } catch (RuntimeException e) {
+              logger.debug("记录调用统计出错", e);
+            }
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      } catch (RuntimeException e) {
+        metrics.callEnded();
+        throw e;
+      }
+    }
+
+    private void record(long elapsedNanos, Status status) {
+      SocketAddress address = getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+      metrics.getProviderCalls(address).record(elapsedNanos, status.getCode().value());
+    }
+  }
+}
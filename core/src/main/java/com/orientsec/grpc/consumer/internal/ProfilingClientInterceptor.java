@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.consumer.CallProfile;
+import com.orientsec.grpc.consumer.CallProfiler;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 客户端调用剖析拦截器
+ * <p>
+ * 对采样的调用在CallOptions中放入{@link CallProfile}，调用结束时汇总各个阶段的耗时；
+ * 位于容错拦截器之外，失败重试的每次尝试都记录到同一个CallProfile上。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class ProfilingClientInterceptor implements ClientInterceptor {
+  private static final Logger logger = LoggerFactory.getLogger(ProfilingClientInterceptor.class);
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+          MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    CallProfile profile = CallProfiler.newProfile(method.getFullMethodName());
+    if (profile == null) {
+      return next.newCall(method, callOptions);
+    }
+    CallOptions profiledOptions = callOptions.withOption(CallProfiler.CALL_PROFILE_KEY, profile);
+    return new ProfilingClientCall<ReqT, RespT>(next.newCall(method, profiledOptions), profile);
+  }
+
+  private static final class ProfilingClientCall<ReqT, RespT>
+          extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+    private final CallProfile profile;
+
+    ProfilingClientCall(ClientCall<ReqT, RespT> delegate, CallProfile profile) {
+      super(delegate);
+      this.profile = profile;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+          try {
+            CallProfiler.finish(profile, status);
+          } catch (RuntimeException e) {
+            logger.debug("汇总调用剖析数据出错", e);
+          }
+          super.onClose(status, trailers);
+        }
+      }, headers);
+    }
+  }
+}
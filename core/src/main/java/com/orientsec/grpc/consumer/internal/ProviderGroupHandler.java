@@ -34,6 +34,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 监听服务提供者group参数的变化
@@ -184,8 +185,9 @@ public class ProviderGroupHandler {
 
     if (isUpdate) {
       // 主动触发客户端重新更新服务端列表，并重新选择服务提供者
-      Object lock = zkNameResolver.getLock();
-      synchronized (lock) {
+      Lock lock = zkNameResolver.getProviderLock();
+      lock.lock();
+      try {
         zkNameResolver.getAllByName(serviceName);
         try {
           logger.info("重选服务提供者");
@@ -193,6 +195,8 @@ public class ProviderGroupHandler {
         } catch (Throwable t) {
           logger.error("重选服务提供者出错", t);
         }
+      } finally {
+        lock.unlock();
       }
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.util.GrpcUtils;
+import com.orientsec.grpc.common.util.Networks;
+import com.orientsec.grpc.consumer.lb.ProviderLoadFeedback;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+
+/**
+ * 读取服务端在响应trailers中上报的负载信息，供加权轮询计算动态权重
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class ProviderLoadClientInterceptor implements ClientInterceptor {
+  private static final Logger logger = LoggerFactory.getLogger(ProviderLoadClientInterceptor.class);
+
+  static final Metadata.Key<String> LOAD_REPORT_KEY =
+          Metadata.Key.of(GlobalConstants.LOAD_REPORT_METADATA_KEY, Metadata.ASCII_STRING_MARSHALLER);
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+          MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    String interfaceName = GrpcUtils.getInterfaceNameByFullMethodName(method.getFullMethodName());
+    return new LoadReportClientCall<ReqT, RespT>(next.newCall(method, callOptions), interfaceName);
+  }
+
+  private static final class LoadReportClientCall<ReqT, RespT>
+          extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+    private final String interfaceName;
+
+    LoadReportClientCall(ClientCall<ReqT, RespT> delegate, String interfaceName) {
+      super(delegate);
+      this.interfaceName = interfaceName;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+          try {
+            recordLoad(trailers);
+          } catch (RuntimeException e) {
+            logger.debug("记录服务端负载出错", e);
+          }
+          super.onClose(status, trailers);
+        }
+      }, headers);
+    }
+
+    private void recordLoad(Metadata trailers) {
+      if (trailers == null) {
+        return;
+      }
+
+      String loadReport = trailers.get(LOAD_REPORT_KEY);
+      if (loadReport == null) {
+        return;
+      }
+
+      SocketAddress address = getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+      if (address == null) {
+        return;
+      }
+
+      ProviderLoadFeedback.record(interfaceName, Networks.getHostAndPort(address), loadReport);
+    }
+  }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 监听服务提供者master参数的变化
@@ -200,8 +201,9 @@ public class ProviderMasterHandler {
 
     if (isUpdate && needReselect) {
       // 主动触发客户端重新更新服务端列表，并重新选择服务提供者
-      Object lock = zkNameResolver.getLock();
-      synchronized (lock) {
+      Lock lock = zkNameResolver.getProviderLock();
+      lock.lock();
+      try {
         zkNameResolver.getAllByName(serviceName);
         try {
           logger.info("重选服务提供者");
@@ -209,6 +211,8 @@ public class ProviderMasterHandler {
         } catch (Throwable t) {
           logger.error("重选服务提供者出错", t);
         }
+      } finally {
+        lock.unlock();
       }
     }
 
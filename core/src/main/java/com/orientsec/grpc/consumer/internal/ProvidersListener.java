@@ -18,6 +18,8 @@
 
 package com.orientsec.grpc.consumer.internal;
 
+import com.orientsec.grpc.common.metrics.JfrEventBridge;
+import com.orientsec.grpc.common.metrics.NebulaJfrEvents;
 import com.orientsec.grpc.common.util.MapUtils;
 import com.orientsec.grpc.consumer.model.ServiceProvider;
 import com.orientsec.grpc.consumer.watch.ConsumerListener;
@@ -30,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 客户端对服务提供者列表的监听
@@ -46,6 +49,7 @@ public class ProvidersListener extends AbstractListener implements ConsumerListe
 
   @Override
   public void notify(List<URL> urls) {
+    JfrEventBridge.Event event = NebulaJfrEvents.beginProvidersNotify();
     if (initData && !zookeeperNameResolver.isConnectionZkSuccess()) {
       zookeeperNameResolver.setConnectionZkSuccess(true);
       logger.info("检测到已经连接上zookeeper");
@@ -62,13 +66,15 @@ public class ProvidersListener extends AbstractListener implements ConsumerListe
 
     String serviceName = zookeeperNameResolver.getServiceName();
     logger.info("监听到{}客户端的服务器列表发生变化，当前服务端的个数为{}", serviceName, newSize);
+    zookeeperNameResolver.recordGovernanceEvent(GovernanceEvents.PROVIDERS, newProviders.keySet().toString());
 
     dealOfflineProviders(newProviders);
 
     Map<String, ServiceProvider> services = zookeeperNameResolver.getServiceProviderMap();
 
-    Object lock = zookeeperNameResolver.getLock();
-    synchronized (lock) {
+    Lock lock = zookeeperNameResolver.getProviderLock();
+    lock.lock();
+    try {
       if (services != null) {
         services.clear();
       } else {
@@ -79,12 +85,15 @@ public class ProvidersListener extends AbstractListener implements ConsumerListe
       // 服务列表变化后，重置providersForLoadBalance
       zookeeperNameResolver.setProvidersForLoadBalance(new ConcurrentHashMap<String, ServiceProvider>());
       zookeeperNameResolver.setProvidersForLoadBalanceFlag(0);
+    } finally {
+      lock.unlock();
     }
 
     // 为了支持zk不可用时客户端也能正常启动，这个地方判断initData的限制去掉
     zookeeperNameResolver.resolveServerInfoWithLock();
 
     initData = false;
+    NebulaJfrEvents.commitProvidersNotify(event, serviceName, newSize);
   }
 
   /**
@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 路由规则监听器
@@ -78,12 +79,16 @@ public class RoutersListener extends  AbstractListener implements ConsumerListen
     Collections.sort(routes);
     zookeeperNameResolver.getRoutes().clear();
     zookeeperNameResolver.setRoutes(routes);
+    zookeeperNameResolver.recordGovernanceEvent(GovernanceEvents.ROUTERS, routes.size() + " routers");
 
     // 只要路由规则发生变化，就需要更新服务端列表
     String serviceName = zookeeperNameResolver.getServiceName();
-    Object lock = getZookeeperNameResolver().getLock();
-    synchronized (lock) {
+    Lock lock = getZookeeperNameResolver().getProviderLock();
+    lock.lock();
+    try {
       zookeeperNameResolver.getAllByName(serviceName);
+    } finally {
+      lock.unlock();
     }
 
     // 路由规则变化后，重置providersForLoadBalance
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 监听客户端指定的服务端版本号
@@ -112,8 +113,9 @@ public class ServiceVersionHandler {
         String serviceName = zkNameResolver.getServiceName();
 
         // 重新选择服务提供者
-        Object lock = zkNameResolver.getLock();
-        synchronized (lock) {
+        Lock lock = zkNameResolver.getProviderLock();
+        lock.lock();
+        try {
           zkNameResolver.getAllByName(serviceName);
           try {
             logger.info("重选服务提供者");
@@ -121,6 +123,8 @@ public class ServiceVersionHandler {
           } catch (Throwable t) {
             logger.error("重选服务提供者出错", t);
           }
+        } finally {
+          lock.unlock();
         }
 
         if (needUpdate) {
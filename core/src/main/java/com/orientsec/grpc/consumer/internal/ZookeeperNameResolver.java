@@ -31,6 +31,8 @@ import com.orientsec.grpc.consumer.ConfiguratorsRegistry;
 import com.orientsec.grpc.consumer.ParameterRouterUtil;
 import com.orientsec.grpc.consumer.check.CheckDeprecatedService;
 import com.orientsec.grpc.consumer.core.ConsumerServiceRegistry;
+import com.orientsec.grpc.consumer.lb.ZoneAwareSelector;
+import com.orientsec.grpc.consumer.model.HedgingConfig;
 import com.orientsec.grpc.consumer.model.ServiceProvider;
 import com.orientsec.grpc.consumer.routers.ParameterRouter;
 import com.orientsec.grpc.consumer.routers.Router;
@@ -39,6 +41,7 @@ import com.orientsec.grpc.registry.common.utils.CollectionUtils;
 import com.orientsec.grpc.registry.common.utils.UrlUtils;
 import com.orientsec.grpc.registry.service.Consumer;
 import io.grpc.*;
+import io.grpc.internal.GrpcAttributes;
 import io.grpc.internal.SharedResourceHolder;
 import io.grpc.internal.SharedResourceHolder.Resource;
 import org.slf4j.Logger;
@@ -51,6 +54,8 @@ import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.orientsec.grpc.common.constant.GlobalConstants.LB_STRATEGY;
 
@@ -65,6 +70,13 @@ public class ZookeeperNameResolver extends NameResolver {
   /** 确定zkURL的定时任务时间间隔 */
   private static final long FIND_DELAY = 8;
 
+  // 保留的最近服务治理事件个数
+  private static final int GOVERNANCE_EVENT_CAPACITY = 64;
+
+  // 已经启动、尚未关闭的实例，供管理接口查看
+  private static final ConcurrentHashSet<ZookeeperNameResolver> activeResolvers =
+          new ConcurrentHashSet<>();
+
   private final String authority;
   private String serviceName;
   private final Resource<ScheduledExecutorService> timerServiceResource;
@@ -81,7 +93,10 @@ public class ZookeeperNameResolver extends NameResolver {
   private volatile Listener listener;
 
   private ConsumerServiceRegistry registry;
-  private Object lock = new Object();
+  // 使用显式锁代替synchronized，虚拟线程等待该锁时不会占住载体线程
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final GovernanceEvents governanceEvents = new GovernanceEvents(GOVERNANCE_EVENT_CAPACITY);
 
   private ProvidersListener providersListener = new ProvidersListener();
   private RoutersListener routersListener = new RoutersListener();
@@ -97,8 +112,14 @@ public class ZookeeperNameResolver extends NameResolver {
   private volatile int providersForLoadBalanceFlag = 0;
   private volatile int providersCountAfterLoadBalance = Integer.MAX_VALUE;// 经过负载均衡算法之后的服务提供者个数
 
+  // 区域(机房)优先的服务端选择器
+  private final ZoneAwareSelector zoneAwareSelector = new ZoneAwareSelector();
+
   private volatile Map<String, LB_STRATEGY> loadBlanceStrategyMap = null;
 
+  // 注册中心上配置的对冲请求参数，key为方法名(服务级的配置为*)
+  private volatile Map<String, HedgingConfig> hedgingConfigMap = null;
+
   private volatile List<Router> routes = new ArrayList<>();
   private volatile List<ParameterRouter> parameterRouters = new ArrayList<>();
   private Map<String, ServiceProvider> lastProviderMapAfterParamRoute = new HashMap<>();
@@ -449,6 +470,7 @@ public class ZookeeperNameResolver extends NameResolver {
     timerService = SharedResourceHolder.get(timerServiceResource);
     executor = SharedResourceHolder.get(executorResource);
     this.listener = Preconditions.checkNotNull(listener, "listener");
+    activeResolvers.add(this);
     resolve();
   }
 
@@ -615,13 +637,17 @@ public class ZookeeperNameResolver extends NameResolver {
     }
     providersForLoadBalanceFlag = 1;
     MapUtils.mapCopy(serviceProviderMap, providersForLoadBalance);
+    zoneAwareSelector.reset(providersForLoadBalance);
   }
 
   private final Runnable resolutionRunnable = new Runnable() {
     @Override
     public void run() {
-      synchronized (lock) {
+      lock.lock();
+      try {
         resolveServerFunWithLock();
+      } finally {
+        lock.unlock();
       }
     }
   };
@@ -664,8 +690,11 @@ public class ZookeeperNameResolver extends NameResolver {
       return;
     }
 
-    synchronized (lock) {
+    lock.lock();
+    try {
       resolveServerFunWithLock();
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -1057,6 +1086,7 @@ public class ZookeeperNameResolver extends NameResolver {
       return;
     }
     shutdown = true;
+    activeResolvers.remove(this);
     if (timerService != null) {
       timerService = SharedResourceHolder.release(timerServiceResource, timerService);
     }
@@ -1136,7 +1166,12 @@ public class ZookeeperNameResolver extends NameResolver {
     return consumerIP;
   }
 
-  public Object getLock() {
+  /**
+   * 保护服务端列表的锁，修改服务端列表、路由规则等之前需要先获取该锁
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  public Lock getProviderLock() {
     return lock;
   }
 
@@ -1213,6 +1248,28 @@ public class ZookeeperNameResolver extends NameResolver {
     this.loadBlanceStrategyMap = map;
   }
 
+  /**
+   * 获取注册中心上配置的对冲请求参数
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Override
+  public Map<String, HedgingConfig> getHedgingConfigMap() {
+    return hedgingConfigMap;
+  }
+
+  /**
+   * 设置注册中心上配置的对冲请求参数
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Override
+  public void setHedgingConfigMap(Map<String, HedgingConfig> map) {
+    this.hedgingConfigMap = map;
+  }
+
   /**
    * 计算当前服务的负载均衡策略集合
    *
@@ -1243,7 +1300,30 @@ public class ZookeeperNameResolver extends NameResolver {
 
     this.listener.setArgument(argument);
 
-    resolveServerFun(method);
+    resolveServerFun(method, null);
+  }
+
+  /**
+   * 不带锁的服务器地址信息解析方法，排除已经调用过的服务端
+   * <p>
+   * 对冲请求需要发送到与之前的请求不同的服务端；排除之后没有可用的服务端时，按正常的负载均衡选择。
+   * </p>
+   *
+   * @param excludedProviders 需要排除的服务端(IP:port)
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Override
+  public void resolveServerInfo(Object argument, String method, Set<String> excludedProviders) {
+    // listener不能为空
+    if (listener == null) {
+      logger.info("listener is null, skip.");
+      return;
+    }
+
+    this.listener.setArgument(argument);
+
+    resolveServerFun(method, excludedProviders);
   }
 
   /**
@@ -1253,7 +1333,7 @@ public class ZookeeperNameResolver extends NameResolver {
    * @Author yuanzhonglin
    * @since 2019/4/17
    */
-  private void resolveServerFun(String method) {
+  private void resolveServerFun(String method, Set<String> excludedProviders) {
     if (shutdown) {
       return;
     }
@@ -1275,7 +1355,11 @@ public class ZookeeperNameResolver extends NameResolver {
       }
 
       generateProvidersForLB();// 不需要每次请求时都调用路由规则过滤服务端列表
-      loadBalancer(method);
+      if (excludedProviders == null || excludedProviders.isEmpty()) {
+        loadBalancer(method);
+      } else {
+        loadBalancerExcluding(method, excludedProviders);
+      }
 
       if (serviceProviderMap != null) {
         providersCountAfterLoadBalance = serviceProviderMap.size();
@@ -1319,12 +1403,16 @@ public class ZookeeperNameResolver extends NameResolver {
     List<EquivalentAddressGroup> servers = new ArrayList<>();
     InetAddress inetAddr;
     InetSocketAddress inetSocketAddr;
+    int connections = 0;
 
     for (Map.Entry<String, ServiceProvider> entry : serviceProviderMap.entrySet()) {
       try {
         inetAddr = InetAddress.getByName(entry.getValue().getHost());
         inetSocketAddr = new InetSocketAddress(inetAddr, entry.getValue().getPort());
         servers.add(new EquivalentAddressGroup(inetSocketAddr));
+        if (servers.size() == 1) {
+          connections = entry.getValue().getConnections();
+        }
       } catch (UnknownHostException e) {
         logger.error("解析服务提供者IP地址出错", e);
         // 应用过滤器之后，这里只剩下一个服务提供者了，所以出错后直接返回
@@ -1333,7 +1421,15 @@ public class ZookeeperNameResolver extends NameResolver {
       }
     }
 
-    savedListener.onAddresses(servers, Attributes.EMPTY);
+    // 服务提供者配置的连接数限制了客户端到该服务提供者的最大连接数
+    Attributes attributes = Attributes.EMPTY;
+    if (connections > 0) {
+      attributes = Attributes.newBuilder()
+          .set(GrpcAttributes.ATTR_PROVIDER_CONNECTIONS, connections)
+          .build();
+    }
+
+    savedListener.onAddresses(servers, attributes);
   }
 
   /**
@@ -1343,15 +1439,56 @@ public class ZookeeperNameResolver extends NameResolver {
    * @since 2019/4/17
    */
   private void loadBalancer(String method) {
-    loadBalancer(method, providersForLoadBalance);
+    // 配置了客户端所在的区域时，优先选择同区域的服务端
+    loadBalancer(method, zoneAwareSelector.select(serviceName, providersForLoadBalance));
   }
 
   private void loadBalancer(String method, Map<String, ServiceProvider> providerMap) {
+    loadBalancer(method, providerMap, false);
+  }
+
+  /**
+   * 排除已经调用过的服务端后，根据负载策略选择一台服务器
+   * <p>
+   * 优先在同区域中选择其他的服务端，同区域没有其他服务端时再从所有区域中选择
+   * </p>
+   */
+  private void loadBalancerExcluding(String method, Set<String> excludedProviders) {
+    Map<String, ServiceProvider> providerMap = zoneAwareSelector.select(serviceName, providersForLoadBalance);
+
+    Map<String, ServiceProvider> remains = excludeProviders(providerMap, excludedProviders);
+    if (remains.isEmpty() && providerMap != providersForLoadBalance) {
+      remains = excludeProviders(providersForLoadBalance, excludedProviders);
+    }
+
+    if (remains.isEmpty()) {
+      loadBalancer(method, providerMap, false);
+    } else {
+      loadBalancer(method, remains, true);
+    }
+  }
+
+  private Map<String, ServiceProvider> excludeProviders(Map<String, ServiceProvider> providerMap,
+                                                        Set<String> excludedProviders) {
+    Map<String, ServiceProvider> remains = new HashMap<>(MapUtils.capacity(providerMap.size()));
+    for (Map.Entry<String, ServiceProvider> entry : providerMap.entrySet()) {
+      if (!excludedProviders.contains(entry.getKey())) {
+        remains.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return remains;
+  }
+
+  private void loadBalancer(String method, Map<String, ServiceProvider> providerMap, boolean excluded) {
     Preconditions.checkNotNull(providerMap, "providersForLoadBalance");
 
     Object argument = this.listener.getArgument();
 
     LB_STRATEGY lb = LoadBalanceUtil.getLoadBalanceStrategy(loadBlanceStrategyMap, method);
+    if (excluded && lb == LB_STRATEGY.WEIGHT_ROUND_ROBIN) {
+      // 排除部分服务端后的列表只用于本次选择，使用轮询避免重建全局的加权轮询对象
+      lb = LB_STRATEGY.ROUND_ROBIN;
+    }
 
     // loadBlanceStrategy已经计算好了，直接拿过来使用
     serviceProviderMap = LoadBalancerFactory.getServiceProviderByLbStrategy(
@@ -1387,6 +1524,8 @@ public class ZookeeperNameResolver extends NameResolver {
       // 使用参数路由过滤
       Map<String, ServiceProvider> providersAfterParamRoute = ParameterRouterUtil
           .filterByParameterAndRule(providersForLoadBalance, parameterRouters, parameters, consumerUrl);
+      providersAfterParamRoute = zoneAwareSelector.select(serviceName, providersForLoadBalance,
+          providersAfterParamRoute);
 
       if (LoadBalanceMode.connection.name().equals(LoadBalanceUtil.getLoadBalanceMode(this, method))) {
         // 连接负载均衡模式下，如果本次的结果与上次相同，则不再重新负载均衡、解析
@@ -1426,6 +1565,31 @@ public class ZookeeperNameResolver extends NameResolver {
     listener.removeInvalidCacheSubchannels(removeHostPorts);
   }
 
+  /**
+   * 记录一个服务治理事件
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Override
+  public void recordGovernanceEvent(String type, String detail) {
+    governanceEvents.record(type, detail);
+  }
+
+  public GovernanceEvents getGovernanceEvents() {
+    return governanceEvents;
+  }
+
+  /**
+   * 获取已经启动、尚未关闭的实例
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static Collection<ZookeeperNameResolver> getActiveResolvers() {
+    return new ArrayList<>(activeResolvers);
+  }
+
   public boolean isConnectionZkSuccess() {
     return isConnectionZkSuccess;
   }
@@ -19,14 +19,13 @@ package com.orientsec.grpc.consumer.routers;
 
 import com.googlecode.aviator.AviatorEvaluatorInstance;
 import com.googlecode.aviator.Expression;
+import com.orientsec.grpc.common.util.GovernanceLogger;
 import com.orientsec.grpc.common.util.StringUtils;
 import com.orientsec.grpc.consumer.ParameterRouterUtil;
 import com.orientsec.grpc.consumer.model.ServiceProvider;
 import com.orientsec.grpc.registry.common.Constants;
 import com.orientsec.grpc.registry.common.URL;
 import com.orientsec.grpc.registry.exception.RpcException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.*;
 
@@ -45,7 +44,7 @@ import java.util.*;
  */
 public class ParameterRouter implements Router {
 
-  private static final Logger logger = LoggerFactory.getLogger(ParameterRouter.class);
+  private static final GovernanceLogger logger = GovernanceLogger.getLogger(ParameterRouter.class);
 
   private static final Boolean EXPRESSION_CACHED = true;
 
@@ -108,7 +107,7 @@ public class ParameterRouter implements Router {
       return providers;
     }
 
-    logger.info(message);
+    logger.info(rule, message);
     if (StringUtils.isEmpty(target)) {
       // 如果规则与参数匹配且target为空，则不允许其访问任何服务端实例
       return Collections.emptyMap();
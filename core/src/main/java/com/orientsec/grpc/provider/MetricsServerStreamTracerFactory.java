@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider;
+
+import com.orientsec.grpc.common.metrics.MethodMetrics;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import io.grpc.Metadata;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+
+/**
+ * 服务端按(服务, 方法)记录调用耗时、状态码和正在进行的调用数
+ * <p>
+ * 耗时从stream创建开始计算，包括在业务线程池中排队的时间。
+ * 不存在的方法(UNIMPLEMENTED)不记录，避免客户端随意构造的方法名产生大量统计项。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class MetricsServerStreamTracerFactory extends ServerStreamTracer.Factory {
+  @Override
+  public ServerStreamTracer newServerStreamTracer(String fullMethodName, Metadata headers) {
+    return new MetricsServerStreamTracer(fullMethodName);
+  }
+
+  private static final class MetricsServerStreamTracer extends ServerStreamTracer {
+    private final String fullMethodName;
+    private final long startNanos = System.nanoTime();
+
+    // 只在serverCallStarted之后赋值，streamClosed在其之后调用
+    private volatile MethodMetrics startedMetrics;
+
+    MetricsServerStreamTracer(String fullMethodName) {
+      this.fullMethodName = fullMethodName;
+    }
+
+    @Override
+    public void serverCallStarted(ServerCallInfo<?, ?> callInfo) {
+      MethodMetrics metrics = NebulaMetrics.server(fullMethodName);
+      metrics.callStarted();
+      startedMetrics = metrics;
+    }
+
+    @Override
+    public void streamClosed(Status status) {
+      long elapsedNanos = System.nanoTime() - startNanos;
+      MethodMetrics metrics = startedMetrics;
+      if (metrics != null) {
+        metrics.callEnded();
+      } else if (status.getCode() == Status.Code.UNIMPLEMENTED) {
+        return;
+      } else {
+        // 在分发到业务线程池之前被拒绝的调用，例如舱壁已满、剩余时间不足
+        metrics = NebulaMetrics.server(fullMethodName);
+      }
+      metrics.getCalls().record(elapsedNanos, status.getCode().value());
+    }
+  }
+}
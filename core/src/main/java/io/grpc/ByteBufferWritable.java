@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc;
+
+import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
+
+/**
+ * 可以直接写入传输层缓冲区的{@link java.io.OutputStream}
+ * <p>
+ * {@link Drainable#drainTo}的目标stream实现了该接口时，已知序列化长度的消息可以直接序列化到
+ * 传输层的缓冲区(例如Netty的direct ByteBuf)中，不需要经过中间的字节数组。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface ByteBufferWritable {
+
+  /**
+   * 返回一个position为0、limit为length的ByteBuffer，写入其中的数据直接发送给传输层；不支持时返回null
+   * <p>
+   * 调用者必须恰好写入length个字节，然后调用{@link #commitByteBuffer}，期间不能再写入当前stream。
+   * </p>
+   *
+   * @param length 要写入的字节数
+   */
+  @Nullable
+  ByteBuffer getWritableByteBuffer(int length);
+
+  /**
+   * 确认{@link #getWritableByteBuffer}返回的ByteBuffer中已经写入了length个字节
+   */
+  void commitByteBuffer(int length);
+}
@@ -280,4 +280,18 @@ public abstract class ClientCall<ReqT, RespT> {
   public String getFullMethod(){
     return "";
   }
+
+  /**
+   * 返回当前调用接收响应消息使用的对象池，方法没有启用消息对象池时返回null
+   * <p>
+   * 应用处理完{@link Listener#onMessage}收到的消息后，可以把消息归还到该池中，后续的响应消息会复用这些对象。
+   * </p>
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Nullable
+  public MessagePool<RespT> getResponsePool() {
+    return null;
+  }
 }
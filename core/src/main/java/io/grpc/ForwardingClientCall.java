@@ -37,6 +37,11 @@ public abstract class ForwardingClientCall<ReqT, RespT>
     delegate().sendMessage(message);
   }
 
+  @Override
+  public MessagePool<RespT> getResponsePool() {
+    return delegate().getResponsePool();
+  }
+
   /**
    * A simplified version of {@link ForwardingClientCall} where subclasses can pass in a {@link
    * ClientCall} as the delegate.
@@ -32,6 +32,11 @@ public abstract class ForwardingServerCall<ReqT, RespT>
     delegate().sendMessage(message);
   }
 
+  @Override
+  public MessagePool<ReqT> getRequestPool() {
+    return delegate().getRequestPool();
+  }
+
   /**
    * A simplified version of {@link ForwardingServerCall} where subclasses can pass in a {@link
    * ServerCall} as the delegate.
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc;
+
+import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
+
+/**
+ * 可以不复制数据、直接以{@link ByteBuffer}的形式读取全部内容的{@link java.io.InputStream}
+ * <p>
+ * 传输层收到的消息位于一块连续的内存中时，marshaller可以直接在该内存上解析消息，
+ * 而不需要先把数据复制到字节数组中。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface HasByteBuffer {
+
+  /**
+   * 以一个{@link ByteBuffer}返回所有可读的字节，可读字节不在一块连续的内存中时返回null
+   * <p>
+   * 返回的ByteBuffer与当前stream共享内存，读取返回的ByteBuffer不会改变当前stream的读位置；
+   * 当前stream关闭以后，返回的ByteBuffer不能再使用，除非{@link #isByteBufferAliasable}返回true。
+   * </p>
+   */
+  @Nullable
+  ByteBuffer getByteBuffer();
+
+  /**
+   * {@link #getByteBuffer}返回的内存在当前stream关闭以后是否仍然有效且不会被复用，
+   * 返回true时解析出的消息可以直接引用该内存(例如protobuf的bytes字段)
+   */
+  boolean isByteBufferAliasable();
+}
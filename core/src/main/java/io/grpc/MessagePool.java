@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * 一个stream内复用的消息对象池
+ * <p>
+ * 方法通过{@link MethodDescriptor.Builder#setMessagePoolSize(int)}启用对象池、
+ * 并且对应的marshaller实现了{@link MethodDescriptor.ReusableMarshaller}时，每个stream持有自己的对象池：
+ * 接收消息时从池中取出一个对象交给marshaller填充，应用处理完消息后调用{@link #release}归还。
+ * 池为空时返回null，调用方按照未启用对象池的方式新建对象，因此应用不归还对象也不影响正确性。
+ * </p>
+ * <p>
+ * 对象池的容量很小（一般为stream上同时在处理的消息个数），使用数组实现，借出和归还都不分配内存。
+ * 应用可以在其他线程中归还对象，因此所有操作都加锁，同一个stream上的锁基本没有竞争。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@ThreadSafe
+public final class MessagePool<T> {
+  private final Object[] elements;
+  private int size;
+
+  /**
+   * @param capacity 池中最多缓存的空闲对象个数
+   */
+  public MessagePool(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    elements = new Object[capacity];
+  }
+
+  /**
+   * 借出一个空闲对象，池为空时返回null
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public synchronized T borrow() {
+    if (size == 0) {
+      return null;
+    }
+    T element = (T) elements[--size];
+    elements[size] = null;
+    return element;
+  }
+
+  /**
+   * 归还一个对象，池已满时丢弃该对象
+   * <p>
+   * 归还后调用方不能再访问该对象，也不能重复归还同一个对象。
+   * </p>
+   *
+   * @return 对象是否放回了池中
+   */
+  public synchronized boolean release(T element) {
+    Preconditions.checkNotNull(element, "element");
+    if (size == elements.length) {
+      return false;
+    }
+    elements[size++] = element;
+    return true;
+  }
+
+  /**
+   * 池中空闲对象的个数
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * 池中最多缓存的空闲对象个数
+   */
+  public int capacity() {
+    return elements.length;
+  }
+}
@@ -47,6 +47,7 @@ public final class MethodDescriptor<ReqT, RespT> {
   private final boolean idempotent;
   private final boolean safe;
   private final boolean sampledToLocalTracing;
+  private final int messagePoolSize;
 
   // Must be set to InternalKnownTransport.values().length
   // Not referenced to break the dependency.
@@ -196,6 +197,44 @@ public final class MethodDescriptor<ReqT, RespT> {
     public T getMessagePrototype();
   }
 
+  /**
+   * 可以把消息解析到一个已有对象中的marshaller，用于在高频的stream上复用消息对象
+   * <p>
+   * 只有方法通过{@link Builder#setMessagePoolSize(int)}启用了对象池时才会调用
+   * {@link #parse(InputStream, Object)}，复用的对象来自当前stream的{@link MessagePool}。
+   * </p>
+   * <p>
+   * 发送端通过{@code CallStreamObserver.borrowMessage()}借出的对象在sendMessage返回后就会归还到池中，
+   * 发送端使用对象池时{@link #stream(Object)}返回的InputStream不能再引用value（需要在stream方法中完成序列化或者复制）。
+   * </p>
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public interface ReusableMarshaller<T> extends Marshaller<T> {
+    /**
+     * 把stream中的消息解析到reuse中并返回reuse；reuse为null时新建一个对象
+     * <p>
+     * reuse中原有的内容需要全部被覆盖或者清除，不能残留上一条消息的字段。
+     * </p>
+     *
+     * @param stream 序列化的消息
+     * @param reuse 可以复用的对象
+     * @return 解析后的消息
+     */
+    public T parse(InputStream stream, @Nullable T reuse);
+
+    /**
+     * 新建一个空的消息对象
+     * <p>
+     * 发送端的对象池为空时，{@code borrowMessage()}通过本方法新建对象，发送后该对象归还到池中。
+     * </p>
+     *
+     * @return 新的消息对象
+     */
+    public T newInstance();
+  }
+
   /**
    * Creates a new {@code MethodDescriptor}.
    *
@@ -212,7 +251,7 @@ public final class MethodDescriptor<ReqT, RespT> {
       Marshaller<RequestT> requestMarshaller,
       Marshaller<ResponseT> responseMarshaller) {
     return new MethodDescriptor<RequestT, ResponseT>(
-        type, fullMethodName, requestMarshaller, responseMarshaller, null, false, false, false);
+        type, fullMethodName, requestMarshaller, responseMarshaller, null, false, false, false, 0);
   }
 
   private MethodDescriptor(
@@ -223,7 +262,8 @@ public final class MethodDescriptor<ReqT, RespT> {
       Object schemaDescriptor,
       boolean idempotent,
       boolean safe,
-      boolean sampledToLocalTracing) {
+      boolean sampledToLocalTracing,
+      int messagePoolSize) {
 
     this.type = Preconditions.checkNotNull(type, "type");
     this.fullMethodName = Preconditions.checkNotNull(fullMethodName, "fullMethodName");
@@ -235,6 +275,8 @@ public final class MethodDescriptor<ReqT, RespT> {
     this.sampledToLocalTracing = sampledToLocalTracing;
     Preconditions.checkArgument(!safe || type == MethodType.UNARY,
         "Only unary methods can be specified safe");
+    Preconditions.checkArgument(messagePoolSize >= 0, "messagePoolSize must be non-negative");
+    this.messagePoolSize = messagePoolSize;
   }
 
   /**
@@ -266,6 +308,20 @@ public final class MethodDescriptor<ReqT, RespT> {
     return responseMarshaller.parse(input);
   }
 
+  /**
+   * 把响应消息解析到可复用的对象中
+   *
+   * @param input 序列化的响应消息
+   * @param reuse 可以复用的对象，为null或者response marshaller不支持复用时新建对象
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  public RespT parseResponse(InputStream input, @Nullable RespT reuse) {
+    if (reuse != null && responseMarshaller instanceof ReusableMarshaller) {
+      return ((ReusableMarshaller<RespT>) responseMarshaller).parse(input, reuse);
+    }
+    return responseMarshaller.parse(input);
+  }
+
   /**
    * Convert a request message to an {@link InputStream}.
    * The returned InputStream should be closed by the caller.
@@ -289,6 +345,20 @@ public final class MethodDescriptor<ReqT, RespT> {
     return requestMarshaller.parse(input);
   }
 
+  /**
+   * 把请求消息解析到可复用的对象中
+   *
+   * @param input 序列化的请求消息
+   * @param reuse 可以复用的对象，为null或者request marshaller不支持复用时新建对象
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  public ReqT parseRequest(InputStream input, @Nullable ReqT reuse) {
+    if (reuse != null && requestMarshaller instanceof ReusableMarshaller) {
+      return ((ReusableMarshaller<ReqT>) requestMarshaller).parse(input, reuse);
+    }
+    return requestMarshaller.parse(input);
+  }
+
   /**
    * Serialize an outgoing response message.
    * The returned InputStream should be closed by the caller.
@@ -364,6 +434,41 @@ public final class MethodDescriptor<ReqT, RespT> {
     return sampledToLocalTracing;
   }
 
+  /**
+   * 每个stream上缓存的可复用消息对象个数，0表示不启用消息对象池
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  public int getMessagePoolSize() {
+    return messagePoolSize;
+  }
+
+  /**
+   * 为请求消息创建一个stream内使用的对象池；没有启用对象池或者request marshaller不支持复用时返回null
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Nullable
+  public MessagePool<ReqT> newRequestPool() {
+    if (messagePoolSize == 0 || !(requestMarshaller instanceof ReusableMarshaller)) {
+      return null;
+    }
+    return new MessagePool<ReqT>(messagePoolSize);
+  }
+
+  /**
+   * 为响应消息创建一个stream内使用的对象池；没有启用对象池或者response marshaller不支持复用时返回null
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Nullable
+  public MessagePool<RespT> newResponsePool() {
+    if (messagePoolSize == 0 || !(responseMarshaller instanceof ReusableMarshaller)) {
+      return null;
+    }
+    return new MessagePool<RespT>(messagePoolSize);
+  }
+
   /**
    * Generate the fully qualified method name.  This matches the the name
    *
@@ -442,6 +547,7 @@ public final class MethodDescriptor<ReqT, RespT> {
         .setIdempotent(idempotent)
         .setSafe(safe)
         .setSampledToLocalTracing(sampledToLocalTracing)
+        .setMessagePoolSize(messagePoolSize)
         .setSchemaDescriptor(schemaDescriptor);
   }
 
@@ -460,6 +566,7 @@ public final class MethodDescriptor<ReqT, RespT> {
     private boolean safe;
     private Object schemaDescriptor;
     private boolean sampledToLocalTracing;
+    private int messagePoolSize;
 
     private Builder() {}
 
@@ -557,6 +664,19 @@ public final class MethodDescriptor<ReqT, RespT> {
       return this;
     }
 
+    /**
+     * 设置每个stream上缓存的可复用消息对象个数，0表示不启用消息对象池(缺省值)
+     * <p>
+     * 只对实现了{@link ReusableMarshaller}的marshaller生效，适用于消息频率很高的stream方法。
+     * </p>
+     *
+     * @since nebula-1.2.9 2026-10-19 add by sxp
+     */
+    public Builder<ReqT, RespT> setMessagePoolSize(int messagePoolSize) {
+      this.messagePoolSize = messagePoolSize;
+      return this;
+    }
+
     /**
      * Builds the method descriptor.
      *
@@ -572,7 +692,8 @@ public final class MethodDescriptor<ReqT, RespT> {
           schemaDescriptor,
           idempotent,
           safe,
-          sampledToLocalTracing);
+          sampledToLocalTracing,
+          messagePoolSize);
     }
   }
 
@@ -584,6 +705,7 @@ public final class MethodDescriptor<ReqT, RespT> {
       .add("idempotent", idempotent)
       .add("safe", safe)
       .add("sampledToLocalTracing", sampledToLocalTracing)
+      .add("messagePoolSize", messagePoolSize)
       .add("requestMarshaller", requestMarshaller)
       .add("responseMarshaller", responseMarshaller)
       .add("schemaDescriptor", schemaDescriptor)
@@ -19,6 +19,7 @@ package io.grpc;
 import com.orientsec.grpc.common.constant.GlobalConstants;
 import com.orientsec.grpc.consumer.core.ConsumerServiceRegistry;
 import com.orientsec.grpc.consumer.internal.ProvidersListener;
+import com.orientsec.grpc.consumer.model.HedgingConfig;
 import com.orientsec.grpc.consumer.model.ServiceProvider;
 import com.orientsec.grpc.registry.common.URL;
 
@@ -138,6 +139,17 @@ public abstract class NameResolver {
   public void resolveServerInfo(Object argument, String method) {
   }
 
+  /**
+   * 负载均衡重选服务器，排除已经调用过的服务端(用于对冲请求)
+   *
+   * @param excludedProviders 需要排除的服务端(IP:port)
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public void resolveServerInfo(Object argument, String method, Set<String> excludedProviders) {
+    resolveServerInfo(argument, method);
+  }
+
   /**
    * 获取客户端的注册地址ID
    *
@@ -235,6 +247,25 @@ public abstract class NameResolver {
   public void setLoadBlanceStrategyMap(Map<String, GlobalConstants.LB_STRATEGY> map) {
   }
 
+  /**
+   * 获取注册中心上配置的对冲请求参数
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public Map<String, HedgingConfig> getHedgingConfigMap() {
+    return null;
+  }
+
+  /**
+   * 设置注册中心上配置的对冲请求参数
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public void setHedgingConfigMap(Map<String, HedgingConfig> map) {
+  }
+
   /**
    * 给定的host:port是否在被过滤的服务器列表中
    *
@@ -292,6 +323,15 @@ public abstract class NameResolver {
   public void removeInvalidCacheSubchannels(Set<String> removeHostPorts) {
   }
 
+  /**
+   * 记录一个服务治理事件(熔断、连续出错切换等)，供管理接口查看
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public void recordGovernanceEvent(String type, String detail) {
+  }
+
   /**
    * Factory that creates {@link NameResolver} instances.
    *
@@ -16,6 +16,8 @@
 
 package io.grpc.internal;
 
+import java.nio.ByteBuffer;
+
 /**
  * Abstract base class for {@link ReadableBuffer} implementations.
  */
@@ -45,6 +47,16 @@ public abstract class AbstractReadableBuffer implements ReadableBuffer {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public ByteBuffer getByteBuffer() {
+    return null;
+  }
+
+  @Override
+  public boolean isByteBufferAliasable() {
+    return false;
+  }
+
   @Override
   public void close() {}
 
@@ -21,6 +21,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.ThreadUtils;
+import com.orientsec.grpc.provider.MetricsServerStreamTracerFactory;
 import io.grpc.BinaryLog;
 import io.grpc.BindableService;
 import io.grpc.CompressorRegistry;
@@ -42,8 +48,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The base class for server builders.
@@ -57,8 +66,31 @@ public abstract class AbstractServerImplBuilder<T extends AbstractServerImplBuil
     throw new UnsupportedOperationException("Subclass failed to hide static factory");
   }
 
+  private static final Logger logger = LoggerFactory.getLogger(AbstractServerImplBuilder.class);
+
+  /**
+   * 每个任务一个虚拟线程的执行器
+   */
+  private static final SharedResourceHolder.Resource<Executor> VIRTUAL_THREAD_EXECUTOR =
+      new SharedResourceHolder.Resource<Executor>() {
+        @Override
+        public Executor create() {
+          return ThreadUtils.newVirtualThreadPerTaskExecutor();
+        }
+
+        @Override
+        public void close(Executor instance) {
+          ((ExecutorService) instance).shutdown();
+        }
+
+        @Override
+        public String toString() {
+          return "grpc-virtual-thread-executor";
+        }
+      };
+
   private static final ObjectPool<? extends Executor> DEFAULT_EXECUTOR_POOL =
-      SharedResourcePool.forResource(GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+      initDefaultExecutorPool();
   private static final HandlerRegistry DEFAULT_FALLBACK_REGISTRY = new HandlerRegistry() {
       @Override
       public List<ServerServiceDefinition> getServices() {
@@ -117,6 +149,29 @@ public abstract class AbstractServerImplBuilder<T extends AbstractServerImplBuil
   protected InternalChannelz channelz = InternalChannelz.instance();
   protected CallTracer.Factory callTracerFactory = CallTracer.getDefaultFactory();
 
+  /**
+   * 初始化缺省的业务线程池
+   * <p>
+   * 启用虚拟线程并且当前JDK支持时，每个请求使用一个虚拟线程执行业务代码，否则使用共享的线程池。
+   * </p>
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  private static ObjectPool<? extends Executor> initDefaultExecutorPool() {
+    String key = GlobalConstants.Provider.Key.VIRTUAL_THREADS_ENABLED;
+    boolean enabled = PropertiesUtils.getValidBooleanValue(SystemConfig.getProperties(), key, false);
+    logger.info(key + " = " + enabled);
+
+    if (enabled) {
+      if (ThreadUtils.isVirtualThreadSupported()) {
+        return SharedResourcePool.forResource(VIRTUAL_THREAD_EXECUTOR);
+      }
+      logger.warn("当前JDK不支持虚拟线程，使用缺省的业务线程池");
+    }
+    return SharedResourcePool.forResource(GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+  }
+
   @Override
   public final T directExecutor() {
     return executor(MoreExecutors.directExecutor());
@@ -276,6 +331,9 @@ public abstract class AbstractServerImplBuilder<T extends AbstractServerImplBuil
               Tracing.getPropagationComponent().getBinaryFormat());
       tracerFactories.add(censusTracing.getServerTracerFactory());
     }
+    if (NebulaMetrics.isEnabled()) {
+      tracerFactories.add(new MetricsServerStreamTracerFactory());
+    }
     tracerFactories.addAll(streamTracerFactories);
     return tracerFactories;
   }
@@ -20,6 +20,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.orientsec.grpc.common.metrics.JfrEventBridge;
+import com.orientsec.grpc.common.metrics.NebulaJfrEvents;
 import io.grpc.Codec;
 import io.grpc.Compressor;
 import io.grpc.Decompressor;
@@ -131,6 +133,13 @@ public abstract class AbstractStream implements Stream {
      */
     @GuardedBy("onReadyLock")
     private boolean deallocated;
+    /**
+     * 有正在进行的JFR录制时，待发送的数据超过阈值期间的nebula.FlowControlStall事件
+     */
+    @GuardedBy("onReadyLock")
+    private JfrEventBridge.Event stallEvent;
+    @GuardedBy("onReadyLock")
+    private int stallQueuedBytes;
 
     protected TransportState(
         int maxMessageSize,
@@ -258,7 +267,12 @@ public abstract class AbstractStream implements Stream {
      */
     private void onSendingBytes(int numBytes) {
       synchronized (onReadyLock) {
+        boolean belowThresholdBefore = numSentBytesQueued < DEFAULT_ONREADY_THRESHOLD;
         numSentBytesQueued += numBytes;
+        if (belowThresholdBefore && numSentBytesQueued >= DEFAULT_ONREADY_THRESHOLD) {
+          stallEvent = NebulaJfrEvents.beginFlowControlStall();
+          stallQueuedBytes = numSentBytesQueued;
+        }
       }
     }
 
@@ -272,6 +286,8 @@ public abstract class AbstractStream implements Stream {
      */
     public final void onSentBytes(int numBytes) {
       boolean doNotify;
+      JfrEventBridge.Event stall = null;
+      int stallBytes = 0;
       synchronized (onReadyLock) {
         checkState(allocated,
             "onStreamAllocated was not called, but it seems the stream is active");
@@ -279,7 +295,13 @@ public abstract class AbstractStream implements Stream {
         numSentBytesQueued -= numBytes;
         boolean belowThresholdAfter = numSentBytesQueued < DEFAULT_ONREADY_THRESHOLD;
         doNotify = !belowThresholdBefore && belowThresholdAfter;
+        if (doNotify && stallEvent != null) {
+          stall = stallEvent;
+          stallBytes = stallQueuedBytes;
+          stallEvent = null;
+        }
       }
+      NebulaJfrEvents.commitFlowControlStall(stall, getClass().getName(), stallBytes);
       if (doNotify) {
         notifyIfReady();
       }
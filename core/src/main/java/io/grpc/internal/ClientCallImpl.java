@@ -18,6 +18,9 @@ package io.grpc.internal;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
+import com.orientsec.grpc.common.util.DeadlineUtils;
+import com.orientsec.grpc.consumer.CallProfile;
+import com.orientsec.grpc.consumer.CallProfiler;
 import io.grpc.Attributes;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
@@ -30,6 +33,7 @@ import io.grpc.Deadline;
 import io.grpc.DecompressorRegistry;
 import io.grpc.InternalDecompressorRegistry;
 import io.grpc.LoadBalancer.PickSubchannelArgs;
+import io.grpc.MessagePool;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.MethodDescriptor.MethodType;
@@ -75,6 +79,9 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
   private final boolean unaryRequest;
   private final CallOptions callOptions;
   private final boolean retryEnabled;
+  private final MessagePool<RespT> responsePool;
+  @Nullable
+  private final CallProfile profile;
   private ClientStream stream;
   private volatile boolean cancelListenersShouldBeRemoved;
   private boolean cancelCalled;
@@ -108,6 +115,8 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
     this.clientTransportProvider = clientTransportProvider;
     this.deadlineCancellationExecutor = deadlineCancellationExecutor;
     this.retryEnabled = retryEnabled;
+    this.responsePool = method.newResponsePool();
+    this.profile = CallProfiler.get(callOptions);
   }
 
   private final class ContextCancellationListener implements CancellationListener {
@@ -233,6 +242,12 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
 
     Deadline effectiveDeadline = effectiveDeadline();
     boolean deadlineExceeded = effectiveDeadline != null && effectiveDeadline.isExpired();
+
+    //----begin----多级调用时向服务端传递最初的调用方的截止时间----
+    if (DeadlineUtils.isOriginPropagated()) {
+      DeadlineUtils.putOriginDeadline(headers, effectiveDeadline);
+    }
+    //----end----多级调用时向服务端传递最初的调用方的截止时间----
     if (!deadlineExceeded) {
       logIfContextNarrowedTimeout(
           effectiveDeadline, callOptions.getDeadline(), context.getDeadline());
@@ -414,6 +429,7 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
     checkState(stream != null, "Not started");
     checkState(!cancelCalled, "call was cancelled");
     checkState(!halfCloseCalled, "call was half-closed");
+    long marshalStart = CallProfile.now(profile);
     try {
       if (stream instanceof RetriableStream) {
         @SuppressWarnings("unchecked")
@@ -429,6 +445,7 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
       stream.cancel(Status.CANCELLED.withDescription("Client sendMessage() failed with Error"));
       throw e;
     }
+    CallProfile.record(profile, CallProfile.MARSHAL, marshalStart);
     // For unary requests, we don't flush since we know that halfClose should be coming soon. This
     // allows us to piggy-back the END_STREAM=true on the last message frame without opening the
     // possibility of broken applications forgetting to call halfClose without noticing.
@@ -456,6 +473,11 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
     return Attributes.EMPTY;
   }
 
+  @Override
+  public MessagePool<RespT> getResponsePool() {
+    return responsePool;
+  }
+
   private void closeObserver(Listener<RespT> observer, Status status, Metadata trailers) {
     observer.onClose(status, trailers);
   }
@@ -517,7 +539,8 @@ final class ClientCallImpl<ReqT, RespT> extends ClientCall<ReqT, RespT> {
           try {
             while ((message = producer.next()) != null) {
               try {
-                observer.onMessage(method.parseResponse(message));
+                RespT reuse = (responsePool == null) ? null : responsePool.borrow();
+                observer.onMessage(method.parseResponse(message, reuse));
               } catch (Throwable t) {
                 GrpcUtil.closeQuietly(message);
                 throw t;
@@ -152,6 +152,43 @@ public class CompositeReadableBuffer extends AbstractReadableBuffer {
     return newBuffer;
   }
 
+  /**
+   * 所有可读的字节都在同一个子buffer中时，返回该子buffer的ByteBuffer
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Override
+  public ByteBuffer getByteBuffer() {
+    ReadableBuffer readable = getOnlyReadableBuffer();
+    if (readable == null) {
+      return (readableBytes == 0) ? ByteBuffer.allocate(0) : null;
+    }
+    return readable.getByteBuffer();
+  }
+
+  @Override
+  public boolean isByteBufferAliasable() {
+    ReadableBuffer readable = getOnlyReadableBuffer();
+    return readable != null && readable.isByteBufferAliasable();
+  }
+
+  /**
+   * 返回唯一一个含有可读字节的子buffer，没有或者有多个时返回null
+   */
+  private ReadableBuffer getOnlyReadableBuffer() {
+    ReadableBuffer result = null;
+    for (ReadableBuffer buffer : buffers) {
+      if (buffer.readableBytes() == 0) {
+        continue;
+      }
+      if (result != null) {
+        return null;
+      }
+      result = buffer;
+    }
+    return result;
+  }
+
   @Override
   public void close() {
     while (!buffers.isEmpty()) {
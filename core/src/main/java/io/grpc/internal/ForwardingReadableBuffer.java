@@ -96,6 +96,16 @@ public abstract class ForwardingReadableBuffer implements ReadableBuffer {
     return buf.arrayOffset();
   }
 
+  @Override
+  public ByteBuffer getByteBuffer() {
+    return buf.getByteBuffer();
+  }
+
+  @Override
+  public boolean isByteBufferAliasable() {
+    return buf.isByteBufferAliasable();
+  }
+
   @Override
   public void close() {
     buf.close();
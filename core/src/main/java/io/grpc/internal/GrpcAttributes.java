@@ -34,6 +34,16 @@ public final class GrpcAttributes {
   public static final Attributes.Key<Map<String, Object>> NAME_RESOLVER_SERVICE_CONFIG =
       Attributes.Key.create("service-config");
 
+  /**
+   * 服务提供者配置的连接数(default.connections)，客户端到该服务提供者的最大连接数不超过该值
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @NameResolver.ResolutionResultAttr
+  public static final Attributes.Key<Integer> ATTR_PROVIDER_CONNECTIONS =
+      Attributes.Key.create("provider-connections");
+
   /**
    * The naming authority of a gRPC LB server address.  It is an address-group-level attribute,
    * present when the address group is a LoadBalancer.
@@ -54,6 +54,7 @@ import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -265,6 +266,12 @@ public final class GrpcUtil {
   public static final CallOptions.Key<Map<String, Object>> ROUTER_MAP_KEY =
       CallOptions.Key.create("router-map");
 
+  /**
+   * 对冲请求需要排除的服务端(IP:port)KEY
+   */
+  public static final CallOptions.Key<Set<String>> EXCLUDED_PROVIDERS_KEY =
+      CallOptions.Key.create("excluded-providers");
+
   /**
    * Returns true if an RPC with the given properties should be counted when calculating the
    * in-use state of a transport.
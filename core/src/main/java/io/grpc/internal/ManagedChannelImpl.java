@@ -24,16 +24,28 @@ import com.google.common.base.Stopwatch;
 import com.google.common.base.Supplier;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import com.orientsec.grpc.common.collect.ConcurrentHashSet;
 import com.orientsec.grpc.common.constant.GlobalConstants;
 import com.orientsec.grpc.common.enums.LoadBalanceMode;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
 import com.orientsec.grpc.common.resource.SystemConfig;
 import com.orientsec.grpc.common.util.*;
+import com.orientsec.grpc.consumer.CallProfile;
+import com.orientsec.grpc.consumer.CallProfiler;
 import com.orientsec.grpc.consumer.ConsistentHashArguments;
+import com.orientsec.grpc.consumer.HedgingUtils;
 import com.orientsec.grpc.consumer.ParameterRouterUtil;
 import com.orientsec.grpc.consumer.ThreadLocalVariableUtils;
 import com.orientsec.grpc.consumer.core.ConsumerServiceRegistry;
 import com.orientsec.grpc.consumer.core.ConsumerServiceRegistryFactory;
+import com.orientsec.grpc.consumer.internal.FailoverClientInterceptor;
+import com.orientsec.grpc.consumer.internal.JfrClientInterceptor;
+import com.orientsec.grpc.consumer.internal.MetricsClientInterceptor;
+import com.orientsec.grpc.consumer.internal.ProfilingClientInterceptor;
+import com.orientsec.grpc.consumer.internal.ProviderLoadClientInterceptor;
 import com.orientsec.grpc.consumer.internal.ProvidersListener;
+import com.orientsec.grpc.consumer.internal.ZookeeperNameResolver;
+import com.orientsec.grpc.consumer.lb.ProviderLoadFeedback;
 import io.grpc.Attributes;
 import io.grpc.CallOptions;
 import io.grpc.Channel;
@@ -91,6 +103,8 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -108,6 +122,8 @@ import static io.grpc.internal.ServiceConfigInterceptor.RETRY_POLICY_KEY;
 public final class ManagedChannelImpl extends ManagedChannel implements
     InternalInstrumented<ChannelStats> {
   static final Logger logger = LoggerFactory.getLogger(ManagedChannelImpl.class);
+  private static final GovernanceLogger governanceLogger =
+      GovernanceLogger.getLogger(ManagedChannelImpl.class);
 
   // Matching this pattern means the target string is a URI target or at least intended to be one.
   // A URI target must be an absolute hierarchical URI.
@@ -264,6 +280,10 @@ public final class ManagedChannelImpl extends ManagedChannel implements
   @Nullable
   private Throttle throttle;
 
+  // 服务配置中没有限流策略时，对冲请求使用的限流策略
+  @Nullable
+  private final Throttle nebulaThrottle;
+
   private final long perRpcBufferLimit;
   private final long channelBufferLimit;
 
@@ -516,6 +536,7 @@ public final class ManagedChannelImpl extends ManagedChannel implements
       final Object argument = getArgument();
       //----end------获取一致性Hash的参数值----
 
+      CallProfile profile = CallProfiler.get(args.getCallOptions());
       String lbMode = "";
 
       if (pickerCopy == null) {
@@ -547,7 +568,9 @@ public final class ManagedChannelImpl extends ManagedChannel implements
         //----begin----参数路由重选提供者----
 
         String method = getMethod(nameResolver);
+        long stageStart = CallProfile.now(profile);
         boolean isParameterRouterResolved = reselectServerByRouter(method, args.getCallOptions());
+        stageStart = CallProfile.record(profile, CallProfile.PARAMETER_ROUTE, stageStart);
         if (isParameterRouterResolved &&
             nameResolver.getServiceProviderMap() != null && nameResolver.getServiceProviderMap().isEmpty()) {
           return BLOCKED_BY_PARAM_ROUTER_TRANSPORT;
@@ -559,13 +582,21 @@ public final class ManagedChannelImpl extends ManagedChannel implements
         // 如果负载均衡模式为“请求负载均衡”，每次都触发负载均衡算法 如果已经由参数路由选择过提供者，则不触发
         if (LoadBalanceMode.request.name().equals(lbMode)) {
           if (!isParameterRouterResolved) {
-            nameResolver.resolveServerInfo(argument, method);
+            Set<String> excludedProviders = args.getCallOptions().getOption(GrpcUtil.EXCLUDED_PROVIDERS_KEY);
+            if (excludedProviders != null && !excludedProviders.isEmpty()) {
+              // 对冲请求：选择与之前的请求不同的服务端
+              nameResolver.resolveServerInfo(argument, method, excludedProviders);
+            } else {
+              nameResolver.resolveServerInfo(argument, method);
+            }
+            CallProfile.record(profile, CallProfile.RESOLVE, stageStart);
           }
           pickerCopy = subchannelPicker;// 切换服务器会导致subchannelPicker发生变化
         } else {
           if (connectionOutOfTime) {
             if (!isParameterRouterResolved) {
               nameResolver.resolveServerInfo(argument, method);
+              CallProfile.record(profile, CallProfile.RESOLVE, stageStart);
             }
             pickerCopy = subchannelPicker;// 切换服务器会导致subchannelPicker发生变化
           }
@@ -583,9 +614,11 @@ public final class ManagedChannelImpl extends ManagedChannel implements
       // In most cases the idle timer is scheduled to fire after the transport has created the
       // stream, which would have reported in-use state to the channel that would have cancelled
       // the idle timer.
+      long pickStart = CallProfile.now(profile);
       PickResult pickResult = pickerCopy.pickSubchannel(args);
       ClientTransport transport = GrpcUtil.getTransportFromPickResult(
           pickResult, args.getCallOptions().isWaitForReady());
+      CallProfile.record(profile, CallProfile.PICK, pickStart);
 
       //----begin----检查服务提供者是否存在----
 
@@ -595,7 +628,9 @@ public final class ManagedChannelImpl extends ManagedChannel implements
          * 客户端与服务端依然可以正常通信。
          */
         if (transport == null || (transport instanceof FailingClientTransport)) {
+          long waitStart = CallProfile.now(profile);
           transport = getTransportFromLb(args, true);
+          CallProfile.record(profile, CallProfile.TRANSPORT_WAIT, waitStart);
         }
 
         InetSocketAddress inetSocketAddress = null;
@@ -650,7 +685,9 @@ public final class ManagedChannelImpl extends ManagedChannel implements
         // 当客户端与服务端连接没建立好的时候，等待连接创建成功
         boolean invalid = (transport == null || (transport instanceof FailingClientTransport));
         if (invalid && LoadBalanceMode.request.name().equals(lbMode)) {
+          long waitStart = CallProfile.now(profile);
           transport = getTransportFromLb(args, false);
+          CallProfile.record(profile, CallProfile.TRANSPORT_WAIT, waitStart);
         }
       }
 
@@ -720,7 +757,7 @@ public final class ManagedChannelImpl extends ManagedChannel implements
       Map<String, Object> routerMap = callOptions.getOption(GrpcUtil.ROUTER_MAP_KEY);
       if (!ParameterRouterUtil.isEnabled()) {
         if (routerMap != null) {
-          logger.info("未开启参数路由功能，本次调用的参数路由将不会生效！");
+          governanceLogger.info(method, "未开启参数路由功能，本次调用的参数路由将不会生效！");
         }
         return false;
       }
@@ -739,7 +776,8 @@ public final class ManagedChannelImpl extends ManagedChannel implements
         final CallOptions callOptions,
         final Metadata headers,
         final Context context) {
-      checkState(retryEnabled, "retry should be enabled");
+      checkState(retryEnabled || callOptions.getOption(HEDGING_POLICY_KEY) != null,
+          "retry should be enabled");
       final class RetryStream extends RetriableStream<ReqT> {
         RetryStream() {
           super(
@@ -752,9 +790,12 @@ public final class ManagedChannelImpl extends ManagedChannel implements
               transportFactory.getScheduledExecutorService(),
               callOptions.getOption(RETRY_POLICY_KEY),
               callOptions.getOption(HEDGING_POLICY_KEY),
-              throttle);
+              (throttle != null) ? throttle : nebulaThrottle);
         }
 
+        // 已经调用过的服务端(IP:port)，对冲请求需要选择其他的服务端；只在对冲时创建
+        private volatile Set<String> usedProviders;
+
         @Override
         Status prestart() {
           return uncommittedRetriableStreamsRegistry.add(this);
@@ -768,8 +809,22 @@ public final class ManagedChannelImpl extends ManagedChannel implements
         @Override
         ClientStream newSubstream(ClientStreamTracer.Factory tracerFactory, Metadata newHeaders) {
           CallOptions newOptions = callOptions.withStreamTracerFactory(tracerFactory);
+          Set<String> providers = null;
+          if (hasHedging()) {
+            providers = getUsedProviders();
+            if (!providers.isEmpty()) {
+              newOptions = newOptions.withOption(GrpcUtil.EXCLUDED_PROVIDERS_KEY,
+                  Collections.unmodifiableSet(new HashSet<>(providers)));
+            }
+          }
           ClientTransport transport =
               get(new PickSubchannelArgsImpl(method, newHeaders, newOptions));
+          if (providers != null) {
+            String providerId = getProviderId(transport);
+            if (providerId != null) {
+              providers.add(providerId);
+            }
+          }
           Context origContext = context.attach();
           try {
             return transport.newStream(method, newHeaders, newOptions);
@@ -777,6 +832,19 @@ public final class ManagedChannelImpl extends ManagedChannel implements
             context.detach(origContext);
           }
         }
+
+        private Set<String> getUsedProviders() {
+          Set<String> providers = usedProviders;
+          if (providers == null) {
+            synchronized (this) {
+              providers = usedProviders;
+              if (providers == null) {
+                usedProviders = providers = new ConcurrentHashSet<>();
+              }
+            }
+          }
+          return providers;
+        }
       }
 
       return new RetryStream();
@@ -831,15 +899,52 @@ public final class ManagedChannelImpl extends ManagedChannel implements
     this.delayedTransport = new DelayedClientTransport(this.executor, this.syncContext);
     this.delayedTransport.start(delayedTransportListener);
     this.backoffPolicyProvider = backoffPolicyProvider;
+    ClientTransportFactory rawTransportFactory = clientTransportFactory;
+    if (SharedClientTransportFactory.isEnabled()
+        && nameResolver instanceof ZookeeperNameResolver
+        && clientTransportFactory instanceof SharableClientTransportFactory) {
+      // 同一个JVM中的多个zookeeper channel共享到同一个服务端的连接
+      rawTransportFactory = new SharedClientTransportFactory(
+          (SharableClientTransportFactory) clientTransportFactory);
+    }
     this.transportFactory =
-        new CallCredentialsApplyingTransportFactory(clientTransportFactory, this.executor);
+        new CallCredentialsApplyingTransportFactory(rawTransportFactory, this.executor);
     this.scheduledExecutorForBalancer =
         new ScheduledExecutorForBalancer(transportFactory.getScheduledExecutorService());
     this.retryEnabled = builder.retryEnabled && !builder.temporarilyDisableRetry;
     serviceConfigInterceptor = new ServiceConfigInterceptor(
         retryEnabled, builder.maxRetryAttempts, builder.maxHedgedAttempts);
     Channel channel = new RealChannel(nameResolver.getServiceAuthority());
+    if (HedgingUtils.isEnabled()) {
+      // 根据nebula的配置为单个方法生成对冲策略，需要在serviceConfigInterceptor之后执行；
+      // 只有配置了对冲的方法才会使用RetriableStream，不影响channel的重试、统计和追踪的默认设置
+      channel = ClientInterceptors.intercept(
+          channel, new NebulaHedgingInterceptor(nameResolver, builder.maxHedgedAttempts));
+      if (HedgingUtils.getThrottleMaxTokens() > 0) {
+        nebulaThrottle = new Throttle(
+            HedgingUtils.getThrottleMaxTokens(), HedgingUtils.getThrottleTokenRatio());
+      } else {
+        nebulaThrottle = null;
+      }
+    } else {
+      nebulaThrottle = null;
+    }
     channel = ClientInterceptors.intercept(channel, serviceConfigInterceptor);
+    if (ProviderLoadFeedback.isEnabled()) {
+      // 读取服务端上报的负载，用于加权轮询计算动态权重
+      channel = ClientInterceptors.intercept(channel, new ProviderLoadClientInterceptor());
+    }
+    if (NebulaMetrics.isEnabled()) {
+      // 按服务提供者统计每次尝试的耗时和状态码，需要在失败重试之内
+      channel = ClientInterceptors.intercept(channel, new MetricsClientInterceptor());
+    }
+    // 有正在进行的JFR录制时为每次尝试输出nebula.Call事件，没有录制时只读取一个volatile变量
+    channel = ClientInterceptors.intercept(channel, new JfrClientInterceptor());
+    // 在调用结束时统计请求次数、出错次数，并在调用的executor上发起一元调用的失败重试
+    channel = ClientInterceptors.intercept(channel,
+        new FailoverClientInterceptor(this, executor));
+    // 对采样的调用按阶段统计耗时，需要在容错拦截器之外；未启用时只读取一个volatile变量
+    channel = ClientInterceptors.intercept(channel, new ProfilingClientInterceptor());
     if (builder.binlog != null) {
       channel = builder.binlog.wrapChannel(channel);
     }
@@ -1090,7 +1195,7 @@ public final class ManagedChannelImpl extends ManagedChannel implements
               transportProvider,
               terminated ? null : transportFactory.getScheduledExecutorService(),
               channelCallTracer,
-              retryEnabled)
+              retryEnabled || callOptions.getOption(HEDGING_POLICY_KEY) != null)
           .setFullStreamDecompression(fullStreamDecompression)
           .setDecompressorRegistry(decompressorRegistry)
           .setCompressorRegistry(compressorRegistry);
@@ -1205,7 +1310,8 @@ public final class ManagedChannelImpl extends ManagedChannel implements
   private final class UncommittedRetriableStreamsRegistry {
     // TODO(zdapeng): This means we would acquire a lock for each new retry-able stream,
     // it's worthwhile to look for a lock-free approach.
-    final Object lock = new Object();
+    // 使用显式锁代替synchronized，虚拟线程在这里等待时不会占住载体线程
+    final Lock lock = new ReentrantLock();
 
     @GuardedBy("lock")
     Collection<ClientStream> uncommittedRetriableStreams = new HashSet<>();
@@ -1215,7 +1321,8 @@ public final class ManagedChannelImpl extends ManagedChannel implements
 
     void onShutdown(Status reason) {
       boolean shouldShutdownDelayedTransport = false;
-      synchronized (lock) {
+      lock.lock();
+      try {
         if (shutdownStatus != null) {
           return;
         }
@@ -1226,6 +1333,8 @@ public final class ManagedChannelImpl extends ManagedChannel implements
         if (uncommittedRetriableStreams.isEmpty()) {
           shouldShutdownDelayedTransport = true;
         }
+      } finally {
+        lock.unlock();
       }
 
       if (shouldShutdownDelayedTransport) {
@@ -1237,8 +1346,11 @@ public final class ManagedChannelImpl extends ManagedChannel implements
       onShutdown(reason);
       Collection<ClientStream> streams;
 
-      synchronized (lock) {
+      lock.lock();
+      try {
         streams = new ArrayList<>(uncommittedRetriableStreams);
+      } finally {
+        lock.unlock();
       }
 
       for (ClientStream stream : streams) {
@@ -1253,19 +1365,23 @@ public final class ManagedChannelImpl extends ManagedChannel implements
      */
     @Nullable
     Status add(RetriableStream<?> retriableStream) {
-      synchronized (lock) {
+      lock.lock();
+      try {
         if (shutdownStatus != null) {
           return shutdownStatus;
         }
         uncommittedRetriableStreams.add(retriableStream);
         return null;
+      } finally {
+        lock.unlock();
       }
     }
 
     void remove(RetriableStream<?> retriableStream) {
       Status shutdownStatusCopy = null;
 
-      synchronized (lock) {
+      lock.lock();
+      try {
         uncommittedRetriableStreams.remove(retriableStream);
         if (uncommittedRetriableStreams.isEmpty()) {
           shutdownStatusCopy = shutdownStatus;
@@ -1273,6 +1389,8 @@ public final class ManagedChannelImpl extends ManagedChannel implements
           // hashmap.
           uncommittedRetriableStreams = new HashSet<>();
         }
+      } finally {
+        lock.unlock();
       }
 
       if (shutdownStatusCopy != null) {
@@ -1875,6 +1993,27 @@ public final class ManagedChannelImpl extends ManagedChannel implements
     return mode;
   }
 
+  /**
+   * 获取transport对应的服务端(IP:port)
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Nullable
+  private static String getProviderId(ClientTransport transport) {
+    if (!(transport instanceof InternalSubchannel.CallTracingTransport)) {
+      return null;
+    }
+
+    ConnectionClientTransport connTransport =
+        ((InternalSubchannel.CallTracingTransport) transport).delegate();
+    SocketAddress socketAddress = connTransport.getAddress();
+    if (socketAddress == null) {
+      return null;
+    }
+    return Networks.getHostAndPort(socketAddress);
+  }
+
   /**
    * 当前调用的服务方法
    *
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.min;
 
+import io.grpc.ByteBufferWritable;
 import io.grpc.Codec;
 import io.grpc.Compressor;
 import io.grpc.Drainable;
@@ -357,8 +358,12 @@ public class MessageFramer implements Framer {
     }
   }
 
-  /** OutputStream whose write()s are passed to the framer. */
-  private class OutputStreamAdapter extends OutputStream {
+  /**
+   * OutputStream whose write()s are passed to the framer.
+   *
+   * @since nebula-1.2.9 2026-10-19 modify by sxp 支持把消息直接序列化到传输层的缓冲区中
+   */
+  private class OutputStreamAdapter extends OutputStream implements ByteBufferWritable {
     /**
      * This is slow, don't call it.  If you care about write overhead, use a BufferedOutputStream.
      * Better yet, you can use your own single byte buffer and call
@@ -374,6 +379,34 @@ public class MessageFramer implements Framer {
     public void write(byte[] b, int off, int len) {
       writeRaw(b, off, len);
     }
+
+    /**
+     * 当前缓冲区的剩余空间不足时，提交当前缓冲区并按消息长度分配新的缓冲区，
+     * 使整个消息可以写入一块连续的内存
+     */
+    @Override
+    public ByteBuffer getWritableByteBuffer(int length) {
+      if (buffer != null && buffer.writableBytes() < length) {
+        if (buffer.readableBytes() > 0) {
+          commitToSink(false, false);
+        } else {
+          releaseBuffer();
+        }
+      }
+      if (buffer == null) {
+        buffer = bufferAllocator.allocate(length);
+      }
+      if (!(buffer instanceof NioWritableBuffer)) {
+        return null;
+      }
+      // 分配器可能分配比length小的缓冲区，此时返回null，由调用者通过write()写入
+      return ((NioWritableBuffer) buffer).writableByteBuffer(length);
+    }
+
+    @Override
+    public void commitByteBuffer(int length) {
+      ((NioWritableBuffer) buffer).commit(length);
+    }
   }
 
   /**
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.internal;
+
+import static io.grpc.internal.ServiceConfigInterceptor.HEDGING_POLICY_KEY;
+import static io.grpc.internal.ServiceConfigInterceptor.RETRY_POLICY_KEY;
+
+import com.orientsec.grpc.common.enums.LoadBalanceMode;
+import com.orientsec.grpc.common.util.GrpcUtils;
+import com.orientsec.grpc.common.util.LoadBalanceUtil;
+import com.orientsec.grpc.consumer.HedgingUtils;
+import com.orientsec.grpc.consumer.model.HedgingConfig;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+
+/**
+ * 根据nebula的配置为幂等的方法生成对冲策略(HedgingPolicy)
+ * <p>
+ * 只有在“请求负载均衡”模式下才启用对冲，对冲请求由{@link RetriableStream}发出，
+ * 并由负载均衡选择与之前的请求不同的服务端；服务配置(service config)中已经配置了重试或对冲策略时，以服务配置为准。<br>
+ * channel没有启用重试时，只有配置了对冲的方法使用RetriableStream，其他方法不受影响。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class NebulaHedgingInterceptor implements ClientInterceptor {
+  private static final RetryPolicy.Provider DEFAULT_RETRY_POLICY_PROVIDER =
+      new RetryPolicy.Provider() {
+        @Override
+        public RetryPolicy get() {
+          return RetryPolicy.DEFAULT;
+        }
+      };
+
+  private final NameResolver nameResolver;
+  private final int maxHedgedAttemptsLimit;
+
+  NebulaHedgingInterceptor(NameResolver nameResolver, int maxHedgedAttemptsLimit) {
+    this.nameResolver = nameResolver;
+    this.maxHedgedAttemptsLimit = maxHedgedAttemptsLimit;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    if (method.getType() != MethodDescriptor.MethodType.UNARY) {
+      return next.newCall(method, callOptions);
+    }
+
+    // channel没有启用重试时，服务配置拦截器不会设置重试和对冲策略
+    final HedgingPolicy.Provider hedgingPolicyProvider = callOptions.getOption(HEDGING_POLICY_KEY);
+    final RetryPolicy.Provider retryPolicyProvider = callOptions.getOption(RETRY_POLICY_KEY);
+
+    String fullMethodName = method.getFullMethodName();
+    HedgingConfig config = HedgingUtils.getHedgingConfig(nameResolver, fullMethodName);
+    if (config == null || !config.isHedging()) {
+      return next.newCall(method, callOptions);
+    }
+
+    String methodName = GrpcUtils.getSimpleMethodName(fullMethodName);
+    String lbMode = LoadBalanceUtil.getLoadBalanceMode(nameResolver, methodName);
+    if (!LoadBalanceMode.request.name().equals(lbMode)) {
+      // 连接负载均衡模式下所有请求都使用同一个服务端，对冲没有意义
+      return next.newCall(method, callOptions);
+    }
+
+    long delayNanos = HedgingUtils.getDelayNanos(fullMethodName, config);
+    if (delayNanos >= 0) {
+      int maxAttempts = Math.min(config.getMaxAttempts(), maxHedgedAttemptsLimit);
+      HedgingPolicy policy =
+          new HedgingPolicy(maxAttempts, delayNanos, HedgingUtils.getNonFatalStatusCodes());
+      if (hedgingPolicyProvider == null || retryPolicyProvider == null) {
+        // 只为当前方法启用RetriableStream
+        callOptions = callOptions
+            .withOption(RETRY_POLICY_KEY, DEFAULT_RETRY_POLICY_PROVIDER)
+            .withOption(HEDGING_POLICY_KEY, new FixedHedgingPolicyProvider(policy));
+      } else {
+        callOptions = callOptions.withOption(HEDGING_POLICY_KEY,
+            new NebulaHedgingPolicyProvider(hedgingPolicyProvider, retryPolicyProvider, policy));
+      }
+    }
+
+    ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+    if (config.isPercentileDelay()) {
+      // 按历史耗时的百分位数计算延时，需要记录调用的耗时
+      call = new LatencyRecordingCall<ReqT, RespT>(call, fullMethodName);
+    }
+    return call;
+  }
+
+  /**
+   * channel没有启用重试时使用的对冲策略
+   */
+  private static final class FixedHedgingPolicyProvider implements HedgingPolicy.Provider {
+    private final HedgingPolicy policy;
+
+    FixedHedgingPolicyProvider(HedgingPolicy policy) {
+      this.policy = policy;
+    }
+
+    @Override
+    public HedgingPolicy get() {
+      return policy;
+    }
+  }
+
+  /**
+   * 服务配置中没有重试和对冲策略时，使用nebula的对冲策略
+   */
+  private static final class NebulaHedgingPolicyProvider implements HedgingPolicy.Provider {
+    private final HedgingPolicy.Provider delegate;
+    private final RetryPolicy.Provider retryPolicyProvider;
+    private final HedgingPolicy policy;
+
+    NebulaHedgingPolicyProvider(HedgingPolicy.Provider delegate,
+        RetryPolicy.Provider retryPolicyProvider, HedgingPolicy policy) {
+      this.delegate = delegate;
+      this.retryPolicyProvider = retryPolicyProvider;
+      this.policy = policy;
+    }
+
+    @Override
+    public HedgingPolicy get() {
+      HedgingPolicy configured = delegate.get();
+      if (!HedgingPolicy.DEFAULT.equals(configured)) {
+        return configured;
+      }
+      if (!RetryPolicy.DEFAULT.equals(retryPolicyProvider.get())) {
+        return configured;
+      }
+      return policy;
+    }
+  }
+
+  /**
+   * 记录调用成功的耗时
+   */
+  private static final class LatencyRecordingCall<ReqT, RespT>
+      extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+    private final String fullMethodName;
+
+    LatencyRecordingCall(ClientCall<ReqT, RespT> delegate, String fullMethodName) {
+      super(delegate);
+      this.fullMethodName = fullMethodName;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      final long startNanos = System.nanoTime();
+      super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+          responseListener) {
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+          if (status.isOk()) {
+            HedgingUtils.recordLatency(fullMethodName, System.nanoTime() - startNanos);
+          }
+          super.onClose(status, trailers);
+        }
+      }, headers);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.internal;
+
+import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
+
+/**
+ * 可以通过{@link ByteBuffer}直接写入的{@link WritableBuffer}
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface NioWritableBuffer extends WritableBuffer {
+
+  /**
+   * 返回与当前buffer共享内存的ByteBuffer，覆盖从当前写位置开始的length个字节；
+   * 可写空间不足或者可写空间不连续时返回null
+   */
+  @Nullable
+  ByteBuffer writableByteBuffer(int length);
+
+  /**
+   * 把写位置向后移动length个字节，表示通过{@link #writableByteBuffer}写入的数据已经完成
+   */
+  void commit(int length);
+}
@@ -44,12 +44,13 @@ import static io.grpc.ConnectivityState.TRANSIENT_FAILURE;
  * and sticking to the first that works.
  *
  * @since 2019.12.02 modify by sxp 支持subchannel的缓存
+ * @since nebula-1.2.9 2026-10-19 modify by sxp 每个服务端使用一个连接池，支持多个连接
  */
-final class PickFirstLoadBalancer extends LoadBalancer {
+final class PickFirstLoadBalancer extends LoadBalancer implements ProviderSubchannelPool.Listener {
   private static final Logger logger = LoggerFactory.getLogger(PickFirstLoadBalancer.class);
   private final Helper helper;
-  private final ConcurrentMap<EquivalentAddressGroup, Subchannel> subchannels = new ConcurrentHashMap<>();
-  private Subchannel currentSubchannel;
+  private final ConcurrentMap<EquivalentAddressGroup, ProviderSubchannelPool> subchannels = new ConcurrentHashMap<>();
+  private ProviderSubchannelPool currentPool;
   private volatile EquivalentAddressGroup currentAddressGroup;
 
   PickFirstLoadBalancer(Helper helper) {
@@ -66,31 +67,36 @@ final class PickFirstLoadBalancer extends LoadBalancer {
     }
 
     EquivalentAddressGroup currentAddressGroup = servers.get(0);
-    Subchannel subchannel = subchannels.get(currentAddressGroup);
+    ProviderSubchannelPool pool = subchannels.get(currentAddressGroup);
 
     // 如果含有多个服务端地址，只考虑第一个
     if (servers.size() > 1) {
       servers = servers.subList(0, 1);
     }
 
-    if (subchannel == null) {
-      subchannel = helper.createSubchannel(servers, Attributes.EMPTY);
-      Subchannel oldValue = subchannels.putIfAbsent(currentAddressGroup, subchannel);
+    Integer providerConnections = attributes.get(GrpcAttributes.ATTR_PROVIDER_CONNECTIONS);
+
+    if (pool == null) {
+      pool = new ProviderSubchannelPool(helper, servers, this);
+      ProviderSubchannelPool oldValue = subchannels.putIfAbsent(currentAddressGroup, pool);
       if (oldValue == null) {
+        pool.setProviderConnections(providerConnections);
+        pool.start();
         // The channel state does not get updated when doing name resolving today, so for the moment
         // let LB report CONNECTION and call subchannel.requestConnection() immediately.
-        helper.updateBalancingState(CONNECTING, new Picker(PickResult.withSubchannel(subchannel)));
-        subchannel.requestConnection();
+        helper.updateBalancingState(CONNECTING, pool.newPicker());
       } else {
-        subchannel = oldValue;
-        helper.updateBalancingState(READY, new Picker(PickResult.withSubchannel(subchannel)));
+        pool = oldValue;
+        pool.setProviderConnections(providerConnections);
+        helper.updateBalancingState(READY, pool.newPicker());
       }
     } else {
       // helper.updateSubchannelAddresses(subchannel, servers);
-      helper.updateBalancingState(READY, new Picker(PickResult.withSubchannel(subchannel)));
+      pool.setProviderConnections(providerConnections);
+      helper.updateBalancingState(READY, pool.newPicker());
     }
 
-    currentSubchannel = subchannel;
+    currentPool = pool;
   }
 
   @Override
@@ -108,19 +114,47 @@ final class PickFirstLoadBalancer extends LoadBalancer {
     }
 
     EquivalentAddressGroup addressGroup = subchannel.getAddresses();
-    Subchannel theSubchannel = subchannels.get(addressGroup);
-    if (theSubchannel == null) {
+    ProviderSubchannelPool pool = subchannels.get(addressGroup);
+    if (pool == null) {
+      return;
+    }
+
+    if (!pool.updateState(subchannel, stateInfo)) {
       return;
     }
 
-    if (theSubchannel != currentSubchannel) {
+    if (pool != currentPool) {
       return;
     }
 
+    updateBalancingState(pool);
+  }
+
+  /**
+   * 连接池中的连接增减后更新picker
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Override
+  public void onPoolChanged(ProviderSubchannelPool pool) {
+    if (pool == currentPool) {
+      updateBalancingState(pool);
+    }
+  }
+
+  /**
+   * 根据连接池中所有连接的状态更新picker
+   * <p>
+   * 连接池中只有一个连接时，与原来按单个subchannel状态更新picker的逻辑相同
+   * </p>
+   */
+  private void updateBalancingState(ProviderSubchannelPool pool) {
+    ConnectivityState state = pool.getState();
     SubchannelPicker picker;
-    switch (currentState) {
+    switch (state) {
       case IDLE:
-        picker = new RequestConnectionPicker(subchannel);
+        picker = new RequestConnectionPicker(pool);
         break;
       case CONNECTING:
         // It's safe to use RequestConnectionPicker here, so when coming from IDLE we could leave
@@ -128,29 +162,29 @@ final class PickFirstLoadBalancer extends LoadBalancer {
         picker = new Picker(PickResult.withNoResult());
         break;
       case READY:
-        picker = new Picker(PickResult.withSubchannel(subchannel));
+        picker = pool.newPicker();
         break;
       case TRANSIENT_FAILURE:
-        picker = new Picker(PickResult.withError(stateInfo.getStatus()));
+        picker = new Picker(PickResult.withError(pool.getFailureStatus()));
         break;
       default:
-        throw new IllegalArgumentException("Unsupported state:" + currentState);
+        throw new IllegalArgumentException("Unsupported state:" + state);
     }
 
-    helper.updateBalancingState(currentState, picker);
+    helper.updateBalancingState(state, picker);
   }
 
   @Override
   public void shutdown() {
     logger.info("正在关闭PickFirstLoadBalancer...");
 
-    Set<Map.Entry<EquivalentAddressGroup, Subchannel>> set = subchannels.entrySet();
-    Subchannel theSubchannel;
+    Set<Map.Entry<EquivalentAddressGroup, ProviderSubchannelPool>> set = subchannels.entrySet();
+    ProviderSubchannelPool thePool;
 
-    for (Map.Entry<EquivalentAddressGroup, Subchannel> entry : set) {
-      theSubchannel = entry.getValue();
-      if (theSubchannel != null) {
-        theSubchannel.shutdown();
+    for (Map.Entry<EquivalentAddressGroup, ProviderSubchannelPool> entry : set) {
+      thePool = entry.getValue();
+      if (thePool != null) {
+        thePool.shutdown();
       }
     }
 
@@ -176,21 +210,21 @@ final class PickFirstLoadBalancer extends LoadBalancer {
 
   /** Picker that requests connection during pick, and returns noResult. */
   private static final class RequestConnectionPicker extends SubchannelPicker {
-    private final Subchannel subchannel;
+    private final ProviderSubchannelPool pool;
 
-    RequestConnectionPicker(Subchannel subchannel) {
-      this.subchannel = checkNotNull(subchannel, "subchannel");
+    RequestConnectionPicker(ProviderSubchannelPool pool) {
+      this.pool = checkNotNull(pool, "pool");
     }
 
     @Override
     public PickResult pickSubchannel(PickSubchannelArgs args) {
-      subchannel.requestConnection();
+      pool.requestConnection();
       return PickResult.withNoResult();
     }
 
     @Override
     public void requestConnection() {
-      subchannel.requestConnection();
+      pool.requestConnection();
     }
   }
 
@@ -200,17 +234,18 @@ final class PickFirstLoadBalancer extends LoadBalancer {
    * @author sxp
    * @since 2019/1/29
    * @since 2019/12/4 modify by sxp 根据currentSubchannel获得服务端地址
+   * @since nebula-1.2.9 2026-10-19 modify by sxp 根据currentPool获得服务端地址
    */
   @Override
   public EquivalentAddressGroup getAddresses() {
     if (currentAddressGroup != null) {
       return currentAddressGroup;
     }
-    if (currentSubchannel == null) {
+    if (currentPool == null) {
       return null;
     }
 
-    EquivalentAddressGroup addressGroup = currentSubchannel.getAddresses();
+    EquivalentAddressGroup addressGroup = currentPool.getAddresses();
     return addressGroup;
   }
 
@@ -237,7 +272,7 @@ final class PickFirstLoadBalancer extends LoadBalancer {
       return;
     }
 
-    Subchannel theSubchannel;
+    ProviderSubchannelPool thePool;
     EquivalentAddressGroup server;
 
     for (String hostAndPort: removeHostPorts) {
@@ -245,10 +280,10 @@ final class PickFirstLoadBalancer extends LoadBalancer {
       if (server == null) {
         continue;
       }
-      theSubchannel = subchannels.remove(server);
-      if (theSubchannel != null) {
+      thePool = subchannels.remove(server);
+      if (thePool != null) {
         logger.info("关闭" + server + "subchannel");
-        theSubchannel.shutdown();
+        thePool.shutdown();
       }
     }
   }
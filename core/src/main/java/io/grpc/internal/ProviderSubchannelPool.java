@@ -0,0 +1,573 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.internal;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer.Helper;
+import io.grpc.LoadBalancer.PickResult;
+import io.grpc.LoadBalancer.PickSubchannelArgs;
+import io.grpc.LoadBalancer.Subchannel;
+import io.grpc.LoadBalancer.SubchannelPicker;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.grpc.ConnectivityState.CONNECTING;
+import static io.grpc.ConnectivityState.IDLE;
+import static io.grpc.ConnectivityState.READY;
+import static io.grpc.ConnectivityState.TRANSIENT_FAILURE;
+
+/**
+ * 客户端到一个服务提供者的多个连接(subchannel)
+ * <p>
+ * 每个subchannel对应一个{@link InternalSubchannel}，即一个独立的HTTP/2连接。
+ * 选择subchannel时，在状态为READY的subchannel中选择活跃stream数最少的一个；
+ * 所有READY的subchannel的活跃stream数都达到饱和阈值时，增加一个连接(不超过最大连接数)；
+ * stream数下降到较少的连接就能承载时，关闭多余的空闲连接(保留初始连接数)；
+ * 服务提供者调低了连接数时，关闭超出最大连接数的空闲连接，正在使用的连接在stream结束后关闭。<br>
+ * 关闭连接时先发布不包含该连接的picker并把连接标记为draining，旧的picker也不再选择该连接，
+ * 延迟一段时间后再关闭，避免已经选中该连接、还没有创建stream的请求失败。
+ * </p>
+ * <p>
+ * 创建和关闭subchannel都在channel的SynchronizationContext中执行，选择subchannel可以在任意线程中执行。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class ProviderSubchannelPool {
+  private static final Logger logger = LoggerFactory.getLogger(ProviderSubchannelPool.class);
+
+  /**
+   * 空闲连接从连接池中移除后，延迟关闭的时间(秒)
+   */
+  @VisibleForTesting
+  static final long DRAIN_DELAY_SECONDS = 1;
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  /**
+   * 每个服务提供者的初始连接数
+   */
+  private static final int configuredInitialConnections = initInitialConnections();
+
+  /**
+   * 每个服务提供者的最大连接数
+   */
+  private static final int configuredMaxConnections = initMaxConnections();
+
+  /**
+   * 一个连接上的活跃stream数达到该值时认为连接已饱和
+   */
+  private static final int configuredSaturationStreams = initSaturationStreams();
+
+  private final Helper helper;
+  private final List<EquivalentAddressGroup> addressGroups;
+  private final Listener listener;
+  private final int initialConnections;
+  private final int maxConnections;
+  private final int saturationStreams;
+
+  /**
+   * 只在SynchronizationContext中修改
+   */
+  private final List<PooledSubchannel> members = new CopyOnWriteArrayList<>();
+
+  /**
+   * 已从连接池中移除、等待关闭的连接，只在SynchronizationContext中访问
+   */
+  private final List<PooledSubchannel> drainingMembers = new ArrayList<>();
+
+  /**
+   * 服务提供者配置的连接数(default.connections)，0表示不限制
+   */
+  private volatile int providerConnections;
+
+  private final AtomicBoolean resizing = new AtomicBoolean();
+
+  private volatile boolean shutdown;
+
+  ProviderSubchannelPool(Helper helper, List<EquivalentAddressGroup> addressGroups,
+                         Listener listener) {
+    this(helper, addressGroups, listener, configuredInitialConnections, configuredMaxConnections,
+        configuredSaturationStreams);
+  }
+
+  @VisibleForTesting
+  ProviderSubchannelPool(Helper helper, List<EquivalentAddressGroup> addressGroups,
+                         Listener listener, int initialConnections, int maxConnections,
+                         int saturationStreams) {
+    this.helper = checkNotNull(helper, "helper");
+    this.addressGroups = Collections.unmodifiableList(
+        new ArrayList<>(checkNotNull(addressGroups, "addressGroups")));
+    this.listener = checkNotNull(listener, "listener");
+    this.initialConnections = initialConnections;
+    this.maxConnections = maxConnections;
+    this.saturationStreams = saturationStreams;
+  }
+
+  private static int initInitialConnections() {
+    String key = GlobalConstants.Consumer.Key.CONNECTIONS_PER_PROVIDER;
+    int defaultValue = 1;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 1) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static int initMaxConnections() {
+    String key = GlobalConstants.Consumer.Key.CONNECTIONS_PER_PROVIDER_MAX;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, configuredInitialConnections);
+    if (value < configuredInitialConnections) {
+      value = configuredInitialConnections;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static int initSaturationStreams() {
+    String key = GlobalConstants.Consumer.Key.CONNECTIONS_SATURATION_STREAMS;
+    int defaultValue = 100;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 1) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 设置服务提供者配置的连接数，连接池的最大连接数不超过该值，必须在SynchronizationContext中调用
+   * <p>
+   * 服务提供者没有配置(或者删除了)连接数时传入null，恢复为客户端配置的连接数。
+   * </p>
+   */
+  void setProviderConnections(@Nullable Integer connections) {
+    providerConnections = (connections != null && connections > 0) ? connections : 0;
+    if (members.size() > getMaxConnections()) {
+      removeIdleMembers(getMaxConnections());
+    }
+  }
+
+  /**
+   * 创建初始连接，必须在SynchronizationContext中调用
+   */
+  void start() {
+    int count = getMinConnections();
+    for (int i = 0; i < count; i++) {
+      addMember();
+    }
+  }
+
+  /**
+   * 当前允许的最大连接数
+   */
+  int getMaxConnections() {
+    int connections = providerConnections;
+    if (connections > 0 && connections < maxConnections) {
+      return connections;
+    }
+    return maxConnections;
+  }
+
+  /**
+   * 收缩时保留的连接数：初始连接数，但不超过当前允许的最大连接数
+   */
+  private int getMinConnections() {
+    return Math.min(initialConnections, getMaxConnections());
+  }
+
+  EquivalentAddressGroup getAddresses() {
+    return addressGroups.get(0);
+  }
+
+  int size() {
+    return members.size();
+  }
+
+  boolean contains(Subchannel subchannel) {
+    return findMember(subchannel) != null;
+  }
+
+  /**
+   * 更新subchannel的状态，返回false表示subchannel不属于当前连接池
+   */
+  boolean updateState(Subchannel subchannel, ConnectivityStateInfo stateInfo) {
+    PooledSubchannel member = findMember(subchannel);
+    if (member == null) {
+      return false;
+    }
+
+    member.stateInfo = stateInfo;
+
+    // 其他连接可用时，断开的连接立即重连，保持连接池的大小
+    if (stateInfo.getState() == IDLE && getState() == READY) {
+      subchannel.requestConnection();
+    }
+    return true;
+  }
+
+  /**
+   * 连接池的整体状态：有一个连接READY即为READY，其次是CONNECTING、IDLE，所有连接都失败时为TRANSIENT_FAILURE
+   */
+  ConnectivityState getState() {
+    boolean connecting = false;
+    boolean idle = false;
+
+    for (PooledSubchannel member : members) {
+      ConnectivityState state = member.stateInfo.getState();
+      if (state == READY) {
+        return READY;
+      } else if (state == CONNECTING) {
+        connecting = true;
+      } else if (state == IDLE) {
+        idle = true;
+      }
+    }
+
+    if (connecting) {
+      return CONNECTING;
+    }
+    if (idle) {
+      return IDLE;
+    }
+    return TRANSIENT_FAILURE;
+  }
+
+  /**
+   * 失败连接的状态
+   */
+  Status getFailureStatus() {
+    for (PooledSubchannel member : members) {
+      if (member.stateInfo.getState() == TRANSIENT_FAILURE) {
+        return member.stateInfo.getStatus();
+      }
+    }
+    return Status.UNAVAILABLE.withDescription("没有可用的连接");
+  }
+
+  /**
+   * 在READY的连接中选择活跃stream数最少的连接；没有READY的连接时在所有连接中选择
+   */
+  SubchannelPicker newPicker() {
+    List<PooledSubchannel> candidates = new ArrayList<>(members.size());
+    for (PooledSubchannel member : members) {
+      if (member.stateInfo.getState() == READY) {
+        candidates.add(member);
+      }
+    }
+    if (candidates.isEmpty()) {
+      candidates.addAll(members);
+    }
+    return new LeastStreamsPicker(candidates);
+  }
+
+  /**
+   * 请求IDLE状态的连接重新建立连接
+   */
+  void requestConnection() {
+    for (PooledSubchannel member : members) {
+      if (member.stateInfo.getState() == IDLE) {
+        member.subchannel.requestConnection();
+      }
+    }
+  }
+
+  /**
+   * 关闭所有连接，必须在SynchronizationContext中调用
+   */
+  void shutdown() {
+    shutdown = true;
+    for (PooledSubchannel member : members) {
+      member.subchannel.shutdown();
+    }
+    members.clear();
+    for (PooledSubchannel member : drainingMembers) {
+      member.subchannel.shutdown();
+    }
+    drainingMembers.clear();
+  }
+
+  @Nullable
+  private PooledSubchannel findMember(Subchannel subchannel) {
+    for (PooledSubchannel member : members) {
+      if (member.subchannel == subchannel) {
+        return member;
+      }
+    }
+    return null;
+  }
+
+  private void addMember() {
+    Subchannel subchannel = helper.createSubchannel(addressGroups, Attributes.EMPTY);
+    members.add(new PooledSubchannel(subchannel));
+    subchannel.requestConnection();
+  }
+
+  /**
+   * 所有READY的连接都已饱和时增加一个连接
+   */
+  private void maybeGrow() {
+    if (shutdown || members.size() >= getMaxConnections() || !resizing.compareAndSet(false, true)) {
+      return;
+    }
+
+    helper.getSynchronizationContext().execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          if (!shutdown && members.size() < getMaxConnections() && !hasPendingMember()) {
+            addMember();
+            logger.info("到服务提供者" + addressGroups.get(0) + "的连接已饱和，增加一个连接，当前连接数："
+                + members.size());
+          }
+        } finally {
+          resizing.set(false);
+        }
+      }
+    });
+  }
+
+  /**
+   * 是否有正在建立的连接，新增的连接READY之前不再继续增加连接
+   */
+  private boolean hasPendingMember() {
+    for (PooledSubchannel member : members) {
+      ConnectivityState state = member.stateInfo.getState();
+      if (state == IDLE || state == CONNECTING) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 活跃stream数可以由少一个连接承载时，关闭一个超出初始连接数的空闲连接；
+   * 连接数超过当前允许的最大连接数时，关闭超出的空闲连接
+   * <p>
+   * 只有总stream数下降到(连接数-1)*饱和阈值的一半以下时才收缩，避免连接数在阈值附近反复变化
+   * </p>
+   */
+  private void maybeShrink() {
+    int size = members.size();
+    if (shutdown || size <= getMinConnections()) {
+      return;
+    }
+
+    final int target;
+    if (size > getMaxConnections()) {
+      target = getMaxConnections();
+    } else {
+      int totalStreams = 0;
+      for (PooledSubchannel member : members) {
+        totalStreams += member.activeStreams.get();
+      }
+      if (totalStreams * 2 > (size - 1) * saturationStreams) {
+        return;
+      }
+      target = size - 1;
+    }
+    if (!resizing.compareAndSet(false, true)) {
+      return;
+    }
+
+    helper.getSynchronizationContext().execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          removeIdleMembers(target);
+        } finally {
+          resizing.set(false);
+        }
+      }
+    });
+  }
+
+  /**
+   * 关闭空闲连接，直到连接数不超过count(不少于收缩时保留的连接数)
+   */
+  private void removeIdleMembers(int count) {
+    int target = Math.max(count, getMinConnections());
+    if (shutdown || members.size() <= target) {
+      return;
+    }
+
+    // 优先关闭后创建的连接
+    boolean removed = false;
+    for (int i = members.size() - 1; i >= 0 && members.size() > target; i--) {
+      final PooledSubchannel member = members.get(i);
+      if (member.activeStreams.get() != 0) {
+        continue;
+      }
+
+      members.remove(i);
+      removed = true;
+      // 先标记为draining并更新picker，不再选择该连接；
+      // 此前已经选中该连接的请求可能还没有创建stream，延迟关闭连接
+      member.draining = true;
+      drainingMembers.add(member);
+      helper.getSynchronizationContext().schedule(new Runnable() {
+        @Override
+        public void run() {
+          if (drainingMembers.remove(member)) {
+            member.subchannel.shutdown();
+          }
+        }
+      }, DRAIN_DELAY_SECONDS, TimeUnit.SECONDS, helper.getScheduledExecutorService());
+      logger.info("到服务提供者" + addressGroups.get(0) + "的连接空闲，关闭一个连接，当前连接数："
+          + members.size());
+    }
+
+    if (removed) {
+      listener.onPoolChanged(this);
+    }
+  }
+
+  @VisibleForTesting
+  int getActiveStreams(Subchannel subchannel) {
+    PooledSubchannel member = findMember(subchannel);
+    return (member == null) ? 0 : member.activeStreams.get();
+  }
+
+  /**
+   * 连接池中的连接增减时的回调，在SynchronizationContext中调用
+   */
+  interface Listener {
+    void onPoolChanged(ProviderSubchannelPool pool);
+  }
+
+  /**
+   * 连接池中的一个连接，同时作为ClientStreamTracer.Factory统计连接上的活跃stream数
+   */
+  private final class PooledSubchannel extends ClientStreamTracer.Factory {
+    final Subchannel subchannel;
+    final AtomicInteger activeStreams = new AtomicInteger();
+    volatile ConnectivityStateInfo stateInfo = ConnectivityStateInfo.forNonError(IDLE);
+
+    /**
+     * 已从连接池中移除，等待关闭
+     */
+    volatile boolean draining;
+
+    PooledSubchannel(Subchannel subchannel) {
+      this.subchannel = subchannel;
+    }
+
+    @Override
+    public ClientStreamTracer newClientStreamTracer(CallOptions callOptions, Metadata headers) {
+      activeStreams.incrementAndGet();
+      return new ClientStreamTracer() {
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void streamClosed(Status status) {
+          if (closed.compareAndSet(false, true)) {
+            activeStreams.decrementAndGet();
+            maybeShrink();
+          }
+        }
+      };
+    }
+  }
+
+  private final class LeastStreamsPicker extends SubchannelPicker {
+    private final List<PooledSubchannel> candidates;
+    private final AtomicInteger index = new AtomicInteger();
+
+    LeastStreamsPicker(List<PooledSubchannel> candidates) {
+      this.candidates = candidates;
+    }
+
+    @Override
+    public PickResult pickSubchannel(PickSubchannelArgs args) {
+      int size = candidates.size();
+      if (size == 0) {
+        return PickResult.withNoResult();
+      }
+      if (size == 1) {
+        PooledSubchannel only = candidates.get(0);
+        if (only.draining) {
+          // 新的picker已经发布，等待使用新的picker重新选择
+          return PickResult.withNoResult();
+        }
+        // 连接数固定为1时不需要统计stream数
+        if (maxConnections == 1) {
+          return PickResult.withSubchannel(only.subchannel);
+        }
+        if (only.activeStreams.get() >= saturationStreams) {
+          maybeGrow();
+        }
+        return PickResult.withSubchannel(only.subchannel, only);
+      }
+
+      // 从轮转的起点开始查找，stream数相同时在各连接之间轮流选择
+      int start = (index.getAndIncrement() & Integer.MAX_VALUE) % size;
+      PooledSubchannel chosen = null;
+      int min = Integer.MAX_VALUE;
+      for (int i = 0; i < size; i++) {
+        PooledSubchannel member = candidates.get((start + i) % size);
+        if (member.draining) {
+          continue;
+        }
+        int streams = member.activeStreams.get();
+        if (streams < min) {
+          min = streams;
+          chosen = member;
+        }
+      }
+
+      if (chosen == null) {
+        return PickResult.withNoResult();
+      }
+      if (min >= saturationStreams) {
+        maybeGrow();
+      }
+      return PickResult.withSubchannel(chosen.subchannel, chosen);
+    }
+
+    @Override
+    public void requestConnection() {
+      ProviderSubchannelPool.this.requestConnection();
+    }
+  }
+}
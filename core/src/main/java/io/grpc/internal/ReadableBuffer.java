@@ -20,6 +20,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
 
 /**
  * Interface for an abstract byte buffer. Buffers are intended to be a read-only, except for the
@@ -123,6 +124,22 @@ public interface ReadableBuffer extends Closeable {
    */
   int arrayOffset();
 
+  /**
+   * 不复制数据，以一个{@link ByteBuffer}返回所有可读的字节；可读字节不在一块连续的内存中时返回null。
+   * 返回的ByteBuffer与当前buffer共享内存，读取返回的ByteBuffer不会改变当前buffer的读位置。
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Nullable
+  ByteBuffer getByteBuffer();
+
+  /**
+   * {@link #getByteBuffer}返回的内存在当前buffer关闭以后是否仍然有效且不会被复用
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  boolean isByteBufferAliasable();
+
   /**
    * Closes this buffer and releases any resources.
    */
@@ -19,6 +19,7 @@ package io.grpc.internal;
 import static com.google.common.base.Charsets.UTF_8;
 
 import com.google.common.base.Preconditions;
+import io.grpc.HasByteBuffer;
 import io.grpc.KnownLength;
 import java.io.IOException;
 import java.io.InputStream;
@@ -203,6 +204,19 @@ public final class ReadableBuffers {
     public int arrayOffset() {
       return offset;
     }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+      return ByteBuffer.wrap(bytes, offset, end - offset).slice();
+    }
+
+    /**
+     * 包装的字节数组由调用者分配，不会被复用
+     */
+    @Override
+    public boolean isByteBufferAliasable() {
+      return true;
+    }
   }
 
   /**
@@ -290,12 +304,18 @@ public final class ReadableBuffers {
     public int arrayOffset() {
       return bytes.arrayOffset() + bytes.position();
     }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+      return bytes.slice();
+    }
   }
 
   /**
    * An {@link InputStream} that is backed by a {@link ReadableBuffer}.
    */
-  private static final class BufferInputStream extends InputStream implements KnownLength {
+  private static final class BufferInputStream extends InputStream
+      implements KnownLength, HasByteBuffer {
     final ReadableBuffer buffer;
 
     public BufferInputStream(ReadableBuffer buffer) {
@@ -328,6 +348,16 @@ public final class ReadableBuffers {
       return length;
     }
 
+    @Override
+    public ByteBuffer getByteBuffer() {
+      return buffer.getByteBuffer();
+    }
+
+    @Override
+    public boolean isByteBufferAliasable() {
+      return buffer.isByteBufferAliasable();
+    }
+
     @Override
     public void close() throws IOException {
       buffer.close();
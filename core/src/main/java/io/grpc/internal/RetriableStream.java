@@ -94,6 +94,16 @@ abstract class RetriableStream<ReqT> implements ClientStream {
   private Future<?> scheduledRetry;
   private long nextBackoffIntervalNanos;
 
+  //----begin----对冲请求(hedging)----
+
+  private HedgingPolicy hedgingPolicy;
+  private volatile boolean isHedging;
+
+  @GuardedBy("lock")
+  private FutureCanceller scheduledHedging;
+
+  //----end----对冲请求(hedging)----
+
   RetriableStream(
       MethodDescriptor<ReqT, ?> method, Metadata headers,
       ChannelBufferMeter channelBufferUsed, long perRpcBufferLimit, long channelBufferLimit,
@@ -126,11 +136,23 @@ abstract class RetriableStream<ReqT> implements ClientStream {
       // subtract the share of this RPC from channelBufferUsed.
       channelBufferUsed.addAndGet(-perRpcBufferUsed);
 
+      final Future<?> hedgingFuture;
+      if (scheduledHedging != null) {
+        hedgingFuture = scheduledHedging.markCancelled();
+        scheduledHedging = null;
+      } else {
+        hedgingFuture = null;
+      }
+
       class CommitTask implements Runnable {
         @Override
         public void run() {
+          // 已经确定了胜出的请求，取消尚未发出的对冲请求
+          if (hedgingFuture != null) {
+            hedgingFuture.cancel(false);
+          }
+
           // For hedging only, not needed for normal retry
-          // TODO(zdapeng): also cancel all the scheduled hedges.
           for (Substream substream : savedDrainedSubstreams) {
             if (substream != winningSubstream) {
               substream.stream.cancel(CANCELLED_BECAUSE_COMMITTED);
@@ -278,9 +300,154 @@ abstract class RetriableStream<ReqT> implements ClientStream {
     }
 
     Substream substream = createSubstream(0);
+
+    //----begin----对冲请求(hedging)----
+
+    checkState(hedgingPolicy == null, "hedgingPolicy has been initialized unexpectedly");
+    hedgingPolicy = hedgingPolicyProvider.get();
+    if (!HedgingPolicy.DEFAULT.equals(hedgingPolicy)) {
+      isHedging = true;
+      retryPolicy = RetryPolicy.DEFAULT;
+
+      FutureCanceller scheduledHedgingRef = null;
+
+      synchronized (lock) {
+        state = state.addActiveHedge(substream);
+        if (hasPotentialHedging(state) && (throttle == null || throttle.isAboveThreshold())) {
+          scheduledHedging = scheduledHedgingRef = new FutureCanceller(lock);
+        } else {
+          // 被限流时不再发出对冲请求
+          state = state.freezeHedging();
+        }
+      }
+
+      if (scheduledHedgingRef != null) {
+        scheduledHedgingRef.setFuture(
+            scheduledExecutorService.schedule(
+                new HedgingRunnable(scheduledHedgingRef),
+                hedgingPolicy.hedgingDelayNanos,
+                TimeUnit.NANOSECONDS));
+      }
+    }
+
+    //----end----对冲请求(hedging)----
+
     drain(substream);
+  }
+
+  /**
+   * 是否还可以发出新的对冲请求
+   */
+  @GuardedBy("lock")
+  private boolean hasPotentialHedging(State state) {
+    return state.winningSubstream == null
+        && state.hedgingAttemptCount < hedgingPolicy.maxAttempts
+        && !state.hedgingFrozen;
+  }
+
+  /**
+   * 不再发出新的对冲请求
+   */
+  private void freezeHedging() {
+    Future<?> futureToBeCancelled = null;
+    synchronized (lock) {
+      if (scheduledHedging != null) {
+        futureToBeCancelled = scheduledHedging.markCancelled();
+        scheduledHedging = null;
+      }
+      state = state.freezeHedging();
+    }
 
-    // TODO(zdapeng): schedule hedging if needed
+    if (futureToBeCancelled != null) {
+      futureToBeCancelled.cancel(false);
+    }
+  }
+
+  /**
+   * 非致命错误时立即发出下一个对冲请求，不再等待对冲延时
+   */
+  private void pushbackHedging() {
+    FutureCanceller future;
+    Future<?> futureToBeCancelled;
+
+    synchronized (lock) {
+      if (scheduledHedging == null) {
+        return;
+      }
+      futureToBeCancelled = scheduledHedging.markCancelled();
+      scheduledHedging = future = new FutureCanceller(lock);
+    }
+
+    if (futureToBeCancelled != null) {
+      futureToBeCancelled.cancel(false);
+    }
+    future.setFuture(scheduledExecutorService.schedule(
+        new HedgingRunnable(future), 0, TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * 到达对冲延时后，发出一个新的对冲请求
+   */
+  private final class HedgingRunnable implements Runnable {
+
+    // Need to hold a ref to the FutureCanceller in case RetriableStream.scheduledHedging is renewed
+    // by a positive push-back just after newSubstream is instantiated, so that we can double check.
+    final FutureCanceller scheduledHedgingRef;
+
+    HedgingRunnable(FutureCanceller scheduledHedging) {
+      scheduledHedgingRef = scheduledHedging;
+    }
+
+    @Override
+    public void run() {
+      callExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              synchronized (lock) {
+                if (scheduledHedgingRef.isCancelled()) {
+                  return;
+                }
+              }
+
+              // It's safe to read state.hedgingAttemptCount here.
+              // If this run is not cancelled, the value of state.hedgingAttemptCount won't change
+              // until state.addActiveHedge() is called subsequently, even the state could possibly
+              // change.
+              Substream newSubstream = createSubstream(state.hedgingAttemptCount);
+              boolean cancelled = false;
+              FutureCanceller future = null;
+
+              synchronized (lock) {
+                if (scheduledHedgingRef.isCancelled()) {
+                  cancelled = true;
+                } else {
+                  state = state.addActiveHedge(newSubstream);
+                  if (hasPotentialHedging(state)
+                      && (throttle == null || throttle.isAboveThreshold())) {
+                    scheduledHedging = future = new FutureCanceller(lock);
+                  } else {
+                    state = state.freezeHedging();
+                    scheduledHedging = null;
+                  }
+                }
+              }
+
+              if (cancelled) {
+                newSubstream.stream.cancel(Status.CANCELLED.withDescription("Unneeded hedging"));
+                return;
+              }
+              if (future != null) {
+                future.setFuture(
+                    scheduledExecutorService.schedule(
+                        new HedgingRunnable(future),
+                        hedgingPolicy.hedgingDelayNanos,
+                        TimeUnit.NANOSECONDS));
+              }
+              drain(newSubstream);
+            }
+          });
+    }
   }
 
   @Override
@@ -517,7 +684,7 @@ abstract class RetriableStream<ReqT> implements ClientStream {
   }
 
   boolean hasHedging() {
-    return false;
+    return isHedging;
   }
 
   private interface BufferEntry {
@@ -574,14 +741,21 @@ abstract class RetriableStream<ReqT> implements ClientStream {
               // transparent retry
               Substream newSubstream = createSubstream(
                   substream.previousAttempts);
+              if (isHedging) {
+                synchronized (lock) {
+                  state = state.replaceActiveHedge(substream, newSubstream);
+                }
+              }
               drain(newSubstream);
             }
           });
           return;
         } else if (rpcProgress == RpcProgress.DROPPED) {
           // For normal retry, nothing need be done here, will just commit.
-          // For hedging:
-          // TODO(zdapeng): cancel all scheduled hedges (TBD)
+          // For hedging, cancel scheduled hedge that is scheduled prior to the drop
+          if (isHedging) {
+            freezeHedging();
+          }
         } else {
           noMoreTransparentRetry = true;
 
@@ -614,17 +788,52 @@ abstract class RetriableStream<ReqT> implements ClientStream {
             return;
           }
         }
-      }
 
-      if (!hasHedging()) {
-        commitAndRun(substream);
-        if (state.winningSubstream == substream) {
-          masterListener.closed(status, trailers);
+        //----begin----对冲请求(hedging)----
+
+        if (isHedging) {
+          boolean isHedgeable = makeHedgingDecision(status);
+          if (isHedgeable) {
+            pushbackHedging();
+          }
+
+          synchronized (lock) {
+            state = state.removeActiveHedge(substream);
+            // The invariant is whether or not #(Potential Hedge + active hedges) > 0.
+            // Once hasPotentialHedging(state) is false, it will always be false, and hence
+            // #(state.activeHedges) will be decreasing. This guarantees that even there may be
+            // multiple concurrent hedges, one of the hedges will end up committed.
+            if (isHedgeable) {
+              if (hasPotentialHedging(state) || !state.activeHedges.isEmpty()) {
+                return;
+              }
+              // else, no activeHedges, no new hedges possible, try to commit
+            } // else, fatal, try to commit
+          }
         }
+
+        //----end----对冲请求(hedging)----
+      }
+
+      // 对冲请求遇到致命错误时，提交当前请求的结果，同时取消其他的对冲请求
+      commitAndRun(substream);
+      if (state.winningSubstream == substream) {
+        masterListener.closed(status, trailers);
+      }
+    }
+
+    /**
+     * 判断对冲请求失败后，是否可以继续发出其他的对冲请求
+     */
+    private boolean makeHedgingDecision(Status status) {
+      boolean isFatal = !hedgingPolicy.nonFatalStatusCodes.contains(status.getCode());
+
+      boolean isThrottled = false;
+      if (throttle != null && !isFatal) {
+        isThrottled = !throttle.onQualifiedFailureThenCheckIsAboveThreshold();
       }
 
-      // TODO(zdapeng): in hedge case, if this is a fatal status, cancel all the other attempts, and
-      // close the masterListener.
+      return !isFatal && !isThrottled;
     }
 
     /**
@@ -710,24 +919,53 @@ abstract class RetriableStream<ReqT> implements ClientStream {
      */
     final Collection<Substream> drainedSubstreams;
 
+    /**
+     * Unmodifiable collection of all the active hedging substreams.
+     *
+     * <p>A substream even with the attribute substream.closed being true may be considered still
+     * "active" at the moment as long as it is in this collection.
+     */
+    final Collection<Substream> activeHedges; // not null once isHedging = true
+
+    final int hedgingAttemptCount;
+
     /** Null until committed. */
     @Nullable final Substream winningSubstream;
 
     /** Not required to set to true when cancelled, but can short-circuit the draining process. */
     final boolean cancelled;
 
+    /** No more hedging due to events like drop or pushback. */
+    final boolean hedgingFrozen;
+
     State(
         @Nullable List<BufferEntry> buffer,
         Collection<Substream> drainedSubstreams,
         @Nullable Substream winningSubstream,
         boolean cancelled,
         boolean passThrough) {
+      this(buffer, drainedSubstreams, Collections.<Substream>emptyList(), winningSubstream,
+          cancelled, passThrough, false, 0);
+    }
+
+    State(
+        @Nullable List<BufferEntry> buffer,
+        Collection<Substream> drainedSubstreams,
+        Collection<Substream> activeHedges,
+        @Nullable Substream winningSubstream,
+        boolean cancelled,
+        boolean passThrough,
+        boolean hedgingFrozen,
+        int hedgingAttemptCount) {
       this.buffer = buffer;
       this.drainedSubstreams =
           checkNotNull(drainedSubstreams, "drainedSubstreams");
       this.winningSubstream = winningSubstream;
+      this.activeHedges = activeHedges;
       this.cancelled = cancelled;
       this.passThrough = passThrough;
+      this.hedgingFrozen = hedgingFrozen;
+      this.hedgingAttemptCount = hedgingAttemptCount;
 
       checkState(!passThrough || buffer == null, "passThrough should imply buffer is null");
       checkState(
@@ -744,7 +982,9 @@ abstract class RetriableStream<ReqT> implements ClientStream {
     @CheckReturnValue
     // GuardedBy RetriableStream.lock
     State cancelled() {
-      return new State(buffer, drainedSubstreams, winningSubstream, true, passThrough);
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, true, passThrough,
+          hedgingFrozen, hedgingAttemptCount);
     }
 
     /** The given substream is drained. */
@@ -775,7 +1015,9 @@ abstract class RetriableStream<ReqT> implements ClientStream {
         buffer = null;
       }
 
-      return new State(buffer, drainedSubstreams, winningSubstream, cancelled, passThrough);
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+          hedgingFrozen, hedgingAttemptCount);
     }
 
     /** The given substream is closed. */
@@ -787,7 +1029,9 @@ abstract class RetriableStream<ReqT> implements ClientStream {
         Collection<Substream> drainedSubstreams = new ArrayList<>(this.drainedSubstreams);
         drainedSubstreams.remove(substream);
         drainedSubstreams = Collections.unmodifiableCollection(drainedSubstreams);
-        return new State(buffer, drainedSubstreams, winningSubstream, cancelled, passThrough);
+        return new State(
+            buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+            hedgingFrozen, hedgingAttemptCount);
       } else {
         return this;
       }
@@ -810,7 +1054,71 @@ abstract class RetriableStream<ReqT> implements ClientStream {
         drainedSubstreams = Collections.emptyList();
       }
 
-      return new State(buffer, drainedSubstreams, winningSubstream, cancelled, passThrough);
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+          hedgingFrozen, hedgingAttemptCount);
+    }
+
+    @CheckReturnValue
+    // GuardedBy RetriableStream.lock
+    State freezeHedging() {
+      if (hedgingFrozen) {
+        return this;
+      }
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+          true, hedgingAttemptCount);
+    }
+
+    @CheckReturnValue
+    // GuardedBy RetriableStream.lock
+    // state.hedgingAttemptCount is modified only here.
+    // The method is only called in RetriableStream.start() and HedgingRunnable.run()
+    State addActiveHedge(Substream substream) {
+      // hasPotentialHedging must be true
+      checkState(!hedgingFrozen, "hedging frozen");
+      checkState(winningSubstream == null, "already committed");
+
+      Collection<Substream> activeHedges;
+      if (this.activeHedges.isEmpty()) {
+        activeHedges = Collections.singletonList(substream);
+      } else {
+        activeHedges = new ArrayList<>(this.activeHedges);
+        activeHedges.add(substream);
+      }
+      activeHedges = Collections.unmodifiableCollection(activeHedges);
+
+      int hedgingAttemptCount = this.hedgingAttemptCount + 1;
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+          hedgingFrozen, hedgingAttemptCount);
+    }
+
+    @CheckReturnValue
+    // GuardedBy RetriableStream.lock
+    // The method is only called in Sublistener.closed()
+    State removeActiveHedge(Substream substream) {
+      Collection<Substream> activeHedges = new ArrayList<>(this.activeHedges);
+      activeHedges.remove(substream);
+      activeHedges = Collections.unmodifiableCollection(activeHedges);
+
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+          hedgingFrozen, hedgingAttemptCount);
+    }
+
+    @CheckReturnValue
+    // GuardedBy RetriableStream.lock
+    // The method is only called for transparent retry.
+    State replaceActiveHedge(Substream oldOne, Substream newOne) {
+      Collection<Substream> activeHedges = new ArrayList<>(this.activeHedges);
+      activeHedges.remove(oldOne);
+      activeHedges.add(newOne);
+      activeHedges = Collections.unmodifiableCollection(activeHedges);
+
+      return new State(
+          buffer, drainedSubstreams, activeHedges, winningSubstream, cancelled, passThrough,
+          hedgingFrozen, hedgingAttemptCount);
     }
   }
 
@@ -1001,6 +1309,50 @@ abstract class RetriableStream<ReqT> implements ClientStream {
     }
   }
 
+  /**
+   * 可以取消的对冲请求定时任务
+   */
+  private static final class FutureCanceller {
+
+    final Object lock;
+    @GuardedBy("lock")
+    Future<?> future;
+    @GuardedBy("lock")
+    boolean cancelled;
+
+    FutureCanceller(Object lock) {
+      this.lock = lock;
+    }
+
+    void setFuture(Future<?> future) {
+      boolean alreadyCancelled;
+      synchronized (lock) {
+        alreadyCancelled = cancelled;
+        if (!alreadyCancelled) {
+          this.future = future;
+        }
+      }
+      if (alreadyCancelled) {
+        future.cancel(false);
+      }
+    }
+
+    @GuardedBy("lock")
+    @Nullable // null if already cancelled
+    Future<?> markCancelled() {
+      if (!cancelled) {
+        cancelled = true;
+        return future;
+      }
+      return null;
+    }
+
+    @GuardedBy("lock")
+    boolean isCancelled() {
+      return cancelled;
+    }
+  }
+
   private static final class RetryPlan {
     final boolean shouldRetry;
     // TODO(zdapeng) boolean hasHedging
@@ -21,10 +21,13 @@ package io.grpc.internal;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.MethodMetrics;
 import com.orientsec.grpc.common.util.DateUtils;
 import com.orientsec.grpc.common.util.GrpcUtils;
 import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.common.util.DeadlineUtils;
 import com.orientsec.grpc.provider.core.ServiceConfigUtils;
+import com.orientsec.grpc.provider.qos.ProviderLoadReporter;
 import com.orientsec.grpc.provider.qos.ProviderRequestsControllerUtils;
 import com.orientsec.grpc.provider.qos.RequestsController;
 import io.grpc.Attributes;
@@ -34,6 +37,7 @@ import io.grpc.CompressorRegistry;
 import io.grpc.Context;
 import io.grpc.DecompressorRegistry;
 import io.grpc.InternalDecompressorRegistry;
+import io.grpc.MessagePool;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
@@ -60,6 +64,9 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
   @VisibleForTesting
   static final String MISSING_RESPONSE = "Completed without a response";
 
+  private static final Metadata.Key<String> LOAD_REPORT_KEY =
+      Metadata.Key.of(GlobalConstants.LOAD_REPORT_METADATA_KEY, Metadata.ASCII_STRING_MARSHALLER);
+
   private final ServerStream stream;
   private final MethodDescriptor<ReqT, RespT> method;
   private final Context.CancellableContext context;
@@ -67,6 +74,12 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
   private final DecompressorRegistry decompressorRegistry;
   private final CompressorRegistry compressorRegistry;
   private CallTracer serverCallTracer;
+  private final MessagePool<ReqT> requestPool;
+
+  // 启用调用统计时不为null，记录业务处理耗时和响应的序列化耗时
+  private MethodMetrics metrics;
+  private long startedNanos;
+  private long serializeNanos;
 
   // state
   private volatile boolean cancelled;
@@ -87,6 +100,17 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
     this.compressorRegistry = compressorRegistry;
     this.serverCallTracer = serverCallTracer;
     this.serverCallTracer.reportCallStarted();
+    this.requestPool = method.newRequestPool();
+  }
+
+  /**
+   * 启用调用统计时由ServerImpl在调用开始执行时设置
+   *
+   * @param startedNanos 开始在业务线程池中执行的时间
+   */
+  void setMetrics(MethodMetrics metrics, long startedNanos) {
+    this.metrics = metrics;
+    this.startedNanos = startedNanos;
   }
 
   @Override
@@ -146,8 +170,14 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
 
     messageSent = true;
     try {
+      long serializeStart = (metrics == null) ? 0 : System.nanoTime();
       InputStream resp = method.streamResponse(message);
       stream.writeMessage(resp);
+      if (metrics != null) {
+        long elapsed = System.nanoTime() - serializeStart;
+        serializeNanos += elapsed;
+        metrics.getSerializeTime().recordNanos(elapsed);
+      }
       stream.flush();
     } catch (RuntimeException e) {
       close(Status.fromThrowable(e), new Metadata());
@@ -184,11 +214,24 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
     try {
       closeCalled = true;
 
+      if (metrics != null) {
+        metrics.getServiceTime().recordNanos(System.nanoTime() - startedNanos - serializeNanos);
+      }
+
       if (status.isOk() && method.getType().serverSendsOneMessage() && !messageSent) {
         internalClose(Status.INTERNAL.withDescription(MISSING_RESPONSE));
         return;
       }
 
+      // ----begin----服务端负载上报------
+      if (ProviderLoadReporter.isEnabled()) {
+        String interfaceName = GrpcUtils.getInterfaceNameByFullMethodName(method.getFullMethodName());
+        trailers.discardAll(LOAD_REPORT_KEY);
+        trailers.put(LOAD_REPORT_KEY,
+            ProviderLoadReporter.getLoadReport(interfaceName, method.getFullMethodName()));
+      }
+      // ----end----服务端负载上报------
+
       stream.close(status, trailers);
     } finally {
       serverCallTracer.reportCallEnded(status.isOk());
@@ -219,6 +262,11 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
     return method;
   }
 
+  @Override
+  public MessagePool<ReqT> getRequestPool() {
+    return requestPool;
+  }
+
   /**
    * Close the {@link ServerStream} because an internal error occurred. Allow the application to
    * run until completion, but silently ignore interactions with the {@link ServerStream} from now
@@ -274,7 +322,9 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
       try {
         while ((message = producer.next()) != null) {
           try {
-            listener.onMessage(call.method.parseRequest(message));
+            MessagePool<ReqT> pool = call.requestPool;
+            ReqT reuse = (pool == null) ? null : pool.borrow();
+            listener.onMessage(call.method.parseRequest(message, reuse));
           } catch (Throwable t) {
             GrpcUtil.closeQuietly(message);
             throw t;
@@ -330,6 +380,17 @@ final class ServerCallImpl<ReqT, RespT> extends ServerCall<ReqT, RespT> {
 
       // ----end----对服务过时的判断------
 
+      // ----begin----开始执行业务代码之前检查剩余时间------
+      // 客户端只发送一个消息的方法在这里才开始执行业务代码，此时已经扣除了在业务线程池中排队的时间
+      if (call.method.getType().clientSendsOneMessage()) {
+        Status deadlineStatus = DeadlineUtils.checkRemaining(methodName, context);
+        if (deadlineStatus != null) {
+          call.close(deadlineStatus, new Metadata());
+          return;
+        }
+      }
+      // ----end----开始执行业务代码之前检查剩余时间------
+
       // ----begin----服务流量控制：请求数控制------
 
       if (!StringUtils.isEmpty(interfaceName)) {
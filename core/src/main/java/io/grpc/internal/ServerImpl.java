@@ -24,9 +24,15 @@ import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.MethodMetrics;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
 import com.orientsec.grpc.common.util.GrpcUtils;
+import com.orientsec.grpc.common.util.DeadlineUtils;
 import com.orientsec.grpc.provider.core.ProviderServiceRegistry;
 import com.orientsec.grpc.provider.core.ProviderServiceRegistryFactory;
+import com.orientsec.grpc.provider.qos.Bulkhead;
+import com.orientsec.grpc.provider.qos.ProviderLoadReporter;
+import com.orientsec.grpc.provider.qos.ServiceBulkheads;
 import io.grpc.Attributes;
 import io.grpc.BinaryLog;
 import io.grpc.CompressorRegistry;
@@ -49,6 +55,7 @@ import io.grpc.ServerServiceDefinition;
 import io.grpc.ServerTransportFilter;
 import io.grpc.Status;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import java.io.IOException;
 import java.io.InputStream;
@@ -60,7 +67,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -117,8 +123,6 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
   @GuardedBy("lock") private final Collection<ServerTransport> transports =
       new HashSet<ServerTransport>();
 
-  private final Map<String, AtomicInteger> ipCountMap = new ConcurrentHashMap<>();
-
   private final Context rootContext;
 
   private final DecompressorRegistry decompressorRegistry;
@@ -128,6 +132,10 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
   private final InternalChannelz channelz;
   private final CallTracer serverCallTracer;
 
+  // 是否启用调用统计，创建服务时确定
+  @VisibleForTesting
+  boolean metricsEnabled = NebulaMetrics.isEnabled();
+
   // 服务注册
   private ProviderServiceRegistry providerRegistry = ProviderServiceRegistryFactory.getRegistry();
 
@@ -181,6 +189,12 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
       executor = Preconditions.checkNotNull(executorPool.getObject(), "executor");
       started = true;
 
+      //----begin----服务端负载上报需要获取业务线程池的排队数----
+      if (ProviderLoadReporter.isEnabled()) {
+        ProviderLoadReporter.registerExecutor(executor);
+      }
+      //----end----服务端负载上报需要获取业务线程池的排队数----
+
       //----begin----服务启动时，自动向zk注册Provider信息----
       new Thread(registerRunnable, SERVER_REGISTRY_THREAD_NAME).start();
       //----end----服务启动时，自动向zk注册Provider信息----
@@ -456,11 +470,6 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
         return transports;
       }
     }
-
-    @Override
-    public Map<String, AtomicInteger> getIpCountMap() {
-        return ipCountMap;
-    }
   }
 
   private final class ServerTransportListenerImpl implements ServerTransportListener {
@@ -519,6 +528,10 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
     @Override
     public void streamCreated(
         final ServerStream stream, final String methodName, final Metadata headers) {
+      // 每个调用只判断一次是否启用调用统计，启用时记录收到请求的时间，用于计算在业务线程池中的排队耗时
+      final boolean metricsEnabled = ServerImpl.this.metricsEnabled;
+      final long receivedNanos = metricsEnabled ? System.nanoTime() : 0;
+
       if (headers.containsKey(MESSAGE_ENCODING_KEY)) {
         String encoding = headers.get(MESSAGE_ENCODING_KEY);
         Decompressor decompressor = decompressorRegistry.lookupDecompressor(encoding);
@@ -535,19 +548,51 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
       final StatsTraceContext statsTraceCtx = Preconditions.checkNotNull(
           stream.statsTraceContext(), "statsTraceCtx not present from stream");
 
-      final Context.CancellableContext context = createContext(stream, headers, statsTraceCtx);
+      //----begin----剩余时间不足以完成请求时，不再分发到业务线程池----
+      Long originDeadline = DeadlineUtils.getOriginDeadline(headers);
+      Status deadlineStatus =
+          DeadlineUtils.checkRemaining(methodName, headers.get(TIMEOUT_KEY), originDeadline);
+      if (deadlineStatus != null) {
+        // 传输层关闭流时仍然会回调监听器
+        stream.setListener(NOOP_LISTENER);
+        stream.close(deadlineStatus, new Metadata());
+        return;
+      }
+      //----end----剩余时间不足以完成请求时，不再分发到业务线程池----
+
+      //----begin----按服务或方法隔离业务线程池(舱壁)----
+      // 请求的所有回调都直接提交到舱壁，不经过服务端的业务线程池中转
+      Executor callExecutor = executor;
+      Bulkhead bulkhead = ServiceBulkheads.lookup(methodName);
+      if (bulkhead != null) {
+        // 预留的排队位置由该请求提交的第一个任务占用
+        callExecutor = bulkhead.tryAdmit();
+        if (callExecutor == null) {
+          // 传输层关闭流时仍然会回调监听器
+          stream.setListener(NOOP_LISTENER);
+          stream.close(
+              Status.RESOURCE_EXHAUSTED.withDescription(
+                  "Bulkhead [" + bulkhead.getName() + "] is full"),
+              new Metadata());
+          return;
+        }
+      }
+      //----end----按服务或方法隔离业务线程池(舱壁)----
+
+      final Context.CancellableContext context =
+          createContext(stream, headers, statsTraceCtx, originDeadline);
       final Executor wrappedExecutor;
       // This is a performance optimization that avoids the synchronization and queuing overhead
       // that comes with SerializingExecutor.
-      if (executor == directExecutor()) {
+      if (callExecutor == directExecutor()) {
         wrappedExecutor = new SerializeReentrantCallsDirectExecutor();
       } else {
-        wrappedExecutor = new SerializingExecutor(executor);
+        wrappedExecutor = new SerializingExecutor(callExecutor);
       }
 
       final JumpToApplicationThreadServerStreamListener jumpListener
           = new JumpToApplicationThreadServerStreamListener(
-              wrappedExecutor, executor, stream, context);
+              wrappedExecutor, callExecutor, stream, context);
       stream.setListener(jumpListener);
       // Run in wrappedExecutor so jumpListener.setListener() is called before any callbacks
       // are delivered, including any errors. Callbacks can still be triggered, but they will be
@@ -579,7 +624,15 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
               context.cancel(null);
               return;
             }
-            listener = startCall(stream, methodName, method, headers, context, statsTraceCtx);
+            MethodMetrics metrics = null;
+            long startedNanos = 0;
+            if (metricsEnabled) {
+              startedNanos = System.nanoTime();
+              metrics = NebulaMetrics.server(methodName);
+              metrics.recordQueueNanos(startedNanos - receivedNanos);
+            }
+            listener = startCall(stream, methodName, method, headers, context, statsTraceCtx,
+                metrics, startedNanos);
           } catch (RuntimeException e) {
             stream.close(Status.fromThrowable(e), new Metadata());
             context.cancel(null);
@@ -598,10 +651,13 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
     }
 
     private Context.CancellableContext createContext(
-        final ServerStream stream, Metadata headers, StatsTraceContext statsTraceCtx) {
+        final ServerStream stream, Metadata headers, StatsTraceContext statsTraceCtx,
+        @Nullable Long originDeadline) {
       Long timeoutNanos = headers.get(TIMEOUT_KEY);
 
       Context baseContext = statsTraceCtx.serverFilterContext(rootContext);
+      // 多级调用时，业务代码再调用其他服务时继续传递最初的调用方的截止时间
+      baseContext = DeadlineUtils.withOriginDeadline(baseContext, originDeadline);
 
       if (timeoutNanos == null) {
         return baseContext.withCancellation();
@@ -629,7 +685,8 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
     /** Never returns {@code null}. */
     private <ReqT, RespT> ServerStreamListener startCall(ServerStream stream, String fullMethodName,
         ServerMethodDefinition<ReqT, RespT> methodDef, Metadata headers,
-        Context.CancellableContext context, StatsTraceContext statsTraceCtx) {
+        Context.CancellableContext context, StatsTraceContext statsTraceCtx,
+        @Nullable MethodMetrics metrics, long startedNanos) {
       // TODO(ejona86): should we update fullMethodName to have the canonical path of the method?
       statsTraceCtx.serverCallStarted(
           new ServerCallInfoImpl<ReqT, RespT>(
@@ -643,7 +700,8 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
       ServerMethodDefinition<ReqT, RespT> interceptedDef = methodDef.withServerCallHandler(handler);
       ServerMethodDefinition<?, ?> wMethodDef = binlog == null
           ? interceptedDef : binlog.wrapMethodDefinition(interceptedDef);
-      return startWrappedCall(fullMethodName, wMethodDef, stream, headers, context);
+      return startWrappedCall(fullMethodName, wMethodDef, stream, headers, context, metrics,
+          startedNanos);
     }
 
     private <WReqT, WRespT> ServerStreamListener startWrappedCall(
@@ -651,7 +709,9 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
         ServerMethodDefinition<WReqT, WRespT> methodDef,
         ServerStream stream,
         Metadata headers,
-        Context.CancellableContext context) {
+        Context.CancellableContext context,
+        @Nullable MethodMetrics metrics,
+        long startedNanos) {
       ServerCallImpl<WReqT, WRespT> call = new ServerCallImpl<WReqT, WRespT>(
           stream,
           methodDef.getMethodDescriptor(),
@@ -660,6 +720,9 @@ public final class ServerImpl extends io.grpc.Server implements InternalInstrume
           decompressorRegistry,
           compressorRegistry,
           serverCallTracer);
+      if (metrics != null) {
+        call.setMetrics(metrics, startedNanos);
+      }
 
       ServerCall.Listener<WReqT> listener =
           methodDef.getServerCallHandler().startCall(call, headers);
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.internal;
+
+import javax.annotation.Nullable;
+
+/**
+ * 创建的连接可以在多个channel之间共享的ClientTransportFactory
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface SharableClientTransportFactory extends ClientTransportFactory {
+
+  /**
+   * 连接参数(channel类型、流控窗口、最大消息长度、keepalive、TLS配置等)相同的factory返回equals的key，
+   * 返回null表示不共享连接
+   */
+  @Nullable
+  Object getSharingKey();
+
+  /**
+   * 建立连接时是否用到了authority(例如TLS的SNI和证书校验)
+   * <p>
+   * 返回false时authority不同的channel也可以共享连接，每个stream的authority在创建stream时单独设置。
+   * </p>
+   */
+  boolean isAuthoritySensitive();
+}
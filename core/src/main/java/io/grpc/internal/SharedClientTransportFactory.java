@@ -0,0 +1,556 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.InternalChannelz.SocketStats;
+import io.grpc.InternalLogId;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 在同一个JVM的多个channel之间共享连接的ClientTransportFactory
+ * <p>
+ * 每个服务对应一个zookeeper channel，一个服务端进程提供多个服务时，客户端到该服务端会建立多个HTTP/2连接。
+ * 启用共享连接(consumer.transport.shared.enabled)后，连接参数相同的channel到同一个服务端(ip:port)
+ * 复用最多consumer.transport.shared.connections个物理连接，按stream多路复用。
+ * </p>
+ * <p>
+ * 每个subchannel得到的仍然是一个独立的逻辑连接，它按自己的stream数量上报in-use状态，
+ * 关闭时只关闭自己的stream；物理连接在所有逻辑连接都关闭后才关闭，物理连接断开时通知所有的逻辑连接。
+ * </p>
+ * <p>
+ * 物理连接由第一个建立连接的channel的传输层工厂(例如NettyTransportFactory)创建，
+ * 传输层统计(TransportTracer)上报给该工厂，之后复用该连接的其他channel上的流量也计入该channel，
+ * 即使该channel已经关闭。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class SharedClientTransportFactory implements ClientTransportFactory {
+  private static final Logger logger = LoggerFactory.getLogger(SharedClientTransportFactory.class);
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  private static final boolean enabled = initEnabled();
+
+  private static final int maxConnections = initMaxConnections();
+
+  private static final Object poolLock = new Object();
+
+  /**
+   * 共享的物理连接，key为连接参数和服务端地址
+   */
+  @GuardedBy("poolLock")
+  private static final Map<PoolKey, List<SharedTransport>> pools =
+      new HashMap<PoolKey, List<SharedTransport>>();
+
+  private final SharableClientTransportFactory delegate;
+
+  @Nullable
+  private final Object sharingKey;
+
+  SharedClientTransportFactory(SharableClientTransportFactory delegate) {
+    this.delegate = checkNotNull(delegate, "delegate");
+    this.sharingKey = delegate.getSharingKey();
+  }
+
+  private static boolean initEnabled() {
+    String key = GlobalConstants.Consumer.Key.TRANSPORT_SHARED_ENABLED;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static int initMaxConnections() {
+    String key = GlobalConstants.Consumer.Key.TRANSPORT_SHARED_CONNECTIONS;
+    int defaultValue = 1;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 1) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 是否启用共享连接
+   */
+  static boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public ConnectionClientTransport newClientTransport(
+      SocketAddress serverAddress, ClientTransportOptions options) {
+    if (sharingKey == null) {
+      return delegate.newClientTransport(serverAddress, options);
+    }
+
+    boolean authoritySensitive = delegate.isAuthoritySensitive();
+    PoolKey key = new PoolKey(sharingKey, serverAddress,
+        authoritySensitive ? options.getAuthority() : null, options.getUserAgent(),
+        options.getEagAttributes(), options.getProxyParameters());
+    return new LogicalTransport(key, serverAddress, options, authoritySensitive);
+  }
+
+  @Override
+  public ScheduledExecutorService getScheduledExecutorService() {
+    return delegate.getScheduledExecutorService();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  /**
+   * 获取一个物理连接，连接数未达到上限时新建连接，否则选择使用者最少的连接
+   *
+   * @return 新建的连接需要由调用者在poolLock之外调用start
+   */
+  @GuardedBy("poolLock")
+  private SharedTransport acquire(PoolKey key, SocketAddress address,
+                                  ClientTransportOptions options, LogicalTransport handle) {
+    List<SharedTransport> transports = pools.get(key);
+    if (transports == null) {
+      transports = new ArrayList<SharedTransport>(maxConnections);
+      pools.put(key, transports);
+    }
+
+    SharedTransport chosen = null;
+    if (transports.size() < maxConnections) {
+      chosen = new SharedTransport(key, delegate.newClientTransport(address, options));
+      transports.add(chosen);
+      logger.info("新建到服务端[" + address + "]的共享连接，当前共享连接数：" + transports.size());
+    } else {
+      for (SharedTransport transport : transports) {
+        if (chosen == null || transport.users < chosen.users) {
+          chosen = transport;
+        }
+      }
+    }
+
+    chosen.handles.add(handle);
+    chosen.users++;
+    return chosen;
+  }
+
+  @GuardedBy("poolLock")
+  private static void removeFromPool(SharedTransport transport) {
+    List<SharedTransport> transports = pools.get(transport.key);
+    if (transports != null && transports.remove(transport) && transports.isEmpty()) {
+      pools.remove(transport.key);
+    }
+  }
+
+  /**
+   * 物理连接
+   */
+  private static final class SharedTransport implements ManagedClientTransport.Listener {
+    final PoolKey key;
+    final ConnectionClientTransport transport;
+
+    // 以下变量均由poolLock保护
+    // 尚未终止的逻辑连接
+    final List<LogicalTransport> handles = new ArrayList<LogicalTransport>();
+    // 尚未关闭的逻辑连接数
+    int users;
+    boolean started;
+    boolean ready;
+    boolean shutdown;
+
+    SharedTransport(PoolKey key, ConnectionClientTransport transport) {
+      this.key = key;
+      this.transport = transport;
+    }
+
+    @Override
+    public void transportReady() {
+      List<LogicalTransport> toNotify;
+      synchronized (poolLock) {
+        ready = true;
+        toNotify = new ArrayList<LogicalTransport>(handles);
+      }
+      for (LogicalTransport handle : toNotify) {
+        handle.physicalReady();
+      }
+    }
+
+    @Override
+    public void transportShutdown(Status s) {
+      List<LogicalTransport> toNotify;
+      synchronized (poolLock) {
+        shutdown = true;
+        removeFromPool(this);
+        toNotify = new ArrayList<LogicalTransport>(handles);
+      }
+      for (LogicalTransport handle : toNotify) {
+        handle.physicalShutdown(s);
+      }
+    }
+
+    @Override
+    public void transportTerminated() {
+      List<LogicalTransport> toNotify;
+      synchronized (poolLock) {
+        shutdown = true;
+        removeFromPool(this);
+        toNotify = new ArrayList<LogicalTransport>(handles);
+      }
+      for (LogicalTransport handle : toNotify) {
+        handle.notifyTerminated();
+      }
+    }
+
+    @Override
+    public void transportInUse(boolean inUse) {
+      // 每个逻辑连接按自己的stream数量上报in-use状态
+    }
+  }
+
+  /**
+   * 逻辑连接，每个subchannel使用自己的逻辑连接
+   */
+  private final class LogicalTransport implements ConnectionClientTransport {
+    private final InternalLogId logId = InternalLogId.allocate(getClass().getName());
+    private final PoolKey key;
+    private final SocketAddress address;
+    private final ClientTransportOptions options;
+    private final boolean authoritySensitive;
+
+    private final Object lock = new Object();
+
+    private volatile SharedTransport shared;
+    private Listener listener;
+
+    // 以下变量均由lock保护
+    private final Set<TrackedStream> streams = new LinkedHashSet<TrackedStream>();
+    private boolean readyNotified;
+    private Status shutdownStatus;
+    private boolean terminated;
+
+    LogicalTransport(PoolKey key, SocketAddress address, ClientTransportOptions options,
+                     boolean authoritySensitive) {
+      this.key = key;
+      this.address = address;
+      this.options = options;
+      this.authoritySensitive = authoritySensitive;
+    }
+
+    @Override
+    public Runnable start(Listener listener) {
+      this.listener = checkNotNull(listener, "listener");
+
+      final SharedTransport transport;
+      final boolean needStart;
+      final boolean readyNow;
+      synchronized (poolLock) {
+        transport = acquire(key, address, options, this);
+        needStart = !transport.started;
+        transport.started = true;
+        readyNow = transport.ready;
+      }
+      shared = transport;
+
+      final Runnable startTask = needStart ? transport.transport.start(transport) : null;
+      return new Runnable() {
+        @Override
+        public void run() {
+          if (startTask != null) {
+            startTask.run();
+          }
+          if (readyNow) {
+            physicalReady();
+          }
+        }
+      };
+    }
+
+    @Override
+    public ClientStream newStream(
+        MethodDescriptor<?, ?> method, Metadata headers, CallOptions callOptions) {
+      TrackedStream stream;
+      synchronized (lock) {
+        if (shutdownStatus != null) {
+          return new FailingClientStream(shutdownStatus);
+        }
+        ClientStream delegate = shared.transport.newStream(method, headers, callOptions);
+        if (!authoritySensitive) {
+          // 共享连接的authority是第一个channel的，需要为每个stream单独设置
+          delegate.setAuthority(options.getAuthority());
+        }
+        stream = new TrackedStream(delegate);
+        streams.add(stream);
+        if (streams.size() != 1) {
+          return stream;
+        }
+      }
+      listener.transportInUse(true);
+      return stream;
+    }
+
+    @Override
+    public void ping(PingCallback callback, Executor executor) {
+      shared.transport.ping(callback, executor);
+    }
+
+    @Override
+    public void shutdown(Status status) {
+      boolean terminateNow;
+      synchronized (lock) {
+        if (shutdownStatus != null) {
+          return;
+        }
+        shutdownStatus = status;
+        terminateNow = streams.isEmpty();
+      }
+      listener.transportShutdown(status);
+      release();
+      if (terminateNow) {
+        notifyTerminated();
+      }
+    }
+
+    @Override
+    public void shutdownNow(Status status) {
+      shutdown(status);
+      List<TrackedStream> toCancel;
+      synchronized (lock) {
+        toCancel = new ArrayList<TrackedStream>(streams);
+      }
+      for (TrackedStream stream : toCancel) {
+        stream.cancel(status);
+      }
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      SharedTransport transport = shared;
+      return (transport == null) ? Attributes.EMPTY : transport.transport.getAttributes();
+    }
+
+    @Override
+    public SocketAddress getAddress() {
+      return address;
+    }
+
+    @Override
+    public InternalLogId getLogId() {
+      return logId;
+    }
+
+    @Override
+    public ListenableFuture<SocketStats> getStats() {
+      SharedTransport transport = shared;
+      if (transport == null) {
+        return Futures.<SocketStats>immediateFuture(null);
+      }
+      return transport.transport.getStats();
+    }
+
+    /**
+     * 逻辑连接关闭后减少物理连接的使用者，没有使用者时关闭物理连接，物理连接上尚未结束的stream不受影响
+     */
+    private void release() {
+      SharedTransport transport = shared;
+      boolean shutdownPhysical = false;
+      synchronized (poolLock) {
+        transport.users--;
+        if (transport.users == 0 && !transport.shutdown) {
+          transport.shutdown = true;
+          removeFromPool(transport);
+          shutdownPhysical = true;
+        }
+      }
+      if (shutdownPhysical) {
+        logger.info("到服务端[" + address + "]的共享连接已没有使用者，关闭该连接");
+        transport.transport.shutdown(Status.UNAVAILABLE.withDescription("Shared transport released"));
+      }
+    }
+
+    void physicalReady() {
+      synchronized (lock) {
+        if (readyNotified || shutdownStatus != null) {
+          return;
+        }
+        readyNotified = true;
+      }
+      listener.transportReady();
+    }
+
+    void physicalShutdown(Status status) {
+      boolean terminateNow;
+      synchronized (lock) {
+        if (shutdownStatus != null) {
+          return;
+        }
+        shutdownStatus = status;
+        terminateNow = streams.isEmpty();
+      }
+      listener.transportShutdown(status);
+      // 物理连接已经从共享池中移除，不需要再减少使用者
+      if (terminateNow) {
+        notifyTerminated();
+      }
+    }
+
+    void notifyTerminated() {
+      synchronized (lock) {
+        if (terminated) {
+          return;
+        }
+        terminated = true;
+      }
+      SharedTransport transport = shared;
+      synchronized (poolLock) {
+        transport.handles.remove(this);
+      }
+      listener.transportTerminated();
+    }
+
+    private void streamClosed(TrackedStream stream) {
+      boolean terminateNow;
+      synchronized (lock) {
+        if (!streams.remove(stream) || !streams.isEmpty()) {
+          return;
+        }
+        terminateNow = shutdownStatus != null;
+      }
+      listener.transportInUse(false);
+      if (terminateNow) {
+        notifyTerminated();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "LogicalTransport[" + logId.getId() + "," + address + "]";
+    }
+
+    /**
+     * 记录逻辑连接上尚未结束的stream
+     */
+    private final class TrackedStream extends ForwardingClientStream {
+      private final ClientStream delegate;
+
+      TrackedStream(ClientStream delegate) {
+        this.delegate = delegate;
+      }
+
+      @Override
+      protected ClientStream delegate() {
+        return delegate;
+      }
+
+      @Override
+      public void start(final ClientStreamListener listener) {
+        super.start(new ForwardingClientStreamListener() {
+          @Override
+          protected ClientStreamListener delegate() {
+            return listener;
+          }
+
+          @Override
+          public void closed(Status status, Metadata trailers) {
+            streamClosed(TrackedStream.this);
+            super.closed(status, trailers);
+          }
+
+          @Override
+          public void closed(Status status, RpcProgress rpcProgress, Metadata trailers) {
+            streamClosed(TrackedStream.this);
+            super.closed(status, rpcProgress, trailers);
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * 共享连接的key，authority只在建立连接时用到它的情况下才作为key的一部分
+   */
+  private static final class PoolKey {
+    final Object sharingKey;
+    final SocketAddress address;
+    @Nullable
+    final String authority;
+    @Nullable
+    final String userAgent;
+    final Attributes eagAttributes;
+    @Nullable
+    final ProxyParameters proxyParameters;
+
+    PoolKey(Object sharingKey, SocketAddress address, @Nullable String authority,
+            @Nullable String userAgent, Attributes eagAttributes,
+            @Nullable ProxyParameters proxyParameters) {
+      this.sharingKey = sharingKey;
+      this.address = address;
+      this.authority = authority;
+      this.userAgent = userAgent;
+      this.eagAttributes = eagAttributes;
+      this.proxyParameters = proxyParameters;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(sharingKey, address, authority, userAgent, eagAttributes,
+          proxyParameters);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof PoolKey)) {
+        return false;
+      }
+      PoolKey that = (PoolKey) obj;
+      return sharingKey.equals(that.sharingKey)
+          && address.equals(that.address)
+          && Objects.equal(authority, that.authority)
+          && Objects.equal(userAgent, that.userAgent)
+          && eagAttributes.equals(that.eagAttributes)
+          && Objects.equal(proxyParameters, that.proxyParameters);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link DeadlineUtils}.
+ */
+@RunWith(JUnit4.class)
+public class DeadlineUtilsTest {
+
+  @Test
+  public void firstHopUsesCallDeadline() {
+    Metadata headers = new Metadata();
+    DeadlineUtils.putOriginDeadline(headers, null);
+    assertNull(DeadlineUtils.getOriginDeadline(headers));
+
+    long before = System.currentTimeMillis();
+    DeadlineUtils.putOriginDeadline(headers, Deadline.after(1, TimeUnit.SECONDS));
+    long originDeadline = DeadlineUtils.getOriginDeadline(headers);
+    assertTrue(originDeadline >= before + 900);
+    assertTrue(originDeadline <= System.currentTimeMillis() + 1000);
+  }
+
+  @Test
+  public void laterHopKeepsOriginDeadline() {
+    Context context = DeadlineUtils.withOriginDeadline(Context.ROOT, 12345L);
+    Context previous = context.attach();
+    try {
+      Metadata headers = new Metadata();
+      // 下游调用的超时时间更长，仍然传递最初的调用方的截止时间
+      DeadlineUtils.putOriginDeadline(headers, Deadline.after(1, TimeUnit.MINUTES));
+      assertEquals(Long.valueOf(12345L), DeadlineUtils.getOriginDeadline(headers));
+    } finally {
+      context.detach(previous);
+    }
+  }
+
+  @Test
+  public void invalidHeaderIsIgnored() {
+    Metadata headers = new Metadata();
+    headers.put(DeadlineUtils.ORIGIN_DEADLINE_KEY, "abc");
+    assertNull(DeadlineUtils.getOriginDeadline(headers));
+  }
+
+  @Test
+  public void disabledWithoutMinServiceTime() {
+    // 测试环境没有配置provider.deadline.min.service.time
+    assertFalse(DeadlineUtils.isEnabled());
+    assertEquals(0L, DeadlineUtils.getMinServiceTimeNanos("com.foo.FooService/bar"));
+    assertNull(DeadlineUtils.checkRemaining("com.foo.FooService/bar", 1L, null));
+  }
+
+  @Test
+  public void originPropagatedWithoutMinServiceTime() {
+    // 纯客户端没有配置最小处理时间，仍然传递最初的调用方的截止时间
+    assertFalse(DeadlineUtils.isEnabled());
+    assertTrue(DeadlineUtils.isOriginPropagated());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.orientsec.grpc.common.metrics.LatencyHistogram;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import io.grpc.CallOptions;
+import io.grpc.Status;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link CallProfiler}.
+ */
+@RunWith(JUnit4.class)
+public class CallProfilerTest {
+  private static final String METHOD = "com.foo.ProfilerTestService/query";
+
+  private boolean enabled;
+  private int sampleInterval;
+
+  @Before
+  public void setUp() {
+    enabled = CallProfiler.isEnabled();
+    sampleInterval = CallProfiler.getSampleInterval();
+  }
+
+  @After
+  public void tearDown() {
+    CallProfiler.setEnabled(enabled);
+    CallProfiler.setSampleInterval(sampleInterval);
+  }
+
+  @Test
+  public void disabledProfilerSamplesNothing() {
+    CallProfiler.setEnabled(false);
+    assertNull(CallProfiler.newProfile(METHOD));
+
+    CallOptions callOptions =
+        CallOptions.DEFAULT.withOption(CallProfiler.CALL_PROFILE_KEY, new CallProfile(METHOD));
+    assertNull(CallProfiler.get(callOptions));
+    assertEquals(0, CallProfile.now(null));
+    assertEquals(0, CallProfile.record(null, CallProfile.RESOLVE, 0));
+  }
+
+  @Test
+  public void stagesAreAggregatedIntoMetrics() {
+    CallProfiler.setEnabled(true);
+    CallProfiler.setSampleInterval(1);
+    CallProfile profile = CallProfiler.newProfile(METHOD);
+    assertNotNull(profile);
+    CallOptions callOptions =
+        CallOptions.DEFAULT.withOption(CallProfiler.CALL_PROFILE_KEY, profile);
+    assertEquals(profile, CallProfiler.get(callOptions));
+
+    profile.add(CallProfile.PICK, 3000);
+    profile.add(CallProfile.PICK, 2000);
+    assertTrue(profile.hasStage(CallProfile.PICK));
+    assertEquals(5000, profile.getStageNanos(CallProfile.PICK));
+    assertFalse(profile.hasStage(CallProfile.TRANSPORT_WAIT));
+
+    LatencyHistogram pick = NebulaMetrics.clientStage(CallProfile.getStageName(CallProfile.PICK));
+    long before = pick.snapshot().getCount();
+    CallProfiler.finish(profile, Status.OK);
+    assertEquals(before + 1, pick.snapshot().getCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void sampleIntervalMustBePositive() {
+    CallProfiler.setSampleInterval(0);
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.orientsec.grpc.consumer.ThreadLocalVariableUtils;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StringMarshaller;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link FailoverClientInterceptor}.
+ */
+@RunWith(JUnit4.class)
+public class FailoverClientInterceptorTest {
+  private static final String SERVICE_NAME = "com.orientsec.demo.Greeter";
+  private static final Metadata.Key<String> TEST_KEY =
+      Metadata.Key.of("test-key", Metadata.ASCII_STRING_MARSHALLER);
+
+  private final MethodDescriptor<String, String> method =
+      MethodDescriptor.<String, String>newBuilder()
+          .setType(MethodDescriptor.MethodType.UNARY)
+          .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "sayHello"))
+          .setRequestMarshaller(new StringMarshaller())
+          .setResponseMarshaller(new StringMarshaller())
+          .build();
+
+  private final QueueExecutor callExecutor = new QueueExecutor();
+  private final QueueExecutor channelExecutor = new QueueExecutor();
+  private final FakeChannel next = new FakeChannel();
+  private final RecordingListener listener = new RecordingListener();
+  private final FailoverClientInterceptor interceptor =
+      new FailoverClientInterceptor(next, channelExecutor);
+
+  @Test
+  public void retryReplaysHeadersAndMessage() {
+    ClientCall<String, String> call = interceptor.newRetryingCall(
+        method, CallOptions.DEFAULT.withExecutor(callExecutor), next, 2);
+    startUnaryCall(call, "hello");
+
+    FakeCall first = next.calls.get(0);
+    first.listener.onHeaders(new Metadata());
+    first.listener.onClose(Status.UNAVAILABLE, new Metadata());
+
+    // 重试在调用的executor上执行，失败的响应头和关闭事件都不回调给上层
+    assertEquals(1, next.calls.size());
+    assertEquals(0, listener.headersCount);
+    assertNull(listener.closeStatus);
+    assertEquals(1, callExecutor.tasks.size());
+    assertEquals(0, channelExecutor.tasks.size());
+    callExecutor.runAll();
+
+    assertEquals(2, next.calls.size());
+    FakeCall second = next.calls.get(1);
+    assertEquals("v", second.headers.get(TEST_KEY));
+    assertEquals(1, second.requested);
+    assertEquals(1, second.messages.size());
+    assertEquals("hello", second.messages.get(0));
+    assertTrue(second.halfClosed);
+
+    second.listener.onHeaders(new Metadata());
+    second.listener.onMessage("world");
+    second.listener.onClose(Status.OK, new Metadata());
+    assertEquals(1, listener.headersCount);
+    assertEquals("world", listener.message);
+    assertSame(Status.OK, listener.closeStatus);
+  }
+
+  @Test
+  public void stopAfterMaxRetries() {
+    ClientCall<String, String> call = interceptor.newRetryingCall(
+        method, CallOptions.DEFAULT.withExecutor(callExecutor), next, 2);
+    startUnaryCall(call, "hello");
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(i + 1, next.calls.size());
+      next.calls.get(i).listener.onClose(Status.UNAVAILABLE, new Metadata());
+      callExecutor.runAll();
+    }
+
+    // 第一次调用加两次重试
+    assertEquals(3, next.calls.size());
+    assertSame(Status.UNAVAILABLE, listener.closeStatus);
+    assertEquals(1, listener.closeCount);
+  }
+
+  @Test
+  public void noRetryAfterResponseMessage() {
+    ClientCall<String, String> call = interceptor.newRetryingCall(
+        method, CallOptions.DEFAULT.withExecutor(callExecutor), next, 2);
+    startUnaryCall(call, "hello");
+
+    FakeCall first = next.calls.get(0);
+    first.listener.onMessage("world");
+    first.listener.onClose(Status.UNAVAILABLE, new Metadata());
+
+    assertEquals(0, callExecutor.tasks.size());
+    assertEquals(1, next.calls.size());
+    assertEquals("world", listener.message);
+    assertSame(Status.UNAVAILABLE, listener.closeStatus);
+  }
+
+  @Test
+  public void noRetryAfterCancel() {
+    ClientCall<String, String> call = interceptor.newRetryingCall(
+        method, CallOptions.DEFAULT.withExecutor(callExecutor), next, 2);
+    startUnaryCall(call, "hello");
+    call.cancel("user cancel", null);
+
+    next.calls.get(0).listener.onClose(Status.CANCELLED, new Metadata());
+    assertEquals(0, callExecutor.tasks.size());
+    assertEquals(1, next.calls.size());
+    assertSame(Status.CANCELLED, listener.closeStatus);
+  }
+
+  @Test
+  public void retryOnChannelExecutorRestoresThreadLocals() {
+    ClientCall<String, String> call =
+        interceptor.newRetryingCall(method, CallOptions.DEFAULT, next, 1);
+    startUnaryCall(call, "hello");
+
+    next.calls.get(0).listener.onClose(Status.UNAVAILABLE, new Metadata());
+    assertEquals(1, channelExecutor.tasks.size());
+    assertNull(ThreadLocalVariableUtils.getServiceMethodName(SERVICE_NAME));
+    channelExecutor.runAll();
+
+    // 重试时调用的方法名放入了执行重试的线程，重试结束后被清除
+    assertEquals(2, next.calls.size());
+    assertEquals("sayHello", next.calls.get(1).methodNameInThread);
+    assertNull(ThreadLocalVariableUtils.getServiceMethodName(SERVICE_NAME));
+  }
+
+  @Test
+  public void replayDoesNotHoldLock() throws Exception {
+    final ClientCall<String, String> call = interceptor.newRetryingCall(
+        method, CallOptions.DEFAULT.withExecutor(callExecutor), next, 2);
+    startUnaryCall(call, "hello");
+
+    // 新的尝试在start中阻塞时，其他线程仍然可以取消调用
+    final Thread canceller = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        call.cancel("user cancel", null);
+      }
+    });
+    next.startHook = new Runnable() {
+      @Override
+      public void run() {
+        canceller.start();
+        try {
+          canceller.join(5000);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    next.calls.get(0).listener.onClose(Status.UNAVAILABLE, new Metadata());
+    callExecutor.runAll();
+
+    assertFalse(canceller.isAlive());
+    FakeCall second = next.calls.get(1);
+    assertEquals(1, second.messages.size());
+    assertTrue(second.halfClosed);
+    assertEquals("user cancel", second.cancelMessage);
+  }
+
+  private void startUnaryCall(ClientCall<String, String> call, String request) {
+    Metadata headers = new Metadata();
+    headers.put(TEST_KEY, "v");
+    call.start(listener, headers);
+    call.request(1);
+    call.sendMessage(request);
+    call.halfClose();
+  }
+
+  private static final class QueueExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
+  }
+
+  private static final class FakeChannel extends Channel {
+    final List<FakeCall> calls = new ArrayList<>();
+    // 新建的调用在start中执行的操作
+    Runnable startHook;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+        MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+      FakeCall call = new FakeCall();
+      call.startHook = startHook;
+      calls.add(call);
+      return (ClientCall<ReqT, RespT>) call;
+    }
+
+    @Override
+    public String authority() {
+      return "fake-authority";
+    }
+  }
+
+  private static final class FakeCall extends ClientCall<String, String> {
+    Listener<String> listener;
+    Metadata headers;
+    int requested;
+    final List<String> messages = new ArrayList<>();
+    boolean halfClosed;
+    String methodNameInThread;
+    String cancelMessage;
+    Runnable startHook;
+
+    @Override
+    public void start(Listener<String> responseListener, Metadata headers) {
+      this.listener = responseListener;
+      this.headers = headers;
+      this.methodNameInThread = ThreadLocalVariableUtils.getServiceMethodName(SERVICE_NAME);
+      if (startHook != null) {
+        startHook.run();
+      }
+    }
+
+    @Override
+    public void request(int numMessages) {
+      requested += numMessages;
+    }
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {
+      cancelMessage = message;
+    }
+
+    @Override
+    public void halfClose() {
+      halfClosed = true;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+      messages.add(message);
+    }
+  }
+
+  private static final class RecordingListener extends ClientCall.Listener<String> {
+    int headersCount;
+    String message;
+    Status closeStatus;
+    int closeCount;
+
+    @Override
+    public void onHeaders(Metadata headers) {
+      headersCount++;
+    }
+
+    @Override
+    public void onMessage(String message) {
+      this.message = message;
+    }
+
+    @Override
+    public void onClose(Status status, Metadata trailers) {
+      closeStatus = status;
+      closeCount++;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link GovernanceEvents}.
+ */
+@RunWith(JUnit4.class)
+public class GovernanceEventsTest {
+
+  @Test
+  public void keepsLatestEventsInOrder() {
+    GovernanceEvents events = new GovernanceEvents(4);
+    assertTrue(events.snapshot().isEmpty());
+
+    for (int i = 0; i < 6; i++) {
+      events.record(GovernanceEvents.BREAKER_OPEN, "10.0.0.1:5000" + i);
+    }
+
+    List<GovernanceEvents.Event> snapshot = events.snapshot();
+    assertEquals(4, snapshot.size());
+    for (int i = 0; i < 4; i++) {
+      assertEquals("10.0.0.1:5000" + (i + 2), snapshot.get(i).getDetail());
+      assertEquals(GovernanceEvents.BREAKER_OPEN, snapshot.get(i).getType());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void capacityMustBePowerOfTwo() {
+    new GovernanceEvents(3);
+  }
+}
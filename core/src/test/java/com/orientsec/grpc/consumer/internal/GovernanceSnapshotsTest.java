@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+import io.grpc.Attributes;
+import io.grpc.internal.GrpcUtil;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link GovernanceSnapshots}.
+ */
+@RunWith(JUnit4.class)
+public class GovernanceSnapshotsTest {
+  private static final String SERVICE = "com.orientsec.test.SnapshotService";
+
+  private ZookeeperNameResolver resolver;
+
+  @Before
+  public void setUp() {
+    resolver = new ZookeeperNameResolver(URI.create("zookeeper:///" + SERVICE), SERVICE,
+        Attributes.EMPTY, GrpcUtil.TIMER_SERVICE, GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+  }
+
+  @Test
+  public void resolverSnapshot() {
+    ServiceProvider master = newProvider("10.0.0.2", true, "z1");
+    ServiceProvider backup = newProvider("10.0.0.1", false, "z2");
+    backup.setDeprecated(true);
+
+    Map<String, ServiceProvider> all = new HashMap<>();
+    all.put("10.0.0.2:50051", master);
+    all.put("10.0.0.1:50051", backup);
+    resolver.resetAllProviders(all);
+    // 备服务器被主备筛选掉，主服务器在负载均衡的备选列表中
+    resolver.setServiceProviderMap(Collections.singletonMap("10.0.0.2:50051", master));
+    resolver.setProvidersForLoadBalance(Collections.singletonMap("10.0.0.2:50051", master));
+    resolver.setServiceVersion("1.0.0");
+    resolver.setInvokeMaster(true);
+    resolver.setLoadBlanceStrategyMap(Collections.singletonMap("sayHello",
+        GlobalConstants.LB_STRATEGY.CONSISTENT_HASH));
+    resolver.getGovernanceEvents().record(GovernanceEvents.PROVIDERS, "2 providers");
+
+    GovernanceSnapshots.ResolverSnapshot snapshot = GovernanceSnapshots.resolver(resolver);
+    assertEquals(SERVICE, snapshot.getService());
+    assertEquals("1.0.0", snapshot.getServiceVersion());
+    assertTrue(snapshot.getInvokeMaster());
+    assertFalse(snapshot.isRegistryConnected());
+    assertEquals(Collections.singletonMap("sayHello", "CONSISTENT_HASH"),
+        snapshot.getLoadBalanceStrategy());
+    assertEquals(Collections.emptyMap(), snapshot.getLoadBalanceMode());
+    assertEquals(0, snapshot.getRouters());
+    assertEquals(0, snapshot.getParameterRouters());
+
+    List<GovernanceSnapshots.ProviderSnapshot> providers = snapshot.getProviders();
+    assertEquals(2, providers.size());
+    // 按地址排序
+    GovernanceSnapshots.ProviderSnapshot first = providers.get(0);
+    assertEquals("10.0.0.1:50051", first.getAddress());
+    assertFalse(first.getMaster());
+    assertEquals("z2", first.getZone());
+    assertTrue(first.isDeprecated());
+    assertFalse(first.isRouted());
+    assertFalse(first.isSelectable());
+    assertTrue(first.isGroupValid());
+    GovernanceSnapshots.ProviderSnapshot second = providers.get(1);
+    assertEquals("10.0.0.2:50051", second.getAddress());
+    assertEquals("1.0.0", second.getVersion());
+    assertEquals(100, second.getWeight());
+    assertTrue(second.getMaster());
+    assertTrue(second.isRouted());
+    assertTrue(second.isSelectable());
+    // 没有注册到注册中心时不查询熔断状态
+    assertNull(snapshot.getConsumerId());
+    assertNull(second.getBreaker());
+
+    List<GovernanceEvents.Event> events = snapshot.getEvents();
+    assertEquals(1, events.size());
+    GovernanceEvents.Event event = events.get(0);
+    assertEquals(GovernanceEvents.PROVIDERS, event.getType());
+    assertEquals("2 providers", event.getDetail());
+    assertTrue(event.getTimeMillis() > 0);
+  }
+
+  @Test
+  public void onlyStartedResolversAreListed() {
+    for (GovernanceSnapshots.ResolverSnapshot snapshot : GovernanceSnapshots.resolvers(null)) {
+      assertFalse(SERVICE.equals(snapshot.getService()));
+    }
+    assertTrue(GovernanceSnapshots.resolvers(SERVICE).isEmpty());
+  }
+
+  private static ServiceProvider newProvider(String host, boolean master, String zone) {
+    ServiceProvider provider = new ServiceProvider();
+    provider.setHost(host);
+    provider.setPort(50051);
+    provider.setVersion("1.0.0");
+    provider.setMaster(master);
+    provider.setWeight(100);
+    provider.setZone(zone);
+    return provider;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link MessagePool}.
+ */
+@RunWith(JUnit4.class)
+public class MessagePoolTest {
+
+  @Test
+  public void borrowReturnsReleasedElements() {
+    MessagePool<Object> pool = new MessagePool<Object>(2);
+    assertNull(pool.borrow());
+
+    Object first = new Object();
+    Object second = new Object();
+    assertTrue(pool.release(first));
+    assertTrue(pool.release(second));
+    assertEquals(2, pool.size());
+
+    assertSame(second, pool.borrow());
+    assertSame(first, pool.borrow());
+    assertNull(pool.borrow());
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void releaseDropsElementsWhenFull() {
+    MessagePool<Object> pool = new MessagePool<Object>(1);
+    assertTrue(pool.release(new Object()));
+    assertFalse(pool.release(new Object()));
+    assertEquals(1, pool.size());
+    assertEquals(1, pool.capacity());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void capacityMustBePositive() {
+    new MessagePool<Object>(0);
+  }
+}
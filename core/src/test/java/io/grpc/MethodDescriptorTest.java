@@ -16,13 +16,20 @@
 
 package io.grpc;
 
+import static com.google.common.base.Charsets.UTF_8;
 import static junit.framework.TestCase.assertSame;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.io.ByteStreams;
 import io.grpc.MethodDescriptor.MethodType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -174,6 +181,33 @@ public class MethodDescriptorTest {
     assertSame(md1.getSchemaDescriptor(), md2.getSchemaDescriptor());
   }
 
+  @Test
+  public void messagePool() {
+    MethodDescriptor<StringBuilder, String> descriptor =
+        MethodDescriptor.<StringBuilder, String>newBuilder()
+            .setType(MethodType.BIDI_STREAMING)
+            .setFullMethodName("package.service/method")
+            .setRequestMarshaller(new StringBuilderMarshaller())
+            .setResponseMarshaller(StringMarshaller.INSTANCE)
+            .build();
+    assertEquals(0, descriptor.getMessagePoolSize());
+    assertNull(descriptor.newRequestPool());
+
+    descriptor = descriptor.toBuilder().setMessagePoolSize(4).build();
+    assertEquals(4, descriptor.getMessagePoolSize());
+    assertEquals(4, descriptor.newRequestPool().capacity());
+    // response marshaller不支持复用对象
+    assertNull(descriptor.newResponsePool());
+
+    StringBuilder reuse = new StringBuilder("previous message");
+    StringBuilder parsed = descriptor.parseRequest(
+        new ByteArrayInputStream("hello".getBytes(UTF_8)), reuse);
+    assertSame(reuse, parsed);
+    assertEquals("hello", parsed.toString());
+    assertNotSame(reuse, descriptor.parseRequest(
+        new ByteArrayInputStream("hello".getBytes(UTF_8)), null));
+  }
+
   @Test
   public void toStringTest() {
     MethodDescriptor<String, String> descriptor = MethodDescriptor.<String, String>newBuilder()
@@ -198,4 +232,34 @@ public class MethodDescriptorTest {
     assertTrue(toString.contains("responseMarshaller=io.grpc.StringMarshaller"));
     assertTrue(toString.contains("schemaDescriptor=java.lang.Object"));
   }
+
+  private static class StringBuilderMarshaller
+      implements MethodDescriptor.ReusableMarshaller<StringBuilder> {
+    @Override
+    public InputStream stream(StringBuilder value) {
+      return new ByteArrayInputStream(value.toString().getBytes(UTF_8));
+    }
+
+    @Override
+    public StringBuilder parse(InputStream stream) {
+      return parse(stream, null);
+    }
+
+    @Override
+    public StringBuilder parse(InputStream stream, StringBuilder reuse) {
+      StringBuilder builder = (reuse == null) ? new StringBuilder() : reuse;
+      builder.setLength(0);
+      try {
+        builder.append(new String(ByteStreams.toByteArray(stream), UTF_8));
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      return builder;
+    }
+
+    @Override
+    public StringBuilder newInstance() {
+      return new StringBuilder();
+    }
+  }
 }
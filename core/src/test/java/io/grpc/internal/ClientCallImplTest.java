@@ -39,6 +39,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
+import com.orientsec.grpc.common.util.DeadlineUtils;
 import io.grpc.Attributes;
 import io.grpc.Attributes.Key;
 import io.grpc.CallOptions;
@@ -672,6 +673,28 @@ public class ClientCallImplTest {
     verifyZeroInteractions(provider);
   }
 
+  @Test
+  public void originDeadlineIsSentWithCallDeadline() {
+    long before = System.currentTimeMillis();
+    CallOptions callOptions = baseCallOptions.withDeadlineAfter(1, TimeUnit.SECONDS);
+    ClientCallImpl<Void, Void> call = new ClientCallImpl<Void, Void>(
+        method,
+        MoreExecutors.directExecutor(),
+        callOptions,
+        provider,
+        deadlineCancellationExecutor,
+        channelCallTracer,
+        false /* retryEnabled */);
+    call.start(callListener, new Metadata());
+
+    // 客户端没有配置最小处理时间，仍然向服务端传递最初的调用方的截止时间
+    ArgumentCaptor<Metadata> metadataCaptor = ArgumentCaptor.forClass(Metadata.class);
+    verify(transport).newStream(eq(method), metadataCaptor.capture(), same(callOptions));
+    Long originDeadline = DeadlineUtils.getOriginDeadline(metadataCaptor.getValue());
+    assertTrue(originDeadline >= before + 900);
+    assertTrue(originDeadline <= System.currentTimeMillis() + 1000);
+  }
+
   @Test
   public void contextDeadlineShouldBePropagatedToStream() {
     Context context = Context.current()
@@ -18,6 +18,9 @@ package io.grpc.internal;
 
 import static com.google.common.base.Charsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -166,6 +169,27 @@ public class CompositeReadableBufferTest {
     verify(mock2).close();
   }
 
+  @Test
+  public void getByteBufferShouldReturnNullForMultipleBuffers() {
+    assertNull(composite.getByteBuffer());
+    assertFalse(composite.isByteBufferAliasable());
+  }
+
+  @Test
+  public void getByteBufferShouldShareSingleBuffer() {
+    composite = new CompositeReadableBuffer();
+    composite.addBuffer(ReadableBuffers.wrap(new byte[0]));
+    composite.addBuffer(ReadableBuffers.wrap(EXPECTED_VALUE.getBytes(UTF_8)));
+
+    ByteBuffer buffer = composite.getByteBuffer();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    assertEquals(EXPECTED_VALUE, new String(bytes, UTF_8));
+    assertTrue(composite.isByteBufferAliasable());
+    // 读取返回的ByteBuffer不改变读位置
+    assertEquals(EXPECTED_VALUE.length(), composite.readableBytes());
+  }
+
   private void splitAndAdd(String value) {
     int partLength = Math.max(1, value.length() / 4);
     for (int startIndex = 0, endIndex = 0; startIndex < value.length(); startIndex = endIndex) {
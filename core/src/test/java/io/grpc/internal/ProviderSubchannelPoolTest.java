@@ -0,0 +1,357 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.internal;
+
+import static io.grpc.ConnectivityState.CONNECTING;
+import static io.grpc.ConnectivityState.READY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer.Helper;
+import io.grpc.LoadBalancer.PickResult;
+import io.grpc.LoadBalancer.PickSubchannelArgs;
+import io.grpc.LoadBalancer.Subchannel;
+import io.grpc.LoadBalancer.SubchannelPicker;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Unit tests for {@link ProviderSubchannelPool}.
+ */
+@RunWith(JUnit4.class)
+public class ProviderSubchannelPoolTest {
+  private final List<EquivalentAddressGroup> servers =
+      Collections.singletonList(new EquivalentAddressGroup(new SocketAddress() {}));
+  private final SynchronizationContext syncContext = new SynchronizationContext(
+      new Thread.UncaughtExceptionHandler() {
+        @Override
+        public void uncaughtException(Thread t, Throwable e) {
+          throw new AssertionError(e);
+        }
+      });
+
+  private final FakeClock fakeClock = new FakeClock();
+  private final PickSubchannelArgs args = mock(PickSubchannelArgs.class);
+  private final ProviderSubchannelPool.Listener listener =
+      mock(ProviderSubchannelPool.Listener.class);
+  private Helper helper;
+  private Subchannel subchannel1;
+  private Subchannel subchannel2;
+  private ClientStreamTracer firstStream;
+
+  @Before
+  public void setUp() {
+    helper = mock(Helper.class);
+    subchannel1 = mock(Subchannel.class);
+    subchannel2 = mock(Subchannel.class);
+    when(helper.getSynchronizationContext()).thenReturn(syncContext);
+    when(helper.getScheduledExecutorService()).thenReturn(fakeClock.getScheduledExecutorService());
+    when(helper.createSubchannel(anyListOf(EquivalentAddressGroup.class), any(Attributes.class)))
+        .thenReturn(subchannel1, subchannel2);
+  }
+
+  @Test
+  public void picksReadySubchannelWithLeastStreams() {
+    ProviderSubchannelPool pool = newPool(2, 2, 10);
+    pool.start();
+    assertEquals(2, pool.size());
+    verify(subchannel1).requestConnection();
+    verify(subchannel2).requestConnection();
+
+    // 只有一个连接READY时总是选择该连接
+    pool.updateState(subchannel2, ConnectivityStateInfo.forNonError(READY));
+    SubchannelPicker picker = pool.newPicker();
+    assertSame(subchannel2, picker.pickSubchannel(args).getSubchannel());
+    assertSame(subchannel2, picker.pickSubchannel(args).getSubchannel());
+
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(READY));
+    picker = pool.newPicker();
+    ClientStreamTracer tracer = startStream(picker.pickSubchannel(args));
+    Subchannel busy = (pool.getActiveStreams(subchannel1) == 1) ? subchannel1 : subchannel2;
+    Subchannel idle = (busy == subchannel1) ? subchannel2 : subchannel1;
+
+    for (int i = 0; i < 3; i++) {
+      assertSame(idle, picker.pickSubchannel(args).getSubchannel());
+    }
+
+    tracer.streamClosed(Status.OK);
+    assertEquals(0, pool.getActiveStreams(busy));
+    verify(helper, never()).getSynchronizationContext();
+  }
+
+  @Test
+  public void growsWhenSaturatedAndShrinksWhenIdle() {
+    ProviderSubchannelPool pool = newPool(1, 3, 1);
+    pool.start();
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(READY));
+
+    ClientStreamTracer tracer = startStream(pool.newPicker().pickSubchannel(args));
+    assertEquals(1, pool.size());
+
+    // 唯一的连接已饱和，增加一个连接
+    PickResult result = pool.newPicker().pickSubchannel(args);
+    assertSame(subchannel1, result.getSubchannel());
+    assertEquals(2, pool.size());
+    verify(subchannel2).requestConnection();
+
+    // 新的连接READY前不再继续增加连接
+    pool.newPicker().pickSubchannel(args);
+    verify(helper, times(2))
+        .createSubchannel(anyListOf(EquivalentAddressGroup.class), any(Attributes.class));
+
+    pool.updateState(subchannel2, ConnectivityStateInfo.forNonError(READY));
+    assertSame(subchannel2, pool.newPicker().pickSubchannel(args).getSubchannel());
+
+    // stream结束后移除多余的空闲连接，延迟一段时间后关闭
+    tracer.streamClosed(Status.OK);
+    assertEquals(1, pool.size());
+    verify(listener).onPoolChanged(pool);
+    verify(subchannel2, never()).shutdown();
+
+    fakeClock.forwardTime(ProviderSubchannelPool.DRAIN_DELAY_SECONDS, TimeUnit.SECONDS);
+    verify(subchannel2).shutdown();
+    verify(subchannel1, never()).shutdown();
+  }
+
+  @Test
+  public void providerConnectionsLimitPoolSize() {
+    ProviderSubchannelPool pool = newPool(1, 4, 1);
+    pool.setProviderConnections(1);
+    assertEquals(1, pool.getMaxConnections());
+    pool.start();
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(READY));
+
+    startStream(pool.newPicker().pickSubchannel(args));
+    pool.newPicker().pickSubchannel(args);
+    assertEquals(1, pool.size());
+    verify(helper, never()).getSynchronizationContext();
+  }
+
+  @Test
+  public void removedProviderConnectionsRestoreMaxConnections() {
+    ProviderSubchannelPool pool = newPool(1, 4, 1);
+    pool.setProviderConnections(1);
+    assertEquals(1, pool.getMaxConnections());
+
+    // 服务提供者删除了连接数配置，恢复为客户端配置的最大连接数
+    pool.setProviderConnections(null);
+    assertEquals(4, pool.getMaxConnections());
+    pool.setProviderConnections(2);
+    assertEquals(2, pool.getMaxConnections());
+    pool.setProviderConnections(0);
+    assertEquals(4, pool.getMaxConnections());
+
+    pool.start();
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(READY));
+    startStream(pool.newPicker().pickSubchannel(args));
+    pool.newPicker().pickSubchannel(args);
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void loweredProviderConnectionsTrimIdleSubchannels() {
+    ProviderSubchannelPool pool = newPool(2, 2, 10);
+    pool.start();
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(READY));
+    pool.updateState(subchannel2, ConnectivityStateInfo.forNonError(READY));
+    SubchannelPicker picker = pool.newPicker();
+    ClientStreamTracer first = startStream(picker.pickSubchannel(args));
+    Subchannel firstSubchannel =
+        (pool.getActiveStreams(subchannel1) == 1) ? subchannel1 : subchannel2;
+    Subchannel secondSubchannel = (firstSubchannel == subchannel1) ? subchannel2 : subchannel1;
+    ClientStreamTracer second = startStream(picker.pickSubchannel(args));
+    assertEquals(1, pool.getActiveStreams(secondSubchannel));
+
+    // 两个连接都在使用，暂时不关闭
+    pool.setProviderConnections(1);
+    assertEquals(2, pool.size());
+    verify(listener, never()).onPoolChanged(pool);
+
+    // 连接空闲后关闭超出最大连接数的连接，即使没有超出初始连接数
+    first.streamClosed(Status.OK);
+    assertEquals(1, pool.size());
+    assertTrue(pool.contains(secondSubchannel));
+    verify(listener).onPoolChanged(pool);
+    fakeClock.forwardTime(ProviderSubchannelPool.DRAIN_DELAY_SECONDS, TimeUnit.SECONDS);
+    verify(firstSubchannel).shutdown();
+    verify(secondSubchannel, never()).shutdown();
+
+    // 不再收缩到0个连接
+    second.streamClosed(Status.OK);
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void stalePickerSkipsDrainingSubchannel() {
+    ProviderSubchannelPool pool = newGrownPool();
+    SubchannelPicker stalePicker = pool.newPicker();
+    assertSame(subchannel2, stalePicker.pickSubchannel(args).getSubchannel());
+
+    firstStream.streamClosed(Status.OK);
+    assertEquals(1, pool.size());
+    verify(listener).onPoolChanged(pool);
+
+    // 旧的picker不再选择已移除的连接，连接延迟关闭
+    for (int i = 0; i < 4; i++) {
+      assertSame(subchannel1, stalePicker.pickSubchannel(args).getSubchannel());
+    }
+    verify(subchannel2, never()).shutdown();
+
+    fakeClock.forwardTime(ProviderSubchannelPool.DRAIN_DELAY_SECONDS, TimeUnit.SECONDS);
+    verify(subchannel2).shutdown();
+  }
+
+  @Test
+  public void stalePickerWithOnlyDrainingSubchannelReturnsNoResult() {
+    ProviderSubchannelPool pool = newGrownPool();
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(CONNECTING));
+    SubchannelPicker stalePicker = pool.newPicker();
+    assertSame(subchannel2, stalePicker.pickSubchannel(args).getSubchannel());
+
+    firstStream.streamClosed(Status.OK);
+    assertEquals(1, pool.size());
+    assertNull(stalePicker.pickSubchannel(args).getSubchannel());
+  }
+
+  @Test
+  public void poolShutdownClosesDrainingSubchannel() {
+    ProviderSubchannelPool pool = newGrownPool();
+    firstStream.streamClosed(Status.OK);
+    assertEquals(1, pool.size());
+
+    pool.shutdown();
+    verify(subchannel1).shutdown();
+    verify(subchannel2).shutdown();
+
+    fakeClock.forwardTime(ProviderSubchannelPool.DRAIN_DELAY_SECONDS, TimeUnit.SECONDS);
+    verify(subchannel2, times(1)).shutdown();
+  }
+
+  @Test
+  public void concurrentPicksNeverReturnRemovedSubchannel() throws Exception {
+    final AtomicBoolean subchannel2Shutdown = new AtomicBoolean();
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        subchannel2Shutdown.set(true);
+        return null;
+      }
+    }).when(subchannel2).shutdown();
+
+    ProviderSubchannelPool pool = newGrownPool();
+    final SubchannelPicker stalePicker = pool.newPicker();
+
+    final AtomicBoolean removed = new AtomicBoolean();
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicInteger shutdownPicks = new AtomicInteger();
+    final AtomicInteger removedPicks = new AtomicInteger();
+    final CountDownLatch started = new CountDownLatch(4);
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          started.countDown();
+          while (!stop.get()) {
+            boolean removedBeforePick = removed.get();
+            Subchannel picked = stalePicker.pickSubchannel(args).getSubchannel();
+            if (picked == subchannel2) {
+              if (subchannel2Shutdown.get()) {
+                shutdownPicks.incrementAndGet();
+              }
+              if (removedBeforePick) {
+                removedPicks.incrementAndGet();
+              }
+            }
+          }
+        }
+      });
+      threads[i].start();
+    }
+    started.await();
+
+    // 其他线程使用旧的picker选择连接的同时，关闭空闲连接
+    firstStream.streamClosed(Status.OK);
+    removed.set(true);
+    Thread.sleep(50);
+    stop.set(true);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(1, pool.size());
+    assertFalse(subchannel2Shutdown.get());
+    assertEquals(0, shutdownPicks.get());
+    assertEquals(0, removedPicks.get());
+
+    fakeClock.forwardTime(ProviderSubchannelPool.DRAIN_DELAY_SECONDS, TimeUnit.SECONDS);
+    assertTrue(subchannel2Shutdown.get());
+  }
+
+  /**
+   * 创建一个从1个连接增加到2个连接、两个连接都READY的连接池，subchannel1上有一个活跃的stream
+   */
+  private ProviderSubchannelPool newGrownPool() {
+    ProviderSubchannelPool pool = newPool(1, 2, 1);
+    pool.start();
+    pool.updateState(subchannel1, ConnectivityStateInfo.forNonError(READY));
+    firstStream = startStream(pool.newPicker().pickSubchannel(args));
+    pool.newPicker().pickSubchannel(args);
+    assertEquals(2, pool.size());
+    pool.updateState(subchannel2, ConnectivityStateInfo.forNonError(READY));
+    return pool;
+  }
+
+  private ProviderSubchannelPool newPool(int initial, int max, int saturation) {
+    return new ProviderSubchannelPool(helper, servers, listener, initial, max, saturation);
+  }
+
+  private static ClientStreamTracer startStream(PickResult result) {
+    return result.getStreamTracerFactory()
+        .newClientStreamTracer(CallOptions.DEFAULT, new Metadata());
+  }
+}
@@ -111,6 +111,13 @@ public class RetriableStreamTest {
           TimeUnit.SECONDS.toNanos(MAX_BACKOFF_IN_SECONDS),
           BACKOFF_MULTIPLIER,
           ImmutableSet.of(RETRIABLE_STATUS_CODE_1, RETRIABLE_STATUS_CODE_2));
+  private static final int HEDGING_MAX_ATTEMPTS = 3;
+  private static final long HEDGING_DELAY_IN_SECONDS = 2;
+  private static final HedgingPolicy HEDGING_POLICY =
+      new HedgingPolicy(
+          HEDGING_MAX_ATTEMPTS,
+          TimeUnit.SECONDS.toNanos(HEDGING_DELAY_IN_SECONDS),
+          ImmutableSet.of(RETRIABLE_STATUS_CODE_1, RETRIABLE_STATUS_CODE_2));
 
   private final RetriableStreamRecorder retriableStreamRecorder =
       mock(RetriableStreamRecorder.class);
@@ -183,6 +190,13 @@ public class RetriableStreamTest {
         HedgingPolicy.DEFAULT, throttle);
   }
 
+  private RetriableStream<String> newThrottledHedgingStream(Throttle throttle) {
+    return new RecordedRetriableStream(
+        method, new Metadata(), channelBufferUsed, PER_RPC_BUFFER_LIMIT, CHANNEL_BUFFER_LIMIT,
+        MoreExecutors.directExecutor(), fakeClock.getScheduledExecutorService(),
+        RetryPolicy.DEFAULT, HEDGING_POLICY, throttle);
+  }
+
   @After
   public void tearDown() {
     assertEquals(0, fakeClock.numPendingTasks());
@@ -1549,6 +1563,195 @@ public class RetriableStreamTest {
     verify(masterListener).closed(same(status), any(Metadata.class));
   }
 
+  @Test
+  public void hedging_everythingDrained_oneHedgeReceivesHeaders() {
+    RetriableStream<String> hedgingStream = newThrottledHedgingStream(null);
+    ClientStream mockStream1 = mock(ClientStream.class);
+    ClientStream mockStream2 = mock(ClientStream.class);
+    ClientStream mockStream3 = mock(ClientStream.class);
+    doReturn(mockStream1).when(retriableStreamRecorder).newSubstream(0);
+    doReturn(mockStream2).when(retriableStreamRecorder).newSubstream(1);
+    doReturn(mockStream3).when(retriableStreamRecorder).newSubstream(2);
+    InOrder inOrder =
+        inOrder(retriableStreamRecorder, masterListener, mockStream1, mockStream2, mockStream3);
+
+    // start
+    hedgingStream.start(masterListener);
+    assertTrue(hedgingStream.hasHedging());
+    inOrder.verify(retriableStreamRecorder).prestart();
+    inOrder.verify(retriableStreamRecorder).newSubstream(0);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor1 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    inOrder.verify(mockStream1).start(sublistenerCaptor1.capture());
+    inOrder.verifyNoMoreInteractions();
+    assertEquals(1, fakeClock.numPendingTasks());
+
+    hedgingStream.sendMessage("msg1");
+    inOrder.verify(mockStream1).writeMessage(any(InputStream.class));
+
+    // hedge2: the buffered message is replayed to the new substream
+    fakeClock.forwardTime(HEDGING_DELAY_IN_SECONDS - 1, TimeUnit.SECONDS);
+    inOrder.verifyNoMoreInteractions();
+    fakeClock.forwardTime(1, TimeUnit.SECONDS);
+    inOrder.verify(retriableStreamRecorder).newSubstream(1);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor2 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    inOrder.verify(mockStream2).start(sublistenerCaptor2.capture());
+    inOrder.verify(mockStream2).writeMessage(any(InputStream.class));
+    inOrder.verifyNoMoreInteractions();
+    assertEquals(1, fakeClock.numPendingTasks());
+
+    // hedge3: max attempts reached, no more hedges scheduled
+    fakeClock.forwardTime(HEDGING_DELAY_IN_SECONDS, TimeUnit.SECONDS);
+    inOrder.verify(retriableStreamRecorder).newSubstream(2);
+    inOrder.verify(mockStream3).start(any(ClientStreamListener.class));
+    inOrder.verify(mockStream3).writeMessage(any(InputStream.class));
+    inOrder.verifyNoMoreInteractions();
+    assertEquals(0, fakeClock.numPendingTasks());
+
+    // hedge2 receives headers and commits, the other hedges are cancelled
+    Metadata headers = new Metadata();
+    sublistenerCaptor2.getValue().headersRead(headers);
+    verify(mockStream1).cancel(any(Status.class));
+    verify(mockStream3).cancel(any(Status.class));
+    verify(mockStream2, never()).cancel(any(Status.class));
+    verify(retriableStreamRecorder).postCommit();
+    verify(masterListener).headersRead(headers);
+
+    // responses of the cancelled hedges are ignored
+    sublistenerCaptor1.getValue().closed(Status.CANCELLED, new Metadata());
+    verify(masterListener, never()).closed(any(Status.class), any(Metadata.class));
+
+    sublistenerCaptor2.getValue().closed(Status.OK, new Metadata());
+    verify(masterListener).closed(same(Status.OK), any(Metadata.class));
+  }
+
+  @Test
+  public void hedging_commitCancelsScheduledHedge() {
+    RetriableStream<String> hedgingStream = newThrottledHedgingStream(null);
+    ClientStream mockStream1 = mock(ClientStream.class);
+    doReturn(mockStream1).when(retriableStreamRecorder).newSubstream(0);
+
+    hedgingStream.start(masterListener);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor1 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream1).start(sublistenerCaptor1.capture());
+    assertEquals(1, fakeClock.numPendingTasks());
+
+    // the first attempt wins before the hedging delay, the scheduled hedge is cancelled
+    sublistenerCaptor1.getValue().headersRead(new Metadata());
+    assertEquals(0, fakeClock.numPendingTasks());
+    verify(retriableStreamRecorder).postCommit();
+    verify(retriableStreamRecorder, never()).newSubstream(1);
+    verify(mockStream1, never()).cancel(any(Status.class));
+  }
+
+  @Test
+  public void hedging_nonFatalStatus_pushbackNextHedge() {
+    RetriableStream<String> hedgingStream = newThrottledHedgingStream(null);
+    ClientStream mockStream1 = mock(ClientStream.class);
+    ClientStream mockStream2 = mock(ClientStream.class);
+    doReturn(mockStream1).when(retriableStreamRecorder).newSubstream(0);
+    doReturn(mockStream2).when(retriableStreamRecorder).newSubstream(1);
+
+    hedgingStream.start(masterListener);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor1 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream1).start(sublistenerCaptor1.capture());
+
+    // non-fatal status: the next hedge is sent without waiting for the hedging delay
+    sublistenerCaptor1.getValue()
+        .closed(Status.fromCode(RETRIABLE_STATUS_CODE_1), PROCESSED, new Metadata());
+    verify(retriableStreamRecorder, never()).postCommit();
+    assertEquals(1, fakeClock.numPendingTasks());
+    fakeClock.forwardTime(0, TimeUnit.SECONDS);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor2 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream2).start(sublistenerCaptor2.capture());
+    assertEquals(1, fakeClock.numPendingTasks());
+
+    // fatal status: commit and cancel the scheduled hedge
+    Status status = Status.fromCode(NON_RETRIABLE_STATUS_CODE);
+    sublistenerCaptor2.getValue().closed(status, PROCESSED, new Metadata());
+    verify(retriableStreamRecorder).postCommit();
+    verify(masterListener).closed(same(status), any(Metadata.class));
+    assertEquals(0, fakeClock.numPendingTasks());
+  }
+
+  @Test
+  public void hedging_transparentRetry_replacesActiveHedge() {
+    RetriableStream<String> hedgingStream = newThrottledHedgingStream(null);
+    ClientStream mockStream1 = mock(ClientStream.class);
+    ClientStream mockStream2 = mock(ClientStream.class);
+    doReturn(mockStream1).when(retriableStreamRecorder).newSubstream(0);
+
+    hedgingStream.start(masterListener);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor1 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream1).start(sublistenerCaptor1.capture());
+
+    // refused: transparent retry with the same attempt number
+    doReturn(mockStream2).when(retriableStreamRecorder).newSubstream(0);
+    sublistenerCaptor1.getValue()
+        .closed(Status.fromCode(NON_RETRIABLE_STATUS_CODE), REFUSED, new Metadata());
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor2 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream2).start(sublistenerCaptor2.capture());
+    verify(retriableStreamRecorder, never()).postCommit();
+    assertEquals(1, fakeClock.numPendingTasks());
+
+    // the replacing substream is the only active hedge, a fatal status commits it
+    Status status = Status.fromCode(NON_RETRIABLE_STATUS_CODE);
+    sublistenerCaptor2.getValue().closed(status, PROCESSED, new Metadata());
+    verify(retriableStreamRecorder).postCommit();
+    verify(masterListener).closed(same(status), any(Metadata.class));
+    assertEquals(0, fakeClock.numPendingTasks());
+  }
+
+  @Test
+  public void hedging_dropped_freezesHedging() {
+    RetriableStream<String> hedgingStream = newThrottledHedgingStream(null);
+    ClientStream mockStream1 = mock(ClientStream.class);
+    doReturn(mockStream1).when(retriableStreamRecorder).newSubstream(0);
+
+    hedgingStream.start(masterListener);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor1 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream1).start(sublistenerCaptor1.capture());
+    assertEquals(1, fakeClock.numPendingTasks());
+
+    Status status = Status.fromCode(RETRIABLE_STATUS_CODE_1);
+    sublistenerCaptor1.getValue().closed(status, DROPPED, new Metadata());
+    assertEquals(0, fakeClock.numPendingTasks());
+    verify(retriableStreamRecorder, never()).newSubstream(1);
+    verify(retriableStreamRecorder).postCommit();
+    verify(masterListener).closed(same(status), any(Metadata.class));
+  }
+
+  @Test
+  public void hedging_throttled_noHedge() {
+    Throttle throttle = new Throttle(4f, 0.8f);
+    assertTrue(throttle.onQualifiedFailureThenCheckIsAboveThreshold()); // count = 3
+    assertFalse(throttle.onQualifiedFailureThenCheckIsAboveThreshold()); // count = 2
+
+    RetriableStream<String> hedgingStream = newThrottledHedgingStream(throttle);
+    ClientStream mockStream1 = mock(ClientStream.class);
+    doReturn(mockStream1).when(retriableStreamRecorder).newSubstream(0);
+
+    hedgingStream.start(masterListener);
+    ArgumentCaptor<ClientStreamListener> sublistenerCaptor1 =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(mockStream1).start(sublistenerCaptor1.capture());
+    assertEquals(0, fakeClock.numPendingTasks());
+
+    // hedging is frozen, a non-fatal status commits the only attempt
+    Status status = Status.fromCode(RETRIABLE_STATUS_CODE_1);
+    sublistenerCaptor1.getValue().closed(status, PROCESSED, new Metadata());
+    verify(retriableStreamRecorder, never()).newSubstream(1);
+    verify(retriableStreamRecorder).postCommit();
+    verify(masterListener).closed(same(status), any(Metadata.class));
+  }
+
   /**
    * Used to stub a retriable stream as well as to record methods of the retriable stream being
    * called.
@@ -19,6 +19,7 @@ package io.grpc.internal;
 import static com.google.common.truth.Truth.assertThat;
 import static io.grpc.InternalChannelz.id;
 import static io.grpc.internal.GrpcUtil.MESSAGE_ENCODING_KEY;
+import static io.grpc.internal.GrpcUtil.TIMEOUT_KEY;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -45,6 +46,10 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.orientsec.grpc.common.metrics.MethodMetrics;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.util.DeadlineUtils;
+import com.orientsec.grpc.provider.qos.ServiceBulkheads;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import io.grpc.Attributes;
@@ -429,6 +434,70 @@ public class ServerImplTest {
     assertEquals(Status.Code.UNIMPLEMENTED, statusCaptor.getValue().getCode());
   }
 
+  @Test
+  public void bulkheadFullRejectsStream() throws Exception {
+    ServiceBulkheads.update("BulkheadWaiter", 1, 0);
+    try {
+      // 唯一的线程已经被占用，舱壁已满
+      assertNotNull(ServiceBulkheads.lookup("BulkheadWaiter/serve").tryAdmit());
+
+      createAndStartServer();
+      ServerTransportListener transportListener
+          = transportServer.registerNewServerTransport(new SimpleServerTransport());
+      transportListener.transportReady(Attributes.EMPTY);
+      Metadata requestHeaders = new Metadata();
+      StatsTraceContext statsTraceCtx =
+          StatsTraceContext.newServerContext(
+              streamTracerFactories, "BulkheadWaiter/serve", requestHeaders);
+      when(stream.statsTraceContext()).thenReturn(statsTraceCtx);
+
+      transportListener.streamCreated(stream, "BulkheadWaiter/serve", requestHeaders);
+      verify(stream).close(statusCaptor.capture(), any(Metadata.class));
+      assertEquals(Status.Code.RESOURCE_EXHAUSTED, statusCaptor.getValue().getCode());
+      assertEquals(0, executor.numPendingTasks());
+
+      // 传输层后续仍然会回调监听器
+      verify(stream).setListener(streamListenerCaptor.capture());
+      ServerStreamListener streamListener = streamListenerCaptor.getValue();
+      streamListener.messagesAvailable(new SingleMessageProducer(STRING_MARSHALLER.stream("x")));
+      streamListener.halfClosed();
+      streamListener.closed(Status.OK);
+    } finally {
+      ServiceBulkheads.reset("BulkheadWaiter");
+    }
+  }
+
+  @Test
+  public void insufficientDeadlineRejectsStream() throws Exception {
+    DeadlineUtils.setMinServiceTime("Waiter/slow", 1000L);
+    try {
+      createAndStartServer();
+      ServerTransportListener transportListener
+          = transportServer.registerNewServerTransport(new SimpleServerTransport());
+      transportListener.transportReady(Attributes.EMPTY);
+      Metadata requestHeaders = new Metadata();
+      requestHeaders.put(TIMEOUT_KEY, TimeUnit.MILLISECONDS.toNanos(10));
+      StatsTraceContext statsTraceCtx =
+          StatsTraceContext.newServerContext(
+              streamTracerFactories, "Waiter/slow", requestHeaders);
+      when(stream.statsTraceContext()).thenReturn(statsTraceCtx);
+
+      transportListener.streamCreated(stream, "Waiter/slow", requestHeaders);
+      verify(stream).close(statusCaptor.capture(), any(Metadata.class));
+      assertEquals(Status.Code.DEADLINE_EXCEEDED, statusCaptor.getValue().getCode());
+      assertEquals(0, executor.numPendingTasks());
+
+      // 传输层后续仍然会回调监听器
+      verify(stream).setListener(streamListenerCaptor.capture());
+      ServerStreamListener streamListener = streamListenerCaptor.getValue();
+      streamListener.messagesAvailable(new SingleMessageProducer(STRING_MARSHALLER.stream("x")));
+      streamListener.halfClosed();
+      streamListener.closed(Status.DEADLINE_EXCEEDED);
+    } finally {
+      DeadlineUtils.setMinServiceTime("Waiter/slow", 0L);
+    }
+  }
+
   @Test
   public void decompressorNotFound() throws Exception {
     String decompressorName = "NON_EXISTENT_DECOMPRESSOR";
@@ -458,6 +527,88 @@ public class ServerImplTest {
     basicExchangeHelper(METHOD, "Lots of pizza, please", 314, 50);
   }
 
+  @Test
+  public void callRecordsMetrics() throws Exception {
+    createAndStartServer();
+    server.metricsEnabled = true;
+    MethodMetrics metrics = NebulaMetrics.server("Waiter/serve");
+    long queueCount = metrics.getQueueTime().snapshot().getCount();
+    long serviceCount = metrics.getServiceTime().snapshot().getCount();
+    long serializeCount = metrics.getSerializeTime().snapshot().getCount();
+
+    ServerCall<String, Integer> call = startMetricsCall();
+    // 排队耗时在业务线程开始处理调用时记录
+    assertEquals(queueCount + 1, metrics.getQueueTime().snapshot().getCount());
+
+    call.sendHeaders(new Metadata());
+    call.sendMessage(314);
+    assertEquals(serializeCount + 1, metrics.getSerializeTime().snapshot().getCount());
+    assertEquals(serviceCount, metrics.getServiceTime().snapshot().getCount());
+
+    // 服务耗时在关闭调用时记录
+    call.close(Status.OK, new Metadata());
+    assertEquals(serviceCount + 1, metrics.getServiceTime().snapshot().getCount());
+    finishMetricsCall();
+  }
+
+  @Test
+  public void callWithoutMetrics() throws Exception {
+    createAndStartServer();
+    server.metricsEnabled = false;
+    MethodMetrics metrics = NebulaMetrics.server("Waiter/serve");
+    long queueCount = metrics.getQueueTime().snapshot().getCount();
+    long serviceCount = metrics.getServiceTime().snapshot().getCount();
+    long serializeCount = metrics.getSerializeTime().snapshot().getCount();
+
+    ServerCall<String, Integer> call = startMetricsCall();
+    call.sendHeaders(new Metadata());
+    call.sendMessage(314);
+    call.close(Status.OK, new Metadata());
+    finishMetricsCall();
+
+    assertEquals(queueCount, metrics.getQueueTime().snapshot().getCount());
+    assertEquals(serviceCount, metrics.getServiceTime().snapshot().getCount());
+    assertEquals(serializeCount, metrics.getSerializeTime().snapshot().getCount());
+  }
+
+  private ServerCall<String, Integer> startMetricsCall() {
+    final AtomicReference<ServerCall<String, Integer>> callReference
+        = new AtomicReference<ServerCall<String, Integer>>();
+    mutableFallbackRegistry.addService(ServerServiceDefinition.builder(
+        new ServiceDescriptor("Waiter", METHOD))
+        .addMethod(
+            METHOD,
+            new ServerCallHandler<String, Integer>() {
+              @Override
+              public ServerCall.Listener<String> startCall(
+                  ServerCall<String, Integer> call,
+                  Metadata headers) {
+                callReference.set(call);
+                return callListener;
+              }
+            }).build());
+    ServerTransportListener transportListener
+        = transportServer.registerNewServerTransport(new SimpleServerTransport());
+    transportListener.transportReady(Attributes.EMPTY);
+
+    Metadata requestHeaders = new Metadata();
+    StatsTraceContext statsTraceCtx =
+        StatsTraceContext.newServerContext(streamTracerFactories, "Waiter/serve", requestHeaders);
+    when(stream.statsTraceContext()).thenReturn(statsTraceCtx);
+
+    transportListener.streamCreated(stream, "Waiter/serve", requestHeaders);
+    verify(stream).setListener(streamListenerCaptor.capture());
+    assertEquals(1, executor.runDueTasks());
+    assertNotNull(callReference.get());
+    return callReference.get();
+  }
+
+  private void finishMetricsCall() {
+    streamListenerCaptor.getValue().closed(Status.OK);
+    assertEquals(1, executor.runDueTasks());
+    verify(callListener).onComplete();
+  }
+
   private void basicExchangeHelper(
       MethodDescriptor<String, Integer> method,
       String request,
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.internal;
+
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.grpc.CallOptions;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.internal.ClientTransportFactory.ClientTransportOptions;
+import io.grpc.testing.TestMethodDescriptors;
+import java.net.SocketAddress;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link SharedClientTransportFactory}.
+ */
+@RunWith(JUnit4.class)
+public class SharedClientTransportFactoryTest {
+  private final MethodDescriptor<Void, Void> method = TestMethodDescriptors.voidMethod();
+
+  // 每个用例使用不同的地址，避免共享池中残留的连接互相影响
+  private final SocketAddress address = new SocketAddress() {};
+
+  private SharableClientTransportFactory delegate;
+  private ConnectionClientTransport physical1;
+  private ConnectionClientTransport physical2;
+
+  @Before
+  public void setUp() {
+    delegate = mock(SharableClientTransportFactory.class);
+    when(delegate.getSharingKey()).thenReturn("key");
+    physical1 = mock(ConnectionClientTransport.class);
+    physical2 = mock(ConnectionClientTransport.class);
+    when(delegate.newClientTransport(any(SocketAddress.class), any(ClientTransportOptions.class)))
+        .thenReturn(physical1, physical2);
+  }
+
+  @Test
+  public void channelsShareOnePhysicalTransport() {
+    ManagedClientTransport.Listener listener1 = mock(ManagedClientTransport.Listener.class);
+    ManagedClientTransport.Listener listener2 = mock(ManagedClientTransport.Listener.class);
+    ConnectionClientTransport logical1 = newTransport("service1");
+    ConnectionClientTransport logical2 = newTransport("service2");
+    assertNotSame(logical1, logical2);
+
+    runIfNotNull(logical1.start(listener1));
+    runIfNotNull(logical2.start(listener2));
+
+    verify(delegate, times(1))
+        .newClientTransport(any(SocketAddress.class), any(ClientTransportOptions.class));
+    ManagedClientTransport.Listener physicalListener = capturePhysicalListener(physical1);
+    physicalListener.transportReady();
+    verify(listener1).transportReady();
+    verify(listener2).transportReady();
+
+    // 已经就绪的共享连接，新的逻辑连接启动后立即就绪
+    ManagedClientTransport.Listener listener3 = mock(ManagedClientTransport.Listener.class);
+    runIfNotNull(newTransport("service3").start(listener3));
+    verify(listener3).transportReady();
+  }
+
+  @Test
+  public void streamAuthorityIsSetPerChannel() {
+    ClientStream physicalStream = mock(ClientStream.class);
+    when(physical1.newStream(any(MethodDescriptor.class), any(Metadata.class),
+        any(CallOptions.class))).thenReturn(physicalStream);
+    ManagedClientTransport.Listener listener = mock(ManagedClientTransport.Listener.class);
+    ConnectionClientTransport logical = newTransport("service2");
+    runIfNotNull(logical.start(listener));
+
+    ClientStream stream = logical.newStream(method, new Metadata(), CallOptions.DEFAULT);
+    verify(physicalStream).setAuthority("service2");
+    verify(listener).transportInUse(true);
+
+    ClientStreamListener streamListener = mock(ClientStreamListener.class);
+    stream.start(streamListener);
+    ArgumentCaptor<ClientStreamListener> captor =
+        ArgumentCaptor.forClass(ClientStreamListener.class);
+    verify(physicalStream).start(captor.capture());
+    captor.getValue().closed(Status.OK, new Metadata());
+    verify(streamListener).closed(eq(Status.OK), any(Metadata.class));
+    verify(listener).transportInUse(false);
+  }
+
+  @Test
+  public void physicalTransportShutdownAfterLastChannelReleased() {
+    ManagedClientTransport.Listener listener1 = mock(ManagedClientTransport.Listener.class);
+    ManagedClientTransport.Listener listener2 = mock(ManagedClientTransport.Listener.class);
+    ConnectionClientTransport logical1 = newTransport("service1");
+    ConnectionClientTransport logical2 = newTransport("service2");
+    runIfNotNull(logical1.start(listener1));
+    runIfNotNull(logical2.start(listener2));
+
+    logical1.shutdown(Status.UNAVAILABLE);
+    verify(listener1).transportShutdown(Status.UNAVAILABLE);
+    verify(listener1).transportTerminated();
+    verify(physical1, never()).shutdown(any(Status.class));
+
+    logical2.shutdown(Status.UNAVAILABLE);
+    verify(listener2).transportTerminated();
+    verify(physical1).shutdown(any(Status.class));
+  }
+
+  @Test
+  public void physicalTransportFailureNotifiesAllChannels() {
+    ManagedClientTransport.Listener listener1 = mock(ManagedClientTransport.Listener.class);
+    ManagedClientTransport.Listener listener2 = mock(ManagedClientTransport.Listener.class);
+    runIfNotNull(newTransport("service1").start(listener1));
+    runIfNotNull(newTransport("service2").start(listener2));
+
+    ManagedClientTransport.Listener physicalListener = capturePhysicalListener(physical1);
+    physicalListener.transportShutdown(Status.UNAVAILABLE);
+    physicalListener.transportTerminated();
+    verify(listener1).transportShutdown(Status.UNAVAILABLE);
+    verify(listener2).transportShutdown(Status.UNAVAILABLE);
+    verify(listener1).transportTerminated();
+    verify(listener2).transportTerminated();
+
+    // 重连时新建物理连接
+    runIfNotNull(newTransport("service1").start(mock(ManagedClientTransport.Listener.class)));
+    verify(delegate, times(2))
+        .newClientTransport(any(SocketAddress.class), any(ClientTransportOptions.class));
+    capturePhysicalListener(physical2);
+  }
+
+  private ConnectionClientTransport newTransport(String authority) {
+    SharedClientTransportFactory factory = new SharedClientTransportFactory(delegate);
+    return factory.newClientTransport(address,
+        new ClientTransportOptions().setAuthority(authority));
+  }
+
+  private static ManagedClientTransport.Listener capturePhysicalListener(
+      ConnectionClientTransport physical) {
+    ArgumentCaptor<ManagedClientTransport.Listener> captor =
+        ArgumentCaptor.forClass(ManagedClientTransport.Listener.class);
+    verify(physical).start(captor.capture());
+    return captor.getValue();
+  }
+
+  private static void runIfNotNull(Runnable runnable) {
+    if (runnable != null) {
+      runnable.run();
+    }
+  }
+}
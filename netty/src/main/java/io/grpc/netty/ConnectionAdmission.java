@@ -0,0 +1,431 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.netty;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.MetricsCollector;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.metrics.PrometheusTextFormat;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 服务端的连接准入控制
+ * <p>
+ * 按客户端IP(InetAddress的字节)统计连接数，计数使用原子变量，建立连接和关闭连接时都不需要全局锁。<br>
+ * 支持以下限制：<br>
+ * 1. 同一个客户端IP的连接数上限(provider.default.connections，可通过注册中心动态修改)；<br>
+ * 2. 服务端的连接总数上限(provider.connections.max.total)；<br>
+ * 3. 同一个客户端IP每秒新建的连接数(provider.connections.accept.rate.per.ip)。<br>
+ * 被拒绝的连接按原因分别计数，服务端启动后通过{@link NebulaMetrics}输出连接数和被拒绝的连接数。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class ConnectionAdmission {
+  private static final Logger logger = LoggerFactory.getLogger(ConnectionAdmission.class);
+
+  private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final long LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 服务端允许的连接总数上限，0表示不限制
+  private static volatile int maxTotalConnections = initMaxTotalConnections();
+
+  // 同一个客户端IP每秒允许新建的连接数，0表示不限制
+  private static volatile int acceptRatePerIp = initAcceptRatePerIp();
+
+  /**
+   * 准入结果
+   */
+  enum Result {
+    ACCEPTED,
+    REJECTED_PER_IP_LIMIT,
+    REJECTED_TOTAL_LIMIT,
+    REJECTED_RATE_LIMIT
+  }
+
+  /**
+   * 已启动的服务端的连接准入，所有服务端的统计值合并输出
+   */
+  private static final CopyOnWriteArraySet<ConnectionAdmission> registered =
+      new CopyOnWriteArraySet<ConnectionAdmission>();
+
+  // 已关闭的服务端累计拒绝的连接数，保证输出的计数不会减少
+  private static final AtomicLong retiredRejectedByPerIpLimit = new AtomicLong();
+  private static final AtomicLong retiredRejectedByTotalLimit = new AtomicLong();
+  private static final AtomicLong retiredRejectedByRateLimit = new AtomicLong();
+
+  private static final MetricsCollector collector = new AdmissionCollector();
+
+  /**
+   * 各个客户端IP的连接信息
+   * <p>
+   * 连接全部关闭后删除；启用了新建连接速率限制时，等到速率的统计窗口结束后才删除，
+   * 以免客户端频繁重连时绕过速率限制，这部分在新建客户端IP的连接信息时清理。
+   * </p>
+   */
+  private final ConcurrentMap<IpKey, IpState> ipStates = new ConcurrentHashMap<IpKey, IpState>();
+
+  private final AtomicLong lastPurgeNanos = new AtomicLong(System.nanoTime());
+
+  private final AtomicInteger totalConnections = new AtomicInteger();
+
+  private final AtomicLong rejectedByPerIpLimit = new AtomicLong();
+  private final AtomicLong rejectedByTotalLimit = new AtomicLong();
+  private final AtomicLong rejectedByRateLimit = new AtomicLong();
+
+  private final AtomicLong lastLogNanos = new AtomicLong(System.nanoTime() - LOG_INTERVAL_NANOS);
+
+  private static int initMaxTotalConnections() {
+    String key = GlobalConstants.Provider.Key.MAX_TOTAL_CONNECTIONS;
+    int defaultValue = 0;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 0) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static int initAcceptRatePerIp() {
+    String key = GlobalConstants.Provider.Key.ACCEPT_RATE_PER_IP;
+    int defaultValue = 0;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 0) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 获取连接的客户端IP，非IP类型的地址(例如本地socket)返回null
+   */
+  @Nullable
+  static InetAddress getRemoteIp(SocketAddress remoteAddress) {
+    if (remoteAddress instanceof InetSocketAddress) {
+      return ((InetSocketAddress) remoteAddress).getAddress();
+    }
+    return null;
+  }
+
+  /**
+   * 新建连接时申请准入，返回{@link Result#ACCEPTED}时连接关闭后必须调用{@link #release(InetAddress)}
+   *
+   * @param remoteIp 客户端IP，为null时只检查连接总数
+   */
+  Result tryAcquire(@Nullable InetAddress remoteIp) {
+    int total = totalConnections.incrementAndGet();
+    if (maxTotalConnections > 0 && total > maxTotalConnections) {
+      totalConnections.decrementAndGet();
+      rejectedByTotalLimit.incrementAndGet();
+      logRejected(remoteIp, Result.REJECTED_TOTAL_LIMIT, total - 1, maxTotalConnections);
+      return Result.REJECTED_TOTAL_LIMIT;
+    }
+
+    if (remoteIp == null) {
+      return Result.ACCEPTED;
+    }
+
+    // 同一个客户端IP的连接数上限可能在注册中心上被动态修改，每次都重新读取
+    int maxConnections = SystemConfig.getProviderMaxConnetions();
+    IpKey key = new IpKey(remoteIp.getAddress());
+    IpState state;
+    int connections;
+    for (;;) {
+      state = getIpState(key);
+      connections = state.connections.get();
+      if (connections < 0) {
+        // 已经被删除，重新获取
+        ipStates.remove(key, state);
+        continue;
+      }
+      if (maxConnections > 0 && connections >= maxConnections) {
+        totalConnections.decrementAndGet();
+        rejectedByPerIpLimit.incrementAndGet();
+        logRejected(remoteIp, Result.REJECTED_PER_IP_LIMIT, connections, maxConnections);
+        return Result.REJECTED_PER_IP_LIMIT;
+      }
+      if (state.connections.compareAndSet(connections, connections + 1)) {
+        break;
+      }
+    }
+
+    if (acceptRatePerIp > 0 && !state.tryAccept(acceptRatePerIp, System.nanoTime())) {
+      releaseIpState(key, state);
+      totalConnections.decrementAndGet();
+      rejectedByRateLimit.incrementAndGet();
+      logRejected(remoteIp, Result.REJECTED_RATE_LIMIT, connections, acceptRatePerIp);
+      return Result.REJECTED_RATE_LIMIT;
+    }
+
+    return Result.ACCEPTED;
+  }
+
+  /**
+   * 连接关闭时释放准入
+   */
+  void release(@Nullable InetAddress remoteIp) {
+    totalConnections.decrementAndGet();
+
+    if (remoteIp == null) {
+      return;
+    }
+
+    IpKey key = new IpKey(remoteIp.getAddress());
+    IpState state = ipStates.get(key);
+    if (state != null) {
+      releaseIpState(key, state);
+    }
+  }
+
+  /**
+   * 减少客户端IP的连接数，连接全部关闭时删除该IP的连接信息
+   */
+  private void releaseIpState(IpKey key, IpState state) {
+    if (state.connections.decrementAndGet() == 0) {
+      tryRemove(key, state, System.nanoTime());
+    }
+  }
+
+  /**
+   * 没有连接、并且速率的统计窗口已经结束时删除客户端IP的连接信息
+   * <p>
+   * 连接数设置为-1之后不会再被使用，并发的{@link #tryAcquire}会重新创建
+   * </p>
+   */
+  private boolean tryRemove(IpKey key, IpState state, long nowNanos) {
+    if (acceptRatePerIp > 0 && !state.isWindowExpired(nowNanos)) {
+      return false;
+    }
+    if (!state.connections.compareAndSet(0, -1)) {
+      return false;
+    }
+    ipStates.remove(key, state);
+    return true;
+  }
+
+  private IpState getIpState(IpKey key) {
+    IpState state = ipStates.get(key);
+    if (state == null) {
+      purgeIdleIpStates();
+      state = new IpState();
+      IpState oldValue = ipStates.putIfAbsent(key, state);
+      if (oldValue != null) {
+        state = oldValue;
+      }
+    }
+    return state;
+  }
+
+  /**
+   * 删除因速率统计窗口未结束而保留的客户端IP的连接信息，每个统计窗口最多执行一次
+   */
+  private void purgeIdleIpStates() {
+    if (acceptRatePerIp <= 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    long last = lastPurgeNanos.get();
+    if (now - last < RATE_WINDOW_NANOS || !lastPurgeNanos.compareAndSet(last, now)) {
+      return;
+    }
+
+    Iterator<Map.Entry<IpKey, IpState>> iterator = ipStates.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<IpKey, IpState> entry = iterator.next();
+      if (entry.getValue().connections.get() == 0) {
+        tryRemove(entry.getKey(), entry.getValue(), now);
+      }
+    }
+  }
+
+  /**
+   * 连接被拒绝时输出日志，每秒最多输出一次，避免客户端大量重连时日志本身成为瓶颈
+   */
+  private void logRejected(@Nullable InetAddress remoteIp, Result result, int current, int limit) {
+    long now = System.nanoTime();
+    long last = lastLogNanos.get();
+    if (now - last < LOG_INTERVAL_NANOS || !lastLogNanos.compareAndSet(last, now)) {
+      return;
+    }
+
+    String ip = (remoteIp == null) ? "unknown" : remoteIp.getHostAddress();
+    logger.warn("拒绝客户端IP:{}的连接，原因{}，上限{}，当前值{}；累计拒绝连接数：单IP连接数{}，连接总数{}，新建连接速率{}",
+        ip, result, limit, current,
+        rejectedByPerIpLimit.get(), rejectedByTotalLimit.get(), rejectedByRateLimit.get());
+  }
+
+  int getTotalConnections() {
+    return totalConnections.get();
+  }
+
+  int getConnections(InetAddress remoteIp) {
+    IpState state = ipStates.get(new IpKey(remoteIp.getAddress()));
+    return (state == null) ? 0 : Math.max(state.connections.get(), 0);
+  }
+
+  int getIpCount() {
+    return ipStates.size();
+  }
+
+  long getRejectedByPerIpLimit() {
+    return rejectedByPerIpLimit.get();
+  }
+
+  long getRejectedByTotalLimit() {
+    return rejectedByTotalLimit.get();
+  }
+
+  long getRejectedByRateLimit() {
+    return rejectedByRateLimit.get();
+  }
+
+  /**
+   * 服务端启动时调用，开始输出统计值
+   */
+  void register() {
+    registered.add(this);
+    NebulaMetrics.addCollector(collector);
+  }
+
+  /**
+   * 服务端关闭时调用，累计拒绝的连接数合并到全局的计数中
+   */
+  void unregister() {
+    if (registered.remove(this)) {
+      retiredRejectedByPerIpLimit.addAndGet(rejectedByPerIpLimit.get());
+      retiredRejectedByTotalLimit.addAndGet(rejectedByTotalLimit.get());
+      retiredRejectedByRateLimit.addAndGet(rejectedByRateLimit.get());
+    }
+  }
+
+  static void setMaxTotalConnections(int maxTotalConnections) {
+    ConnectionAdmission.maxTotalConnections = maxTotalConnections;
+  }
+
+  static void setAcceptRatePerIp(int acceptRatePerIp) {
+    ConnectionAdmission.acceptRatePerIp = acceptRatePerIp;
+  }
+
+  /**
+   * 以InetAddress的字节作为key，避免字符串解析
+   */
+  private static final class IpKey {
+    private final byte[] address;
+    private final int hash;
+
+    IpKey(byte[] address) {
+      this.address = address;
+      this.hash = Arrays.hashCode(address);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof IpKey)) {
+        return false;
+      }
+      return Arrays.equals(address, ((IpKey) obj).address);
+    }
+  }
+
+  private static final class IpState {
+    final AtomicInteger connections = new AtomicInteger();
+
+    // 新建连接速率的统计窗口(1秒)
+    private final AtomicLong windowStartNanos = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowAccepts = new AtomicInteger();
+
+    boolean tryAccept(int ratePerSecond, long nowNanos) {
+      long start = windowStartNanos.get();
+      if (nowNanos - start >= RATE_WINDOW_NANOS && windowStartNanos.compareAndSet(start, nowNanos)) {
+        windowAccepts.set(0);
+      }
+      return windowAccepts.incrementAndGet() <= ratePerSecond;
+    }
+
+    boolean isWindowExpired(long nowNanos) {
+      return nowNanos - windowStartNanos.get() >= RATE_WINDOW_NANOS;
+    }
+  }
+
+  /**
+   * 输出所有已启动服务端的连接数和被拒绝的连接数
+   */
+  private static final class AdmissionCollector implements MetricsCollector {
+    @Override
+    public void collect(StringBuilder sb) {
+      long connections = 0;
+      long perIp = retiredRejectedByPerIpLimit.get();
+      long total = retiredRejectedByTotalLimit.get();
+      long rate = retiredRejectedByRateLimit.get();
+      for (ConnectionAdmission admission : registered) {
+        connections += admission.totalConnections.get();
+        perIp += admission.rejectedByPerIpLimit.get();
+        total += admission.rejectedByTotalLimit.get();
+        rate += admission.rejectedByRateLimit.get();
+      }
+
+      String connectionsName = "nebula_server_connections";
+      PrometheusTextFormat.writeHeader(sb, connectionsName, "gauge",
+          "Open connections of nebula servers.");
+      PrometheusTextFormat.writeSample(sb, connectionsName, "", connections);
+
+      String rejectedName = "nebula_server_connections_rejected_total";
+      PrometheusTextFormat.writeHeader(sb, rejectedName, "counter",
+          "Connections rejected by nebula servers by reason.");
+      PrometheusTextFormat.writeSample(sb, rejectedName,
+          PrometheusTextFormat.label("reason", "per_ip"), perIp);
+      PrometheusTextFormat.writeSample(sb, rejectedName,
+          PrometheusTextFormat.label("reason", "total"), total);
+      PrometheusTextFormat.writeSample(sb, rejectedName,
+          PrometheusTextFormat.label("reason", "rate"), rate);
+    }
+  }
+}
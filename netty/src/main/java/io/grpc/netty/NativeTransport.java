@@ -0,0 +1,315 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.netty;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Properties;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Netty的传输方式选择
+ * <p>
+ * 根据配置项common.netty.transport选择传输方式，可选值：<br>
+ * auto：Linux上classpath中有netty-transport-native-epoll时使用epoll，否则使用nio；<br>
+ * nio：总是使用nio；<br>
+ * epoll：使用epoll，不可用时使用nio；<br>
+ * io_uring：使用netty-incubator-transport-native-io_uring，不可用时依次尝试epoll、nio。<br>
+ * 本地传输的类均通过反射加载，netty模块不依赖这些jar包。
+ * </p>
+ * <p>
+ * 使用本地传输时，客户端和服务端的连接默认开启TCP_QUICKACK(common.netty.tcp.quickack)；
+ * 服务端的acceptor线程数(provider.netty.acceptor.threads)大于1时，
+ * 开启SO_REUSEPORT并在同一个端口上绑定多个监听socket，由内核在多个acceptor线程之间分配新连接。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class NativeTransport {
+  private static final Logger logger = LoggerFactory.getLogger(NativeTransport.class);
+
+  private static final String AUTO = "auto";
+  private static final String NIO = "nio";
+  private static final String EPOLL = "epoll";
+  private static final String IO_URING = "io_uring";
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  private static final Transport transport = initTransport();
+
+  private static final boolean tcpQuickAck = initTcpQuickAck();
+
+  private static final int acceptorThreads = initAcceptorThreads();
+
+  private NativeTransport() {
+    throw new AssertionError();
+  }
+
+  private static Transport initTransport() {
+    String key = GlobalConstants.CommonKey.NETTY_TRANSPORT;
+    String value = PropertiesUtils.getStringValue(properties, key, AUTO).trim().toLowerCase();
+    logger.info(key + " = " + value);
+
+    Transport result = null;
+    if (IO_URING.equals(value)) {
+      result = loadIoUring();
+      if (result == null) {
+        result = loadEpoll();
+      }
+    } else if (EPOLL.equals(value) || AUTO.equals(value)) {
+      result = loadEpoll();
+    } else if (!NIO.equals(value)) {
+      logger.warn("配置项" + key + "的值[" + value + "]无效，使用nio");
+    }
+
+    if (result == null) {
+      result = new Transport(NIO, NioSocketChannel.class, NioServerSocketChannel.class, null,
+          null, null);
+    }
+
+    logger.info("netty传输方式：" + result.name);
+    return result;
+  }
+
+  private static boolean initTcpQuickAck() {
+    String key = GlobalConstants.CommonKey.NETTY_TCP_QUICKACK;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, true);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static int initAcceptorThreads() {
+    String key = GlobalConstants.Provider.Key.ACCEPTOR_THREADS;
+    int defaultValue = 1;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 1) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  @Nullable
+  private static Transport loadEpoll() {
+    return load(EPOLL,
+        "io.netty.channel.epoll.Epoll",
+        "io.netty.channel.epoll.EpollSocketChannel",
+        "io.netty.channel.epoll.EpollServerSocketChannel",
+        "io.netty.channel.epoll.EpollEventLoopGroup",
+        "io.netty.channel.epoll.EpollChannelOption");
+  }
+
+  @Nullable
+  private static Transport loadIoUring() {
+    return load(IO_URING,
+        "io.netty.incubator.channel.uring.IOUring",
+        "io.netty.incubator.channel.uring.IOUringSocketChannel",
+        "io.netty.incubator.channel.uring.IOUringServerSocketChannel",
+        "io.netty.incubator.channel.uring.IOUringEventLoopGroup",
+        "io.netty.incubator.channel.uring.IOUringChannelOption");
+  }
+
+  /**
+   * 通过反射加载本地传输，不可用时返回null
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static Transport load(String name, String availabilityClassName,
+                                String channelClassName, String serverChannelClassName,
+                                String groupClassName, String optionClassName) {
+    ClassLoader loader = NativeTransport.class.getClassLoader();
+    try {
+      Class<?> availabilityClass = Class.forName(availabilityClassName, true, loader);
+      boolean available = (Boolean) availabilityClass.getMethod("isAvailable").invoke(null);
+      if (!available) {
+        Throwable cause = (Throwable) availabilityClass.getMethod("unavailabilityCause").invoke(null);
+        logger.info(name + "不可用：" + cause);
+        return null;
+      }
+
+      Class<? extends Channel> channelType =
+          Class.forName(channelClassName, true, loader).asSubclass(Channel.class);
+      Class<? extends ServerChannel> serverChannelType =
+          Class.forName(serverChannelClassName, true, loader).asSubclass(ServerChannel.class);
+      Constructor<? extends EventLoopGroup> groupConstructor =
+          Class.forName(groupClassName, true, loader).asSubclass(EventLoopGroup.class)
+              .getConstructor(int.class, ThreadFactory.class);
+
+      Class<?> optionClass = Class.forName(optionClassName, true, loader);
+      ChannelOption<Boolean> quickAckOption =
+          (ChannelOption<Boolean>) optionClass.getField("TCP_QUICKACK").get(null);
+      ChannelOption<Boolean> reusePortOption =
+          (ChannelOption<Boolean>) optionClass.getField("SO_REUSEPORT").get(null);
+
+      return new Transport(name, channelType, serverChannelType, groupConstructor,
+          quickAckOption, reusePortOption);
+    } catch (ClassNotFoundException e) {
+      logger.debug(name + "不在classpath中");
+      return null;
+    } catch (Throwable t) {
+      // 本地库加载失败时会抛出LinkageError
+      logger.info("加载" + name + "出错，不使用该传输方式", t);
+      return null;
+    }
+  }
+
+  /**
+   * 是否正在使用本地传输(epoll或io_uring)
+   */
+  static boolean isNative() {
+    return transport.groupConstructor != null;
+  }
+
+  /**
+   * 默认的客户端channel类型
+   */
+  static Class<? extends Channel> getChannelType() {
+    return transport.channelType;
+  }
+
+  /**
+   * 默认的服务端channel类型
+   */
+  static Class<? extends ServerChannel> getServerChannelType() {
+    return transport.serverChannelType;
+  }
+
+  /**
+   * channel类型能否注册到{@link #createEventLoopGroup}创建的EventLoopGroup上
+   */
+  static boolean isCompatible(Class<?> channelType) {
+    if (!isNative()) {
+      return true;
+    }
+    return isSameTransport(channelType);
+  }
+
+  /**
+   * 创建与当前传输方式匹配的EventLoopGroup
+   */
+  static EventLoopGroup createEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+    if (!isNative()) {
+      return new NioEventLoopGroup(nThreads, threadFactory);
+    }
+
+    try {
+      return transport.groupConstructor.newInstance(nThreads, threadFactory);
+    } catch (InvocationTargetException e) {
+      throw new RuntimeException("创建" + transport.name + " EventLoopGroup出错", e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException("创建" + transport.name + " EventLoopGroup出错", e);
+    }
+  }
+
+  /**
+   * 共享的boss EventLoopGroup的线程数
+   */
+  static int getBossThreads() {
+    return (transport.reusePortOption != null) ? acceptorThreads : 1;
+  }
+
+  /**
+   * 服务端在同一个端口上绑定的监听socket个数，只有本地传输支持SO_REUSEPORT时才会大于1
+   */
+  static int getAcceptors(Class<? extends ServerChannel> serverChannelType) {
+    if (transport.reusePortOption == null || !isSameTransport(serverChannelType)) {
+      return 1;
+    }
+    return acceptorThreads;
+  }
+
+  /**
+   * 设置服务端的本地传输参数，用户通过NettyServerBuilder设置的参数在此之后设置，可以覆盖这里的值
+   */
+  static void applyServerOptions(ServerBootstrap b, Class<? extends ServerChannel> channelType) {
+    if (!isNative() || !isSameTransport(channelType)) {
+      return;
+    }
+    if (tcpQuickAck) {
+      b.childOption(transport.quickAckOption, true);
+    }
+    if (getAcceptors(channelType) > 1) {
+      b.option(transport.reusePortOption, true);
+    }
+  }
+
+  /**
+   * 设置客户端的本地传输参数，用户通过NettyChannelBuilder设置的参数在此之后设置，可以覆盖这里的值
+   */
+  static void applyClientOptions(Bootstrap b, Class<? extends Channel> channelType) {
+    if (!isNative() || !isSameTransport(channelType) || !tcpQuickAck) {
+      return;
+    }
+    // 本地socket(Unix domain socket)不支持TCP参数
+    if (SocketChannel.class.isAssignableFrom(channelType)) {
+      b.option(transport.quickAckOption, true);
+    }
+  }
+
+  /**
+   * 同一种传输方式的类都在同一个包中
+   */
+  private static boolean isSameTransport(Class<?> channelType) {
+    return channelType.getPackage() != null
+        && channelType.getPackage().equals(transport.channelType.getPackage());
+  }
+
+  private static final class Transport {
+    final String name;
+    final Class<? extends Channel> channelType;
+    final Class<? extends ServerChannel> serverChannelType;
+    @Nullable
+    final Constructor<? extends EventLoopGroup> groupConstructor;
+    @Nullable
+    final ChannelOption<Boolean> quickAckOption;
+    @Nullable
+    final ChannelOption<Boolean> reusePortOption;
+
+    Transport(String name, Class<? extends Channel> channelType,
+              Class<? extends ServerChannel> serverChannelType,
+              @Nullable Constructor<? extends EventLoopGroup> groupConstructor,
+              @Nullable ChannelOption<Boolean> quickAckOption,
+              @Nullable ChannelOption<Boolean> reusePortOption) {
+      this.name = name;
+      this.channelType = channelType;
+      this.serverChannelType = serverChannelType;
+      this.groupConstructor = groupConstructor;
+      this.quickAckOption = quickAckOption;
+      this.reusePortOption = reusePortOption;
+    }
+  }
+}
@@ -31,6 +31,7 @@ import io.grpc.internal.ConnectionClientTransport;
 import io.grpc.internal.GrpcUtil;
 import io.grpc.internal.KeepAliveManager;
 import io.grpc.internal.ProxyParameters;
+import io.grpc.internal.SharableClientTransportFactory;
 import io.grpc.internal.SharedResourceHolder;
 import io.grpc.internal.TransportTracer;
 import io.netty.channel.Channel;
@@ -44,6 +45,7 @@ import javax.annotation.Nullable;
 import javax.net.ssl.SSLException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
@@ -81,7 +83,8 @@ public final class NettyChannelBuilder
 
   private NegotiationType negotiationType = NegotiationType.TLS;
   private OverrideAuthorityChecker authorityChecker;
-  private Class<? extends Channel> channelType = NioSocketChannel.class;
+  @Nullable
+  private Class<? extends Channel> channelType;
 
   @Nullable
   private EventLoopGroup eventLoopGroup;
@@ -148,7 +151,9 @@ public final class NettyChannelBuilder
   }
 
   /**
-   * Specifies the channel type to use, by default we use {@link NioSocketChannel}.
+   * Specifies the channel type to use. By default we use the native transport selected by
+   * {@code common.netty.transport} (epoll when available) if no event loop group is specified,
+   * otherwise {@link NioSocketChannel}.
    */
   public NettyChannelBuilder channelType(Class<? extends Channel> channelType) {
     this.channelType = Preconditions.checkNotNull(channelType, "channelType");
@@ -405,11 +410,31 @@ public final class NettyChannelBuilder
       }
       negotiator = createProtocolNegotiatorByType(negotiationType, localSslContext);
     }
+    //----begin----channel类型必须与EventLoopGroup匹配，只有使用共享的EventLoopGroup时才使用本地传输----
+    Class<? extends Channel> resolvedChannelType = channelType;
+    if (resolvedChannelType == null) {
+      resolvedChannelType = (eventLoopGroup == null)
+          ? NativeTransport.getChannelType() : NioSocketChannel.class;
+    }
+    //----end------channel类型必须与EventLoopGroup匹配，只有使用共享的EventLoopGroup时才使用本地传输----
+
+    //----begin----连接参数相同的channel才能共享连接，自定义的ProtocolNegotiator、LocalSocketPicker不共享----
+    Object sharingKey = null;
+    if (protocolNegotiatorFactory == null && localSocketPicker == null) {
+      sharingKey = Arrays.<Object>asList(resolvedChannelType,
+          new HashMap<ChannelOption<?>, Object>(channelOptions), eventLoopGroup,
+          negotiationType, sslContext, flowControlWindow, maxInboundMessageSize(),
+          maxHeaderListSize, keepAliveTimeNanos, keepAliveTimeoutNanos, keepAliveWithoutCalls);
+    }
+    // 只有明文传输时建立连接不需要authority
+    boolean authoritySensitive = negotiationType != NegotiationType.PLAINTEXT;
+    //----end------连接参数相同的channel才能共享连接，自定义的ProtocolNegotiator、LocalSocketPicker不共享----
+
     return new NettyTransportFactory(
-        negotiator, channelType, channelOptions,
+        negotiator, resolvedChannelType, channelOptions,
         eventLoopGroup, flowControlWindow, maxInboundMessageSize(),
         maxHeaderListSize, keepAliveTimeNanos, keepAliveTimeoutNanos, keepAliveWithoutCalls,
-        transportTracerFactory.create(), localSocketPicker);
+        transportTracerFactory.create(), localSocketPicker, sharingKey, authoritySensitive);
   }
 
   @Override
@@ -505,7 +530,7 @@ public final class NettyChannelBuilder
    * Creates Netty transports. Exposed for internal use, as it should be private.
    */
   @CheckReturnValue
-  private static final class NettyTransportFactory implements ClientTransportFactory {
+  private static final class NettyTransportFactory implements SharableClientTransportFactory {
     private final ProtocolNegotiator protocolNegotiator;
     private final Class<? extends Channel> channelType;
     private final Map<ChannelOption<?>, ?> channelOptions;
@@ -519,6 +544,9 @@ public final class NettyChannelBuilder
     private final boolean keepAliveWithoutCalls;
     private final TransportTracer transportTracer;
     private final LocalSocketPicker localSocketPicker;
+    @Nullable
+    private final Object sharingKey;
+    private final boolean authoritySensitive;
 
     private boolean closed;
 
@@ -526,7 +554,8 @@ public final class NettyChannelBuilder
         Class<? extends Channel> channelType, Map<ChannelOption<?>, ?> channelOptions,
         EventLoopGroup group, int flowControlWindow, int maxMessageSize, int maxHeaderListSize,
         long keepAliveTimeNanos, long keepAliveTimeoutNanos, boolean keepAliveWithoutCalls,
-        TransportTracer transportTracer, LocalSocketPicker localSocketPicker) {
+        TransportTracer transportTracer, LocalSocketPicker localSocketPicker,
+        @Nullable Object sharingKey, boolean authoritySensitive) {
       this.protocolNegotiator = protocolNegotiator;
       this.channelType = channelType;
       this.channelOptions = new HashMap<ChannelOption<?>, Object>(channelOptions);
@@ -539,11 +568,13 @@ public final class NettyChannelBuilder
       this.transportTracer = transportTracer;
       this.localSocketPicker =
           localSocketPicker != null ? localSocketPicker : new LocalSocketPicker();
+      this.sharingKey = sharingKey;
+      this.authoritySensitive = authoritySensitive;
 
       usingSharedGroup = group == null;
       if (usingSharedGroup) {
         // The group was unspecified, using the shared group.
-        this.group = SharedResourceHolder.get(Utils.DEFAULT_WORKER_EVENT_LOOP_GROUP);
+        this.group = SharedResourceHolder.get(Utils.getWorkerEventLoopGroup(channelType));
       } else {
         this.group = group;
       }
@@ -585,6 +616,17 @@ public final class NettyChannelBuilder
       return group;
     }
 
+    @Nullable
+    @Override
+    public Object getSharingKey() {
+      return sharingKey;
+    }
+
+    @Override
+    public boolean isAuthoritySensitive() {
+      return authoritySensitive;
+    }
+
     @Override
     public void close() {
       if (closed) {
@@ -594,7 +636,7 @@ public final class NettyChannelBuilder
 
       protocolNegotiator.close();
       if (usingSharedGroup) {
-        SharedResourceHolder.release(Utils.DEFAULT_WORKER_EVENT_LOOP_GROUP, group);
+        SharedResourceHolder.release(Utils.getWorkerEventLoopGroup(channelType), group);
       }
     }
   }
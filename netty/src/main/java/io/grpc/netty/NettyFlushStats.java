@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.netty;
+
+import com.orientsec.grpc.common.metrics.MetricsCollector;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.metrics.PrometheusTextFormat;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 当前JVM中所有netty连接的flush统计
+ * <p>
+ * 用于评估写合并的效果：每次flush平均写出的字节数越大，系统调用越少。
+ * 统计的字节数只包含gRPC消息的DATA帧，不包含HTTP/2头部和控制帧。
+ * </p>
+ * <p>
+ * 每个event loop线程使用自己的计数器，flush时只有该线程写入，不会在多个线程之间争用同一个缓存行；
+ * 读取时把所有线程的计数器相加。统计值通过{@link NebulaMetrics}输出。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class NettyFlushStats {
+  /**
+   * 所有线程的计数器，线程结束后仍然保留，保证合计值不会减少
+   */
+  private static final CopyOnWriteArrayList<Counters> allCounters =
+      new CopyOnWriteArrayList<Counters>();
+
+  private static final ThreadLocal<Counters> threadCounters = new ThreadLocal<Counters>() {
+    @Override
+    protected Counters initialValue() {
+      Counters counters = new Counters();
+      allCounters.add(counters);
+      return counters;
+    }
+  };
+
+  static {
+    NebulaMetrics.addCollector(new FlushCollector());
+  }
+
+  private NettyFlushStats() {
+  }
+
+  /**
+   * 调用channel.flush()的次数
+   */
+  public static long getFlushCount() {
+    long sum = 0;
+    for (Counters counters : allCounters) {
+      sum += counters.flushCount.get();
+    }
+    return sum;
+  }
+
+  /**
+   * flush写出的消息字节数
+   */
+  public static long getFlushedBytes() {
+    long sum = 0;
+    for (Counters counters : allCounters) {
+      sum += counters.flushedBytes.get();
+    }
+    return sum;
+  }
+
+  /**
+   * 平均每次flush写出的消息字节数
+   */
+  public static double getBytesPerFlush() {
+    long count = getFlushCount();
+    return (count == 0) ? 0 : (double) getFlushedBytes() / count;
+  }
+
+  /**
+   * 为了合并后续的写操作而推迟flush的次数
+   */
+  public static long getDelayedFlushCount() {
+    long sum = 0;
+    for (Counters counters : allCounters) {
+      sum += counters.delayedFlushCount.get();
+    }
+    return sum;
+  }
+
+  /**
+   * 由于连接不可写而省略flush的次数
+   */
+  public static long getSkippedFlushCount() {
+    long sum = 0;
+    for (Counters counters : allCounters) {
+      sum += counters.skippedFlushCount.get();
+    }
+    return sum;
+  }
+
+  /**
+   * 当前线程的计数器，只能在当前线程中更新
+   */
+  static Counters currentThreadCounters() {
+    return threadCounters.get();
+  }
+
+  /**
+   * 一个线程的flush计数
+   * <p>
+   * 只有所属的线程写入，使用lazySet更新，不需要原子的读-改-写操作；其他线程读取时可能稍有延迟。
+   * </p>
+   */
+  static final class Counters {
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedBytes = new AtomicLong();
+    private final AtomicLong delayedFlushCount = new AtomicLong();
+    private final AtomicLong skippedFlushCount = new AtomicLong();
+
+    void recordFlush(long bytes) {
+      flushCount.lazySet(flushCount.get() + 1);
+      flushedBytes.lazySet(flushedBytes.get() + bytes);
+    }
+
+    void recordDelayedFlush() {
+      delayedFlushCount.lazySet(delayedFlushCount.get() + 1);
+    }
+
+    void recordSkippedFlush() {
+      skippedFlushCount.lazySet(skippedFlushCount.get() + 1);
+    }
+  }
+
+  private static final class FlushCollector implements MetricsCollector {
+    @Override
+    public void collect(StringBuilder sb) {
+      write(sb, "nebula_netty_flushes_total",
+          "Calls to channel.flush() by nebula netty transports.", getFlushCount());
+      write(sb, "nebula_netty_flushed_bytes_total",
+          "Message bytes written by nebula netty transport flushes.", getFlushedBytes());
+      write(sb, "nebula_netty_delayed_flushes_total",
+          "Flushes delayed to coalesce writes of several streams.", getDelayedFlushCount());
+      write(sb, "nebula_netty_skipped_flushes_total",
+          "Flushes skipped because the channel was not writable.", getSkippedFlushCount());
+    }
+
+    private static void write(StringBuilder sb, String name, String help, long value) {
+      PrometheusTextFormat.writeHeader(sb, name, "counter", help);
+      PrometheusTextFormat.writeSample(sb, name, "", value);
+    }
+  }
+}
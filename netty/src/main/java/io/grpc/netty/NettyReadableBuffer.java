@@ -19,6 +19,7 @@ package io.grpc.netty;
 import com.google.common.base.Preconditions;
 import io.grpc.internal.AbstractReadableBuffer;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
@@ -94,6 +95,29 @@ class NettyReadableBuffer extends AbstractReadableBuffer {
     return buffer.arrayOffset() + buffer.readerIndex();
   }
 
+  /**
+   * 可读字节在一块连续的内存中时，返回与ByteBuf共享内存的ByteBuffer
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Override
+  public ByteBuffer getByteBuffer() {
+    if (buffer.nioBufferCount() != 1) {
+      return null;
+    }
+    return buffer.nioBuffer();
+  }
+
+  /**
+   * 只有非池化的堆内存在释放后不会被复用；池化的内存和direct内存释放后会被复用或者回收
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Override
+  public boolean isByteBufferAliasable() {
+    return buffer.hasArray() && buffer.alloc() instanceof UnpooledByteBufAllocator;
+  }
+
   /**
    * If the first call to close, calls {@link ByteBuf#release} to release the internal Netty buffer.
    */
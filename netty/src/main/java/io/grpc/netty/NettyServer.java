@@ -23,8 +23,6 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
-import com.orientsec.grpc.common.resource.SystemConfig;
-import com.orientsec.grpc.common.util.StringUtils;
 import io.grpc.InternalChannelz;
 import io.grpc.InternalChannelz.SocketStats;
 import io.grpc.InternalInstrumented;
@@ -41,7 +39,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.util.AbstractReferenceCounted;
 import io.netty.util.ReferenceCounted;
 import io.netty.util.concurrent.Future;
@@ -51,13 +49,14 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.grpc.netty.NettyServerBuilder.MAX_CONNECTION_AGE_NANOS_DISABLED;
@@ -82,6 +81,8 @@ class NettyServer implements InternalServer, InternalWithLogId {
   private EventLoopGroup workerGroup;
   private ServerListener listener;
   private Channel channel;
+  // 使用SO_REUSEPORT时在同一个端口上额外绑定的监听channel
+  private volatile List<Channel> reusePortChannels = Collections.emptyList();
   private final int flowControlWindow;
   private final int maxMessageSize;
   private final int maxHeaderListSize;
@@ -93,6 +94,7 @@ class NettyServer implements InternalServer, InternalWithLogId {
   private final boolean permitKeepAliveWithoutCalls;
   private final long permitKeepAliveTimeInNanos;
   private final ReferenceCounted eventLoopReferenceCounter = new EventLoopReferenceCounter();
+  private final ConnectionAdmission connectionAdmission = new ConnectionAdmission();
   private final List<ServerStreamTracer.Factory> streamTracerFactories;
   private final TransportTracer.Factory transportTracerFactory;
   private final InternalChannelz channelz;
@@ -166,10 +168,11 @@ class NettyServer implements InternalServer, InternalWithLogId {
     ServerBootstrap b = new ServerBootstrap();
     b.group(bossGroup, workerGroup);
     b.channel(channelType);
-    if (NioServerSocketChannel.class.isAssignableFrom(channelType)) {
+    if (ServerSocketChannel.class.isAssignableFrom(channelType)) {
       b.option(SO_BACKLOG, 128);
       b.childOption(SO_KEEPALIVE, true);
     }
+    NativeTransport.applyServerOptions(b, channelType);
 
     if (channelOptions != null) {
       for (Map.Entry<ChannelOption<?>, ?> entry : channelOptions.entrySet()) {
@@ -184,26 +187,21 @@ class NettyServer implements InternalServer, InternalWithLogId {
       public void initChannel(Channel ch) throws Exception {
         //----begin----连接数控制----
 
-        String remoteAddr = ch.remoteAddress().toString();
-        int maxConnetions = SystemConfig.getProviderMaxConnetions(); // 最大连接数
-
-        final String ipAddr = getIpAddr(remoteAddr);
-        if (maxConnetions > 0) {
-          // 获取当前IP连接数
-          AtomicInteger atomicInteger = listener.getIpCountMap().get(ipAddr);
-          if (atomicInteger != null && atomicInteger.get() > 0) {
-            int currentConnetions = atomicInteger.get();
-            if (currentConnetions >= maxConnetions) {
-              synchronized (NettyServer.this) {
-                LOGGER.warn("当前客户端IP:{} 连接数超配置上限，上限{}，当前连接数{}", ipAddr, maxConnetions, currentConnetions);
-                // 关闭channel，使客户端能立即捕捉到异常
-                ch.close();
-                return;
-              }
-            }
-          }
+        final InetAddress remoteIp = ConnectionAdmission.getRemoteIp(ch.remoteAddress());
+        if (connectionAdmission.tryAcquire(remoteIp) != ConnectionAdmission.Result.ACCEPTED) {
+          // 关闭channel，使客户端能立即捕捉到异常
+          ch.close();
+          return;
         }
 
+        // 连接关闭时释放连接数
+        ch.closeFuture().addListener(new ChannelFutureListener() {
+          @Override
+          public void operationComplete(ChannelFuture future) {
+            connectionAdmission.release(remoteIp);
+          }
+        });
+
         //----end----连接数控制----
 
         ChannelPromise channelDone = ch.newPromise();
@@ -245,14 +243,6 @@ class NettyServer implements InternalServer, InternalWithLogId {
           // inside the lock.
           eventLoopReferenceCounter.retain();
           transportListener = listener.transportCreated(transport);
-
-          // Transport创建，统计IP连接数量
-          Map<String, AtomicInteger> ipCountMap = listener.getIpCountMap();
-          if (ipCountMap.containsKey(ipAddr)) {
-            ipCountMap.get(ipAddr).incrementAndGet();
-          } else {
-            ipCountMap.put(ipAddr, new AtomicInteger(1));
-          }
         }
 
         /**
@@ -266,12 +256,6 @@ class NettyServer implements InternalServer, InternalWithLogId {
             if (!done) {
               done = true;
               eventLoopReferenceCounter.release();
-
-              // 移除当前IP服务连接统计信息
-              AtomicInteger atomicInteger = listener.getIpCountMap().get(ipAddr);
-              if (atomicInteger != null && atomicInteger.get() > 0) {
-                atomicInteger.decrementAndGet();
-              }
             }
           }
         }
@@ -294,12 +278,43 @@ class NettyServer implements InternalServer, InternalWithLogId {
       throw new IOException("Failed to bind", future.cause());
     }
     channel = future.channel();
+
+    //----begin----SO_REUSEPORT：在同一个端口上绑定多个监听socket，分布到boss EventLoopGroup的多个线程上----
+    int acceptors = NativeTransport.getAcceptors(channelType);
+    if (acceptors > 1) {
+      List<Channel> channels = new ArrayList<Channel>(acceptors - 1);
+      for (int i = 1; i < acceptors; i++) {
+        // 绑定第一个channel实际监听的地址，地址中的端口为0时也能绑定到同一个端口
+        ChannelFuture reusePortFuture = b.bind(channel.localAddress());
+        reusePortFuture.awaitUninterruptibly();
+        if (!reusePortFuture.isSuccess()) {
+          for (Channel ch : channels) {
+            ch.close();
+          }
+          channel.close();
+          throw new IOException("Failed to bind with SO_REUSEPORT", reusePortFuture.cause());
+        }
+        channels.add(reusePortFuture.channel());
+      }
+      reusePortChannels = Collections.unmodifiableList(channels);
+      LOGGER.info("使用SO_REUSEPORT在" + channel.localAddress() + "上绑定了" + acceptors + "个监听socket");
+    }
+    //----end------SO_REUSEPORT：在同一个端口上绑定多个监听socket，分布到boss EventLoopGroup的多个线程上----
+
+    connectionAdmission.register();
+
     Future<?> channelzFuture = channel.eventLoop().submit(new Runnable() {
       @Override
       public void run() {
-        InternalInstrumented<SocketStats> listenSocket = new ListenSocket(channel);
-        listenSockets = ImmutableList.of(listenSocket);
-        channelz.addListenSocket(listenSocket);
+        ImmutableList.Builder<InternalInstrumented<SocketStats>> builder = ImmutableList.builder();
+        builder.add(new ListenSocket(channel));
+        for (Channel ch : reusePortChannels) {
+          builder.add(new ListenSocket(ch));
+        }
+        listenSockets = builder.build();
+        for (InternalInstrumented<SocketStats> listenSocket : listenSockets) {
+          channelz.addListenSocket(listenSocket);
+        }
       }
     });
     try {
@@ -315,6 +330,9 @@ class NettyServer implements InternalServer, InternalWithLogId {
       // Already closed.
       return;
     }
+    for (Channel ch : reusePortChannels) {
+      ch.close();
+    }
     channel.close().addListener(new ChannelFutureListener() {
       @Override
       public void operationComplete(ChannelFuture future) throws Exception {
@@ -325,6 +343,7 @@ class NettyServer implements InternalServer, InternalWithLogId {
           channelz.removeListenSocket(listenSocket);
         }
         listenSockets = null;
+        connectionAdmission.unregister();
         synchronized (NettyServer.this) {
           listener.serverShutdown();
         }
@@ -335,52 +354,11 @@ class NettyServer implements InternalServer, InternalWithLogId {
 
   private void allocateSharedGroups() {
     if (bossGroup == null) {
-      bossGroup = SharedResourceHolder.get(Utils.DEFAULT_BOSS_EVENT_LOOP_GROUP);
+      bossGroup = SharedResourceHolder.get(Utils.getBossEventLoopGroup(channelType));
     }
     if (workerGroup == null) {
-      workerGroup = SharedResourceHolder.get(Utils.DEFAULT_WORKER_EVENT_LOOP_GROUP);
-    }
-  }
-
-  /**
-   * 根据IP获取对应Transport数量
-   *
-   * @param transports
-   * @param address
-   * @return
-   * @author wlh
-   * @since 2019/12/03
-   */
-  private int getTransportCountByIp(Collection<ServerTransport> transports, String address){
-    synchronized (NettyServer.this){
-      if (transports == null || transports.size() == 0) {
-        return 0;
-      }
-      int currentConnections = 0;
-      for (ServerTransport transport : transports) {
-        NettyServerTransport nsTransport = (NettyServerTransport) transport;
-        if (address.equals(getIpAddr(nsTransport.channel().remoteAddress().toString()))) {
-          currentConnections++;
-        }
-      }
-      return currentConnections;
-    }
-  }
-
-  /**
-   * 从remoteAddr中获取IP地址
-   *
-   * @param remoteAddr 格式：“/192.168.1.1:5001”
-   * @return
-   * @author wlh
-   * @since 2019/12/03
-   */
-  private String getIpAddr(String remoteAddr){
-    if (StringUtils.isEmpty(remoteAddr)) {
-      return null;
+      workerGroup = SharedResourceHolder.get(Utils.getWorkerEventLoopGroup(channelType));
     }
-    String[] split = remoteAddr.split(":");
-    return split[0].substring(1);
   }
 
   @Override
@@ -401,13 +379,13 @@ class NettyServer implements InternalServer, InternalWithLogId {
     protected void deallocate() {
       try {
         if (usingSharedBossGroup && bossGroup != null) {
-          SharedResourceHolder.release(Utils.DEFAULT_BOSS_EVENT_LOOP_GROUP, bossGroup);
+          SharedResourceHolder.release(Utils.getBossEventLoopGroup(channelType), bossGroup);
         }
       } finally {
         bossGroup = null;
         try {
           if (usingSharedWorkerGroup && workerGroup != null) {
-            SharedResourceHolder.release(Utils.DEFAULT_WORKER_EVENT_LOOP_GROUP, workerGroup);
+            SharedResourceHolder.release(Utils.getWorkerEventLoopGroup(channelType), workerGroup);
           }
         } finally {
           workerGroup = null;
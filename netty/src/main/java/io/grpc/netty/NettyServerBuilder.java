@@ -68,7 +68,8 @@ public final class NettyServerBuilder extends AbstractServerImplBuilder<NettySer
   private static final long AS_LARGE_AS_INFINITE = TimeUnit.DAYS.toNanos(1000L);
 
   private final SocketAddress address;
-  private Class<? extends ServerChannel> channelType = NioServerSocketChannel.class;
+  @Nullable
+  private Class<? extends ServerChannel> channelType;
   private final Map<ChannelOption<?>, Object> channelOptions =
       new HashMap<ChannelOption<?>, Object>();
   @Nullable
@@ -122,7 +123,9 @@ public final class NettyServerBuilder extends AbstractServerImplBuilder<NettySer
   }
 
   /**
-   * Specify the channel type to use, by default we use {@link NioServerSocketChannel}.
+   * Specify the channel type to use. By default we use the native transport selected by
+   * {@code common.netty.transport} (epoll when available) if neither the boss nor the worker
+   * event loop group is specified, otherwise {@link NioServerSocketChannel}.
    */
   public NettyServerBuilder channelType(Class<? extends ServerChannel> channelType) {
     this.channelType = Preconditions.checkNotNull(channelType, "channelType");
@@ -448,8 +451,19 @@ public final class NettyServerBuilder extends AbstractServerImplBuilder<NettySer
               ProtocolNegotiators.serverPlaintext();
     }
 
+    //----begin----channel类型必须与EventLoopGroup匹配，只有使用共享的EventLoopGroup时才使用本地传输----
+    Class<? extends ServerChannel> resolvedChannelType = channelType;
+    if (resolvedChannelType == null) {
+      if (bossEventLoopGroup == null && workerEventLoopGroup == null) {
+        resolvedChannelType = NativeTransport.getServerChannelType();
+      } else {
+        resolvedChannelType = NioServerSocketChannel.class;
+      }
+    }
+    //----end------channel类型必须与EventLoopGroup匹配，只有使用共享的EventLoopGroup时才使用本地传输----
+
     return new NettyServer(
-        address, channelType, channelOptions, bossEventLoopGroup, workerEventLoopGroup,
+        address, resolvedChannelType, channelOptions, bossEventLoopGroup, workerEventLoopGroup,
         negotiator, streamTracerFactories, transportTracerFactory,
         maxConcurrentCallsPerConnection, flowControlWindow,
         maxMessageSize, maxHeaderListSize, keepAliveTimeInNanos, keepAliveTimeoutInNanos,
@@ -16,13 +16,15 @@
 
 package io.grpc.netty;
 
+import io.grpc.internal.NioWritableBuffer;
 import io.grpc.internal.WritableBuffer;
 import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
 
 /**
  * The {@link WritableBuffer} used by the Netty transport.
  */
-class NettyWritableBuffer implements WritableBuffer {
+class NettyWritableBuffer implements NioWritableBuffer {
 
   private final ByteBuf bytebuf;
 
@@ -50,6 +52,24 @@ class NettyWritableBuffer implements WritableBuffer {
     return bytebuf.readableBytes();
   }
 
+  /**
+   * 分配的ByteBuf容量固定，nioBufferCount为1时nioBuffer与ByteBuf共享内存
+   *
+   * @since nebula-1.2.9 2026-10-19 add by sxp
+   */
+  @Override
+  public ByteBuffer writableByteBuffer(int length) {
+    if (bytebuf.writableBytes() < length || bytebuf.nioBufferCount() != 1) {
+      return null;
+    }
+    return bytebuf.nioBuffer(bytebuf.writerIndex(), length);
+  }
+
+  @Override
+  public void commit(int length) {
+    bytebuf.writerIndex(bytebuf.writerIndex() + length);
+  }
+
   @Override
   public void release() {
     bytebuf.release();
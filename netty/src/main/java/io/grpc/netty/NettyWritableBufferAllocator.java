@@ -36,8 +36,10 @@ class NettyWritableBufferAllocator implements WritableBufferAllocator {
   // Use 4k as our minimum buffer size.
   private static final int MIN_BUFFER = 4096;
 
-  // Set the maximum buffer size to 1MB
-  private static final int MAX_BUFFER = 1024 * 1024;
+  // Set the maximum buffer size to 4MB, the default max message size. Known-length messages up to
+  // this size are framed into one buffer so they can be serialized into it directly. It is still
+  // well below the 16MB chunk size of Netty's arena-pool.
+  private static final int MAX_BUFFER = 4 * 1024 * 1024;
 
   private final ByteBufAllocator allocator;
 
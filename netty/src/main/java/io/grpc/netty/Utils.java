@@ -25,6 +25,9 @@ import static io.netty.util.CharsetUtil.UTF_8;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
 import io.grpc.InternalChannelz;
 import io.grpc.InternalMetadata;
 import io.grpc.Metadata;
@@ -38,6 +41,7 @@ import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.util.AsciiString;
@@ -46,15 +50,19 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.CheckReturnValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Common utility methods.
  */
 @VisibleForTesting
 class Utils {
+  private static final Logger logger = LoggerFactory.getLogger(Utils.class);
 
   public static final AsciiString STATUS_OK = AsciiString.of("200");
   public static final AsciiString HTTP_METHOD = AsciiString.of(GrpcUtil.HTTP_METHOD);
@@ -68,10 +76,72 @@ class Utils {
   public static final AsciiString USER_AGENT = AsciiString.of(GrpcUtil.USER_AGENT_KEY.name());
 
   public static final Resource<EventLoopGroup> DEFAULT_BOSS_EVENT_LOOP_GROUP =
-      new DefaultEventLoopGroupResource(1, "grpc-default-boss-ELG");
+      new DefaultEventLoopGroupResource(
+          NativeTransport.getBossThreads(), "grpc-default-boss-ELG", true);
 
   public static final Resource<EventLoopGroup> DEFAULT_WORKER_EVENT_LOOP_GROUP =
-      new DefaultEventLoopGroupResource(0, "grpc-default-worker-ELG");
+      new DefaultEventLoopGroupResource(0, "grpc-default-worker-ELG", true);
+
+  /**
+   * 默认的EventLoopGroup使用epoll/io_uring时，用户指定了nio等其他channel类型的情况下使用的共享EventLoopGroup
+   *
+   * @since nebula-1.2.9 2026-10-19
+   */
+  static final Resource<EventLoopGroup> NIO_BOSS_EVENT_LOOP_GROUP =
+      new DefaultEventLoopGroupResource(1, "grpc-nio-boss-ELG", false);
+
+  static final Resource<EventLoopGroup> NIO_WORKER_EVENT_LOOP_GROUP =
+      new DefaultEventLoopGroupResource(0, "grpc-nio-worker-ELG", false);
+
+  /**
+   * 获取与channel类型匹配的共享boss EventLoopGroup
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  static Resource<EventLoopGroup> getBossEventLoopGroup(Class<?> channelType) {
+    return NativeTransport.isCompatible(channelType)
+        ? DEFAULT_BOSS_EVENT_LOOP_GROUP : NIO_BOSS_EVENT_LOOP_GROUP;
+  }
+
+  /**
+   * 获取与channel类型匹配的共享worker EventLoopGroup
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  static Resource<EventLoopGroup> getWorkerEventLoopGroup(Class<?> channelType) {
+    return NativeTransport.isCompatible(channelType)
+        ? DEFAULT_WORKER_EVENT_LOOP_GROUP : NIO_WORKER_EVENT_LOOP_GROUP;
+  }
+
+  /**
+   * 本端允许接收的HTTP/2 DATA帧的最大长度(SETTINGS_MAX_FRAME_SIZE)
+   * <p>
+   * 对端按照该值拆分DATA帧，不超过该值(同时不超过流控窗口)的消息可以在一个帧中收到，
+   * 收到的消息位于一块连续的内存中，可以不复制数据直接解析。
+   * </p>
+   *
+   * @since nebula-1.2.9 2026-10-19
+   */
+  static final int MAX_FRAME_SIZE = initMaxFrameSize();
+
+  private static int initMaxFrameSize() {
+    Properties properties = SystemConfig.getProperties();
+    String key = GlobalConstants.CommonKey.HTTP2_MAX_FRAME_SIZE;
+    int defaultValue = Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE
+        || value > Http2CodecUtil.MAX_FRAME_SIZE_UPPER_BOUND) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围["
+          + Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE + ", "
+          + Http2CodecUtil.MAX_FRAME_SIZE_UPPER_BOUND + "]，使用缺省值");
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
 
   public static Metadata convertHeaders(Http2Headers http2Headers) {
     if (http2Headers instanceof GrpcHttp2InboundHeaders) {
@@ -181,10 +251,12 @@ class Utils {
   private static class DefaultEventLoopGroupResource implements Resource<EventLoopGroup> {
     private final String name;
     private final int numEventLoops;
+    private final boolean useNativeTransport;
 
-    DefaultEventLoopGroupResource(int numEventLoops, String name) {
+    DefaultEventLoopGroupResource(int numEventLoops, String name, boolean useNativeTransport) {
       this.name = name;
       this.numEventLoops = numEventLoops;
+      this.useNativeTransport = useNativeTransport;
     }
 
     @Override
@@ -194,6 +266,9 @@ class Utils {
       ThreadFactory threadFactory = new DefaultThreadFactory(name, useDaemonThreads);
       int parallelism = numEventLoops == 0
           ? Runtime.getRuntime().availableProcessors() * 2 : numEventLoops;
+      if (useNativeTransport) {
+        return NativeTransport.createEventLoopGroup(parallelism, threadFactory);
+      }
       return new NioEventLoopGroup(parallelism, threadFactory);
     }
 
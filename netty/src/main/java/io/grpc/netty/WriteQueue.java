@@ -19,22 +19,50 @@ package io.grpc.netty;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.channel.ChannelPromise;
+import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A queue of pending writes to a {@link Channel} that is flushed as a single unit.
  */
 class WriteQueue {
+  private static final Logger logger = LoggerFactory.getLogger(WriteQueue.class);
 
   // Dequeue in chunks, so we don't have to acquire the queue's log too often.
   @VisibleForTesting
   static final int DEQUE_CHUNK_SIZE = 128;
 
+  private static final long MAX_FLUSH_DELAY_MICROS = 10000;
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  /**
+   * 推迟flush以合并同一连接上多个stream的写操作的最长时间(纳秒)，0表示每次处理完队列后立即flush
+   */
+  private static final long FLUSH_DELAY_NANOS = initFlushDelayNanos();
+
+  /**
+   * 推迟flush期间累积的消息字节数达到该值时立即flush
+   */
+  private static final int FLUSH_MAX_BYTES = initFlushMaxBytes();
+
+  /**
+   * 连接不可写(对端接收慢)时是否省略flush，等连接恢复可写时再统一flush
+   */
+  private static final boolean CONSOLIDATE_WHEN_UNWRITABLE = initConsolidateWhenUnwritable();
+
   /**
    * {@link Runnable} used to schedule work onto the tail of the event loop.
    */
@@ -45,13 +73,80 @@ class WriteQueue {
     }
   };
 
+  /**
+   * 推迟的flush
+   */
+  private final Runnable delayedFlush = new Runnable() {
+    @Override
+    public void run() {
+      delayedFlushScheduled = false;
+      if (unflushed) {
+        flushChannel();
+      }
+    }
+  };
+
   private final Channel channel;
   private final Queue<QueuedCommand> queue;
   private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final long flushDelayNanos;
+  private final int flushMaxBytes;
+  private final boolean consolidateWhenUnwritable;
+
+  // 以下变量只在event loop中访问
+  private boolean unflushed;
+  private boolean delayedFlushScheduled;
+  private long pendingBytes;
+  private long flushCount;
+  private long flushedBytes;
+  // 当前连接所在event loop线程的flush计数，第一次使用时获取
+  private NettyFlushStats.Counters flushStats;
 
   public WriteQueue(Channel channel) {
+    this(channel, FLUSH_DELAY_NANOS, FLUSH_MAX_BYTES, CONSOLIDATE_WHEN_UNWRITABLE);
+  }
+
+  @VisibleForTesting
+  WriteQueue(Channel channel, long flushDelayNanos, int flushMaxBytes,
+      boolean consolidateWhenUnwritable) {
     this.channel = Preconditions.checkNotNull(channel, "channel");
     queue = new ConcurrentLinkedQueue<QueuedCommand>();
+    this.flushDelayNanos = flushDelayNanos;
+    this.flushMaxBytes = flushMaxBytes;
+    this.consolidateWhenUnwritable = consolidateWhenUnwritable;
+  }
+
+  private static long initFlushDelayNanos() {
+    String key = GlobalConstants.CommonKey.NETTY_FLUSH_DELAY_MICROS;
+    long value = PropertiesUtils.getValidLongValue(properties, key, 0L);
+    if (value < 0 || value > MAX_FLUSH_DELAY_MICROS) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围[0, " + MAX_FLUSH_DELAY_MICROS
+          + "]，使用缺省值");
+      value = 0;
+    }
+
+    logger.info(key + " = " + value);
+    return TimeUnit.MICROSECONDS.toNanos(value);
+  }
+
+  private static int initFlushMaxBytes() {
+    String key = GlobalConstants.CommonKey.NETTY_FLUSH_MAX_BYTES;
+    int defaultValue = 16 * 1024;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value <= 0) {
+      logger.warn("配置项" + key + "的值[" + value + "]必须大于0，使用缺省值");
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static boolean initConsolidateWhenUnwritable() {
+    String key = GlobalConstants.CommonKey.NETTY_FLUSH_CONSOLIDATE_WHEN_UNWRITABLE;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
   }
 
   /**
@@ -109,19 +204,34 @@ class WriteQueue {
       int i = 0;
       boolean flushedOnce = false;
       while ((cmd = queue.poll()) != null) {
+        if (cmd instanceof SendGrpcFrameCommand) {
+          pendingBytes += ((SendGrpcFrameCommand) cmd).content().readableBytes();
+        }
+        unflushed = true;
         cmd.run(channel);
         if (++i == DEQUE_CHUNK_SIZE) {
           i = 0;
           // Flush each chunk so we are releasing buffers periodically. In theory this loop
           // might never end as new events are continuously added to the queue, if we never
           // flushed in that case we would be guaranteed to OOM.
-          channel.flush();
+          flushChannel();
           flushedOnce = true;
         }
       }
+      //----begin----合并多个stream的写操作----
+      if (i != 0 && flushDelayNanos > 0 && pendingBytes < flushMaxBytes) {
+        // 数据量较小时推迟一小段时间再flush，让同一连接上其他stream的写操作合并到一次系统调用中
+        if (!delayedFlushScheduled) {
+          delayedFlushScheduled = true;
+          flushStats().recordDelayedFlush();
+          channel.eventLoop().schedule(delayedFlush, flushDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        return;
+      }
+      //----end------合并多个stream的写操作----
       // Must flush at least once, even if there were no writes.
       if (i != 0 || !flushedOnce) {
-        channel.flush();
+        flushChannel();
       }
     } finally {
       // Mark the write as done, if the queue is non-empty after marking trigger a new write.
@@ -132,6 +242,64 @@ class WriteQueue {
     }
   }
 
+  /**
+   * flush连接，并记录flush的次数和字节数
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  private void flushChannel() {
+    if (consolidateWhenUnwritable && isBackedUp()) {
+      // 已经flush的数据还没有写完，此时flush不会产生新的系统调用；
+      // 连接恢复可写时Http2ConnectionHandler会flush，新写入的数据随之一起写出
+      flushStats().recordSkippedFlush();
+      return;
+    }
+    channel.flush();
+    unflushed = false;
+    flushCount++;
+    flushedBytes += pendingBytes;
+    flushStats().recordFlush(pendingBytes);
+    pendingBytes = 0;
+  }
+
+  private NettyFlushStats.Counters flushStats() {
+    NettyFlushStats.Counters stats = flushStats;
+    if (stats == null) {
+      // 连接的event loop线程不会改变
+      stats = NettyFlushStats.currentThreadCounters();
+      flushStats = stats;
+    }
+    return stats;
+  }
+
+  /**
+   * 连接不可写，并且有已经flush但是还没有写到socket中的数据
+   */
+  private boolean isBackedUp() {
+    if (channel.isWritable()) {
+      return false;
+    }
+    ChannelOutboundBuffer buffer = channel.unsafe().outboundBuffer();
+    return buffer != null && buffer.size() > 0;
+  }
+
+  /**
+   * 当前连接调用channel.flush()的次数
+   */
+  @VisibleForTesting
+  long getFlushCount() {
+    return flushCount;
+  }
+
+  /**
+   * 当前连接flush写出的消息字节数
+   */
+  @VisibleForTesting
+  long getFlushedBytes() {
+    return flushedBytes;
+  }
+
   private static class RunnableCommand implements QueuedCommand {
     private final Runnable runnable;
 
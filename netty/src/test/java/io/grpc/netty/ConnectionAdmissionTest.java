@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import java.net.InetAddress;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link ConnectionAdmission}.
+ */
+@RunWith(JUnit4.class)
+public class ConnectionAdmissionTest {
+  private int oldMaxConnections;
+  private InetAddress ip1;
+  private InetAddress ip2;
+
+  @Before
+  public void setUp() throws Exception {
+    oldMaxConnections = SystemConfig.getProviderMaxConnetions();
+    ip1 = InetAddress.getByAddress(new byte[] {10, 0, 0, 1});
+    ip2 = InetAddress.getByAddress(new byte[] {10, 0, 0, 2});
+  }
+
+  @After
+  public void tearDown() {
+    SystemConfig.setProviderMaxConnetions(oldMaxConnections);
+    ConnectionAdmission.setMaxTotalConnections(0);
+    ConnectionAdmission.setAcceptRatePerIp(0);
+  }
+
+  @Test
+  public void perIpLimit() {
+    SystemConfig.setProviderMaxConnetions(2);
+    ConnectionAdmission admission = new ConnectionAdmission();
+
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.REJECTED_PER_IP_LIMIT, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip2));
+    assertEquals(2, admission.getConnections(ip1));
+    assertEquals(3, admission.getTotalConnections());
+    assertEquals(1, admission.getRejectedByPerIpLimit());
+
+    admission.release(ip1);
+    assertEquals(1, admission.getConnections(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+  }
+
+  @Test
+  public void totalLimit() {
+    SystemConfig.setProviderMaxConnetions(0);
+    ConnectionAdmission.setMaxTotalConnections(2);
+    ConnectionAdmission admission = new ConnectionAdmission();
+
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(null));
+    assertEquals(ConnectionAdmission.Result.REJECTED_TOTAL_LIMIT, admission.tryAcquire(ip2));
+    assertEquals(0, admission.getConnections(ip2));
+    assertEquals(1, admission.getRejectedByTotalLimit());
+
+    admission.release(null);
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip2));
+  }
+
+  @Test
+  public void acceptRateLimit() {
+    SystemConfig.setProviderMaxConnetions(0);
+    ConnectionAdmission.setAcceptRatePerIp(2);
+    ConnectionAdmission admission = new ConnectionAdmission();
+
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    admission.release(ip1);
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    admission.release(ip1);
+    assertEquals(ConnectionAdmission.Result.REJECTED_RATE_LIMIT, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip2));
+    assertEquals(1, admission.getRejectedByRateLimit());
+    assertEquals(1, admission.getTotalConnections());
+  }
+
+  @Test
+  public void idleIpStateRemoved() {
+    SystemConfig.setProviderMaxConnetions(2);
+    ConnectionAdmission admission = new ConnectionAdmission();
+
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip2));
+    assertEquals(2, admission.getIpCount());
+
+    admission.release(ip1);
+    assertEquals(2, admission.getIpCount());
+    admission.release(ip1);
+    assertEquals(1, admission.getIpCount());
+    assertEquals(0, admission.getConnections(ip1));
+
+    admission.release(ip2);
+    assertEquals(0, admission.getIpCount());
+    assertEquals(0, admission.getTotalConnections());
+
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    assertEquals(1, admission.getConnections(ip1));
+  }
+
+  @Test
+  public void ipStateKeptUntilRateWindowEnds() {
+    SystemConfig.setProviderMaxConnetions(0);
+    ConnectionAdmission.setAcceptRatePerIp(1);
+    ConnectionAdmission admission = new ConnectionAdmission();
+
+    assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+    admission.release(ip1);
+    assertEquals(1, admission.getIpCount());
+    assertEquals(ConnectionAdmission.Result.REJECTED_RATE_LIMIT, admission.tryAcquire(ip1));
+    assertEquals(0, admission.getConnections(ip1));
+  }
+
+  @Test
+  public void exportedThroughMetrics() {
+    SystemConfig.setProviderMaxConnetions(1);
+    ConnectionAdmission admission = new ConnectionAdmission();
+    admission.register();
+    try {
+      long before = sample(NebulaMetrics.scrape(),
+          "nebula_server_connections_rejected_total{reason=\"per_ip\"}");
+
+      assertEquals(ConnectionAdmission.Result.ACCEPTED, admission.tryAcquire(ip1));
+      assertEquals(ConnectionAdmission.Result.REJECTED_PER_IP_LIMIT, admission.tryAcquire(ip1));
+
+      String text = NebulaMetrics.scrape();
+      assertTrue(text.contains("# TYPE nebula_server_connections gauge\n"));
+      assertEquals(1, sample(text, "nebula_server_connections"));
+      assertEquals(before + 1, sample(text,
+          "nebula_server_connections_rejected_total{reason=\"per_ip\"}"));
+    } finally {
+      admission.unregister();
+    }
+
+    // 服务端关闭后累计的拒绝次数仍然输出
+    String text = NebulaMetrics.scrape();
+    assertEquals(0, sample(text, "nebula_server_connections"));
+    assertTrue(sample(text, "nebula_server_connections_rejected_total{reason=\"per_ip\"}") >= 1);
+  }
+
+  private static long sample(String text, String name) {
+    for (String line : text.split("\n")) {
+      if (line.startsWith(name + " ")) {
+        return Long.parseLong(line.substring(name.length() + 1));
+      }
+    }
+    throw new AssertionError(name + " not found");
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link NativeTransport}. The native transports are not on the test classpath of
+ * this module, so these tests cover the nio fallback.
+ */
+@RunWith(JUnit4.class)
+public class NativeTransportTest {
+
+  @Test
+  public void fallsBackToNio() {
+    assertFalse(NativeTransport.isNative());
+    assertSame(NioSocketChannel.class, NativeTransport.getChannelType());
+    assertSame(NioServerSocketChannel.class, NativeTransport.getServerChannelType());
+    assertTrue(NativeTransport.isCompatible(NioSocketChannel.class));
+  }
+
+  @Test
+  public void singleAcceptorWithoutReusePort() {
+    assertEquals(1, NativeTransport.getBossThreads());
+    assertEquals(1, NativeTransport.getAcceptors(NioServerSocketChannel.class));
+  }
+
+  @Test
+  public void createsNioEventLoopGroup() {
+    EventLoopGroup group =
+        NativeTransport.createEventLoopGroup(1, new DefaultThreadFactory("test", true));
+    try {
+      assertTrue(group instanceof NioEventLoopGroup);
+    } finally {
+      group.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void sharedGroupMatchesChannelType() {
+    assertSame(Utils.DEFAULT_WORKER_EVENT_LOOP_GROUP,
+        Utils.getWorkerEventLoopGroup(NioSocketChannel.class));
+    assertSame(Utils.DEFAULT_BOSS_EVENT_LOOP_GROUP,
+        Utils.getBossEventLoopGroup(NioServerSocketChannel.class));
+  }
+}
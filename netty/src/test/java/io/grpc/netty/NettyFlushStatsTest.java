@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.netty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link NettyFlushStats}.
+ */
+@RunWith(JUnit4.class)
+public class NettyFlushStatsTest {
+  @Test
+  public void countersOfAllThreadsAreSummed() throws Exception {
+    long flushCount = NettyFlushStats.getFlushCount();
+    long flushedBytes = NettyFlushStats.getFlushedBytes();
+    long delayed = NettyFlushStats.getDelayedFlushCount();
+    long skipped = NettyFlushStats.getSkippedFlushCount();
+
+    NettyFlushStats.Counters counters = NettyFlushStats.currentThreadCounters();
+    assertSame(counters, NettyFlushStats.currentThreadCounters());
+    counters.recordFlush(100);
+    counters.recordDelayedFlush();
+
+    final AtomicReference<NettyFlushStats.Counters> otherCounters =
+        new AtomicReference<NettyFlushStats.Counters>();
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        NettyFlushStats.Counters counters = NettyFlushStats.currentThreadCounters();
+        otherCounters.set(counters);
+        counters.recordFlush(50);
+        counters.recordSkippedFlush();
+      }
+    });
+    thread.start();
+    thread.join();
+    assertNotSame(counters, otherCounters.get());
+
+    // 线程结束后计数仍然保留
+    assertEquals(flushCount + 2, NettyFlushStats.getFlushCount());
+    assertEquals(flushedBytes + 150, NettyFlushStats.getFlushedBytes());
+    assertEquals(delayed + 1, NettyFlushStats.getDelayedFlushCount());
+    assertEquals(skipped + 1, NettyFlushStats.getSkippedFlushCount());
+  }
+
+  @Test
+  public void exportedThroughMetrics() {
+    NettyFlushStats.currentThreadCounters().recordFlush(10);
+
+    String text = NebulaMetrics.scrape();
+    assertTrue(text.contains("# TYPE nebula_netty_flushes_total counter\n"));
+    assertTrue(text.contains(
+        "nebula_netty_flushes_total " + NettyFlushStats.getFlushCount() + "\n"));
+    assertTrue(text.contains(
+        "nebula_netty_flushed_bytes_total " + NettyFlushStats.getFlushedBytes() + "\n"));
+    assertTrue(text.contains("nebula_netty_delayed_flushes_total "));
+    assertTrue(text.contains("nebula_netty_skipped_flushes_total "));
+  }
+}
@@ -93,11 +93,6 @@ public class NettyServerTest {
 
       @Override
       public Collection<ServerTransport> getTransports() {return null;}
-
-      @Override
-      public Map<String, AtomicInteger> getIpCountMap() {
-        return null;
-      }
     });
 
     // Check that we got an actual port.
@@ -192,11 +187,6 @@ public class NettyServerTest {
       public Collection<ServerTransport> getTransports() {
         return null;
       }
-
-      @Override
-      public Map<String, AtomicInteger> getIpCountMap() {
-        return null;
-      }
     });
 
     Socket socket = new Socket();
@@ -252,11 +242,6 @@ public class NettyServerTest {
       public Collection<ServerTransport> getTransports() {
         return null;
       }
-
-      @Override
-      public Map<String, AtomicInteger> getIpCountMap() {
-        return null;
-      }
     });
     assertThat(ns.getPort()).isGreaterThan(0);
 
@@ -56,9 +56,9 @@ public class NettyWritableBufferAllocatorTest extends WritableBufferAllocatorTes
 
   @Test
   public void testCapacityIsCappedAtMaximum() {
-    // Current max is 1MB
-    WritableBuffer buffer = allocator().allocate(1024 * 1025);
+    // Current max is 4MB
+    WritableBuffer buffer = allocator().allocate(4 * 1024 * 1025);
     assertEquals(0, buffer.readableBytes());
-    assertEquals(1024 * 1024, buffer.writableBytes());
+    assertEquals(4 * 1024 * 1024, buffer.writableBytes());
   }
 }
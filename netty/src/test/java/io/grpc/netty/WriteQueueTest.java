@@ -16,11 +16,14 @@
 
 package io.grpc.netty;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +34,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoop;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Before;
 import org.junit.Rule;
@@ -38,6 +42,7 @@ import org.junit.Test;
 import org.junit.rules.Timeout;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -58,6 +63,8 @@ public class WriteQueueTest {
   @Mock
   public ChannelPromise promise;
 
+  private EventLoop eventLoop;
+
   private long writeCalledNanos;
   private long flushCalledNanos = writeCalledNanos;
 
@@ -69,7 +76,7 @@ public class WriteQueueTest {
     MockitoAnnotations.initMocks(this);
     when(channel.newPromise()).thenReturn(promise);
 
-    EventLoop eventLoop = Mockito.mock(EventLoop.class);
+    eventLoop = Mockito.mock(EventLoop.class);
     doAnswer(new Answer<Void>() {
       @Override
       public Void answer(InvocationOnMock invocation) throws Throwable {
@@ -143,6 +150,38 @@ public class WriteQueueTest {
     verify(channel, times(2)).flush();
   }
 
+  @Test
+  public void smallWritesShouldBeCoalescedByDelayedFlush() {
+    WriteQueue queue = new WriteQueue(channel, TimeUnit.MICROSECONDS.toNanos(50), 1024, false);
+    queue.enqueue(new CuteCommand(), true);
+    queue.enqueue(new CuteCommand(), true);
+
+    verify(channel, times(2)).write(isA(QueuedCommand.class), eq(promise));
+    verify(channel, never()).flush();
+    ArgumentCaptor<Runnable> delayedFlush = ArgumentCaptor.forClass(Runnable.class);
+    // 只安排一次推迟的flush
+    verify(eventLoop).schedule(
+        delayedFlush.capture(), eq(TimeUnit.MICROSECONDS.toNanos(50)), eq(TimeUnit.NANOSECONDS));
+
+    delayedFlush.getValue().run();
+    verify(channel).flush();
+    assertEquals(1, queue.getFlushCount());
+
+    // 已经flush过，没有新的写操作时推迟的flush不再flush
+    delayedFlush.getValue().run();
+    verify(channel).flush();
+  }
+
+  @Test
+  public void flushShouldNotBeDelayedWhenBudgetExceeded() {
+    WriteQueue queue = new WriteQueue(channel, TimeUnit.MICROSECONDS.toNanos(50), 0, false);
+    queue.enqueue(new CuteCommand(), true);
+
+    verify(channel).flush();
+    verify(eventLoop, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    assertEquals(1, queue.getFlushCount());
+  }
+
   @Test
   public void concurrentWriteAndFlush() throws Throwable {
     final WriteQueue queue = new WriteQueue(channel);
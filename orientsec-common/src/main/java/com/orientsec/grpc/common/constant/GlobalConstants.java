@@ -231,6 +231,16 @@ public class GlobalConstants {
 
   public static final String LOAD_BALANCE_EMPTY_METHOD = "*";
 
+  /**
+   * 服务端通过响应trailers向客户端上报负载信息使用的key值
+   */
+  public static final String LOAD_REPORT_METADATA_KEY = "nebula-load-report";
+
+  /**
+   * 多级调用时传递最初的调用方的截止时间(毫秒时间戳)使用的key值
+   */
+  public static final String ORIGIN_DEADLINE_METADATA_KEY = "nebula-origin-deadline";
+
 
   public enum LB_STRATEGY {
     PICK_FIRST("pick_first"),
@@ -418,6 +428,62 @@ public class GlobalConstants {
      */
     public final static String BREAKER_SLEEPWINDOWINMiLLISECONDS = "common.breaker.sleepWindowInMilliseconds";
 
+    /**
+     * netty的传输方式(auto/nio/epoll/io_uring) ---- 不需要注册
+     */
+    public static final String NETTY_TRANSPORT = "common.netty.transport";
+
+    /**
+     * 使用netty本地传输时是否开启TCP_QUICKACK ---- 不需要注册
+     */
+    public static final String NETTY_TCP_QUICKACK = "common.netty.tcp.quickack";
+
+    /**
+     * 本端允许接收的HTTP/2帧的最大长度 ---- 不需要注册
+     */
+    public static final String HTTP2_MAX_FRAME_SIZE = "common.http2.max.frame.size";
+
+    /**
+     * 推迟flush以合并多个stream写操作的最长时间(微秒) ---- 不需要注册
+     */
+    public static final String NETTY_FLUSH_DELAY_MICROS = "common.netty.flush.delay.micros";
+
+    /**
+     * 推迟flush期间累积的消息字节数达到该值时立即flush ---- 不需要注册
+     */
+    public static final String NETTY_FLUSH_MAX_BYTES = "common.netty.flush.max.bytes";
+
+    /**
+     * 连接不可写时是否省略flush ---- 不需要注册
+     */
+    public static final String NETTY_FLUSH_CONSOLIDATE_WHEN_UNWRITABLE =
+        "common.netty.flush.consolidate.when.unwritable";
+
+    /**
+     * 是否启用框架内置的调用统计(耗时直方图、按状态码的调用次数、正在进行的调用数) ---- 不需要注册
+     */
+    public static final String METRICS_ENABLED = "common.metrics.enabled";
+
+    /**
+     * 输出调用统计的周期(秒) ---- 不需要注册
+     */
+    public static final String METRICS_REPORT_INTERVAL = "common.metrics.report.interval";
+
+    /**
+     * 以Prometheus文本格式输出调用统计的文件 ---- 不需要注册
+     */
+    public static final String METRICS_PROMETHEUS_FILE = "common.metrics.prometheus.file";
+
+    /**
+     * 服务治理日志每个key每秒最多输出的条数 ---- 不需要注册
+     */
+    public static final String GOVERNANCE_LOG_RATE = "common.governance.log.rate";
+
+    /**
+     * 服务治理日志每个key允许突发输出的条数 ---- 不需要注册
+     */
+    public static final String GOVERNANCE_LOG_BURST = "common.governance.log.burst";
+
   }
 
   /**
@@ -473,6 +539,67 @@ public class GlobalConstants {
       /** 服务的真实的端口号的KEY */
       public static final String REAL_PORT = "real.port";
 
+      /**
+       * 服务端所在的区域(机房)
+       */
+      public static final String ZONE = "zone";
+
+      /**
+       * 是否在响应trailers中上报服务端负载 ---- 不需要注册
+       */
+      public static final String LOAD_REPORT_ENABLED = "provider.load.report.enabled";
+
+      /**
+       * 服务端允许的连接总数上限 ---- 不需要注册
+       */
+      public static final String MAX_TOTAL_CONNECTIONS = "provider.connections.max.total";
+
+      /**
+       * 同一个客户端IP每秒允许建立的连接数 ---- 不需要注册
+       */
+      public static final String ACCEPT_RATE_PER_IP = "provider.connections.accept.rate.per.ip";
+
+      /**
+       * 服务端acceptor线程数，大于1时使用SO_REUSEPORT绑定多个监听socket ---- 不需要注册
+       */
+      public static final String ACCEPTOR_THREADS = "provider.netty.acceptor.threads";
+
+      /**
+       * 舱壁(服务或方法独享的业务线程池)的线程数，使用方式为provider.bulkhead.threads[接口名]或
+       * provider.bulkhead.threads[接口名.方法名] ---- 不需要注册
+       */
+      public static final String BULKHEAD_THREADS = "provider.bulkhead.threads";
+
+      /**
+       * 舱壁的所有线程都忙时最多排队的请求数，使用方式同provider.bulkhead.threads ---- 不需要注册
+       */
+      public static final String BULKHEAD_QUEUE = "provider.bulkhead.queue";
+
+      /**
+       * 舱壁是否使用虚拟线程(需要JDK21) ---- 不需要注册
+       */
+      public static final String BULKHEAD_VIRTUAL = "provider.bulkhead.virtual";
+
+      /**
+       * 舱壁的线程数 ---- 服务端监听注册中心数据变化使用
+       */
+      public static final String BULKHEAD_THREADS_FOR_LISTENER = "bulkhead.threads";
+
+      /**
+       * 舱壁的排队请求数 ---- 服务端监听注册中心数据变化使用
+       */
+      public static final String BULKHEAD_QUEUE_FOR_LISTENER = "bulkhead.queue";
+
+      /**
+       * 服务端是否使用虚拟线程(每个请求一个虚拟线程)执行业务代码，需要JDK21 ---- 不需要注册
+       */
+      public static final String VIRTUAL_THREADS_ENABLED = "provider.virtual.threads.enabled";
+
+      /**
+       * 方法的最小处理时间(毫秒)，请求的剩余时间小于该值时直接拒绝，使用方式同provider.bulkhead.threads ---- 不需要注册
+       */
+      public static final String DEADLINE_MIN_SERVICE_TIME = "provider.deadline.min.service.time";
+
     }
   }
 
@@ -561,6 +688,121 @@ public class GlobalConstants {
        * 客户端调用的服务端是主还是备，全局属性，不区分实例
        */
       public static final String CONSUMER_MASTER = "invoke.master";
+
+      /**
+       * 是否根据服务端上报的负载动态调整权重 ---- 不需要注册
+       */
+      public static final String LOAD_FEEDBACK_ENABLED = "consumer.load.feedback.enabled";
+
+      /**
+       * 服务端负载的平滑系数(指数加权移动平均)
+       */
+      public static final String LOAD_FEEDBACK_SMOOTHING_FACTOR = "consumer.load.feedback.smoothingFactor";
+
+      /**
+       * 动态权重的下限，占静态权重的百分比
+       */
+      public static final String LOAD_FEEDBACK_MIN_WEIGHT_PERCENTAGE = "consumer.load.feedback.minWeightPercentage";
+
+      /**
+       * 服务端负载数据的有效期，单位毫秒
+       */
+      public static final String LOAD_FEEDBACK_EXPIRE_MILLISECONDS = "consumer.load.feedback.expireMilliseconds";
+
+      /**
+       * 客户端所在的区域(机房)，配置后优先调用同一区域的服务端
+       */
+      public static final String ZONE = "consumer.zone";
+
+      /**
+       * 同区域可用服务端的百分比低于该值时，允许调用其他区域的服务端
+       */
+      public static final String ZONE_SPILL_HEALTHY_PERCENTAGE = "consumer.zone.spill.healthyPercentage";
+
+      /**
+       * 同区域服务端的平均负载百分比高于该值时，允许调用其他区域的服务端
+       */
+      public static final String ZONE_SPILL_LOAD_PERCENTAGE = "consumer.zone.spill.loadPercentage";
+
+      /**
+       * 是否启用对冲请求(hedging) ---- 不需要注册
+       */
+      public static final String HEDGING_ENABLED = "consumer.hedging.enabled";
+
+      /**
+       * 对冲请求的最大请求次数(包括第一次请求)
+       */
+      public static final String HEDGING_MAX_ATTEMPTS = "consumer.hedging.maxAttempts";
+
+      /**
+       * 对冲请求的延时，固定的毫秒数或者历史耗时的百分位数(例如p95)
+       */
+      public static final String HEDGING_DELAY = "consumer.hedging.delay";
+
+      /**
+       * 对冲请求的非致命错误码，出现这些错误码时立即发出下一个对冲请求
+       */
+      public static final String HEDGING_NON_FATAL_STATUS_CODES = "consumer.hedging.nonFatalStatusCodes";
+
+      /**
+       * 对冲请求限流的令牌数上限
+       */
+      public static final String HEDGING_THROTTLE_MAX_TOKENS = "consumer.hedging.throttle.maxTokens";
+
+      /**
+       * 对冲请求限流的令牌恢复比例，每次成功的请求恢复的令牌数
+       */
+      public static final String HEDGING_THROTTLE_TOKEN_RATIO = "consumer.hedging.throttle.tokenRatio";
+
+      /**
+       * 对冲请求的最大请求次数 ---- 客户端监听注册中心数据变化使用
+       */
+      public static final String HEDGING_MAX_ATTEMPTS_FOR_LISTENER = "hedging.maxAttempts";
+
+      /**
+       * 对冲请求的延时 ---- 客户端监听注册中心数据变化使用
+       */
+      public static final String HEDGING_DELAY_FOR_LISTENER = "hedging.delay";
+
+      /**
+       * 是否在同一个JVM的多个channel之间共享到同一个服务端的连接 ---- 不需要注册
+       */
+      public static final String TRANSPORT_SHARED_ENABLED = "consumer.transport.shared.enabled";
+
+      /**
+       * 共享连接时，到同一个服务端的最大连接数 ---- 不需要注册
+       */
+      public static final String TRANSPORT_SHARED_CONNECTIONS = "consumer.transport.shared.connections";
+
+      /**
+       * 到每个服务提供者的初始连接数 ---- 不需要注册
+       */
+      public static final String CONNECTIONS_PER_PROVIDER = "consumer.connections.per.provider";
+
+      /**
+       * 到每个服务提供者的最大连接数 ---- 不需要注册
+       */
+      public static final String CONNECTIONS_PER_PROVIDER_MAX = "consumer.connections.per.provider.max";
+
+      /**
+       * 一个连接上的活跃stream数达到该值时认为连接已饱和 ---- 不需要注册
+       */
+      public static final String CONNECTIONS_SATURATION_STREAMS = "consumer.connections.saturation.streams";
+
+      /**
+       * 多级调用时是否向服务端传递最初的调用方的截止时间 ---- 不需要注册
+       */
+      public static final String DEADLINE_PROPAGATE_ORIGIN = "consumer.deadline.propagate.origin";
+
+      /**
+       * 是否启用客户端调用剖析(按阶段统计耗时) ---- 不需要注册
+       */
+      public static final String PROFILER_ENABLED = "consumer.profiler.enabled";
+
+      /**
+       * 客户端调用剖析的采样间隔，平均每多少次调用采样一次 ---- 不需要注册
+       */
+      public static final String PROFILER_SAMPLE_INTERVAL = "consumer.profiler.sample.interval";
     }
   }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 一组调用的耗时直方图和按状态码统计的调用次数
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class CallMetrics {
+  /**
+   * gRPC状态码的名称，下标为状态码的值
+   */
+  private static final String[] CODE_NAMES = {
+      "OK", "CANCELLED", "UNKNOWN", "INVALID_ARGUMENT", "DEADLINE_EXCEEDED", "NOT_FOUND",
+      "ALREADY_EXISTS", "PERMISSION_DENIED", "RESOURCE_EXHAUSTED", "FAILED_PRECONDITION",
+      "ABORTED", "OUT_OF_RANGE", "UNIMPLEMENTED", "INTERNAL", "UNAVAILABLE", "DATA_LOSS",
+      "UNAUTHENTICATED"};
+
+  private static final int UNKNOWN_CODE = 2;
+
+  private final String provider;
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final AtomicLongArray codeCounts = new AtomicLongArray(CODE_NAMES.length);
+
+  CallMetrics(String provider) {
+    this.provider = provider;
+  }
+
+  /**
+   * 记录一次调用
+   *
+   * @param elapsedNanos 调用耗时
+   * @param code 调用结束时的状态码(io.grpc.Status.Code的值)
+   */
+  public void record(long elapsedNanos, int code) {
+    latency.recordNanos(elapsedNanos);
+    if (code < 0 || code >= CODE_NAMES.length) {
+      code = UNKNOWN_CODE;
+    }
+    codeCounts.incrementAndGet(code);
+  }
+
+  /**
+   * 服务提供者的地址(ip:port)，服务端的统计以及客户端没有选中服务提供者的调用为空字符串
+   */
+  public String getProvider() {
+    return provider;
+  }
+
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  /**
+   * 以指定状态码结束的调用次数
+   */
+  public long getCount(int code) {
+    return codeCounts.get(code);
+  }
+
+  /**
+   * 状态码的个数，状态码的取值范围为[0, getCodeCount())
+   */
+  public static int getCodeCount() {
+    return CODE_NAMES.length;
+  }
+
+  public static String getCodeName(int code) {
+    return CODE_NAMES[code];
+  }
+}
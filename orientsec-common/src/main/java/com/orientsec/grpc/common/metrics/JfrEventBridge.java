@@ -0,0 +1,368 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 向JDK Flight Recorder(JFR)输出自定义事件
+ * <p>
+ * 框架的源码级别为Java 7，不能直接继承jdk.jfr.Event，这里通过反射调用jdk.jfr.EventFactory(JDK 11及以上)
+ * 在运行时定义事件类型；JVM不支持JFR时所有方法都是空操作。<br>
+ * 通过FlightRecorderListener跟踪是否有正在进行的录制，没有录制时{@link #isRecording()}返回false，
+ * 调用方只需读取一个volatile变量就可以跳过事件的创建。
+ * </p>
+ * <p>
+ * 在JDK Mission Control中，事件位于nebula分类下。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class JfrEventBridge {
+  private static final Logger logger = LoggerFactory.getLogger(JfrEventBridge.class);
+
+  private static final String CATEGORY = "nebula";
+
+  // 是否有正在进行的录制
+  private static volatile boolean recording;
+
+  private static final Reflection reflection = Reflection.load();
+
+  private JfrEventBridge() {
+  }
+
+  /**
+   * JVM是否支持通过EventFactory定义事件
+   */
+  public static boolean isAvailable() {
+    return reflection != null;
+  }
+
+  /**
+   * 是否有正在进行的JFR录制
+   */
+  public static boolean isRecording() {
+    return recording;
+  }
+
+  /**
+   * 定义一个事件类型
+   *
+   * @param name 事件名称，例如nebula.CallProfile
+   * @param label 在JDK Mission Control中显示的名称
+   * @param fields 事件的字段，提交事件时按照相同的顺序传入字段值
+   */
+  public static EventType createEventType(String name, String label, Field... fields) {
+    Preconditions.checkNotNull(name, "name");
+    Object factory = null;
+    if (reflection != null) {
+      try {
+        factory = reflection.createFactory(name, label, fields);
+      } catch (Throwable t) {
+        logger.warn("定义JFR事件" + name + "出错", t);
+      }
+    }
+    return new EventType(name, factory, fields.length);
+  }
+
+  /**
+   * 事件的字段
+   */
+  public static final class Field {
+    private final String name;
+    private final Class<?> type;
+    private final boolean timespan;
+
+    private Field(String name, Class<?> type, boolean timespan) {
+      this.name = Preconditions.checkNotNull(name, "name");
+      this.type = Preconditions.checkNotNull(type, "type");
+      this.timespan = timespan;
+    }
+
+    /**
+     * 普通字段，类型为基本类型或String
+     */
+    public static Field of(String name, Class<?> type) {
+      return new Field(name, type, false);
+    }
+
+    /**
+     * 以纳秒为单位的时长字段
+     */
+    public static Field timespan(String name) {
+      return new Field(name, long.class, true);
+    }
+  }
+
+  /**
+   * 事件类型
+   */
+  public static final class EventType {
+    private final String name;
+    private final Object factory;
+    private final int fieldCount;
+
+    EventType(String name, Object factory, int fieldCount) {
+      this.name = name;
+      this.factory = factory;
+      this.fieldCount = fieldCount;
+    }
+
+    /**
+     * 开始一个有时长的事件，没有正在进行的录制时返回null
+     * <p>
+     * 返回值不为null时需要调用{@link Event#commit}，事件的时长为两次调用之间的时间。
+     * </p>
+     */
+    public Event begin() {
+      if (!recording || factory == null) {
+        return null;
+      }
+      try {
+        Object event = reflection.newEvent(factory);
+        reflection.begin.invoke(event);
+        return new Event(this, event);
+      } catch (Throwable t) {
+        logger.debug("创建JFR事件" + name + "出错", t);
+        return null;
+      }
+    }
+
+    /**
+     * 提交一个瞬时事件，没有正在进行的录制时不做任何事情
+     */
+    public void commit(Object... values) {
+      if (!recording || factory == null) {
+        return;
+      }
+      try {
+        commit(reflection.newEvent(factory), values);
+      } catch (Throwable t) {
+        logger.debug("提交JFR事件" + name + "出错", t);
+      }
+    }
+
+    void commit(Object event, Object[] values) throws Exception {
+      Preconditions.checkArgument(values.length == fieldCount,
+          "事件%s的字段数为%s，实际传入%s个值", name, fieldCount, values.length);
+      for (int i = 0; i < values.length; i++) {
+        reflection.set.invoke(event, i, values[i]);
+      }
+      reflection.commit.invoke(event);
+    }
+
+    @Override
+    public String toString() {
+      return "JfrEventType[" + name + "]";
+    }
+  }
+
+  /**
+   * 已经开始的事件
+   */
+  public static final class Event {
+    private final EventType type;
+    private final Object delegate;
+
+    Event(EventType type, Object delegate) {
+      this.type = type;
+      this.delegate = delegate;
+    }
+
+    /**
+     * 结束并提交事件
+     */
+    public void commit(Object... values) {
+      try {
+        type.commit(delegate, values);
+      } catch (Throwable t) {
+        logger.debug("提交JFR事件" + type.name + "出错", t);
+      }
+    }
+  }
+
+  /**
+   * 更新是否有正在进行的录制
+   */
+  static void updateRecording() {
+    boolean running = false;
+    try {
+      running = reflection.hasRunningRecording();
+    } catch (Throwable t) {
+      logger.debug("读取JFR录制状态出错", t);
+    }
+    recording = running;
+  }
+
+  /**
+   * jdk.jfr中用到的类和方法
+   */
+  private static final class Reflection {
+    private Class<?> annotationElementClass;
+    private Constructor<?> annotationElementConstructor;
+    private Constructor<?> valueDescriptorConstructor;
+    private Class<?> nameClass;
+    private Class<?> labelClass;
+    private Class<?> categoryClass;
+    private Class<?> timespanClass;
+    private Method createFactory;
+    private Method newEvent;
+    private Method begin;
+    private Method set;
+    private Method commit;
+    private Method isInitialized;
+    private Method getFlightRecorder;
+    private Method getRecordings;
+    private Method getState;
+
+    static Reflection load() {
+      try {
+        Class.forName("jdk.jfr.EventFactory");
+      } catch (Throwable t) {
+        logger.debug("JVM不支持JFR自定义事件");
+        return null;
+      }
+
+      try {
+        Reflection r = new Reflection();
+        r.init();
+        return r;
+      } catch (Throwable t) {
+        logger.warn("初始化JFR事件桥接出错，不输出JFR事件", t);
+        return null;
+      }
+    }
+
+    private void init() throws Exception {
+      annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+      annotationElementConstructor =
+          annotationElementClass.getConstructor(Class.class, Object.class);
+      Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+      valueDescriptorConstructor =
+          valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+      nameClass = Class.forName("jdk.jfr.Name");
+      labelClass = Class.forName("jdk.jfr.Label");
+      categoryClass = Class.forName("jdk.jfr.Category");
+      timespanClass = Class.forName("jdk.jfr.Timespan");
+
+      Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+      createFactory = eventFactoryClass.getMethod("create", List.class, List.class);
+      newEvent = eventFactoryClass.getMethod("newEvent");
+
+      Class<?> eventClass = Class.forName("jdk.jfr.Event");
+      begin = eventClass.getMethod("begin");
+      set = eventClass.getMethod("set", int.class, Object.class);
+      commit = eventClass.getMethod("commit");
+
+      Class<?> recorderClass = Class.forName("jdk.jfr.FlightRecorder");
+      isInitialized = recorderClass.getMethod("isInitialized");
+      getFlightRecorder = recorderClass.getMethod("getFlightRecorder");
+      getRecordings = recorderClass.getMethod("getRecordings");
+      getState = Class.forName("jdk.jfr.Recording").getMethod("getState");
+
+      Class<?> listenerClass = Class.forName("jdk.jfr.FlightRecorderListener");
+      Object listener = Proxy.newProxyInstance(listenerClass.getClassLoader(),
+          new Class<?>[] {listenerClass}, new RecordingStateHandler());
+      recorderClass.getMethod("addListener", listenerClass).invoke(null, listener);
+    }
+
+    Object createFactory(String name, String label, Field[] fields) throws Exception {
+      List<Object> annotations = new ArrayList<Object>();
+      annotations.add(annotation(nameClass, name));
+      if (label != null) {
+        annotations.add(annotation(labelClass, label));
+      }
+      annotations.add(annotation(categoryClass, new String[] {CATEGORY}));
+
+      List<Object> descriptors = new ArrayList<Object>(fields.length);
+      for (Field field : fields) {
+        List<Object> fieldAnnotations = Collections.emptyList();
+        if (field.timespan) {
+          fieldAnnotations = Collections.singletonList(annotation(timespanClass, "NANOSECONDS"));
+        }
+        descriptors.add(
+            valueDescriptorConstructor.newInstance(field.type, field.name, fieldAnnotations));
+      }
+
+      return createFactory.invoke(null, annotations, descriptors);
+    }
+
+    private Object annotation(Class<?> annotationType, Object value) throws Exception {
+      return annotationElementConstructor.newInstance(annotationType, value);
+    }
+
+    Object newEvent(Object factory) throws Exception {
+      return newEvent.invoke(factory);
+    }
+
+    boolean hasRunningRecording() throws Exception {
+      Boolean initialized = (Boolean) isInitialized.invoke(null);
+      if (!initialized) {
+        return false;
+      }
+      Object recorder = getFlightRecorder.invoke(null);
+      List<?> recordings = (List<?>) getRecordings.invoke(recorder);
+      for (Object recording : recordings) {
+        if ("RUNNING".equals(String.valueOf(getState.invoke(recording)))) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * FlightRecorderListener的实现，录制状态变化时更新{@link #recording}
+   */
+  private static final class RecordingStateHandler implements InvocationHandler {
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+      String name = method.getName();
+      if ("recordingStateChanged".equals(name) || "recorderInitialized".equals(name)) {
+        updateRecording();
+        return null;
+      }
+      if ("equals".equals(name)) {
+        return proxy == args[0];
+      }
+      if ("hashCode".equals(name)) {
+        return System.identityHashCode(proxy);
+      }
+      if ("toString".equals(name)) {
+        return "JfrEventBridge.RecordingStateHandler";
+      }
+      return null;
+    }
+  }
+
+  static {
+    if (reflection != null) {
+      updateRecording();
+    }
+  }
+}
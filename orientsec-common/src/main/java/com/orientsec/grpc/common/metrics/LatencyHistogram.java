@@ -0,0 +1,238 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 耗时直方图
+ * <p>
+ * 以微秒为单位、按对数线性划分桶(与HdrHistogram的划分方式相同)：小于8微秒时每微秒一个桶，
+ * 之后每个2的幂区间均分为8个桶，桶宽与下界之比不超过12.5%，按桶的中点计算分位数时误差不超过约6.25%。
+ * 最大记录约38小时，超过的按最大值记录。
+ * </p>
+ * <p>
+ * 记录时不分配对象、不加锁：按线程号把计数分散到多个条带上以减少多核之间的缓存行竞争，
+ * 条带在第一次使用时创建；读取时把各条带累加为{@link Snapshot}。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 36;
+
+  static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+  static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  // 每个条带的最后一个元素是耗时总和
+  private static final int SUM_INDEX = BUCKET_COUNT;
+
+  private static final int STRIPE_COUNT = initStripeCount();
+  private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes =
+          new AtomicReferenceArray<AtomicLongArray>(STRIPE_COUNT);
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * 条带数为不超过CPU核数的2的幂，最多4个
+   */
+  private static int initStripeCount() {
+    int cpus = Runtime.getRuntime().availableProcessors();
+    int count = 1;
+    while (count < 4 && count < cpus) {
+      count <<= 1;
+    }
+    return count;
+  }
+
+  /**
+   * 记录一次耗时
+   */
+  public void recordNanos(long nanos) {
+    recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+  }
+
+  /**
+   * 记录一次耗时(微秒)
+   */
+  public void recordMicros(long micros) {
+    if (micros < 0) {
+      micros = 0;
+    } else if (micros > MAX_VALUE) {
+      micros = MAX_VALUE;
+    }
+
+    AtomicLongArray stripe = stripe();
+    stripe.incrementAndGet(indexOf(micros));
+    stripe.addAndGet(SUM_INDEX, micros);
+
+    long current = max.get();
+    while (micros > current && !max.compareAndSet(current, micros)) {
+      current = max.get();
+    }
+  }
+
+  private AtomicLongArray stripe() {
+    int index = (int) Thread.currentThread().getId() & STRIPE_MASK;
+    AtomicLongArray stripe = stripes.get(index);
+    if (stripe == null) {
+      stripe = new AtomicLongArray(BUCKET_COUNT + 1);
+      if (!stripes.compareAndSet(index, null, stripe)) {
+        stripe = stripes.get(index);
+      }
+    }
+    return stripe;
+  }
+
+  /**
+   * 读取当前的累计值
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    long sum = 0;
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe == null) {
+        continue;
+      }
+      for (int j = 0; j < BUCKET_COUNT; j++) {
+        counts[j] += stripe.get(j);
+      }
+      sum += stripe.get(SUM_INDEX);
+    }
+    return new Snapshot(counts, sum, max.get());
+  }
+
+  static int indexOf(long micros) {
+    if (micros < SUB_BUCKET_COUNT) {
+      return (int) micros;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (micros >>> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long lowerBoundOf(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    int subBucket = index % SUB_BUCKET_COUNT;
+    return (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+  }
+
+  static long widthOf(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return 1;
+    }
+    return 1L << (index / SUB_BUCKET_COUNT - 1);
+  }
+
+  /**
+   * 直方图在某一时刻的累计值，单位为微秒
+   */
+  public static final class Snapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    Snapshot(long[] counts, long sum, long max) {
+      this.counts = counts;
+      long total = 0;
+      for (long c : counts) {
+        total += c;
+      }
+      this.count = total;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * 记录次数
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * 耗时总和(微秒)
+     */
+    public long getSumMicros() {
+      return sum;
+    }
+
+    /**
+     * 最大耗时(微秒)
+     */
+    public long getMaxMicros() {
+      return max;
+    }
+
+    /**
+     * 平均耗时(微秒)
+     */
+    public double getMeanMicros() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * 分位数对应的耗时(微秒)
+     *
+     * @param quantile 取值范围[0, 1]，例如0.99
+     */
+    public long getValueAtQuantile(double quantile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(Math.max(0, Math.min(1, quantile)) * count);
+      if (rank < 1) {
+        rank = 1;
+      }
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(lowerBoundOf(i) + widthOf(i) / 2, max);
+        }
+      }
+      return max;
+    }
+
+    /**
+     * 耗时不超过指定值的记录次数，桶的中点不超过指定值时整个桶计入(用于导出Prometheus的histogram)
+     */
+    public long getCountAtOrBelow(long micros) {
+      long total = 0;
+      for (int i = 0; i < counts.length; i++) {
+        if (lowerBoundOf(i) + widthOf(i) / 2 > micros) {
+          break;
+        }
+        total += counts[i];
+      }
+      return total;
+    }
+  }
+}
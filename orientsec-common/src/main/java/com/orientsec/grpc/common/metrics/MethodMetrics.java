@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import com.orientsec.grpc.common.util.Networks;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一个方法的调用统计
+ * <p>
+ * 服务端只使用{@link #getCalls()}；客户端按服务提供者的地址分别统计，
+ * 没有选中服务提供者就结束的调用(例如没有可用的服务提供者)记录在{@link #getCalls()}中。
+ * </p>
+ * <p>
+ * 服务端还分别记录每次调用在业务线程池中的排队耗时、业务处理耗时和响应的序列化耗时，
+ * 用于区分耗时是来自排队还是来自业务代码。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class MethodMetrics {
+  private final String service;
+  private final String method;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final CallMetrics calls = new CallMetrics("");
+
+  // 服务端：从传输层收到请求到开始在业务线程池中执行的耗时
+  private final LatencyHistogram queueTime = new LatencyHistogram();
+
+  // 服务端：从开始执行到调用close的耗时，不包括响应的序列化耗时
+  private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+  // 服务端：每个响应消息的序列化(写入传输层)耗时
+  private final LatencyHistogram serializeTime = new LatencyHistogram();
+
+  // 服务端：排队耗时的指数加权移动平均值(微秒)，权重为1/8
+  private final AtomicLong smoothedQueueMicros = new AtomicLong();
+
+  /**
+   * 客户端按服务提供者的统计
+   * <p>
+   * key: 服务提供者的地址(SocketAddress)，查找时不需要拼接字符串
+   * </p>
+   */
+  private final ConcurrentHashMap<SocketAddress, CallMetrics> providers =
+          new ConcurrentHashMap<SocketAddress, CallMetrics>();
+
+  MethodMetrics(String service, String method) {
+    this.service = service;
+    this.method = method;
+  }
+
+  public String getService() {
+    return service;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * 调用开始时调用，增加正在进行的调用数
+   */
+  public void callStarted() {
+    inFlight.incrementAndGet();
+  }
+
+  /**
+   * 调用结束时调用，减少正在进行的调用数
+   */
+  public void callEnded() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * 正在进行的调用数
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public CallMetrics getCalls() {
+    return calls;
+  }
+
+  /**
+   * 记录一次服务端调用的排队耗时
+   */
+  public void recordQueueNanos(long nanos) {
+    queueTime.recordNanos(nanos);
+
+    long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+    long current = smoothedQueueMicros.get();
+    while (!smoothedQueueMicros.compareAndSet(current, current + (micros - current) / 8)) {
+      current = smoothedQueueMicros.get();
+    }
+  }
+
+  public LatencyHistogram getQueueTime() {
+    return queueTime;
+  }
+
+  public LatencyHistogram getServiceTime() {
+    return serviceTime;
+  }
+
+  public LatencyHistogram getSerializeTime() {
+    return serializeTime;
+  }
+
+  /**
+   * 最近一段时间的排队耗时(微秒，指数加权移动平均)
+   * <p>
+   * 与直方图的累计值不同，该值随负载变化而变化，可以作为负载上报和并发限制的依据。
+   * </p>
+   */
+  public long getSmoothedQueueMicros() {
+    return smoothedQueueMicros.get();
+  }
+
+  /**
+   * 获取指定服务提供者的统计，不存在时创建
+   *
+   * @param address 服务提供者的地址，为null时返回{@link #getCalls()}
+   */
+  public CallMetrics getProviderCalls(SocketAddress address) {
+    if (address == null) {
+      return calls;
+    }
+
+    CallMetrics metrics = providers.get(address);
+    if (metrics == null) {
+      metrics = new CallMetrics(Networks.getHostAndPort(address));
+      CallMetrics existing = providers.putIfAbsent(address, metrics);
+      if (existing != null) {
+        metrics = existing;
+      }
+    }
+    return metrics;
+  }
+
+  /**
+   * 删除服务提供者的统计(服务提供者下线后不再导出)
+   */
+  public void removeProvider(SocketAddress address) {
+    providers.remove(address);
+  }
+
+  /**
+   * 所有的统计，第一个元素为{@link #getCalls()}
+   */
+  public List<CallMetrics> getAllCalls() {
+    List<CallMetrics> list = new ArrayList<CallMetrics>(providers.size() + 1);
+    list.add(calls);
+    list.addAll(providers.values());
+    return list;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+/**
+ * 框架其它模块(连接准入、隔离舱等)的统计指标
+ * <p>
+ * 通过{@link NebulaMetrics#addCollector}注册后，在{@link NebulaMetrics#scrape()}和写入Prometheus文本文件时调用；
+ * 实现类使用{@link PrometheusTextFormat#writeHeader}和{@link PrometheusTextFormat#writeSample}输出指标，
+ * 同名的指标只能由一个实现类输出。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface MetricsCollector {
+  /**
+   * 以Prometheus的文本格式输出当前的统计值
+   */
+  void collect(StringBuilder sb);
+}
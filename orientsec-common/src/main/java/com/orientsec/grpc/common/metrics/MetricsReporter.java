@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import java.util.Collection;
+
+/**
+ * 调用统计的输出接口
+ * <p>
+ * 通过{@link NebulaMetrics#addReporter}注册后，由后台线程按照配置的周期调用，
+ * 实现类可以把统计数据推送到监控系统或者写入日志。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface MetricsReporter {
+  /**
+   * 输出统计数据，统计值为进程启动以来的累计值
+   *
+   * @param clientMetrics 客户端各方法的统计
+   * @param serverMetrics 服务端各方法的统计
+   */
+  void report(Collection<MethodMetrics> clientMetrics, Collection<MethodMetrics> serverMetrics)
+          throws Exception;
+}
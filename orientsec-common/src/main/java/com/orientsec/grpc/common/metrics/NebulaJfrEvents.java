@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import com.orientsec.grpc.common.metrics.JfrEventBridge.Field;
+
+/**
+ * 框架输出的JFR事件
+ * <ul>
+ * <li>nebula.Call：客户端的一次调用尝试，包括服务名、方法名、服务提供者、状态码，事件时长为调用耗时</li>
+ * <li>nebula.ProviderSwitchover：连续多次调用出错后从备选列表中删除服务提供者，以及之后的恢复</li>
+ * <li>nebula.BreakerTransition：熔断器的打开、半打开、关闭</li>
+ * <li>nebula.ProvidersNotify：客户端处理注册中心的服务提供者列表变化，事件时长为处理耗时</li>
+ * <li>nebula.FlowControlStall：stream待发送的数据超过阈值、isReady()变为false的时间段</li>
+ * </ul>
+ * 只有在有正在进行的JFR录制时才创建和提交事件，没有录制时每个埋点只读取一个volatile变量。
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class NebulaJfrEvents {
+  public static final String SWITCHOVER_REMOVE = "REMOVE";
+  public static final String SWITCHOVER_RECOVER = "RECOVER";
+
+  public static final String BREAKER_OPEN = "OPEN";
+  public static final String BREAKER_HALF_OPEN = "HALF_OPEN";
+  public static final String BREAKER_CLOSED = "CLOSED";
+
+  private static final JfrEventBridge.EventType CALL = JfrEventBridge.createEventType(
+      "nebula.Call", "Nebula Call",
+      Field.of("service", String.class),
+      Field.of("method", String.class),
+      Field.of("provider", String.class),
+      Field.of("status", String.class));
+
+  private static final JfrEventBridge.EventType SWITCHOVER = JfrEventBridge.createEventType(
+      "nebula.ProviderSwitchover", "Nebula Provider Switchover",
+      Field.of("service", String.class),
+      Field.of("provider", String.class),
+      Field.of("method", String.class),
+      Field.of("action", String.class),
+      Field.of("consecutiveFailures", int.class));
+
+  private static final JfrEventBridge.EventType BREAKER = JfrEventBridge.createEventType(
+      "nebula.BreakerTransition", "Nebula Breaker Transition",
+      Field.of("service", String.class),
+      Field.of("provider", String.class),
+      Field.of("state", String.class),
+      Field.of("reason", String.class));
+
+  private static final JfrEventBridge.EventType PROVIDERS_NOTIFY = JfrEventBridge.createEventType(
+      "nebula.ProvidersNotify", "Nebula Providers Notify",
+      Field.of("service", String.class),
+      Field.of("providerCount", int.class));
+
+  private static final JfrEventBridge.EventType FLOW_CONTROL_STALL =
+      JfrEventBridge.createEventType(
+          "nebula.FlowControlStall", "Nebula Flow Control Stall",
+          Field.of("stream", String.class),
+          Field.of("queuedBytes", int.class));
+
+  private NebulaJfrEvents() {
+  }
+
+  /**
+   * 是否有正在进行的JFR录制
+   */
+  public static boolean isRecording() {
+    return JfrEventBridge.isRecording();
+  }
+
+  /**
+   * 开始一次客户端调用，没有录制时返回null
+   */
+  public static JfrEventBridge.Event beginCall() {
+    return CALL.begin();
+  }
+
+  /**
+   * 结束一次客户端调用
+   *
+   * @param event {@link #beginCall()}的返回值，为null时不做任何事情
+   */
+  public static void commitCall(JfrEventBridge.Event event, String service, String method,
+                                String provider, String status) {
+    if (event != null) {
+      event.commit(service, method, provider, status);
+    }
+  }
+
+  /**
+   * 连续多次调用出错的服务提供者被删除或恢复
+   *
+   * @param action {@link #SWITCHOVER_REMOVE}或{@link #SWITCHOVER_RECOVER}
+   */
+  public static void switchover(String service, String provider, String method, String action,
+                                int consecutiveFailures) {
+    if (!JfrEventBridge.isRecording()) {
+      return;
+    }
+    SWITCHOVER.commit(service, provider, method, action, consecutiveFailures);
+  }
+
+  /**
+   * 熔断器的状态变化
+   *
+   * @param state {@link #BREAKER_OPEN}、{@link #BREAKER_HALF_OPEN}或{@link #BREAKER_CLOSED}
+   */
+  public static void breakerTransition(String service, String provider, String state,
+                                       String reason) {
+    if (!JfrEventBridge.isRecording()) {
+      return;
+    }
+    BREAKER.commit(service, provider, state, reason);
+  }
+
+  /**
+   * 开始处理服务提供者列表的变化，没有录制时返回null
+   */
+  public static JfrEventBridge.Event beginProvidersNotify() {
+    return PROVIDERS_NOTIFY.begin();
+  }
+
+  /**
+   * 服务提供者列表的变化处理完毕
+   *
+   * @param event {@link #beginProvidersNotify()}的返回值，为null时不做任何事情
+   */
+  public static void commitProvidersNotify(JfrEventBridge.Event event, String service,
+                                           int providerCount) {
+    if (event != null) {
+      event.commit(service, providerCount);
+    }
+  }
+
+  /**
+   * stream开始因为待发送的数据过多而不可写，没有录制时返回null
+   */
+  public static JfrEventBridge.Event beginFlowControlStall() {
+    return FLOW_CONTROL_STALL.begin();
+  }
+
+  /**
+   * stream恢复可写
+   *
+   * @param event {@link #beginFlowControlStall()}的返回值，为null时不做任何事情
+   * @param queuedBytes 开始不可写时待发送的字节数
+   */
+  public static void commitFlowControlStall(JfrEventBridge.Event event, String stream,
+                                            int queuedBytes) {
+    if (event != null) {
+      event.commit(stream, queuedBytes);
+    }
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import com.google.common.base.Preconditions;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 框架内置的调用统计
+ * <p>
+ * 客户端按(服务, 方法, 服务提供者ip:port)、服务端按(服务, 方法)统计耗时直方图、按状态码的调用次数和正在进行的调用数；
+ * 启用了客户端调用剖析时，还按阶段(解析、路由、选择服务端等)统计耗时直方图。
+ * 统计数据可以通过{@link #scrape()}获取Prometheus的文本格式，也可以注册{@link MetricsReporter}定期输出；
+ * 配置了common.metrics.prometheus.file时定期写入该文件。<br>
+ * 框架其它模块的指标通过{@link #addCollector}注册，随调用统计一起输出。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class NebulaMetrics {
+  private static final Logger logger = LoggerFactory.getLogger(NebulaMetrics.class);
+
+  private static final long MAX_REPORT_INTERVAL = 3600;
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 是否启用调用统计
+  private static boolean enabled = initEnabled();
+
+  // 输出统计数据的周期(秒)
+  private static long reportInterval = initReportInterval();
+
+  /**
+   * key: 全路径方法名
+   */
+  private static final ConcurrentHashMap<String, MethodMetrics> clientMethods =
+          new ConcurrentHashMap<String, MethodMetrics>();
+
+  /**
+   * key: 全路径方法名
+   */
+  private static final ConcurrentHashMap<String, MethodMetrics> serverMethods =
+          new ConcurrentHashMap<String, MethodMetrics>();
+
+  /**
+   * key: 客户端调用的阶段名称
+   */
+  private static final ConcurrentHashMap<String, LatencyHistogram> clientStages =
+          new ConcurrentHashMap<String, LatencyHistogram>();
+
+  private static final CopyOnWriteArrayList<MetricsReporter> reporters =
+          new CopyOnWriteArrayList<MetricsReporter>();
+
+  private static final CopyOnWriteArrayList<MetricsCollector> collectors =
+          new CopyOnWriteArrayList<MetricsCollector>();
+
+  private static volatile ScheduledExecutorService scheduler;
+
+  static {
+    initPrometheusFileReporter();
+  }
+
+  /**
+   * 初始化是否启用调用统计
+   */
+  private static boolean initEnabled() {
+    String key = GlobalConstants.CommonKey.METRICS_ENABLED;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化输出统计数据的周期
+   */
+  private static long initReportInterval() {
+    String key = GlobalConstants.CommonKey.METRICS_REPORT_INTERVAL;
+    long defaultValue = 60;
+    long value = PropertiesUtils.getValidLongValue(properties, key, defaultValue);
+
+    if (value < 1 || value > MAX_REPORT_INTERVAL) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围[1, " + MAX_REPORT_INTERVAL
+          + "]，使用缺省值" + defaultValue);
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  private static void initPrometheusFileReporter() {
+    if (!enabled) {
+      return;
+    }
+    String key = GlobalConstants.CommonKey.METRICS_PROMETHEUS_FILE;
+    String value = PropertiesUtils.getStringValue(properties, key, "");
+    logger.info(key + " = " + value);
+    if (!StringUtils.isEmpty(value)) {
+      addReporter(new PrometheusTextFileReporter(new File(value.trim())));
+    }
+  }
+
+  /**
+   * 是否启用调用统计
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 获取客户端的方法统计，不存在时创建
+   */
+  public static MethodMetrics client(String fullMethodName) {
+    return getOrCreate(clientMethods, fullMethodName);
+  }
+
+  /**
+   * 获取服务端的方法统计，不存在时创建
+   */
+  public static MethodMetrics server(String fullMethodName) {
+    return getOrCreate(serverMethods, fullMethodName);
+  }
+
+  private static MethodMetrics getOrCreate(ConcurrentHashMap<String, MethodMetrics> map,
+                                           String fullMethodName) {
+    MethodMetrics metrics = map.get(fullMethodName);
+    if (metrics == null) {
+      int index = fullMethodName.lastIndexOf('/');
+      String service = (index < 0) ? "" : fullMethodName.substring(0, index);
+      String method = fullMethodName.substring(index + 1);
+      metrics = new MethodMetrics(service, method);
+      MethodMetrics existing = map.putIfAbsent(fullMethodName, metrics);
+      if (existing != null) {
+        metrics = existing;
+      }
+    }
+    return metrics;
+  }
+
+  /**
+   * 获取客户端调用某个阶段的耗时直方图，不存在时创建
+   */
+  public static LatencyHistogram clientStage(String stage) {
+    LatencyHistogram histogram = clientStages.get(stage);
+    if (histogram == null) {
+      histogram = new LatencyHistogram();
+      LatencyHistogram existing = clientStages.putIfAbsent(stage, histogram);
+      if (existing != null) {
+        histogram = existing;
+      }
+    }
+    return histogram;
+  }
+
+  /**
+   * 客户端调用各个阶段的耗时直方图
+   * <p>
+   * key: 阶段名称
+   * </p>
+   */
+  public static Map<String, LatencyHistogram> getClientStages() {
+    return Collections.unmodifiableMap(clientStages);
+  }
+
+  public static Collection<MethodMetrics> getClientMetrics() {
+    return Collections.unmodifiableCollection(clientMethods.values());
+  }
+
+  public static Collection<MethodMetrics> getServerMetrics() {
+    return Collections.unmodifiableCollection(serverMethods.values());
+  }
+
+  /**
+   * 获取Prometheus文本格式的统计数据
+   */
+  public static String scrape() {
+    return PrometheusTextFormat.format(getClientMetrics(), getServerMetrics(), getClientStages(),
+        collectors);
+  }
+
+  /**
+   * 注册其它模块的统计指标
+   */
+  public static void addCollector(MetricsCollector collector) {
+    Preconditions.checkNotNull(collector, "collector");
+    collectors.addIfAbsent(collector);
+  }
+
+  public static void removeCollector(MetricsCollector collector) {
+    collectors.remove(collector);
+  }
+
+  public static Collection<MetricsCollector> getCollectors() {
+    return Collections.unmodifiableCollection(collectors);
+  }
+
+  /**
+   * 注册统计数据的输出，按照common.metrics.report.interval配置的周期调用
+   */
+  public static void addReporter(MetricsReporter reporter) {
+    Preconditions.checkNotNull(reporter, "reporter");
+    reporters.add(reporter);
+    startScheduler();
+    logger.info("注册调用统计输出" + reporter);
+  }
+
+  public static void removeReporter(MetricsReporter reporter) {
+    reporters.remove(reporter);
+  }
+
+  private static synchronized void startScheduler() {
+    if (scheduler != null) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "grpc-metrics-reporter");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    scheduler.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        report();
+      }
+    }, reportInterval, reportInterval, TimeUnit.SECONDS);
+  }
+
+  /**
+   * 调用所有注册的输出，单个输出出错不影响其它输出
+   */
+  static void report() {
+    Collection<MethodMetrics> client = getClientMetrics();
+    Collection<MethodMetrics> server = getServerMetrics();
+    for (MetricsReporter reporter : reporters) {
+      try {
+        reporter.report(client, server);
+      } catch (Throwable t) {
+        logger.warn("输出调用统计出错" + reporter, t);
+      }
+    }
+  }
+}
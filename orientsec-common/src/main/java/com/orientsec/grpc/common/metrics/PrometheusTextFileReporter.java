@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import com.google.common.base.Preconditions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+
+/**
+ * 把调用统计以Prometheus的文本格式写入文件，供node_exporter的textfile collector采集
+ * <p>
+ * 先写入同目录下的临时文件再改名，采集方不会读到写了一半的文件。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class PrometheusTextFileReporter implements MetricsReporter {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final Path target;
+  private final Path temp;
+
+  public PrometheusTextFileReporter(File file) {
+    Preconditions.checkNotNull(file, "file");
+    File absolute = file.getAbsoluteFile();
+    this.target = absolute.toPath();
+    this.temp = new File(absolute.getParentFile(), absolute.getName() + ".tmp").toPath();
+  }
+
+  @Override
+  public void report(Collection<MethodMetrics> clientMetrics,
+                     Collection<MethodMetrics> serverMetrics) throws IOException {
+    String text = PrometheusTextFormat.format(clientMetrics, serverMetrics,
+        NebulaMetrics.getClientStages(), NebulaMetrics.getCollectors());
+    Files.createDirectories(target.getParent());
+    Files.write(temp, text.getBytes(UTF_8));
+    try {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PrometheusTextFileReporter[" + target + "]";
+  }
+}
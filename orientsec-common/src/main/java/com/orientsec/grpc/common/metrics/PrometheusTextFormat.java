@@ -0,0 +1,278 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 把调用统计转换为Prometheus的文本格式(text/plain; version=0.0.4)
+ * <p>
+ * 输出的指标(side为client或server)：
+ * <ul>
+ * <li>nebula_{side}_latency_seconds：耗时直方图(histogram)，可以用histogram_quantile计算任意时间窗口的分位数</li>
+ * <li>nebula_{side}_calls_total：按状态码统计的调用次数(counter)</li>
+ * <li>nebula_{side}_in_flight：正在进行的调用数(gauge)</li>
+ * </ul>
+ * 标签为service、method，客户端的耗时和调用次数还有provider(服务提供者的ip:port)。<br>
+ * 服务端还输出nebula_server_stage_seconds：按阶段(标签为stage，取值为queue、service、serialize)
+ * 统计的排队耗时、业务处理耗时和响应序列化耗时直方图。<br>
+ * 启用了客户端调用剖析时，还输出nebula_client_stage_seconds：按阶段(标签为stage)统计的耗时直方图，
+ * 桶的粒度从1微秒开始。<br>
+ * 最后输出注册的{@link MetricsCollector}的指标。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class PrometheusTextFormat {
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  /**
+   * 直方图的桶上界(微秒)，与对应的le标签值(秒)
+   */
+  private static final long[] BUCKET_MICROS = {
+      500, 1000, 2500, 5000, 10000, 25000, 50000, 100000, 250000, 500000,
+      1000000, 2500000, 5000000, 10000000};
+  private static final String[] BUCKET_LABELS = {
+      "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5",
+      "1", "2.5", "5", "10"};
+
+  /**
+   * 调用阶段直方图的桶上界(微秒)，与对应的le标签值(秒)
+   */
+  private static final long[] STAGE_BUCKET_MICROS = {
+      1, 5, 10, 25, 50, 100, 250, 500, 1000, 5000, 10000, 50000, 100000};
+  private static final String[] STAGE_BUCKET_LABELS = {
+      "0.000001", "0.000005", "0.00001", "0.000025", "0.00005", "0.0001", "0.00025", "0.0005",
+      "0.001", "0.005", "0.01", "0.05", "0.1"};
+
+  /**
+   * 服务端各个阶段直方图的桶上界(微秒)，与对应的le标签值(秒)
+   */
+  private static final long[] SERVER_STAGE_BUCKET_MICROS = {
+      10, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000, 250000, 500000,
+      1000000, 2500000, 5000000, 10000000};
+  private static final String[] SERVER_STAGE_BUCKET_LABELS = {
+      "0.00001", "0.00005", "0.0001", "0.00025", "0.0005", "0.001", "0.0025", "0.005", "0.01",
+      "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10"};
+
+  private static final String[] SERVER_STAGES = {"queue", "service", "serialize"};
+
+  private PrometheusTextFormat() {
+  }
+
+  public static String format(Collection<MethodMetrics> clientMetrics,
+                              Collection<MethodMetrics> serverMetrics) {
+    return format(clientMetrics, serverMetrics,
+        Collections.<String, LatencyHistogram>emptyMap());
+  }
+
+  /**
+   * @param clientStages 客户端调用各个阶段的耗时直方图，key为阶段名称
+   */
+  public static String format(Collection<MethodMetrics> clientMetrics,
+                              Collection<MethodMetrics> serverMetrics,
+                              Map<String, LatencyHistogram> clientStages) {
+    StringBuilder sb = new StringBuilder(4096);
+    write(sb, "client", clientMetrics);
+    write(sb, "server", serverMetrics);
+    writeServerStages(sb, serverMetrics);
+    writeStages(sb, clientStages);
+    return sb.toString();
+  }
+
+  /**
+   * @param clientStages 客户端调用各个阶段的耗时直方图，key为阶段名称
+   * @param collectors 其它模块的统计指标，单个出错时忽略其输出
+   */
+  public static String format(Collection<MethodMetrics> clientMetrics,
+                              Collection<MethodMetrics> serverMetrics,
+                              Map<String, LatencyHistogram> clientStages,
+                              Collection<MetricsCollector> collectors) {
+    StringBuilder sb = new StringBuilder(format(clientMetrics, serverMetrics, clientStages));
+    for (MetricsCollector collector : collectors) {
+      int length = sb.length();
+      try {
+        collector.collect(sb);
+      } catch (RuntimeException e) {
+        sb.setLength(length);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 输出指标的HELP和TYPE行
+   *
+   * @param type counter、gauge等
+   */
+  public static void writeHeader(StringBuilder sb, String name, String type, String help) {
+    sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  /**
+   * 输出一个样本
+   *
+   * @param labels 由{@link #label}拼接的标签，没有标签时为空字符串
+   */
+  public static void writeSample(StringBuilder sb, String name, String labels, long value) {
+    sb.append(name);
+    if (!labels.isEmpty()) {
+      sb.append('{').append(labels).append('}');
+    }
+    sb.append(' ').append(value).append('\n');
+  }
+
+  /**
+   * 拼接一个标签，标签值中的特殊字符会被转义
+   */
+  public static String label(String name, String value) {
+    return name + "=\"" + escape(value) + "\"";
+  }
+
+  private static void writeStages(StringBuilder sb, Map<String, LatencyHistogram> stages) {
+    if (stages.isEmpty()) {
+      return;
+    }
+    String latency = "nebula_client_stage_seconds";
+    sb.append("# HELP ").append(latency)
+        .append(" Latency of sampled nebula client calls by stage.\n");
+    sb.append("# TYPE ").append(latency).append(" histogram\n");
+    for (Map.Entry<String, LatencyHistogram> entry
+        : new TreeMap<String, LatencyHistogram>(stages).entrySet()) {
+      LatencyHistogram.Snapshot snapshot = entry.getValue().snapshot();
+      String labels = "stage=\"" + escape(entry.getKey()) + "\"";
+      for (int i = 0; i < STAGE_BUCKET_MICROS.length; i++) {
+        sb.append(latency).append("_bucket{").append(labels).append(",le=\"")
+            .append(STAGE_BUCKET_LABELS[i]).append("\"} ")
+            .append(snapshot.getCountAtOrBelow(STAGE_BUCKET_MICROS[i])).append('\n');
+      }
+      sb.append(latency).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+          .append(snapshot.getCount()).append('\n');
+      sb.append(latency).append("_sum{").append(labels).append("} ")
+          .append(snapshot.getSumMicros() / 1e6).append('\n');
+      sb.append(latency).append("_count{").append(labels).append("} ")
+          .append(snapshot.getCount()).append('\n');
+    }
+  }
+
+  private static void writeServerStages(StringBuilder sb, Collection<MethodMetrics> metrics) {
+    String latency = "nebula_server_stage_seconds";
+    sb.append("# HELP ").append(latency)
+        .append(" Queue, service and serialization time of nebula server calls.\n");
+    sb.append("# TYPE ").append(latency).append(" histogram\n");
+    for (MethodMetrics method : metrics) {
+      LatencyHistogram[] histograms = {
+          method.getQueueTime(), method.getServiceTime(), method.getSerializeTime()};
+      for (int stage = 0; stage < SERVER_STAGES.length; stage++) {
+        LatencyHistogram.Snapshot snapshot = histograms[stage].snapshot();
+        if (snapshot.getCount() == 0) {
+          continue;
+        }
+        String labels = "service=\"" + escape(method.getService()) + "\",method=\""
+            + escape(method.getMethod()) + "\",stage=\"" + SERVER_STAGES[stage] + "\"";
+        for (int i = 0; i < SERVER_STAGE_BUCKET_MICROS.length; i++) {
+          sb.append(latency).append("_bucket{").append(labels).append(",le=\"")
+              .append(SERVER_STAGE_BUCKET_LABELS[i]).append("\"} ")
+              .append(snapshot.getCountAtOrBelow(SERVER_STAGE_BUCKET_MICROS[i])).append('\n');
+        }
+        sb.append(latency).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+            .append(snapshot.getCount()).append('\n');
+        sb.append(latency).append("_sum{").append(labels).append("} ")
+            .append(snapshot.getSumMicros() / 1e6).append('\n');
+        sb.append(latency).append("_count{").append(labels).append("} ")
+            .append(snapshot.getCount()).append('\n');
+      }
+    }
+  }
+
+  private static void write(StringBuilder sb, String side, Collection<MethodMetrics> metrics) {
+    String latency = "nebula_" + side + "_latency_seconds";
+    sb.append("# HELP ").append(latency).append(" RPC latency of nebula ").append(side)
+        .append(" calls.\n");
+    sb.append("# TYPE ").append(latency).append(" histogram\n");
+    for (MethodMetrics method : metrics) {
+      for (CallMetrics calls : method.getAllCalls()) {
+        LatencyHistogram.Snapshot snapshot = calls.getLatency().snapshot();
+        if (snapshot.getCount() == 0) {
+          continue;
+        }
+        String labels = labels(method, calls);
+        for (int i = 0; i < BUCKET_MICROS.length; i++) {
+          sb.append(latency).append("_bucket{").append(labels).append(",le=\"")
+              .append(BUCKET_LABELS[i]).append("\"} ")
+              .append(snapshot.getCountAtOrBelow(BUCKET_MICROS[i])).append('\n');
+        }
+        sb.append(latency).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+            .append(snapshot.getCount()).append('\n');
+        sb.append(latency).append("_sum{").append(labels).append("} ")
+            .append(snapshot.getSumMicros() / 1e6).append('\n');
+        sb.append(latency).append("_count{").append(labels).append("} ")
+            .append(snapshot.getCount()).append('\n');
+      }
+    }
+
+    String total = "nebula_" + side + "_calls_total";
+    sb.append("# HELP ").append(total).append(" Completed nebula ").append(side)
+        .append(" calls by status code.\n");
+    sb.append("# TYPE ").append(total).append(" counter\n");
+    for (MethodMetrics method : metrics) {
+      for (CallMetrics calls : method.getAllCalls()) {
+        String labels = labels(method, calls);
+        for (int code = 0; code < CallMetrics.getCodeCount(); code++) {
+          long count = calls.getCount(code);
+          if (count == 0) {
+            continue;
+          }
+          sb.append(total).append('{').append(labels).append(",code=\"")
+              .append(CallMetrics.getCodeName(code)).append("\"} ").append(count).append('\n');
+        }
+      }
+    }
+
+    String inFlight = "nebula_" + side + "_in_flight";
+    sb.append("# HELP ").append(inFlight).append(" In-flight nebula ").append(side)
+        .append(" calls.\n");
+    sb.append("# TYPE ").append(inFlight).append(" gauge\n");
+    for (MethodMetrics method : metrics) {
+      sb.append(inFlight).append("{service=\"").append(escape(method.getService()))
+          .append("\",method=\"").append(escape(method.getMethod())).append("\"} ")
+          .append(method.getInFlight()).append('\n');
+    }
+  }
+
+  private static String labels(MethodMetrics method, CallMetrics calls) {
+    StringBuilder sb = new StringBuilder(128);
+    sb.append("service=\"").append(escape(method.getService()))
+        .append("\",method=\"").append(escape(method.getMethod())).append('"');
+    if (!calls.getProvider().isEmpty()) {
+      sb.append(",provider=\"").append(escape(calls.getProvider())).append('"');
+    }
+    return sb.toString();
+  }
+
+  private static String escape(String value) {
+    if (value.indexOf('\\') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
@@ -129,6 +129,7 @@ public final class ConfigFileHelper {
 
     ConfigFile accessProtected = new ConfigFile("access.protected", DataType.BOOLEAN, false, "false");
     ConfigFile master = new ConfigFile("master", DataType.BOOLEAN, false, "true");
+    ConfigFile zone = new ConfigFile("zone", DataType.STRING, false, null);
 
     provider.add(application);
     provider.add(project);
@@ -165,6 +166,7 @@ public final class ConfigFileHelper {
     provider.add(dubbo);
     provider.add(accessProtected);
     provider.add(master);
+    provider.add(zone);
   }
 
   public static List<ConfigFile> getProvider() {
@@ -210,6 +212,7 @@ public final class ConfigFileHelper {
     ConfigFile connections = new ConfigFile("default.connections", DataType.STRING, false, "0");
     ConfigFile cluster = new ConfigFile("default.cluster", DataType.STRING, false, "failover");
     ConfigFile invokeGroup = new ConfigFile("invoke.group", DataType.STRING, false, null);
+    ConfigFile zone = new ConfigFile("zone", DataType.STRING, false, null);
 
 
     consumer.add(application);
@@ -234,6 +237,7 @@ public final class ConfigFileHelper {
     consumer.add(connections);
     consumer.add(cluster);
     consumer.add(invokeGroup);
+    consumer.add(zone);
   }
 
   public static List<ConfigFile> getConsumer() {
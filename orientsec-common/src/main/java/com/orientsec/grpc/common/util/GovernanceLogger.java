@@ -0,0 +1,411 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 服务治理热点路径上使用的限流、异步日志
+ * <p>
+ * 服务提供者故障时，每次调用都会输出“出错的服务提供者”、“失败重试”、“参数路由”等日志，
+ * 同步写日志会让日志输出成为瓶颈，进一步增加每次出错调用的耗时。这里的日志：
+ * <ul>
+ * <li>按key(例如服务提供者、路由规则)分别使用令牌桶限流，每个key每秒最多输出common.governance.log.rate条，
+ * 允许common.governance.log.burst条的突发</li>
+ * <li>被限流的日志只计数，下一条同key的日志输出时附带“已忽略N条相同的日志”；
+ * 之后一直没有同key的日志时，由后台线程定期输出汇总</li>
+ * <li>调用线程只把日志放入有界队列，由后台线程写入slf4j；队列满时丢弃并计数</li>
+ * </ul>
+ * 日志的格式与slf4j相同，使用{}作为参数占位符，格式化在后台线程中进行。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class GovernanceLogger {
+  private static final Logger logger = LoggerFactory.getLogger(GovernanceLogger.class);
+
+  private static final int QUEUE_CAPACITY = 4096;
+
+  // 每个GovernanceLogger最多跟踪的key数量，超过后新的key共用一个令牌桶
+  private static final int MAX_KEYS = 1024;
+
+  private static final String OVERFLOW_KEY = "...";
+
+  // 汇总被限流的日志、清理空闲令牌桶的周期(毫秒)
+  private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+  // 空闲超过该时间且没有待汇总日志的令牌桶被删除(纳秒)
+  private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+  static final int INFO = 0;
+  private static final int WARN = 1;
+  private static final int ERROR = 2;
+
+  private static final Object[] NO_ARGS = new Object[0];
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 每个key每秒恢复的令牌数
+  private static double rate = initRate();
+
+  // 每个key的令牌数上限
+  private static int burst = initBurst();
+
+  private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<Entry>(QUEUE_CAPACITY);
+
+  private static final ConcurrentHashMap<Logger, GovernanceLogger> loggers =
+          new ConcurrentHashMap<Logger, GovernanceLogger>();
+
+  private static final AtomicLong dropped = new AtomicLong();
+
+  private static volatile Thread writer;
+
+  private final Logger target;
+
+  /**
+   * key: 限流的key
+   */
+  private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<String, Bucket>();
+
+  private GovernanceLogger(Logger target) {
+    this.target = target;
+  }
+
+  /**
+   * 初始化每个key每秒恢复的令牌数
+   */
+  private static double initRate() {
+    String key = GlobalConstants.CommonKey.GOVERNANCE_LOG_RATE;
+    double defaultValue = 1;
+    double value = PropertiesUtils.getValidDoubleValue(properties, key, defaultValue);
+
+    if (value <= 0 || value > 1000) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围(0, 1000]，使用缺省值" + defaultValue);
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化每个key的令牌数上限
+   */
+  private static int initBurst() {
+    String key = GlobalConstants.CommonKey.GOVERNANCE_LOG_BURST;
+    int defaultValue = 5;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+
+    if (value < 1 || value > 10000) {
+      logger.warn("配置项" + key + "的值[" + value + "]超出范围[1, 10000]，使用缺省值" + defaultValue);
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  public static GovernanceLogger getLogger(Class<?> clazz) {
+    Logger target = LoggerFactory.getLogger(clazz);
+    GovernanceLogger governanceLogger = loggers.get(target);
+    if (governanceLogger == null) {
+      governanceLogger = new GovernanceLogger(target);
+      GovernanceLogger existing = loggers.putIfAbsent(target, governanceLogger);
+      if (existing != null) {
+        governanceLogger = existing;
+      }
+    }
+    return governanceLogger;
+  }
+
+  /**
+   * 输出INFO日志
+   *
+   * @param key 限流的key，同一个key的日志共用一个令牌桶
+   */
+  public void info(String key, String message) {
+    if (target.isInfoEnabled()) {
+      long suppressed = acquire(INFO, key);
+      if (suppressed >= 0) {
+        enqueue(INFO, message, NO_ARGS, null, suppressed);
+      }
+    }
+  }
+
+  public void info(String key, String format, Object arg) {
+    if (target.isInfoEnabled()) {
+      long suppressed = acquire(INFO, key);
+      if (suppressed >= 0) {
+        enqueue(INFO, format, new Object[] {arg}, null, suppressed);
+      }
+    }
+  }
+
+  public void info(String key, String format, Object arg1, Object arg2) {
+    if (target.isInfoEnabled()) {
+      long suppressed = acquire(INFO, key);
+      if (suppressed >= 0) {
+        enqueue(INFO, format, new Object[] {arg1, arg2}, null, suppressed);
+      }
+    }
+  }
+
+  public void warn(String key, String format, Object arg) {
+    if (target.isWarnEnabled()) {
+      long suppressed = acquire(WARN, key);
+      if (suppressed >= 0) {
+        enqueue(WARN, format, new Object[] {arg}, null, suppressed);
+      }
+    }
+  }
+
+  public void error(String key, String message, Throwable t) {
+    if (target.isErrorEnabled()) {
+      long suppressed = acquire(ERROR, key);
+      if (suppressed >= 0) {
+        enqueue(ERROR, message, NO_ARGS, t, suppressed);
+      }
+    }
+  }
+
+  /**
+   * 从key的令牌桶中获取一个令牌
+   *
+   * @return 获取成功时返回此前被忽略的日志条数，被限流时返回-1
+   */
+  @VisibleForTesting
+  long acquire(int level, String key) {
+    return getBucket(key, level).tryAcquire(System.nanoTime());
+  }
+
+  private void enqueue(int level, String format, Object[] args, Throwable t, long suppressed) {
+    Entry entry = new Entry(this, level, format, args, t, suppressed, null);
+    if (!queue.offer(entry)) {
+      dropped.incrementAndGet();
+      return;
+    }
+    startWriter();
+  }
+
+  private Bucket getBucket(String key, int level) {
+    Bucket bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= MAX_KEYS) {
+        key = OVERFLOW_KEY;
+        bucket = buckets.get(key);
+        if (bucket != null) {
+          return bucket;
+        }
+      }
+      bucket = new Bucket(level, System.nanoTime());
+      Bucket existing = buckets.putIfAbsent(key, bucket);
+      if (existing != null) {
+        bucket = existing;
+      }
+    }
+    return bucket;
+  }
+
+  /**
+   * 按key的令牌桶
+   */
+  static final class Bucket {
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastUsedNanos;
+    private long suppressed;
+    private final int suppressedLevel;
+
+    Bucket(int level, long nowNanos) {
+      this.tokens = burst;
+      this.lastRefillNanos = nowNanos;
+      this.lastUsedNanos = nowNanos;
+      this.suppressedLevel = level;
+    }
+
+    /**
+     * 获取一个令牌
+     *
+     * @return 获取成功时返回此前被忽略的日志条数，失败时返回-1
+     */
+    synchronized long tryAcquire(long nowNanos) {
+      lastUsedNanos = nowNanos;
+      tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) * rate / 1e9);
+      lastRefillNanos = nowNanos;
+      if (tokens < 1) {
+        suppressed++;
+        return -1;
+      }
+      tokens -= 1;
+      long count = suppressed;
+      suppressed = 0;
+      return count;
+    }
+
+    /**
+     * 取出待汇总的被忽略日志条数
+     */
+    synchronized long drainSuppressed() {
+      long count = suppressed;
+      suppressed = 0;
+      return count;
+    }
+
+    synchronized boolean isIdle(long nowNanos) {
+      return suppressed == 0 && nowNanos - lastUsedNanos > IDLE_NANOS;
+    }
+  }
+
+  /**
+   * 队列中的一条日志
+   */
+  private static final class Entry {
+    final GovernanceLogger owner;
+    final int level;
+    final String format;
+    final Object[] args;
+    final Throwable throwable;
+    final long suppressed;
+    final String key;
+
+    Entry(GovernanceLogger owner, int level, String format, Object[] args, Throwable throwable,
+          long suppressed, String key) {
+      this.owner = owner;
+      this.level = level;
+      this.format = format;
+      this.args = args;
+      this.throwable = throwable;
+      this.suppressed = suppressed;
+      this.key = key;
+    }
+  }
+
+  private static void startWriter() {
+    if (writer != null) {
+      return;
+    }
+    synchronized (GovernanceLogger.class) {
+      if (writer != null) {
+        return;
+      }
+      Thread thread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          writeLoop();
+        }
+      }, "grpc-governance-logger");
+      thread.setDaemon(true);
+      thread.start();
+      writer = thread;
+    }
+  }
+
+  private static void writeLoop() {
+    long nextSweep = System.currentTimeMillis() + SWEEP_INTERVAL_MILLIS;
+    while (true) {
+      try {
+        long waitMillis = Math.max(0, nextSweep - System.currentTimeMillis());
+        Entry entry = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+        if (entry != null) {
+          write(entry);
+        }
+        if (System.currentTimeMillis() >= nextSweep) {
+          sweep();
+          nextSweep = System.currentTimeMillis() + SWEEP_INTERVAL_MILLIS;
+        }
+      } catch (InterruptedException e) {
+        return;
+      } catch (Throwable t) {
+        logger.warn("输出服务治理日志出错", t);
+      }
+    }
+  }
+
+  /**
+   * 输出没有等到下一条同key日志的汇总，清理空闲的令牌桶
+   */
+  @VisibleForTesting
+  static void sweep() {
+    long now = System.nanoTime();
+    for (GovernanceLogger governanceLogger : loggers.values()) {
+      Iterator<Map.Entry<String, Bucket>> iterator =
+          governanceLogger.buckets.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, Bucket> bucketEntry = iterator.next();
+        Bucket bucket = bucketEntry.getValue();
+        long suppressed = bucket.drainSuppressed();
+        if (suppressed > 0) {
+          write(new Entry(governanceLogger, bucket.suppressedLevel, null, null, null, suppressed,
+              bucketEntry.getKey()));
+        } else if (bucket.isIdle(now)) {
+          iterator.remove();
+        }
+      }
+    }
+
+    long droppedCount = dropped.getAndSet(0);
+    if (droppedCount > 0) {
+      logger.warn("服务治理日志队列已满，丢弃了" + droppedCount + "条日志");
+    }
+  }
+
+  private static void write(Entry entry) {
+    Logger target = entry.owner.target;
+    String format;
+    Object[] args;
+    if (entry.format == null) {
+      format = "[{}]最近" + (SWEEP_INTERVAL_MILLIS / 1000) + "秒内忽略了{}条相同的日志";
+      args = new Object[] {entry.key, entry.suppressed};
+    } else if (entry.suppressed > 0) {
+      format = entry.format + "(此前忽略了" + entry.suppressed + "条相同的日志)";
+      args = entry.args;
+    } else {
+      format = entry.format;
+      args = entry.args;
+    }
+
+    switch (entry.level) {
+      case ERROR:
+        if (entry.throwable != null) {
+          target.error(format, entry.throwable);
+        } else {
+          target.error(format, args);
+        }
+        break;
+      case WARN:
+        target.warn(format, args);
+        break;
+      default:
+        target.info(format, args);
+        break;
+    }
+  }
+}
@@ -16,6 +16,9 @@
  */
 package com.orientsec.grpc.common.util;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -25,6 +28,20 @@ import java.util.concurrent.TimeUnit;
  * @since 2018/10/19
  */
 public class ThreadUtils {
+  /**
+   * JDK21及以上版本的Executors.newVirtualThreadPerTaskExecutor方法，低版本JDK为null
+   */
+  private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findNewVirtualThreadExecutor();
+
+  private static Method findNewVirtualThreadExecutor() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
 
   /**
    * 获取当前线程的标识符
@@ -49,4 +66,34 @@ public class ThreadUtils {
       //ignore
     }
   }
+
+  /**
+   * 当前JDK是否支持虚拟线程
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static boolean isVirtualThreadSupported() {
+    return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+  }
+
+  /**
+   * 创建每个任务一个虚拟线程的执行器
+   * <p>
+   * 通过反射调用，编译和运行都不依赖JDK21；当前JDK不支持虚拟线程时返回null，由调用方回退到普通线程池。
+   * </p>
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+      return null;
+    }
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+    } catch (Exception e) {
+      return null;
+    }
+  }
 }
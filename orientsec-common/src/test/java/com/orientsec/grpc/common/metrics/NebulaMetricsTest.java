@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for LatencyHistogram and NebulaMetrics
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class NebulaMetricsTest {
+  @Test
+  public void bucketsCoverAllValues() throws Exception {
+    long[] values = {0, 1, 7, 8, 15, 16, 17, 1000, 123456789L, LatencyHistogram.MAX_VALUE};
+    for (long value : values) {
+      int index = LatencyHistogram.indexOf(value);
+      long lowerBound = LatencyHistogram.lowerBoundOf(index);
+      Assert.assertTrue(value >= lowerBound);
+      Assert.assertTrue(value < lowerBound + LatencyHistogram.widthOf(index));
+    }
+    Assert.assertEquals(LatencyHistogram.BUCKET_COUNT - 1,
+        LatencyHistogram.indexOf(LatencyHistogram.MAX_VALUE));
+  }
+
+  @Test
+  public void quantiles() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+    Assert.assertEquals(1000, snapshot.getCount());
+    Assert.assertEquals(1000000, snapshot.getMaxMicros());
+    Assert.assertEquals(500500000, snapshot.getSumMicros());
+    assertWithin(500000, snapshot.getValueAtQuantile(0.5));
+    assertWithin(990000, snapshot.getValueAtQuantile(0.99));
+    Assert.assertEquals(1000000, snapshot.getValueAtQuantile(1));
+    Assert.assertEquals(0, new LatencyHistogram().snapshot().getValueAtQuantile(0.99));
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    Assert.assertTrue("expected " + expected + " but was " + actual,
+        Math.abs(actual - expected) <= expected * 0.0625);
+  }
+
+  @Test
+  public void prometheusText() throws Exception {
+    MethodMetrics client = NebulaMetrics.client("com.foo.MetricsTestService/query");
+    client.getProviderCalls(new InetSocketAddress("127.0.0.1", 50051))
+        .record(TimeUnit.MILLISECONDS.toNanos(2), 0);
+    client.getProviderCalls(new InetSocketAddress("127.0.0.1", 50051))
+        .record(TimeUnit.MILLISECONDS.toNanos(2), 14);
+    client.callStarted();
+
+    String text = NebulaMetrics.scrape();
+    String labels = "service=\"com.foo.MetricsTestService\",method=\"query\"";
+    String providerLabels = labels + ",provider=\"127.0.0.1:50051\"";
+    Assert.assertTrue(text.contains(
+        "nebula_client_latency_seconds_bucket{" + providerLabels + ",le=\"0.001\"} 0\n"));
+    Assert.assertTrue(text.contains(
+        "nebula_client_latency_seconds_bucket{" + providerLabels + ",le=\"0.0025\"} 2\n"));
+    Assert.assertTrue(text.contains(
+        "nebula_client_latency_seconds_count{" + providerLabels + "} 2\n"));
+    Assert.assertTrue(text.contains(
+        "nebula_client_calls_total{" + providerLabels + ",code=\"UNAVAILABLE\"} 1\n"));
+    Assert.assertTrue(text.contains("nebula_client_in_flight{" + labels + "} 1\n"));
+    client.callEnded();
+  }
+
+  @Test
+  public void prometheusStageText() throws Exception {
+    LatencyHistogram stage = NebulaMetrics.clientStage("metrics_test_stage");
+    stage.recordNanos(TimeUnit.MICROSECONDS.toNanos(3));
+    stage.recordNanos(TimeUnit.MICROSECONDS.toNanos(40));
+
+    String text = NebulaMetrics.scrape();
+    String labels = "stage=\"metrics_test_stage\"";
+    Assert.assertTrue(text.contains(
+        "nebula_client_stage_seconds_bucket{" + labels + ",le=\"0.000005\"} 1\n"));
+    Assert.assertTrue(text.contains(
+        "nebula_client_stage_seconds_bucket{" + labels + ",le=\"0.00005\"} 2\n"));
+    Assert.assertTrue(text.contains("nebula_client_stage_seconds_count{" + labels + "} 2\n"));
+  }
+
+  @Test
+  public void serverStages() throws Exception {
+    MethodMetrics server = NebulaMetrics.server("com.foo.MetricsTestService/update");
+    server.recordQueueNanos(TimeUnit.MILLISECONDS.toNanos(8));
+    server.getServiceTime().recordNanos(TimeUnit.MILLISECONDS.toNanos(3));
+    Assert.assertEquals(1000, server.getSmoothedQueueMicros());
+
+    String text = NebulaMetrics.scrape();
+    String labels = "service=\"com.foo.MetricsTestService\",method=\"update\"";
+    Assert.assertTrue(text.contains(
+        "nebula_server_stage_seconds_bucket{" + labels + ",stage=\"queue\",le=\"0.005\"} 0\n"));
+    Assert.assertTrue(text.contains(
+        "nebula_server_stage_seconds_bucket{" + labels + ",stage=\"queue\",le=\"0.01\"} 1\n"));
+    Assert.assertTrue(text.contains(
+        "nebula_server_stage_seconds_count{" + labels + ",stage=\"service\"} 1\n"));
+    Assert.assertFalse(text.contains(labels + ",stage=\"serialize\""));
+  }
+
+  @Test
+  public void collectorIncludedInScrape() throws Exception {
+    MetricsCollector collector = new MetricsCollector() {
+      @Override
+      public void collect(StringBuilder sb) {
+        PrometheusTextFormat.writeHeader(sb, "nebula_test_total", "counter", "Test counter.");
+        PrometheusTextFormat.writeSample(sb, "nebula_test_total",
+            PrometheusTextFormat.label("name", "a\"b"), 3);
+      }
+    };
+    MetricsCollector failing = new MetricsCollector() {
+      @Override
+      public void collect(StringBuilder sb) {
+        sb.append("nebula_broken");
+        throw new IllegalStateException();
+      }
+    };
+
+    NebulaMetrics.addCollector(failing);
+    NebulaMetrics.addCollector(collector);
+    try {
+      String text = NebulaMetrics.scrape();
+      Assert.assertTrue(text.contains("# TYPE nebula_test_total counter\n"));
+      Assert.assertTrue(text.contains("nebula_test_total{name=\"a\\\"b\"} 3\n"));
+      Assert.assertFalse(text.contains("nebula_broken"));
+    } finally {
+      NebulaMetrics.removeCollector(failing);
+      NebulaMetrics.removeCollector(collector);
+    }
+    Assert.assertFalse(NebulaMetrics.scrape().contains("nebula_test_total"));
+  }
+}
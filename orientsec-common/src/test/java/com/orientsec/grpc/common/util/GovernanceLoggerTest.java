@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for GovernanceLogger
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class GovernanceLoggerTest {
+  @Test
+  public void bucketSuppressesAfterBurst() throws Exception {
+    GovernanceLogger.Bucket bucket = new GovernanceLogger.Bucket(GovernanceLogger.INFO, 0);
+
+    int acquired = 0;
+    while (bucket.tryAcquire(0) >= 0) {
+      acquired++;
+      Assert.assertTrue(acquired <= 10000);
+    }
+    Assert.assertTrue(acquired >= 1);
+
+    // 第一次被限流已经计数，这里再忽略一条
+    Assert.assertEquals(-1, bucket.tryAcquire(0));
+
+    // 令牌补充之后，返回此前被忽略的条数
+    long later = TimeUnit.DAYS.toNanos(30);
+    Assert.assertEquals(2, bucket.tryAcquire(later));
+    Assert.assertEquals(0, bucket.drainSuppressed());
+  }
+
+  @Test
+  public void drainSuppressed() throws Exception {
+    GovernanceLogger.Bucket bucket = new GovernanceLogger.Bucket(GovernanceLogger.INFO, 0);
+    long result;
+    do {
+      result = bucket.tryAcquire(0);
+    } while (result >= 0);
+    Assert.assertEquals(1, bucket.drainSuppressed());
+    Assert.assertEquals(0, bucket.drainSuppressed());
+    Assert.assertFalse(bucket.isIdle(0));
+    Assert.assertTrue(bucket.isIdle(TimeUnit.DAYS.toNanos(30)));
+  }
+
+  @Test
+  public void loggerIsCachedPerClass() throws Exception {
+    Assert.assertSame(GovernanceLogger.getLogger(GovernanceLoggerTest.class),
+        GovernanceLogger.getLogger(GovernanceLoggerTest.class));
+  }
+}
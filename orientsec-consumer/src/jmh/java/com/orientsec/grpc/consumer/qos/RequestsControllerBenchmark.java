@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.qos;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 客户端流控{@link ConsumerRequestsControllerUtils#addRequestNum}的开销
+ * <p>
+ * 最大请求数设置为Long.MAX_VALUE，测量的是计数本身的开销，不会触发流控异常；
+ * 多线程时所有线程都在同一个服务的计数器上竞争。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class RequestsControllerBenchmark {
+  private static final String SERVICE_NAME = "com.orientsec.benchmark.RequestsService";
+  private static final String FULL_METHOD_NAME = SERVICE_NAME + "/sayHello";
+
+  /**
+   * 是否对该服务进行流控，不流控时只有判断的开销
+   */
+  @Param({"true", "false"})
+  public boolean controlled;
+
+  /**
+   * Setup.
+   */
+  @Setup
+  public void setUp() {
+    ConsumerRequestsControllerUtils.setMaxRequestsMap(SERVICE_NAME,
+        controlled ? Long.MAX_VALUE : 0L);
+  }
+
+  /**
+   * TearDown.
+   */
+  @TearDown
+  public void tearDown() {
+    ConsumerRequestsControllerUtils.setMaxRequestsMap(SERVICE_NAME, 0L);
+  }
+
+  /**
+   * 单线程计数.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void addRequestNum1Thread() {
+    ConsumerRequestsControllerUtils.addRequestNum(FULL_METHOD_NAME);
+  }
+
+  /**
+   * 多个线程同时计数.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public void addRequestNum4Threads() {
+    ConsumerRequestsControllerUtils.addRequestNum(FULL_METHOD_NAME);
+  }
+}
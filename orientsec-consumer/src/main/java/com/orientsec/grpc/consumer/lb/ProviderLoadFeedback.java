@@ -0,0 +1,309 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.lb;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 根据服务端上报的负载计算动态权重
+ * <p>
+ * 服务端在响应trailers中上报综合负载百分比(util)，客户端对其做指数加权移动平均，
+ * 动态权重 = 静态权重 * (100 - 平滑后的负载) / 100，且不低于静态权重的下限百分比。<br>
+ * 负载数据超过有效期未更新时，恢复使用静态权重，避免被降权的服务端因请求变少而无法恢复。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ProviderLoadFeedback {
+  private static final Logger logger = LoggerFactory.getLogger(ProviderLoadFeedback.class);
+
+  private static final String UTILIZATION_PREFIX = "util=";
+  private static final String ITEM_SEPARATOR = ";";
+
+  private static final int MAX_PERCENTAGE = 100;
+
+  /**
+   * 负载的量化步长(百分比)，负载在同一个区间内变化时权重保持不变，避免频繁重建加权轮询对象
+   */
+  private static final int LOAD_STEP = 5;
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 是否根据服务端上报的负载动态调整权重
+  private static boolean enabled = initEnabled();
+
+  // 平滑系数，取值范围(0,1]，值越大越依赖最近一次上报的负载
+  private static double smoothingFactor = initSmoothingFactor();
+
+  // 动态权重的下限，占静态权重的百分比
+  private static int minWeightPercentage = initMinWeightPercentage();
+
+  // 负载数据的有效期，单位毫秒
+  private static long expireMillis = initExpireMillis();
+
+  /**
+   * 服务端负载
+   * <p>
+   * key: 服务接口名，value的key: IP:port <br>
+   * 按两级存放，每次选择服务端时不需要拼接字符串
+   * </p>
+   */
+  private static ConcurrentHashMap<String, ConcurrentHashMap<String, LoadStat>> loads =
+          new ConcurrentHashMap<>();
+
+  /**
+   * 初始化是否启用
+   */
+  private static boolean initEnabled() {
+    String key = GlobalConstants.Consumer.Key.LOAD_FEEDBACK_ENABLED;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化平滑系数
+   */
+  private static double initSmoothingFactor() {
+    String key = GlobalConstants.Consumer.Key.LOAD_FEEDBACK_SMOOTHING_FACTOR;
+    double defaultValue = 0.3;
+    double value = PropertiesUtils.getValidDoubleValue(properties, key, defaultValue);
+    if (value <= 0 || value > 1) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化动态权重的下限
+   */
+  private static int initMinWeightPercentage() {
+    String key = GlobalConstants.Consumer.Key.LOAD_FEEDBACK_MIN_WEIGHT_PERCENTAGE;
+    int defaultValue = 10;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value <= 0 || value > MAX_PERCENTAGE) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化负载数据的有效期
+   */
+  private static long initExpireMillis() {
+    String key = GlobalConstants.Consumer.Key.LOAD_FEEDBACK_EXPIRE_MILLISECONDS;
+    long defaultValue = 30000L;
+    long value = PropertiesUtils.getValidLongValue(properties, key, defaultValue);
+    if (value <= 0) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 是否启用
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 记录服务端上报的负载
+   *
+   * @param interfaceName 服务接口名
+   * @param providerId    服务端的IP:port
+   * @param loadReport    服务端上报的负载信息，格式为 util=63;cpu=40;requests=12;queue=3
+   */
+  public static void record(String interfaceName, String providerId, String loadReport) {
+    if (!enabled || StringUtils.isEmpty(interfaceName) || StringUtils.isEmpty(providerId)) {
+      return;
+    }
+
+    int utilization = parseUtilization(loadReport);
+    if (utilization < 0) {
+      return;
+    }
+
+    ConcurrentHashMap<String, LoadStat> providerLoads = loads.get(interfaceName);
+    if (providerLoads == null) {
+      providerLoads = new ConcurrentHashMap<>();
+      ConcurrentHashMap<String, LoadStat> oldValue = loads.putIfAbsent(interfaceName, providerLoads);
+      if (oldValue != null) {
+        providerLoads = oldValue;
+      }
+    }
+
+    LoadStat stat = providerLoads.get(providerId);
+    if (stat == null) {
+      stat = new LoadStat();
+      LoadStat oldValue = providerLoads.putIfAbsent(providerId, stat);
+      if (oldValue != null) {
+        stat = oldValue;
+      }
+    }
+
+    stat.update(utilization, smoothingFactor, System.currentTimeMillis());
+  }
+
+  private static LoadStat getStat(String interfaceName, String providerId) {
+    ConcurrentHashMap<String, LoadStat> providerLoads = loads.get(interfaceName);
+    return (providerLoads == null) ? null : providerLoads.get(providerId);
+  }
+
+  /**
+   * 获取服务端的动态权重
+   *
+   * @param interfaceName 服务接口名
+   * @param providerId    服务端的IP:port
+   * @param weight        服务端的静态权重
+   */
+  public static int getEffectiveWeight(String interfaceName, String providerId, int weight) {
+    if (!enabled || weight <= 0) {
+      return weight;
+    }
+
+    LoadStat stat = getStat(interfaceName, providerId);
+    if (stat == null) {
+      return weight;
+    }
+
+    if (stat.isExpired(System.currentTimeMillis(), expireMillis)) {
+      ConcurrentHashMap<String, LoadStat> providerLoads = loads.get(interfaceName);
+      if (providerLoads != null) {
+        providerLoads.remove(providerId, stat);
+      }
+      return weight;
+    }
+
+    return effectiveWeight(weight, stat.load, minWeightPercentage);
+  }
+
+  /**
+   * 根据平滑后的负载计算动态权重
+   * <p>
+   * 负载按{@link #LOAD_STEP}量化，动态权重不低于静态权重的minWeightPercentage%，且至少为1
+   * </p>
+   */
+  static int effectiveWeight(int weight, double smoothedLoad, int minWeightPercentage) {
+    int load = (int) Math.round(smoothedLoad);
+    load = load / LOAD_STEP * LOAD_STEP;
+
+    int percentage = Math.max(minWeightPercentage, MAX_PERCENTAGE - load);
+    int value = (int) ((long) weight * percentage / MAX_PERCENTAGE);
+
+    return Math.max(1, value);
+  }
+
+  /**
+   * 获取服务端平滑后的负载百分比
+   *
+   * @param interfaceName 服务接口名
+   * @param providerId    服务端的IP:port
+   * @return 未启用、没有负载数据或负载数据已过期时返回-1
+   */
+  public static int getLoad(String interfaceName, String providerId) {
+    if (!enabled) {
+      return -1;
+    }
+
+    LoadStat stat = getStat(interfaceName, providerId);
+    if (stat == null || stat.load < 0) {
+      return -1;
+    }
+
+    if (stat.isExpired(System.currentTimeMillis(), expireMillis)) {
+      return -1;
+    }
+
+    return (int) Math.round(stat.load);
+  }
+
+  /**
+   * 从负载信息中解析出综合负载百分比
+   *
+   * @return 解析失败时返回-1
+   */
+  static int parseUtilization(String loadReport) {
+    if (StringUtils.isEmpty(loadReport)) {
+      return -1;
+    }
+
+    String[] items = loadReport.split(ITEM_SEPARATOR);
+
+    for (String item : items) {
+      item = item.trim();
+      if (!item.startsWith(UTILIZATION_PREFIX)) {
+        continue;
+      }
+
+      try {
+        int value = Integer.parseInt(item.substring(UTILIZATION_PREFIX.length()).trim());
+        if (value < 0) {
+          return -1;
+        }
+        return Math.min(MAX_PERCENTAGE, value);
+      } catch (NumberFormatException e) {
+        return -1;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * 服务端负载的统计数据
+   */
+  static final class LoadStat {
+    private volatile double load = -1;
+    private volatile long updateTime;
+
+    /**
+     * 指数加权移动平均，第一次上报时直接使用上报的负载
+     */
+    synchronized void update(int utilization, double factor, long nowMillis) {
+      if (load < 0) {
+        load = utilization;
+      } else {
+        load = factor * utilization + (1 - factor) * load;
+      }
+      updateTime = nowMillis;
+    }
+
+    boolean isExpired(long nowMillis, long expireMillis) {
+      return nowMillis - updateTime > expireMillis;
+    }
+
+    double getLoad() {
+      return load;
+    }
+  }
+}
@@ -63,6 +63,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @author bona
  * @since 2018-04-13 13:43
  * @since 2018-4-20 modify by sxp 用ConcurrentHashMap来取代对象锁
+ * @since nebula-1.2.9 2026-10-19 modify by sxp 支持根据服务端上报的负载动态调整权重
  */
 public class WeightRoundRobinLoadBalancer {
   /**
@@ -106,7 +107,7 @@ public class WeightRoundRobinLoadBalancer {
     WeightRoundRobin wrr;
 
     if (!serviceMap.containsKey(interfaceName)) {
-      wrr = newWeightRoundRobin(serviceProviders);
+      wrr = newWeightRoundRobin(interfaceName, serviceProviders);
       if (null != wrr) {
         WeightRoundRobin oldValue = serviceMap.putIfAbsent(interfaceName, wrr);
         if (oldValue != null) {
@@ -116,8 +117,8 @@ public class WeightRoundRobinLoadBalancer {
     } else {
       wrr = serviceMap.get(interfaceName);
 
-      if (isChanged(wrr, serviceProviders)) {
-        WeightRoundRobin newWrr = newWeightRoundRobin(serviceProviders);
+      if (isChanged(interfaceName, wrr, serviceProviders)) {
+        WeightRoundRobin newWrr = newWeightRoundRobin(interfaceName, serviceProviders);
         if (null != newWrr) {
           serviceMap.put(interfaceName, newWrr);
         }
@@ -131,16 +132,18 @@ public class WeightRoundRobinLoadBalancer {
   /**
    * 根据serviceProviders构建WeightRoundRobin对象
    *
+   * @param interfaceName    接口名称
    * @param serviceProviders 经过黑白名单筛选的服务列表
    */
-  private static WeightRoundRobin newWeightRoundRobin(Map<String, ServiceProvider> serviceProviders) {
+  private static WeightRoundRobin newWeightRoundRobin(String interfaceName,
+                                                      Map<String, ServiceProvider> serviceProviders) {
     WeightRoundRobin wrr = new WeightRoundRobin();
 
     // 将Map里面的value值放到一个List中
     List<Server> serverList = new ArrayList<>();
 
     for (Map.Entry<String, ServiceProvider> entry : serviceProviders.entrySet()) {
-      Server server = new Server(entry.getKey(), entry.getValue().getWeight());
+      Server server = new Server(entry.getKey(), getWeight(interfaceName, entry.getKey(), entry.getValue()));
       serverList.add(server);
     }
 
@@ -152,11 +155,13 @@ public class WeightRoundRobinLoadBalancer {
   /**
    * 校验服务列表获取权重值是否已经发生变更.
    *
+   * @param interfaceName    接口名称
    * @param wrr              暂存的服务对象
    * @param serviceProviders 当前获取到的服务列表
    * @return true 服务列表或权重发生变化 false 服务列表或权重未发生变化
    */
-  private static boolean isChanged(WeightRoundRobin wrr, Map<String, ServiceProvider> serviceProviders) {
+  private static boolean isChanged(String interfaceName, WeightRoundRobin wrr,
+                                   Map<String, ServiceProvider> serviceProviders) {
     if (null == wrr) {
       return true;
     }
@@ -175,7 +180,7 @@ public class WeightRoundRobinLoadBalancer {
         return true;
       }
       // weight值发生变更
-      if (serviceProviders.get(server.getKey()).getWeight() != server.getWeight()) {
+      if (getWeight(interfaceName, server.getKey(), serviceProviders.get(server.getKey())) != server.getWeight()) {
         return true;
       }
     }
@@ -183,4 +188,14 @@ public class WeightRoundRobinLoadBalancer {
     return false;
   }
 
+  /**
+   * 获取服务端的权重
+   * <p>
+   * 启用了负载反馈时，根据服务端上报的负载对静态权重进行调整
+   * </p>
+   */
+  private static int getWeight(String interfaceName, String providerId, ServiceProvider provider) {
+    return ProviderLoadFeedback.getEffectiveWeight(interfaceName, providerId, provider.getWeight());
+  }
+
 }
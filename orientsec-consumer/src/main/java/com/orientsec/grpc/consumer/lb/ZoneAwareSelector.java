@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.lb;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.MapUtils;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 区域(机房)优先的服务端选择器
+ * <p>
+ * 客户端配置了consumer.zone时，优先从同一区域的服务端中进行负载均衡；
+ * 同区域可用服务端的占比过低、或者同区域服务端的平均负载过高时，溢出到所有区域的服务端。<br>
+ * 同区域服务端列表在服务端列表变化时预先计算好，请求时只做一次判断，
+ * 溢出判断的结果缓存一段时间，服务端被移除时(列表大小变化)立即重新判断。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ZoneAwareSelector {
+  private static final Logger logger = LoggerFactory.getLogger(ZoneAwareSelector.class);
+
+  private static final int MAX_PERCENTAGE = 100;
+
+  /**
+   * 溢出判断结果的缓存时间，单位毫秒
+   */
+  private static final long CHECK_INTERVAL_MILLIS = 1000L;
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 客户端所在的区域
+  private static String localZone = initLocalZone();
+
+  // 同区域可用服务端的百分比低于该值时溢出
+  private static int spillHealthyPercentage = initSpillHealthyPercentage();
+
+  // 同区域服务端的平均负载百分比高于该值时溢出
+  private static int spillLoadPercentage = initSpillLoadPercentage();
+
+  private final String zone;
+  private final int healthyPercentage;
+  private final int loadPercentage;
+
+  // 同区域的服务端(IP:port)，在服务端列表变化时预先计算
+  private volatile String[] localProviderIds = new String[0];
+
+  // 最近一次判断的结果：同区域可用的服务端列表，为null表示需要溢出
+  private volatile Map<String, ServiceProvider> localProviders;
+
+  private volatile Map<String, ServiceProvider> lastProviders;
+  private volatile int lastProvidersSize = -1;
+  private volatile long lastCheckTime = 0L;
+
+  public ZoneAwareSelector() {
+    this(localZone, spillHealthyPercentage, spillLoadPercentage);
+  }
+
+  @VisibleForTesting
+  ZoneAwareSelector(String zone, int healthyPercentage, int loadPercentage) {
+    this.zone = zone;
+    this.healthyPercentage = healthyPercentage;
+    this.loadPercentage = loadPercentage;
+  }
+
+  /**
+   * 初始化客户端所在的区域
+   */
+  private static String initLocalZone() {
+    String key = GlobalConstants.Consumer.Key.ZONE;
+    String value = PropertiesUtils.getStringValue(properties, key, "");
+    value = StringUtils.trim(value);
+    if (value == null) {
+      value = "";
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化溢出的可用服务端百分比阈值
+   */
+  private static int initSpillHealthyPercentage() {
+    String key = GlobalConstants.Consumer.Key.ZONE_SPILL_HEALTHY_PERCENTAGE;
+    int defaultValue = 50;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value < 0 || value > MAX_PERCENTAGE) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 初始化溢出的负载百分比阈值
+   */
+  private static int initSpillLoadPercentage() {
+    String key = GlobalConstants.Consumer.Key.ZONE_SPILL_LOAD_PERCENTAGE;
+    int defaultValue = 80;
+    int value = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
+    if (value <= 0 || value > MAX_PERCENTAGE) {
+      value = defaultValue;
+    }
+
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 是否启用区域优先
+   */
+  public static boolean isEnabled() {
+    return localZone.length() > 0;
+  }
+
+  /**
+   * 服务端列表变化后，重新计算同区域的服务端
+   *
+   * @param providers 经过路由、分组等规则筛选后的服务端列表
+   */
+  public void reset(Map<String, ServiceProvider> providers) {
+    if (zone.length() == 0) {
+      return;
+    }
+
+    List<String> ids = new ArrayList<>();
+    for (Map.Entry<String, ServiceProvider> entry : providers.entrySet()) {
+      if (zone.equals(StringUtils.trim(entry.getValue().getZone()))) {
+        ids.add(entry.getKey());
+      }
+    }
+
+    localProviderIds = ids.toArray(new String[ids.size()]);
+    localProviders = null;
+    lastProviders = null;
+    lastProvidersSize = -1;
+    lastCheckTime = 0L;
+  }
+
+  /**
+   * 选择参与负载均衡的服务端列表
+   *
+   * @param serviceName 服务接口名
+   * @param providers 当前参与负载均衡的服务端列表(出错的服务端会被临时移除)
+   * @return 不需要溢出时返回同区域的服务端列表，否则返回providers
+   */
+  public Map<String, ServiceProvider> select(String serviceName, Map<String, ServiceProvider> providers) {
+    if (zone.length() == 0 || localProviderIds.length == 0) {
+      return providers;
+    }
+
+    long now = System.currentTimeMillis();
+    if (providers != lastProviders || providers.size() != lastProvidersSize
+            || now - lastCheckTime >= CHECK_INTERVAL_MILLIS) {
+      check(serviceName, providers, now);
+    }
+
+    Map<String, ServiceProvider> result = localProviders;
+    return (result != null) ? result : providers;
+  }
+
+  /**
+   * 从经过参数路由过滤后的服务端列表中选择参与负载均衡的服务端
+   * <p>
+   * 是否溢出仍然按照过滤前的服务端列表判断，参数路由过滤后没有同区域的服务端时返回routedProviders
+   * </p>
+   *
+   * @param serviceName 服务接口名
+   * @param providers 参数路由过滤前参与负载均衡的服务端列表
+   * @param routedProviders 参数路由过滤后的服务端列表
+   */
+  public Map<String, ServiceProvider> select(String serviceName, Map<String, ServiceProvider> providers,
+                                             Map<String, ServiceProvider> routedProviders) {
+    Map<String, ServiceProvider> local = select(serviceName, providers);
+    if (local == providers || routedProviders.isEmpty()) {
+      return routedProviders;
+    }
+
+    Map<String, ServiceProvider> result = new HashMap<>(MapUtils.capacity(routedProviders.size()));
+    for (Map.Entry<String, ServiceProvider> entry : routedProviders.entrySet()) {
+      if (local.containsKey(entry.getKey())) {
+        result.put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    return result.isEmpty() ? routedProviders : result;
+  }
+
+  /**
+   * 判断是否需要溢出到其他区域
+   */
+  private synchronized void check(String serviceName, Map<String, ServiceProvider> providers, long now) {
+    String[] ids = localProviderIds;
+    Map<String, ServiceProvider> available = new HashMap<>(MapUtils.capacity(ids.length));
+
+    long loadSum = 0;
+    int loadCount = 0;
+    int load;
+    ServiceProvider provider;
+
+    for (String id : ids) {
+      provider = providers.get(id);
+      if (provider == null) {
+        continue;
+      }
+      available.put(id, provider);
+
+      load = ProviderLoadFeedback.getLoad(serviceName, id);
+      if (load >= 0) {
+        loadSum += load;
+        loadCount++;
+      }
+    }
+
+    boolean spill;
+    if (available.isEmpty()) {
+      spill = true;
+    } else if (available.size() * MAX_PERCENTAGE < ids.length * healthyPercentage) {
+      spill = true;
+    } else if (loadCount > 0 && loadSum >= (long) loadPercentage * loadCount) {
+      spill = true;
+    } else {
+      spill = false;
+    }
+
+    if (spill != (localProviders == null) && logger.isDebugEnabled()) {
+      logger.debug("服务[{}]同区域[{}]可用服务端{}/{}，{}", serviceName, zone, available.size(), ids.length,
+              (spill ? "允许调用其他区域的服务端" : "只调用同区域的服务端"));
+    }
+
+    localProviders = spill ? null : available;
+    lastProviders = providers;
+    lastProvidersSize = providers.size();
+    lastCheckTime = now;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.model;
+
+import com.orientsec.grpc.common.util.StringUtils;
+
+/**
+ * 对冲请求(hedging)的配置
+ * <p>
+ * 延时可以是固定的毫秒数(例如50)，也可以是该方法历史耗时的百分位数(例如p95)。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class HedgingConfig {
+  private static final String PERCENTILE_PREFIX = "p";
+
+  private static final int MAX_PERCENTILE = 99;
+
+  // 最大请求次数(包括第一次请求)，小于等于1表示不启用对冲
+  private final int maxAttempts;
+
+  // 固定的延时，单位毫秒；按百分位数计算延时时为-1
+  private final long delayMillis;
+
+  // 历史耗时的百分位数；使用固定延时时为0
+  private final int delayPercentile;
+
+  private HedgingConfig(int maxAttempts, long delayMillis, int delayPercentile) {
+    this.maxAttempts = maxAttempts;
+    this.delayMillis = delayMillis;
+    this.delayPercentile = delayPercentile;
+  }
+
+  /**
+   * 创建对冲请求的配置
+   *
+   * @param maxAttempts 最大请求次数(包括第一次请求)
+   * @param delay       延时，固定的毫秒数或者百分位数，例如 50、p95
+   * @return 参数不合法时返回null
+   */
+  public static HedgingConfig of(int maxAttempts, String delay) {
+    if (maxAttempts < 1) {
+      return null;
+    }
+
+    delay = StringUtils.trim(delay);
+    if (StringUtils.isEmpty(delay)) {
+      return null;
+    }
+
+    try {
+      if (delay.toLowerCase().startsWith(PERCENTILE_PREFIX)) {
+        int percentile = Integer.parseInt(delay.substring(PERCENTILE_PREFIX.length()));
+        if (percentile <= 0 || percentile > MAX_PERCENTILE) {
+          return null;
+        }
+        return new HedgingConfig(maxAttempts, -1L, percentile);
+      }
+
+      long millis = Long.parseLong(delay);
+      if (millis < 0) {
+        return null;
+      }
+      return new HedgingConfig(maxAttempts, millis, 0);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public long getDelayMillis() {
+    return delayMillis;
+  }
+
+  public int getDelayPercentile() {
+    return delayPercentile;
+  }
+
+  /**
+   * 是否按照历史耗时的百分位数计算延时
+   */
+  public boolean isPercentileDelay() {
+    return delayPercentile > 0;
+  }
+
+  /**
+   * 是否启用对冲
+   */
+  public boolean isHedging() {
+    return maxAttempts > 1;
+  }
+
+  @Override
+  public String toString() {
+    return "HedgingConfig{maxAttempts=" + maxAttempts + ", delay="
+            + (isPercentileDelay() ? PERCENTILE_PREFIX + delayPercentile : delayMillis + "ms") + "}";
+  }
+}
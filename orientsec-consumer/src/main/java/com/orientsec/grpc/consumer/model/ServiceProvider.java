@@ -59,6 +59,7 @@ public class ServiceProvider {
   private String grpc;
   private URL url;
   private boolean master = true;
+  private String zone;// 所在区域(机房)
   /**
    * 获取URL
    *
@@ -106,6 +107,10 @@ public class ServiceProvider {
     if (weight != null && weight.length() > 0){
       this.weight = StringUtils.parseInteger(weight);
     }
+    String connections = url.getParameter(GlobalConstants.Provider.Key.DEFAULT_CONNECTION);
+    if (connections != null && connections.length() > 0){
+      this.connections = StringUtils.parseInteger(connections);
+    }
     String deprecated = url.getParameter(GlobalConstants.Provider.Key.DEPRECATED);
     this.deprecated = "true".compareToIgnoreCase(deprecated) == 0 ? true: false;
     this.master = Boolean.valueOf(url.getParameter(GlobalConstants.Provider.Key.MASTER));
@@ -117,6 +122,7 @@ public class ServiceProvider {
       this.group = currentGroupValue.toString();
     }
     this.application = url.getParameter(GlobalConstants.Provider.Key.APPLICATION);
+    this.zone = url.getParameter(GlobalConstants.Provider.Key.ZONE);
 
     return this;
   }
@@ -698,4 +704,24 @@ public class ServiceProvider {
   public void setMaster(boolean master) {
     this.master = master;
   }
+
+  /**
+   * 获取所在区域(机房)
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public String getZone() {
+    return zone;
+  }
+
+  /**
+   * 设置所在区域(机房)
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public void setZone(String zone) {
+    this.zone = zone;
+  }
 }
@@ -145,6 +145,29 @@ public class ConsumerRequestsControllerUtils {
     return 0L;
   }
 
+  /**
+   * 获取当前1秒钟之内还可以发起的请求数
+   *
+   * @return 不需要流控时返回-1
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static long getRemainingRequests(String serviceName) {
+    Long maxRequests = maxRequestsMap.get(serviceName);
+    if (maxRequests == null || maxRequests <= 0) {
+      return -1L;
+    }
+
+    AtomicLong currentRequestNum = requestNumCounters.get(serviceName);
+    Long lastTime = lastInvokeTime.get(serviceName);
+    if (currentRequestNum == null || lastTime == null
+            || System.currentTimeMillis() - lastTime > 1000) {
+      return maxRequests;
+    }
+
+    return Math.max(0L, maxRequests - currentRequestNum.get());
+  }
+
   /**
    * 判断是否需要流控
    */
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.lb;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 服务端负载反馈测试
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ProviderLoadFeedbackTest {
+
+  @Test
+  public void parseUtilization() {
+    Assert.assertEquals(63, ProviderLoadFeedback.parseUtilization("util=63;cpu=40;requests=12;queue=3"));
+    Assert.assertEquals(40, ProviderLoadFeedback.parseUtilization("cpu=10; util=40"));
+    Assert.assertEquals(100, ProviderLoadFeedback.parseUtilization("util=150"));
+
+    Assert.assertEquals(-1, ProviderLoadFeedback.parseUtilization(null));
+    Assert.assertEquals(-1, ProviderLoadFeedback.parseUtilization(""));
+    Assert.assertEquals(-1, ProviderLoadFeedback.parseUtilization("cpu=40"));
+    Assert.assertEquals(-1, ProviderLoadFeedback.parseUtilization("util=abc"));
+    Assert.assertEquals(-1, ProviderLoadFeedback.parseUtilization("util=-5"));
+  }
+
+  @Test
+  public void getEffectiveWeightWithoutReport() {
+    // 没有负载数据时使用静态权重
+    Assert.assertEquals(100, ProviderLoadFeedback.getEffectiveWeight("com.sxp.TestService", "192.168.1.1:50001", 100));
+    Assert.assertEquals(0, ProviderLoadFeedback.getEffectiveWeight("com.sxp.TestService", "192.168.1.1:50001", 0));
+  }
+
+  @Test
+  public void smoothing() {
+    ProviderLoadFeedback.LoadStat stat = new ProviderLoadFeedback.LoadStat();
+    // 第一次上报直接使用上报的负载
+    stat.update(80, 0.5, 1000L);
+    Assert.assertEquals(80, stat.getLoad(), 0.001);
+
+    stat.update(20, 0.5, 2000L);
+    Assert.assertEquals(50, stat.getLoad(), 0.001);
+
+    stat.update(50, 0.3, 3000L);
+    Assert.assertEquals(50, stat.getLoad(), 0.001);
+  }
+
+  @Test
+  public void expiry() {
+    ProviderLoadFeedback.LoadStat stat = new ProviderLoadFeedback.LoadStat();
+    stat.update(60, 0.3, 1000L);
+    Assert.assertFalse(stat.isExpired(1000L, 30000L));
+    Assert.assertFalse(stat.isExpired(31000L, 30000L));
+    Assert.assertTrue(stat.isExpired(31001L, 30000L));
+  }
+
+  @Test
+  public void effectiveWeightIsQuantizedAndFloored() {
+    Assert.assertEquals(100, ProviderLoadFeedback.effectiveWeight(100, 0, 10));
+    // 负载按5%量化：63 -> 60
+    Assert.assertEquals(40, ProviderLoadFeedback.effectiveWeight(100, 63, 10));
+    Assert.assertEquals(40, ProviderLoadFeedback.effectiveWeight(100, 64.4, 10));
+    // 不低于静态权重的下限百分比
+    Assert.assertEquals(10, ProviderLoadFeedback.effectiveWeight(100, 100, 10));
+    Assert.assertEquals(25, ProviderLoadFeedback.effectiveWeight(100, 95, 25));
+    // 至少为1
+    Assert.assertEquals(1, ProviderLoadFeedback.effectiveWeight(3, 100, 10));
+  }
+}
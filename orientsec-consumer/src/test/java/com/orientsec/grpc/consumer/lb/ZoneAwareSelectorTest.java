@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.lb;
+
+import com.orientsec.grpc.consumer.model.ServiceProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 区域优先选择器测试
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ZoneAwareSelectorTest {
+  private static final String SERVICE_NAME = "com.sxp.TestService";
+
+  private static ServiceProvider newProvider(String host, String zone) {
+    ServiceProvider provider = new ServiceProvider();
+    provider.setHost(host);
+    provider.setPort(50001);
+    provider.setInterfaceName(SERVICE_NAME);
+    provider.setZone(zone);
+    return provider;
+  }
+
+  private static Map<String, ServiceProvider> newProviders() {
+    Map<String, ServiceProvider> providers = new HashMap<>();
+    providers.put("192.168.1.1:50001", newProvider("192.168.1.1", "zone-a"));
+    providers.put("192.168.1.2:50001", newProvider("192.168.1.2", "zone-a"));
+    providers.put("192.168.2.1:50001", newProvider("192.168.2.1", "zone-b"));
+    providers.put("192.168.2.2:50001", newProvider("192.168.2.2", ""));
+    return providers;
+  }
+
+  @Test
+  public void preferSameZone() {
+    ZoneAwareSelector selector = new ZoneAwareSelector("zone-a", 50, 80);
+    Map<String, ServiceProvider> providers = newProviders();
+    selector.reset(providers);
+
+    Map<String, ServiceProvider> result = selector.select(SERVICE_NAME, providers);
+    Assert.assertEquals(2, result.size());
+    Assert.assertTrue(result.containsKey("192.168.1.1:50001"));
+    Assert.assertTrue(result.containsKey("192.168.1.2:50001"));
+  }
+
+  @Test
+  public void spillWhenHealthyBelowThreshold() {
+    ZoneAwareSelector selector = new ZoneAwareSelector("zone-a", 60, 80);
+    Map<String, ServiceProvider> providers = newProviders();
+    selector.reset(providers);
+
+    // 同区域一个服务端出错被临时移除，可用比例50%低于阈值60%
+    Map<String, ServiceProvider> current = new HashMap<>(providers);
+    current.remove("192.168.1.1:50001");
+    Assert.assertSame(current, selector.select(SERVICE_NAME, current));
+
+    // 阈值为50%时仍然只调用同区域的服务端
+    selector = new ZoneAwareSelector("zone-a", 50, 80);
+    selector.reset(providers);
+    Map<String, ServiceProvider> result = selector.select(SERVICE_NAME, current);
+    Assert.assertEquals(1, result.size());
+    Assert.assertTrue(result.containsKey("192.168.1.2:50001"));
+  }
+
+  @Test
+  public void spillWhenNoLocalProviderAvailable() {
+    ZoneAwareSelector selector = new ZoneAwareSelector("zone-b", 0, 80);
+    Map<String, ServiceProvider> providers = newProviders();
+    selector.reset(providers);
+
+    Map<String, ServiceProvider> current = new HashMap<>(providers);
+    current.remove("192.168.2.1:50001");
+    Assert.assertSame(current, selector.select(SERVICE_NAME, current));
+  }
+
+  @Test
+  public void emptyZone() {
+    Map<String, ServiceProvider> providers = newProviders();
+
+    // 客户端没有配置区域
+    ZoneAwareSelector selector = new ZoneAwareSelector("", 50, 80);
+    selector.reset(providers);
+    Assert.assertSame(providers, selector.select(SERVICE_NAME, providers));
+
+    // 客户端所在区域没有服务端
+    selector = new ZoneAwareSelector("zone-c", 50, 80);
+    selector.reset(providers);
+    Assert.assertSame(providers, selector.select(SERVICE_NAME, providers));
+  }
+
+  @Test
+  public void selectAfterParameterRoute() {
+    ZoneAwareSelector selector = new ZoneAwareSelector("zone-a", 50, 80);
+    Map<String, ServiceProvider> providers = newProviders();
+    selector.reset(providers);
+
+    Map<String, ServiceProvider> routed = new HashMap<>(providers);
+    routed.remove("192.168.1.1:50001");
+    Map<String, ServiceProvider> result = selector.select(SERVICE_NAME, providers, routed);
+    Assert.assertEquals(1, result.size());
+    Assert.assertTrue(result.containsKey("192.168.1.2:50001"));
+
+    // 参数路由过滤后没有同区域的服务端
+    routed.remove("192.168.1.2:50001");
+    Assert.assertSame(routed, selector.select(SERVICE_NAME, providers, routed));
+  }
+}
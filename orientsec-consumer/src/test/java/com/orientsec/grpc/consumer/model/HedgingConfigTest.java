@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.consumer.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 对冲请求配置测试
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class HedgingConfigTest {
+
+  @Test
+  public void fixedDelay() {
+    HedgingConfig config = HedgingConfig.of(2, "50");
+    Assert.assertNotNull(config);
+    Assert.assertTrue(config.isHedging());
+    Assert.assertFalse(config.isPercentileDelay());
+    Assert.assertEquals(50L, config.getDelayMillis());
+  }
+
+  @Test
+  public void percentileDelay() {
+    HedgingConfig config = HedgingConfig.of(3, " P95 ");
+    Assert.assertNotNull(config);
+    Assert.assertTrue(config.isPercentileDelay());
+    Assert.assertEquals(95, config.getDelayPercentile());
+    Assert.assertEquals(-1L, config.getDelayMillis());
+  }
+
+  @Test
+  public void invalid() {
+    Assert.assertNull(HedgingConfig.of(0, "50"));
+    Assert.assertNull(HedgingConfig.of(2, null));
+    Assert.assertNull(HedgingConfig.of(2, ""));
+    Assert.assertNull(HedgingConfig.of(2, "-1"));
+    Assert.assertNull(HedgingConfig.of(2, "abc"));
+    Assert.assertNull(HedgingConfig.of(2, "p0"));
+    Assert.assertNull(HedgingConfig.of(2, "p100"));
+  }
+
+  @Test
+  public void notHedging() {
+    HedgingConfig config = HedgingConfig.of(1, "p95");
+    Assert.assertNotNull(config);
+    Assert.assertFalse(config.isHedging());
+  }
+}
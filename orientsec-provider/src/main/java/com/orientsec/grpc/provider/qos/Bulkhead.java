@@ -0,0 +1,272 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider.qos;
+
+import com.google.common.base.Preconditions;
+import com.orientsec.grpc.common.util.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 服务(或方法)独享的业务线程池(舱壁)
+ * <p>
+ * 一个慢方法只能占满自己的舱壁，不会耗尽其他服务的业务线程。<br>
+ * 是否接收新的请求在stream创建时由{@link #tryAdmit()}判断，已经接收的请求的后续回调(收到消息、半关闭、取消等)
+ * 一定会被执行，因此底层队列不设上限，排队的请求数由{@link #tryAdmit()}控制。<br>
+ * {@link #tryAdmit()}通过CAS预留一个排队位置，并发创建的stream不会同时通过检查而超出上限。
+ * </p>
+ * <p>
+ * 虚拟线程模式下(需要JDK21)每个任务一个虚拟线程，线程数和队列长度之和作为并发执行的任务数上限；
+ * 当前JDK不支持虚拟线程时回退到普通线程池。
+ * </p>
+ * <p>
+ * 舱壁不提供关闭方法：被删除的舱壁上可能还有正在进行的请求，它们的后续回调仍然需要执行，
+ * 空闲线程超时后自动退出。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class Bulkhead implements Executor {
+  private static final Logger logger = LoggerFactory.getLogger(Bulkhead.class);
+
+  /**
+   * 空闲线程的存活时间，单位秒
+   */
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private final String name;
+  private final ThreadPoolExecutor pool;
+  private final ExecutorService virtualExecutor;
+
+  private volatile int threads;
+  private volatile int queueCapacity;
+
+  // 已提交未开始执行的任务数，包括tryAdmit预留的位置
+  private final AtomicInteger queued = new AtomicInteger();
+
+  // 正在执行的任务数
+  private final AtomicInteger active = new AtomicInteger();
+
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong completed = new AtomicLong();
+
+  /**
+   * @param name 舱壁名称，服务名或者"服务名.方法名"
+   * @param threads 线程数
+   * @param queueCapacity 所有线程都忙时最多排队的请求数
+   * @param virtual 是否使用虚拟线程
+   */
+  public Bulkhead(final String name, int threads, int queueCapacity, boolean virtual) {
+    Preconditions.checkNotNull(name, "name");
+    Preconditions.checkArgument(threads > 0, "threads must be positive");
+    Preconditions.checkArgument(queueCapacity >= 0, "queueCapacity must not be negative");
+    this.name = name;
+    this.threads = threads;
+    this.queueCapacity = queueCapacity;
+
+    ExecutorService virtualExecutor = null;
+    if (virtual) {
+      virtualExecutor = ThreadUtils.newVirtualThreadPerTaskExecutor();
+      if (virtualExecutor == null) {
+        logger.warn("当前JDK不支持虚拟线程，舱壁[" + name + "]使用普通线程池");
+      }
+    }
+    this.virtualExecutor = virtualExecutor;
+
+    if (virtualExecutor == null) {
+      pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+              new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger counter = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                  Thread thread = new Thread(r, "grpc-bulkhead-" + name + "-" + counter.incrementAndGet());
+                  thread.setDaemon(true);
+                  return thread;
+                }
+              });
+      pool.allowCoreThreadTimeOut(true);
+    } else {
+      pool = null;
+    }
+  }
+
+  /**
+   * 为一个新的请求预留一个排队位置，舱壁已满时返回null，拒绝计数加1
+   * <p>
+   * 返回的Executor提交的第一个任务占用预留的位置，之后的任务与{@link #execute}相同，
+   * 因此请求的所有回调都需要通过返回的Executor提交。
+   * </p>
+   */
+  public Executor tryAdmit() {
+    for (;;) {
+      int queuedCount = queued.get();
+      boolean admitted;
+      if (pool == null) {
+        admitted = active.get() + queuedCount < threads + queueCapacity;
+      } else {
+        admitted = queuedCount < queueCapacity || active.get() + queuedCount < threads;
+      }
+
+      if (!admitted) {
+        rejected.incrementAndGet();
+        return null;
+      }
+      if (queued.compareAndSet(queuedCount, queuedCount + 1)) {
+        return new AdmittedExecutor();
+      }
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Preconditions.checkNotNull(command, "command");
+    queued.incrementAndGet();
+    submit(command);
+  }
+
+  /**
+   * 提交任务，调用前已经把排队数加1
+   */
+  private void submit(final Runnable command) {
+    Runnable task = new Runnable() {
+      @Override
+      public void run() {
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+          command.run();
+        } finally {
+          active.decrementAndGet();
+          completed.incrementAndGet();
+        }
+      }
+    };
+
+    try {
+      if (pool == null) {
+        virtualExecutor.execute(task);
+      } else {
+        pool.execute(task);
+      }
+    } catch (RuntimeException e) {
+      queued.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * 动态调整线程数和排队数
+   */
+  public synchronized void resize(int threads, int queueCapacity) {
+    Preconditions.checkArgument(threads > 0, "threads must be positive");
+    Preconditions.checkArgument(queueCapacity >= 0, "queueCapacity must not be negative");
+
+    if (pool != null && threads != this.threads) {
+      // 先调整不会违反 core <= max 约束的一侧
+      if (threads > pool.getMaximumPoolSize()) {
+        pool.setMaximumPoolSize(threads);
+        pool.setCorePoolSize(threads);
+      } else {
+        pool.setCorePoolSize(threads);
+        pool.setMaximumPoolSize(threads);
+      }
+    }
+
+    this.threads = threads;
+    this.queueCapacity = queueCapacity;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isVirtual() {
+    return pool == null;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  /**
+   * 正在执行的任务数
+   */
+  public int getActiveCount() {
+    return active.get();
+  }
+
+  /**
+   * 排队等待执行的任务数
+   */
+  public int getQueueSize() {
+    return queued.get();
+  }
+
+  /**
+   * 因舱壁已满被拒绝的请求总数
+   */
+  public long getRejectedCount() {
+    return rejected.get();
+  }
+
+  /**
+   * 已经执行完成的任务总数
+   */
+  public long getCompletedCount() {
+    return completed.get();
+  }
+
+  /**
+   * 一个已接收的请求使用的Executor，第一个任务占用{@link #tryAdmit()}预留的排队位置
+   */
+  private final class AdmittedExecutor implements Executor {
+    private final AtomicBoolean reserved = new AtomicBoolean(true);
+
+    @Override
+    public void execute(Runnable command) {
+      Preconditions.checkNotNull(command, "command");
+      if (reserved.compareAndSet(true, false)) {
+        submit(command);
+      } else {
+        Bulkhead.this.execute(command);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Bulkhead{name=" + name + ", threads=" + threads + ", queueCapacity=" + queueCapacity
+            + ", virtual=" + isVirtual() + ", active=" + active.get() + ", queued=" + queued.get()
+            + ", rejected=" + rejected.get() + "}";
+  }
+}
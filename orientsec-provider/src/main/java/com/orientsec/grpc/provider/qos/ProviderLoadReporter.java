@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider.qos;
+
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 服务端负载上报工具类
+ * <p>
+ * 服务端在响应的trailers中附带当前的负载信息，客户端据此动态调整加权轮询的权重。<br>
+ * 负载信息的格式为：util=63;cpu=40;requests=12;queue=3 <br>
+ * 其中util为综合负载百分比(0~100)，取CPU负载、当前服务并发请求数占比、业务线程池繁忙程度三者的最大值。
+ * 启用了调用统计时还附带qtime=850，表示当前方法最近的排队耗时(微秒，指数加权移动平均)。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ProviderLoadReporter {
+  private static final Logger logger = LoggerFactory.getLogger(ProviderLoadReporter.class);
+
+  public static final String UTILIZATION = "util";
+  public static final String CPU = "cpu";
+  public static final String REQUESTS = "requests";
+  public static final String QUEUE = "queue";
+  public static final String QUEUE_TIME = "qtime";
+
+  public static final String ITEM_SEPARATOR = ";";
+  public static final String VALUE_SEPARATOR = "=";
+
+  /**
+   * CPU负载的刷新间隔，单位毫秒(获取系统负载有一定开销，不需要每次请求都获取)
+   */
+  private static final long CPU_REFRESH_INTERVAL_MILLIS = 1000L;
+
+  private static final int MAX_PERCENTAGE = 100;
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 是否在响应trailers中上报服务端负载
+  private static boolean enabled = initEnabled();
+
+  private static final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+
+  private static volatile long lastCpuRefreshTime = 0L;
+
+  private static volatile int cpuPercentage = 0;
+
+  // 服务端的业务线程池(只有ThreadPoolExecutor类型才能获取排队数)
+  private static volatile ThreadPoolExecutor serverExecutor;
+
+  /**
+   * 初始化是否启用负载上报
+   */
+  private static boolean initEnabled() {
+    String key = GlobalConstants.Provider.Key.LOAD_REPORT_ENABLED;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 是否启用负载上报
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 登记服务端的业务线程池，用于计算排队占比
+   */
+  public static void registerExecutor(Executor executor) {
+    if (executor instanceof ThreadPoolExecutor) {
+      serverExecutor = (ThreadPoolExecutor) executor;
+    }
+  }
+
+  /**
+   * 获取指定服务的负载信息
+   *
+   * @param interfaceName 服务接口名
+   * @return 格式为 util=63;cpu=40;requests=12;queue=3
+   */
+  public static String getLoadReport(String interfaceName) {
+    int cpu = getCpuPercentage();
+    int requests = getRequestsPercentage(interfaceName);
+    ThreadPoolExecutor executor = serverExecutor;
+    int queue = (executor == null) ? 0 : getQueuePercentage(executor);
+    int util = Math.min(MAX_PERCENTAGE, Math.max(cpu, Math.max(requests, queue)));
+
+    StringBuilder sb = new StringBuilder(48);
+    sb.append(UTILIZATION).append(VALUE_SEPARATOR).append(util).append(ITEM_SEPARATOR);
+    sb.append(CPU).append(VALUE_SEPARATOR).append(cpu).append(ITEM_SEPARATOR);
+    sb.append(REQUESTS).append(VALUE_SEPARATOR).append(requests).append(ITEM_SEPARATOR);
+    sb.append(QUEUE).append(VALUE_SEPARATOR).append(queue);
+    return sb.toString();
+  }
+
+  /**
+   * 获取指定方法的负载信息
+   *
+   * @param interfaceName 服务接口名
+   * @param fullMethodName 全路径方法名
+   * @return 格式为 util=63;cpu=40;requests=12;queue=3;qtime=850，没有启用调用统计时不包括qtime
+   */
+  public static String getLoadReport(String interfaceName, String fullMethodName) {
+    String report = getLoadReport(interfaceName);
+    if (!NebulaMetrics.isEnabled()) {
+      return report;
+    }
+    long queueTime = NebulaMetrics.server(fullMethodName).getSmoothedQueueMicros();
+    return report + ITEM_SEPARATOR + QUEUE_TIME + VALUE_SEPARATOR + queueTime;
+  }
+
+  /**
+   * 获取CPU负载百分比
+   * <p>
+   * 使用系统平均负载除以CPU核数近似计算，平台不支持时(例如Windows)返回0
+   * </p>
+   */
+  private static int getCpuPercentage() {
+    long now = System.currentTimeMillis();
+    if (now - lastCpuRefreshTime < CPU_REFRESH_INTERVAL_MILLIS) {
+      return cpuPercentage;
+    }
+
+    lastCpuRefreshTime = now;
+
+    double loadAverage = osBean.getSystemLoadAverage();
+    int processors = osBean.getAvailableProcessors();
+
+    int value = 0;
+    if (loadAverage > 0 && processors > 0) {
+      value = (int) Math.min(MAX_PERCENTAGE, loadAverage * MAX_PERCENTAGE / processors);
+    }
+
+    cpuPercentage = value;
+    return value;
+  }
+
+  /**
+   * 获取当前服务并发请求数占最大并发请求数的百分比
+   */
+  private static int getRequestsPercentage(String interfaceName) {
+    if (StringUtils.isEmpty(interfaceName)) {
+      return 0;
+    }
+
+    // 非nebula注册的服务(例如健康检查服务)没有对应的配置信息，与不限制请求数一样处理
+    int max = ProviderRequestsControllerUtils.getConfiguredMaxRequests(interfaceName);
+    if (max <= RequestsController.NO_LIMIT_NUM) {
+      return 0;
+    }
+
+    int current = ProviderRequestsControllerUtils.getCurrentRequests(interfaceName);
+    return (int) Math.min(MAX_PERCENTAGE, (long) current * MAX_PERCENTAGE / max);
+  }
+
+  /**
+   * 获取业务线程池的繁忙程度百分比
+   * <p>
+   * 有界队列：排队任务数占队列容量的百分比；<br>
+   * 无界队列或不排队的线程池(例如缺省的CachedThreadPool，最大线程数为Integer.MAX_VALUE、
+   * 队列为SynchronousQueue)：正在执行和排队的任务数相对于核心线程数的百分比，
+   * 核心线程数为0时以CPU核数为基准。
+   * </p>
+   */
+  public static int getQueuePercentage(ThreadPoolExecutor executor) {
+    BlockingQueue<Runnable> queue = executor.getQueue();
+    int queueSize = queue.size();
+    long capacity = (long) queueSize + queue.remainingCapacity();
+    if (capacity > 0 && capacity < Integer.MAX_VALUE) {
+      return (int) Math.min(MAX_PERCENTAGE, (long) queueSize * MAX_PERCENTAGE / capacity);
+    }
+
+    int base = executor.getCorePoolSize();
+    if (base <= 0) {
+      base = Runtime.getRuntime().availableProcessors();
+    }
+    long busy = (long) executor.getActiveCount() + queueSize;
+    return (int) Math.min(MAX_PERCENTAGE, busy * MAX_PERCENTAGE / base);
+  }
+
+}
@@ -103,6 +103,37 @@ public class ProviderRequestsControllerUtils {
     return controller.getMax();
   }
 
+  /**
+   * 获取服务接口的最大请求数，服务接口没有对应的配置信息时(例如非nebula注册的健康检查服务)不抛出异常
+   *
+   * @return 没有启用服务端或没有对应的配置信息时返回{@link RequestsController#NO_LIMIT_NUM}
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  public static int getConfiguredMaxRequests(String interfaceName) {
+    if (!SystemSwitch.PROVIDER_ENABLED) {
+      return RequestsController.NO_LIMIT_NUM;
+    }
+
+    Preconditions.checkNotNull(interfaceName, "interfaceName");
+
+    RequestsController controller = controllers.get(interfaceName);
+    if (controller == null) {
+      controller = newController(interfaceName);
+      if (controller == null) {
+        return RequestsController.NO_LIMIT_NUM;
+      }
+
+      RequestsController oldValue = controllers.putIfAbsent(interfaceName, controller);
+      if (oldValue != null) {
+        // 防止其他线程在这段时间内已经向controllers中写入了新数据
+        controller = oldValue;
+      }
+    }
+
+    return controller.getMax();
+  }
+
   /**
    * 获取服务接口的当前请求数
    *
@@ -192,13 +223,28 @@ public class ProviderRequestsControllerUtils {
    * @since 2018/12/1
    */
   private static RequestsController getControllerInstance(String interfaceName) {
-    Map<String, Map<String, Object>> currentServicesConfig = ServiceConfigUtils.getCurrentServicesConfig();
+    RequestsController controller = newController(interfaceName);
 
-    if (!currentServicesConfig.containsKey(interfaceName)) {
+    if (controller == null) {
       throw new BusinessException("未找到[" + interfaceName + "]对应的服务配置信息，请联系管理员解决！");
     }
 
-    Map<String, Object> config = currentServicesConfig.get(interfaceName);
+    return controller;
+  }
+
+  /**
+   * 按服务的配置信息创建一个服务连接数控制器
+   *
+   * @return 没有对应的配置信息时返回null
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  private static RequestsController newController(String interfaceName) {
+    Map<String, Object> config = ServiceConfigUtils.getCurrentServicesConfig().get(interfaceName);
+    if (config == null) {
+      return null;
+    }
+
     String requests = (String) config.get(GlobalConstants.Provider.Key.DEFAULT_REQUESTS);
 
     int requestsNum = GlobalConstants.Provider.DEFAULT_REQUESTS_NUM;
@@ -207,9 +253,7 @@ public class ProviderRequestsControllerUtils {
       requestsNum = RequestsController.getValidMax(requestsNum);
     }
 
-    RequestsController controller = new RequestsController(requestsNum);
-
-    return controller;
+    return new RequestsController(requestsNum);
   }
 
   /**
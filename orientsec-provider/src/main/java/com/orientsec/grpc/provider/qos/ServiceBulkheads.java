@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider.qos;
+
+import com.google.common.base.Preconditions;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.metrics.MetricsCollector;
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.common.metrics.PrometheusTextFormat;
+import com.orientsec.grpc.common.resource.SystemConfig;
+import com.orientsec.grpc.common.util.PropertiesUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 服务端舱壁(服务或方法独享的业务线程池)的管理工具类
+ * <p>
+ * 舱壁的名称为服务名或者"服务名.方法名"，查找时方法级的舱壁优先于服务级的舱壁，没有舱壁的方法使用服务端的业务线程池。<br>
+ * 配置的优先级：注册中心的动态配置 > 配置文件 provider.bulkhead.threads[xxx]、provider.bulkhead.queue[xxx]。<br>
+ * 各舱壁的线程数、排队数、拒绝数等通过{@link NebulaMetrics}输出。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ServiceBulkheads {
+  private static final Logger logger = LoggerFactory.getLogger(ServiceBulkheads.class);
+
+  private static final String THREADS_PREFIX = GlobalConstants.Provider.Key.BULKHEAD_THREADS + "[";
+
+  private static Properties properties = SystemConfig.getProperties();
+
+  // 是否使用虚拟线程
+  private static boolean virtual = initVirtual();
+
+  /**
+   * 配置文件中的舱壁配置
+   * <p>
+   * key: 舱壁名称，value: {线程数, 排队请求数}
+   * </p>
+   */
+  private static Map<String, int[]> initialConfigs = initConfigs();
+
+  /**
+   * 当前生效的舱壁
+   * <p>
+   * key: 舱壁名称
+   * </p>
+   */
+  private static ConcurrentHashMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  /**
+   * 按方法查找舱壁的索引
+   * <p>
+   * key: 舱壁名称的最后一个"."替换为"/"，与全路径方法名(interfaceName/methodName)的格式相同，
+   * 在舱壁增删时计算，查找时不需要转换方法名
+   * </p>
+   */
+  private static ConcurrentHashMap<String, Bulkhead> methodBulkheads = new ConcurrentHashMap<>();
+
+  static {
+    initBulkheads();
+    NebulaMetrics.addCollector(new BulkheadCollector());
+  }
+
+  /**
+   * 初始化是否使用虚拟线程
+   */
+  private static boolean initVirtual() {
+    String key = GlobalConstants.Provider.Key.BULKHEAD_VIRTUAL;
+    boolean value = PropertiesUtils.getValidBooleanValue(properties, key, false);
+    logger.info(key + " = " + value);
+    return value;
+  }
+
+  /**
+   * 从配置文件中读取所有舱壁的配置
+   */
+  private static Map<String, int[]> initConfigs() {
+    Map<String, int[]> configs = new HashMap<>();
+    if (properties == null) {
+      return configs;
+    }
+
+    for (String key : properties.stringPropertyNames()) {
+      if (!key.startsWith(THREADS_PREFIX) || !key.endsWith("]")) {
+        continue;
+      }
+
+      String name = key.substring(THREADS_PREFIX.length(), key.length() - 1).trim();
+      if (StringUtils.isEmpty(name)) {
+        continue;
+      }
+
+      int threads = PropertiesUtils.getValidIntegerValue(properties, key, 0);
+      if (threads <= 0) {
+        logger.warn("配置项" + key + "的值[" + properties.getProperty(key) + "]不是正整数，忽略该舱壁");
+        continue;
+      }
+
+      String queueKey = GlobalConstants.Provider.Key.BULKHEAD_QUEUE + "[" + name + "]";
+      int queue = PropertiesUtils.getValidIntegerValue(properties, queueKey, threads);
+      if (queue < 0) {
+        logger.warn("配置项" + queueKey + "的值[" + queue + "]超出范围[0, +∞)，使用缺省值");
+        queue = threads;
+      }
+
+      logger.info(key + " = " + threads + ", " + queueKey + " = " + queue);
+      configs.put(name, new int[] {threads, queue});
+    }
+
+    return configs;
+  }
+
+  private static void initBulkheads() {
+    for (Map.Entry<String, int[]> entry : initialConfigs.entrySet()) {
+      String name = entry.getKey();
+      int[] config = entry.getValue();
+      Bulkhead bulkhead = new Bulkhead(name, config[0], config[1], virtual);
+      bulkheads.put(name, bulkhead);
+      methodBulkheads.put(toMethodKey(name), bulkhead);
+    }
+  }
+
+  /**
+   * 把"服务名.方法名"格式的舱壁名称转换为全路径方法名的格式
+   */
+  private static String toMethodKey(String name) {
+    int index = name.lastIndexOf('.');
+    if (index < 0) {
+      return name;
+    }
+    return name.substring(0, index) + '/' + name.substring(index + 1);
+  }
+
+  /**
+   * 查找方法对应的舱壁
+   *
+   * @param fullMethodName 全路径方法名，格式为 interfaceName/methodName
+   * @return 没有配置舱壁时返回null
+   */
+  public static Bulkhead lookup(String fullMethodName) {
+    if (bulkheads.isEmpty() || fullMethodName == null) {
+      return null;
+    }
+
+    Bulkhead bulkhead = methodBulkheads.get(fullMethodName);
+    if (bulkhead != null) {
+      return bulkhead;
+    }
+
+    int index = fullMethodName.indexOf('/');
+    if (index < 0) {
+      return null;
+    }
+    return bulkheads.get(fullMethodName.substring(0, index));
+  }
+
+  /**
+   * 获取当前生效的所有舱壁，用于导出监控指标
+   */
+  public static Map<String, Bulkhead> getBulkheads() {
+    return Collections.unmodifiableMap(bulkheads);
+  }
+
+  /**
+   * 新增舱壁或者调整已有舱壁的线程数和排队请求数
+   *
+   * @param name 舱壁名称，服务名或者"服务名.方法名"
+   */
+  public static void update(String name, int threads, int queueCapacity) {
+    Preconditions.checkNotNull(name, "name");
+
+    Bulkhead bulkhead = bulkheads.get(name);
+    if (bulkhead == null) {
+      bulkhead = new Bulkhead(name, threads, queueCapacity, virtual);
+      Bulkhead oldValue = bulkheads.putIfAbsent(name, bulkhead);
+      if (oldValue == null) {
+        methodBulkheads.put(toMethodKey(name), bulkhead);
+        logger.info("新增舱壁：" + bulkhead);
+        return;
+      }
+      bulkhead = oldValue;
+    }
+
+    bulkhead.resize(threads, queueCapacity);
+    logger.info("调整舱壁：" + bulkhead);
+  }
+
+  /**
+   * 将舱壁恢复到配置文件中的设置，配置文件中没有该舱壁时删除它
+   * <p>
+   * 被删除的舱壁上正在进行的请求继续在原舱壁中执行，新的请求使用服务端的业务线程池(或者服务级的舱壁)。
+   * </p>
+   */
+  public static void reset(String name) {
+    Preconditions.checkNotNull(name, "name");
+
+    int[] config = initialConfigs.get(name);
+    if (config != null) {
+      update(name, config[0], config[1]);
+      return;
+    }
+
+    Bulkhead bulkhead = bulkheads.remove(name);
+    if (bulkhead != null) {
+      methodBulkheads.remove(toMethodKey(name), bulkhead);
+      logger.info("删除舱壁：" + bulkhead);
+    }
+  }
+
+  /**
+   * 输出当前生效的各个舱壁的统计值，标签bulkhead为舱壁名称
+   */
+  private static final class BulkheadCollector implements MetricsCollector {
+    @Override
+    public void collect(StringBuilder sb) {
+      if (bulkheads.isEmpty()) {
+        return;
+      }
+      Map<String, Bulkhead> sorted = new TreeMap<>(bulkheads);
+
+      String threads = "nebula_bulkhead_threads";
+      PrometheusTextFormat.writeHeader(sb, threads, "gauge", "Threads of nebula bulkheads.");
+      for (Bulkhead bulkhead : sorted.values()) {
+        PrometheusTextFormat.writeSample(sb, threads, label(bulkhead), bulkhead.getThreads());
+      }
+
+      String capacity = "nebula_bulkhead_queue_capacity";
+      PrometheusTextFormat.writeHeader(sb, capacity, "gauge",
+          "Maximum queued requests of nebula bulkheads.");
+      for (Bulkhead bulkhead : sorted.values()) {
+        PrometheusTextFormat.writeSample(sb, capacity, label(bulkhead),
+            bulkhead.getQueueCapacity());
+      }
+
+      String active = "nebula_bulkhead_active";
+      PrometheusTextFormat.writeHeader(sb, active, "gauge",
+          "Running tasks of nebula bulkheads.");
+      for (Bulkhead bulkhead : sorted.values()) {
+        PrometheusTextFormat.writeSample(sb, active, label(bulkhead), bulkhead.getActiveCount());
+      }
+
+      String queued = "nebula_bulkhead_queued";
+      PrometheusTextFormat.writeHeader(sb, queued, "gauge",
+          "Queued tasks of nebula bulkheads.");
+      for (Bulkhead bulkhead : sorted.values()) {
+        PrometheusTextFormat.writeSample(sb, queued, label(bulkhead), bulkhead.getQueueSize());
+      }
+
+      String rejected = "nebula_bulkhead_rejected_total";
+      PrometheusTextFormat.writeHeader(sb, rejected, "counter",
+          "Requests rejected by full nebula bulkheads.");
+      for (Bulkhead bulkhead : sorted.values()) {
+        PrometheusTextFormat.writeSample(sb, rejected, label(bulkhead),
+            bulkhead.getRejectedCount());
+      }
+
+      String completed = "nebula_bulkhead_completed_total";
+      PrometheusTextFormat.writeHeader(sb, completed, "counter",
+          "Tasks completed by nebula bulkheads.");
+      for (Bulkhead bulkhead : sorted.values()) {
+        PrometheusTextFormat.writeSample(sb, completed, label(bulkhead),
+            bulkhead.getCompletedCount());
+      }
+    }
+
+    private static String label(Bulkhead bulkhead) {
+      return PrometheusTextFormat.label("bulkhead", bulkhead.getName());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider.watch;
+
+import com.google.common.base.Preconditions;
+import com.orientsec.grpc.common.constant.GlobalConstants;
+import com.orientsec.grpc.common.constant.RegistryConstants;
+import com.orientsec.grpc.common.util.MathUtils;
+import com.orientsec.grpc.common.util.StringUtils;
+import com.orientsec.grpc.provider.qos.ServiceBulkheads;
+import com.orientsec.grpc.registry.common.Constants;
+import com.orientsec.grpc.registry.common.URL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 监听服务提供者舱壁参数的变化
+ * <p>
+ * 监听目录：/xxx/com.orientsec.[app].[interface].service/configurators <br>
+ * 对key为bulkhead.threads、bulkhead.queue的override操作做监听，带method参数时调整方法级的舱壁，否则调整服务级的舱壁。
+ * 参数被删除后，舱壁恢复到配置文件中的设置。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class BulkheadHandler {
+  private static final Logger logger = LoggerFactory.getLogger(BulkheadHandler.class);
+
+  private static final String THREADS_KEY = GlobalConstants.Provider.Key.BULKHEAD_THREADS_FOR_LISTENER;
+
+  private static final String QUEUE_KEY = GlobalConstants.Provider.Key.BULKHEAD_QUEUE_FOR_LISTENER;
+
+  private static final String METHOD = GlobalConstants.Consumer.Key.METHOD;
+
+  private String interfaceName;
+  private String ip;
+  private int port;
+
+  // 上一次调用notify时更新过的舱壁名称
+  private Set<String> lastUpdated = new HashSet<>();
+
+  public BulkheadHandler(String interfaceName, String ip, int port) {
+    Preconditions.checkNotNull(interfaceName, "interfaceName");
+    Preconditions.checkNotNull(ip, "ip");
+    this.interfaceName = interfaceName;
+    this.ip = ip;
+    this.port = port;
+  }
+
+  /**
+   * 数据发生变化的处理逻辑
+   */
+  public void notify(List<URL> urls) {
+    Objects.requireNonNull(urls);
+
+    // key: 舱壁名称，value: {线程数, 排队请求数}
+    Map<String, int[]> configs = new HashMap<>();
+
+    // 向注册中心订阅监听器成功后，如果监听节点下没有子节点，会立即返回一个协议为empty的URL
+    boolean isEmptyProtocol = urls.size() == 1
+            && Constants.EMPTY_PROTOCOL.equals(urls.get(0).getProtocol());
+
+    if (!isEmptyProtocol) {
+      String urlIp;
+      Map<String, String> parameters;
+      String threads;
+      String queue;
+      String method;
+
+      // 优先级高的数据排在后面，后面的覆盖前面的
+      for (URL url : urls) {
+        urlIp = url.getIp();
+        if (StringUtils.isEmpty(urlIp)) {
+          continue;
+        }
+        if (!RegistryConstants.ANYHOST_VALUE.equals(urlIp) && !ip.equals(urlIp)) {
+          continue;
+        }
+        if (port != url.getPort()) {
+          continue;
+        }
+
+        parameters = url.getParameters();
+        threads = parameters.get(THREADS_KEY);
+        if (!MathUtils.isInteger(threads) || Integer.parseInt(threads) <= 0) {
+          if (threads != null) {
+            logger.warn("舱壁线程数不合法，忽略该配置：" + url.toFullString());
+          }
+          continue;
+        }
+
+        int threadsNum = Integer.parseInt(threads);
+        int queueNum = threadsNum;
+        queue = parameters.get(QUEUE_KEY);
+        if (MathUtils.isInteger(queue) && Integer.parseInt(queue) >= 0) {
+          queueNum = Integer.parseInt(queue);
+        }
+
+        method = parameters.get(METHOD);
+        String name = StringUtils.isEmpty(method) ? interfaceName : interfaceName + "." + method;
+        configs.put(name, new int[] {threadsNum, queueNum});
+      }
+    }
+
+    for (Map.Entry<String, int[]> entry : configs.entrySet()) {
+      int[] config = entry.getValue();
+      logger.info("服务提供者[" + interfaceName + "]监听到舱壁配置项，舱壁[" + entry.getKey()
+              + "]的线程数为[" + config[0] + "]，排队请求数为[" + config[1] + "]。");
+      ServiceBulkheads.update(entry.getKey(), config[0], config[1]);
+    }
+
+    // 上一次更新过、本次没有配置的舱壁，说明配置信息被删除了，恢复到初始设置
+    for (String name : lastUpdated) {
+      if (!configs.containsKey(name)) {
+        logger.info("将舱壁[" + name + "]恢复到初始设置。");
+        ServiceBulkheads.reset(name);
+      }
+    }
+
+    lastUpdated = new HashSet<>(configs.keySet());
+  }
+}
@@ -67,6 +67,7 @@ public class ProvidersListener implements NotifyListener {
   private ConnectionsHandler connectionsHandler;
   private DeprecatedHandler deprecatedHandler;
   private AccessProtectedHandler accessProtectedHandler;
+  private BulkheadHandler bulkheadHandler;
 
   public ProvidersListener(String interfaceName, String ip, String application, int port) {
     Preconditions.checkNotNull(interfaceName, "interfaceName");
@@ -126,6 +127,14 @@ public class ProvidersListener implements NotifyListener {
       accessProtectedHandler = new AccessProtectedHandler(interfaceName, ip, port);
     }
     accessProtectedHandler.notify(filteredUrls);
+
+    /**
+     * 对服务的舱壁bulkhead.threads、bulkhead.queue进行处理
+     */
+    if (bulkheadHandler == null) {
+      bulkheadHandler = new BulkheadHandler(interfaceName, ip, port);
+    }
+    bulkheadHandler.notify(filteredUrls);
   }
 
   /**
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider;
+
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.provider.qos.Bulkhead;
+import com.orientsec.grpc.provider.qos.ServiceBulkheads;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 服务端舱壁(服务或方法独享的业务线程池)
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class BulkheadTest {
+
+  @Test
+  public void rejectWhenThreadsAndQueueAreFull() throws Exception {
+    Bulkhead bulkhead = new Bulkhead("com.foo.ReportService", 1, 1, false);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch finished = new CountDownLatch(2);
+    Runnable blocking = new Runnable() {
+      @Override
+      public void run() {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        finished.countDown();
+      }
+    };
+
+    Executor admitted = bulkhead.tryAdmit();
+    Assert.assertNotNull(admitted);
+    admitted.execute(blocking);
+    Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(1, bulkhead.getActiveCount());
+
+    // 唯一的线程正忙，还可以排队一个请求
+    admitted = bulkhead.tryAdmit();
+    Assert.assertNotNull(admitted);
+    Assert.assertEquals(1, bulkhead.getQueueSize());
+    admitted.execute(blocking);
+    Assert.assertEquals(1, bulkhead.getQueueSize());
+
+    Assert.assertNull(bulkhead.tryAdmit());
+    Assert.assertEquals(1, bulkhead.getRejectedCount());
+
+    // 扩大排队数后可以继续接收请求
+    bulkhead.resize(2, 2);
+    Assert.assertNotNull(bulkhead.tryAdmit());
+
+    release.countDown();
+    Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void methodBulkheadTakesPrecedence() {
+    String service = "com.foo.BulkheadTestService";
+    ServiceBulkheads.update(service, 2, 2);
+    ServiceBulkheads.update(service + ".export", 1, 0);
+    try {
+      Assert.assertEquals(service + ".export",
+              ServiceBulkheads.lookup(service + "/export").getName());
+      Assert.assertEquals(service, ServiceBulkheads.lookup(service + "/query").getName());
+      Assert.assertNull(ServiceBulkheads.lookup("com.foo.OtherService/query"));
+
+      // 配置文件中没有的舱壁恢复初始设置时被删除
+      ServiceBulkheads.reset(service + ".export");
+      Assert.assertEquals(service, ServiceBulkheads.lookup(service + "/export").getName());
+    } finally {
+      ServiceBulkheads.reset(service);
+      ServiceBulkheads.reset(service + ".export");
+    }
+    Assert.assertNull(ServiceBulkheads.lookup(service + "/query"));
+  }
+
+  @Test
+  public void concurrentAdmissionsNeverExceedCapacity() throws Exception {
+    final Bulkhead bulkhead = new Bulkhead("com.foo.ConcurrentService", 1, 3, false);
+    final CountDownLatch release = new CountDownLatch(1);
+    Executor first = bulkhead.tryAdmit();
+    Assert.assertNotNull(first);
+    first.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+
+    final AtomicInteger admitted = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          for (int j = 0; j < 100; j++) {
+            if (bulkhead.tryAdmit() != null) {
+              admitted.incrementAndGet();
+            }
+          }
+        }
+      });
+      threads[i].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // 唯一的线程正忙时(或者还没有开始执行)，最多预留3个排队位置
+    Assert.assertTrue(admitted.get() <= 3);
+    Assert.assertTrue(bulkhead.getQueueSize() <= 3);
+    Assert.assertEquals(8 * 100 - admitted.get(), bulkhead.getRejectedCount());
+    release.countDown();
+  }
+
+  @Test
+  public void admittedExecutorUsesReservationOnce() throws Exception {
+    Bulkhead bulkhead = new Bulkhead("com.foo.ReservationService", 1, 1, false);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch finished = new CountDownLatch(3);
+    Runnable blocking = new Runnable() {
+      @Override
+      public void run() {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        finished.countDown();
+      }
+    };
+
+    Executor admitted = bulkhead.tryAdmit();
+    Assert.assertNotNull(admitted);
+    Assert.assertEquals(1, bulkhead.getQueueSize());
+
+    // 第一个任务占用预留的位置，之后的任务各自计数
+    admitted.execute(blocking);
+    admitted.execute(blocking);
+    admitted.execute(blocking);
+    Assert.assertTrue(bulkhead.getQueueSize() + bulkhead.getActiveCount() == 3);
+
+    release.countDown();
+    Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void bulkheadMetricsExported() {
+    String service = "com.foo.BulkheadMetricsService";
+    ServiceBulkheads.update(service + ".query", 2, 1);
+    try {
+      Bulkhead bulkhead = ServiceBulkheads.lookup(service + "/query");
+      // 2个线程都空闲时可以预留2个位置
+      Assert.assertNotNull(bulkhead.tryAdmit());
+      Assert.assertNotNull(bulkhead.tryAdmit());
+      Assert.assertNull(bulkhead.tryAdmit());
+
+      String text = NebulaMetrics.scrape();
+      String label = "{bulkhead=\"" + service + ".query\"}";
+      Assert.assertTrue(text.contains("# TYPE nebula_bulkhead_threads gauge\n"));
+      Assert.assertTrue(text.contains("nebula_bulkhead_threads" + label + " 2\n"));
+      Assert.assertTrue(text.contains("nebula_bulkhead_queue_capacity" + label + " 1\n"));
+      Assert.assertTrue(text.contains("nebula_bulkhead_queued" + label + " 2\n"));
+      Assert.assertTrue(text.contains("nebula_bulkhead_rejected_total" + label + " 1\n"));
+    } finally {
+      ServiceBulkheads.reset(service + ".query");
+    }
+    Assert.assertFalse(NebulaMetrics.scrape().contains(service));
+  }
+}
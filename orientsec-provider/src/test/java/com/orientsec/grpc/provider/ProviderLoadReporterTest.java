@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientsec.grpc.provider;
+
+import com.orientsec.grpc.provider.qos.ProviderLoadReporter;
+import com.orientsec.grpc.provider.qos.ProviderRequestsControllerUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 服务端负载上报中业务线程池繁忙程度的计算
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public class ProviderLoadReporterTest {
+
+  @Test
+  public void boundedQueueUsesQueueDepth() throws Exception {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<Runnable>(4));
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      CountDownLatch started = new CountDownLatch(1);
+      executor.execute(blocking(started, release));
+      Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(0, ProviderLoadReporter.getQueuePercentage(executor));
+
+      executor.execute(blocking(new CountDownLatch(1), release));
+      executor.execute(blocking(new CountDownLatch(1), release));
+      Assert.assertEquals(50, ProviderLoadReporter.getQueuePercentage(executor));
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void cachedPoolUsesActiveThreads() throws Exception {
+    // 与缺省的CachedThreadPool相同：最大线程数为Integer.MAX_VALUE、不排队
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(2, Integer.MAX_VALUE, 60,
+        TimeUnit.SECONDS, new SynchronousQueue<Runnable>());
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      Assert.assertEquals(0, ProviderLoadReporter.getQueuePercentage(executor));
+
+      CountDownLatch started = new CountDownLatch(1);
+      executor.execute(blocking(started, release));
+      Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(50, ProviderLoadReporter.getQueuePercentage(executor));
+
+      started = new CountDownLatch(2);
+      executor.execute(blocking(started, release));
+      executor.execute(blocking(started, release));
+      Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(100, ProviderLoadReporter.getQueuePercentage(executor));
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void unregisteredServiceReportsNoRequestsLoad() {
+    // 没有对应配置信息的服务(例如健康检查服务)不限制请求数
+    String report = ProviderLoadReporter.getLoadReport("grpc.health.v1.Health");
+    Assert.assertTrue(report, report.contains(";requests=0;"));
+    Assert.assertFalse(ProviderRequestsControllerUtils.getControllers()
+        .containsKey("grpc.health.v1.Health"));
+  }
+
+  private static Runnable blocking(final CountDownLatch started, final CountDownLatch release) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+  }
+}
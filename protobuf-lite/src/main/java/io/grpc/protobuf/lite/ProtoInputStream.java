@@ -19,12 +19,14 @@ package io.grpc.protobuf.lite;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.MessageLite;
 import com.google.protobuf.Parser;
+import io.grpc.ByteBufferWritable;
 import io.grpc.Drainable;
 import io.grpc.KnownLength;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import javax.annotation.Nullable;
 
 /**
@@ -49,6 +51,11 @@ final class ProtoInputStream extends InputStream implements Drainable, KnownLeng
     int written;
     if (message != null) {
       written = message.getSerializedSize();
+      if (written > 0 && target instanceof ByteBufferWritable
+          && writeToByteBuffer((ByteBufferWritable) target, written)) {
+        message = null;
+        return written;
+      }
       message.writeTo(target);
       message = null;
     } else if (partial != null) {
@@ -60,6 +67,29 @@ final class ProtoInputStream extends InputStream implements Drainable, KnownLeng
     return written;
   }
 
+  /**
+   * 按序列化长度申请传输层的缓冲区，直接序列化到其中，不经过中间的字节数组
+   *
+   * @return 目标stream不能提供足够的连续空间时返回false
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  private boolean writeToByteBuffer(ByteBufferWritable target, int size) throws IOException {
+    ByteBuffer buffer = target.getWritableByteBuffer(size);
+    if (buffer == null) {
+      return false;
+    }
+
+    CodedOutputStream stream = CodedOutputStream.newInstance(buffer);
+    message.writeTo(stream);
+    stream.flush();
+    if (buffer.position() != size) {
+      throw new IOException("size inaccurate: " + size + " != " + buffer.position());
+    }
+    target.commitByteBuffer(size);
+    return true;
+  }
+
   @Override
   public int read() throws IOException {
     if (message != null) {
@@ -25,6 +25,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.MessageLite;
 import com.google.protobuf.Parser;
 import io.grpc.ExperimentalApi;
+import io.grpc.HasByteBuffer;
 import io.grpc.KnownLength;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor.Marshaller;
@@ -35,6 +36,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
 
 /**
  * Utility methods for using protobuf with grpc.
@@ -54,6 +56,13 @@ public final class ProtoLiteUtils {
   @VisibleForTesting
   static final int DEFAULT_MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
 
+  /**
+   * 运行时的protobuf能否不复制数据、直接解析direct ByteBuffer。
+   * 较早版本的protobuf会把direct ByteBuffer复制到新分配的字节数组中，此时不如复制到线程内复用的数组中。
+   */
+  @VisibleForTesting
+  static final boolean DIRECT_BUFFER_DECODING = isDirectBufferDecodingSupported();
+
   /**
    * Sets the global registry for proto marshalling shared across all servers and clients.
    *
@@ -112,6 +121,15 @@ public final class ProtoLiteUtils {
     return total;
   }
 
+  private static boolean isDirectBufferDecodingSupported() {
+    try {
+      CodedInputStream cis = CodedInputStream.newInstance(ByteBuffer.allocateDirect(1));
+      return cis.getClass() != CodedInputStream.class && cis.getClass().getName().contains("Direct");
+    } catch (Throwable t) {
+      return false;
+    }
+  }
+
   private ProtoLiteUtils() {
   }
 
@@ -170,8 +188,24 @@ public final class ProtoLiteUtils {
         }
       }
       CodedInputStream cis = null;
+      //----begin----直接解析传输层缓冲区----
+      if (stream instanceof HasByteBuffer) {
+        HasByteBuffer hasByteBuffer = (HasByteBuffer) stream;
+        ByteBuffer buffer = hasByteBuffer.getByteBuffer();
+        if (buffer != null && (!buffer.isDirect() || DIRECT_BUFFER_DECODING)) {
+          if (!buffer.hasRemaining()) {
+            return defaultInstance;
+          }
+          cis = CodedInputStream.newInstance(buffer);
+          // 只有缓冲区在stream关闭后不会被复用时，解析出的bytes字段才能引用缓冲区
+          if (hasByteBuffer.isByteBufferAliasable()) {
+            cis.enableAliasing(true);
+          }
+        }
+      }
+      //----end------直接解析传输层缓冲区----
       try {
-        if (stream instanceof KnownLength) {
+        if (cis == null && stream instanceof KnownLength) {
           int size = stream.available();
           if (size > 0 && size <= DEFAULT_MAX_MESSAGE_SIZE) {
             Reference<byte[]> ref;
@@ -28,7 +28,9 @@ import com.google.protobuf.Empty;
 import com.google.protobuf.Enum;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Type;
+import io.grpc.ByteBufferWritable;
 import io.grpc.Drainable;
+import io.grpc.HasByteBuffer;
 import io.grpc.KnownLength;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor.Marshaller;
@@ -40,6 +42,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.junit.Rule;
 import org.junit.Test;
@@ -226,11 +229,97 @@ public class ProtoLiteUtilsTest {
     assertEquals(expect, result);
   }
 
+  @Test
+  public void parseFromByteBuffer() throws Exception {
+    Type expect = Type.newBuilder().setName("expected name").build();
+    byte[] bytes = expect.toByteArray();
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+
+    assertEquals(expect, marshaller.parse(new ByteBufferInputStream(ByteBuffer.wrap(bytes))));
+    assertEquals(expect, marshaller.parse(new ByteBufferInputStream(direct)));
+  }
+
+  @Test
+  public void drainToByteBufferWritable() throws Exception {
+    byte[] golden = proto.toByteArray();
+    ByteBufferOutputStream target = new ByteBufferOutputStream(golden.length);
+
+    int written = ((Drainable) marshaller.stream(proto)).drainTo(target);
+    assertEquals(golden.length, written);
+    assertEquals(golden.length, target.committed);
+    // 直接序列化到ByteBuffer中，没有经过write()
+    assertEquals(0, target.size());
+    assertArrayEquals(golden, Arrays.copyOf(target.buffer.array(), target.committed));
+  }
+
+  @Test
+  public void drainToFallsBackWithoutByteBuffer() throws Exception {
+    byte[] golden = proto.toByteArray();
+    ByteBufferOutputStream target = new ByteBufferOutputStream(golden.length - 1);
+
+    ((Drainable) marshaller.stream(proto)).drainTo(target);
+    assertEquals(0, target.committed);
+    assertArrayEquals(golden, target.toByteArray());
+  }
+
   @Test
   public void defaultMaxMessageSize() {
     assertEquals(GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE, ProtoLiteUtils.DEFAULT_MAX_MESSAGE_SIZE);
   }
 
+  private static class ByteBufferInputStream extends InputStream
+      implements KnownLength, HasByteBuffer {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+      return buffer.slice();
+    }
+
+    @Override
+    public boolean isByteBufferAliasable() {
+      return false;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return buffer.remaining();
+    }
+
+    @Override
+    public int read() throws IOException {
+      return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+    }
+  }
+
+  private static class ByteBufferOutputStream extends ByteArrayOutputStream
+      implements ByteBufferWritable {
+    private final ByteBuffer buffer;
+    private int committed;
+
+    private ByteBufferOutputStream(int capacity) {
+      this.buffer = ByteBuffer.allocate(capacity);
+    }
+
+    @Override
+    public ByteBuffer getWritableByteBuffer(int length) {
+      if (length > buffer.remaining()) {
+        return null;
+      }
+      return buffer.duplicate();
+    }
+
+    @Override
+    public void commitByteBuffer(int length) {
+      committed += length;
+    }
+  }
+
   private static class CustomKnownLengthInputStream extends InputStream implements KnownLength {
     private int position = 0;
     private byte[] source;
@@ -0,0 +1,379 @@
+package io.grpc.nebula.admin.v1;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler",
+    comments = "Source: nebula/admin/v1/admin.proto")
+public final class NebulaAdminGrpc {
+
+  private NebulaAdminGrpc() {}
+
+  public static final String SERVICE_NAME = "nebula.admin.v1.NebulaAdmin";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<io.grpc.nebula.admin.v1.GetResolversRequest,
+      io.grpc.nebula.admin.v1.GetResolversResponse> getGetResolversMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetResolvers",
+      requestType = io.grpc.nebula.admin.v1.GetResolversRequest.class,
+      responseType = io.grpc.nebula.admin.v1.GetResolversResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<io.grpc.nebula.admin.v1.GetResolversRequest,
+      io.grpc.nebula.admin.v1.GetResolversResponse> getGetResolversMethod() {
+    io.grpc.MethodDescriptor<io.grpc.nebula.admin.v1.GetResolversRequest, io.grpc.nebula.admin.v1.GetResolversResponse> getGetResolversMethod;
+    if ((getGetResolversMethod = NebulaAdminGrpc.getGetResolversMethod) == null) {
+      synchronized (NebulaAdminGrpc.class) {
+        if ((getGetResolversMethod = NebulaAdminGrpc.getGetResolversMethod) == null) {
+          NebulaAdminGrpc.getGetResolversMethod = getGetResolversMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.nebula.admin.v1.GetResolversRequest, io.grpc.nebula.admin.v1.GetResolversResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "nebula.admin.v1.NebulaAdmin", "GetResolvers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.nebula.admin.v1.GetResolversRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.nebula.admin.v1.GetResolversResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new NebulaAdminMethodDescriptorSupplier("GetResolvers"))
+                  .build();
+          }
+        }
+     }
+     return getGetResolversMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.nebula.admin.v1.GetMetricsRequest,
+      io.grpc.nebula.admin.v1.GetMetricsResponse> getGetMetricsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetMetrics",
+      requestType = io.grpc.nebula.admin.v1.GetMetricsRequest.class,
+      responseType = io.grpc.nebula.admin.v1.GetMetricsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<io.grpc.nebula.admin.v1.GetMetricsRequest,
+      io.grpc.nebula.admin.v1.GetMetricsResponse> getGetMetricsMethod() {
+    io.grpc.MethodDescriptor<io.grpc.nebula.admin.v1.GetMetricsRequest, io.grpc.nebula.admin.v1.GetMetricsResponse> getGetMetricsMethod;
+    if ((getGetMetricsMethod = NebulaAdminGrpc.getGetMetricsMethod) == null) {
+      synchronized (NebulaAdminGrpc.class) {
+        if ((getGetMetricsMethod = NebulaAdminGrpc.getGetMetricsMethod) == null) {
+          NebulaAdminGrpc.getGetMetricsMethod = getGetMetricsMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.nebula.admin.v1.GetMetricsRequest, io.grpc.nebula.admin.v1.GetMetricsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "nebula.admin.v1.NebulaAdmin", "GetMetrics"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.nebula.admin.v1.GetMetricsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.nebula.admin.v1.GetMetricsResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new NebulaAdminMethodDescriptorSupplier("GetMetrics"))
+                  .build();
+          }
+        }
+     }
+     return getGetMetricsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static NebulaAdminStub newStub(io.grpc.Channel channel) {
+    return new NebulaAdminStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static NebulaAdminBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new NebulaAdminBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static NebulaAdminFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new NebulaAdminFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class NebulaAdminImplBase implements io.grpc.BindableService {
+
+    /**
+     * <pre>
+     * 各客户端(每个服务一个)的服务治理状态
+     * </pre>
+     */
+    public void getResolvers(io.grpc.nebula.admin.v1.GetResolversRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.nebula.admin.v1.GetResolversResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetResolversMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Prometheus文本格式的调用统计(需要启用common.metrics.enabled)
+     * </pre>
+     */
+    public void getMetrics(io.grpc.nebula.admin.v1.GetMetricsRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.nebula.admin.v1.GetMetricsResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetMetricsMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetResolversMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.nebula.admin.v1.GetResolversRequest,
+                io.grpc.nebula.admin.v1.GetResolversResponse>(
+                  this, METHODID_GET_RESOLVERS)))
+          .addMethod(
+            getGetMetricsMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.nebula.admin.v1.GetMetricsRequest,
+                io.grpc.nebula.admin.v1.GetMetricsResponse>(
+                  this, METHODID_GET_METRICS)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class NebulaAdminStub extends io.grpc.stub.AbstractStub<NebulaAdminStub> {
+    private NebulaAdminStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private NebulaAdminStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected NebulaAdminStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new NebulaAdminStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * 各客户端(每个服务一个)的服务治理状态
+     * </pre>
+     */
+    public void getResolvers(io.grpc.nebula.admin.v1.GetResolversRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.nebula.admin.v1.GetResolversResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetResolversMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Prometheus文本格式的调用统计(需要启用common.metrics.enabled)
+     * </pre>
+     */
+    public void getMetrics(io.grpc.nebula.admin.v1.GetMetricsRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.nebula.admin.v1.GetMetricsResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetMetricsMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class NebulaAdminBlockingStub extends io.grpc.stub.AbstractStub<NebulaAdminBlockingStub> {
+    private NebulaAdminBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private NebulaAdminBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected NebulaAdminBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new NebulaAdminBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * 各客户端(每个服务一个)的服务治理状态
+     * </pre>
+     */
+    public io.grpc.nebula.admin.v1.GetResolversResponse getResolvers(io.grpc.nebula.admin.v1.GetResolversRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetResolversMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Prometheus文本格式的调用统计(需要启用common.metrics.enabled)
+     * </pre>
+     */
+    public io.grpc.nebula.admin.v1.GetMetricsResponse getMetrics(io.grpc.nebula.admin.v1.GetMetricsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetMetricsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class NebulaAdminFutureStub extends io.grpc.stub.AbstractStub<NebulaAdminFutureStub> {
+    private NebulaAdminFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private NebulaAdminFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected NebulaAdminFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new NebulaAdminFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * 各客户端(每个服务一个)的服务治理状态
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.nebula.admin.v1.GetResolversResponse> getResolvers(
+        io.grpc.nebula.admin.v1.GetResolversRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetResolversMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Prometheus文本格式的调用统计(需要启用common.metrics.enabled)
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.nebula.admin.v1.GetMetricsResponse> getMetrics(
+        io.grpc.nebula.admin.v1.GetMetricsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetMetricsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_RESOLVERS = 0;
+  private static final int METHODID_GET_METRICS = 1;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final NebulaAdminImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(NebulaAdminImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_RESOLVERS:
+          serviceImpl.getResolvers((io.grpc.nebula.admin.v1.GetResolversRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.nebula.admin.v1.GetResolversResponse>) responseObserver);
+          break;
+        case METHODID_GET_METRICS:
+          serviceImpl.getMetrics((io.grpc.nebula.admin.v1.GetMetricsRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.nebula.admin.v1.GetMetricsResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class NebulaAdminBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    NebulaAdminBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("NebulaAdmin");
+    }
+  }
+
+  private static final class NebulaAdminFileDescriptorSupplier
+      extends NebulaAdminBaseDescriptorSupplier {
+    NebulaAdminFileDescriptorSupplier() {}
+  }
+
+  private static final class NebulaAdminMethodDescriptorSupplier
+      extends NebulaAdminBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    NebulaAdminMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (NebulaAdminGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new NebulaAdminFileDescriptorSupplier())
+              .addMethod(getGetResolversMethod())
+              .addMethod(getGetMetricsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
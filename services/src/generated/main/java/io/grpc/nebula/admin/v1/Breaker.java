@@ -0,0 +1,777 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+/**
+ * <pre>
+ * 熔断状态
+ * </pre>
+ *
+ * Protobuf type {@code nebula.admin.v1.Breaker}
+ */
+public  final class Breaker extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nebula.admin.v1.Breaker)
+    BreakerOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Breaker.newBuilder() to construct.
+  private Breaker(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Breaker() {
+    state_ = "";
+    total_ = 0L;
+    failed_ = 0L;
+    openTimeMillis_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Breaker(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            state_ = s;
+            break;
+          }
+          case 16: {
+
+            total_ = input.readInt64();
+            break;
+          }
+          case 24: {
+
+            failed_ = input.readInt64();
+            break;
+          }
+          case 32: {
+
+            openTimeMillis_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Breaker_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Breaker_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.nebula.admin.v1.Breaker.class, io.grpc.nebula.admin.v1.Breaker.Builder.class);
+  }
+
+  public static final int STATE_FIELD_NUMBER = 1;
+  private volatile java.lang.Object state_;
+  /**
+   * <pre>
+   * closed、breaker或者half-breaker
+   * </pre>
+   *
+   * <code>string state = 1;</code>
+   */
+  public java.lang.String getState() {
+    java.lang.Object ref = state_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      state_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * closed、breaker或者half-breaker
+   * </pre>
+   *
+   * <code>string state = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getStateBytes() {
+    java.lang.Object ref = state_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      state_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int TOTAL_FIELD_NUMBER = 2;
+  private long total_;
+  /**
+   * <pre>
+   * 当前统计周期内的总请求次数
+   * </pre>
+   *
+   * <code>int64 total = 2;</code>
+   */
+  public long getTotal() {
+    return total_;
+  }
+
+  public static final int FAILED_FIELD_NUMBER = 3;
+  private long failed_;
+  /**
+   * <pre>
+   * 当前统计周期内的失败次数
+   * </pre>
+   *
+   * <code>int64 failed = 3;</code>
+   */
+  public long getFailed() {
+    return failed_;
+  }
+
+  public static final int OPEN_TIME_MILLIS_FIELD_NUMBER = 4;
+  private long openTimeMillis_;
+  /**
+   * <pre>
+   * 打开熔断器的时间(毫秒时间戳)，未打开时为0
+   * </pre>
+   *
+   * <code>int64 open_time_millis = 4;</code>
+   */
+  public long getOpenTimeMillis() {
+    return openTimeMillis_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getStateBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, state_);
+    }
+    if (total_ != 0L) {
+      output.writeInt64(2, total_);
+    }
+    if (failed_ != 0L) {
+      output.writeInt64(3, failed_);
+    }
+    if (openTimeMillis_ != 0L) {
+      output.writeInt64(4, openTimeMillis_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getStateBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, state_);
+    }
+    if (total_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, total_);
+    }
+    if (failed_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, failed_);
+    }
+    if (openTimeMillis_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, openTimeMillis_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.nebula.admin.v1.Breaker)) {
+      return super.equals(obj);
+    }
+    io.grpc.nebula.admin.v1.Breaker other = (io.grpc.nebula.admin.v1.Breaker) obj;
+
+    boolean result = true;
+    result = result && getState()
+        .equals(other.getState());
+    result = result && (getTotal()
+        == other.getTotal());
+    result = result && (getFailed()
+        == other.getFailed());
+    result = result && (getOpenTimeMillis()
+        == other.getOpenTimeMillis());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + STATE_FIELD_NUMBER;
+    hash = (53 * hash) + getState().hashCode();
+    hash = (37 * hash) + TOTAL_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTotal());
+    hash = (37 * hash) + FAILED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getFailed());
+    hash = (37 * hash) + OPEN_TIME_MILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getOpenTimeMillis());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Breaker parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.nebula.admin.v1.Breaker prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * 熔断状态
+   * </pre>
+   *
+   * Protobuf type {@code nebula.admin.v1.Breaker}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nebula.admin.v1.Breaker)
+      io.grpc.nebula.admin.v1.BreakerOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Breaker_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Breaker_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.nebula.admin.v1.Breaker.class, io.grpc.nebula.admin.v1.Breaker.Builder.class);
+    }
+
+    // Construct using io.grpc.nebula.admin.v1.Breaker.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      state_ = "";
+
+      total_ = 0L;
+
+      failed_ = 0L;
+
+      openTimeMillis_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Breaker_descriptor;
+    }
+
+    public io.grpc.nebula.admin.v1.Breaker getDefaultInstanceForType() {
+      return io.grpc.nebula.admin.v1.Breaker.getDefaultInstance();
+    }
+
+    public io.grpc.nebula.admin.v1.Breaker build() {
+      io.grpc.nebula.admin.v1.Breaker result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.nebula.admin.v1.Breaker buildPartial() {
+      io.grpc.nebula.admin.v1.Breaker result = new io.grpc.nebula.admin.v1.Breaker(this);
+      result.state_ = state_;
+      result.total_ = total_;
+      result.failed_ = failed_;
+      result.openTimeMillis_ = openTimeMillis_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.nebula.admin.v1.Breaker) {
+        return mergeFrom((io.grpc.nebula.admin.v1.Breaker)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.nebula.admin.v1.Breaker other) {
+      if (other == io.grpc.nebula.admin.v1.Breaker.getDefaultInstance()) return this;
+      if (!other.getState().isEmpty()) {
+        state_ = other.state_;
+        onChanged();
+      }
+      if (other.getTotal() != 0L) {
+        setTotal(other.getTotal());
+      }
+      if (other.getFailed() != 0L) {
+        setFailed(other.getFailed());
+      }
+      if (other.getOpenTimeMillis() != 0L) {
+        setOpenTimeMillis(other.getOpenTimeMillis());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.nebula.admin.v1.Breaker parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.nebula.admin.v1.Breaker) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object state_ = "";
+    /**
+     * <pre>
+     * closed、breaker或者half-breaker
+     * </pre>
+     *
+     * <code>string state = 1;</code>
+     */
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        state_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * closed、breaker或者half-breaker
+     * </pre>
+     *
+     * <code>string state = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * closed、breaker或者half-breaker
+     * </pre>
+     *
+     * <code>string state = 1;</code>
+     */
+    public Builder setState(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      state_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * closed、breaker或者half-breaker
+     * </pre>
+     *
+     * <code>string state = 1;</code>
+     */
+    public Builder clearState() {
+      
+      state_ = getDefaultInstance().getState();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * closed、breaker或者half-breaker
+     * </pre>
+     *
+     * <code>string state = 1;</code>
+     */
+    public Builder setStateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      state_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long total_ ;
+    /**
+     * <pre>
+     * 当前统计周期内的总请求次数
+     * </pre>
+     *
+     * <code>int64 total = 2;</code>
+     */
+    public long getTotal() {
+      return total_;
+    }
+    /**
+     * <pre>
+     * 当前统计周期内的总请求次数
+     * </pre>
+     *
+     * <code>int64 total = 2;</code>
+     */
+    public Builder setTotal(long value) {
+      
+      total_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 当前统计周期内的总请求次数
+     * </pre>
+     *
+     * <code>int64 total = 2;</code>
+     */
+    public Builder clearTotal() {
+      
+      total_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long failed_ ;
+    /**
+     * <pre>
+     * 当前统计周期内的失败次数
+     * </pre>
+     *
+     * <code>int64 failed = 3;</code>
+     */
+    public long getFailed() {
+      return failed_;
+    }
+    /**
+     * <pre>
+     * 当前统计周期内的失败次数
+     * </pre>
+     *
+     * <code>int64 failed = 3;</code>
+     */
+    public Builder setFailed(long value) {
+      
+      failed_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 当前统计周期内的失败次数
+     * </pre>
+     *
+     * <code>int64 failed = 3;</code>
+     */
+    public Builder clearFailed() {
+      
+      failed_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long openTimeMillis_ ;
+    /**
+     * <pre>
+     * 打开熔断器的时间(毫秒时间戳)，未打开时为0
+     * </pre>
+     *
+     * <code>int64 open_time_millis = 4;</code>
+     */
+    public long getOpenTimeMillis() {
+      return openTimeMillis_;
+    }
+    /**
+     * <pre>
+     * 打开熔断器的时间(毫秒时间戳)，未打开时为0
+     * </pre>
+     *
+     * <code>int64 open_time_millis = 4;</code>
+     */
+    public Builder setOpenTimeMillis(long value) {
+      
+      openTimeMillis_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 打开熔断器的时间(毫秒时间戳)，未打开时为0
+     * </pre>
+     *
+     * <code>int64 open_time_millis = 4;</code>
+     */
+    public Builder clearOpenTimeMillis() {
+      
+      openTimeMillis_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nebula.admin.v1.Breaker)
+  }
+
+  // @@protoc_insertion_point(class_scope:nebula.admin.v1.Breaker)
+  private static final io.grpc.nebula.admin.v1.Breaker DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.nebula.admin.v1.Breaker();
+  }
+
+  public static io.grpc.nebula.admin.v1.Breaker getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Breaker>
+      PARSER = new com.google.protobuf.AbstractParser<Breaker>() {
+    public Breaker parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Breaker(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Breaker> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Breaker> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.nebula.admin.v1.Breaker getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
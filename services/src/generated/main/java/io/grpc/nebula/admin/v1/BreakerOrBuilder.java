@@ -0,0 +1,54 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface BreakerOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.Breaker)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * closed、breaker或者half-breaker
+   * </pre>
+   *
+   * <code>string state = 1;</code>
+   */
+  java.lang.String getState();
+  /**
+   * <pre>
+   * closed、breaker或者half-breaker
+   * </pre>
+   *
+   * <code>string state = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getStateBytes();
+
+  /**
+   * <pre>
+   * 当前统计周期内的总请求次数
+   * </pre>
+   *
+   * <code>int64 total = 2;</code>
+   */
+  long getTotal();
+
+  /**
+   * <pre>
+   * 当前统计周期内的失败次数
+   * </pre>
+   *
+   * <code>int64 failed = 3;</code>
+   */
+  long getFailed();
+
+  /**
+   * <pre>
+   * 打开熔断器的时间(毫秒时间戳)，未打开时为0
+   * </pre>
+   *
+   * <code>int64 open_time_millis = 4;</code>
+   */
+  long getOpenTimeMillis();
+}
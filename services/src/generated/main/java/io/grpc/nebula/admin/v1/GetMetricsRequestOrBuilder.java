@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface GetMetricsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.GetMetricsRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
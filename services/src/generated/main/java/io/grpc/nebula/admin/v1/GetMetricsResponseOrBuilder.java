@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface GetMetricsResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.GetMetricsResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Prometheus文本格式的调用统计
+   * </pre>
+   *
+   * <code>string text = 1;</code>
+   */
+  java.lang.String getText();
+  /**
+   * <pre>
+   * Prometheus文本格式的调用统计
+   * </pre>
+   *
+   * <code>string text = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getTextBytes();
+}
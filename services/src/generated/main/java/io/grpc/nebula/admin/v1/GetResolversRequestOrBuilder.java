@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface GetResolversRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.GetResolversRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 只返回指定服务的客户端，为空时返回所有客户端
+   * </pre>
+   *
+   * <code>string service = 1;</code>
+   */
+  java.lang.String getService();
+  /**
+   * <pre>
+   * 只返回指定服务的客户端，为空时返回所有客户端
+   * </pre>
+   *
+   * <code>string service = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getServiceBytes();
+}
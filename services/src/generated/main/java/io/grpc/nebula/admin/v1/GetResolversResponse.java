@@ -0,0 +1,734 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+/**
+ * Protobuf type {@code nebula.admin.v1.GetResolversResponse}
+ */
+public  final class GetResolversResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nebula.admin.v1.GetResolversResponse)
+    GetResolversResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use GetResolversResponse.newBuilder() to construct.
+  private GetResolversResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetResolversResponse() {
+    resolver_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private GetResolversResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              resolver_ = new java.util.ArrayList<io.grpc.nebula.admin.v1.Resolver>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            resolver_.add(
+                input.readMessage(io.grpc.nebula.admin.v1.Resolver.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        resolver_ = java.util.Collections.unmodifiableList(resolver_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_GetResolversResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_GetResolversResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.nebula.admin.v1.GetResolversResponse.class, io.grpc.nebula.admin.v1.GetResolversResponse.Builder.class);
+  }
+
+  public static final int RESOLVER_FIELD_NUMBER = 1;
+  private java.util.List<io.grpc.nebula.admin.v1.Resolver> resolver_;
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  public java.util.List<io.grpc.nebula.admin.v1.Resolver> getResolverList() {
+    return resolver_;
+  }
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  public java.util.List<? extends io.grpc.nebula.admin.v1.ResolverOrBuilder> 
+      getResolverOrBuilderList() {
+    return resolver_;
+  }
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  public int getResolverCount() {
+    return resolver_.size();
+  }
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  public io.grpc.nebula.admin.v1.Resolver getResolver(int index) {
+    return resolver_.get(index);
+  }
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  public io.grpc.nebula.admin.v1.ResolverOrBuilder getResolverOrBuilder(
+      int index) {
+    return resolver_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < resolver_.size(); i++) {
+      output.writeMessage(1, resolver_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < resolver_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, resolver_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.nebula.admin.v1.GetResolversResponse)) {
+      return super.equals(obj);
+    }
+    io.grpc.nebula.admin.v1.GetResolversResponse other = (io.grpc.nebula.admin.v1.GetResolversResponse) obj;
+
+    boolean result = true;
+    result = result && getResolverList()
+        .equals(other.getResolverList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getResolverCount() > 0) {
+      hash = (37 * hash) + RESOLVER_FIELD_NUMBER;
+      hash = (53 * hash) + getResolverList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.GetResolversResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.nebula.admin.v1.GetResolversResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code nebula.admin.v1.GetResolversResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nebula.admin.v1.GetResolversResponse)
+      io.grpc.nebula.admin.v1.GetResolversResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_GetResolversResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_GetResolversResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.nebula.admin.v1.GetResolversResponse.class, io.grpc.nebula.admin.v1.GetResolversResponse.Builder.class);
+    }
+
+    // Construct using io.grpc.nebula.admin.v1.GetResolversResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getResolverFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (resolverBuilder_ == null) {
+        resolver_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        resolverBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_GetResolversResponse_descriptor;
+    }
+
+    public io.grpc.nebula.admin.v1.GetResolversResponse getDefaultInstanceForType() {
+      return io.grpc.nebula.admin.v1.GetResolversResponse.getDefaultInstance();
+    }
+
+    public io.grpc.nebula.admin.v1.GetResolversResponse build() {
+      io.grpc.nebula.admin.v1.GetResolversResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.nebula.admin.v1.GetResolversResponse buildPartial() {
+      io.grpc.nebula.admin.v1.GetResolversResponse result = new io.grpc.nebula.admin.v1.GetResolversResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (resolverBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          resolver_ = java.util.Collections.unmodifiableList(resolver_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.resolver_ = resolver_;
+      } else {
+        result.resolver_ = resolverBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.nebula.admin.v1.GetResolversResponse) {
+        return mergeFrom((io.grpc.nebula.admin.v1.GetResolversResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.nebula.admin.v1.GetResolversResponse other) {
+      if (other == io.grpc.nebula.admin.v1.GetResolversResponse.getDefaultInstance()) return this;
+      if (resolverBuilder_ == null) {
+        if (!other.resolver_.isEmpty()) {
+          if (resolver_.isEmpty()) {
+            resolver_ = other.resolver_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureResolverIsMutable();
+            resolver_.addAll(other.resolver_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.resolver_.isEmpty()) {
+          if (resolverBuilder_.isEmpty()) {
+            resolverBuilder_.dispose();
+            resolverBuilder_ = null;
+            resolver_ = other.resolver_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            resolverBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getResolverFieldBuilder() : null;
+          } else {
+            resolverBuilder_.addAllMessages(other.resolver_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.nebula.admin.v1.GetResolversResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.nebula.admin.v1.GetResolversResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<io.grpc.nebula.admin.v1.Resolver> resolver_ =
+      java.util.Collections.emptyList();
+    private void ensureResolverIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        resolver_ = new java.util.ArrayList<io.grpc.nebula.admin.v1.Resolver>(resolver_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.nebula.admin.v1.Resolver, io.grpc.nebula.admin.v1.Resolver.Builder, io.grpc.nebula.admin.v1.ResolverOrBuilder> resolverBuilder_;
+
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public java.util.List<io.grpc.nebula.admin.v1.Resolver> getResolverList() {
+      if (resolverBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(resolver_);
+      } else {
+        return resolverBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public int getResolverCount() {
+      if (resolverBuilder_ == null) {
+        return resolver_.size();
+      } else {
+        return resolverBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public io.grpc.nebula.admin.v1.Resolver getResolver(int index) {
+      if (resolverBuilder_ == null) {
+        return resolver_.get(index);
+      } else {
+        return resolverBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder setResolver(
+        int index, io.grpc.nebula.admin.v1.Resolver value) {
+      if (resolverBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureResolverIsMutable();
+        resolver_.set(index, value);
+        onChanged();
+      } else {
+        resolverBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder setResolver(
+        int index, io.grpc.nebula.admin.v1.Resolver.Builder builderForValue) {
+      if (resolverBuilder_ == null) {
+        ensureResolverIsMutable();
+        resolver_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        resolverBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder addResolver(io.grpc.nebula.admin.v1.Resolver value) {
+      if (resolverBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureResolverIsMutable();
+        resolver_.add(value);
+        onChanged();
+      } else {
+        resolverBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder addResolver(
+        int index, io.grpc.nebula.admin.v1.Resolver value) {
+      if (resolverBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureResolverIsMutable();
+        resolver_.add(index, value);
+        onChanged();
+      } else {
+        resolverBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder addResolver(
+        io.grpc.nebula.admin.v1.Resolver.Builder builderForValue) {
+      if (resolverBuilder_ == null) {
+        ensureResolverIsMutable();
+        resolver_.add(builderForValue.build());
+        onChanged();
+      } else {
+        resolverBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder addResolver(
+        int index, io.grpc.nebula.admin.v1.Resolver.Builder builderForValue) {
+      if (resolverBuilder_ == null) {
+        ensureResolverIsMutable();
+        resolver_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        resolverBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder addAllResolver(
+        java.lang.Iterable<? extends io.grpc.nebula.admin.v1.Resolver> values) {
+      if (resolverBuilder_ == null) {
+        ensureResolverIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, resolver_);
+        onChanged();
+      } else {
+        resolverBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder clearResolver() {
+      if (resolverBuilder_ == null) {
+        resolver_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        resolverBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public Builder removeResolver(int index) {
+      if (resolverBuilder_ == null) {
+        ensureResolverIsMutable();
+        resolver_.remove(index);
+        onChanged();
+      } else {
+        resolverBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public io.grpc.nebula.admin.v1.Resolver.Builder getResolverBuilder(
+        int index) {
+      return getResolverFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public io.grpc.nebula.admin.v1.ResolverOrBuilder getResolverOrBuilder(
+        int index) {
+      if (resolverBuilder_ == null) {
+        return resolver_.get(index);  } else {
+        return resolverBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public java.util.List<? extends io.grpc.nebula.admin.v1.ResolverOrBuilder> 
+         getResolverOrBuilderList() {
+      if (resolverBuilder_ != null) {
+        return resolverBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(resolver_);
+      }
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public io.grpc.nebula.admin.v1.Resolver.Builder addResolverBuilder() {
+      return getResolverFieldBuilder().addBuilder(
+          io.grpc.nebula.admin.v1.Resolver.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public io.grpc.nebula.admin.v1.Resolver.Builder addResolverBuilder(
+        int index) {
+      return getResolverFieldBuilder().addBuilder(
+          index, io.grpc.nebula.admin.v1.Resolver.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+     */
+    public java.util.List<io.grpc.nebula.admin.v1.Resolver.Builder> 
+         getResolverBuilderList() {
+      return getResolverFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.nebula.admin.v1.Resolver, io.grpc.nebula.admin.v1.Resolver.Builder, io.grpc.nebula.admin.v1.ResolverOrBuilder> 
+        getResolverFieldBuilder() {
+      if (resolverBuilder_ == null) {
+        resolverBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.nebula.admin.v1.Resolver, io.grpc.nebula.admin.v1.Resolver.Builder, io.grpc.nebula.admin.v1.ResolverOrBuilder>(
+                resolver_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        resolver_ = null;
+      }
+      return resolverBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nebula.admin.v1.GetResolversResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:nebula.admin.v1.GetResolversResponse)
+  private static final io.grpc.nebula.admin.v1.GetResolversResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.nebula.admin.v1.GetResolversResponse();
+  }
+
+  public static io.grpc.nebula.admin.v1.GetResolversResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetResolversResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetResolversResponse>() {
+    public GetResolversResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new GetResolversResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetResolversResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetResolversResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.nebula.admin.v1.GetResolversResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
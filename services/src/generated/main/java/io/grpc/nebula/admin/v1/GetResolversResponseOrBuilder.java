@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface GetResolversResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.GetResolversResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  java.util.List<io.grpc.nebula.admin.v1.Resolver> 
+      getResolverList();
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  io.grpc.nebula.admin.v1.Resolver getResolver(int index);
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  int getResolverCount();
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  java.util.List<? extends io.grpc.nebula.admin.v1.ResolverOrBuilder> 
+      getResolverOrBuilderList();
+  /**
+   * <code>repeated .nebula.admin.v1.Resolver resolver = 1;</code>
+   */
+  io.grpc.nebula.admin.v1.ResolverOrBuilder getResolverOrBuilder(
+      int index);
+}
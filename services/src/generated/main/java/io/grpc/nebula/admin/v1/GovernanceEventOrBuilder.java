@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface GovernanceEventOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.GovernanceEvent)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 发生时间(毫秒时间戳)
+   * </pre>
+   *
+   * <code>int64 time_millis = 1;</code>
+   */
+  long getTimeMillis();
+
+  /**
+   * <code>string type = 2;</code>
+   */
+  java.lang.String getType();
+  /**
+   * <code>string type = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getTypeBytes();
+
+  /**
+   * <code>string detail = 3;</code>
+   */
+  java.lang.String getDetail();
+  /**
+   * <code>string detail = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getDetailBytes();
+}
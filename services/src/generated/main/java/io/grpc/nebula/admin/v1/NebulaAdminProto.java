@@ -0,0 +1,203 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public final class NebulaAdminProto {
+  private NebulaAdminProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_GetResolversRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_GetResolversRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_GetResolversResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_GetResolversResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_Resolver_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_Resolver_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_Resolver_LoadBalanceStrategyEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_Resolver_LoadBalanceStrategyEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_Resolver_LoadBalanceModeEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_Resolver_LoadBalanceModeEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_RequestsControl_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_RequestsControl_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_Provider_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_Provider_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_Breaker_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_Breaker_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_GovernanceEvent_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_GovernanceEvent_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_GetMetricsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_GetMetricsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_nebula_admin_v1_GetMetricsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_nebula_admin_v1_GetMetricsResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\033nebula/admin/v1/admin.proto\022\017nebula.ad" +
+      "min.v1\"&\n\023GetResolversRequest\022\017\n\007service" +
+      "\030\001 \001(\t\"C\n\024GetResolversResponse\022+\n\010resolv" +
+      "er\030\001 \003(\0132\031.nebula.admin.v1.Resolver\"\377\004\n\010" +
+      "Resolver\022\017\n\007service\030\001 \001(\t\022\023\n\013consumer_id" +
+      "\030\002 \001(\t\022\023\n\013consumer_ip\030\003 \001(\t\022\027\n\017service_v" +
+      "ersion\030\004 \001(\t\022\024\n\014invoke_group\030\005 \001(\t\022\025\n\rin" +
+      "voke_master\030\006 \001(\010\022\032\n\022registry_connected\030" +
+      "\007 \001(\010\022Q\n\025load_balance_strategy\030\010 \003(\01322.n" +
+      "ebula.admin.v1.Resolver.LoadBalanceStrat" +
+      "egyEntry\022I\n\021load_balance_mode\030\t \003(\0132..ne" +
+      "bula.admin.v1.Resolver.LoadBalanceModeEn" +
+      "try\022:\n\020requests_control\030\n \001(\0132 .nebula.a" +
+      "dmin.v1.RequestsControl\022\017\n\007routers\030\013 \001(\005" +
+      "\022\031\n\021parameter_routers\030\014 \001(\005\022+\n\010provider\030" +
+      "\r \003(\0132\031.nebula.admin.v1.Provider\022/\n\005even" +
+      "t\030\016 \003(\0132 .nebula.admin.v1.GovernanceEven" +
+      "t\032:\n\030LoadBalanceStrategyEntry\022\013\n\003key\030\001 \001" +
+      "(\t\022\r\n\005value\030\002 \001(\t:\0028\001\0326\n\024LoadBalanceMode" +
+      "Entry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"<\n" +
+      "\017RequestsControl\022\026\n\016max_per_second\030\001 \001(\003" +
+      "\022\021\n\tremaining\030\002 \001(\003\"\377\001\n\010Provider\022\017\n\007addr" +
+      "ess\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\r\n\005group\030\003 \001(" +
+      "\t\022\016\n\006master\030\004 \001(\010\022\016\n\006weight\030\005 \001(\005\022\014\n\004zon" +
+      "e\030\006 \001(\t\022\022\n\ndeprecated\030\007 \001(\010\022\016\n\006routed\030\010 " +
+      "\001(\010\022\022\n\nselectable\030\t \001(\010\022\023\n\013group_valid\030\n" +
+      " \001(\010\022)\n\007breaker\030\013 \001(\0132\030.nebula.admin.v1." +
+      "Breaker\022\034\n\024consecutive_failures\030\014 \001(\005\"Q\n" +
+      "\007Breaker\022\r\n\005state\030\001 \001(\t\022\r\n\005total\030\002 \001(\003\022\016" +
+      "\n\006failed\030\003 \001(\003\022\030\n\020open_time_millis\030\004 \001(\003" +
+      "\"D\n\017GovernanceEvent\022\023\n\013time_millis\030\001 \001(\003" +
+      "\022\014\n\004type\030\002 \001(\t\022\016\n\006detail\030\003 \001(\t\"\023\n\021GetMet" +
+      "ricsRequest\"\"\n\022GetMetricsResponse\022\014\n\004tex" +
+      "t\030\001 \001(\t2\301\001\n\013NebulaAdmin\022[\n\014GetResolvers\022" +
+      "$.nebula.admin.v1.GetResolversRequest\032%." +
+      "nebula.admin.v1.GetResolversResponse\022U\n\n" +
+      "GetMetrics\022\".nebula.admin.v1.GetMetricsR" +
+      "equest\032#.nebula.admin.v1.GetMetricsRespo" +
+      "nseB-\n\027io.grpc.nebula.admin.v1B\020NebulaAd" +
+      "minProtoP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_nebula_admin_v1_GetResolversRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_nebula_admin_v1_GetResolversRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_GetResolversRequest_descriptor,
+        new java.lang.String[] { "Service", });
+    internal_static_nebula_admin_v1_GetResolversResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_nebula_admin_v1_GetResolversResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_GetResolversResponse_descriptor,
+        new java.lang.String[] { "Resolver", });
+    internal_static_nebula_admin_v1_Resolver_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_nebula_admin_v1_Resolver_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_Resolver_descriptor,
+        new java.lang.String[] { "Service", "ConsumerId", "ConsumerIp", "ServiceVersion", "InvokeGroup", "InvokeMaster", "RegistryConnected", "LoadBalanceStrategy", "LoadBalanceMode", "RequestsControl", "Routers", "ParameterRouters", "Provider", "Event", });
+    internal_static_nebula_admin_v1_Resolver_LoadBalanceStrategyEntry_descriptor =
+      internal_static_nebula_admin_v1_Resolver_descriptor.getNestedTypes().get(0);
+    internal_static_nebula_admin_v1_Resolver_LoadBalanceStrategyEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_Resolver_LoadBalanceStrategyEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_nebula_admin_v1_Resolver_LoadBalanceModeEntry_descriptor =
+      internal_static_nebula_admin_v1_Resolver_descriptor.getNestedTypes().get(1);
+    internal_static_nebula_admin_v1_Resolver_LoadBalanceModeEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_Resolver_LoadBalanceModeEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_nebula_admin_v1_RequestsControl_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_nebula_admin_v1_RequestsControl_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_RequestsControl_descriptor,
+        new java.lang.String[] { "MaxPerSecond", "Remaining", });
+    internal_static_nebula_admin_v1_Provider_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_nebula_admin_v1_Provider_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_Provider_descriptor,
+        new java.lang.String[] { "Address", "Version", "Group", "Master", "Weight", "Zone", "Deprecated", "Routed", "Selectable", "GroupValid", "Breaker", "ConsecutiveFailures", });
+    internal_static_nebula_admin_v1_Breaker_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_nebula_admin_v1_Breaker_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_Breaker_descriptor,
+        new java.lang.String[] { "State", "Total", "Failed", "OpenTimeMillis", });
+    internal_static_nebula_admin_v1_GovernanceEvent_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_nebula_admin_v1_GovernanceEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_GovernanceEvent_descriptor,
+        new java.lang.String[] { "TimeMillis", "Type", "Detail", });
+    internal_static_nebula_admin_v1_GetMetricsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_nebula_admin_v1_GetMetricsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_GetMetricsRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_nebula_admin_v1_GetMetricsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_nebula_admin_v1_GetMetricsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_nebula_admin_v1_GetMetricsResponse_descriptor,
+        new java.lang.String[] { "Text", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
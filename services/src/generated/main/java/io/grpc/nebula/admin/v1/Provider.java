@@ -0,0 +1,1573 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+/**
+ * <pre>
+ * 一个服务提供者的状态
+ * </pre>
+ *
+ * Protobuf type {@code nebula.admin.v1.Provider}
+ */
+public  final class Provider extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nebula.admin.v1.Provider)
+    ProviderOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Provider.newBuilder() to construct.
+  private Provider(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Provider() {
+    address_ = "";
+    version_ = "";
+    group_ = "";
+    master_ = false;
+    weight_ = 0;
+    zone_ = "";
+    deprecated_ = false;
+    routed_ = false;
+    selectable_ = false;
+    groupValid_ = false;
+    consecutiveFailures_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Provider(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            address_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            version_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            group_ = s;
+            break;
+          }
+          case 32: {
+
+            master_ = input.readBool();
+            break;
+          }
+          case 40: {
+
+            weight_ = input.readInt32();
+            break;
+          }
+          case 50: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            zone_ = s;
+            break;
+          }
+          case 56: {
+
+            deprecated_ = input.readBool();
+            break;
+          }
+          case 64: {
+
+            routed_ = input.readBool();
+            break;
+          }
+          case 72: {
+
+            selectable_ = input.readBool();
+            break;
+          }
+          case 80: {
+
+            groupValid_ = input.readBool();
+            break;
+          }
+          case 90: {
+            io.grpc.nebula.admin.v1.Breaker.Builder subBuilder = null;
+            if (breaker_ != null) {
+              subBuilder = breaker_.toBuilder();
+            }
+            breaker_ = input.readMessage(io.grpc.nebula.admin.v1.Breaker.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(breaker_);
+              breaker_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 96: {
+
+            consecutiveFailures_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Provider_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Provider_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.nebula.admin.v1.Provider.class, io.grpc.nebula.admin.v1.Provider.Builder.class);
+  }
+
+  public static final int ADDRESS_FIELD_NUMBER = 1;
+  private volatile java.lang.Object address_;
+  /**
+   * <pre>
+   * IP:port
+   * </pre>
+   *
+   * <code>string address = 1;</code>
+   */
+  public java.lang.String getAddress() {
+    java.lang.Object ref = address_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      address_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * IP:port
+   * </pre>
+   *
+   * <code>string address = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getAddressBytes() {
+    java.lang.Object ref = address_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      address_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 2;
+  private volatile java.lang.Object version_;
+  /**
+   * <code>string version = 2;</code>
+   */
+  public java.lang.String getVersion() {
+    java.lang.Object ref = version_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      version_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string version = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getVersionBytes() {
+    java.lang.Object ref = version_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      version_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int GROUP_FIELD_NUMBER = 3;
+  private volatile java.lang.Object group_;
+  /**
+   * <code>string group = 3;</code>
+   */
+  public java.lang.String getGroup() {
+    java.lang.Object ref = group_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      group_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string group = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getGroupBytes() {
+    java.lang.Object ref = group_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      group_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int MASTER_FIELD_NUMBER = 4;
+  private boolean master_;
+  /**
+   * <code>bool master = 4;</code>
+   */
+  public boolean getMaster() {
+    return master_;
+  }
+
+  public static final int WEIGHT_FIELD_NUMBER = 5;
+  private int weight_;
+  /**
+   * <code>int32 weight = 5;</code>
+   */
+  public int getWeight() {
+    return weight_;
+  }
+
+  public static final int ZONE_FIELD_NUMBER = 6;
+  private volatile java.lang.Object zone_;
+  /**
+   * <code>string zone = 6;</code>
+   */
+  public java.lang.String getZone() {
+    java.lang.Object ref = zone_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      zone_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string zone = 6;</code>
+   */
+  public com.google.protobuf.ByteString
+      getZoneBytes() {
+    java.lang.Object ref = zone_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      zone_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DEPRECATED_FIELD_NUMBER = 7;
+  private boolean deprecated_;
+  /**
+   * <code>bool deprecated = 7;</code>
+   */
+  public boolean getDeprecated() {
+    return deprecated_;
+  }
+
+  public static final int ROUTED_FIELD_NUMBER = 8;
+  private boolean routed_;
+  /**
+   * <pre>
+   * 经过版本、分组、主备、黑白名单筛选后仍然保留
+   * </pre>
+   *
+   * <code>bool routed = 8;</code>
+   */
+  public boolean getRouted() {
+    return routed_;
+  }
+
+  public static final int SELECTABLE_FIELD_NUMBER = 9;
+  private boolean selectable_;
+  /**
+   * <pre>
+   * 在负载均衡的备选列表中(未被熔断、连续出错切换删除)
+   * </pre>
+   *
+   * <code>bool selectable = 9;</code>
+   */
+  public boolean getSelectable() {
+    return selectable_;
+  }
+
+  public static final int GROUP_VALID_FIELD_NUMBER = 10;
+  private boolean groupValid_;
+  /**
+   * <code>bool group_valid = 10;</code>
+   */
+  public boolean getGroupValid() {
+    return groupValid_;
+  }
+
+  public static final int BREAKER_FIELD_NUMBER = 11;
+  private io.grpc.nebula.admin.v1.Breaker breaker_;
+  /**
+   * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+   */
+  public boolean hasBreaker() {
+    return breaker_ != null;
+  }
+  /**
+   * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+   */
+  public io.grpc.nebula.admin.v1.Breaker getBreaker() {
+    return breaker_ == null ? io.grpc.nebula.admin.v1.Breaker.getDefaultInstance() : breaker_;
+  }
+  /**
+   * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+   */
+  public io.grpc.nebula.admin.v1.BreakerOrBuilder getBreakerOrBuilder() {
+    return getBreaker();
+  }
+
+  public static final int CONSECUTIVE_FAILURES_FIELD_NUMBER = 12;
+  private int consecutiveFailures_;
+  /**
+   * <pre>
+   * 连续出错次数
+   * </pre>
+   *
+   * <code>int32 consecutive_failures = 12;</code>
+   */
+  public int getConsecutiveFailures() {
+    return consecutiveFailures_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getAddressBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, address_);
+    }
+    if (!getVersionBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, version_);
+    }
+    if (!getGroupBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, group_);
+    }
+    if (master_ != false) {
+      output.writeBool(4, master_);
+    }
+    if (weight_ != 0) {
+      output.writeInt32(5, weight_);
+    }
+    if (!getZoneBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, zone_);
+    }
+    if (deprecated_ != false) {
+      output.writeBool(7, deprecated_);
+    }
+    if (routed_ != false) {
+      output.writeBool(8, routed_);
+    }
+    if (selectable_ != false) {
+      output.writeBool(9, selectable_);
+    }
+    if (groupValid_ != false) {
+      output.writeBool(10, groupValid_);
+    }
+    if (breaker_ != null) {
+      output.writeMessage(11, getBreaker());
+    }
+    if (consecutiveFailures_ != 0) {
+      output.writeInt32(12, consecutiveFailures_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getAddressBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, address_);
+    }
+    if (!getVersionBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, version_);
+    }
+    if (!getGroupBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, group_);
+    }
+    if (master_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(4, master_);
+    }
+    if (weight_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(5, weight_);
+    }
+    if (!getZoneBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, zone_);
+    }
+    if (deprecated_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(7, deprecated_);
+    }
+    if (routed_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(8, routed_);
+    }
+    if (selectable_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(9, selectable_);
+    }
+    if (groupValid_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(10, groupValid_);
+    }
+    if (breaker_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(11, getBreaker());
+    }
+    if (consecutiveFailures_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(12, consecutiveFailures_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.nebula.admin.v1.Provider)) {
+      return super.equals(obj);
+    }
+    io.grpc.nebula.admin.v1.Provider other = (io.grpc.nebula.admin.v1.Provider) obj;
+
+    boolean result = true;
+    result = result && getAddress()
+        .equals(other.getAddress());
+    result = result && getVersion()
+        .equals(other.getVersion());
+    result = result && getGroup()
+        .equals(other.getGroup());
+    result = result && (getMaster()
+        == other.getMaster());
+    result = result && (getWeight()
+        == other.getWeight());
+    result = result && getZone()
+        .equals(other.getZone());
+    result = result && (getDeprecated()
+        == other.getDeprecated());
+    result = result && (getRouted()
+        == other.getRouted());
+    result = result && (getSelectable()
+        == other.getSelectable());
+    result = result && (getGroupValid()
+        == other.getGroupValid());
+    result = result && (hasBreaker() == other.hasBreaker());
+    if (hasBreaker()) {
+      result = result && getBreaker()
+          .equals(other.getBreaker());
+    }
+    result = result && (getConsecutiveFailures()
+        == other.getConsecutiveFailures());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+    hash = (53 * hash) + getAddress().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getVersion().hashCode();
+    hash = (37 * hash) + GROUP_FIELD_NUMBER;
+    hash = (53 * hash) + getGroup().hashCode();
+    hash = (37 * hash) + MASTER_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getMaster());
+    hash = (37 * hash) + WEIGHT_FIELD_NUMBER;
+    hash = (53 * hash) + getWeight();
+    hash = (37 * hash) + ZONE_FIELD_NUMBER;
+    hash = (53 * hash) + getZone().hashCode();
+    hash = (37 * hash) + DEPRECATED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getDeprecated());
+    hash = (37 * hash) + ROUTED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getRouted());
+    hash = (37 * hash) + SELECTABLE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getSelectable());
+    hash = (37 * hash) + GROUP_VALID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getGroupValid());
+    if (hasBreaker()) {
+      hash = (37 * hash) + BREAKER_FIELD_NUMBER;
+      hash = (53 * hash) + getBreaker().hashCode();
+    }
+    hash = (37 * hash) + CONSECUTIVE_FAILURES_FIELD_NUMBER;
+    hash = (53 * hash) + getConsecutiveFailures();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Provider parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.nebula.admin.v1.Provider prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * 一个服务提供者的状态
+   * </pre>
+   *
+   * Protobuf type {@code nebula.admin.v1.Provider}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nebula.admin.v1.Provider)
+      io.grpc.nebula.admin.v1.ProviderOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Provider_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Provider_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.nebula.admin.v1.Provider.class, io.grpc.nebula.admin.v1.Provider.Builder.class);
+    }
+
+    // Construct using io.grpc.nebula.admin.v1.Provider.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      address_ = "";
+
+      version_ = "";
+
+      group_ = "";
+
+      master_ = false;
+
+      weight_ = 0;
+
+      zone_ = "";
+
+      deprecated_ = false;
+
+      routed_ = false;
+
+      selectable_ = false;
+
+      groupValid_ = false;
+
+      if (breakerBuilder_ == null) {
+        breaker_ = null;
+      } else {
+        breaker_ = null;
+        breakerBuilder_ = null;
+      }
+      consecutiveFailures_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Provider_descriptor;
+    }
+
+    public io.grpc.nebula.admin.v1.Provider getDefaultInstanceForType() {
+      return io.grpc.nebula.admin.v1.Provider.getDefaultInstance();
+    }
+
+    public io.grpc.nebula.admin.v1.Provider build() {
+      io.grpc.nebula.admin.v1.Provider result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.nebula.admin.v1.Provider buildPartial() {
+      io.grpc.nebula.admin.v1.Provider result = new io.grpc.nebula.admin.v1.Provider(this);
+      result.address_ = address_;
+      result.version_ = version_;
+      result.group_ = group_;
+      result.master_ = master_;
+      result.weight_ = weight_;
+      result.zone_ = zone_;
+      result.deprecated_ = deprecated_;
+      result.routed_ = routed_;
+      result.selectable_ = selectable_;
+      result.groupValid_ = groupValid_;
+      if (breakerBuilder_ == null) {
+        result.breaker_ = breaker_;
+      } else {
+        result.breaker_ = breakerBuilder_.build();
+      }
+      result.consecutiveFailures_ = consecutiveFailures_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.nebula.admin.v1.Provider) {
+        return mergeFrom((io.grpc.nebula.admin.v1.Provider)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.nebula.admin.v1.Provider other) {
+      if (other == io.grpc.nebula.admin.v1.Provider.getDefaultInstance()) return this;
+      if (!other.getAddress().isEmpty()) {
+        address_ = other.address_;
+        onChanged();
+      }
+      if (!other.getVersion().isEmpty()) {
+        version_ = other.version_;
+        onChanged();
+      }
+      if (!other.getGroup().isEmpty()) {
+        group_ = other.group_;
+        onChanged();
+      }
+      if (other.getMaster() != false) {
+        setMaster(other.getMaster());
+      }
+      if (other.getWeight() != 0) {
+        setWeight(other.getWeight());
+      }
+      if (!other.getZone().isEmpty()) {
+        zone_ = other.zone_;
+        onChanged();
+      }
+      if (other.getDeprecated() != false) {
+        setDeprecated(other.getDeprecated());
+      }
+      if (other.getRouted() != false) {
+        setRouted(other.getRouted());
+      }
+      if (other.getSelectable() != false) {
+        setSelectable(other.getSelectable());
+      }
+      if (other.getGroupValid() != false) {
+        setGroupValid(other.getGroupValid());
+      }
+      if (other.hasBreaker()) {
+        mergeBreaker(other.getBreaker());
+      }
+      if (other.getConsecutiveFailures() != 0) {
+        setConsecutiveFailures(other.getConsecutiveFailures());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.nebula.admin.v1.Provider parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.nebula.admin.v1.Provider) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object address_ = "";
+    /**
+     * <pre>
+     * IP:port
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * IP:port
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * IP:port
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public Builder setAddress(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      address_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * IP:port
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public Builder clearAddress() {
+      
+      address_ = getDefaultInstance().getAddress();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * IP:port
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public Builder setAddressBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      address_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object version_ = "";
+    /**
+     * <code>string version = 2;</code>
+     */
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string version = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string version = 2;</code>
+     */
+    public Builder setVersion(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string version = 2;</code>
+     */
+    public Builder clearVersion() {
+      
+      version_ = getDefaultInstance().getVersion();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string version = 2;</code>
+     */
+    public Builder setVersionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object group_ = "";
+    /**
+     * <code>string group = 3;</code>
+     */
+    public java.lang.String getGroup() {
+      java.lang.Object ref = group_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        group_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string group = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getGroupBytes() {
+      java.lang.Object ref = group_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        group_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string group = 3;</code>
+     */
+    public Builder setGroup(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      group_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string group = 3;</code>
+     */
+    public Builder clearGroup() {
+      
+      group_ = getDefaultInstance().getGroup();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string group = 3;</code>
+     */
+    public Builder setGroupBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      group_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean master_ ;
+    /**
+     * <code>bool master = 4;</code>
+     */
+    public boolean getMaster() {
+      return master_;
+    }
+    /**
+     * <code>bool master = 4;</code>
+     */
+    public Builder setMaster(boolean value) {
+      
+      master_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool master = 4;</code>
+     */
+    public Builder clearMaster() {
+      
+      master_ = false;
+      onChanged();
+      return this;
+    }
+
+    private int weight_ ;
+    /**
+     * <code>int32 weight = 5;</code>
+     */
+    public int getWeight() {
+      return weight_;
+    }
+    /**
+     * <code>int32 weight = 5;</code>
+     */
+    public Builder setWeight(int value) {
+      
+      weight_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 weight = 5;</code>
+     */
+    public Builder clearWeight() {
+      
+      weight_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object zone_ = "";
+    /**
+     * <code>string zone = 6;</code>
+     */
+    public java.lang.String getZone() {
+      java.lang.Object ref = zone_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        zone_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string zone = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getZoneBytes() {
+      java.lang.Object ref = zone_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        zone_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string zone = 6;</code>
+     */
+    public Builder setZone(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      zone_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string zone = 6;</code>
+     */
+    public Builder clearZone() {
+      
+      zone_ = getDefaultInstance().getZone();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string zone = 6;</code>
+     */
+    public Builder setZoneBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      zone_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean deprecated_ ;
+    /**
+     * <code>bool deprecated = 7;</code>
+     */
+    public boolean getDeprecated() {
+      return deprecated_;
+    }
+    /**
+     * <code>bool deprecated = 7;</code>
+     */
+    public Builder setDeprecated(boolean value) {
+      
+      deprecated_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool deprecated = 7;</code>
+     */
+    public Builder clearDeprecated() {
+      
+      deprecated_ = false;
+      onChanged();
+      return this;
+    }
+
+    private boolean routed_ ;
+    /**
+     * <pre>
+     * 经过版本、分组、主备、黑白名单筛选后仍然保留
+     * </pre>
+     *
+     * <code>bool routed = 8;</code>
+     */
+    public boolean getRouted() {
+      return routed_;
+    }
+    /**
+     * <pre>
+     * 经过版本、分组、主备、黑白名单筛选后仍然保留
+     * </pre>
+     *
+     * <code>bool routed = 8;</code>
+     */
+    public Builder setRouted(boolean value) {
+      
+      routed_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 经过版本、分组、主备、黑白名单筛选后仍然保留
+     * </pre>
+     *
+     * <code>bool routed = 8;</code>
+     */
+    public Builder clearRouted() {
+      
+      routed_ = false;
+      onChanged();
+      return this;
+    }
+
+    private boolean selectable_ ;
+    /**
+     * <pre>
+     * 在负载均衡的备选列表中(未被熔断、连续出错切换删除)
+     * </pre>
+     *
+     * <code>bool selectable = 9;</code>
+     */
+    public boolean getSelectable() {
+      return selectable_;
+    }
+    /**
+     * <pre>
+     * 在负载均衡的备选列表中(未被熔断、连续出错切换删除)
+     * </pre>
+     *
+     * <code>bool selectable = 9;</code>
+     */
+    public Builder setSelectable(boolean value) {
+      
+      selectable_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 在负载均衡的备选列表中(未被熔断、连续出错切换删除)
+     * </pre>
+     *
+     * <code>bool selectable = 9;</code>
+     */
+    public Builder clearSelectable() {
+      
+      selectable_ = false;
+      onChanged();
+      return this;
+    }
+
+    private boolean groupValid_ ;
+    /**
+     * <code>bool group_valid = 10;</code>
+     */
+    public boolean getGroupValid() {
+      return groupValid_;
+    }
+    /**
+     * <code>bool group_valid = 10;</code>
+     */
+    public Builder setGroupValid(boolean value) {
+      
+      groupValid_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool group_valid = 10;</code>
+     */
+    public Builder clearGroupValid() {
+      
+      groupValid_ = false;
+      onChanged();
+      return this;
+    }
+
+    private io.grpc.nebula.admin.v1.Breaker breaker_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.nebula.admin.v1.Breaker, io.grpc.nebula.admin.v1.Breaker.Builder, io.grpc.nebula.admin.v1.BreakerOrBuilder> breakerBuilder_;
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public boolean hasBreaker() {
+      return breakerBuilder_ != null || breaker_ != null;
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public io.grpc.nebula.admin.v1.Breaker getBreaker() {
+      if (breakerBuilder_ == null) {
+        return breaker_ == null ? io.grpc.nebula.admin.v1.Breaker.getDefaultInstance() : breaker_;
+      } else {
+        return breakerBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public Builder setBreaker(io.grpc.nebula.admin.v1.Breaker value) {
+      if (breakerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        breaker_ = value;
+        onChanged();
+      } else {
+        breakerBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public Builder setBreaker(
+        io.grpc.nebula.admin.v1.Breaker.Builder builderForValue) {
+      if (breakerBuilder_ == null) {
+        breaker_ = builderForValue.build();
+        onChanged();
+      } else {
+        breakerBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public Builder mergeBreaker(io.grpc.nebula.admin.v1.Breaker value) {
+      if (breakerBuilder_ == null) {
+        if (breaker_ != null) {
+          breaker_ =
+            io.grpc.nebula.admin.v1.Breaker.newBuilder(breaker_).mergeFrom(value).buildPartial();
+        } else {
+          breaker_ = value;
+        }
+        onChanged();
+      } else {
+        breakerBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public Builder clearBreaker() {
+      if (breakerBuilder_ == null) {
+        breaker_ = null;
+        onChanged();
+      } else {
+        breaker_ = null;
+        breakerBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public io.grpc.nebula.admin.v1.Breaker.Builder getBreakerBuilder() {
+      
+      onChanged();
+      return getBreakerFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    public io.grpc.nebula.admin.v1.BreakerOrBuilder getBreakerOrBuilder() {
+      if (breakerBuilder_ != null) {
+        return breakerBuilder_.getMessageOrBuilder();
+      } else {
+        return breaker_ == null ?
+            io.grpc.nebula.admin.v1.Breaker.getDefaultInstance() : breaker_;
+      }
+    }
+    /**
+     * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.nebula.admin.v1.Breaker, io.grpc.nebula.admin.v1.Breaker.Builder, io.grpc.nebula.admin.v1.BreakerOrBuilder> 
+        getBreakerFieldBuilder() {
+      if (breakerBuilder_ == null) {
+        breakerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            io.grpc.nebula.admin.v1.Breaker, io.grpc.nebula.admin.v1.Breaker.Builder, io.grpc.nebula.admin.v1.BreakerOrBuilder>(
+                getBreaker(),
+                getParentForChildren(),
+                isClean());
+        breaker_ = null;
+      }
+      return breakerBuilder_;
+    }
+
+    private int consecutiveFailures_ ;
+    /**
+     * <pre>
+     * 连续出错次数
+     * </pre>
+     *
+     * <code>int32 consecutive_failures = 12;</code>
+     */
+    public int getConsecutiveFailures() {
+      return consecutiveFailures_;
+    }
+    /**
+     * <pre>
+     * 连续出错次数
+     * </pre>
+     *
+     * <code>int32 consecutive_failures = 12;</code>
+     */
+    public Builder setConsecutiveFailures(int value) {
+      
+      consecutiveFailures_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 连续出错次数
+     * </pre>
+     *
+     * <code>int32 consecutive_failures = 12;</code>
+     */
+    public Builder clearConsecutiveFailures() {
+      
+      consecutiveFailures_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nebula.admin.v1.Provider)
+  }
+
+  // @@protoc_insertion_point(class_scope:nebula.admin.v1.Provider)
+  private static final io.grpc.nebula.admin.v1.Provider DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.nebula.admin.v1.Provider();
+  }
+
+  public static io.grpc.nebula.admin.v1.Provider getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Provider>
+      PARSER = new com.google.protobuf.AbstractParser<Provider>() {
+    public Provider parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Provider(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Provider> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Provider> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.nebula.admin.v1.Provider getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,117 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface ProviderOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.Provider)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * IP:port
+   * </pre>
+   *
+   * <code>string address = 1;</code>
+   */
+  java.lang.String getAddress();
+  /**
+   * <pre>
+   * IP:port
+   * </pre>
+   *
+   * <code>string address = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getAddressBytes();
+
+  /**
+   * <code>string version = 2;</code>
+   */
+  java.lang.String getVersion();
+  /**
+   * <code>string version = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getVersionBytes();
+
+  /**
+   * <code>string group = 3;</code>
+   */
+  java.lang.String getGroup();
+  /**
+   * <code>string group = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getGroupBytes();
+
+  /**
+   * <code>bool master = 4;</code>
+   */
+  boolean getMaster();
+
+  /**
+   * <code>int32 weight = 5;</code>
+   */
+  int getWeight();
+
+  /**
+   * <code>string zone = 6;</code>
+   */
+  java.lang.String getZone();
+  /**
+   * <code>string zone = 6;</code>
+   */
+  com.google.protobuf.ByteString
+      getZoneBytes();
+
+  /**
+   * <code>bool deprecated = 7;</code>
+   */
+  boolean getDeprecated();
+
+  /**
+   * <pre>
+   * 经过版本、分组、主备、黑白名单筛选后仍然保留
+   * </pre>
+   *
+   * <code>bool routed = 8;</code>
+   */
+  boolean getRouted();
+
+  /**
+   * <pre>
+   * 在负载均衡的备选列表中(未被熔断、连续出错切换删除)
+   * </pre>
+   *
+   * <code>bool selectable = 9;</code>
+   */
+  boolean getSelectable();
+
+  /**
+   * <code>bool group_valid = 10;</code>
+   */
+  boolean getGroupValid();
+
+  /**
+   * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+   */
+  boolean hasBreaker();
+  /**
+   * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+   */
+  io.grpc.nebula.admin.v1.Breaker getBreaker();
+  /**
+   * <code>.nebula.admin.v1.Breaker breaker = 11;</code>
+   */
+  io.grpc.nebula.admin.v1.BreakerOrBuilder getBreakerOrBuilder();
+
+  /**
+   * <pre>
+   * 连续出错次数
+   * </pre>
+   *
+   * <code>int32 consecutive_failures = 12;</code>
+   */
+  int getConsecutiveFailures();
+}
@@ -0,0 +1,547 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+/**
+ * <pre>
+ * 客户端流控
+ * </pre>
+ *
+ * Protobuf type {@code nebula.admin.v1.RequestsControl}
+ */
+public  final class RequestsControl extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nebula.admin.v1.RequestsControl)
+    RequestsControlOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RequestsControl.newBuilder() to construct.
+  private RequestsControl(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RequestsControl() {
+    maxPerSecond_ = 0L;
+    remaining_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RequestsControl(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            maxPerSecond_ = input.readInt64();
+            break;
+          }
+          case 16: {
+
+            remaining_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_RequestsControl_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_RequestsControl_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.nebula.admin.v1.RequestsControl.class, io.grpc.nebula.admin.v1.RequestsControl.Builder.class);
+  }
+
+  public static final int MAX_PER_SECOND_FIELD_NUMBER = 1;
+  private long maxPerSecond_;
+  /**
+   * <pre>
+   * 每秒最大请求数
+   * </pre>
+   *
+   * <code>int64 max_per_second = 1;</code>
+   */
+  public long getMaxPerSecond() {
+    return maxPerSecond_;
+  }
+
+  public static final int REMAINING_FIELD_NUMBER = 2;
+  private long remaining_;
+  /**
+   * <pre>
+   * 当前统计周期内剩余的请求数
+   * </pre>
+   *
+   * <code>int64 remaining = 2;</code>
+   */
+  public long getRemaining() {
+    return remaining_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (maxPerSecond_ != 0L) {
+      output.writeInt64(1, maxPerSecond_);
+    }
+    if (remaining_ != 0L) {
+      output.writeInt64(2, remaining_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (maxPerSecond_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, maxPerSecond_);
+    }
+    if (remaining_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, remaining_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.nebula.admin.v1.RequestsControl)) {
+      return super.equals(obj);
+    }
+    io.grpc.nebula.admin.v1.RequestsControl other = (io.grpc.nebula.admin.v1.RequestsControl) obj;
+
+    boolean result = true;
+    result = result && (getMaxPerSecond()
+        == other.getMaxPerSecond());
+    result = result && (getRemaining()
+        == other.getRemaining());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + MAX_PER_SECOND_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getMaxPerSecond());
+    hash = (37 * hash) + REMAINING_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRemaining());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.RequestsControl parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.nebula.admin.v1.RequestsControl prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * 客户端流控
+   * </pre>
+   *
+   * Protobuf type {@code nebula.admin.v1.RequestsControl}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nebula.admin.v1.RequestsControl)
+      io.grpc.nebula.admin.v1.RequestsControlOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_RequestsControl_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_RequestsControl_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.nebula.admin.v1.RequestsControl.class, io.grpc.nebula.admin.v1.RequestsControl.Builder.class);
+    }
+
+    // Construct using io.grpc.nebula.admin.v1.RequestsControl.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      maxPerSecond_ = 0L;
+
+      remaining_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_RequestsControl_descriptor;
+    }
+
+    public io.grpc.nebula.admin.v1.RequestsControl getDefaultInstanceForType() {
+      return io.grpc.nebula.admin.v1.RequestsControl.getDefaultInstance();
+    }
+
+    public io.grpc.nebula.admin.v1.RequestsControl build() {
+      io.grpc.nebula.admin.v1.RequestsControl result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.nebula.admin.v1.RequestsControl buildPartial() {
+      io.grpc.nebula.admin.v1.RequestsControl result = new io.grpc.nebula.admin.v1.RequestsControl(this);
+      result.maxPerSecond_ = maxPerSecond_;
+      result.remaining_ = remaining_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.nebula.admin.v1.RequestsControl) {
+        return mergeFrom((io.grpc.nebula.admin.v1.RequestsControl)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.nebula.admin.v1.RequestsControl other) {
+      if (other == io.grpc.nebula.admin.v1.RequestsControl.getDefaultInstance()) return this;
+      if (other.getMaxPerSecond() != 0L) {
+        setMaxPerSecond(other.getMaxPerSecond());
+      }
+      if (other.getRemaining() != 0L) {
+        setRemaining(other.getRemaining());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.nebula.admin.v1.RequestsControl parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.nebula.admin.v1.RequestsControl) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long maxPerSecond_ ;
+    /**
+     * <pre>
+     * 每秒最大请求数
+     * </pre>
+     *
+     * <code>int64 max_per_second = 1;</code>
+     */
+    public long getMaxPerSecond() {
+      return maxPerSecond_;
+    }
+    /**
+     * <pre>
+     * 每秒最大请求数
+     * </pre>
+     *
+     * <code>int64 max_per_second = 1;</code>
+     */
+    public Builder setMaxPerSecond(long value) {
+      
+      maxPerSecond_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 每秒最大请求数
+     * </pre>
+     *
+     * <code>int64 max_per_second = 1;</code>
+     */
+    public Builder clearMaxPerSecond() {
+      
+      maxPerSecond_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long remaining_ ;
+    /**
+     * <pre>
+     * 当前统计周期内剩余的请求数
+     * </pre>
+     *
+     * <code>int64 remaining = 2;</code>
+     */
+    public long getRemaining() {
+      return remaining_;
+    }
+    /**
+     * <pre>
+     * 当前统计周期内剩余的请求数
+     * </pre>
+     *
+     * <code>int64 remaining = 2;</code>
+     */
+    public Builder setRemaining(long value) {
+      
+      remaining_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 当前统计周期内剩余的请求数
+     * </pre>
+     *
+     * <code>int64 remaining = 2;</code>
+     */
+    public Builder clearRemaining() {
+      
+      remaining_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nebula.admin.v1.RequestsControl)
+  }
+
+  // @@protoc_insertion_point(class_scope:nebula.admin.v1.RequestsControl)
+  private static final io.grpc.nebula.admin.v1.RequestsControl DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.nebula.admin.v1.RequestsControl();
+  }
+
+  public static io.grpc.nebula.admin.v1.RequestsControl getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RequestsControl>
+      PARSER = new com.google.protobuf.AbstractParser<RequestsControl>() {
+    public RequestsControl parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RequestsControl(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RequestsControl> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RequestsControl> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.nebula.admin.v1.RequestsControl getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface RequestsControlOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.RequestsControl)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 每秒最大请求数
+   * </pre>
+   *
+   * <code>int64 max_per_second = 1;</code>
+   */
+  long getMaxPerSecond();
+
+  /**
+   * <pre>
+   * 当前统计周期内剩余的请求数
+   * </pre>
+   *
+   * <code>int64 remaining = 2;</code>
+   */
+  long getRemaining();
+}
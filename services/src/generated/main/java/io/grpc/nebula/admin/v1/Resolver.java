@@ -0,0 +1,3103 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+/**
+ * <pre>
+ * 一个客户端(服务)的服务治理状态
+ * </pre>
+ *
+ * Protobuf type {@code nebula.admin.v1.Resolver}
+ */
+public  final class Resolver extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:nebula.admin.v1.Resolver)
+    ResolverOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Resolver.newBuilder() to construct.
+  private Resolver(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Resolver() {
+    service_ = "";
+    consumerId_ = "";
+    consumerIp_ = "";
+    serviceVersion_ = "";
+    invokeGroup_ = "";
+    invokeMaster_ = false;
+    registryConnected_ = false;
+    routers_ = 0;
+    parameterRouters_ = 0;
+    provider_ = java.util.Collections.emptyList();
+    event_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Resolver(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            service_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            consumerId_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            consumerIp_ = s;
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            serviceVersion_ = s;
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            invokeGroup_ = s;
+            break;
+          }
+          case 48: {
+
+            invokeMaster_ = input.readBool();
+            break;
+          }
+          case 56: {
+
+            registryConnected_ = input.readBool();
+            break;
+          }
+          case 66: {
+            if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+              loadBalanceStrategy_ = com.google.protobuf.MapField.newMapField(
+                  LoadBalanceStrategyDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000080;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            loadBalanceStrategy__ = input.readMessage(
+                LoadBalanceStrategyDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            loadBalanceStrategy_.getMutableMap().put(
+                loadBalanceStrategy__.getKey(), loadBalanceStrategy__.getValue());
+            break;
+          }
+          case 74: {
+            if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+              loadBalanceMode_ = com.google.protobuf.MapField.newMapField(
+                  LoadBalanceModeDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000100;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            loadBalanceMode__ = input.readMessage(
+                LoadBalanceModeDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            loadBalanceMode_.getMutableMap().put(
+                loadBalanceMode__.getKey(), loadBalanceMode__.getValue());
+            break;
+          }
+          case 82: {
+            io.grpc.nebula.admin.v1.RequestsControl.Builder subBuilder = null;
+            if (requestsControl_ != null) {
+              subBuilder = requestsControl_.toBuilder();
+            }
+            requestsControl_ = input.readMessage(io.grpc.nebula.admin.v1.RequestsControl.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(requestsControl_);
+              requestsControl_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 88: {
+
+            routers_ = input.readInt32();
+            break;
+          }
+          case 96: {
+
+            parameterRouters_ = input.readInt32();
+            break;
+          }
+          case 106: {
+            if (!((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
+              provider_ = new java.util.ArrayList<io.grpc.nebula.admin.v1.Provider>();
+              mutable_bitField0_ |= 0x00001000;
+            }
+            provider_.add(
+                input.readMessage(io.grpc.nebula.admin.v1.Provider.parser(), extensionRegistry));
+            break;
+          }
+          case 114: {
+            if (!((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
+              event_ = new java.util.ArrayList<io.grpc.nebula.admin.v1.GovernanceEvent>();
+              mutable_bitField0_ |= 0x00002000;
+            }
+            event_.add(
+                input.readMessage(io.grpc.nebula.admin.v1.GovernanceEvent.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
+        provider_ = java.util.Collections.unmodifiableList(provider_);
+      }
+      if (((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
+        event_ = java.util.Collections.unmodifiableList(event_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 8:
+        return internalGetLoadBalanceStrategy();
+      case 9:
+        return internalGetLoadBalanceMode();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.nebula.admin.v1.Resolver.class, io.grpc.nebula.admin.v1.Resolver.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int SERVICE_FIELD_NUMBER = 1;
+  private volatile java.lang.Object service_;
+  /**
+   * <pre>
+   * 服务接口名
+   * </pre>
+   *
+   * <code>string service = 1;</code>
+   */
+  public java.lang.String getService() {
+    java.lang.Object ref = service_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      service_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 服务接口名
+   * </pre>
+   *
+   * <code>string service = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getServiceBytes() {
+    java.lang.Object ref = service_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      service_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int CONSUMER_ID_FIELD_NUMBER = 2;
+  private volatile java.lang.Object consumerId_;
+  /**
+   * <pre>
+   * 客户端在注册中心上的订阅ID
+   * </pre>
+   *
+   * <code>string consumer_id = 2;</code>
+   */
+  public java.lang.String getConsumerId() {
+    java.lang.Object ref = consumerId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      consumerId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 客户端在注册中心上的订阅ID
+   * </pre>
+   *
+   * <code>string consumer_id = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getConsumerIdBytes() {
+    java.lang.Object ref = consumerId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      consumerId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int CONSUMER_IP_FIELD_NUMBER = 3;
+  private volatile java.lang.Object consumerIp_;
+  /**
+   * <code>string consumer_ip = 3;</code>
+   */
+  public java.lang.String getConsumerIp() {
+    java.lang.Object ref = consumerIp_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      consumerIp_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string consumer_ip = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getConsumerIpBytes() {
+    java.lang.Object ref = consumerIp_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      consumerIp_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SERVICE_VERSION_FIELD_NUMBER = 4;
+  private volatile java.lang.Object serviceVersion_;
+  /**
+   * <pre>
+   * 客户端要求的服务版本
+   * </pre>
+   *
+   * <code>string service_version = 4;</code>
+   */
+  public java.lang.String getServiceVersion() {
+    java.lang.Object ref = serviceVersion_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      serviceVersion_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 客户端要求的服务版本
+   * </pre>
+   *
+   * <code>string service_version = 4;</code>
+   */
+  public com.google.protobuf.ByteString
+      getServiceVersionBytes() {
+    java.lang.Object ref = serviceVersion_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      serviceVersion_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int INVOKE_GROUP_FIELD_NUMBER = 5;
+  private volatile java.lang.Object invokeGroup_;
+  /**
+   * <pre>
+   * 客户端要求的服务分组
+   * </pre>
+   *
+   * <code>string invoke_group = 5;</code>
+   */
+  public java.lang.String getInvokeGroup() {
+    java.lang.Object ref = invokeGroup_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      invokeGroup_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 客户端要求的服务分组
+   * </pre>
+   *
+   * <code>string invoke_group = 5;</code>
+   */
+  public com.google.protobuf.ByteString
+      getInvokeGroupBytes() {
+    java.lang.Object ref = invokeGroup_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      invokeGroup_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int INVOKE_MASTER_FIELD_NUMBER = 6;
+  private boolean invokeMaster_;
+  /**
+   * <pre>
+   * 是否调用主服务器
+   * </pre>
+   *
+   * <code>bool invoke_master = 6;</code>
+   */
+  public boolean getInvokeMaster() {
+    return invokeMaster_;
+  }
+
+  public static final int REGISTRY_CONNECTED_FIELD_NUMBER = 7;
+  private boolean registryConnected_;
+  /**
+   * <pre>
+   * 是否连接上注册中心
+   * </pre>
+   *
+   * <code>bool registry_connected = 7;</code>
+   */
+  public boolean getRegistryConnected() {
+    return registryConnected_;
+  }
+
+  public static final int LOAD_BALANCE_STRATEGY_FIELD_NUMBER = 8;
+  private static final class LoadBalanceStrategyDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_LoadBalanceStrategyEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> loadBalanceStrategy_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetLoadBalanceStrategy() {
+    if (loadBalanceStrategy_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          LoadBalanceStrategyDefaultEntryHolder.defaultEntry);
+    }
+    return loadBalanceStrategy_;
+  }
+
+  public int getLoadBalanceStrategyCount() {
+    return internalGetLoadBalanceStrategy().getMap().size();
+  }
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+
+  public boolean containsLoadBalanceStrategy(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetLoadBalanceStrategy().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getLoadBalanceStrategyMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceStrategy() {
+    return getLoadBalanceStrategyMap();
+  }
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceStrategyMap() {
+    return internalGetLoadBalanceStrategy().getMap();
+  }
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+
+  public java.lang.String getLoadBalanceStrategyOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetLoadBalanceStrategy().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+
+  public java.lang.String getLoadBalanceStrategyOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetLoadBalanceStrategy().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int LOAD_BALANCE_MODE_FIELD_NUMBER = 9;
+  private static final class LoadBalanceModeDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_LoadBalanceModeEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> loadBalanceMode_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetLoadBalanceMode() {
+    if (loadBalanceMode_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          LoadBalanceModeDefaultEntryHolder.defaultEntry);
+    }
+    return loadBalanceMode_;
+  }
+
+  public int getLoadBalanceModeCount() {
+    return internalGetLoadBalanceMode().getMap().size();
+  }
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+
+  public boolean containsLoadBalanceMode(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetLoadBalanceMode().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getLoadBalanceModeMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceMode() {
+    return getLoadBalanceModeMap();
+  }
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceModeMap() {
+    return internalGetLoadBalanceMode().getMap();
+  }
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+
+  public java.lang.String getLoadBalanceModeOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetLoadBalanceMode().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+
+  public java.lang.String getLoadBalanceModeOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetLoadBalanceMode().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int REQUESTS_CONTROL_FIELD_NUMBER = 10;
+  private io.grpc.nebula.admin.v1.RequestsControl requestsControl_;
+  /**
+   * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+   */
+  public boolean hasRequestsControl() {
+    return requestsControl_ != null;
+  }
+  /**
+   * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+   */
+  public io.grpc.nebula.admin.v1.RequestsControl getRequestsControl() {
+    return requestsControl_ == null ? io.grpc.nebula.admin.v1.RequestsControl.getDefaultInstance() : requestsControl_;
+  }
+  /**
+   * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+   */
+  public io.grpc.nebula.admin.v1.RequestsControlOrBuilder getRequestsControlOrBuilder() {
+    return getRequestsControl();
+  }
+
+  public static final int ROUTERS_FIELD_NUMBER = 11;
+  private int routers_;
+  /**
+   * <pre>
+   * 路由规则的个数
+   * </pre>
+   *
+   * <code>int32 routers = 11;</code>
+   */
+  public int getRouters() {
+    return routers_;
+  }
+
+  public static final int PARAMETER_ROUTERS_FIELD_NUMBER = 12;
+  private int parameterRouters_;
+  /**
+   * <pre>
+   * 参数路由规则的个数
+   * </pre>
+   *
+   * <code>int32 parameter_routers = 12;</code>
+   */
+  public int getParameterRouters() {
+    return parameterRouters_;
+  }
+
+  public static final int PROVIDER_FIELD_NUMBER = 13;
+  private java.util.List<io.grpc.nebula.admin.v1.Provider> provider_;
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  public java.util.List<io.grpc.nebula.admin.v1.Provider> getProviderList() {
+    return provider_;
+  }
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  public java.util.List<? extends io.grpc.nebula.admin.v1.ProviderOrBuilder> 
+      getProviderOrBuilderList() {
+    return provider_;
+  }
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  public int getProviderCount() {
+    return provider_.size();
+  }
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  public io.grpc.nebula.admin.v1.Provider getProvider(int index) {
+    return provider_.get(index);
+  }
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  public io.grpc.nebula.admin.v1.ProviderOrBuilder getProviderOrBuilder(
+      int index) {
+    return provider_.get(index);
+  }
+
+  public static final int EVENT_FIELD_NUMBER = 14;
+  private java.util.List<io.grpc.nebula.admin.v1.GovernanceEvent> event_;
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  public java.util.List<io.grpc.nebula.admin.v1.GovernanceEvent> getEventList() {
+    return event_;
+  }
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  public java.util.List<? extends io.grpc.nebula.admin.v1.GovernanceEventOrBuilder> 
+      getEventOrBuilderList() {
+    return event_;
+  }
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  public int getEventCount() {
+    return event_.size();
+  }
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  public io.grpc.nebula.admin.v1.GovernanceEvent getEvent(int index) {
+    return event_.get(index);
+  }
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  public io.grpc.nebula.admin.v1.GovernanceEventOrBuilder getEventOrBuilder(
+      int index) {
+    return event_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getServiceBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, service_);
+    }
+    if (!getConsumerIdBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, consumerId_);
+    }
+    if (!getConsumerIpBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, consumerIp_);
+    }
+    if (!getServiceVersionBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, serviceVersion_);
+    }
+    if (!getInvokeGroupBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, invokeGroup_);
+    }
+    if (invokeMaster_ != false) {
+      output.writeBool(6, invokeMaster_);
+    }
+    if (registryConnected_ != false) {
+      output.writeBool(7, registryConnected_);
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeStringMapTo(
+        output,
+        internalGetLoadBalanceStrategy(),
+        LoadBalanceStrategyDefaultEntryHolder.defaultEntry,
+        8);
+    com.google.protobuf.GeneratedMessageV3
+      .serializeStringMapTo(
+        output,
+        internalGetLoadBalanceMode(),
+        LoadBalanceModeDefaultEntryHolder.defaultEntry,
+        9);
+    if (requestsControl_ != null) {
+      output.writeMessage(10, getRequestsControl());
+    }
+    if (routers_ != 0) {
+      output.writeInt32(11, routers_);
+    }
+    if (parameterRouters_ != 0) {
+      output.writeInt32(12, parameterRouters_);
+    }
+    for (int i = 0; i < provider_.size(); i++) {
+      output.writeMessage(13, provider_.get(i));
+    }
+    for (int i = 0; i < event_.size(); i++) {
+      output.writeMessage(14, event_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getServiceBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, service_);
+    }
+    if (!getConsumerIdBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, consumerId_);
+    }
+    if (!getConsumerIpBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, consumerIp_);
+    }
+    if (!getServiceVersionBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, serviceVersion_);
+    }
+    if (!getInvokeGroupBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, invokeGroup_);
+    }
+    if (invokeMaster_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, invokeMaster_);
+    }
+    if (registryConnected_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(7, registryConnected_);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetLoadBalanceStrategy().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      loadBalanceStrategy__ = LoadBalanceStrategyDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, loadBalanceStrategy__);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetLoadBalanceMode().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      loadBalanceMode__ = LoadBalanceModeDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, loadBalanceMode__);
+    }
+    if (requestsControl_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, getRequestsControl());
+    }
+    if (routers_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(11, routers_);
+    }
+    if (parameterRouters_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(12, parameterRouters_);
+    }
+    for (int i = 0; i < provider_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(13, provider_.get(i));
+    }
+    for (int i = 0; i < event_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, event_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.nebula.admin.v1.Resolver)) {
+      return super.equals(obj);
+    }
+    io.grpc.nebula.admin.v1.Resolver other = (io.grpc.nebula.admin.v1.Resolver) obj;
+
+    boolean result = true;
+    result = result && getService()
+        .equals(other.getService());
+    result = result && getConsumerId()
+        .equals(other.getConsumerId());
+    result = result && getConsumerIp()
+        .equals(other.getConsumerIp());
+    result = result && getServiceVersion()
+        .equals(other.getServiceVersion());
+    result = result && getInvokeGroup()
+        .equals(other.getInvokeGroup());
+    result = result && (getInvokeMaster()
+        == other.getInvokeMaster());
+    result = result && (getRegistryConnected()
+        == other.getRegistryConnected());
+    result = result && internalGetLoadBalanceStrategy().equals(
+        other.internalGetLoadBalanceStrategy());
+    result = result && internalGetLoadBalanceMode().equals(
+        other.internalGetLoadBalanceMode());
+    result = result && (hasRequestsControl() == other.hasRequestsControl());
+    if (hasRequestsControl()) {
+      result = result && getRequestsControl()
+          .equals(other.getRequestsControl());
+    }
+    result = result && (getRouters()
+        == other.getRouters());
+    result = result && (getParameterRouters()
+        == other.getParameterRouters());
+    result = result && getProviderList()
+        .equals(other.getProviderList());
+    result = result && getEventList()
+        .equals(other.getEventList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SERVICE_FIELD_NUMBER;
+    hash = (53 * hash) + getService().hashCode();
+    hash = (37 * hash) + CONSUMER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getConsumerId().hashCode();
+    hash = (37 * hash) + CONSUMER_IP_FIELD_NUMBER;
+    hash = (53 * hash) + getConsumerIp().hashCode();
+    hash = (37 * hash) + SERVICE_VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getServiceVersion().hashCode();
+    hash = (37 * hash) + INVOKE_GROUP_FIELD_NUMBER;
+    hash = (53 * hash) + getInvokeGroup().hashCode();
+    hash = (37 * hash) + INVOKE_MASTER_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getInvokeMaster());
+    hash = (37 * hash) + REGISTRY_CONNECTED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getRegistryConnected());
+    if (!internalGetLoadBalanceStrategy().getMap().isEmpty()) {
+      hash = (37 * hash) + LOAD_BALANCE_STRATEGY_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetLoadBalanceStrategy().hashCode();
+    }
+    if (!internalGetLoadBalanceMode().getMap().isEmpty()) {
+      hash = (37 * hash) + LOAD_BALANCE_MODE_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetLoadBalanceMode().hashCode();
+    }
+    if (hasRequestsControl()) {
+      hash = (37 * hash) + REQUESTS_CONTROL_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestsControl().hashCode();
+    }
+    hash = (37 * hash) + ROUTERS_FIELD_NUMBER;
+    hash = (53 * hash) + getRouters();
+    hash = (37 * hash) + PARAMETER_ROUTERS_FIELD_NUMBER;
+    hash = (53 * hash) + getParameterRouters();
+    if (getProviderCount() > 0) {
+      hash = (37 * hash) + PROVIDER_FIELD_NUMBER;
+      hash = (53 * hash) + getProviderList().hashCode();
+    }
+    if (getEventCount() > 0) {
+      hash = (37 * hash) + EVENT_FIELD_NUMBER;
+      hash = (53 * hash) + getEventList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.nebula.admin.v1.Resolver parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.nebula.admin.v1.Resolver prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * 一个客户端(服务)的服务治理状态
+   * </pre>
+   *
+   * Protobuf type {@code nebula.admin.v1.Resolver}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:nebula.admin.v1.Resolver)
+      io.grpc.nebula.admin.v1.ResolverOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 8:
+          return internalGetLoadBalanceStrategy();
+        case 9:
+          return internalGetLoadBalanceMode();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 8:
+          return internalGetMutableLoadBalanceStrategy();
+        case 9:
+          return internalGetMutableLoadBalanceMode();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.nebula.admin.v1.Resolver.class, io.grpc.nebula.admin.v1.Resolver.Builder.class);
+    }
+
+    // Construct using io.grpc.nebula.admin.v1.Resolver.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getProviderFieldBuilder();
+        getEventFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      service_ = "";
+
+      consumerId_ = "";
+
+      consumerIp_ = "";
+
+      serviceVersion_ = "";
+
+      invokeGroup_ = "";
+
+      invokeMaster_ = false;
+
+      registryConnected_ = false;
+
+      internalGetMutableLoadBalanceStrategy().clear();
+      internalGetMutableLoadBalanceMode().clear();
+      if (requestsControlBuilder_ == null) {
+        requestsControl_ = null;
+      } else {
+        requestsControl_ = null;
+        requestsControlBuilder_ = null;
+      }
+      routers_ = 0;
+
+      parameterRouters_ = 0;
+
+      if (providerBuilder_ == null) {
+        provider_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00001000);
+      } else {
+        providerBuilder_.clear();
+      }
+      if (eventBuilder_ == null) {
+        event_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00002000);
+      } else {
+        eventBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.nebula.admin.v1.NebulaAdminProto.internal_static_nebula_admin_v1_Resolver_descriptor;
+    }
+
+    public io.grpc.nebula.admin.v1.Resolver getDefaultInstanceForType() {
+      return io.grpc.nebula.admin.v1.Resolver.getDefaultInstance();
+    }
+
+    public io.grpc.nebula.admin.v1.Resolver build() {
+      io.grpc.nebula.admin.v1.Resolver result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.nebula.admin.v1.Resolver buildPartial() {
+      io.grpc.nebula.admin.v1.Resolver result = new io.grpc.nebula.admin.v1.Resolver(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.service_ = service_;
+      result.consumerId_ = consumerId_;
+      result.consumerIp_ = consumerIp_;
+      result.serviceVersion_ = serviceVersion_;
+      result.invokeGroup_ = invokeGroup_;
+      result.invokeMaster_ = invokeMaster_;
+      result.registryConnected_ = registryConnected_;
+      result.loadBalanceStrategy_ = internalGetLoadBalanceStrategy();
+      result.loadBalanceStrategy_.makeImmutable();
+      result.loadBalanceMode_ = internalGetLoadBalanceMode();
+      result.loadBalanceMode_.makeImmutable();
+      if (requestsControlBuilder_ == null) {
+        result.requestsControl_ = requestsControl_;
+      } else {
+        result.requestsControl_ = requestsControlBuilder_.build();
+      }
+      result.routers_ = routers_;
+      result.parameterRouters_ = parameterRouters_;
+      if (providerBuilder_ == null) {
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          provider_ = java.util.Collections.unmodifiableList(provider_);
+          bitField0_ = (bitField0_ & ~0x00001000);
+        }
+        result.provider_ = provider_;
+      } else {
+        result.provider_ = providerBuilder_.build();
+      }
+      if (eventBuilder_ == null) {
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          event_ = java.util.Collections.unmodifiableList(event_);
+          bitField0_ = (bitField0_ & ~0x00002000);
+        }
+        result.event_ = event_;
+      } else {
+        result.event_ = eventBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.nebula.admin.v1.Resolver) {
+        return mergeFrom((io.grpc.nebula.admin.v1.Resolver)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.nebula.admin.v1.Resolver other) {
+      if (other == io.grpc.nebula.admin.v1.Resolver.getDefaultInstance()) return this;
+      if (!other.getService().isEmpty()) {
+        service_ = other.service_;
+        onChanged();
+      }
+      if (!other.getConsumerId().isEmpty()) {
+        consumerId_ = other.consumerId_;
+        onChanged();
+      }
+      if (!other.getConsumerIp().isEmpty()) {
+        consumerIp_ = other.consumerIp_;
+        onChanged();
+      }
+      if (!other.getServiceVersion().isEmpty()) {
+        serviceVersion_ = other.serviceVersion_;
+        onChanged();
+      }
+      if (!other.getInvokeGroup().isEmpty()) {
+        invokeGroup_ = other.invokeGroup_;
+        onChanged();
+      }
+      if (other.getInvokeMaster() != false) {
+        setInvokeMaster(other.getInvokeMaster());
+      }
+      if (other.getRegistryConnected() != false) {
+        setRegistryConnected(other.getRegistryConnected());
+      }
+      internalGetMutableLoadBalanceStrategy().mergeFrom(
+          other.internalGetLoadBalanceStrategy());
+      internalGetMutableLoadBalanceMode().mergeFrom(
+          other.internalGetLoadBalanceMode());
+      if (other.hasRequestsControl()) {
+        mergeRequestsControl(other.getRequestsControl());
+      }
+      if (other.getRouters() != 0) {
+        setRouters(other.getRouters());
+      }
+      if (other.getParameterRouters() != 0) {
+        setParameterRouters(other.getParameterRouters());
+      }
+      if (providerBuilder_ == null) {
+        if (!other.provider_.isEmpty()) {
+          if (provider_.isEmpty()) {
+            provider_ = other.provider_;
+            bitField0_ = (bitField0_ & ~0x00001000);
+          } else {
+            ensureProviderIsMutable();
+            provider_.addAll(other.provider_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.provider_.isEmpty()) {
+          if (providerBuilder_.isEmpty()) {
+            providerBuilder_.dispose();
+            providerBuilder_ = null;
+            provider_ = other.provider_;
+            bitField0_ = (bitField0_ & ~0x00001000);
+            providerBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getProviderFieldBuilder() : null;
+          } else {
+            providerBuilder_.addAllMessages(other.provider_);
+          }
+        }
+      }
+      if (eventBuilder_ == null) {
+        if (!other.event_.isEmpty()) {
+          if (event_.isEmpty()) {
+            event_ = other.event_;
+            bitField0_ = (bitField0_ & ~0x00002000);
+          } else {
+            ensureEventIsMutable();
+            event_.addAll(other.event_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.event_.isEmpty()) {
+          if (eventBuilder_.isEmpty()) {
+            eventBuilder_.dispose();
+            eventBuilder_ = null;
+            event_ = other.event_;
+            bitField0_ = (bitField0_ & ~0x00002000);
+            eventBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getEventFieldBuilder() : null;
+          } else {
+            eventBuilder_.addAllMessages(other.event_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.nebula.admin.v1.Resolver parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.nebula.admin.v1.Resolver) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object service_ = "";
+    /**
+     * <pre>
+     * 服务接口名
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     */
+    public java.lang.String getService() {
+      java.lang.Object ref = service_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        service_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 服务接口名
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getServiceBytes() {
+      java.lang.Object ref = service_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        service_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 服务接口名
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     */
+    public Builder setService(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      service_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 服务接口名
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     */
+    public Builder clearService() {
+      
+      service_ = getDefaultInstance().getService();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 服务接口名
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     */
+    public Builder setServiceBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      service_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object consumerId_ = "";
+    /**
+     * <pre>
+     * 客户端在注册中心上的订阅ID
+     * </pre>
+     *
+     * <code>string consumer_id = 2;</code>
+     */
+    public java.lang.String getConsumerId() {
+      java.lang.Object ref = consumerId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        consumerId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 客户端在注册中心上的订阅ID
+     * </pre>
+     *
+     * <code>string consumer_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getConsumerIdBytes() {
+      java.lang.Object ref = consumerId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        consumerId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 客户端在注册中心上的订阅ID
+     * </pre>
+     *
+     * <code>string consumer_id = 2;</code>
+     */
+    public Builder setConsumerId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      consumerId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端在注册中心上的订阅ID
+     * </pre>
+     *
+     * <code>string consumer_id = 2;</code>
+     */
+    public Builder clearConsumerId() {
+      
+      consumerId_ = getDefaultInstance().getConsumerId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端在注册中心上的订阅ID
+     * </pre>
+     *
+     * <code>string consumer_id = 2;</code>
+     */
+    public Builder setConsumerIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      consumerId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object consumerIp_ = "";
+    /**
+     * <code>string consumer_ip = 3;</code>
+     */
+    public java.lang.String getConsumerIp() {
+      java.lang.Object ref = consumerIp_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        consumerIp_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string consumer_ip = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getConsumerIpBytes() {
+      java.lang.Object ref = consumerIp_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        consumerIp_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string consumer_ip = 3;</code>
+     */
+    public Builder setConsumerIp(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      consumerIp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string consumer_ip = 3;</code>
+     */
+    public Builder clearConsumerIp() {
+      
+      consumerIp_ = getDefaultInstance().getConsumerIp();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string consumer_ip = 3;</code>
+     */
+    public Builder setConsumerIpBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      consumerIp_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object serviceVersion_ = "";
+    /**
+     * <pre>
+     * 客户端要求的服务版本
+     * </pre>
+     *
+     * <code>string service_version = 4;</code>
+     */
+    public java.lang.String getServiceVersion() {
+      java.lang.Object ref = serviceVersion_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        serviceVersion_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务版本
+     * </pre>
+     *
+     * <code>string service_version = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getServiceVersionBytes() {
+      java.lang.Object ref = serviceVersion_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        serviceVersion_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务版本
+     * </pre>
+     *
+     * <code>string service_version = 4;</code>
+     */
+    public Builder setServiceVersion(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      serviceVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务版本
+     * </pre>
+     *
+     * <code>string service_version = 4;</code>
+     */
+    public Builder clearServiceVersion() {
+      
+      serviceVersion_ = getDefaultInstance().getServiceVersion();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务版本
+     * </pre>
+     *
+     * <code>string service_version = 4;</code>
+     */
+    public Builder setServiceVersionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      serviceVersion_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object invokeGroup_ = "";
+    /**
+     * <pre>
+     * 客户端要求的服务分组
+     * </pre>
+     *
+     * <code>string invoke_group = 5;</code>
+     */
+    public java.lang.String getInvokeGroup() {
+      java.lang.Object ref = invokeGroup_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        invokeGroup_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务分组
+     * </pre>
+     *
+     * <code>string invoke_group = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getInvokeGroupBytes() {
+      java.lang.Object ref = invokeGroup_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        invokeGroup_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务分组
+     * </pre>
+     *
+     * <code>string invoke_group = 5;</code>
+     */
+    public Builder setInvokeGroup(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      invokeGroup_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务分组
+     * </pre>
+     *
+     * <code>string invoke_group = 5;</code>
+     */
+    public Builder clearInvokeGroup() {
+      
+      invokeGroup_ = getDefaultInstance().getInvokeGroup();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端要求的服务分组
+     * </pre>
+     *
+     * <code>string invoke_group = 5;</code>
+     */
+    public Builder setInvokeGroupBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      invokeGroup_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean invokeMaster_ ;
+    /**
+     * <pre>
+     * 是否调用主服务器
+     * </pre>
+     *
+     * <code>bool invoke_master = 6;</code>
+     */
+    public boolean getInvokeMaster() {
+      return invokeMaster_;
+    }
+    /**
+     * <pre>
+     * 是否调用主服务器
+     * </pre>
+     *
+     * <code>bool invoke_master = 6;</code>
+     */
+    public Builder setInvokeMaster(boolean value) {
+      
+      invokeMaster_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 是否调用主服务器
+     * </pre>
+     *
+     * <code>bool invoke_master = 6;</code>
+     */
+    public Builder clearInvokeMaster() {
+      
+      invokeMaster_ = false;
+      onChanged();
+      return this;
+    }
+
+    private boolean registryConnected_ ;
+    /**
+     * <pre>
+     * 是否连接上注册中心
+     * </pre>
+     *
+     * <code>bool registry_connected = 7;</code>
+     */
+    public boolean getRegistryConnected() {
+      return registryConnected_;
+    }
+    /**
+     * <pre>
+     * 是否连接上注册中心
+     * </pre>
+     *
+     * <code>bool registry_connected = 7;</code>
+     */
+    public Builder setRegistryConnected(boolean value) {
+      
+      registryConnected_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 是否连接上注册中心
+     * </pre>
+     *
+     * <code>bool registry_connected = 7;</code>
+     */
+    public Builder clearRegistryConnected() {
+      
+      registryConnected_ = false;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> loadBalanceStrategy_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetLoadBalanceStrategy() {
+      if (loadBalanceStrategy_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            LoadBalanceStrategyDefaultEntryHolder.defaultEntry);
+      }
+      return loadBalanceStrategy_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableLoadBalanceStrategy() {
+      onChanged();;
+      if (loadBalanceStrategy_ == null) {
+        loadBalanceStrategy_ = com.google.protobuf.MapField.newMapField(
+            LoadBalanceStrategyDefaultEntryHolder.defaultEntry);
+      }
+      if (!loadBalanceStrategy_.isMutable()) {
+        loadBalanceStrategy_ = loadBalanceStrategy_.copy();
+      }
+      return loadBalanceStrategy_;
+    }
+
+    public int getLoadBalanceStrategyCount() {
+      return internalGetLoadBalanceStrategy().getMap().size();
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+
+    public boolean containsLoadBalanceStrategy(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetLoadBalanceStrategy().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getLoadBalanceStrategyMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceStrategy() {
+      return getLoadBalanceStrategyMap();
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceStrategyMap() {
+      return internalGetLoadBalanceStrategy().getMap();
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+
+    public java.lang.String getLoadBalanceStrategyOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetLoadBalanceStrategy().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+
+    public java.lang.String getLoadBalanceStrategyOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetLoadBalanceStrategy().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearLoadBalanceStrategy() {
+      internalGetMutableLoadBalanceStrategy().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+
+    public Builder removeLoadBalanceStrategy(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableLoadBalanceStrategy().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableLoadBalanceStrategy() {
+      return internalGetMutableLoadBalanceStrategy().getMutableMap();
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+    public Builder putLoadBalanceStrategy(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableLoadBalanceStrategy().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+     */
+
+    public Builder putAllLoadBalanceStrategy(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      internalGetMutableLoadBalanceStrategy().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> loadBalanceMode_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetLoadBalanceMode() {
+      if (loadBalanceMode_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            LoadBalanceModeDefaultEntryHolder.defaultEntry);
+      }
+      return loadBalanceMode_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableLoadBalanceMode() {
+      onChanged();;
+      if (loadBalanceMode_ == null) {
+        loadBalanceMode_ = com.google.protobuf.MapField.newMapField(
+            LoadBalanceModeDefaultEntryHolder.defaultEntry);
+      }
+      if (!loadBalanceMode_.isMutable()) {
+        loadBalanceMode_ = loadBalanceMode_.copy();
+      }
+      return loadBalanceMode_;
+    }
+
+    public int getLoadBalanceModeCount() {
+      return internalGetLoadBalanceMode().getMap().size();
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+
+    public boolean containsLoadBalanceMode(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetLoadBalanceMode().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getLoadBalanceModeMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceMode() {
+      return getLoadBalanceModeMap();
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getLoadBalanceModeMap() {
+      return internalGetLoadBalanceMode().getMap();
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+
+    public java.lang.String getLoadBalanceModeOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetLoadBalanceMode().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+
+    public java.lang.String getLoadBalanceModeOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetLoadBalanceMode().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearLoadBalanceMode() {
+      internalGetMutableLoadBalanceMode().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+
+    public Builder removeLoadBalanceMode(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableLoadBalanceMode().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableLoadBalanceMode() {
+      return internalGetMutableLoadBalanceMode().getMutableMap();
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+    public Builder putLoadBalanceMode(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableLoadBalanceMode().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * 负载均衡模式(connection/request)，key为方法名
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+     */
+
+    public Builder putAllLoadBalanceMode(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      internalGetMutableLoadBalanceMode().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private io.grpc.nebula.admin.v1.RequestsControl requestsControl_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.nebula.admin.v1.RequestsControl, io.grpc.nebula.admin.v1.RequestsControl.Builder, io.grpc.nebula.admin.v1.RequestsControlOrBuilder> requestsControlBuilder_;
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public boolean hasRequestsControl() {
+      return requestsControlBuilder_ != null || requestsControl_ != null;
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public io.grpc.nebula.admin.v1.RequestsControl getRequestsControl() {
+      if (requestsControlBuilder_ == null) {
+        return requestsControl_ == null ? io.grpc.nebula.admin.v1.RequestsControl.getDefaultInstance() : requestsControl_;
+      } else {
+        return requestsControlBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public Builder setRequestsControl(io.grpc.nebula.admin.v1.RequestsControl value) {
+      if (requestsControlBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        requestsControl_ = value;
+        onChanged();
+      } else {
+        requestsControlBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public Builder setRequestsControl(
+        io.grpc.nebula.admin.v1.RequestsControl.Builder builderForValue) {
+      if (requestsControlBuilder_ == null) {
+        requestsControl_ = builderForValue.build();
+        onChanged();
+      } else {
+        requestsControlBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public Builder mergeRequestsControl(io.grpc.nebula.admin.v1.RequestsControl value) {
+      if (requestsControlBuilder_ == null) {
+        if (requestsControl_ != null) {
+          requestsControl_ =
+            io.grpc.nebula.admin.v1.RequestsControl.newBuilder(requestsControl_).mergeFrom(value).buildPartial();
+        } else {
+          requestsControl_ = value;
+        }
+        onChanged();
+      } else {
+        requestsControlBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public Builder clearRequestsControl() {
+      if (requestsControlBuilder_ == null) {
+        requestsControl_ = null;
+        onChanged();
+      } else {
+        requestsControl_ = null;
+        requestsControlBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public io.grpc.nebula.admin.v1.RequestsControl.Builder getRequestsControlBuilder() {
+      
+      onChanged();
+      return getRequestsControlFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    public io.grpc.nebula.admin.v1.RequestsControlOrBuilder getRequestsControlOrBuilder() {
+      if (requestsControlBuilder_ != null) {
+        return requestsControlBuilder_.getMessageOrBuilder();
+      } else {
+        return requestsControl_ == null ?
+            io.grpc.nebula.admin.v1.RequestsControl.getDefaultInstance() : requestsControl_;
+      }
+    }
+    /**
+     * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.nebula.admin.v1.RequestsControl, io.grpc.nebula.admin.v1.RequestsControl.Builder, io.grpc.nebula.admin.v1.RequestsControlOrBuilder> 
+        getRequestsControlFieldBuilder() {
+      if (requestsControlBuilder_ == null) {
+        requestsControlBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            io.grpc.nebula.admin.v1.RequestsControl, io.grpc.nebula.admin.v1.RequestsControl.Builder, io.grpc.nebula.admin.v1.RequestsControlOrBuilder>(
+                getRequestsControl(),
+                getParentForChildren(),
+                isClean());
+        requestsControl_ = null;
+      }
+      return requestsControlBuilder_;
+    }
+
+    private int routers_ ;
+    /**
+     * <pre>
+     * 路由规则的个数
+     * </pre>
+     *
+     * <code>int32 routers = 11;</code>
+     */
+    public int getRouters() {
+      return routers_;
+    }
+    /**
+     * <pre>
+     * 路由规则的个数
+     * </pre>
+     *
+     * <code>int32 routers = 11;</code>
+     */
+    public Builder setRouters(int value) {
+      
+      routers_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 路由规则的个数
+     * </pre>
+     *
+     * <code>int32 routers = 11;</code>
+     */
+    public Builder clearRouters() {
+      
+      routers_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int parameterRouters_ ;
+    /**
+     * <pre>
+     * 参数路由规则的个数
+     * </pre>
+     *
+     * <code>int32 parameter_routers = 12;</code>
+     */
+    public int getParameterRouters() {
+      return parameterRouters_;
+    }
+    /**
+     * <pre>
+     * 参数路由规则的个数
+     * </pre>
+     *
+     * <code>int32 parameter_routers = 12;</code>
+     */
+    public Builder setParameterRouters(int value) {
+      
+      parameterRouters_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 参数路由规则的个数
+     * </pre>
+     *
+     * <code>int32 parameter_routers = 12;</code>
+     */
+    public Builder clearParameterRouters() {
+      
+      parameterRouters_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<io.grpc.nebula.admin.v1.Provider> provider_ =
+      java.util.Collections.emptyList();
+    private void ensureProviderIsMutable() {
+      if (!((bitField0_ & 0x00001000) == 0x00001000)) {
+        provider_ = new java.util.ArrayList<io.grpc.nebula.admin.v1.Provider>(provider_);
+        bitField0_ |= 0x00001000;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.nebula.admin.v1.Provider, io.grpc.nebula.admin.v1.Provider.Builder, io.grpc.nebula.admin.v1.ProviderOrBuilder> providerBuilder_;
+
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public java.util.List<io.grpc.nebula.admin.v1.Provider> getProviderList() {
+      if (providerBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(provider_);
+      } else {
+        return providerBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public int getProviderCount() {
+      if (providerBuilder_ == null) {
+        return provider_.size();
+      } else {
+        return providerBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public io.grpc.nebula.admin.v1.Provider getProvider(int index) {
+      if (providerBuilder_ == null) {
+        return provider_.get(index);
+      } else {
+        return providerBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder setProvider(
+        int index, io.grpc.nebula.admin.v1.Provider value) {
+      if (providerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureProviderIsMutable();
+        provider_.set(index, value);
+        onChanged();
+      } else {
+        providerBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder setProvider(
+        int index, io.grpc.nebula.admin.v1.Provider.Builder builderForValue) {
+      if (providerBuilder_ == null) {
+        ensureProviderIsMutable();
+        provider_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        providerBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder addProvider(io.grpc.nebula.admin.v1.Provider value) {
+      if (providerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureProviderIsMutable();
+        provider_.add(value);
+        onChanged();
+      } else {
+        providerBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder addProvider(
+        int index, io.grpc.nebula.admin.v1.Provider value) {
+      if (providerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureProviderIsMutable();
+        provider_.add(index, value);
+        onChanged();
+      } else {
+        providerBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder addProvider(
+        io.grpc.nebula.admin.v1.Provider.Builder builderForValue) {
+      if (providerBuilder_ == null) {
+        ensureProviderIsMutable();
+        provider_.add(builderForValue.build());
+        onChanged();
+      } else {
+        providerBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder addProvider(
+        int index, io.grpc.nebula.admin.v1.Provider.Builder builderForValue) {
+      if (providerBuilder_ == null) {
+        ensureProviderIsMutable();
+        provider_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        providerBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder addAllProvider(
+        java.lang.Iterable<? extends io.grpc.nebula.admin.v1.Provider> values) {
+      if (providerBuilder_ == null) {
+        ensureProviderIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, provider_);
+        onChanged();
+      } else {
+        providerBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder clearProvider() {
+      if (providerBuilder_ == null) {
+        provider_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+      } else {
+        providerBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public Builder removeProvider(int index) {
+      if (providerBuilder_ == null) {
+        ensureProviderIsMutable();
+        provider_.remove(index);
+        onChanged();
+      } else {
+        providerBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public io.grpc.nebula.admin.v1.Provider.Builder getProviderBuilder(
+        int index) {
+      return getProviderFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public io.grpc.nebula.admin.v1.ProviderOrBuilder getProviderOrBuilder(
+        int index) {
+      if (providerBuilder_ == null) {
+        return provider_.get(index);  } else {
+        return providerBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public java.util.List<? extends io.grpc.nebula.admin.v1.ProviderOrBuilder> 
+         getProviderOrBuilderList() {
+      if (providerBuilder_ != null) {
+        return providerBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(provider_);
+      }
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public io.grpc.nebula.admin.v1.Provider.Builder addProviderBuilder() {
+      return getProviderFieldBuilder().addBuilder(
+          io.grpc.nebula.admin.v1.Provider.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public io.grpc.nebula.admin.v1.Provider.Builder addProviderBuilder(
+        int index) {
+      return getProviderFieldBuilder().addBuilder(
+          index, io.grpc.nebula.admin.v1.Provider.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * 所有服务提供者，按地址排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+     */
+    public java.util.List<io.grpc.nebula.admin.v1.Provider.Builder> 
+         getProviderBuilderList() {
+      return getProviderFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.nebula.admin.v1.Provider, io.grpc.nebula.admin.v1.Provider.Builder, io.grpc.nebula.admin.v1.ProviderOrBuilder> 
+        getProviderFieldBuilder() {
+      if (providerBuilder_ == null) {
+        providerBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.nebula.admin.v1.Provider, io.grpc.nebula.admin.v1.Provider.Builder, io.grpc.nebula.admin.v1.ProviderOrBuilder>(
+                provider_,
+                ((bitField0_ & 0x00001000) == 0x00001000),
+                getParentForChildren(),
+                isClean());
+        provider_ = null;
+      }
+      return providerBuilder_;
+    }
+
+    private java.util.List<io.grpc.nebula.admin.v1.GovernanceEvent> event_ =
+      java.util.Collections.emptyList();
+    private void ensureEventIsMutable() {
+      if (!((bitField0_ & 0x00002000) == 0x00002000)) {
+        event_ = new java.util.ArrayList<io.grpc.nebula.admin.v1.GovernanceEvent>(event_);
+        bitField0_ |= 0x00002000;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.nebula.admin.v1.GovernanceEvent, io.grpc.nebula.admin.v1.GovernanceEvent.Builder, io.grpc.nebula.admin.v1.GovernanceEventOrBuilder> eventBuilder_;
+
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public java.util.List<io.grpc.nebula.admin.v1.GovernanceEvent> getEventList() {
+      if (eventBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(event_);
+      } else {
+        return eventBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public int getEventCount() {
+      if (eventBuilder_ == null) {
+        return event_.size();
+      } else {
+        return eventBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public io.grpc.nebula.admin.v1.GovernanceEvent getEvent(int index) {
+      if (eventBuilder_ == null) {
+        return event_.get(index);
+      } else {
+        return eventBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder setEvent(
+        int index, io.grpc.nebula.admin.v1.GovernanceEvent value) {
+      if (eventBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEventIsMutable();
+        event_.set(index, value);
+        onChanged();
+      } else {
+        eventBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder setEvent(
+        int index, io.grpc.nebula.admin.v1.GovernanceEvent.Builder builderForValue) {
+      if (eventBuilder_ == null) {
+        ensureEventIsMutable();
+        event_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        eventBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder addEvent(io.grpc.nebula.admin.v1.GovernanceEvent value) {
+      if (eventBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEventIsMutable();
+        event_.add(value);
+        onChanged();
+      } else {
+        eventBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder addEvent(
+        int index, io.grpc.nebula.admin.v1.GovernanceEvent value) {
+      if (eventBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEventIsMutable();
+        event_.add(index, value);
+        onChanged();
+      } else {
+        eventBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder addEvent(
+        io.grpc.nebula.admin.v1.GovernanceEvent.Builder builderForValue) {
+      if (eventBuilder_ == null) {
+        ensureEventIsMutable();
+        event_.add(builderForValue.build());
+        onChanged();
+      } else {
+        eventBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder addEvent(
+        int index, io.grpc.nebula.admin.v1.GovernanceEvent.Builder builderForValue) {
+      if (eventBuilder_ == null) {
+        ensureEventIsMutable();
+        event_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        eventBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder addAllEvent(
+        java.lang.Iterable<? extends io.grpc.nebula.admin.v1.GovernanceEvent> values) {
+      if (eventBuilder_ == null) {
+        ensureEventIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, event_);
+        onChanged();
+      } else {
+        eventBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder clearEvent() {
+      if (eventBuilder_ == null) {
+        event_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00002000);
+        onChanged();
+      } else {
+        eventBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public Builder removeEvent(int index) {
+      if (eventBuilder_ == null) {
+        ensureEventIsMutable();
+        event_.remove(index);
+        onChanged();
+      } else {
+        eventBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public io.grpc.nebula.admin.v1.GovernanceEvent.Builder getEventBuilder(
+        int index) {
+      return getEventFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public io.grpc.nebula.admin.v1.GovernanceEventOrBuilder getEventOrBuilder(
+        int index) {
+      if (eventBuilder_ == null) {
+        return event_.get(index);  } else {
+        return eventBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public java.util.List<? extends io.grpc.nebula.admin.v1.GovernanceEventOrBuilder> 
+         getEventOrBuilderList() {
+      if (eventBuilder_ != null) {
+        return eventBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(event_);
+      }
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public io.grpc.nebula.admin.v1.GovernanceEvent.Builder addEventBuilder() {
+      return getEventFieldBuilder().addBuilder(
+          io.grpc.nebula.admin.v1.GovernanceEvent.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public io.grpc.nebula.admin.v1.GovernanceEvent.Builder addEventBuilder(
+        int index) {
+      return getEventFieldBuilder().addBuilder(
+          index, io.grpc.nebula.admin.v1.GovernanceEvent.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * 最近的服务治理事件，按时间排序
+     * </pre>
+     *
+     * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+     */
+    public java.util.List<io.grpc.nebula.admin.v1.GovernanceEvent.Builder> 
+         getEventBuilderList() {
+      return getEventFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.nebula.admin.v1.GovernanceEvent, io.grpc.nebula.admin.v1.GovernanceEvent.Builder, io.grpc.nebula.admin.v1.GovernanceEventOrBuilder> 
+        getEventFieldBuilder() {
+      if (eventBuilder_ == null) {
+        eventBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.nebula.admin.v1.GovernanceEvent, io.grpc.nebula.admin.v1.GovernanceEvent.Builder, io.grpc.nebula.admin.v1.GovernanceEventOrBuilder>(
+                event_,
+                ((bitField0_ & 0x00002000) == 0x00002000),
+                getParentForChildren(),
+                isClean());
+        event_ = null;
+      }
+      return eventBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:nebula.admin.v1.Resolver)
+  }
+
+  // @@protoc_insertion_point(class_scope:nebula.admin.v1.Resolver)
+  private static final io.grpc.nebula.admin.v1.Resolver DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.nebula.admin.v1.Resolver();
+  }
+
+  public static io.grpc.nebula.admin.v1.Resolver getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Resolver>
+      PARSER = new com.google.protobuf.AbstractParser<Resolver>() {
+    public Resolver parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Resolver(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Resolver> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Resolver> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.nebula.admin.v1.Resolver getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
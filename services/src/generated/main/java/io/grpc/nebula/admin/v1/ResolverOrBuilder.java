@@ -0,0 +1,336 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: nebula/admin/v1/admin.proto
+
+package io.grpc.nebula.admin.v1;
+
+public interface ResolverOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:nebula.admin.v1.Resolver)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 服务接口名
+   * </pre>
+   *
+   * <code>string service = 1;</code>
+   */
+  java.lang.String getService();
+  /**
+   * <pre>
+   * 服务接口名
+   * </pre>
+   *
+   * <code>string service = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getServiceBytes();
+
+  /**
+   * <pre>
+   * 客户端在注册中心上的订阅ID
+   * </pre>
+   *
+   * <code>string consumer_id = 2;</code>
+   */
+  java.lang.String getConsumerId();
+  /**
+   * <pre>
+   * 客户端在注册中心上的订阅ID
+   * </pre>
+   *
+   * <code>string consumer_id = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getConsumerIdBytes();
+
+  /**
+   * <code>string consumer_ip = 3;</code>
+   */
+  java.lang.String getConsumerIp();
+  /**
+   * <code>string consumer_ip = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getConsumerIpBytes();
+
+  /**
+   * <pre>
+   * 客户端要求的服务版本
+   * </pre>
+   *
+   * <code>string service_version = 4;</code>
+   */
+  java.lang.String getServiceVersion();
+  /**
+   * <pre>
+   * 客户端要求的服务版本
+   * </pre>
+   *
+   * <code>string service_version = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getServiceVersionBytes();
+
+  /**
+   * <pre>
+   * 客户端要求的服务分组
+   * </pre>
+   *
+   * <code>string invoke_group = 5;</code>
+   */
+  java.lang.String getInvokeGroup();
+  /**
+   * <pre>
+   * 客户端要求的服务分组
+   * </pre>
+   *
+   * <code>string invoke_group = 5;</code>
+   */
+  com.google.protobuf.ByteString
+      getInvokeGroupBytes();
+
+  /**
+   * <pre>
+   * 是否调用主服务器
+   * </pre>
+   *
+   * <code>bool invoke_master = 6;</code>
+   */
+  boolean getInvokeMaster();
+
+  /**
+   * <pre>
+   * 是否连接上注册中心
+   * </pre>
+   *
+   * <code>bool registry_connected = 7;</code>
+   */
+  boolean getRegistryConnected();
+
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+  int getLoadBalanceStrategyCount();
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+  boolean containsLoadBalanceStrategy(
+      java.lang.String key);
+  /**
+   * Use {@link #getLoadBalanceStrategyMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getLoadBalanceStrategy();
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getLoadBalanceStrategyMap();
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+
+  java.lang.String getLoadBalanceStrategyOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <pre>
+   * 负载均衡策略，key为方法名(空字符串表示服务级的配置)
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_strategy = 8;</code>
+   */
+
+  java.lang.String getLoadBalanceStrategyOrThrow(
+      java.lang.String key);
+
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+  int getLoadBalanceModeCount();
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+  boolean containsLoadBalanceMode(
+      java.lang.String key);
+  /**
+   * Use {@link #getLoadBalanceModeMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getLoadBalanceMode();
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getLoadBalanceModeMap();
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+
+  java.lang.String getLoadBalanceModeOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <pre>
+   * 负载均衡模式(connection/request)，key为方法名
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; load_balance_mode = 9;</code>
+   */
+
+  java.lang.String getLoadBalanceModeOrThrow(
+      java.lang.String key);
+
+  /**
+   * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+   */
+  boolean hasRequestsControl();
+  /**
+   * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+   */
+  io.grpc.nebula.admin.v1.RequestsControl getRequestsControl();
+  /**
+   * <code>.nebula.admin.v1.RequestsControl requests_control = 10;</code>
+   */
+  io.grpc.nebula.admin.v1.RequestsControlOrBuilder getRequestsControlOrBuilder();
+
+  /**
+   * <pre>
+   * 路由规则的个数
+   * </pre>
+   *
+   * <code>int32 routers = 11;</code>
+   */
+  int getRouters();
+
+  /**
+   * <pre>
+   * 参数路由规则的个数
+   * </pre>
+   *
+   * <code>int32 parameter_routers = 12;</code>
+   */
+  int getParameterRouters();
+
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  java.util.List<io.grpc.nebula.admin.v1.Provider> 
+      getProviderList();
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  io.grpc.nebula.admin.v1.Provider getProvider(int index);
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  int getProviderCount();
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  java.util.List<? extends io.grpc.nebula.admin.v1.ProviderOrBuilder> 
+      getProviderOrBuilderList();
+  /**
+   * <pre>
+   * 所有服务提供者，按地址排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.Provider provider = 13;</code>
+   */
+  io.grpc.nebula.admin.v1.ProviderOrBuilder getProviderOrBuilder(
+      int index);
+
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  java.util.List<io.grpc.nebula.admin.v1.GovernanceEvent> 
+      getEventList();
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  io.grpc.nebula.admin.v1.GovernanceEvent getEvent(int index);
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  int getEventCount();
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  java.util.List<? extends io.grpc.nebula.admin.v1.GovernanceEventOrBuilder> 
+      getEventOrBuilderList();
+  /**
+   * <pre>
+   * 最近的服务治理事件，按时间排序
+   * </pre>
+   *
+   * <code>repeated .nebula.admin.v1.GovernanceEvent event = 14;</code>
+   */
+  io.grpc.nebula.admin.v1.GovernanceEventOrBuilder getEventOrBuilder(
+      int index);
+}
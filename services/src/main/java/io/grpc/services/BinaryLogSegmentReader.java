@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.services;
+
+import com.google.protobuf.CodedInputStream;
+import io.grpc.binarylog.v1.GrpcLogEntry;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 读取{@link MappedFileSink}写入的分段文件
+ * <p>
+ * 读到文件结尾或者长度为0的记录(进程异常退出时分段文件尾部未写入的部分)时结束。
+ * 也可以作为命令行工具使用：{@code java io.grpc.services.BinaryLogSegmentReader <目录或文件>}，
+ * 按写入顺序打印所有的日志。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class BinaryLogSegmentReader {
+  private BinaryLogSegmentReader() {
+  }
+
+  /**
+   * 读取一个分段文件中的所有日志
+   */
+  public static List<GrpcLogEntry> read(File segment) throws IOException {
+    List<GrpcLogEntry> entries = new ArrayList<GrpcLogEntry>();
+    InputStream input = new BufferedInputStream(new FileInputStream(segment));
+    try {
+      CodedInputStream coded = CodedInputStream.newInstance(input);
+      coded.setSizeLimit(Integer.MAX_VALUE);
+      while (!coded.isAtEnd()) {
+        int size = coded.readRawVarint32();
+        if (size <= 0) {
+          break;
+        }
+        int oldLimit = coded.pushLimit(size);
+        entries.add(GrpcLogEntry.parseFrom(coded));
+        coded.popLimit(oldLimit);
+        coded.resetSizeCounter();
+      }
+    } finally {
+      input.close();
+    }
+    return entries;
+  }
+
+  /**
+   * 按写入顺序列出目录中指定前缀的分段文件
+   */
+  public static List<File> listSegments(File directory, final String prefix) {
+    File[] files = directory.listFiles(new FilenameFilter() {
+      @Override
+      public boolean accept(File dir, String name) {
+        return name.startsWith(prefix + "-") && name.endsWith(MappedFileSink.SEGMENT_SUFFIX);
+      }
+    });
+    if (files == null) {
+      return Collections.emptyList();
+    }
+    List<File> segments = new ArrayList<File>(Arrays.asList(files));
+    Collections.sort(segments, new Comparator<File>() {
+      @Override
+      public int compare(File f1, File f2) {
+        long[] k1 = sortKey(f1.getName(), prefix);
+        long[] k2 = sortKey(f2.getName(), prefix);
+        if (k1[0] != k2[0]) {
+          return k1[0] < k2[0] ? -1 : 1;
+        }
+        return k1[1] < k2[1] ? -1 : (k1[1] == k2[1] ? 0 : 1);
+      }
+    });
+    return segments;
+  }
+
+  /**
+   * 文件名的格式为：前缀-创建时间(毫秒)-序号.binlog
+   */
+  private static long[] sortKey(String name, String prefix) {
+    String body = name.substring(prefix.length() + 1,
+        name.length() - MappedFileSink.SEGMENT_SUFFIX.length());
+    int index = body.indexOf('-');
+    try {
+      return new long[] {Long.parseLong(body.substring(0, index)),
+          Long.parseLong(body.substring(index + 1))};
+    } catch (RuntimeException e) {
+      return new long[] {Long.MAX_VALUE, Long.MAX_VALUE};
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: BinaryLogSegmentReader <directory|segment> [prefix]");
+      System.exit(1);
+    }
+    File path = new File(args[0]);
+    List<File> segments;
+    if (path.isDirectory()) {
+      segments = listSegments(path, args.length > 1 ? args[1] : "BINARY_INFO");
+    } else {
+      segments = Collections.singletonList(path);
+    }
+    for (File segment : segments) {
+      for (GrpcLogEntry entry : read(segment)) {
+        System.out.println(entry);
+      }
+    }
+  }
+}
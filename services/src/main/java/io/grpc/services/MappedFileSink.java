@@ -0,0 +1,419 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.services;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 异步写内存映射文件的二进制日志输出
+ * <p>
+ * RPC线程调用{@link #write}时只把消息放入无锁的环形队列，不加锁、不做磁盘IO；队列满时丢弃消息并计数。
+ * 一个后台线程从队列中取出消息，序列化后追加到内存映射的分段文件中，队列为空时后台线程阻塞，
+ * 直到生产者放入消息后将其唤醒(或者到了按时间切换分段文件的时刻)。
+ * 分段文件写满或者超过指定的时间后切换到新的分段文件，关闭的分段文件立即解除内存映射，
+ * 超过保留个数的旧分段文件被删除。
+ * </p>
+ * <p>
+ * 分段文件的格式与{@link MessageLite#writeDelimitedTo}相同，可以使用{@link BinaryLogSegmentReader}读取。
+ * 分段文件关闭时截断为实际写入的长度；进程异常退出时文件尾部是未写入的0字节，读取时遇到长度为0的记录即结束。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class MappedFileSink implements BinaryLogSink {
+  private static final Logger logger = Logger.getLogger(MappedFileSink.class.getName());
+
+  static final String SEGMENT_SUFFIX = ".binlog";
+
+  // 用于解除内存映射，JDK8及以下版本为null
+  private static final Object UNSAFE;
+  private static final Method UNSAFE_INVOKE_CLEANER;
+
+  static {
+    Object unsafe = null;
+    Method invokeCleaner = null;
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      unsafe = field.get(null);
+    } catch (Exception e) {
+      // JDK8及以下版本没有invokeCleaner方法
+      invokeCleaner = null;
+    }
+    UNSAFE = unsafe;
+    UNSAFE_INVOKE_CLEANER = invokeCleaner;
+  }
+
+  private final File directory;
+  private final String prefix;
+  private final int segmentSize;
+  private final long rotateIntervalNanos;
+  private final int maxSegments;
+
+  private final MpscRingBuffer<MessageLite> buffer;
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong writtenCount = new AtomicLong();
+  @VisibleForTesting
+  final Thread writer;
+  private volatile boolean closed;
+
+  // 正在调用write()的生产者个数，关闭时后台线程等待其归零，保证放入队列的消息都被写入或者计入丢弃个数
+  private final AtomicInteger activeProducers = new AtomicInteger();
+
+  // 后台线程是否已经(或者即将)阻塞，生产者放入消息后据此决定是否唤醒后台线程
+  private volatile boolean writerParked;
+
+  // 以下字段只由后台线程访问
+  private final Deque<File> segments = new ArrayDeque<File>();
+  private RandomAccessFile file;
+  private MappedByteBuffer mapped;
+  private CodedOutputStream output;
+  private long segmentStartNanos;
+  private int segmentSeq;
+
+  private MappedFileSink(Builder builder) throws IOException {
+    directory = builder.directory;
+    prefix = builder.prefix;
+    segmentSize = builder.segmentSize;
+    rotateIntervalNanos = builder.rotateIntervalNanos;
+    maxSegments = builder.maxSegments;
+    buffer = new MpscRingBuffer<MessageLite>(builder.bufferSize);
+
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Unable to create directory " + directory);
+    }
+    openSegment(0);
+
+    writer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        runWriter();
+      }
+    }, "grpc-binlog-writer");
+    writer.setDaemon(true);
+    writer.start();
+    logger.log(Level.INFO, "Writing binary logs to {0}", directory.getAbsolutePath());
+  }
+
+  public static Builder newBuilder(File directory) {
+    return new Builder(directory);
+  }
+
+  /**
+   * 将消息放入队列，不会阻塞；队列已满或者已经关闭时丢弃消息
+   */
+  @Override
+  public void write(MessageLite message) {
+    activeProducers.incrementAndGet();
+    try {
+      if (closed || !buffer.offer(message)) {
+        droppedCount.incrementAndGet();
+      } else if (writerParked) {
+        writerParked = false;
+        LockSupport.unpark(writer);
+      }
+    } finally {
+      activeProducers.decrementAndGet();
+    }
+  }
+
+  /**
+   * 因为队列已满或者写文件出错而丢弃的消息个数
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * 已经写入分段文件的消息个数
+   */
+  public long getWrittenCount() {
+    return writtenCount.get();
+  }
+
+  /**
+   * 队列中等待写入的消息个数
+   */
+  public int getPendingCount() {
+    return buffer.size();
+  }
+
+  /**
+   * 关闭后不再接收新的消息，等待后台线程写完队列中已有的消息
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while closing", e);
+    }
+  }
+
+  private void runWriter() {
+    try {
+      while (true) {
+        MessageLite message = buffer.poll();
+        if (message != null) {
+          append(message);
+          continue;
+        }
+        if (closed) {
+          // 等待与close()并发的生产者返回，此后不会再有消息放入队列，写完剩余的消息后退出
+          awaitProducers();
+          while ((message = buffer.poll()) != null) {
+            append(message);
+          }
+          break;
+        }
+        park();
+      }
+    } catch (IOException e) {
+      logger.log(Level.SEVERE, "Caught exception while writing binary logs", e);
+      closed = true;
+    } finally {
+      // 写文件出错后的消息都计入丢弃个数
+      awaitProducers();
+      discardPending();
+      closeSegment();
+    }
+  }
+
+  /**
+   * 队列为空时阻塞，直到生产者放入消息、调用close()，或者到了按时间切换分段文件的时刻
+   */
+  private void park() throws IOException {
+    long waitNanos = 0;
+    if (rotateIntervalNanos > 0 && mapped != null && mapped.position() > 0) {
+      waitNanos = segmentStartNanos + rotateIntervalNanos - System.nanoTime();
+      if (waitNanos <= 0) {
+        rotate(0);
+        return;
+      }
+    }
+
+    writerParked = true;
+    // 先设置标志再检查队列，与生产者先放入消息再检查标志相对应，不会错过唤醒
+    if (buffer.size() == 0 && !closed) {
+      if (waitNanos > 0) {
+        LockSupport.parkNanos(this, waitNanos);
+      } else {
+        LockSupport.park(this);
+      }
+    }
+    writerParked = false;
+  }
+
+  private void awaitProducers() {
+    while (activeProducers.get() != 0) {
+      Thread.yield();
+    }
+  }
+
+  private void append(MessageLite message) throws IOException {
+    int size = message.getSerializedSize();
+    int length = CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    if (mapped.remaining() < length) {
+      rotate(length);
+    }
+    output.writeUInt32NoTag(size);
+    message.writeTo(output);
+    output.flush();
+    writtenCount.incrementAndGet();
+  }
+
+  private void discardPending() {
+    while (buffer.poll() != null) {
+      droppedCount.incrementAndGet();
+    }
+  }
+
+  private void rotate(int minSize) throws IOException {
+    closeSegment();
+    openSegment(minSize);
+  }
+
+  private void openSegment(int minSize) throws IOException {
+    File segment = new File(directory,
+        prefix + "-" + System.currentTimeMillis() + "-" + (segmentSeq++) + SEGMENT_SUFFIX);
+    file = new RandomAccessFile(segment, "rw");
+    long size = Math.max(segmentSize, minSize);
+    mapped = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+    output = CodedOutputStream.newInstance(mapped);
+    segmentStartNanos = System.nanoTime();
+
+    segments.addLast(segment);
+    while (maxSegments > 0 && segments.size() > maxSegments) {
+      File oldest = segments.removeFirst();
+      if (!oldest.delete()) {
+        logger.log(Level.WARNING, "Unable to delete binary log segment {0}", oldest);
+      }
+    }
+  }
+
+  private void closeSegment() {
+    if (file == null) {
+      return;
+    }
+    try {
+      mapped.force();
+      int length = mapped.position();
+      // 解除映射后才能截断文件(有的平台不允许截断或者删除仍然被映射的文件)，也不必等待GC回收映射的内存
+      unmap(mapped);
+      mapped = null;
+      output = null;
+      // 截断为实际写入的长度；无法截断时保留尾部的0字节
+      try {
+        file.setLength(length);
+      } catch (IOException e) {
+        logger.log(Level.FINE, "Unable to truncate binary log segment", e);
+      }
+      file.close();
+    } catch (IOException e) {
+      logger.log(Level.SEVERE, "Caught exception while closing binary log segment", e);
+    } finally {
+      file = null;
+      mapped = null;
+      output = null;
+    }
+  }
+
+  /**
+   * 解除内存映射，解除之后不能再访问该buffer
+   *
+   * @return 当前JVM不支持解除映射时返回false，映射的内存由GC回收
+   */
+  @VisibleForTesting
+  static boolean unmap(MappedByteBuffer buffer) {
+    try {
+      if (UNSAFE_INVOKE_CLEANER != null) {
+        // JDK9及以上版本
+        UNSAFE_INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        return true;
+      }
+      // JDK8及以下版本
+      Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+      cleanerMethod.setAccessible(true);
+      Object cleaner = cleanerMethod.invoke(buffer);
+      if (cleaner == null) {
+        return false;
+      }
+      Method cleanMethod = cleaner.getClass().getMethod("clean");
+      cleanMethod.setAccessible(true);
+      cleanMethod.invoke(cleaner);
+      return true;
+    } catch (Exception e) {
+      logger.log(Level.FINE, "Unable to unmap binary log segment", e);
+      return false;
+    } catch (LinkageError e) {
+      logger.log(Level.FINE, "Unable to unmap binary log segment", e);
+      return false;
+    }
+  }
+
+  /**
+   * {@link MappedFileSink}的构造器
+   */
+  public static final class Builder {
+    private final File directory;
+    private String prefix = "BINARY_INFO";
+    private int segmentSize = 64 * 1024 * 1024;
+    private long rotateIntervalNanos = TimeUnit.HOURS.toNanos(1);
+    private int maxSegments = 24;
+    private int bufferSize = 64 * 1024;
+
+    private Builder(File directory) {
+      this.directory = Preconditions.checkNotNull(directory, "directory");
+    }
+
+    /**
+     * 分段文件名的前缀，缺省为BINARY_INFO
+     */
+    public Builder setPrefix(String prefix) {
+      this.prefix = Preconditions.checkNotNull(prefix, "prefix");
+      return this;
+    }
+
+    /**
+     * 每个分段文件的大小，缺省为64MB
+     */
+    public Builder setSegmentSize(int segmentSize) {
+      Preconditions.checkArgument(segmentSize > 0, "segmentSize must be positive");
+      this.segmentSize = segmentSize;
+      return this;
+    }
+
+    /**
+     * 分段文件的最长写入时间，超过后切换到新的分段文件，缺省为1小时，0表示只按大小切换
+     */
+    public Builder setRotateInterval(long interval, TimeUnit unit) {
+      Preconditions.checkArgument(interval >= 0, "interval must not be negative");
+      this.rotateIntervalNanos = unit.toNanos(interval);
+      return this;
+    }
+
+    /**
+     * 最多保留的分段文件个数，缺省为24，0表示不删除
+     */
+    public Builder setMaxSegments(int maxSegments) {
+      Preconditions.checkArgument(maxSegments >= 0, "maxSegments must not be negative");
+      this.maxSegments = maxSegments;
+      return this;
+    }
+
+    /**
+     * 队列容量(消息个数)，缺省为65536
+     */
+    public Builder setBufferSize(int bufferSize) {
+      Preconditions.checkArgument(bufferSize > 0, "bufferSize must be positive");
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    public MappedFileSink build() throws IOException {
+      return new MappedFileSink(this);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.services;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * 多生产者、单消费者的无锁有界环形队列
+ * <p>
+ * 生产者通过CAS占用一个位置后写入元素，队列满时{@link #offer}立即返回false，不会阻塞；
+ * 只有一个消费者线程调用{@link #poll}，消费者清空位置后才推进head，生产者据此判断位置是否可用。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+final class MpscRingBuffer<E> {
+  private final AtomicReferenceArray<E> slots;
+  private final int mask;
+
+  // 下一个要写入的位置，生产者竞争
+  private final AtomicLong tail = new AtomicLong();
+
+  // 下一个要读取的位置，只有消费者修改
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * @param capacity 队列容量，向上取整为2的幂
+   */
+  MpscRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity > 0 && capacity <= (1 << 30),
+        "capacity must be in (0, 2^30]");
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    slots = new AtomicReferenceArray<E>(size);
+    mask = size - 1;
+  }
+
+  /**
+   * 写入一个元素，队列满时返回false
+   */
+  boolean offer(E element) {
+    Preconditions.checkNotNull(element, "element");
+    long index;
+    do {
+      index = tail.get();
+      if (index - head.get() >= slots.length()) {
+        return false;
+      }
+    } while (!tail.compareAndSet(index, index + 1));
+
+    slots.lazySet((int) (index & mask), element);
+    return true;
+  }
+
+  /**
+   * 取出一个元素，队列为空(或者占用位置的生产者还没有写入元素)时返回null，只能由消费者线程调用
+   */
+  @Nullable
+  E poll() {
+    long index = head.get();
+    int offset = (int) (index & mask);
+    E element = slots.get(offset);
+    if (element == null) {
+      return null;
+    }
+    slots.lazySet(offset, null);
+    head.lazySet(index + 1);
+    return element;
+  }
+
+  /**
+   * 队列中的元素个数(近似值)
+   */
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, slots.length()));
+  }
+
+  int capacity() {
+    return slots.length();
+  }
+}
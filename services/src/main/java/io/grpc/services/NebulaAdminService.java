@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.services;
+
+import static com.google.common.base.Strings.nullToEmpty;
+
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.consumer.internal.GovernanceEvents;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots.BreakerSnapshot;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots.ProviderSnapshot;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots.ResolverSnapshot;
+import io.grpc.nebula.admin.v1.Breaker;
+import io.grpc.nebula.admin.v1.GetMetricsRequest;
+import io.grpc.nebula.admin.v1.GetMetricsResponse;
+import io.grpc.nebula.admin.v1.GetResolversRequest;
+import io.grpc.nebula.admin.v1.GetResolversResponse;
+import io.grpc.nebula.admin.v1.GovernanceEvent;
+import io.grpc.nebula.admin.v1.NebulaAdminGrpc;
+import io.grpc.nebula.admin.v1.Provider;
+import io.grpc.nebula.admin.v1.RequestsControl;
+import io.grpc.nebula.admin.v1.Resolver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * 查看nebula服务治理状态的管理服务，与{@link ChannelzService}类似，注册到服务端后即可远程查询
+ * <p>
+ * 方法(定义见nebula/admin/v1/admin.proto)：
+ * <ul>
+ * <li>GetResolvers：各客户端(每个服务一个)的服务提供者列表、经过路由后的列表、负载均衡备选列表、
+ * 熔断状态和统计周期内的请求次数、连续出错次数、负载均衡策略和模式、流控剩余的请求数、最近的服务治理事件。
+ * 请求参数为服务名，为空时返回所有客户端。</li>
+ * <li>GetMetrics：Prometheus文本格式的调用统计(需要启用common.metrics.enabled)。</li>
+ * </ul>
+ * 数据读取自{@link GovernanceSnapshots}的无锁快照，高负载下频繁查询也不会阻塞服务调用。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class NebulaAdminService extends NebulaAdminGrpc.NebulaAdminImplBase {
+  public static NebulaAdminService newInstance() {
+    return new NebulaAdminService();
+  }
+
+  private NebulaAdminService() {
+  }
+
+  /**
+   * 返回客户端服务治理状态的快照
+   */
+  @Override
+  public void getResolvers(GetResolversRequest request,
+      StreamObserver<GetResolversResponse> responseObserver) {
+    GetResolversResponse.Builder response = GetResolversResponse.newBuilder();
+    for (ResolverSnapshot snapshot : GovernanceSnapshots.resolvers(request.getService())) {
+      response.addResolver(toResolver(snapshot));
+    }
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * 返回Prometheus文本格式的调用统计
+   */
+  @Override
+  public void getMetrics(GetMetricsRequest request,
+      StreamObserver<GetMetricsResponse> responseObserver) {
+    GetMetricsResponse response = GetMetricsResponse.newBuilder()
+        .setText(NebulaMetrics.scrape())
+        .build();
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * 把{@link GovernanceSnapshots#resolvers}返回的一个客户端的快照转换为protobuf
+   */
+  static Resolver toResolver(ResolverSnapshot snapshot) {
+    Resolver.Builder resolver = Resolver.newBuilder()
+        .setService(nullToEmpty(snapshot.getService()))
+        .setConsumerId(nullToEmpty(snapshot.getConsumerId()))
+        .setConsumerIp(nullToEmpty(snapshot.getConsumerIp()))
+        .setServiceVersion(nullToEmpty(snapshot.getServiceVersion()))
+        .setInvokeGroup(nullToEmpty(snapshot.getInvokeGroup()))
+        .setInvokeMaster(snapshot.getInvokeMaster())
+        .setRegistryConnected(snapshot.isRegistryConnected())
+        .putAllLoadBalanceStrategy(snapshot.getLoadBalanceStrategy())
+        .putAllLoadBalanceMode(snapshot.getLoadBalanceMode())
+        .setRequestsControl(RequestsControl.newBuilder()
+            .setMaxPerSecond(snapshot.getMaxRequestsPerSecond())
+            .setRemaining(snapshot.getRemainingRequests()))
+        .setRouters(snapshot.getRouters())
+        .setParameterRouters(snapshot.getParameterRouters());
+
+    for (ProviderSnapshot provider : snapshot.getProviders()) {
+      resolver.addProvider(toProvider(provider));
+    }
+    for (GovernanceEvents.Event event : snapshot.getEvents()) {
+      resolver.addEvent(GovernanceEvent.newBuilder()
+          .setTimeMillis(event.getTimeMillis())
+          .setType(nullToEmpty(event.getType()))
+          .setDetail(nullToEmpty(event.getDetail())));
+    }
+    return resolver.build();
+  }
+
+  private static Provider toProvider(ProviderSnapshot item) {
+    Provider.Builder provider = Provider.newBuilder()
+        .setAddress(nullToEmpty(item.getAddress()))
+        .setVersion(nullToEmpty(item.getVersion()))
+        .setGroup(nullToEmpty(item.getGroup()))
+        .setMaster(item.getMaster())
+        .setWeight(item.getWeight())
+        .setZone(nullToEmpty(item.getZone()))
+        .setDeprecated(item.isDeprecated())
+        .setRouted(item.isRouted())
+        .setSelectable(item.isSelectable())
+        .setGroupValid(item.isGroupValid())
+        .setConsecutiveFailures(item.getConsecutiveFailures());
+
+    BreakerSnapshot breaker = item.getBreaker();
+    if (breaker != null) {
+      provider.setBreaker(Breaker.newBuilder()
+          .setState(nullToEmpty(breaker.getState()))
+          .setTotal(breaker.getTotal())
+          .setFailed(breaker.getFailed())
+          .setOpenTimeMillis(breaker.getOpenTimeMillis()));
+    }
+    return provider.build();
+  }
+}
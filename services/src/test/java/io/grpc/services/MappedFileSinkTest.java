@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.binarylog.v1.GrpcLogEntry;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link MappedFileSink}, {@link MpscRingBuffer} and {@link BinaryLogSegmentReader}.
+ */
+@RunWith(JUnit4.class)
+public class MappedFileSinkTest {
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void readMyWrite() throws Exception {
+    File dir = folder.newFolder();
+    MappedFileSink sink = MappedFileSink.newBuilder(dir).build();
+    GrpcLogEntry e1 = GrpcLogEntry.newBuilder()
+        .setCallId(1234)
+        .build();
+    GrpcLogEntry e2 = GrpcLogEntry.newBuilder()
+        .setCallId(5678)
+        .build();
+    sink.write(e1);
+    sink.write(e2);
+    sink.close();
+
+    assertEquals(2, sink.getWrittenCount());
+    assertEquals(0, sink.getDroppedCount());
+    List<File> segments = BinaryLogSegmentReader.listSegments(dir, "BINARY_INFO");
+    assertEquals(1, segments.size());
+    List<GrpcLogEntry> entries = BinaryLogSegmentReader.read(segments.get(0));
+    assertEquals(2, entries.size());
+    assertEquals(e1, entries.get(0));
+    assertEquals(e2, entries.get(1));
+  }
+
+  @Test
+  public void rotateBySize() throws Exception {
+    File dir = folder.newFolder();
+    MappedFileSink sink = MappedFileSink.newBuilder(dir)
+        .setSegmentSize(64)
+        .setRotateInterval(0, TimeUnit.SECONDS)
+        .setMaxSegments(0)
+        .build();
+    for (int i = 1; i <= 100; i++) {
+      GrpcLogEntry entry = GrpcLogEntry.newBuilder()
+          .setCallId(i)
+          .build();
+      // 队列很大，不会丢弃
+      sink.write(entry);
+    }
+    sink.close();
+
+    List<File> segments = BinaryLogSegmentReader.listSegments(dir, "BINARY_INFO");
+    assertTrue(segments.size() > 1);
+    List<GrpcLogEntry> entries = new ArrayList<GrpcLogEntry>();
+    for (File segment : segments) {
+      entries.addAll(BinaryLogSegmentReader.read(segment));
+    }
+    assertEquals(100, entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      assertEquals(i + 1, entries.get(i).getCallId());
+    }
+  }
+
+  @Test
+  public void oldSegmentsAreDeleted() throws Exception {
+    File dir = folder.newFolder();
+    MappedFileSink sink = MappedFileSink.newBuilder(dir)
+        .setSegmentSize(16)
+        .setMaxSegments(2)
+        .build();
+    for (int i = 1; i <= 20; i++) {
+      sink.write(GrpcLogEntry.newBuilder().setCallId(i).build());
+    }
+    sink.close();
+
+    assertEquals(2, BinaryLogSegmentReader.listSegments(dir, "BINARY_INFO").size());
+  }
+
+  @Test
+  public void writeAfterCloseIsDropped() throws Exception {
+    MappedFileSink sink = MappedFileSink.newBuilder(folder.newFolder()).build();
+    sink.close();
+    sink.write(GrpcLogEntry.newBuilder()
+        .setCallId(1234)
+        .build());
+    assertEquals(1, sink.getDroppedCount());
+    assertEquals(0, sink.getWrittenCount());
+  }
+
+  @Test
+  public void idleWriterBlocksUntilWoken() throws Exception {
+    MappedFileSink sink = MappedFileSink.newBuilder(folder.newFolder())
+        .setRotateInterval(0, TimeUnit.SECONDS)
+        .build();
+    try {
+      // 队列为空、不需要按时间切换分段文件时，后台线程一直阻塞，而不是定时醒来
+      awaitState(sink.writer, Thread.State.WAITING);
+
+      sink.write(GrpcLogEntry.newBuilder().setCallId(1).build());
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (sink.getWrittenCount() != 1) {
+        assertTrue("writer was not woken up", System.nanoTime() < deadline);
+        Thread.sleep(1);
+      }
+      awaitState(sink.writer, Thread.State.WAITING);
+    } finally {
+      sink.close();
+    }
+    assertEquals(1, sink.getWrittenCount());
+  }
+
+  @Test
+  public void writesRacingWithCloseAreAccounted() throws Exception {
+    File dir = folder.newFolder();
+    final MappedFileSink sink = MappedFileSink.newBuilder(dir)
+        .setSegmentSize(4096)
+        .setMaxSegments(0)
+        .setBufferSize(256)
+        .build();
+    final int threads = 4;
+    final int perThread = 5000;
+    final CountDownLatch started = new CountDownLatch(threads);
+    List<Thread> producers = new ArrayList<Thread>();
+    for (int t = 0; t < threads; t++) {
+      Thread producer = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          started.countDown();
+          for (int i = 0; i < perThread; i++) {
+            sink.write(GrpcLogEntry.newBuilder().setCallId(i + 1).build());
+          }
+        }
+      });
+      producer.start();
+      producers.add(producer);
+    }
+    started.await();
+    sink.close();
+    for (Thread producer : producers) {
+      producer.join();
+    }
+
+    // 每条消息要么写入文件，要么计入丢弃个数
+    assertEquals(threads * perThread, sink.getWrittenCount() + sink.getDroppedCount());
+    assertEquals(0, sink.getPendingCount());
+    int entries = 0;
+    for (File segment : BinaryLogSegmentReader.listSegments(dir, "BINARY_INFO")) {
+      entries += BinaryLogSegmentReader.read(segment).size();
+    }
+    assertEquals(sink.getWrittenCount(), entries);
+  }
+
+  @Test
+  public void rolledSegmentIsUnmappedAndTruncated() throws Exception {
+    File dir = folder.newFolder();
+    MappedFileSink sink = MappedFileSink.newBuilder(dir)
+        .setSegmentSize(1024)
+        .setRotateInterval(0, TimeUnit.SECONDS)
+        .setMaxSegments(0)
+        .build();
+    for (int i = 1; i <= 2000; i++) {
+      sink.write(GrpcLogEntry.newBuilder().setCallId(i).build());
+    }
+    sink.close();
+
+    List<File> segments = BinaryLogSegmentReader.listSegments(dir, "BINARY_INFO");
+    assertTrue(segments.size() > 1);
+    for (File segment : segments) {
+      long length = 0;
+      for (GrpcLogEntry entry : BinaryLogSegmentReader.read(segment)) {
+        int size = entry.getSerializedSize();
+        length += CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+      }
+      // 解除映射之后才能截断为实际写入的长度，也可以删除
+      assertEquals(length, segment.length());
+      assertTrue(segment.delete());
+    }
+  }
+
+  @Test
+  public void unmapReleasesMapping() throws Exception {
+    File file = folder.newFile();
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      MappedByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, 4096);
+      mapped.put((byte) 1);
+      assertTrue(MappedFileSink.unmap(mapped));
+      raf.setLength(1);
+    } finally {
+      raf.close();
+    }
+    assertEquals(1, file.length());
+  }
+
+  private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (thread.getState() != state) {
+      assertTrue("writer state " + thread.getState(), System.nanoTime() < deadline);
+      Thread.sleep(1);
+    }
+  }
+
+  @Test
+  public void ringBufferRejectsWhenFull() {
+    MpscRingBuffer<String> buffer = new MpscRingBuffer<String>(3);
+    assertEquals(4, buffer.capacity());
+    for (int i = 0; i < 4; i++) {
+      assertTrue(buffer.offer("e" + i));
+    }
+    assertFalse(buffer.offer("e4"));
+    assertEquals(4, buffer.size());
+
+    assertEquals("e0", buffer.poll());
+    assertTrue(buffer.offer("e4"));
+    for (int i = 1; i <= 4; i++) {
+      assertEquals("e" + i, buffer.poll());
+    }
+    assertNull(buffer.poll());
+    assertEquals(0, buffer.size());
+  }
+}
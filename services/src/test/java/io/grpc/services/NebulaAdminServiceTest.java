@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.orientsec.grpc.common.metrics.NebulaMetrics;
+import com.orientsec.grpc.consumer.internal.GovernanceEvents;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots.BreakerSnapshot;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots.ProviderSnapshot;
+import com.orientsec.grpc.consumer.internal.GovernanceSnapshots.ResolverSnapshot;
+import io.grpc.nebula.admin.v1.GetMetricsRequest;
+import io.grpc.nebula.admin.v1.GetMetricsResponse;
+import io.grpc.nebula.admin.v1.GetResolversRequest;
+import io.grpc.nebula.admin.v1.GetResolversResponse;
+import io.grpc.nebula.admin.v1.Provider;
+import io.grpc.nebula.admin.v1.Resolver;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link NebulaAdminService}.
+ */
+@RunWith(JUnit4.class)
+public class NebulaAdminServiceTest {
+  private final NebulaAdminService service = NebulaAdminService.newInstance();
+
+  @Test
+  public void toResolver() {
+    ProviderSnapshot provider = new ProviderSnapshot();
+    provider.setAddress("10.0.0.1:50051");
+    provider.setVersion("1.0.0");
+    provider.setGroup(null);
+    provider.setMaster(true);
+    provider.setWeight(100);
+    provider.setZone("z1");
+    provider.setDeprecated(false);
+    provider.setRouted(true);
+    provider.setSelectable(false);
+    provider.setGroupValid(true);
+    provider.setBreaker(new BreakerSnapshot("breaker", 20L, 12L, 1700000000000L));
+    provider.setConsecutiveFailures(3);
+
+    GovernanceEvents events = new GovernanceEvents(4);
+    events.record(GovernanceEvents.BREAKER_OPEN, "10.0.0.1:50051");
+
+    ResolverSnapshot snapshot = new ResolverSnapshot();
+    snapshot.setService("com.foo.FooService");
+    snapshot.setConsumerId("consumer-1");
+    snapshot.setConsumerIp("10.0.0.9");
+    snapshot.setServiceVersion("1.0.0");
+    snapshot.setInvokeGroup(null);
+    snapshot.setInvokeMaster(true);
+    snapshot.setRegistryConnected(true);
+    snapshot.setLoadBalanceStrategy(Collections.singletonMap("", "ROUND_ROBIN"));
+    snapshot.setLoadBalanceMode(Collections.singletonMap("sayHello", "request"));
+    snapshot.setMaxRequestsPerSecond(1000L);
+    snapshot.setRemainingRequests(998L);
+    snapshot.setRouters(2);
+    snapshot.setParameterRouters(1);
+    snapshot.setProviders(Collections.singletonList(provider));
+    snapshot.setEvents(events.snapshot());
+
+    Resolver resolver = NebulaAdminService.toResolver(snapshot);
+    assertEquals("com.foo.FooService", resolver.getService());
+    assertEquals("consumer-1", resolver.getConsumerId());
+    assertEquals("10.0.0.9", resolver.getConsumerIp());
+    assertEquals("1.0.0", resolver.getServiceVersion());
+    assertEquals("", resolver.getInvokeGroup());
+    assertTrue(resolver.getInvokeMaster());
+    assertTrue(resolver.getRegistryConnected());
+    assertEquals(Collections.singletonMap("", "ROUND_ROBIN"),
+        resolver.getLoadBalanceStrategyMap());
+    assertEquals(Collections.singletonMap("sayHello", "request"),
+        resolver.getLoadBalanceModeMap());
+    assertEquals(1000L, resolver.getRequestsControl().getMaxPerSecond());
+    assertEquals(998L, resolver.getRequestsControl().getRemaining());
+    assertEquals(2, resolver.getRouters());
+    assertEquals(1, resolver.getParameterRouters());
+
+    assertEquals(1, resolver.getProviderCount());
+    Provider converted = resolver.getProvider(0);
+    assertEquals("10.0.0.1:50051", converted.getAddress());
+    assertEquals("", converted.getGroup());
+    assertTrue(converted.getMaster());
+    assertEquals(100, converted.getWeight());
+    assertEquals("z1", converted.getZone());
+    assertTrue(converted.getRouted());
+    assertFalse(converted.getSelectable());
+    assertTrue(converted.getGroupValid());
+    assertEquals(3, converted.getConsecutiveFailures());
+    assertEquals("breaker", converted.getBreaker().getState());
+    assertEquals(20L, converted.getBreaker().getTotal());
+    assertEquals(12L, converted.getBreaker().getFailed());
+    assertEquals(1700000000000L, converted.getBreaker().getOpenTimeMillis());
+
+    assertEquals(1, resolver.getEventCount());
+    assertEquals(events.snapshot().get(0).getTimeMillis(), resolver.getEvent(0).getTimeMillis());
+    assertEquals("BREAKER_OPEN", resolver.getEvent(0).getType());
+    assertEquals("10.0.0.1:50051", resolver.getEvent(0).getDetail());
+  }
+
+  @Test
+  public void toResolver_missingItems() {
+    ProviderSnapshot provider = new ProviderSnapshot();
+    provider.setAddress("10.0.0.1:50051");
+
+    ResolverSnapshot snapshot = new ResolverSnapshot();
+    snapshot.setService("com.foo.FooService");
+    snapshot.setConsumerId(null);
+    snapshot.setProviders(Collections.singletonList(provider));
+
+    Resolver resolver = NebulaAdminService.toResolver(snapshot);
+    assertEquals("", resolver.getConsumerId());
+    assertEquals(0, resolver.getLoadBalanceStrategyCount());
+    assertEquals(0L, resolver.getRequestsControl().getMaxPerSecond());
+    assertEquals(0, resolver.getEventCount());
+    // 客户端没有注册到注册中心时没有熔断状态
+    assertFalse(resolver.getProvider(0).hasBreaker());
+  }
+
+  @Test
+  public void getResolvers_unknownService() {
+    @SuppressWarnings("unchecked")
+    StreamObserver<GetResolversResponse> observer = mock(StreamObserver.class);
+    ArgumentCaptor<GetResolversResponse> responseCaptor =
+        ArgumentCaptor.forClass(GetResolversResponse.class);
+    service.getResolvers(
+        GetResolversRequest.newBuilder().setService("com.foo.NoSuchService").build(), observer);
+    verify(observer).onNext(responseCaptor.capture());
+    verify(observer).onCompleted();
+    assertEquals(GetResolversResponse.getDefaultInstance(), responseCaptor.getValue());
+  }
+
+  @Test
+  public void getMetrics() {
+    @SuppressWarnings("unchecked")
+    StreamObserver<GetMetricsResponse> observer = mock(StreamObserver.class);
+    ArgumentCaptor<GetMetricsResponse> responseCaptor =
+        ArgumentCaptor.forClass(GetMetricsResponse.class);
+    service.getMetrics(GetMetricsRequest.getDefaultInstance(), observer);
+    verify(observer).onNext(responseCaptor.capture());
+    verify(observer).onCompleted();
+    assertEquals(NebulaMetrics.scrape(), responseCaptor.getValue().getText());
+  }
+}
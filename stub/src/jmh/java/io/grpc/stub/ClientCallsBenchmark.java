@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.stub;
+
+import com.google.protobuf.Field;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 每次调用都会执行的{@link ClientCalls#getArgumentFromRequest}(提取一致性Hash参数)的开销
+ * <p>
+ * 请求使用protobuf自带的{@link Field}消息，包含字符串、整数、布尔和枚举类型的字段。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+@State(Scope.Benchmark)
+public class ClientCallsBenchmark {
+  private Field request;
+
+  /**
+   * Setup.
+   */
+  @Setup
+  public void setUp() {
+    request = Field.newBuilder()
+        .setName("userId")
+        .setJsonName("userId")
+        .setNumber(1)
+        .setKind(Field.Kind.TYPE_STRING)
+        .setCardinality(Field.Cardinality.CARDINALITY_OPTIONAL)
+        .setPacked(true)
+        .setDefaultValue("A0001")
+        .build();
+  }
+
+  /**
+   * 单线程提取参数.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object getArgumentFromRequest1Thread() {
+    return ClientCalls.getArgumentFromRequest(request);
+  }
+
+  /**
+   * 多个线程同时提取参数.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(4)
+  public Object getArgumentFromRequest4Threads() {
+    return ClientCalls.getArgumentFromRequest(request);
+  }
+}
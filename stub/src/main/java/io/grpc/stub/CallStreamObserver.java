@@ -17,6 +17,7 @@
 package io.grpc.stub;
 
 import io.grpc.ExperimentalApi;
+import javax.annotation.Nullable;
 
 /**
  * A refinement of StreamObserver provided by the GRPC runtime to the application that allows for
@@ -109,4 +110,21 @@ public abstract class CallStreamObserver<V> implements StreamObserver<V> {
    * @param enable whether to enable compression.
    */
   public abstract void setMessageCompression(boolean enable);
+
+  /**
+   * 从当前stream的发送消息对象池中借出一个对象，填充后通过{@link #onNext}发送
+   * <p>
+   * 方法启用了消息对象池、并且marshaller支持复用对象时，本方法借出的消息通过{@link #onNext}发送完成后会被回收到池中，
+   * 应用不能再访问或者重复发送这些消息；应用自己创建、持有的其他消息不会被回收。
+   * 池中没有空闲对象时通过marshaller新建一个对象借出，发送后同样放入池中。
+   * 不支持消息对象池时返回null，此时由应用自己新建消息对象。
+   * </p>
+   *
+   * @author sxp
+   * @since nebula-1.2.9 2026-10-19
+   */
+  @Nullable
+  public V borrowMessage() {
+    return null;
+  }
 }
@@ -24,24 +24,17 @@ import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.GeneratedMessageV3;
-import com.orientsec.grpc.common.constant.GlobalConstants;
-import com.orientsec.grpc.common.enums.LoadBalanceMode;
-import com.orientsec.grpc.common.resource.SystemConfig;
 import com.orientsec.grpc.common.util.GrpcUtils;
-import com.orientsec.grpc.common.util.LoadBalanceUtil;
-import com.orientsec.grpc.common.util.PropertiesUtils;
 import com.orientsec.grpc.common.util.StringUtils;
 import com.orientsec.grpc.consumer.ConsistentHashArguments;
-import com.orientsec.grpc.consumer.FailoverUtils;
 import com.orientsec.grpc.consumer.ThreadLocalVariableUtils;
-import com.orientsec.grpc.consumer.internal.ZookeeperNameResolver;
 import com.orientsec.grpc.consumer.qos.ConsumerRequestsControllerUtils;
 import io.grpc.CallOptions;
 import io.grpc.Channel;
 import io.grpc.ClientCall;
+import io.grpc.MessagePool;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
-import io.grpc.NameResolver;
 import io.grpc.Status;
 import io.grpc.StatusException;
 import io.grpc.StatusRuntimeException;
@@ -52,7 +45,6 @@ import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
@@ -70,28 +62,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public final class ClientCalls {
   private static final Logger logger = LoggerFactory.getLogger(ClientCalls.class);
 
-  private static Properties properties = SystemConfig.getProperties();
-
-  /**
-   * 失败重试次数
-   */
-  private static int failureRetryNum = initFailureRetryNum();
-
-
-  private static int initFailureRetryNum() {
-    String key = GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES;
-    int defaultValue = 0;
-
-    int num = PropertiesUtils.getValidIntegerValue(properties, key, defaultValue);
-    if (num < 0) {
-      num = defaultValue;
-    }
-
-    logger.info(key + " = " + num);
-
-    return num;
-  }
-
   // Prevent instantiation
   private ClientCalls() {}
 
@@ -168,66 +138,15 @@ public final class ClientCalls {
     try {
       ListenableFuture<RespT> responseFuture = futureUnaryCall(call, req);
       judgeResponseFuture(responseFuture, executor);
-      RespT result = getUnchecked(responseFuture);
-      //----begin----计算请求次数、请求出错次数----
-      FailoverUtils.recordRequest(channel, true, call, null);
-      //----end------计算请求次数、请求出错次数----
-      return result;
+      // 请求次数、请求出错次数的统计以及失败重试由FailoverClientInterceptor在调用结束时完成
+      return getUnchecked(responseFuture);
     } catch (RuntimeException e) {
-      FailoverUtils.recordRequest(channel, false, call, e);
-      RespT respT = failureRetry(channel, method, callOptions, req, call, executor);
-      if (respT != null) {
-        return respT;
-      }
       throw cancelThrow(call, e);
     } catch (Error e) {
-      FailoverUtils.recordRequest(channel, false, call, null);
-      RespT respT = failureRetry(channel, method, callOptions, req, call, executor);
-      if (respT != null) {
-        return respT;
-      }
       throw cancelThrow(call, e);
     }
   }
 
-  /**
-   * 重选服务器
-   *
-   * @Author yuanzhonglin
-   * @since 2019/4/8
-   */
-  private static void reelectServer(Channel channel, String fullMethod){
-    NameResolver nameResolver = channel.getNameResolver();
-    if (nameResolver instanceof ZookeeperNameResolver) {
-
-      ZookeeperNameResolver zkResolver = (ZookeeperNameResolver) nameResolver;
-      String method = GrpcUtils.getSimpleMethodName(fullMethod);
-      if (LoadBalanceMode.connection.name().equals(
-              LoadBalanceUtil.getLoadBalanceMode(nameResolver, method))) {
-
-        zkResolver.resolveServerInfo(getArgument(nameResolver), method);
-      }
-    }
-  }
-
-  /**
-   * 获取Argument值
-   *
-   * @Author yuanzhonglin
-   * @since 2019/4/8
-   */
-  private static Object getArgument(NameResolver nameResolver) {
-    String serviceName = null;
-    if (nameResolver != null) {
-      serviceName = nameResolver.getServiceName();
-    }
-    final Object argument = ConsistentHashArguments.getArgument(serviceName);
-    if (argument != null) {
-      ConsistentHashArguments.resetArgument(serviceName);
-    }
-    return argument;
-  }
-
   /**
    * 校验ResponseFuture
    *
@@ -249,70 +168,6 @@ public final class ClientCalls {
     }
   }
 
-  /**
-   * 失败重试
-   *
-   * @Author yuanzhonglin
-   * @since 2019/4/8
-   */
-  private static <ReqT, RespT> RespT failureRetry (
-          Channel channel,
-          MethodDescriptor<ReqT, RespT> method,
-          CallOptions callOptions,
-          ReqT req,
-          ClientCall<ReqT, RespT> call,
-          ThreadlessExecutor executor) {
-
-    int retryNum, methodRetryNum, serviceRetryNum;
-
-    /**
-     * 1. 从配置文件中获取指定Method的重试次数
-     * 2. 如果Method没有配置，则取服务的配置次数
-     * 3. 如果服务没有配置，则取默认次数
-     */
-    String interfaceName = GrpcUtils.getInterfaceNameNoneException(method.getFullMethodName());
-    String methodName = GrpcUtils.getSimpleMethodName(method.getFullMethodName());
-    String serviceRetryConfKey = GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES + "[" + interfaceName + "]";
-    String methodRetryConfKey = GlobalConstants.Consumer.Key.CONSUME_RDEFAULT_RETRIES + "[" + interfaceName + "." + methodName + "]";
-
-    methodRetryNum = PropertiesUtils.getValidIntegerValue(properties, methodRetryConfKey, 0);
-    serviceRetryNum = PropertiesUtils.getValidIntegerValue(properties, serviceRetryConfKey, 0);
-
-    if (methodRetryNum > 0) {
-      retryNum = methodRetryNum;
-    } else if (serviceRetryNum > 0) {
-      retryNum = serviceRetryNum;
-    } else {
-      retryNum = failureRetryNum;
-    }
-
-    if (retryNum == 0) {
-      return null;
-    }
-
-    ListenableFuture<RespT> responseFuture;
-    RespT result;
-
-    for (int i = 0; i < retryNum; i++) {
-      try {
-        logger.info("失败重试第" + (i + 1) + "次...");
-
-        reelectServer(channel, method.getFullMethodName());
-        call = channel.newCall(method, callOptions.withExecutor(executor));
-        responseFuture = futureUnaryCall(call, req);
-        judgeResponseFuture(responseFuture, executor);
-        result = getUnchecked(responseFuture);
-
-        FailoverUtils.recordRequest(channel, true, call, null);
-        return result;
-      } catch (Exception e) {
-        FailoverUtils.recordRequest(channel, false, call, e);
-      }
-    }
-
-    return null;
-  }
-
   /**
    * Executes a server-streaming call returning a blocking {@link Iterator} over the
    * response stream.  The {@code call} should not be already started.  After calling this method,
@@ -341,23 +196,7 @@ public final class ClientCalls {
     ThreadlessExecutor executor = new ThreadlessExecutor();
     ClientCall<ReqT, RespT> call = channel.newCall(method, callOptions.withExecutor(executor));
     BlockingResponseStream<RespT> result = new BlockingResponseStream<RespT>(call, executor);
-
-    boolean success = true;
-    Exception e = null;
-
-    try {
-      asyncUnaryRequestCall(call, req, result.listener(), true);
-    } catch (Throwable t) {
-      if (t instanceof Exception) {
-        e = (Exception) t;
-      }
-      success = false;
-    } finally {
-      //----begin----计算请求次数、请求出错次数----
-      FailoverUtils.recordRequest(channel, success, call, e);
-      //----end------计算请求次数、请求出错次数----
-    }
-
+    asyncUnaryRequestCall(call, req, result.listener(), true);
     return result;
   }
 
@@ -453,7 +292,8 @@ public final class ClientCalls {
         new StreamObserverToCallListenerAdapter<ReqT, RespT>(
             responseObserver,
             new CallToStreamObserverAdapter<ReqT>(call),
-            streamingResponse),
+            streamingResponse,
+            call.getResponsePool()),
         streamingResponse);
   }
 
@@ -559,7 +399,7 @@ public final class ClientCalls {
     startCall(
         call,
         new StreamObserverToCallListenerAdapter<ReqT, RespT>(
-            responseObserver, adapter, streamingResponse),
+            responseObserver, adapter, streamingResponse, call.getResponsePool()),
         streamingResponse);
     return adapter;
   }
@@ -670,7 +510,8 @@ public final class ClientCalls {
     StreamObserverToCallListenerAdapter(
         StreamObserver<RespT> observer,
         CallToStreamObserverAdapter<ReqT> adapter,
-        boolean streamingResponse) {
+        boolean streamingResponse,
+        @Nullable MessagePool<RespT> responsePool) {
       this.observer = observer;
       this.streamingResponse = streamingResponse;
       this.adapter = adapter;
@@ -681,6 +522,10 @@ public final class ClientCalls {
         clientResponseObserver.beforeStart(adapter);
       }
       adapter.freeze();
+      // 把接收响应消息使用的对象池传给应用
+      if (responsePool != null && observer instanceof PooledStreamObserver) {
+        ((PooledStreamObserver<RespT>) observer).setMessagePool(responsePool);
+      }
     }
 
     @Override
@@ -0,0 +1,619 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.stub;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.SharedResourceHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 合并并发一元调用的客户端工具
+ * <p>
+ * 在一个很短的时间窗口内(或者攒够一批请求时)，将对同一方法的多个一元调用合并为一次调用发送给服务端，
+ * 服务端返回后再按顺序将响应分发给各个调用方的Future。合并后的调用只经过一次负载均衡、流量控制和熔断统计。<br>
+ * 支持两种方式：<br>
+ * 1. 批量方法：服务端提供一个批量的一元方法，由{@link BatchCodec}负责合并请求、拆分响应；<br>
+ * 2. 双向流方法：在一个双向流调用中依次发送各个请求，服务端按请求的顺序为每个请求返回一个响应。<br>
+ * 每个请求的截止时间和取消单独生效：已过期或已取消的请求不会被发送，某个请求到期后其Future立即以DEADLINE_EXCEEDED失败；
+ * 合并后调用的截止时间取各请求截止时间中最晚的一个，批次中所有请求都被取消或到期时取消合并后的调用。<br>
+ * 合并后的调用在callOptions指定的executor(未指定时使用共享的线程池)上发起，不占用定时器线程；
+ * 双向流方法按照流控(isReady/onReady)发送请求，不会在客户端无限制地缓存。
+ * </p>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public final class CoalescingUnaryCaller<ReqT, RespT> {
+  private static final Logger logger = LoggerFactory.getLogger(CoalescingUnaryCaller.class);
+
+  /**
+   * 批量方法的请求合并、响应拆分
+   */
+  public interface BatchCodec<ReqT, RespT, BatchReqT, BatchRespT> {
+    /**
+     * 将多个请求合并为一个批量请求
+     */
+    BatchReqT merge(List<ReqT> requests);
+
+    /**
+     * 将批量响应拆分为各个请求的响应，顺序必须与合并时请求的顺序一致
+     */
+    List<RespT> split(BatchRespT response);
+  }
+
+  private final Dispatcher<ReqT, RespT> dispatcher;
+  private final CallOptions callOptions;
+  private final int maxBatchSize;
+  private final long windowNanos;
+  private final ScheduledExecutorService scheduler;
+
+  // 发起合并后调用的executor
+  private final Executor executor;
+  private final boolean usingSharedExecutor;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private List<Item<ReqT, RespT>> pending = new ArrayList<Item<ReqT, RespT>>();
+
+  @GuardedBy("lock")
+  private ScheduledFuture<?> flushFuture;
+
+  @GuardedBy("lock")
+  private boolean shutdown;
+
+  private final Runnable flushTask = new Runnable() {
+    @Override
+    public void run() {
+      List<Item<ReqT, RespT>> batch;
+      synchronized (lock) {
+        flushFuture = null;
+        batch = drainPending();
+      }
+      dispatchAsync(batch);
+    }
+  };
+
+  private CoalescingUnaryCaller(Dispatcher<ReqT, RespT> dispatcher, CallOptions callOptions,
+                                int maxBatchSize, long window, TimeUnit unit) {
+    checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+    checkArgument(window > 0, "window must be positive");
+    this.dispatcher = dispatcher;
+    this.callOptions = checkNotNull(callOptions, "callOptions");
+    this.maxBatchSize = maxBatchSize;
+    this.windowNanos = unit.toNanos(window);
+    this.scheduler = SharedResourceHolder.get(GrpcUtil.TIMER_SERVICE);
+    if (callOptions.getExecutor() != null) {
+      this.executor = callOptions.getExecutor();
+      this.usingSharedExecutor = false;
+    } else {
+      this.executor = SharedResourceHolder.get(GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+      this.usingSharedExecutor = true;
+    }
+  }
+
+  /**
+   * 基于批量的一元方法合并调用
+   *
+   * @param channel      channel
+   * @param batchMethod  批量方法，必须是一元方法
+   * @param callOptions  合并后调用使用的CallOptions
+   * @param codec        请求合并、响应拆分
+   * @param maxBatchSize 一次合并的最大请求数量
+   * @param window       等待合并的最长时间
+   * @param unit         window的时间单位
+   */
+  public static <ReqT, RespT, BatchReqT, BatchRespT> CoalescingUnaryCaller<ReqT, RespT> forBatchMethod(
+          Channel channel, MethodDescriptor<BatchReqT, BatchRespT> batchMethod, CallOptions callOptions,
+          BatchCodec<ReqT, RespT, BatchReqT, BatchRespT> codec, int maxBatchSize, long window, TimeUnit unit) {
+    checkArgument(batchMethod.getType() == MethodDescriptor.MethodType.UNARY,
+            "batchMethod must be a unary method");
+    BatchMethodDispatcher<ReqT, RespT, BatchReqT, BatchRespT> dispatcher =
+            new BatchMethodDispatcher<ReqT, RespT, BatchReqT, BatchRespT>(
+                    checkNotNull(channel, "channel"), batchMethod, checkNotNull(codec, "codec"));
+    return new CoalescingUnaryCaller<ReqT, RespT>(dispatcher, callOptions, maxBatchSize, window, unit);
+  }
+
+  /**
+   * 基于双向流方法合并调用，服务端需要按请求的顺序为每个请求返回一个响应
+   *
+   * @param channel      channel
+   * @param bidiMethod   双向流方法
+   * @param callOptions  合并后调用使用的CallOptions
+   * @param maxBatchSize 一次合并的最大请求数量
+   * @param window       等待合并的最长时间
+   * @param unit         window的时间单位
+   */
+  public static <ReqT, RespT> CoalescingUnaryCaller<ReqT, RespT> forBidiMethod(
+          Channel channel, MethodDescriptor<ReqT, RespT> bidiMethod, CallOptions callOptions,
+          int maxBatchSize, long window, TimeUnit unit) {
+    checkArgument(bidiMethod.getType() == MethodDescriptor.MethodType.BIDI_STREAMING,
+            "bidiMethod must be a bidi-streaming method");
+    BidiMethodDispatcher<ReqT, RespT> dispatcher =
+            new BidiMethodDispatcher<ReqT, RespT>(checkNotNull(channel, "channel"), bidiMethod);
+    return new CoalescingUnaryCaller<ReqT, RespT>(dispatcher, callOptions, maxBatchSize, window, unit);
+  }
+
+  /**
+   * 发起一个调用，截止时间取当前Context的截止时间
+   */
+  public ListenableFuture<RespT> call(ReqT request) {
+    return call(request, Context.current().getDeadline());
+  }
+
+  /**
+   * 发起一个调用
+   *
+   * @param request  请求
+   * @param deadline 该请求的截止时间，为null表示不限制
+   */
+  public ListenableFuture<RespT> call(ReqT request, @Nullable Deadline deadline) {
+    Item<ReqT, RespT> item = new Item<ReqT, RespT>(request, deadline);
+
+    if (deadline != null) {
+      if (deadline.isExpired()) {
+        item.fail(deadlineExceeded(deadline));
+        return item;
+      }
+      item.scheduleDeadline(scheduler);
+    }
+
+    List<Item<ReqT, RespT>> batch = null;
+
+    synchronized (lock) {
+      if (shutdown) {
+        item.fail(Status.UNAVAILABLE.withDescription("CoalescingUnaryCaller is shutdown").asRuntimeException());
+        return item;
+      }
+
+      pending.add(item);
+      if (pending.size() >= maxBatchSize) {
+        batch = drainPending();
+      } else if (flushFuture == null) {
+        flushFuture = scheduler.schedule(flushTask, windowNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    if (batch != null) {
+      dispatchAsync(batch);
+    }
+    return item;
+  }
+
+  /**
+   * 立即发送已经合并的请求，之后的调用直接失败
+   */
+  public void shutdown() {
+    List<Item<ReqT, RespT>> batch;
+    synchronized (lock) {
+      if (shutdown) {
+        return;
+      }
+      shutdown = true;
+      batch = drainPending();
+    }
+
+    dispatchAsync(batch);
+    SharedResourceHolder.release(GrpcUtil.TIMER_SERVICE, scheduler);
+    if (usingSharedExecutor) {
+      SharedResourceHolder.release(GrpcUtil.SHARED_CHANNEL_EXECUTOR, executor);
+    }
+  }
+
+  @GuardedBy("lock")
+  private List<Item<ReqT, RespT>> drainPending() {
+    if (flushFuture != null) {
+      flushFuture.cancel(false);
+      flushFuture = null;
+    }
+
+    List<Item<ReqT, RespT>> batch = pending;
+    pending = new ArrayList<Item<ReqT, RespT>>();
+    return batch;
+  }
+
+  /**
+   * 在executor上发起合并后的调用：负载均衡选择服务端等操作可能阻塞，不能占用定时器线程
+   */
+  private void dispatchAsync(final List<Item<ReqT, RespT>> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          dispatch(batch);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      logger.warn("提交合并后的调用出错", e);
+      Throwable t = Status.UNAVAILABLE.withDescription("提交合并后的调用出错").withCause(e)
+          .asRuntimeException();
+      for (Item<ReqT, RespT> item : batch) {
+        item.fail(t);
+      }
+    }
+  }
+
+  private void dispatch(List<Item<ReqT, RespT>> batch) {
+    // 已经取消或过期的请求不再发送
+    List<Item<ReqT, RespT>> items = new ArrayList<Item<ReqT, RespT>>(batch.size());
+    for (Item<ReqT, RespT> item : batch) {
+      if (!item.isDone()) {
+        items.add(item);
+      }
+    }
+
+    if (items.isEmpty()) {
+      return;
+    }
+
+    Batch<ReqT, RespT> call = new Batch<ReqT, RespT>(items);
+    try {
+      dispatcher.dispatch(call, getBatchCallOptions(items));
+    } catch (RuntimeException e) {
+      logger.warn("发送合并后的调用出错", e);
+      call.failFrom(0, Status.fromThrowable(e).asRuntimeException());
+    }
+  }
+
+  /**
+   * 合并后调用的截止时间取各请求截止时间中最晚的一个
+   */
+  private CallOptions getBatchCallOptions(List<Item<ReqT, RespT>> items) {
+    Deadline latest = null;
+    for (Item<ReqT, RespT> item : items) {
+      if (item.deadline == null) {
+        latest = null;
+        break;
+      }
+      if (latest == null || latest.isBefore(item.deadline)) {
+        latest = item.deadline;
+      }
+    }
+
+    if (latest == null) {
+      return callOptions;
+    }
+
+    Deadline configured = callOptions.getDeadline();
+    if (configured != null && configured.isBefore(latest)) {
+      return callOptions;
+    }
+    return callOptions.withDeadline(latest);
+  }
+
+  private static Throwable deadlineExceeded(Deadline deadline) {
+    return Status.DEADLINE_EXCEEDED
+            .withDescription("deadline exceeded before the coalesced call completed: " + deadline)
+            .asRuntimeException();
+  }
+
+  /**
+   * 发送合并后的调用
+   */
+  private interface Dispatcher<ReqT, RespT> {
+    void dispatch(Batch<ReqT, RespT> batch, CallOptions callOptions);
+  }
+
+  private static final class BatchMethodDispatcher<ReqT, RespT, BatchReqT, BatchRespT>
+          implements Dispatcher<ReqT, RespT> {
+    private final Channel channel;
+    private final MethodDescriptor<BatchReqT, BatchRespT> method;
+    private final BatchCodec<ReqT, RespT, BatchReqT, BatchRespT> codec;
+
+    BatchMethodDispatcher(Channel channel, MethodDescriptor<BatchReqT, BatchRespT> method,
+                          BatchCodec<ReqT, RespT, BatchReqT, BatchRespT> codec) {
+      this.channel = channel;
+      this.method = method;
+      this.codec = codec;
+    }
+
+    @Override
+    public void dispatch(final Batch<ReqT, RespT> batch, CallOptions callOptions) {
+      BatchReqT request = codec.merge(batch.requests());
+      ClientCall<BatchReqT, BatchRespT> call = channel.newCall(method, callOptions);
+      batch.setCall(call);
+
+      ListenableFuture<BatchRespT> future = ClientCalls.futureUnaryCall(call, request);
+      Futures.addCallback(future, new FutureCallback<BatchRespT>() {
+        @Override
+        public void onSuccess(BatchRespT response) {
+          List<RespT> responses;
+          try {
+            responses = codec.split(response);
+          } catch (RuntimeException e) {
+            batch.failFrom(0, Status.INTERNAL.withDescription("拆分批量响应出错").withCause(e).asRuntimeException());
+            return;
+          }
+          batch.complete(responses);
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+          batch.failFrom(0, t);
+        }
+      }, MoreExecutors.directExecutor());
+    }
+  }
+
+  private static final class BidiMethodDispatcher<ReqT, RespT> implements Dispatcher<ReqT, RespT> {
+    private final Channel channel;
+    private final MethodDescriptor<ReqT, RespT> method;
+
+    BidiMethodDispatcher(Channel channel, MethodDescriptor<ReqT, RespT> method) {
+      this.channel = channel;
+      this.method = method;
+    }
+
+    @Override
+    public void dispatch(final Batch<ReqT, RespT> batch, CallOptions callOptions) {
+      ClientCall<ReqT, RespT> call = channel.newCall(method, callOptions);
+      batch.setCall(call);
+
+      final RequestSender<ReqT> sender = new RequestSender<ReqT>(batch.requests().iterator());
+      ClientCalls.asyncBidiStreamingCall(call,
+              new ClientResponseObserver<ReqT, RespT>() {
+                // 回调是串行执行的
+                private int index;
+
+                @Override
+                public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+                  sender.requestStream = requestStream;
+                  requestStream.setOnReadyHandler(sender);
+                }
+
+                @Override
+                public void onNext(RespT value) {
+                  if (index < batch.size()) {
+                    batch.items.get(index++).complete(value);
+                  }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                  batch.failFrom(index, t);
+                }
+
+                @Override
+                public void onCompleted() {
+                  if (index < batch.size()) {
+                    batch.failFrom(index, Status.INTERNAL
+                            .withDescription("服务端返回的响应数量[" + index + "]少于请求数量[" + batch.size() + "]")
+                            .asRuntimeException());
+                  }
+                }
+              });
+
+      // 调用开始时流可能已经可写，onReady不一定会再次回调
+      sender.run();
+    }
+  }
+
+  /**
+   * 按照流控发送双向流的请求：只在流可写(isReady)时发送，其余请求在onReady时继续发送
+   */
+  private static final class RequestSender<ReqT> implements Runnable {
+    private final Iterator<ReqT> requests;
+
+    volatile ClientCallStreamObserver<ReqT> requestStream;
+
+    @GuardedBy("this")
+    private boolean completed;
+
+    RequestSender(Iterator<ReqT> requests) {
+      this.requests = requests;
+    }
+
+    @Override
+    public synchronized void run() {
+      ClientCallStreamObserver<ReqT> stream = requestStream;
+      if (stream == null || completed) {
+        return;
+      }
+
+      while (requests.hasNext()) {
+        if (!stream.isReady()) {
+          return;
+        }
+        stream.onNext(requests.next());
+      }
+
+      completed = true;
+      stream.onCompleted();
+    }
+  }
+
+  /**
+   * 一次合并后的调用
+   */
+  private static final class Batch<ReqT, RespT> {
+    final List<Item<ReqT, RespT>> items;
+
+    // 尚未取消、尚未到期的请求数量
+    private final AtomicInteger live;
+
+    private volatile ClientCall<?, ?> call;
+
+    Batch(List<Item<ReqT, RespT>> items) {
+      this.items = items;
+      this.live = new AtomicInteger(items.size());
+      for (Item<ReqT, RespT> item : items) {
+        item.batch = this;
+        // 加入批次之前已经被取消或到期的请求
+        item.release();
+      }
+    }
+
+    int size() {
+      return items.size();
+    }
+
+    List<ReqT> requests() {
+      List<ReqT> requests = new ArrayList<ReqT>(items.size());
+      for (Item<ReqT, RespT> item : items) {
+        requests.add(item.request);
+      }
+      return requests;
+    }
+
+    void setCall(ClientCall<?, ?> call) {
+      this.call = call;
+      if (live.get() <= 0) {
+        call.cancel("all coalesced calls were cancelled", null);
+      }
+    }
+
+    void itemCancelled() {
+      if (live.decrementAndGet() == 0) {
+        ClientCall<?, ?> current = call;
+        if (current != null) {
+          current.cancel("all coalesced calls were cancelled", null);
+        }
+      }
+    }
+
+    void complete(List<RespT> responses) {
+      if (responses == null || responses.size() != items.size()) {
+        int size = (responses == null) ? 0 : responses.size();
+        failFrom(0, Status.INTERNAL
+                .withDescription("批量响应数量[" + size + "]与请求数量[" + items.size() + "]不一致")
+                .asRuntimeException());
+        return;
+      }
+
+      for (int i = 0; i < items.size(); i++) {
+        items.get(i).complete(responses.get(i));
+      }
+    }
+
+    void failFrom(int start, Throwable t) {
+      for (int i = start; i < items.size(); i++) {
+        items.get(i).fail(t);
+      }
+    }
+  }
+
+  /**
+   * 调用方拿到的Future
+   */
+  private static final class Item<ReqT, RespT> extends AbstractFuture<RespT> {
+    final ReqT request;
+
+    @Nullable
+    final Deadline deadline;
+
+    volatile Batch<ReqT, RespT> batch;
+
+    private volatile ScheduledFuture<?> deadlineTimer;
+
+    // 因为到期而失败
+    private volatile boolean expired;
+
+    // 被取消或到期后，只通知所属的合并调用一次
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Item(ReqT request, @Nullable Deadline deadline) {
+      this.request = request;
+      this.deadline = deadline;
+      addListener(new Runnable() {
+        @Override
+        public void run() {
+          onDone();
+        }
+      }, MoreExecutors.directExecutor());
+    }
+
+    void scheduleDeadline(ScheduledExecutorService scheduler) {
+      deadlineTimer = scheduler.schedule(new Runnable() {
+        @Override
+        public void run() {
+          expire();
+        }
+      }, deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+      if (isDone()) {
+        deadlineTimer.cancel(false);
+      }
+    }
+
+    void complete(RespT response) {
+      set(response);
+    }
+
+    void fail(Throwable t) {
+      setException(t);
+    }
+
+    private void expire() {
+      if (setException(deadlineExceeded(deadline))) {
+        expired = true;
+        release();
+      }
+    }
+
+    /**
+     * 请求被取消或到期时，减少所属合并调用中仍在等待的请求数量
+     */
+    void release() {
+      Batch<ReqT, RespT> current = batch;
+      if (current != null && (expired || isCancelled()) && released.compareAndSet(false, true)) {
+        current.itemCancelled();
+      }
+    }
+
+    private void onDone() {
+      ScheduledFuture<?> timer = deadlineTimer;
+      if (timer != null) {
+        timer.cancel(false);
+      }
+
+      release();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.grpc.stub;
+
+import io.grpc.MessagePool;
+
+/**
+ * 复用接收消息对象的'inbound' StreamObserver
+ * <p>
+ * 方法启用了消息对象池（参见{@link io.grpc.MethodDescriptor.Builder#setMessagePoolSize(int)}）时，
+ * 框架在第一条消息之前调用{@link #setMessagePool}传入当前stream的对象池。
+ * 应用在{@link #onNext}中处理完消息后（可以在其他线程中），调用{@link MessagePool#release}归还消息，
+ * 之后收到的消息会复用归还的对象，归还后不能再访问该消息。
+ * </p>
+ * <p>
+ * 方法没有启用对象池时不会调用{@link #setMessagePool}，应用按普通的StreamObserver处理即可。
+ * </p>
+ * <pre>
+ *   stub.subscribe(request, new PooledStreamObserver&lt;Quote&gt;() {
+ *     private MessagePool&lt;Quote&gt; pool;
+ *
+ *     public void setMessagePool(MessagePool&lt;Quote&gt; pool) {
+ *       this.pool = pool;
+ *     }
+ *
+ *     public void onNext(Quote quote) {
+ *       handle(quote);
+ *       if (pool != null) {
+ *         pool.release(quote);
+ *       }
+ *     }
+ *     ...
+ *   });
+ * </pre>
+ *
+ * @author sxp
+ * @since nebula-1.2.9 2026-10-19
+ */
+public interface PooledStreamObserver<V> extends StreamObserver<V> {
+  /**
+   * 设置当前stream接收消息使用的对象池，在第一次调用{@link #onNext}之前调用
+   */
+  void setMessagePool(MessagePool<V> pool);
+}
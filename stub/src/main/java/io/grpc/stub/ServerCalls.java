@@ -21,11 +21,15 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.grpc.MessagePool;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.Status;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * Utility functions for adapting {@link ServerCallHandler}s to application service implementation,
@@ -220,6 +224,12 @@ public final class ServerCalls {
           new ServerCallStreamObserverImpl<ReqT, RespT>(call);
       StreamObserver<ReqT> requestObserver = method.invoke(responseObserver);
       responseObserver.freeze();
+      if (requestObserver instanceof PooledStreamObserver) {
+        MessagePool<ReqT> requestPool = call.getRequestPool();
+        if (requestPool != null) {
+          ((PooledStreamObserver<ReqT>) requestObserver).setMessagePool(requestPool);
+        }
+      }
       if (responseObserver.autoFlowControlEnabled) {
         call.request(1);
       }
@@ -309,6 +319,11 @@ public final class ServerCalls {
     private boolean sentHeaders;
     private Runnable onReadyHandler;
     private Runnable onCancelHandler;
+    // 应用第一次调用borrowMessage时创建
+    private MessagePool<RespT> responsePool;
+    private boolean responsePoolUnsupported;
+    // borrowMessage借出、还没有发送的消息，只有这些消息发送后会归还到池中
+    private Set<RespT> borrowedMessages;
 
     // Non private to avoid synthetic class
     ServerCallStreamObserverImpl(ServerCall<ReqT, RespT> call) {
@@ -339,6 +354,41 @@ public final class ServerCalls {
         sentHeaders = true;
       }
       call.sendMessage(response);
+      if (responsePool != null) {
+        recycle(response);
+      }
+    }
+
+    /**
+     * 消息在sendMessage中已经完成序列化，归还到池中；应用自己持有的消息不回收
+     */
+    private void recycle(RespT response) {
+      if (borrowedMessages.remove(response)) {
+        responsePool.release(response);
+      }
+    }
+
+    @Override
+    public RespT borrowMessage() {
+      if (responsePool == null) {
+        if (responsePoolUnsupported) {
+          return null;
+        }
+        responsePool = call.getMethodDescriptor().newResponsePool();
+        if (responsePool == null) {
+          responsePoolUnsupported = true;
+          return null;
+        }
+        borrowedMessages = Collections.newSetFromMap(new IdentityHashMap<RespT, Boolean>());
+      }
+      RespT message = responsePool.borrow();
+      if (message == null) {
+        // 池为空时由观察者新建对象，保证放入池中的都是借出过的对象
+        message = ((MethodDescriptor.ReusableMarshaller<RespT>)
+            call.getMethodDescriptor().getResponseMarshaller()).newInstance();
+      }
+      borrowedMessages.add(message);
+      return message;
     }
 
     @Override
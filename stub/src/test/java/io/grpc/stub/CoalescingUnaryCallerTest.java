@@ -0,0 +1,472 @@
+/*
+ * Copyright 2019 Orient Securities Co., Ltd.
+ * Copyright 2019 BoCloud Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.stub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.CallOptions;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallsTest.IntegerMarshaller;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for {@link CoalescingUnaryCaller}.
+ */
+@RunWith(JUnit4.class)
+public class CoalescingUnaryCallerTest {
+
+  private static final MethodDescriptor<Integer, Integer> BIDI_METHOD =
+      MethodDescriptor.<Integer, Integer>newBuilder()
+          .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+          .setFullMethodName("some/batch")
+          .setRequestMarshaller(new IntegerMarshaller())
+          .setResponseMarshaller(new IntegerMarshaller())
+          .build();
+
+  private static final MethodDescriptor<Integer, Integer> HANGING_METHOD =
+      BIDI_METHOD.toBuilder().setFullMethodName("some/hanging").build();
+
+  private static final MethodDescriptor<String, String> BATCH_METHOD =
+      MethodDescriptor.<String, String>newBuilder()
+          .setType(MethodDescriptor.MethodType.UNARY)
+          .setFullMethodName("some/unaryBatch")
+          .setRequestMarshaller(new StringMarshaller())
+          .setResponseMarshaller(new StringMarshaller())
+          .build();
+
+  // 只返回第一个请求的响应
+  private static final MethodDescriptor<String, String> SHORT_BATCH_METHOD =
+      BATCH_METHOD.toBuilder().setFullMethodName("some/shortBatch").build();
+
+  private static final MethodDescriptor<String, String> FAILING_BATCH_METHOD =
+      BATCH_METHOD.toBuilder().setFullMethodName("some/failingBatch").build();
+
+  /**
+   * 用逗号分隔的字符串表示批量请求和批量响应
+   */
+  private static final CoalescingUnaryCaller.BatchCodec<Integer, Integer, String, String> CODEC =
+      new CoalescingUnaryCaller.BatchCodec<Integer, Integer, String, String>() {
+        @Override
+        public String merge(List<Integer> requests) {
+          return Joiner.on(',').join(requests);
+        }
+
+        @Override
+        public List<Integer> split(String response) {
+          List<Integer> responses = new ArrayList<Integer>();
+          for (String value : Splitter.on(',').split(response)) {
+            responses.add(Integer.valueOf(value));
+          }
+          return responses;
+        }
+      };
+
+  private final AtomicInteger serverCalls = new AtomicInteger();
+  private final AtomicReference<String> serverThread = new AtomicReference<String>();
+  private final AtomicReference<String> batchRequest = new AtomicReference<String>();
+  private final CountDownLatch hangingCallStarted = new CountDownLatch(1);
+  private final CountDownLatch hangingCallCancelled = new CountDownLatch(1);
+  private Server server;
+  private ManagedChannel channel;
+  private CoalescingUnaryCaller<Integer, Integer> caller;
+
+  @Before
+  public void setUp() throws Exception {
+    ServerServiceDefinition service = ServerServiceDefinition.builder(
+        new ServiceDescriptor("some", BIDI_METHOD, HANGING_METHOD, BATCH_METHOD,
+            SHORT_BATCH_METHOD, FAILING_BATCH_METHOD))
+        .addMethod(BIDI_METHOD, ServerCalls.asyncBidiStreamingCall(
+            new ServerCalls.BidiStreamingMethod<Integer, Integer>() {
+              @Override
+              public StreamObserver<Integer> invoke(final StreamObserver<Integer> responseObserver) {
+                serverCalls.incrementAndGet();
+                serverThread.set(Thread.currentThread().getName());
+                return new StreamObserver<Integer>() {
+                  @Override
+                  public void onNext(Integer value) {
+                    responseObserver.onNext(value * 10);
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    responseObserver.onCompleted();
+                  }
+                };
+              }
+            }))
+        .addMethod(HANGING_METHOD, ServerCalls.asyncBidiStreamingCall(
+            new ServerCalls.BidiStreamingMethod<Integer, Integer>() {
+              @Override
+              public StreamObserver<Integer> invoke(StreamObserver<Integer> responseObserver) {
+                ((ServerCallStreamObserver<Integer>) responseObserver).setOnCancelHandler(
+                    new Runnable() {
+                      @Override
+                      public void run() {
+                        hangingCallCancelled.countDown();
+                      }
+                    });
+                hangingCallStarted.countDown();
+                // 从不返回响应
+                return new StreamObserver<Integer>() {
+                  @Override
+                  public void onNext(Integer value) {
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                  }
+                };
+              }
+            }))
+        .addMethod(BATCH_METHOD, ServerCalls.asyncUnaryCall(
+            new ServerCalls.UnaryMethod<String, String>() {
+              @Override
+              public void invoke(String request, StreamObserver<String> responseObserver) {
+                serverCalls.incrementAndGet();
+                batchRequest.set(request);
+                List<String> responses = new ArrayList<String>();
+                for (String value : Splitter.on(',').split(request)) {
+                  responses.add(String.valueOf(Integer.parseInt(value) * 10));
+                }
+                responseObserver.onNext(Joiner.on(',').join(responses));
+                responseObserver.onCompleted();
+              }
+            }))
+        .addMethod(SHORT_BATCH_METHOD, ServerCalls.asyncUnaryCall(
+            new ServerCalls.UnaryMethod<String, String>() {
+              @Override
+              public void invoke(String request, StreamObserver<String> responseObserver) {
+                serverCalls.incrementAndGet();
+                responseObserver.onNext(Splitter.on(',').split(request).iterator().next());
+                responseObserver.onCompleted();
+              }
+            }))
+        .addMethod(FAILING_BATCH_METHOD, ServerCalls.asyncUnaryCall(
+            new ServerCalls.UnaryMethod<String, String>() {
+              @Override
+              public void invoke(String request, StreamObserver<String> responseObserver) {
+                serverCalls.incrementAndGet();
+                responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+              }
+            }))
+        .build();
+    String name = "coalescing" + System.nanoTime();
+    server = InProcessServerBuilder.forName(name).directExecutor()
+        .addService(service).build().start();
+    channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+  }
+
+  @After
+  public void tearDown() {
+    if (caller != null) {
+      caller.shutdown();
+    }
+    if (server != null) {
+      server.shutdownNow();
+    }
+    if (channel != null) {
+      channel.shutdownNow();
+    }
+  }
+
+  @Test
+  public void fullBatchIsSentAsOneCall() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, BIDI_METHOD, CallOptions.DEFAULT, 3, 1, TimeUnit.HOURS);
+
+    ListenableFuture<Integer> first = caller.call(1, null);
+    ListenableFuture<Integer> second = caller.call(2, null);
+    assertEquals(0, serverCalls.get());
+    ListenableFuture<Integer> third = caller.call(3, null);
+
+    assertEquals(10, (int) first.get(5, TimeUnit.SECONDS));
+    assertEquals(20, (int) second.get(5, TimeUnit.SECONDS));
+    assertEquals(30, (int) third.get(5, TimeUnit.SECONDS));
+    assertEquals(1, serverCalls.get());
+  }
+
+  @Test
+  public void windowFlushesPartialBatch() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, BIDI_METHOD, CallOptions.DEFAULT, 100, 10, TimeUnit.MILLISECONDS);
+
+    ListenableFuture<Integer> future = caller.call(7, null);
+
+    assertEquals(70, (int) future.get(5, TimeUnit.SECONDS));
+    assertEquals(1, serverCalls.get());
+  }
+
+  @Test
+  public void cancelledAndExpiredItemsAreNotSent() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, BIDI_METHOD, CallOptions.DEFAULT, 3, 1, TimeUnit.HOURS);
+
+    ListenableFuture<Integer> expired =
+        caller.call(1, Deadline.after(-1, TimeUnit.SECONDS));
+    try {
+      expired.get();
+      fail("Should fail");
+    } catch (ExecutionException e) {
+      assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(e.getCause()).getCode());
+    }
+
+    ListenableFuture<Integer> cancelled = caller.call(2, null);
+    cancelled.cancel(false);
+    ListenableFuture<Integer> second = caller.call(3, null);
+    ListenableFuture<Integer> third = caller.call(4, null);
+
+    assertTrue(cancelled.isCancelled());
+    assertEquals(30, (int) second.get(5, TimeUnit.SECONDS));
+    assertEquals(40, (int) third.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void windowFlushDoesNotRunOnTimerThread() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, BIDI_METHOD, CallOptions.DEFAULT, 100, 10, TimeUnit.MILLISECONDS);
+
+    assertEquals(70, (int) caller.call(7, null).get(5, TimeUnit.SECONDS));
+    assertFalse(serverThread.get(), serverThread.get().startsWith("grpc-timer"));
+  }
+
+  @Test
+  public void partialBatchAfterFullBatch() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, BIDI_METHOD, CallOptions.DEFAULT, 2, 20, TimeUnit.MILLISECONDS);
+
+    ListenableFuture<Integer> first = caller.call(1, null);
+    ListenableFuture<Integer> second = caller.call(2, null);
+    ListenableFuture<Integer> third = caller.call(3, null);
+
+    assertEquals(10, (int) first.get(5, TimeUnit.SECONDS));
+    assertEquals(20, (int) second.get(5, TimeUnit.SECONDS));
+    // 最后一个请求攒不满一批，在时间窗口结束时单独发送
+    assertEquals(30, (int) third.get(5, TimeUnit.SECONDS));
+    assertEquals(2, serverCalls.get());
+  }
+
+  @Test
+  public void itemExpiresWhileWaitingForBatch() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, BIDI_METHOD, CallOptions.DEFAULT, 3, 1, TimeUnit.HOURS);
+
+    ListenableFuture<Integer> expiring =
+        caller.call(1, Deadline.after(50, TimeUnit.MILLISECONDS));
+    try {
+      expiring.get(5, TimeUnit.SECONDS);
+      fail("Should fail");
+    } catch (ExecutionException e) {
+      assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(e.getCause()).getCode());
+    }
+    assertEquals(0, serverCalls.get());
+
+    // 到期的请求占用批次的名额，但不会被发送
+    ListenableFuture<Integer> second = caller.call(2, null);
+    ListenableFuture<Integer> third = caller.call(3, null);
+    assertEquals(20, (int) second.get(5, TimeUnit.SECONDS));
+    assertEquals(30, (int) third.get(5, TimeUnit.SECONDS));
+    assertEquals(1, serverCalls.get());
+  }
+
+  @Test
+  public void coalescedCallCancelledWhenRemainingItemsExpire() throws Exception {
+    caller = CoalescingUnaryCaller.forBidiMethod(
+        channel, HANGING_METHOD, CallOptions.DEFAULT, 2, 1, TimeUnit.HOURS);
+
+    // 没有截止时间的请求使合并后的调用也没有截止时间
+    ListenableFuture<Integer> cancelled = caller.call(1, null);
+    ListenableFuture<Integer> expiring =
+        caller.call(2, Deadline.after(100, TimeUnit.MILLISECONDS));
+
+    assertTrue(hangingCallStarted.await(5, TimeUnit.SECONDS));
+    cancelled.cancel(false);
+    try {
+      expiring.get(5, TimeUnit.SECONDS);
+      fail("Should fail");
+    } catch (ExecutionException e) {
+      assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(e.getCause()).getCode());
+    }
+
+    // 一个请求被取消、另一个到期，合并后的调用被取消
+    assertTrue(hangingCallCancelled.await(5, TimeUnit.SECONDS));
+  }
+  @Test
+  public void batchMethodMergesRequestsAndSplitsResponse() throws Exception {
+    caller = CoalescingUnaryCaller.forBatchMethod(
+        channel, BATCH_METHOD, CallOptions.DEFAULT, CODEC, 3, 1, TimeUnit.HOURS);
+
+    ListenableFuture<Integer> first = caller.call(1, null);
+    ListenableFuture<Integer> second = caller.call(2, null);
+    ListenableFuture<Integer> third = caller.call(3, null);
+
+    assertEquals(10, (int) first.get(5, TimeUnit.SECONDS));
+    assertEquals(20, (int) second.get(5, TimeUnit.SECONDS));
+    assertEquals(30, (int) third.get(5, TimeUnit.SECONDS));
+    assertEquals(1, serverCalls.get());
+    assertEquals("1,2,3", batchRequest.get());
+  }
+
+  @Test
+  public void batchMethodWindowFlushesPartialBatch() throws Exception {
+    caller = CoalescingUnaryCaller.forBatchMethod(
+        channel, BATCH_METHOD, CallOptions.DEFAULT, CODEC, 100, 10, TimeUnit.MILLISECONDS);
+
+    assertEquals(70, (int) caller.call(7, null).get(5, TimeUnit.SECONDS));
+    assertEquals("7", batchRequest.get());
+  }
+
+  @Test
+  public void batchResponseCountMismatchFailsEveryItem() throws Exception {
+    caller = CoalescingUnaryCaller.forBatchMethod(
+        channel, SHORT_BATCH_METHOD, CallOptions.DEFAULT, CODEC, 3, 1, TimeUnit.HOURS);
+
+    List<ListenableFuture<Integer>> futures = new ArrayList<ListenableFuture<Integer>>();
+    for (int i = 1; i <= 3; i++) {
+      futures.add(caller.call(i, null));
+    }
+
+    // 响应数量与请求数量不一致时不能按位置对应，所有请求都失败
+    for (ListenableFuture<Integer> future : futures) {
+      assertFailsWith(Status.Code.INTERNAL, future);
+    }
+    assertEquals(1, serverCalls.get());
+  }
+
+  @Test
+  public void batchSplitFailureFailsEveryItem() throws Exception {
+    CoalescingUnaryCaller.BatchCodec<Integer, Integer, String, String> codec =
+        new CoalescingUnaryCaller.BatchCodec<Integer, Integer, String, String>() {
+          @Override
+          public String merge(List<Integer> requests) {
+            return CODEC.merge(requests);
+          }
+
+          @Override
+          public List<Integer> split(String response) {
+            throw new IllegalStateException("bad response");
+          }
+        };
+    caller = CoalescingUnaryCaller.forBatchMethod(
+        channel, BATCH_METHOD, CallOptions.DEFAULT, codec, 2, 1, TimeUnit.HOURS);
+
+    ListenableFuture<Integer> first = caller.call(1, null);
+    ListenableFuture<Integer> second = caller.call(2, null);
+
+    assertFailsWith(Status.Code.INTERNAL, first);
+    assertFailsWith(Status.Code.INTERNAL, second);
+  }
+
+  @Test
+  public void batchCallFailureFailsEveryItem() throws Exception {
+    caller = CoalescingUnaryCaller.forBatchMethod(
+        channel, FAILING_BATCH_METHOD, CallOptions.DEFAULT, CODEC, 2, 1, TimeUnit.HOURS);
+
+    ListenableFuture<Integer> first = caller.call(1, null);
+    ListenableFuture<Integer> second = caller.call(2, null);
+
+    assertFailsWith(Status.Code.UNAVAILABLE, first);
+    assertFailsWith(Status.Code.UNAVAILABLE, second);
+  }
+
+  @Test
+  public void batchMethodMustBeUnary() {
+    try {
+      CoalescingUnaryCaller.forBatchMethod(
+          channel, BIDI_METHOD, CallOptions.DEFAULT,
+          new CoalescingUnaryCaller.BatchCodec<Integer, Integer, Integer, Integer>() {
+            @Override
+            public Integer merge(List<Integer> requests) {
+              return requests.get(0);
+            }
+
+            @Override
+            public List<Integer> split(Integer response) {
+              return Collections.singletonList(response);
+            }
+          }, 2, 1, TimeUnit.HOURS);
+      fail("Should fail");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  private static void assertFailsWith(Status.Code code, ListenableFuture<Integer> future)
+      throws Exception {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+      fail("Should fail");
+    } catch (ExecutionException e) {
+      assertEquals(code, Status.fromThrowable(e.getCause()).getCode());
+    }
+  }
+
+  private static final class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+    @Override
+    public InputStream stream(String value) {
+      return new ByteArrayInputStream(value.getBytes(Charsets.UTF_8));
+    }
+
+    @Override
+    public String parse(InputStream stream) {
+      try {
+        return new String(ByteStreams.toByteArray(stream), Charsets.UTF_8);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -20,6 +20,9 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -79,6 +82,13 @@ public class ServerCallsTest {
           .setFullMethodName("some/unary")
           .build();
 
+  static final MethodDescriptor<Integer, Integer> POOLED_STREAMING_METHOD =
+      STREAMING_METHOD.toBuilder()
+          .setFullMethodName("some/pooled_bidi_streaming")
+          .setResponseMarshaller(new ReusableIntegerMarshaller())
+          .setMessagePoolSize(4)
+          .build();
+
   private final ServerCallRecorder serverCall = new ServerCallRecorder(UNARY_METHOD);
 
   @Test
@@ -435,6 +445,62 @@ public class ServerCallsTest {
     assertArrayEquals(new int[]{0, 1, 1, 2, 2, 2}, receivedMessages);
   }
 
+  @Test
+  @SuppressWarnings("BoxedPrimitiveConstructor")
+  public void onlyBorrowedResponsesAreRecycled() {
+    final AtomicReference<ServerCallStreamObserver<Integer>> callObserver =
+        new AtomicReference<ServerCallStreamObserver<Integer>>();
+    ServerCallHandler<Integer, Integer> callHandler =
+        ServerCalls.asyncBidiStreamingCall(
+            new ServerCalls.BidiStreamingMethod<Integer, Integer>() {
+              @Override
+              public StreamObserver<Integer> invoke(StreamObserver<Integer> responseObserver) {
+                callObserver.set((ServerCallStreamObserver<Integer>) responseObserver);
+                return new ServerCalls.NoopStreamObserver<Integer>();
+              }
+            });
+    ServerCallRecorder pooledCall = new ServerCallRecorder(POOLED_STREAMING_METHOD);
+    callHandler.startCall(pooledCall, new Metadata());
+    ServerCallStreamObserver<Integer> observer = callObserver.get();
+
+    // 池为空时由观察者新建对象借出
+    Integer allocated = observer.borrowMessage();
+    Integer allocatedAgain = observer.borrowMessage();
+    assertNotNull(allocated);
+    assertNotNull(allocatedAgain);
+    assertNotSame(allocated, allocatedAgain);
+
+    // 有借出未发送的对象时，应用自己持有的消息也不会被回收
+    Integer owned = new Integer(2000);
+    observer.onNext(owned);
+    observer.onNext(owned);
+
+    // 借出的消息发送后归还到池中
+    observer.onNext(allocated);
+    observer.onNext(allocatedAgain);
+    assertSame(allocatedAgain, observer.borrowMessage());
+    assertSame(allocated, observer.borrowMessage());
+    Integer fresh = observer.borrowMessage();
+    assertNotSame(owned, fresh);
+    assertNotSame(allocated, fresh);
+    assertNotSame(allocatedAgain, fresh);
+    assertEquals(4, pooledCall.responses.size());
+  }
+
+  public static class ReusableIntegerMarshaller extends IntegerMarshaller
+      implements MethodDescriptor.ReusableMarshaller<Integer> {
+    @Override
+    public Integer parse(InputStream stream, Integer reuse) {
+      return parse(stream);
+    }
+
+    @Override
+    @SuppressWarnings("BoxedPrimitiveConstructor")
+    public Integer newInstance() {
+      return new Integer(0);
+    }
+  }
+
   public static class IntegerMarshaller implements MethodDescriptor.Marshaller<Integer> {
     @Override
     public InputStream stream(Integer value) {